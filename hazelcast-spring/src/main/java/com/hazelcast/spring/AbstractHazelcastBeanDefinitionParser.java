@@ -553,18 +553,22 @@ public abstract class AbstractHazelcastBeanDefinitionParser extends AbstractBean
 
             // Resolve columns.
             List<String> columns = new ArrayList<>();
+            List<String> includedColumns = new ArrayList<>();
 
             for (Node columnsNode : childElements(indexNode)) {
-                if ("attributes".equals(cleanNodeName(columnsNode))) {
+                String columnsNodeName = cleanNodeName(columnsNode);
+                if ("attributes".equals(columnsNodeName) || "included-attributes".equals(columnsNodeName)) {
+                    List<String> target = "attributes".equals(columnsNodeName) ? columns : includedColumns;
                     for (Node columnNode : childElements(columnsNode)) {
                         if ("attribute".equals(cleanNodeName(columnNode))) {
-                            columns.add(getTextContent(columnNode));
+                            target.add(getTextContent(columnNode));
                         }
                     }
                 }
             }
 
             indexConfBuilder.addPropertyValue("attributes", columns);
+            indexConfBuilder.addPropertyValue("includedAttributes", includedColumns);
 
             indexes.add(indexConfBuilder.getBeanDefinition());
         }
@@ -20,6 +20,7 @@ import com.google.common.collect.ImmutableList;
 import com.hazelcast.sql.impl.calcite.opt.QueryPlanner;
 import com.hazelcast.sql.impl.calcite.opt.cost.CostFactory;
 import com.hazelcast.sql.impl.calcite.opt.distribution.DistributionTraitDef;
+import com.hazelcast.sql.impl.calcite.opt.metadata.HazelcastRelMdDistinctRowCount;
 import com.hazelcast.sql.impl.calcite.opt.metadata.HazelcastRelMdRowCount;
 import com.hazelcast.sql.impl.calcite.parse.CasingConfiguration;
 import com.hazelcast.sql.impl.calcite.parse.QueryConvertResult;
@@ -65,6 +66,7 @@ public final class OptimizerContext {
 
     private static final RelMetadataProvider METADATA_PROVIDER = ChainedRelMetadataProvider.of(ImmutableList.of(
         HazelcastRelMdRowCount.SOURCE,
+        HazelcastRelMdDistinctRowCount.SOURCE,
         DefaultRelMetadataProvider.INSTANCE
     ));
 
@@ -0,0 +1,557 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.compile;
+
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.CompiledExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.expression.UniExpression;
+import com.hazelcast.sql.impl.expression.VariExpression;
+import com.hazelcast.sql.impl.expression.math.AbstractArithmeticFunction;
+import com.hazelcast.sql.impl.expression.math.UnaryMinusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the source code of a {@link CompiledExpression} subclass for the given expression tree.
+ * <p>
+ * Every node of the tree produces a pair of local variables: the null flag {@code n<id>} and the value
+ * {@code v<id>}. Values of integer types are kept as {@code long}, values of approximate numeric types are kept as
+ * {@code double}, and boolean values are kept as {@code boolean}, so that boxing happens only for the final result.
+ * Operands are evaluated in the same order and with the same short-circuiting as in the interpreted mode.
+ * <p>
+ * Nodes which are not supported natively are evaluated through the interpreter by the generated code.
+ */
+final class ExpressionCodeGenerator {
+
+    /** Name of the generated class. */
+    static final String CLASS_NAME = "GeneratedExpression";
+
+    /** Templates for predicates checking their operand, where %1$s is the null flag and %2$s is the value. */
+    private static final Map<Class<?>, String> TEST_TEMPLATES = new HashMap<>();
+
+    static {
+        TEST_TEMPLATES.put(IsNullPredicate.class, "%1$s");
+        TEST_TEMPLATES.put(IsNotNullPredicate.class, "!%1$s");
+        TEST_TEMPLATES.put(IsTruePredicate.class, "!%1$s && %2$s");
+        TEST_TEMPLATES.put(IsNotTruePredicate.class, "%1$s || !%2$s");
+        TEST_TEMPLATES.put(IsFalsePredicate.class, "!%1$s && !%2$s");
+        TEST_TEMPLATES.put(IsNotFalsePredicate.class, "%1$s || %2$s");
+    }
+
+    private final StringBuilder fields = new StringBuilder();
+    private final StringBuilder fieldInitializers = new StringBuilder();
+    private final StringBuilder body = new StringBuilder();
+    private final List<Object> refs = new ArrayList<>();
+
+    private int indent = 2;
+    private int variableCounter;
+
+    private String source;
+
+    private ExpressionCodeGenerator() {
+        // No-op.
+    }
+
+    /**
+     * Generates the class for the given expression.
+     *
+     * @param expression the expression.
+     * @return the generator holding the generated class, or {@code null} if the compiled expression would not be
+     * cheaper than the interpreted one.
+     */
+    static ExpressionCodeGenerator generate(Expression<?> expression) {
+        if (!isNative(expression) || isLeaf(expression)) {
+            return null;
+        }
+
+        ExpressionCodeGenerator generator = new ExpressionCodeGenerator();
+
+        generator.generateClass(expression);
+
+        return generator;
+    }
+
+    /**
+     * @return the source code of the generated class.
+     */
+    String getSource() {
+        return source;
+    }
+
+    /**
+     * @return the objects to be passed to the constructor of the generated class.
+     */
+    Object[] getRefs() {
+        return refs.toArray();
+    }
+
+    private void generateClass(Expression<?> expression) {
+        Value res = generateNode(expression);
+
+        line("if (n%d) {", res.id);
+        line("    return null;");
+        line("}");
+        line("return %s;", box(res, expression.getType().getTypeFamily()));
+
+        source = "public final class " + CLASS_NAME + " extends " + CompiledExpression.class.getName() + " {\n"
+            + fields
+            + "\n"
+            + "    public " + CLASS_NAME + "(" + Expression.class.getName() + " source, java.lang.Object[] refs) {\n"
+            + "        super(source);\n"
+            + fieldInitializers
+            + "    }\n"
+            + "\n"
+            + "    public java.lang.Object eval(" + Row.class.getName() + " row, "
+            + ExpressionEvalContext.class.getName() + " context) {\n"
+            + body
+            + "    }\n"
+            + "}\n";
+    }
+
+    private Value generateNode(Expression<?> expression) {
+        if (isLeaf(expression)) {
+            return generateLeaf(expression);
+        } else if (!isNative(expression)) {
+            int ref = addField(Expression.class.getName(), "d", expression, "(" + Expression.class.getName() + ") %s");
+
+            return generateObject(expression.getType(), "d" + ref + ".eval(row, context)");
+        } else if (expression instanceof ComparisonPredicate) {
+            return generateComparison((ComparisonPredicate) expression);
+        } else if (expression instanceof AndPredicate) {
+            return generateJunction(((AndPredicate) expression).getOperands(), true);
+        } else if (expression instanceof OrPredicate) {
+            return generateJunction(((OrPredicate) expression).getOperands(), false);
+        } else if (expression instanceof AbstractArithmeticFunction) {
+            return generateArithmetic((AbstractArithmeticFunction<?>) expression);
+        } else {
+            return generateUnary((UniExpression<?>) expression);
+        }
+    }
+
+    private Value generateLeaf(Expression<?> expression) {
+        if (expression instanceof ColumnExpression) {
+            int index = ((ColumnExpression<?>) expression).getIndex();
+
+            return generateObject(expression.getType(), "row.get(" + index + ")");
+        } else if (expression instanceof ParameterExpression) {
+            int index = ((ParameterExpression<?>) expression).getIndex();
+
+            return generateObject(expression.getType(), "context.getArgument(" + index + ")");
+        } else {
+            return generateConstant((ConstantExpression<?>) expression);
+        }
+    }
+
+    private Value generateObject(QueryDataType type, String code) {
+        Value res = declare(Representation.of(type));
+
+        line("java.lang.Object o%d = %s;", res.id, code);
+        line("if (o%d != null) {", res.id);
+        line("    n%d = false;", res.id);
+        line("    v%d = %s;", res.id, res.representation.unbox("o" + res.id));
+        line("}");
+
+        return res;
+    }
+
+    private Value generateConstant(ConstantExpression<?> expression) {
+        Representation representation = Representation.of(expression.getType());
+        Value res = declare(representation);
+
+        Object value = expression.getValue();
+
+        if (value != null) {
+            int ref = addField(representation.typeName, "c", value, representation.unbox("%s"));
+
+            line("n%d = false;", res.id);
+            line("v%d = c%d;", res.id, ref);
+        }
+
+        return res;
+    }
+
+    private Value generateComparison(ComparisonPredicate expression) {
+        Value left = generateNode(expression.getOperand1());
+        Value res = declare(Representation.BOOLEAN);
+
+        line("if (!n%d) {", left.id);
+        indent++;
+
+        Value right = generateNode(expression.getOperand2());
+
+        line("if (!n%d) {", right.id);
+        line("    n%d = false;", res.id);
+        line("    v%d = %s;", res.id, compare(left, right, expression.getMode()));
+        line("}");
+
+        indent--;
+        line("}");
+
+        return res;
+    }
+
+    /**
+     * Generates AND or OR. Every operand is evaluated only if none of the previous operands produced the decisive
+     * value, i.e. {@code false} for AND and {@code true} for OR.
+     */
+    private Value generateJunction(Expression<?>[] operands, boolean and) {
+        Value res = declare(Representation.BOOLEAN);
+
+        line("boolean u%d = false;", res.id);
+        line("n%d = false;", res.id);
+        line("v%d = %s;", res.id, and);
+
+        for (Expression<?> operand : operands) {
+            Value value = generateNode(operand);
+
+            line("if (!n%d && %sv%d) {", value.id, and ? "!" : "", value.id);
+            line("    v%d = %s;", res.id, !and);
+            line("} else {");
+            indent++;
+            line("u%d |= n%d;", res.id, value.id);
+        }
+
+        for (int i = 0; i < operands.length; i++) {
+            indent--;
+            line("}");
+        }
+
+        line("if (u%d && %sv%d) {", res.id, and ? "" : "!", res.id);
+        line("    n%d = true;", res.id);
+        line("}");
+
+        return res;
+    }
+
+    private Value generateArithmetic(AbstractArithmeticFunction<?> expression) {
+        QueryDataType type = expression.getType();
+        Representation representation = Representation.of(type);
+
+        int ref = addField(
+            AbstractArithmeticFunction.class.getName(),
+            "f",
+            expression,
+            "(" + AbstractArithmeticFunction.class.getName() + ") %s"
+        );
+
+        Value left = generateNode(expression.getOperand1());
+        Value res = declare(representation);
+
+        line("if (!n%d) {", left.id);
+        indent++;
+
+        Value right = generateNode(expression.getOperand2());
+
+        line("if (!n%d) {", right.id);
+        line("    n%d = false;", res.id);
+        line(
+            "    v%d = f%d.%s(v%d, v%d, %s);",
+            res.id,
+            ref,
+            representation == Representation.LONG ? "evalLong" : "evalDouble",
+            left.id,
+            right.id,
+            family(type)
+        );
+        line("}");
+
+        indent--;
+        line("}");
+
+        return res;
+    }
+
+    private Value generateUnary(UniExpression<?> expression) {
+        Value operand = generateNode(expression.getOperand());
+        Value res = declare(Representation.of(expression.getType()));
+
+        String template = TEST_TEMPLATES.get(expression.getClass());
+
+        if (template != null) {
+            line("n%d = false;", res.id);
+            line("v%d = %s;", res.id, String.format(template, "n" + operand.id, "v" + operand.id));
+
+            return res;
+        }
+
+        String value;
+
+        if (expression instanceof NotPredicate) {
+            value = "!v" + operand.id;
+        } else if (res.representation == Representation.LONG) {
+            value = UnaryMinusFunction.class.getName() + ".evalLong(v" + operand.id + ", " + family(expression.getType()) + ")";
+        } else {
+            value = "-v" + operand.id;
+        }
+
+        line("if (!n%d) {", operand.id);
+        line("    n%d = false;", res.id);
+        line("    v%d = %s;", res.id, value);
+        line("}");
+
+        return res;
+    }
+
+    private static String compare(Value left, Value right, ComparisonMode mode) {
+        String operator = operator(mode);
+
+        switch (left.representation) {
+            case LONG:
+                return "v" + left.id + " " + operator + " v" + right.id;
+
+            case DOUBLE:
+                return "java.lang.Double.compare(v" + left.id + ", v" + right.id + ") " + operator + " 0";
+
+            case BOOLEAN:
+                return "java.lang.Boolean.compare(v" + left.id + ", v" + right.id + ") " + operator + " 0";
+
+            default:
+                return "((java.lang.Comparable) v" + left.id + ").compareTo(v" + right.id + ") " + operator + " 0";
+        }
+    }
+
+    private static String operator(ComparisonMode mode) {
+        switch (mode) {
+            case EQUALS:
+                return "==";
+
+            case NOT_EQUALS:
+                return "!=";
+
+            case GREATER_THAN:
+                return ">";
+
+            case GREATER_THAN_OR_EQUAL:
+                return ">=";
+
+            case LESS_THAN:
+                return "<";
+
+            case LESS_THAN_OR_EQUAL:
+                return "<=";
+
+            default:
+                throw new IllegalArgumentException("Unexpected comparison mode: " + mode);
+        }
+    }
+
+    private static String box(Value value, QueryDataTypeFamily family) {
+        String v = "v" + value.id;
+
+        switch (family) {
+            case TINYINT:
+                return "java.lang.Byte.valueOf((byte) " + v + ")";
+
+            case SMALLINT:
+                return "java.lang.Short.valueOf((short) " + v + ")";
+
+            case INT:
+                return "java.lang.Integer.valueOf((int) " + v + ")";
+
+            case BIGINT:
+                return "java.lang.Long.valueOf(" + v + ")";
+
+            case REAL:
+                return "java.lang.Float.valueOf((float) " + v + ")";
+
+            case DOUBLE:
+                return "java.lang.Double.valueOf(" + v + ")";
+
+            case BOOLEAN:
+                return "java.lang.Boolean.valueOf(" + v + ")";
+
+            default:
+                return v;
+        }
+    }
+
+    private static String family(QueryDataType type) {
+        return QueryDataTypeFamily.class.getName() + "." + type.getTypeFamily().name();
+    }
+
+    /**
+     * Checks whether the expression is evaluated by the generated code rather than by the interpreter.
+     */
+    private static boolean isNative(Expression<?> expression) {
+        if (isLeaf(expression)) {
+            return true;
+        }
+
+        if (expression instanceof ComparisonPredicate) {
+            ComparisonPredicate comparison = (ComparisonPredicate) expression;
+
+            return comparison.getOperand1().getType().equals(comparison.getOperand2().getType());
+        } else if (expression instanceof AndPredicate || expression instanceof OrPredicate) {
+            return allBoolean(((VariExpression<?>) expression).getOperands());
+        } else if (expression instanceof AbstractArithmeticFunction) {
+            AbstractArithmeticFunction<?> function = (AbstractArithmeticFunction<?>) expression;
+
+            return isPrimitiveNumeric(function.getType(), function.getOperand1(), function.getOperand2());
+        } else if (expression instanceof UnaryMinusFunction) {
+            UnaryMinusFunction<?> function = (UnaryMinusFunction<?>) expression;
+
+            return isPrimitiveNumeric(function.getType(), function.getOperand());
+        } else if (expression instanceof IsNullPredicate || expression instanceof IsNotNullPredicate) {
+            return true;
+        } else if (expression instanceof NotPredicate || TEST_TEMPLATES.containsKey(expression.getClass())) {
+            return allBoolean(((UniExpression<?>) expression).getOperand());
+        }
+
+        return false;
+    }
+
+    private static boolean allBoolean(Expression<?>... operands) {
+        for (Expression<?> operand : operands) {
+            if (Representation.of(operand.getType()) != Representation.BOOLEAN) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isPrimitiveNumeric(QueryDataType type, Expression<?>... operands) {
+        Representation representation = Representation.of(type);
+
+        if (representation != Representation.LONG && representation != Representation.DOUBLE) {
+            return false;
+        }
+
+        for (Expression<?> operand : operands) {
+            if (Representation.of(operand.getType()) != representation) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isLeaf(Expression<?> expression) {
+        return expression instanceof ColumnExpression
+            || expression instanceof ParameterExpression
+            || expression instanceof ConstantExpression;
+    }
+
+    private int addField(String typeName, String prefix, Object ref, String initializerTemplate) {
+        int index = refs.size();
+
+        refs.add(ref);
+
+        fields.append(String.format("    private final %s %s%d;%n", typeName, prefix, index));
+        fieldInitializers.append(String.format(
+            "        this.%s%d = %s;%n",
+            prefix,
+            index,
+            String.format(initializerTemplate, "refs[" + index + "]")
+        ));
+
+        return index;
+    }
+
+    private Value declare(Representation representation) {
+        Value res = new Value(variableCounter++, representation);
+
+        line("boolean n%d = true;", res.id);
+        line("%s v%d = %s;", representation.typeName, res.id, representation.defaultValue);
+
+        return res;
+    }
+
+    private void line(String format, Object... args) {
+        for (int i = 0; i < indent; i++) {
+            body.append("    ");
+        }
+
+        body.append(String.format(format, args)).append('\n');
+    }
+
+    /**
+     * Representation of values of the given type in the generated code.
+     */
+    private enum Representation {
+        LONG("long", "0L", "((java.lang.Number) %s).longValue()"),
+        DOUBLE("double", "0.0d", "((java.lang.Number) %s).doubleValue()"),
+        BOOLEAN("boolean", "false", "((java.lang.Boolean) %s).booleanValue()"),
+        OBJECT("java.lang.Object", "null", "%s");
+
+        private final String typeName;
+        private final String defaultValue;
+        private final String unboxTemplate;
+
+        Representation(String typeName, String defaultValue, String unboxTemplate) {
+            this.typeName = typeName;
+            this.defaultValue = defaultValue;
+            this.unboxTemplate = unboxTemplate;
+        }
+
+        private String unbox(String code) {
+            return String.format(unboxTemplate, code);
+        }
+
+        private static Representation of(QueryDataType type) {
+            switch (type.getTypeFamily()) {
+                case TINYINT:
+                case SMALLINT:
+                case INT:
+                case BIGINT:
+                    return LONG;
+
+                case REAL:
+                case DOUBLE:
+                    return DOUBLE;
+
+                case BOOLEAN:
+                    return BOOLEAN;
+
+                default:
+                    return OBJECT;
+            }
+        }
+    }
+
+    private static final class Value {
+
+        private final int id;
+        private final Representation representation;
+
+        private Value(int id, Representation representation) {
+            this.id = id;
+            this.representation = representation;
+        }
+    }
+}
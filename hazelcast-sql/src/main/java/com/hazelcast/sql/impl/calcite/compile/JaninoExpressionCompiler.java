@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.compile;
+
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionCompiler;
+import org.codehaus.janino.SimpleCompiler;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Compiles filter and projection expressions to Java classes with Janino.
+ * <p>
+ * The compiled expression evaluates supported nodes on primitive values without virtual calls and intermediate
+ * boxing, and delegates to the interpreter for the remaining nodes. Compiled expressions are not serializable, so
+ * the compilation happens on every member after the fragment is received.
+ */
+public class JaninoExpressionCompiler implements ExpressionCompiler {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Expression<T> compile(Expression<T> expression) {
+        ExpressionCodeGenerator generator = ExpressionCodeGenerator.generate(expression);
+
+        if (generator == null) {
+            return null;
+        }
+
+        try {
+            SimpleCompiler compiler = new SimpleCompiler();
+            compiler.setParentClassLoader(JaninoExpressionCompiler.class.getClassLoader());
+            compiler.cook(generator.getSource());
+
+            Class<?> clazz = compiler.getClassLoader().loadClass(ExpressionCodeGenerator.CLASS_NAME);
+            Constructor<?> constructor = clazz.getConstructor(Expression.class, Object[].class);
+
+            return (Expression<T>) constructor.newInstance(expression, generator.getRefs());
+        } catch (Exception e) {
+            // Fallback to the interpreter, e.g. if the generated method is too large.
+            return null;
+        }
+    }
+}
@@ -17,8 +17,18 @@
 package com.hazelcast.sql.impl.calcite.opt.cost;
 
 import com.hazelcast.sql.impl.calcite.SqlToQueryType;
+import com.hazelcast.sql.impl.schema.TableStatistics;
+import com.hazelcast.sql.impl.schema.map.MapTableIndex;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
 
 /**
  * Utility methods for cost estimation.
@@ -30,6 +40,12 @@ public final class CostUtils {
     /** CPU multiplier applied to normal scan. */
     public static final double TABLE_SCAN_CPU_MULTIPLIER = 1.0d;
 
+    /** CPU multiplier applied to index scan. Index lookups are more expensive than sequential access per entry. */
+    public static final double INDEX_SCAN_CPU_MULTIPLIER = 1.2d;
+
+    /** CPU multiplier applied to the build side of a hash join. Insertion is more expensive than lookup. */
+    public static final double HASH_TABLE_INSERT_CPU_MULTIPLIER = 2.0d;
+
     /** Multiplier for the CPU part of the cost. Assumes 1ns per item. */
     public static final double CPU_COST_MULTIPLIER = 1.0d;
 
@@ -69,10 +85,156 @@ public final class CostUtils {
         return rowCount * selectivity;
     }
 
+    /**
+     * Estimate the selectivity of a table filter. Equality and IN conditions on a column are estimated from the number of
+     * distinct values of the column if the table statistics provide it, other conditions are guessed.
+     *
+     * @param filter Filter referencing the table fields by their ordinals.
+     * @param statistics Table statistics.
+     * @return Selectivity.
+     */
+    public static double estimateSelectivity(RexNode filter, TableStatistics statistics) {
+        return estimateSelectivity(filter, statistics, null);
+    }
+
+    /**
+     * Estimate the selectivity of an index condition. Same as {@link #estimateSelectivity(RexNode, TableStatistics)}, but the
+     * cardinality of a single-column index takes precedence over the number of distinct values of the column.
+     *
+     * @param indexExp Index condition referencing the table fields by their ordinals.
+     * @param index Index.
+     * @param statistics Table statistics.
+     * @return Selectivity.
+     */
+    public static double estimateIndexSelectivity(RexNode indexExp, MapTableIndex index, TableStatistics statistics) {
+        return estimateSelectivity(indexExp, statistics, index);
+    }
+
+    private static double estimateSelectivity(RexNode filter, TableStatistics statistics, MapTableIndex index) {
+        double res = 1.0d;
+
+        for (RexNode conjunction : RelOptUtil.conjunctions(filter)) {
+            res *= estimateConjunctionSelectivity(conjunction, statistics, index);
+        }
+
+        return res;
+    }
+
+    private static double estimateConjunctionSelectivity(RexNode conjunction, TableStatistics statistics, MapTableIndex index) {
+        int ordinal = getEqualsColumn(conjunction);
+        int valueCount = 1;
+
+        if (ordinal == -1 && conjunction.isA(SqlKind.OR)) {
+            // IN is represented as a disjunction of equalities on the same column.
+            for (RexNode disjunction : ((RexCall) conjunction).getOperands()) {
+                int disjunctionOrdinal = getEqualsColumn(disjunction);
+
+                if (disjunctionOrdinal == -1 || (ordinal != -1 && ordinal != disjunctionOrdinal)) {
+                    ordinal = -1;
+
+                    break;
+                }
+
+                ordinal = disjunctionOrdinal;
+            }
+
+            valueCount = ((RexCall) conjunction).getOperands().size();
+        }
+
+        long distinctValueCount = ordinal != -1 ? getDistinctValueCount(ordinal, statistics, index) : TableStatistics.UNKNOWN;
+
+        if (distinctValueCount > 0) {
+            return Math.min(1.0d, (double) valueCount / distinctValueCount);
+        }
+
+        return RelMdUtil.guessSelectivity(conjunction);
+    }
+
+    private static long getDistinctValueCount(int ordinal, TableStatistics statistics, MapTableIndex index) {
+        if (index != null && index.getFieldOrdinals().size() == 1 && index.getFieldOrdinals().get(0) == ordinal) {
+            long cardinality = statistics.getIndexCardinality(index.getName());
+
+            if (cardinality != TableStatistics.UNKNOWN) {
+                return cardinality;
+            }
+        }
+
+        return statistics.getDistinctValueCount(ordinal);
+    }
+
+    /**
+     * @return Ordinal of the column if the node is a {@code column = constant} condition, {@code -1} otherwise.
+     */
+    private static int getEqualsColumn(RexNode node) {
+        if (!node.isA(SqlKind.EQUALS)) {
+            return -1;
+        }
+
+        RexNode first = removeCast(((RexCall) node).getOperands().get(0));
+        RexNode second = removeCast(((RexCall) node).getOperands().get(1));
+
+        if (first instanceof RexInputRef && isConstant(second)) {
+            return ((RexInputRef) first).getIndex();
+        } else if (second instanceof RexInputRef && isConstant(first)) {
+            return ((RexInputRef) second).getIndex();
+        } else {
+            return -1;
+        }
+    }
+
+    private static boolean isConstant(RexNode node) {
+        return node instanceof RexLiteral || node instanceof RexDynamicParam;
+    }
+
+    private static RexNode removeCast(RexNode node) {
+        while (node.isA(SqlKind.CAST)) {
+            node = ((RexCall) node).getOperands().get(0);
+        }
+
+        return node;
+    }
+
     public static double getProjectCpu(double rowCount, int expressionCount) {
         return rowCount * expressionCount;
     }
 
+    /**
+     * Get CPU cost of an aggregation: every input row is hashed into its group and then
+     * passed to every aggregate function.
+     *
+     * @param rowCount Input row count.
+     * @param aggregateCount Number of aggregate functions.
+     * @return CPU cost.
+     */
+    public static double getAggregateCpu(double rowCount, int aggregateCount) {
+        return rowCount * (aggregateCount + 1);
+    }
+
+    /**
+     * Get CPU cost of a sort: every input row is inserted into a structure of the size of the retained rows, which
+     * costs a logarithm of that size. The retained row count is smaller than the input row count for Top-N.
+     *
+     * @param rowCount Input row count.
+     * @param retainedRowCount Number of rows retained by the sort.
+     * @return CPU cost.
+     */
+    public static double getSortCpu(double rowCount, double retainedRowCount) {
+        return rowCount * Math.max(1.0d, Math.log(retainedRowCount) / Math.log(2));
+    }
+
+    /**
+     * Get CPU cost of a hash join: every right row is inserted into the hash table, every left row is looked up in it,
+     * and every produced row is evaluated against the remaining join condition.
+     *
+     * @param leftRowCount Left input row count.
+     * @param rightRowCount Right input row count.
+     * @param rowCount Output row count.
+     * @return CPU cost.
+     */
+    public static double getHashJoinCpu(double leftRowCount, double rightRowCount, double rowCount) {
+        return leftRowCount + rightRowCount * HASH_TABLE_INSERT_CPU_MULTIPLIER + rowCount;
+    }
+
     public static int getEstimatedRowWidth(RelNode rel) {
         int res = 0;
 
@@ -26,6 +26,7 @@ import org.apache.calcite.rel.RelNode;
 
 import static com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType.ANY;
 import static com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType.PARTITIONED;
+import static com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType.REPLICATED;
 import static com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType.ROOT;
 
 /**
@@ -35,6 +36,9 @@ public class DistributionTraitDef extends RelTraitDef<DistributionTrait> {
     /** Partitioned trait with unknown partitioning columns. */
     private final DistributionTrait traitPartitionedUnknown;
 
+    /** Full copy of the data set on every data node. */
+    private final DistributionTrait traitReplicated;
+
     /** Consume the whole stream on a single node. */
     private final DistributionTrait traitRoot;
 
@@ -48,6 +52,7 @@ public class DistributionTraitDef extends RelTraitDef<DistributionTrait> {
         this.memberCount = memberCount;
 
         traitPartitionedUnknown = createTrait(PARTITIONED);
+        traitReplicated = createTrait(REPLICATED);
         traitRoot = createTrait(ROOT);
         traitAny = createTrait(ANY);
     }
@@ -60,6 +65,10 @@ public class DistributionTraitDef extends RelTraitDef<DistributionTrait> {
         return traitPartitionedUnknown;
     }
 
+    public DistributionTrait getTraitReplicated() {
+        return traitReplicated;
+    }
+
     public DistributionTrait getTraitRoot() {
         return traitRoot;
     }
@@ -96,6 +105,11 @@ public class DistributionTraitDef extends RelTraitDef<DistributionTrait> {
             return null;
         }
 
+        if (currentType == REPLICATED) {
+            // Replicated data set is produced only by the broadcast exchange, which is consumed by the join directly.
+            return null;
+        }
+
         if (rel.getConvention() != HazelcastConventions.PHYSICAL) {
             // Only physical nodes could be converted.
             return null;
@@ -31,6 +31,11 @@ public enum DistributionType {
      */
     PARTITIONED,
 
+    /**
+     * Data set is fully available on every data node.
+     */
+    REPLICATED,
+
     /**
      * Data set is located on the root node.
      */
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.logical;
+
+import com.hazelcast.sql.impl.calcite.opt.AbstractAggregateRel;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.List;
+
+/**
+ * Logical aggregate.
+ */
+public class AggregateLogicalRel extends AbstractAggregateRel implements LogicalRel {
+    public AggregateLogicalRel(
+        RelOptCluster cluster,
+        RelTraitSet traits,
+        RelNode input,
+        ImmutableBitSet groupSet,
+        List<AggregateCall> aggCalls
+    ) {
+        super(cluster, traits, input, groupSet, aggCalls);
+    }
+
+    @Override
+    public final Aggregate copy(
+        RelTraitSet traitSet,
+        RelNode input,
+        ImmutableBitSet groupSet,
+        List<ImmutableBitSet> groupSets,
+        List<AggregateCall> aggCalls
+    ) {
+        return new AggregateLogicalRel(getCluster(), traitSet, input, groupSet, aggCalls);
+    }
+}
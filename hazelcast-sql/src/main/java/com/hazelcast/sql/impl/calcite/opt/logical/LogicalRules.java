@@ -16,6 +16,7 @@
 
 package com.hazelcast.sql.impl.calcite.opt.logical;
 
+import org.apache.calcite.rel.rules.FilterJoinRule;
 import org.apache.calcite.rel.rules.FilterMergeRule;
 import org.apache.calcite.rel.rules.FilterProjectTransposeRule;
 import org.apache.calcite.rel.rules.ProjectFilterTransposeRule;
@@ -40,6 +41,10 @@ public final class LogicalRules {
             FilterProjectTransposeRule.INSTANCE,
             FilterIntoScanLogicalRule.INSTANCE,
 
+            // Join rules.
+            FilterJoinRule.FILTER_ON_JOIN,
+            FilterJoinRule.JOIN,
+
             // Project rules.
             ProjectMergeRule.INSTANCE,
             ProjectRemoveRule.INSTANCE,
@@ -50,7 +55,10 @@ public final class LogicalRules {
             // Converter rules
             MapScanLogicalRule.INSTANCE,
             FilterLogicalRule.INSTANCE,
-            ProjectLogicalRule.INSTANCE
+            ProjectLogicalRule.INSTANCE,
+            AggregateLogicalRule.INSTANCE,
+            SortLogicalRule.INSTANCE,
+            JoinLogicalRule.INSTANCE
         );
     }
 }
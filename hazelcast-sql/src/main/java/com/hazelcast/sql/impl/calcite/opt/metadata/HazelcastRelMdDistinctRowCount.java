@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.metadata;
+
+import com.hazelcast.sql.impl.calcite.schema.HazelcastTable;
+import com.hazelcast.sql.impl.schema.TableStatistics;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.List;
+
+/**
+ * Metadata which provides estimates of the number of distinct values from the table statistics.
+ */
+public final class HazelcastRelMdDistinctRowCount extends RelMdDistinctRowCount {
+    /** Do not change the name (see {@code RelMetadataQueryBase} JavaDoc). */
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(
+        BuiltInMethod.DISTINCT_ROW_COUNT.method,
+        new HazelcastRelMdDistinctRowCount()
+    );
+
+    private HazelcastRelMdDistinctRowCount() {
+        // No-op.
+    }
+
+    /**
+     * The number of distinct values of a column group is estimated as the product of the numbers of distinct values of
+     * the columns, but not more than the number of rows returned from the scan.
+     */
+    public Double getDistinctRowCount(TableScan rel, RelMetadataQuery mq, ImmutableBitSet groupKey, RexNode predicate) {
+        HazelcastTable table = rel.getTable().unwrap(HazelcastTable.class);
+
+        if (table == null || groupKey.isEmpty()) {
+            return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+        }
+
+        TableStatistics statistics = table.getTarget().getStatistics();
+        List<Integer> projects = table.getProjects();
+
+        double res = 1.0d;
+
+        for (int column : groupKey) {
+            long distinctValueCount = statistics.getDistinctValueCount(projects.get(column));
+
+            if (distinctValueCount == TableStatistics.UNKNOWN) {
+                return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+            }
+
+            res *= distinctValueCount;
+        }
+
+        double rowCount = mq.getRowCount(rel);
+
+        if (predicate != null) {
+            rowCount *= mq.getSelectivity(rel, predicate);
+        }
+
+        return Math.min(res, rowCount);
+    }
+}
@@ -16,10 +16,20 @@
 
 package com.hazelcast.sql.impl.calcite.opt.metadata;
 
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMdRowCount;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
 
 /**
  * Metadata which provides row count estimates.
@@ -33,6 +43,77 @@ public final class HazelcastRelMdRowCount extends RelMdRowCount {
         // No-op.
     }
 
-    // Empty at the moment, will be extended in the future.
-    // Now it serves as an example of how to wire up a metadata handler into Calcite.
+    /**
+     * Calcite expects the offset and the fetch of a sort to be either literals or dynamic parameters. The local sort
+     * of a distributed Top-N may have an expression {@code offset + fetch} instead. Estimate it as the input row count
+     * similarly to dynamic parameters.
+     */
+    @Override
+    public Double getRowCount(Sort rel, RelMetadataQuery mq) {
+        if (isLiteralOrParameter(rel.offset) && isLiteralOrParameter(rel.fetch)) {
+            return super.getRowCount(rel, mq);
+        }
+
+        return mq.getRowCount(rel.getInput());
+    }
+
+    /**
+     * If the numbers of distinct values of the equi-join keys are known, every key is assumed to match
+     * {@code 1 / max(leftDistinct, rightDistinct)} of the row pairs. Otherwise the Calcite estimate is used.
+     * Outer joins return at least the rows of the outer inputs.
+     */
+    @Override
+    public Double getRowCount(Join rel, RelMetadataQuery mq) {
+        JoinInfo joinInfo = rel.analyzeCondition();
+
+        if (joinInfo.leftKeys.isEmpty() || !rel.getJoinType().projectsRight()) {
+            return super.getRowCount(rel, mq);
+        }
+
+        Double leftRowCount = mq.getRowCount(rel.getLeft());
+        Double rightRowCount = mq.getRowCount(rel.getRight());
+
+        if (leftRowCount == null || rightRowCount == null) {
+            return super.getRowCount(rel, mq);
+        }
+
+        double res = leftRowCount * rightRowCount;
+
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            Double leftDistinct = mq.getDistinctRowCount(rel.getLeft(), ImmutableBitSet.of(joinInfo.leftKeys.get(i)), null);
+            Double rightDistinct = mq.getDistinctRowCount(rel.getRight(), ImmutableBitSet.of(joinInfo.rightKeys.get(i)), null);
+
+            if (leftDistinct == null || rightDistinct == null) {
+                return super.getRowCount(rel, mq);
+            }
+
+            res /= Math.max(1.0d, Math.max(leftDistinct, rightDistinct));
+        }
+
+        if (!joinInfo.isEqui()) {
+            res *= RelMdUtil.guessSelectivity(joinInfo.getRemaining(rel.getCluster().getRexBuilder()));
+        }
+
+        return adjustForOuterJoin(rel.getJoinType(), res, leftRowCount, rightRowCount);
+    }
+
+    private static double adjustForOuterJoin(JoinRelType joinType, double rowCount, double leftRowCount, double rightRowCount) {
+        switch (joinType) {
+            case LEFT:
+                return Math.max(rowCount, leftRowCount);
+
+            case RIGHT:
+                return Math.max(rowCount, rightRowCount);
+
+            case FULL:
+                return Math.max(rowCount, leftRowCount + rightRowCount);
+
+            default:
+                return rowCount;
+        }
+    }
+
+    private static boolean isLiteralOrParameter(RexNode node) {
+        return node == null || node instanceof RexLiteral || node instanceof RexDynamicParam;
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.opt.AbstractAggregateRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.visitor.PhysicalRelVisitor;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.List;
+
+/**
+ * Physical hash aggregate.
+ * <p>
+ * Traits:
+ * <ul>
+ *     <li><b>Collation</b>: destroyed</li>
+ *     <li><b>Distribution</b>: inherited from the input</li>
+ * </ul>
+ */
+public class AggregatePhysicalRel extends AbstractAggregateRel implements PhysicalRel {
+    public AggregatePhysicalRel(
+        RelOptCluster cluster,
+        RelTraitSet traits,
+        RelNode input,
+        ImmutableBitSet groupSet,
+        List<AggregateCall> aggCalls
+    ) {
+        super(cluster, traits, input, groupSet, aggCalls);
+    }
+
+    @Override
+    public final Aggregate copy(
+        RelTraitSet traitSet,
+        RelNode input,
+        ImmutableBitSet groupSet,
+        List<ImmutableBitSet> groupSets,
+        List<AggregateCall> aggCalls
+    ) {
+        return new AggregatePhysicalRel(getCluster(), traitSet, input, groupSet, aggCalls);
+    }
+
+    @Override
+    public void visit(PhysicalRelVisitor visitor) {
+        ((PhysicalRel) input).visit(visitor);
+
+        visitor.onAggregate(this);
+    }
+}
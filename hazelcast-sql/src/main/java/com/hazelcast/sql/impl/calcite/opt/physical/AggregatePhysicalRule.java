@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.opt.HazelcastConventions;
+import com.hazelcast.sql.impl.calcite.opt.OptUtils;
+import com.hazelcast.sql.impl.calcite.opt.distribution.DistributionTrait;
+import com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType;
+import com.hazelcast.sql.impl.calcite.opt.logical.AggregateLogicalRel;
+import com.hazelcast.sql.impl.calcite.validate.HazelcastSqlOperatorTable;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Converts logical aggregate to physical hash aggregate.
+ * <p>
+ * If the input is partitioned, the aggregation is split into two phases: local aggregation on every member, followed
+ * by the final aggregation of the partial results on the root member. Otherwise, a single aggregate is created.
+ * <p>
+ * {@code AVG(x)} is never executed directly. Instead, it is split into {@code SUM(x)} and {@code COUNT(x)}, and the
+ * final value is computed by a projection on top of the aggregate. This way the partial results of all supported
+ * functions can be merged without additional state.
+ */
+public final class AggregatePhysicalRule extends RelOptRule {
+    public static final RelOptRule INSTANCE = new AggregatePhysicalRule();
+
+    private AggregatePhysicalRule() {
+        super(
+            OptUtils.parentChild(AggregateLogicalRel.class, RelNode.class, HazelcastConventions.LOGICAL),
+            AggregatePhysicalRule.class.getSimpleName()
+        );
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        AggregateLogicalRel logicalAggregate = call.rel(0);
+        RelNode input = logicalAggregate.getInput();
+
+        RelNode convertedInput = OptUtils.toPhysicalInput(input);
+
+        for (RelNode physicalInput : OptUtils.getPhysicalRelsFromSubset(convertedInput)) {
+            RelNode aggregate;
+
+            if (isSinglePhase(physicalInput)) {
+                aggregate = createSinglePhase(logicalAggregate, physicalInput);
+            } else {
+                aggregate = createTwoPhase(logicalAggregate, physicalInput);
+            }
+
+            call.transformTo(createAvgProjectIfNeeded(logicalAggregate, aggregate));
+        }
+    }
+
+    private static boolean isSinglePhase(RelNode physicalInput) {
+        DistributionTrait distribution = OptUtils.getDistribution(physicalInput);
+
+        if (OptUtils.getDistributionDef(physicalInput).getMemberCount() == 1) {
+            // All data is located on the local member.
+            return true;
+        }
+
+        return distribution.getType() != DistributionType.PARTITIONED;
+    }
+
+    private static AggregatePhysicalRel createSinglePhase(AggregateLogicalRel logicalAggregate, RelNode physicalInput) {
+        return new AggregatePhysicalRel(
+            logicalAggregate.getCluster(),
+            physicalInput.getTraitSet(),
+            physicalInput,
+            logicalAggregate.getGroupSet(),
+            createLocalCalls(logicalAggregate)
+        );
+    }
+
+    private static AggregatePhysicalRel createTwoPhase(AggregateLogicalRel logicalAggregate, RelNode physicalInput) {
+        List<AggregateCall> localCalls = createLocalCalls(logicalAggregate);
+
+        AggregatePhysicalRel localAggregate = new AggregatePhysicalRel(
+            logicalAggregate.getCluster(),
+            physicalInput.getTraitSet(),
+            physicalInput,
+            logicalAggregate.getGroupSet(),
+            localCalls
+        );
+
+        RelNode exchange = OptUtils.toPhysicalInput(localAggregate, OptUtils.getDistributionDef(localAggregate).getTraitRoot());
+
+        int groupCount = logicalAggregate.getGroupCount();
+
+        return new AggregatePhysicalRel(
+            logicalAggregate.getCluster(),
+            exchange.getTraitSet(),
+            exchange,
+            ImmutableBitSet.range(groupCount),
+            createFinalCalls(localCalls, groupCount)
+        );
+    }
+
+    /**
+     * Create aggregate calls which are executed on the original input. {@code AVG} is replaced with {@code SUM} and
+     * {@code COUNT}, other calls are left as is.
+     */
+    private static List<AggregateCall> createLocalCalls(AggregateLogicalRel logicalAggregate) {
+        List<AggregateCall> res = new ArrayList<>(logicalAggregate.getAggCallList().size());
+
+        for (AggregateCall call : logicalAggregate.getAggCallList()) {
+            if (call.getAggregation().getKind() == SqlKind.AVG) {
+                RelDataTypeFactory typeFactory = logicalAggregate.getCluster().getTypeFactory();
+                RelDataType operandType = logicalAggregate.getInput().getRowType().getFieldList()
+                    .get(call.getArgList().get(0)).getType();
+
+                RelDataType sumType = typeFactory.createTypeWithNullability(
+                    typeFactory.getTypeSystem().deriveSumType(typeFactory, operandType),
+                    true
+                );
+
+                RelDataType countType = typeFactory.createSqlType(SqlTypeName.BIGINT);
+
+                res.add(createCall(SqlStdOperatorTable.SUM, call.getArgList(), sumType, null));
+                res.add(createCall(SqlStdOperatorTable.COUNT, call.getArgList(), countType, null));
+            } else {
+                res.add(call);
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Create aggregate calls which merge partial results produced by the local calls. Partial counts are summed,
+     * other functions are applied to partial results once again.
+     */
+    private static List<AggregateCall> createFinalCalls(List<AggregateCall> localCalls, int groupCount) {
+        List<AggregateCall> res = new ArrayList<>(localCalls.size());
+
+        for (int i = 0; i < localCalls.size(); i++) {
+            AggregateCall localCall = localCalls.get(i);
+
+            SqlAggFunction function = localCall.getAggregation().getKind() == SqlKind.COUNT
+                ? SqlStdOperatorTable.SUM0 : localCall.getAggregation();
+
+            res.add(createCall(function, Collections.singletonList(groupCount + i), localCall.getType(), localCall.getName()));
+        }
+
+        return res;
+    }
+
+    private static AggregateCall createCall(SqlAggFunction function, List<Integer> argList, RelDataType type, String name) {
+        return AggregateCall.create(function, false, false, argList, -1, RelCollations.EMPTY, type, name);
+    }
+
+    /**
+     * Create a projection which computes {@code AVG} from the {@code SUM} and {@code COUNT} produced by the aggregate.
+     * If there are no {@code AVG} calls, the aggregate is returned as is.
+     */
+    private static RelNode createAvgProjectIfNeeded(AggregateLogicalRel logicalAggregate, RelNode aggregate) {
+        int groupCount = logicalAggregate.getGroupCount();
+        List<AggregateCall> calls = logicalAggregate.getAggCallList();
+
+        if (aggregate.getRowType().getFieldCount() == groupCount + calls.size()) {
+            return aggregate;
+        }
+
+        RexBuilder rexBuilder = logicalAggregate.getCluster().getRexBuilder();
+
+        List<RexNode> projects = new ArrayList<>(groupCount + calls.size());
+
+        for (int i = 0; i < groupCount; i++) {
+            projects.add(rexBuilder.makeInputRef(aggregate, i));
+        }
+
+        int index = groupCount;
+
+        for (AggregateCall call : calls) {
+            if (call.getAggregation().getKind() == SqlKind.AVG) {
+                RexNode sum = rexBuilder.makeInputRef(aggregate, index++);
+                RexNode count = rexBuilder.makeInputRef(aggregate, index++);
+
+                projects.add(createAvg(rexBuilder, call.getType(), sum, count));
+            } else {
+                projects.add(rexBuilder.makeInputRef(aggregate, index++));
+            }
+        }
+
+        return new ProjectPhysicalRel(
+            logicalAggregate.getCluster(),
+            aggregate.getTraitSet(),
+            aggregate,
+            projects,
+            logicalAggregate.getRowType()
+        );
+    }
+
+    private static RexNode createAvg(RexBuilder rexBuilder, RelDataType type, RexNode sum, RexNode count) {
+        RexNode dividend = castIfNeeded(rexBuilder, sum, type);
+        RexNode divisor = castIfNeeded(rexBuilder, count, type);
+
+        return rexBuilder.makeCall(type, HazelcastSqlOperatorTable.DIVIDE, Arrays.asList(dividend, divisor));
+    }
+
+    private static RexNode castIfNeeded(RexBuilder rexBuilder, RexNode operand, RelDataType type) {
+        if (operand.getType().getSqlTypeName() == type.getSqlTypeName()) {
+            return operand;
+        }
+
+        RelDataType targetType = rexBuilder.getTypeFactory().createTypeWithNullability(type, operand.getType().isNullable());
+
+        return rexBuilder.makeCast(targetType, operand);
+    }
+}
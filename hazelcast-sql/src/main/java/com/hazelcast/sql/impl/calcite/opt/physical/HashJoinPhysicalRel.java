@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.opt.AbstractJoinRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.visitor.PhysicalRelVisitor;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rex.RexNode;
+
+import java.util.List;
+
+/**
+ * Physical hash join. The right input is used to build the hash table, the left input is probed against it.
+ * <p>
+ * The join condition is split into the hash keys and the remaining condition, which is evaluated on the joined row.
+ * If there are no hash keys, every left row is matched against all right rows.
+ * <p>
+ * Traits:
+ * <ul>
+ *     <li><b>Collation</b>: none</li>
+ *     <li><b>Distribution</b>: inherited from the left input</li>
+ * </ul>
+ */
+public class HashJoinPhysicalRel extends AbstractJoinRel implements PhysicalRel {
+
+    private final List<Integer> leftHashKeys;
+    private final List<Integer> rightHashKeys;
+    private final RexNode remainingCondition;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public HashJoinPhysicalRel(
+        RelOptCluster cluster,
+        RelTraitSet traits,
+        RelNode left,
+        RelNode right,
+        RexNode condition,
+        JoinRelType joinType,
+        List<Integer> leftHashKeys,
+        List<Integer> rightHashKeys,
+        RexNode remainingCondition
+    ) {
+        super(cluster, traits, left, right, condition, joinType);
+
+        this.leftHashKeys = leftHashKeys;
+        this.rightHashKeys = rightHashKeys;
+        this.remainingCondition = remainingCondition;
+    }
+
+    public List<Integer> getLeftHashKeys() {
+        return leftHashKeys;
+    }
+
+    public List<Integer> getRightHashKeys() {
+        return rightHashKeys;
+    }
+
+    /**
+     * @return Part of the condition which is not covered by the hash keys, or {@code null} if there is none.
+     */
+    public RexNode getRemainingCondition() {
+        return remainingCondition;
+    }
+
+    @Override
+    public Join copy(
+        RelTraitSet traitSet,
+        RexNode conditionExpr,
+        RelNode left,
+        RelNode right,
+        JoinRelType joinType,
+        boolean semiJoinDone
+    ) {
+        assert conditionExpr.equals(condition) : "Join condition cannot be changed";
+
+        return new HashJoinPhysicalRel(
+            getCluster(),
+            traitSet,
+            left,
+            right,
+            conditionExpr,
+            joinType,
+            leftHashKeys,
+            rightHashKeys,
+            remainingCondition
+        );
+    }
+
+    @Override
+    public void visit(PhysicalRelVisitor visitor) {
+        ((PhysicalRel) left).visit(visitor);
+        ((PhysicalRel) right).visit(visitor);
+
+        visitor.onHashJoin(this);
+    }
+
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw)
+            .item("leftHashKeys", leftHashKeys)
+            .item("rightHashKeys", rightHashKeys);
+    }
+}
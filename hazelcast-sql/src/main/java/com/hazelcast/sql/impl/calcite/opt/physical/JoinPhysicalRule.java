@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.opt.HazelcastConventions;
+import com.hazelcast.sql.impl.calcite.opt.OptUtils;
+import com.hazelcast.sql.impl.calcite.opt.distribution.DistributionTraitDef;
+import com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType;
+import com.hazelcast.sql.impl.calcite.opt.logical.JoinLogicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.BroadcastExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.UnicastExchangePhysicalRel;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.type.SqlTypeName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType.PARTITIONED;
+import static com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType.REPLICATED;
+import static com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType.ROOT;
+
+/**
+ * Converts logical join to physical hash join.
+ * <p>
+ * If both inputs are partitioned, two alternatives are produced:
+ * <ul>
+ *     <li><b>Broadcast join</b>: the right input is sent to every member, while the left input stays in place. This is
+ *     efficient when the right input is small</li>
+ *     <li><b>Partitioned hash join</b>: both inputs are repartitioned by the hash of the join keys, so that matching rows
+ *     meet on the same member. Requires equi-join keys</li>
+ * </ul>
+ * If any input is located on the root member, the other input is moved to the root member as well. On a single-member
+ * topology the join is always local.
+ */
+public final class JoinPhysicalRule extends RelOptRule {
+    public static final RelOptRule INSTANCE = new JoinPhysicalRule();
+
+    private JoinPhysicalRule() {
+        super(
+            operand(
+                JoinLogicalRel.class,
+                HazelcastConventions.LOGICAL,
+                some(operand(RelNode.class, any()), operand(RelNode.class, any()))
+            ),
+            JoinPhysicalRule.class.getSimpleName()
+        );
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        JoinLogicalRel logicalJoin = call.rel(0);
+
+        HashKeys hashKeys = HashKeys.of(logicalJoin);
+
+        RelNode convertedLeft = OptUtils.toPhysicalInput(logicalJoin.getLeft());
+        RelNode convertedRight = OptUtils.toPhysicalInput(logicalJoin.getRight());
+
+        for (RelNode physicalLeft : OptUtils.getPhysicalRelsFromSubset(convertedLeft)) {
+            for (RelNode physicalRight : OptUtils.getPhysicalRelsFromSubset(convertedRight)) {
+                DistributionType leftType = OptUtils.getDistribution(physicalLeft).getType();
+                DistributionType rightType = OptUtils.getDistribution(physicalRight).getType();
+
+                if (leftType == REPLICATED || rightType == REPLICATED) {
+                    // Replicated inputs are created by this rule for the broadcast join only.
+                    continue;
+                }
+
+                if (OptUtils.getDistributionDef(physicalLeft).getMemberCount() == 1) {
+                    call.transformTo(createJoin(logicalJoin, physicalLeft.getTraitSet(), physicalLeft, physicalRight, hashKeys));
+                } else if (leftType == ROOT || rightType == ROOT) {
+                    call.transformTo(createRootJoin(logicalJoin, physicalLeft, physicalRight, hashKeys));
+                } else {
+                    assert leftType == PARTITIONED && rightType == PARTITIONED;
+
+                    call.transformTo(createBroadcastJoin(logicalJoin, physicalLeft, physicalRight, hashKeys));
+
+                    if (!hashKeys.isEmpty()) {
+                        call.transformTo(createPartitionedJoin(logicalJoin, physicalLeft, physicalRight, hashKeys));
+                    }
+                }
+            }
+        }
+    }
+
+    private static RelNode createRootJoin(
+        JoinLogicalRel logicalJoin,
+        RelNode physicalLeft,
+        RelNode physicalRight,
+        HashKeys hashKeys
+    ) {
+        DistributionTraitDef distributionDef = OptUtils.getDistributionDef(logicalJoin);
+
+        RelNode left = OptUtils.toPhysicalInput(physicalLeft, distributionDef.getTraitRoot());
+        RelNode right = OptUtils.toPhysicalInput(physicalRight, distributionDef.getTraitRoot());
+
+        return createJoin(logicalJoin, left.getTraitSet(), left, right, hashKeys);
+    }
+
+    private static RelNode createBroadcastJoin(
+        JoinLogicalRel logicalJoin,
+        RelNode physicalLeft,
+        RelNode physicalRight,
+        HashKeys hashKeys
+    ) {
+        DistributionTraitDef distributionDef = OptUtils.getDistributionDef(logicalJoin);
+
+        RelNode right = new BroadcastExchangePhysicalRel(
+            logicalJoin.getCluster(),
+            OptUtils.toPhysicalConvention(physicalRight.getTraitSet(), distributionDef.getTraitReplicated()),
+            physicalRight
+        );
+
+        return createJoin(logicalJoin, physicalLeft.getTraitSet(), physicalLeft, right, hashKeys);
+    }
+
+    private static RelNode createPartitionedJoin(
+        JoinLogicalRel logicalJoin,
+        RelNode physicalLeft,
+        RelNode physicalRight,
+        HashKeys hashKeys
+    ) {
+        DistributionTraitDef distributionDef = OptUtils.getDistributionDef(logicalJoin);
+
+        RelNode left = new UnicastExchangePhysicalRel(
+            logicalJoin.getCluster(),
+            OptUtils.toPhysicalConvention(physicalLeft.getTraitSet(), distributionDef.getTraitPartitionedUnknown()),
+            physicalLeft,
+            hashKeys.leftKeys
+        );
+
+        RelNode right = new UnicastExchangePhysicalRel(
+            logicalJoin.getCluster(),
+            OptUtils.toPhysicalConvention(physicalRight.getTraitSet(), distributionDef.getTraitPartitionedUnknown()),
+            physicalRight,
+            hashKeys.rightKeys
+        );
+
+        return createJoin(logicalJoin, left.getTraitSet(), left, right, hashKeys);
+    }
+
+    private static RelNode createJoin(
+        JoinLogicalRel logicalJoin,
+        RelTraitSet traitSet,
+        RelNode left,
+        RelNode right,
+        HashKeys hashKeys
+    ) {
+        return new HashJoinPhysicalRel(
+            logicalJoin.getCluster(),
+            traitSet,
+            left,
+            right,
+            logicalJoin.getCondition(),
+            logicalJoin.getJoinType(),
+            hashKeys.leftKeys,
+            hashKeys.rightKeys,
+            hashKeys.remainingCondition
+        );
+    }
+
+    /**
+     * Hash keys of the join, and the part of the join condition which is not covered by them.
+     */
+    private static final class HashKeys {
+
+        private final List<Integer> leftKeys;
+        private final List<Integer> rightKeys;
+        private final RexNode remainingCondition;
+
+        private HashKeys(List<Integer> leftKeys, List<Integer> rightKeys, RexNode remainingCondition) {
+            this.leftKeys = leftKeys;
+            this.rightKeys = rightKeys;
+            this.remainingCondition = remainingCondition;
+        }
+
+        private static HashKeys of(JoinLogicalRel logicalJoin) {
+            JoinInfo joinInfo = logicalJoin.analyzeCondition();
+
+            List<Integer> leftKeys = new ArrayList<>(joinInfo.leftKeys.size());
+            List<Integer> rightKeys = new ArrayList<>(joinInfo.rightKeys.size());
+
+            for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+                int leftKey = joinInfo.leftKeys.get(i);
+                int rightKey = joinInfo.rightKeys.get(i);
+
+                RelDataType leftType = logicalJoin.getLeft().getRowType().getFieldList().get(leftKey).getType();
+                RelDataType rightType = logicalJoin.getRight().getRowType().getFieldList().get(rightKey).getType();
+
+                if (isHashable(leftType, rightType)) {
+                    leftKeys.add(leftKey);
+                    rightKeys.add(rightKey);
+                }
+            }
+
+            RexNode remainingCondition;
+
+            if (leftKeys.size() == joinInfo.leftKeys.size()) {
+                remainingCondition = RexUtil.composeConjunction(
+                    logicalJoin.getCluster().getRexBuilder(),
+                    joinInfo.nonEquiConditions,
+                    true
+                );
+            } else {
+                // Some equi-conditions cannot be evaluated through hashing, so the whole condition is re-checked.
+                remainingCondition = logicalJoin.getCondition();
+            }
+
+            return new HashKeys(leftKeys, rightKeys, remainingCondition);
+        }
+
+        /**
+         * Hash lookup relies on {@code equals} and {@code hashCode} of the key values, which are consistent with
+         * SQL equality only if both values are of the same type. Approximate and decimal numbers are excluded, since
+         * {@code equals} distinguishes {@code 0.0} from {@code -0.0}, and {@code 1.0} from {@code 1.00}. Objects are
+         * excluded, since their hash codes might differ between members.
+         */
+        private static boolean isHashable(RelDataType leftType, RelDataType rightType) {
+            SqlTypeName typeName = leftType.getSqlTypeName();
+
+            if (typeName != rightType.getSqlTypeName()) {
+                return false;
+            }
+
+            switch (typeName) {
+                case REAL:
+                case DOUBLE:
+                case DECIMAL:
+                case ANY:
+                    return false;
+
+                default:
+                    return true;
+            }
+        }
+
+        private boolean isEmpty() {
+            return leftKeys.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.opt.cost.CostUtils;
+import com.hazelcast.sql.impl.calcite.opt.physical.visitor.PhysicalRelVisitor;
+import com.hazelcast.sql.impl.calcite.schema.HazelcastTable;
+import com.hazelcast.sql.impl.schema.map.MapTableIndex;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+
+import java.util.List;
+
+/**
+ * Physical scan over partitioned map using an index.
+ * <p>
+ * The index condition is a part of the table filter that could be resolved through the index lookup. The whole table filter
+ * is still applied to the entries returned from the index.
+ * <p>
+ * Traits:
+ * <ul>
+ *     <li><b>Collation</b>: empty, as index lookups on different members are not coordinated</li>
+ *     <li><b>Distribution</b>: PARTITIONED</li>
+ * </ul>
+ */
+public class MapIndexScanPhysicalRel extends AbstractMapScanPhysicalRel {
+
+    private final MapTableIndex index;
+    private final RexNode indexExp;
+
+    public MapIndexScanPhysicalRel(
+        RelOptCluster cluster,
+        RelTraitSet traitSet,
+        RelOptTable table,
+        MapTableIndex index,
+        RexNode indexExp
+    ) {
+        super(cluster, traitSet, table);
+
+        this.index = index;
+        this.indexExp = indexExp;
+    }
+
+    public MapTableIndex getIndex() {
+        return index;
+    }
+
+    public RexNode getIndexExp() {
+        return indexExp;
+    }
+
+    @Override
+    public final RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new MapIndexScanPhysicalRel(getCluster(), traitSet, getTable(), index, indexExp);
+    }
+
+    @Override
+    public void visit(PhysicalRelVisitor visitor) {
+        visitor.onMapIndexScan(this);
+    }
+
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw)
+            .item("index", index.getName())
+            .item("indexExp", indexExp);
+    }
+
+    @Override
+    public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        HazelcastTable table0 = getTableUnwrapped();
+
+        // Only entries matching the index condition are scanned.
+        double selectivity = CostUtils.estimateIndexSelectivity(indexExp, index, table0.getTarget().getStatistics());
+        double scanRowCount = CostUtils.adjustFilteredRowCount(table0.getTotalRowCount(), selectivity);
+
+        return computeSelfCost(
+            planner,
+            scanRowCount,
+            CostUtils.INDEX_SCAN_CPU_MULTIPLIER,
+            true,
+            table.getRowCount(),
+            table0.getProjects().size()
+        );
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.opt.HazelcastConventions;
+import com.hazelcast.sql.impl.calcite.opt.OptUtils;
+import com.hazelcast.sql.impl.calcite.opt.distribution.DistributionTrait;
+import com.hazelcast.sql.impl.calcite.opt.logical.MapScanLogicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.index.IndexResolver;
+import com.hazelcast.sql.impl.calcite.schema.HazelcastTable;
+import com.hazelcast.sql.impl.schema.map.MapTableIndex;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.rex.RexNode;
+
+/**
+ * Convert logical map scan with a filter to physical index scans. One index scan is produced for every index which could be
+ * used to resolve at least a part of the filter. The choice between the index scans and the normal scan is made based on
+ * their cost.
+ */
+public final class MapIndexScanPhysicalRule extends RelOptRule {
+    public static final RelOptRule INSTANCE = new MapIndexScanPhysicalRule();
+
+    private MapIndexScanPhysicalRule() {
+        super(
+            OptUtils.single(MapScanLogicalRel.class, HazelcastConventions.LOGICAL),
+            MapIndexScanPhysicalRule.class.getSimpleName()
+        );
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        MapScanLogicalRel scan = call.rel(0);
+
+        HazelcastTable table = scan.getTableUnwrapped();
+
+        if (table.getFilter() == null || !(table.getTarget() instanceof PartitionedMapTable)) {
+            return;
+        }
+
+        PartitionedMapTable map = table.getTarget();
+
+        for (MapTableIndex index : map.getIndexes()) {
+            RexNode indexExp = IndexResolver.createIndexCondition(
+                scan.getCluster().getRexBuilder(),
+                index,
+                map,
+                table.getFilter()
+            );
+
+            if (indexExp == null) {
+                continue;
+            }
+
+            DistributionTrait distribution = OptUtils.getDistributionDef(scan).getTraitPartitionedUnknown();
+
+            call.transformTo(new MapIndexScanPhysicalRel(
+                scan.getCluster(),
+                OptUtils.toPhysicalConvention(scan.getTraitSet(), distribution),
+                scan.getTable(),
+                index,
+                indexExp
+            ));
+        }
+    }
+}
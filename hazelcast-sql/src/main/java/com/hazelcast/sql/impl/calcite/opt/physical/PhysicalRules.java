@@ -34,7 +34,11 @@ public final class PhysicalRules {
             RootPhysicalRule.INSTANCE,
             FilterPhysicalRule.INSTANCE,
             ProjectPhysicalRule.INSTANCE,
+            AggregatePhysicalRule.INSTANCE,
+            SortPhysicalRule.INSTANCE,
+            JoinPhysicalRule.INSTANCE,
             MapScanPhysicalRule.INSTANCE,
+            MapIndexScanPhysicalRule.INSTANCE,
 
             new AbstractConverter.ExpandConversionRule(RelFactories.LOGICAL_BUILDER)
         );
@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.List;
 
 import static com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType.PARTITIONED;
+import static com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType.REPLICATED;
 
 /**
  * This rule converts logical projection into physical projection. Physical projection inherits distribution and collation of
@@ -116,7 +117,8 @@ public final class ProjectPhysicalRule extends RelOptRule {
                 return physicalInputDist;
 
             default:
-                assert type == PARTITIONED;
+                // Partitioned and replicated inputs remain as is.
+                assert type == PARTITIONED || type == REPLICATED;
 
                 return physicalInputDist;
         }
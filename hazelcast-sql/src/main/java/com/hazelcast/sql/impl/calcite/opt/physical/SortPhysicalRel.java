@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.opt.AbstractSortRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.visitor.PhysicalRelVisitor;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rex.RexNode;
+
+/**
+ * Physical sort. Retains only the top {@code offset + fetch} rows if the fetch is defined.
+ * <p>
+ * Traits:
+ * <ul>
+ *     <li><b>Collation</b>: the sort collation</li>
+ *     <li><b>Distribution</b>: inherited from the input</li>
+ * </ul>
+ */
+public class SortPhysicalRel extends AbstractSortRel implements PhysicalRel {
+    public SortPhysicalRel(
+        RelOptCluster cluster,
+        RelTraitSet traits,
+        RelNode input,
+        RelCollation collation,
+        RexNode offset,
+        RexNode fetch
+    ) {
+        super(cluster, traits, input, collation, offset, fetch);
+    }
+
+    @Override
+    public final Sort copy(RelTraitSet traitSet, RelNode input, RelCollation collation, RexNode offset, RexNode fetch) {
+        return new SortPhysicalRel(getCluster(), traitSet, input, collation, offset, fetch);
+    }
+
+    @Override
+    public void visit(PhysicalRelVisitor visitor) {
+        ((PhysicalRel) input).visit(visitor);
+
+        visitor.onSort(this);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.opt.HazelcastConventions;
+import com.hazelcast.sql.impl.calcite.opt.OptUtils;
+import com.hazelcast.sql.impl.calcite.opt.distribution.DistributionTrait;
+import com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType;
+import com.hazelcast.sql.impl.calcite.opt.logical.SortLogicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.SortMergeExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.validate.HazelcastSqlOperatorTable;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+
+import java.math.BigDecimal;
+
+/**
+ * Converts logical sort to physical sort.
+ * <p>
+ * If the input is partitioned, every member sorts its part of the data locally, and the sorted streams are merged on
+ * the root member by the {@link SortMergeExchangePhysicalRel}, so that the rows are never re-sorted. If the fetch is
+ * defined, the local sort retains only {@code offset + fetch} rows (Top-N), while the final offset and fetch are
+ * applied during the merge. Otherwise, a single sort is created.
+ */
+public final class SortPhysicalRule extends RelOptRule {
+    public static final RelOptRule INSTANCE = new SortPhysicalRule();
+
+    private SortPhysicalRule() {
+        super(
+            OptUtils.parentChild(SortLogicalRel.class, RelNode.class, HazelcastConventions.LOGICAL),
+            SortPhysicalRule.class.getSimpleName()
+        );
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        SortLogicalRel logicalSort = call.rel(0);
+        RelNode input = logicalSort.getInput();
+
+        RelNode convertedInput = OptUtils.toPhysicalInput(input);
+
+        for (RelNode physicalInput : OptUtils.getPhysicalRelsFromSubset(convertedInput)) {
+            RelNode sort;
+
+            if (isSinglePhase(physicalInput)) {
+                sort = createSinglePhase(logicalSort, physicalInput);
+            } else {
+                sort = createTwoPhase(logicalSort, physicalInput);
+            }
+
+            call.transformTo(sort);
+        }
+    }
+
+    private static boolean isSinglePhase(RelNode physicalInput) {
+        DistributionTrait distribution = OptUtils.getDistribution(physicalInput);
+
+        if (OptUtils.getDistributionDef(physicalInput).getMemberCount() == 1) {
+            // All data is located on the local member.
+            return true;
+        }
+
+        return distribution.getType() != DistributionType.PARTITIONED;
+    }
+
+    private static SortPhysicalRel createSinglePhase(SortLogicalRel logicalSort, RelNode physicalInput) {
+        return new SortPhysicalRel(
+            logicalSort.getCluster(),
+            physicalInput.getTraitSet(),
+            physicalInput,
+            logicalSort.getCollation(),
+            logicalSort.offset,
+            logicalSort.fetch
+        );
+    }
+
+    private static RelNode createTwoPhase(SortLogicalRel logicalSort, RelNode physicalInput) {
+        RelNode localInput = physicalInput;
+
+        // Offset cannot be applied locally, since it is not known in advance how many rows will be skipped on every
+        // member. Local sort without the fetch is still needed to produce sorted streams for the merge.
+        if (logicalSort.fetch != null || !logicalSort.getCollation().getFieldCollations().isEmpty()) {
+            localInput = new SortPhysicalRel(
+                logicalSort.getCluster(),
+                physicalInput.getTraitSet(),
+                physicalInput,
+                logicalSort.getCollation(),
+                null,
+                createLocalFetch(logicalSort)
+            );
+        }
+
+        return new SortMergeExchangePhysicalRel(
+            logicalSort.getCluster(),
+            OptUtils.toPhysicalConvention(
+                localInput.getTraitSet(),
+                OptUtils.getDistributionDef(localInput).getTraitRoot()
+            ),
+            localInput,
+            logicalSort.getCollation(),
+            logicalSort.offset,
+            logicalSort.fetch
+        );
+    }
+
+    /**
+     * Create the fetch of the local sort: {@code offset + fetch}, since any of the top {@code offset + fetch} rows
+     * of a member may appear in the final result.
+     */
+    private static RexNode createLocalFetch(SortLogicalRel logicalSort) {
+        RexNode fetch = logicalSort.fetch;
+        RexNode offset = logicalSort.offset;
+
+        if (fetch == null || offset == null) {
+            return fetch;
+        }
+
+        RexBuilder rexBuilder = logicalSort.getCluster().getRexBuilder();
+
+        if (fetch instanceof RexLiteral && offset instanceof RexLiteral) {
+            BigDecimal fetchValue = ((RexLiteral) fetch).getValueAs(BigDecimal.class);
+            BigDecimal offsetValue = ((RexLiteral) offset).getValueAs(BigDecimal.class);
+
+            return rexBuilder.makeExactLiteral(fetchValue.add(offsetValue));
+        }
+
+        return rexBuilder.makeCall(HazelcastSqlOperatorTable.PLUS, offset, fetch);
+    }
+}
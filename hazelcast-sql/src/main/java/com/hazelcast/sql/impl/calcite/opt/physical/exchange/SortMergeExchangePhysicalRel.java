@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical.exchange;
+
+import com.hazelcast.sql.impl.calcite.opt.cost.CostUtils;
+import com.hazelcast.sql.impl.calcite.opt.distribution.DistributionType;
+import com.hazelcast.sql.impl.calcite.opt.physical.PhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.visitor.PhysicalRelVisitor;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+
+import java.util.List;
+
+/**
+ * Exchange which collects sorted inputs from all members on a single node and merges them preserving the order. The
+ * final offset and fetch are applied to the merged stream.
+ * <p>
+ * Traits:
+ * <ul>
+ *     <li><b>Collation</b>: the collation of the input</li>
+ *     <li><b>Distribution</b>: always {@link DistributionType#ROOT}, since there is only one node consuming the input</li>
+ * </ul>
+ */
+public class SortMergeExchangePhysicalRel extends AbstractExchangePhysicalRel {
+
+    private final RelCollation collation;
+    private final RexNode offset;
+    private final RexNode fetch;
+
+    public SortMergeExchangePhysicalRel(
+        RelOptCluster cluster,
+        RelTraitSet traits,
+        RelNode input,
+        RelCollation collation,
+        RexNode offset,
+        RexNode fetch
+    ) {
+        super(cluster, traits, input);
+
+        this.collation = collation;
+        this.offset = offset;
+        this.fetch = fetch;
+    }
+
+    public RelCollation getCollation() {
+        return collation;
+    }
+
+    public RexNode getOffset() {
+        return offset;
+    }
+
+    public RexNode getFetch() {
+        return fetch;
+    }
+
+    @Override
+    public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new SortMergeExchangePhysicalRel(getCluster(), traitSet, sole(inputs), collation, offset, fetch);
+    }
+
+    @Override
+    public void visit(PhysicalRelVisitor visitor) {
+        ((PhysicalRel) input).visit(visitor);
+
+        visitor.onSortMergeExchange(this);
+    }
+
+    @Override
+    public final RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw)
+            .itemIf("collation", collation.getFieldCollations(), !collation.getFieldCollations().isEmpty())
+            .itemIf("offset", offset, offset != null)
+            .itemIf("fetch", fetch, fetch != null);
+    }
+
+    @Override
+    public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        double rows = mq.getRowCount(getInput());
+        double cpu = CostUtils.getSortCpu(rows, getMemberCount());
+        double network = rows * CostUtils.getEstimatedRowWidth(getInput());
+
+        return planner.getCostFactory().makeCost(rows, cpu, network);
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical.index;
+
+import com.hazelcast.config.IndexType;
+import com.hazelcast.sql.impl.QueryParameterMetadata;
+import com.hazelcast.sql.impl.calcite.SqlToQueryType;
+import com.hazelcast.sql.impl.calcite.opt.physical.visitor.RexToExpressionVisitor;
+import com.hazelcast.sql.impl.exec.scan.index.IndexEqualsFilter;
+import com.hazelcast.sql.impl.exec.scan.index.IndexFilter;
+import com.hazelcast.sql.impl.exec.scan.index.IndexInFilter;
+import com.hazelcast.sql.impl.exec.scan.index.IndexRangeFilter;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.plan.node.PlanNodeFieldTypeProvider;
+import com.hazelcast.sql.impl.schema.TableField;
+import com.hazelcast.sql.impl.schema.map.AbstractMapTable;
+import com.hazelcast.sql.impl.schema.map.MapTableIndex;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Helper methods to resolve the part of the scan filter that could be evaluated through an index lookup.
+ * <p>
+ * Only single-column indexes are considered. The following conditions are supported:
+ * <ul>
+ *     <li>Equality: {@code column = constant} - all index types</li>
+ *     <li>IN: {@code column = constant1 OR column = constant2 ...} - all index types</li>
+ *     <li>Range: {@code column > constant1 AND column <= constant2}, either bound could be omitted - SORTED index only</li>
+ * </ul>
+ * A constant is a literal or a dynamic parameter, possibly wrapped into a CAST, that has the same type family as the
+ * column. The latter guarantees that the index lookup doesn't lose entries due to lossy conversion of the lookup value.
+ */
+public final class IndexResolver {
+    private IndexResolver() {
+        // No-op.
+    }
+
+    /**
+     * Create a condition that could be resolved through the given index.
+     *
+     * @param rexBuilder REX builder.
+     * @param index Index.
+     * @param table Table the index belongs to.
+     * @param filter Table filter.
+     * @return Index condition or {@code null} if the index cannot be used for the filter.
+     */
+    public static RexNode createIndexCondition(
+        RexBuilder rexBuilder,
+        MapTableIndex index,
+        AbstractMapTable table,
+        RexNode filter
+    ) {
+        if (filter == null || index.getFieldOrdinals().size() != 1) {
+            return null;
+        }
+
+        int ordinal = index.getFieldOrdinals().get(0);
+        QueryDataTypeFamily family = table.<TableField>getField(ordinal).getType().getTypeFamily();
+
+        if (family == QueryDataTypeFamily.OBJECT) {
+            return null;
+        }
+
+        List<RexNode> conjunctions = RelOptUtil.conjunctions(filter);
+
+        // Equality is the most selective condition, then IN, then range.
+        RexNode res = createEqualsCondition(conjunctions, ordinal, family);
+
+        if (res == null) {
+            res = createInCondition(conjunctions, ordinal, family);
+        }
+
+        if (res == null && index.getType() == IndexType.SORTED) {
+            res = createRangeCondition(rexBuilder, conjunctions, ordinal, family);
+        }
+
+        return res;
+    }
+
+    private static RexNode createEqualsCondition(List<RexNode> conjunctions, int ordinal, QueryDataTypeFamily family) {
+        for (RexNode conjunction : conjunctions) {
+            if (isColumnComparison(conjunction, ordinal, family, SqlKind.EQUALS)) {
+                return conjunction;
+            }
+        }
+
+        return null;
+    }
+
+    private static RexNode createInCondition(List<RexNode> conjunctions, int ordinal, QueryDataTypeFamily family) {
+        for (RexNode conjunction : conjunctions) {
+            if (isColumnIn(conjunction, ordinal, family)) {
+                return conjunction;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Create a range condition from at most one lower and one upper bound.
+     */
+    private static RexNode createRangeCondition(
+        RexBuilder rexBuilder,
+        List<RexNode> conjunctions,
+        int ordinal,
+        QueryDataTypeFamily family
+    ) {
+        RexNode lower = null;
+        RexNode upper = null;
+
+        for (RexNode conjunction : conjunctions) {
+            if (lower == null && isColumnComparison(conjunction, ordinal, family, SqlKind.GREATER_THAN,
+                SqlKind.GREATER_THAN_OR_EQUAL)) {
+                lower = conjunction;
+            } else if (upper == null && isColumnComparison(conjunction, ordinal, family, SqlKind.LESS_THAN,
+                SqlKind.LESS_THAN_OR_EQUAL)) {
+                upper = conjunction;
+            }
+        }
+
+        if (lower == null) {
+            return upper;
+        } else if (upper == null) {
+            return lower;
+        } else {
+            return RexUtil.composeConjunction(rexBuilder, Arrays.asList(lower, upper));
+        }
+    }
+
+    /**
+     * Convert the index condition created by {@link #createIndexCondition(RexBuilder, MapTableIndex, AbstractMapTable, RexNode)}
+     * to the index filter.
+     *
+     * @param indexExp Index condition.
+     * @param fieldTypeProvider Field types of the scan.
+     * @param parameterMetadata Parameter metadata.
+     * @return Index filter.
+     */
+    public static IndexFilter createIndexFilter(
+        RexNode indexExp,
+        PlanNodeFieldTypeProvider fieldTypeProvider,
+        QueryParameterMetadata parameterMetadata
+    ) {
+        RexToExpressionVisitor converter = new RexToExpressionVisitor(fieldTypeProvider, parameterMetadata);
+
+        switch (indexExp.getKind()) {
+            case EQUALS:
+                return new IndexEqualsFilter(getConstantOperand((RexCall) indexExp).accept(converter));
+
+            case OR:
+                List<RexNode> disjunctions = ((RexCall) indexExp).getOperands();
+                List<Expression<?>> values = new ArrayList<>(disjunctions.size());
+
+                for (RexNode disjunction : disjunctions) {
+                    values.add(getConstantOperand((RexCall) disjunction).accept(converter));
+                }
+
+                return new IndexInFilter(values);
+
+            default:
+                return createRangeFilter(indexExp, converter);
+        }
+    }
+
+    private static IndexFilter createRangeFilter(RexNode indexExp, RexToExpressionVisitor converter) {
+        Expression<?> from = null;
+        boolean fromInclusive = false;
+        Expression<?> to = null;
+        boolean toInclusive = false;
+
+        for (RexNode bound : RelOptUtil.conjunctions(indexExp)) {
+            RexCall call = (RexCall) bound;
+            Expression<?> value = getConstantOperand(call).accept(converter);
+            SqlKind kind = getColumnComparisonKind(call);
+
+            switch (kind) {
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    from = value;
+                    fromInclusive = kind == SqlKind.GREATER_THAN_OR_EQUAL;
+
+                    break;
+
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                    to = value;
+                    toInclusive = kind == SqlKind.LESS_THAN_OR_EQUAL;
+
+                    break;
+
+                default:
+                    throw new IllegalArgumentException("Unexpected index condition: " + indexExp);
+            }
+        }
+
+        return new IndexRangeFilter(from, fromInclusive, to, toInclusive);
+    }
+
+    private static boolean isColumnIn(RexNode node, int ordinal, QueryDataTypeFamily family) {
+        if (node.getKind() != SqlKind.OR) {
+            return false;
+        }
+
+        for (RexNode disjunction : ((RexCall) node).getOperands()) {
+            if (!isColumnComparison(disjunction, ordinal, family, SqlKind.EQUALS)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check whether the node is a comparison of the given column with a constant.
+     */
+    private static boolean isColumnComparison(RexNode node, int ordinal, QueryDataTypeFamily family, SqlKind... kinds) {
+        if (!(node instanceof RexCall) || ((RexCall) node).getOperands().size() != 2) {
+            return false;
+        }
+
+        RexCall call = (RexCall) node;
+
+        RexNode column;
+        RexNode constant;
+
+        if (call.getOperands().get(0) instanceof RexInputRef) {
+            column = call.getOperands().get(0);
+            constant = call.getOperands().get(1);
+        } else {
+            column = call.getOperands().get(1);
+            constant = call.getOperands().get(0);
+        }
+
+        if (!(column instanceof RexInputRef) || ((RexInputRef) column).getIndex() != ordinal || !isConstant(constant)) {
+            return false;
+        }
+
+        if (SqlToQueryType.map(constant.getType().getSqlTypeName()).getTypeFamily() != family) {
+            return false;
+        }
+
+        SqlKind kind = getColumnComparisonKind(call);
+
+        for (SqlKind expectedKind : kinds) {
+            if (kind == expectedKind) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isConstant(RexNode node) {
+        if (node instanceof RexLiteral || node instanceof RexDynamicParam) {
+            return true;
+        }
+
+        return node.getKind() == SqlKind.CAST && isConstant(((RexCall) node).getOperands().get(0));
+    }
+
+    /**
+     * @return comparison kind as if the column was the left operand
+     */
+    private static SqlKind getColumnComparisonKind(RexCall call) {
+        return call.getOperands().get(0) instanceof RexInputRef ? call.getKind() : call.getKind().reverse();
+    }
+
+    private static RexNode getConstantOperand(RexCall call) {
+        return call.getOperands().get(0) instanceof RexInputRef ? call.getOperands().get(1) : call.getOperands().get(0);
+    }
+}
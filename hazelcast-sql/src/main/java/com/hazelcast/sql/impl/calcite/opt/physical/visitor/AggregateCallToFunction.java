@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical.visitor;
+
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.calcite.SqlToQueryType;
+import com.hazelcast.sql.impl.exec.agg.AggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.CountAggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.MaxAggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.MinAggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.SumAggregateFunction;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.plan.node.PlanNodeFieldTypeProvider;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import org.apache.calcite.rel.core.AggregateCall;
+
+/**
+ * Utility methods for conversion of Calcite aggregate calls to Hazelcast aggregate functions.
+ */
+public final class AggregateCallToFunction {
+
+    private AggregateCallToFunction() {
+        // No-op.
+    }
+
+    /**
+     * Converts the given aggregate call to an aggregate function.
+     *
+     * @param fieldTypeProvider Provider of the input field types.
+     * @param call Aggregate call.
+     * @return Aggregate function.
+     */
+    public static AggregateFunction convert(PlanNodeFieldTypeProvider fieldTypeProvider, AggregateCall call) {
+        Expression<?> operand = null;
+
+        if (!call.getArgList().isEmpty()) {
+            assert call.getArgList().size() == 1;
+
+            int index = call.getArgList().get(0);
+
+            operand = ColumnExpression.create(index, fieldTypeProvider.getType(index));
+        }
+
+        QueryDataType resultType = SqlToQueryType.map(call.getType().getSqlTypeName());
+
+        switch (call.getAggregation().getKind()) {
+            case COUNT:
+                return new CountAggregateFunction(operand);
+
+            case SUM:
+                return new SumAggregateFunction(operand, resultType, false);
+
+            case SUM0:
+                return new SumAggregateFunction(operand, resultType, true);
+
+            case MIN:
+                return new MinAggregateFunction(operand, resultType);
+
+            case MAX:
+                return new MaxAggregateFunction(operand, resultType);
+
+            default:
+                throw QueryException.error("Unsupported aggregate function: " + call.getAggregation().getName());
+        }
+    }
+}
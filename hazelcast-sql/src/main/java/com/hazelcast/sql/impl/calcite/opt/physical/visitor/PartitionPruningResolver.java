@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical.visitor;
+
+import com.hazelcast.sql.impl.QueryParameterMetadata;
+import com.hazelcast.sql.impl.calcite.SqlToQueryType;
+import com.hazelcast.sql.impl.expression.CastExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.plan.node.PlanNodeFieldTypeProvider;
+import com.hazelcast.sql.impl.schema.map.AbstractMapTable;
+import com.hazelcast.sql.impl.schema.map.MapTableField;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+import com.hazelcast.sql.impl.type.converter.Converter;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Utility methods to resolve the keys accessed by a map scan, so that the scan could be restricted to the partitions
+ * of these keys.
+ * <p>
+ * The following conditions on the {@code __key} column are supported:
+ * <ul>
+ *     <li>Equality: {@code __key = constant}</li>
+ *     <li>IN: {@code __key = constant1 OR __key = constant2 ...}</li>
+ * </ul>
+ * A constant is a literal or a dynamic parameter, possibly wrapped into a CAST. The partition of a key is calculated
+ * from its serialized form, so the constant must be converted to exactly the same class as the keys of the map, and
+ * values that are equal in SQL must have the same serialized form. Therefore the constant must have the same type
+ * family as the column. Integer types are the only exception: they could be mixed, because integer comparison is
+ * exact, and the column might be widened with an implicit CAST.
+ */
+final class PartitionPruningResolver {
+    private PartitionPruningResolver() {
+        // No-op.
+    }
+
+    /**
+     * Resolve the keys accessed by the scan.
+     *
+     * @param table Table.
+     * @param filter Table filter.
+     * @param fieldTypeProvider Field types of the scan.
+     * @param parameterMetadata Parameter metadata.
+     * @return Key expressions of the key type, or {@code null} if the scan may access any key.
+     */
+    static List<Expression<?>> resolveKeys(
+        AbstractMapTable table,
+        RexNode filter,
+        PlanNodeFieldTypeProvider fieldTypeProvider,
+        QueryParameterMetadata parameterMetadata
+    ) {
+        if (filter == null) {
+            return null;
+        }
+
+        int keyOrdinal = getKeyOrdinal(table);
+
+        if (keyOrdinal == -1) {
+            return null;
+        }
+
+        QueryDataType keyType = table.<MapTableField>getField(keyOrdinal).getType();
+
+        if (!isSupported(keyType)) {
+            return null;
+        }
+
+        List<RexNode> constants = null;
+
+        for (RexNode conjunction : RelOptUtil.conjunctions(filter)) {
+            constants = getConstants(conjunction, keyOrdinal, keyType.getTypeFamily());
+
+            if (constants != null) {
+                break;
+            }
+        }
+
+        if (constants == null) {
+            return null;
+        }
+
+        RexToExpressionVisitor converter = new RexToExpressionVisitor(fieldTypeProvider, parameterMetadata);
+
+        List<Expression<?>> res = new ArrayList<>(constants.size());
+
+        for (RexNode constant : constants) {
+            Expression<?> key = constant.accept(converter);
+
+            if (!key.getType().equals(keyType)) {
+                key = CastExpression.create(key, keyType);
+            }
+
+            res.add(key);
+        }
+
+        return res;
+    }
+
+    private static int getKeyOrdinal(AbstractMapTable table) {
+        for (int i = 0; i < table.getFieldCount(); i++) {
+            MapTableField field = table.getField(i);
+
+            if (field.getPath().isKey() && field.getPath().isTop()) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Check whether the partition of a key could be calculated from a value of the given type. Approximate numerics,
+     * decimals and timestamps with time zones are not supported, because distinct values of these types might be equal
+     * in SQL.
+     */
+    private static boolean isSupported(QueryDataType keyType) {
+        Converter converter = keyType.getConverter();
+
+        if (converter.getValueClass() != converter.getNormalizedValueClass()) {
+            return false;
+        }
+
+        switch (keyType.getTypeFamily()) {
+            case VARCHAR:
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return Constants of the equality or IN condition on the key column, or {@code null} if the node is not such
+     * condition.
+     */
+    private static List<RexNode> getConstants(RexNode node, int keyOrdinal, QueryDataTypeFamily keyFamily) {
+        if (node.getKind() == SqlKind.EQUALS) {
+            RexNode constant = getConstant((RexCall) node, keyOrdinal, keyFamily);
+
+            return constant != null ? Collections.singletonList(constant) : null;
+        }
+
+        if (node.getKind() == SqlKind.OR) {
+            List<RexNode> disjunctions = ((RexCall) node).getOperands();
+            List<RexNode> res = new ArrayList<>(disjunctions.size());
+
+            for (RexNode disjunction : disjunctions) {
+                RexNode constant = disjunction.getKind() == SqlKind.EQUALS
+                    ? getConstant((RexCall) disjunction, keyOrdinal, keyFamily) : null;
+
+                if (constant == null) {
+                    return null;
+                }
+
+                res.add(constant);
+            }
+
+            return res;
+        }
+
+        return null;
+    }
+
+    private static RexNode getConstant(RexCall call, int keyOrdinal, QueryDataTypeFamily keyFamily) {
+        RexNode first = call.getOperands().get(0);
+        RexNode second = call.getOperands().get(1);
+
+        RexNode constant;
+
+        if (isKeyColumn(first, keyOrdinal, keyFamily)) {
+            constant = second;
+        } else if (isKeyColumn(second, keyOrdinal, keyFamily)) {
+            constant = first;
+        } else {
+            return null;
+        }
+
+        if (!isConstant(constant) || !isCompatible(keyFamily, family(constant))) {
+            return null;
+        }
+
+        return constant;
+    }
+
+    /**
+     * Check whether the node is the key column, possibly widened with a CAST to a larger integer type.
+     */
+    private static boolean isKeyColumn(RexNode node, int keyOrdinal, QueryDataTypeFamily keyFamily) {
+        if (node instanceof RexInputRef) {
+            return ((RexInputRef) node).getIndex() == keyOrdinal;
+        }
+
+        if (node.getKind() == SqlKind.CAST && isInteger(keyFamily)) {
+            QueryDataTypeFamily targetFamily = family(node);
+
+            return isInteger(targetFamily)
+                && targetFamily.ordinal() >= keyFamily.ordinal()
+                && isKeyColumn(((RexCall) node).getOperands().get(0), keyOrdinal, keyFamily);
+        }
+
+        return false;
+    }
+
+    private static boolean isConstant(RexNode node) {
+        if (node instanceof RexLiteral || node instanceof RexDynamicParam) {
+            return true;
+        }
+
+        return node.getKind() == SqlKind.CAST && isConstant(((RexCall) node).getOperands().get(0));
+    }
+
+    private static boolean isCompatible(QueryDataTypeFamily keyFamily, QueryDataTypeFamily constantFamily) {
+        return keyFamily == constantFamily || isInteger(keyFamily) && isInteger(constantFamily);
+    }
+
+    private static boolean isInteger(QueryDataTypeFamily family) {
+        switch (family) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    private static QueryDataTypeFamily family(RexNode node) {
+        return SqlToQueryType.map(node.getType().getSqlTypeName()).getTypeFamily();
+    }
+}
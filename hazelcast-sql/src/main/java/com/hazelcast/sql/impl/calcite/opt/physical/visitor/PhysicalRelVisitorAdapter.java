@@ -16,12 +16,19 @@
 
 package com.hazelcast.sql.impl.calcite.opt.physical.visitor;
 
+import com.hazelcast.sql.impl.calcite.opt.physical.AggregatePhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.FilterPhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.HashJoinPhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.MapIndexScanPhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.MapScanPhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.PhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.ProjectPhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.RootPhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.SortPhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.BroadcastExchangePhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.exchange.RootExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.SortMergeExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.UnicastExchangePhysicalRel;
 
 /**
  * Convenient adapter for physical visitor which delegates all calls to a single method.
@@ -37,6 +44,11 @@ public abstract class PhysicalRelVisitorAdapter implements PhysicalRelVisitor {
         onNode(rel);
     }
 
+    @Override
+    public void onMapIndexScan(MapIndexScanPhysicalRel rel) {
+        onNode(rel);
+    }
+
     @Override
     public void onRootExchange(RootExchangePhysicalRel rel) {
         onNode(rel);
@@ -52,5 +64,35 @@ public abstract class PhysicalRelVisitorAdapter implements PhysicalRelVisitor {
         onNode(rel);
     }
 
+    @Override
+    public void onAggregate(AggregatePhysicalRel rel) {
+        onNode(rel);
+    }
+
+    @Override
+    public void onSort(SortPhysicalRel rel) {
+        onNode(rel);
+    }
+
+    @Override
+    public void onSortMergeExchange(SortMergeExchangePhysicalRel rel) {
+        onNode(rel);
+    }
+
+    @Override
+    public void onHashJoin(HashJoinPhysicalRel rel) {
+        onNode(rel);
+    }
+
+    @Override
+    public void onBroadcastExchange(BroadcastExchangePhysicalRel rel) {
+        onNode(rel);
+    }
+
+    @Override
+    public void onUnicastExchange(UnicastExchangePhysicalRel rel) {
+        onNode(rel);
+    }
+
     protected abstract void onNode(PhysicalRel rel);
 }
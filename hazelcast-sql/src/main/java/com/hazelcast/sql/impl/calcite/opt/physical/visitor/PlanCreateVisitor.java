@@ -21,32 +21,54 @@ import com.hazelcast.sql.SqlColumnMetadata;
 import com.hazelcast.sql.SqlRowMetadata;
 import com.hazelcast.sql.impl.QueryParameterMetadata;
 import com.hazelcast.sql.impl.QueryUtils;
+import com.hazelcast.sql.impl.calcite.opt.physical.AggregatePhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.FilterPhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.HashJoinPhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.MapIndexScanPhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.MapScanPhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.PhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.ProjectPhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.RootPhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.SortPhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.exchange.AbstractExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.BroadcastExchangePhysicalRel;
 import com.hazelcast.sql.impl.calcite.opt.physical.exchange.RootExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.SortMergeExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.UnicastExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.index.IndexResolver;
 import com.hazelcast.sql.impl.calcite.schema.HazelcastTable;
+import com.hazelcast.sql.impl.exec.agg.AggregateFunction;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.plan.Plan;
 import com.hazelcast.sql.impl.plan.PlanFragmentMapping;
+import com.hazelcast.sql.impl.plan.PlanPartitionPruning;
 import com.hazelcast.sql.impl.plan.cache.PlanCacheKey;
 import com.hazelcast.sql.impl.plan.cache.PlanObjectKey;
+import com.hazelcast.sql.impl.plan.node.AggregatePlanNode;
 import com.hazelcast.sql.impl.plan.node.FilterPlanNode;
+import com.hazelcast.sql.impl.plan.node.HashJoinPlanNode;
+import com.hazelcast.sql.impl.plan.node.MapIndexScanPlanNode;
 import com.hazelcast.sql.impl.plan.node.MapScanPlanNode;
 import com.hazelcast.sql.impl.plan.node.PlanNode;
 import com.hazelcast.sql.impl.plan.node.PlanNodeFieldTypeProvider;
 import com.hazelcast.sql.impl.plan.node.PlanNodeSchema;
 import com.hazelcast.sql.impl.plan.node.ProjectPlanNode;
 import com.hazelcast.sql.impl.plan.node.RootPlanNode;
+import com.hazelcast.sql.impl.plan.node.SortPlanNode;
+import com.hazelcast.sql.impl.plan.node.io.BroadcastSendPlanNode;
 import com.hazelcast.sql.impl.plan.node.io.ReceivePlanNode;
+import com.hazelcast.sql.impl.plan.node.io.ReceiveSortMergePlanNode;
 import com.hazelcast.sql.impl.plan.node.io.RootSendPlanNode;
+import com.hazelcast.sql.impl.plan.node.io.UnicastSendPlanNode;
 import com.hazelcast.sql.impl.schema.map.AbstractMapTable;
 import com.hazelcast.sql.impl.schema.map.MapTableField;
+import com.hazelcast.sql.impl.schema.map.MapTableIndex;
 import com.hazelcast.sql.impl.type.QueryDataType;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rex.RexNode;
 
 import java.util.ArrayDeque;
@@ -70,7 +92,7 @@ import java.util.UUID;
  * created, and then exchange is converted into a pair of appropriate send/receive operators. Send operator is added to the
  * previous fragment, receive operator is a starting point for the new fragment.
  */
-@SuppressWarnings("rawtypes")
+@SuppressWarnings({"rawtypes", "checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
 public class PlanCreateVisitor implements PhysicalRelVisitor {
     /** ID of query coordinator. */
     private final UUID localMemberId;
@@ -122,6 +144,9 @@ public class PlanCreateVisitor implements PhysicalRelVisitor {
     /** Collected IDs of objects used in the plan. */
     private final Set<PlanObjectKey> objectIds = new HashSet<>();
 
+    /** Keys accessed by map scans, or {@code null} if some scan accesses all partitions. */
+    private Map<String, List<Expression<?>>> partitionPruningKeys = new HashMap<>();
+
     public PlanCreateVisitor(
         UUID localMemberId,
         Map<UUID, PartitionIdSet> partMap,
@@ -170,8 +195,15 @@ public class PlanCreateVisitor implements PhysicalRelVisitor {
         assert rootPhysicalRel != null;
         assert rowMetadata != null;
 
+        PlanPartitionPruning partitionPruning = null;
+
+        if (partitionPruningKeys != null && !partitionPruningKeys.isEmpty()) {
+            partitionPruning = new PlanPartitionPruning(partitionPruningKeys);
+        }
+
         return new Plan(
             partMap,
+            partitionPruning,
             fragments,
             fragmentMappings,
             outboundEdgeMap,
@@ -234,6 +266,36 @@ public class PlanCreateVisitor implements PhysicalRelVisitor {
 
         pushUpstream(scanNode);
 
+        addPartitionPruningKeys(table, schemaBefore, hazelcastTable.getFilter());
+
+        objectIds.add(table.getObjectKey());
+    }
+
+    @Override
+    public void onMapIndexScan(MapIndexScanPhysicalRel rel) {
+        HazelcastTable hazelcastTable = rel.getTableUnwrapped();
+        AbstractMapTable table = rel.getMap();
+        MapTableIndex index = rel.getIndex();
+
+        PlanNodeSchema schemaBefore = getScanSchemaBeforeProject(table);
+
+        MapIndexScanPlanNode scanNode = new MapIndexScanPlanNode(
+            pollId(rel),
+            table.getName(),
+            table.getKeyDescriptor(),
+            table.getValueDescriptor(),
+            getScanFieldPaths(table),
+            schemaBefore.getTypes(),
+            hazelcastTable.getProjects(),
+            index.getName(),
+            IndexResolver.createIndexFilter(rel.getIndexExp(), schemaBefore, parameterMetadata),
+            convertFilter(schemaBefore, hazelcastTable.getFilter())
+        );
+
+        pushUpstream(scanNode);
+
+        addPartitionPruningKeys(table, schemaBefore, hazelcastTable.getFilter());
+
         objectIds.add(table.getObjectKey());
     }
 
@@ -302,6 +364,156 @@ public class PlanCreateVisitor implements PhysicalRelVisitor {
         pushUpstream(filterNode);
     }
 
+    @Override
+    public void onAggregate(AggregatePhysicalRel rel) {
+        PlanNode upstreamNode = pollSingleUpstream();
+
+        List<AggregateCall> calls = rel.getAggCallList();
+        List<AggregateFunction> functions = new ArrayList<>(calls.size());
+
+        for (AggregateCall call : calls) {
+            functions.add(AggregateCallToFunction.convert(upstreamNode.getSchema(), call));
+        }
+
+        AggregatePlanNode aggregateNode = new AggregatePlanNode(
+            pollId(rel),
+            upstreamNode,
+            rel.getGroupSet().asList(),
+            functions
+        );
+
+        pushUpstream(aggregateNode);
+    }
+
+    @Override
+    public void onSort(SortPhysicalRel rel) {
+        PlanNode upstreamNode = pollSingleUpstream();
+
+        RelCollation collation = rel.getCollation();
+
+        SortPlanNode sortNode = new SortPlanNode(
+            pollId(rel),
+            upstreamNode,
+            getSortColumns(collation),
+            getSortAscending(collation),
+            convertExpression(upstreamNode.getSchema(), rel.fetch),
+            convertExpression(upstreamNode.getSchema(), rel.offset)
+        );
+
+        pushUpstream(sortNode);
+    }
+
+    @Override
+    public void onSortMergeExchange(SortMergeExchangePhysicalRel rel) {
+        // Get upstream node.
+        PlanNode upstreamNode = pollSingleUpstream();
+
+        // Create sender and push it as a fragment.
+        int edge = nextEdge();
+
+        int id = pollId(rel);
+
+        RootSendPlanNode sendNode = new RootSendPlanNode(
+            id,
+            upstreamNode,
+            edge
+        );
+
+        addFragment(sendNode, dataMemberMapping());
+
+        // Create receiver which merges sorted streams.
+        RelCollation collation = rel.getCollation();
+
+        ReceiveSortMergePlanNode receiveNode = new ReceiveSortMergePlanNode(
+            id,
+            edge,
+            sendNode.getSchema().getTypes(),
+            getSortColumns(collation),
+            getSortAscending(collation),
+            convertExpression(sendNode.getSchema(), rel.getFetch()),
+            convertExpression(sendNode.getSchema(), rel.getOffset())
+        );
+
+        pushUpstream(receiveNode);
+    }
+
+    @Override
+    public void onHashJoin(HashJoinPhysicalRel rel) {
+        PlanNode rightNode = pollSingleUpstream();
+        PlanNode leftNode = pollSingleUpstream();
+
+        PlanNodeSchema schema = PlanNodeSchema.combine(leftNode.getSchema(), rightNode.getSchema());
+
+        HashJoinPlanNode joinNode = new HashJoinPlanNode(
+            pollId(rel),
+            leftNode,
+            rightNode,
+            rel.getLeftHashKeys(),
+            rel.getRightHashKeys(),
+            convertFilter(schema, rel.getRemainingCondition()),
+            rel.getJoinType() == JoinRelType.LEFT
+        );
+
+        pushUpstream(joinNode);
+    }
+
+    @Override
+    public void onBroadcastExchange(BroadcastExchangePhysicalRel rel) {
+        // Get upstream node.
+        PlanNode upstreamNode = pollSingleUpstream();
+
+        // Create sender and push it as a fragment.
+        int edge = nextEdge();
+
+        int id = pollId(rel);
+
+        BroadcastSendPlanNode sendNode = new BroadcastSendPlanNode(
+            id,
+            upstreamNode,
+            edge
+        );
+
+        addFragment(sendNode, dataMemberMapping());
+
+        // Create receiver.
+        ReceivePlanNode receiveNode = new ReceivePlanNode(
+            id,
+            edge,
+            sendNode.getSchema().getTypes()
+        );
+
+        pushUpstream(receiveNode);
+    }
+
+    @Override
+    public void onUnicastExchange(UnicastExchangePhysicalRel rel) {
+        // Get upstream node.
+        PlanNode upstreamNode = pollSingleUpstream();
+
+        // Create sender and push it as a fragment.
+        int edge = nextEdge();
+
+        int id = pollId(rel);
+
+        UnicastSendPlanNode sendNode = new UnicastSendPlanNode(
+            id,
+            upstreamNode,
+            edge,
+            rel.getHashKeys()
+        );
+
+        addFragment(sendNode, dataMemberMapping());
+
+        // Create receiver.
+        ReceivePlanNode receiveNode = new ReceivePlanNode(
+            id,
+            edge,
+            sendNode.getSchema().getTypes()
+        );
+
+        pushUpstream(receiveNode);
+    }
+
     /**
      * Push node to upstream stack.
      *
@@ -371,6 +583,24 @@ public class PlanCreateVisitor implements PhysicalRelVisitor {
         return expression.accept(converter);
     }
 
+    /**
+     * Collect the keys accessed by the scan. If the scan may access any key, partition pruning is disabled for the whole
+     * plan.
+     */
+    private void addPartitionPruningKeys(AbstractMapTable table, PlanNodeSchema schema, RexNode filter) {
+        if (partitionPruningKeys == null) {
+            return;
+        }
+
+        List<Expression<?>> keys = PartitionPruningResolver.resolveKeys(table, filter, schema, parameterMetadata);
+
+        if (keys == null) {
+            partitionPruningKeys = null;
+        } else {
+            partitionPruningKeys.computeIfAbsent(table.getName(), (k) -> new ArrayList<>()).addAll(keys);
+        }
+    }
+
     private static PlanNodeSchema getScanSchemaBeforeProject(AbstractMapTable table) {
         List<QueryDataType> types = new ArrayList<>(table.getFieldCount());
 
@@ -395,6 +625,26 @@ public class PlanCreateVisitor implements PhysicalRelVisitor {
         return res;
     }
 
+    private static List<Integer> getSortColumns(RelCollation collation) {
+        List<Integer> res = new ArrayList<>(collation.getFieldCollations().size());
+
+        for (RelFieldCollation fieldCollation : collation.getFieldCollations()) {
+            res.add(fieldCollation.getFieldIndex());
+        }
+
+        return res;
+    }
+
+    private static List<Boolean> getSortAscending(RelCollation collation) {
+        List<Boolean> res = new ArrayList<>(collation.getFieldCollations().size());
+
+        for (RelFieldCollation fieldCollation : collation.getFieldCollations()) {
+            res.add(!fieldCollation.getDirection().isDescending());
+        }
+
+        return res;
+    }
+
     private PlanFragmentMapping dataMemberMapping() {
         return new PlanFragmentMapping(memberIds, true);
     }
@@ -25,11 +25,11 @@ import org.apache.calcite.sql.SqlDataTypeSpec;
 import org.apache.calcite.sql.SqlDynamicParam;
 import org.apache.calcite.sql.SqlIdentifier;
 import org.apache.calcite.sql.SqlIntervalQualifier;
+import org.apache.calcite.sql.SqlJoin;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlLiteral;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.SqlNodeList;
-import org.apache.calcite.sql.SqlSelect;
 import org.apache.calcite.sql.SqlUserDefinedTypeNameSpec;
 import org.apache.calcite.sql.SqlUtil;
 import org.apache.calcite.sql.type.SqlTypeName;
@@ -91,6 +91,22 @@ public final class UnsupportedOperationVisitor implements SqlVisitor<Void> {
         // Miscellaneous
         SUPPORTED_KINDS.add(SqlKind.AS);
         SUPPORTED_KINDS.add(SqlKind.CAST);
+
+        // Sorting
+        SUPPORTED_KINDS.add(SqlKind.DESCENDING);
+    }
+
+    /** A set of supported aggregate functions. DISTINCT aggregates are validated separately. */
+    private static final Set<SqlKind> SUPPORTED_AGGREGATE_KINDS;
+
+    static {
+        SUPPORTED_AGGREGATE_KINDS = new HashSet<>();
+
+        SUPPORTED_AGGREGATE_KINDS.add(SqlKind.COUNT);
+        SUPPORTED_AGGREGATE_KINDS.add(SqlKind.SUM);
+        SUPPORTED_AGGREGATE_KINDS.add(SqlKind.AVG);
+        SUPPORTED_AGGREGATE_KINDS.add(SqlKind.MIN);
+        SUPPORTED_AGGREGATE_KINDS.add(SqlKind.MAX);
     }
 
     private UnsupportedOperationVisitor() {
@@ -186,6 +202,9 @@ public final class UnsupportedOperationVisitor implements SqlVisitor<Void> {
             case CHAR:
             case ANY:
             case NULL:
+            // SYMBOL is present here to support flags of the supported calls, such as the type of a join. Such
+            // literals cannot be specified by users directly.
+            case SYMBOL:
                 return null;
 
             default:
@@ -205,9 +224,18 @@ public final class UnsupportedOperationVisitor implements SqlVisitor<Void> {
             return;
         }
 
+        if (SUPPORTED_AGGREGATE_KINDS.contains(kind)) {
+            processAggregate(call);
+
+            return;
+        }
+
         switch (kind) {
             case SELECT:
-                processSelect((SqlSelect) call);
+                return;
+
+            case JOIN:
+                processJoin((SqlJoin) call);
 
                 return;
 
@@ -216,21 +244,22 @@ public final class UnsupportedOperationVisitor implements SqlVisitor<Void> {
         }
     }
 
-    private void processSelect(SqlSelect select) {
-        if (select.hasOrderBy()) {
-            throw unsupported(select.getOrderList(), SqlKind.ORDER_BY);
-        }
-
-        if (select.getGroup() != null && select.getGroup().size() > 0) {
-            throw unsupported(select.getGroup(), "GROUP BY");
-        }
+    private void processJoin(SqlJoin join) {
+        switch (join.getJoinType()) {
+            case INNER:
+            case LEFT:
+            case COMMA:
+            case CROSS:
+                return;
 
-        if (select.getFetch() != null) {
-            throw unsupported(select.getFetch(), "LIMIT");
+            default:
+                throw unsupported(join.getJoinTypeNode(), join.getJoinType().name() + " JOIN");
         }
+    }
 
-        if (select.getOffset() != null) {
-            throw unsupported(select.getOffset(), "OFFSET");
+    private void processAggregate(SqlCall call) {
+        if (call.getFunctionQuantifier() != null) {
+            throw unsupported(call.getFunctionQuantifier(), "DISTINCT aggregate");
         }
     }
 
@@ -239,10 +268,6 @@ public final class UnsupportedOperationVisitor implements SqlVisitor<Void> {
         return unsupported(call, name.replace("$", "").replace('_', ' '));
     }
 
-    private CalciteContextException unsupported(SqlNode node, SqlKind kind) {
-        return unsupported(node, kind.sql.replace('_', ' '));
-    }
-
     private CalciteContextException unsupported(SqlNode node, String name) {
         return error(node, RESOURCE.notSupported(name));
     }
@@ -27,7 +27,6 @@ import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelReferentialConstraint;
-import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeField;
@@ -184,7 +183,7 @@ public class HazelcastTable extends AbstractTable {
         if (filter == null) {
             return statistic;
         } else {
-            Double selectivity = RelMdUtil.guessSelectivity(filter);
+            Double selectivity = CostUtils.estimateSelectivity(filter, target.getStatistics());
 
             double rowCount = CostUtils.adjustFilteredRowCount(statistic.getRowCount(), selectivity);
 
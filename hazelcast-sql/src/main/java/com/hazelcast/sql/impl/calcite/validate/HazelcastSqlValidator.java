@@ -27,6 +27,7 @@ import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlLiteral;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.SqlOperatorTable;
+import org.apache.calcite.sql.SqlSelect;
 import org.apache.calcite.sql.SqlUtil;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.sql.validate.SelectScope;
@@ -151,6 +152,21 @@ public class HazelcastSqlValidator extends SqlValidatorImpl {
         super.validateCall(call, scope);
     }
 
+    @Override
+    protected void validateSelect(SqlSelect select, RelDataType targetRowType) {
+        super.validateSelect(select, targetRowType);
+
+        // Calcite assigns types to OFFSET and FETCH parameters, but not to literals.
+        deriveOffsetFetchType(select.getOffset());
+        deriveOffsetFetchType(select.getFetch());
+    }
+
+    private void deriveOffsetFetchType(SqlNode node) {
+        if (node instanceof SqlLiteral) {
+            deriveType(getEmptyScope(), node);
+        }
+    }
+
     @Override
     protected SqlNode performUnconditionalRewrites(SqlNode node, boolean underFrom) {
         SqlNode rewritten = super.performUnconditionalRewrites(node, underFrom);
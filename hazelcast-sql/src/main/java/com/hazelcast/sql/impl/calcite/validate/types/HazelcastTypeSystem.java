@@ -25,6 +25,7 @@ import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.sql.impl.type.converter.Converter;
 import com.hazelcast.sql.impl.type.converter.Converters;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeSystem;
 import org.apache.calcite.rel.type.RelDataTypeSystemImpl;
 import org.apache.calcite.sql.SqlIdentifier;
@@ -330,6 +331,52 @@ public final class HazelcastTypeSystem extends RelDataTypeSystemImpl {
         return MAX_DECIMAL_SCALE;
     }
 
+    /**
+     * Integer sums are widened to BIGINT, floating-point sums to DOUBLE,
+     * DECIMAL sums remain DECIMAL.
+     */
+    @Override
+    public RelDataType deriveSumType(RelDataTypeFactory typeFactory, RelDataType argumentType) {
+        SqlTypeName resultTypeName;
+
+        if (isInteger(argumentType)) {
+            resultTypeName = BIGINT;
+        } else if (isFloatingPoint(argumentType)) {
+            resultTypeName = DOUBLE;
+        } else if (typeName(argumentType) == DECIMAL) {
+            resultTypeName = DECIMAL;
+        } else {
+            return super.deriveSumType(typeFactory, argumentType);
+        }
+
+        return createAggregateType(typeFactory, resultTypeName, argumentType.isNullable());
+    }
+
+    /**
+     * Averages of exact numeric values are computed as DECIMAL, averages of
+     * floating-point values as DOUBLE.
+     */
+    @Override
+    public RelDataType deriveAvgAggType(RelDataTypeFactory typeFactory, RelDataType argumentType) {
+        SqlTypeName resultTypeName;
+
+        if (isInteger(argumentType) || typeName(argumentType) == DECIMAL) {
+            resultTypeName = DECIMAL;
+        } else if (isFloatingPoint(argumentType)) {
+            resultTypeName = DOUBLE;
+        } else {
+            return super.deriveAvgAggType(typeFactory, argumentType);
+        }
+
+        return createAggregateType(typeFactory, resultTypeName, argumentType.isNullable());
+    }
+
+    private static RelDataType createAggregateType(RelDataTypeFactory typeFactory, SqlTypeName typeName, boolean nullable) {
+        RelDataType type = typeFactory.createSqlType(typeName);
+
+        return typeFactory.createTypeWithNullability(type, nullable);
+    }
+
     private static int precedenceOf(RelDataType type) {
         SqlTypeName typeName = type.getSqlTypeName();
 
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.expression.math.ExpressionMath;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test that covers GROUP BY and aggregate functions through SQL.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SqlAggregateTest extends SqlTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+    private static final int GROUP_COUNT = 10;
+
+    private static final String MAP_NAME = "map";
+
+    private static final TestHazelcastInstanceFactory FACTORY = new TestHazelcastInstanceFactory(2);
+
+    private static HazelcastInstance member;
+
+    @BeforeClass
+    public static void beforeClass() {
+        member = FACTORY.newHazelcastInstance();
+        FACTORY.newHazelcastInstance();
+
+        IMap<Integer, Value> map = member.getMap(MAP_NAME);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Value(i % GROUP_COUNT, value(i)));
+        }
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        FACTORY.shutdownAll();
+    }
+
+    @Test
+    public void testGroupBy() {
+        List<SqlRow> rows = execute(member, "SELECT grp, COUNT(*), COUNT(val), SUM(val), MIN(val), MAX(val) FROM "
+            + MAP_NAME + " GROUP BY grp");
+
+        assertEquals(GROUP_COUNT, rows.size());
+
+        for (SqlRow row : rows) {
+            int grp = row.getObject(0);
+
+            long count = 0;
+            long countNotNull = 0;
+            long sum = 0;
+            Integer min = null;
+            Integer max = null;
+
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                if (i % GROUP_COUNT != grp) {
+                    continue;
+                }
+
+                count++;
+
+                Integer value = value(i);
+
+                if (value != null) {
+                    countNotNull++;
+                    sum += value;
+                    min = min == null ? value : Math.min(min, value);
+                    max = max == null ? value : Math.max(max, value);
+                }
+            }
+
+            assertEquals(count, (long) row.getObject(1));
+            assertEquals(countNotNull, (long) row.getObject(2));
+            assertEquals(sum, (long) row.getObject(3));
+            assertEquals(min, row.getObject(4));
+            assertEquals(max, row.getObject(5));
+        }
+    }
+
+    @Test
+    public void testGlobalAggregate() {
+        List<SqlRow> rows = execute(member, "SELECT COUNT(*), SUM(val), AVG(val), AVG(CAST(val AS DOUBLE)) FROM " + MAP_NAME);
+
+        assertEquals(1, rows.size());
+
+        long count = 0;
+        long sum = 0;
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            Integer value = value(i);
+
+            if (value != null) {
+                count++;
+                sum += value;
+            }
+        }
+
+        SqlRow row = rows.get(0);
+
+        assertEquals(ENTRY_COUNT, (long) row.getObject(0));
+        assertEquals(sum, (long) row.getObject(1));
+        assertEquals(0, BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(count), ExpressionMath.DECIMAL_MATH_CONTEXT)
+            .compareTo(row.getObject(2)));
+        assertEquals((double) sum / count, row.<Double>getObject(3), 0.0001d);
+    }
+
+    @Test
+    public void testGlobalAggregateOnEmptyInput() {
+        List<SqlRow> rows = execute(member, "SELECT COUNT(*), SUM(val), MIN(val), AVG(val) FROM " + MAP_NAME
+            + " WHERE __key < 0");
+
+        assertEquals(1, rows.size());
+
+        SqlRow row = rows.get(0);
+
+        assertEquals(0L, (long) row.getObject(0));
+        assertNull(row.getObject(1));
+        assertNull(row.getObject(2));
+        assertNull(row.getObject(3));
+    }
+
+    @Test
+    public void testGroupByOnEmptyInput() {
+        List<SqlRow> rows = execute(member, "SELECT grp, COUNT(*) FROM " + MAP_NAME + " WHERE __key < 0 GROUP BY grp");
+
+        assertEquals(0, rows.size());
+    }
+
+    @Test
+    public void testHaving() {
+        List<SqlRow> rows = execute(member, "SELECT grp, COUNT(*) FROM " + MAP_NAME + " WHERE __key < 15 GROUP BY grp "
+            + "HAVING COUNT(*) > 1");
+
+        Map<Integer, Long> res = new HashMap<>();
+
+        for (SqlRow row : rows) {
+            res.put(row.getObject(0), row.getObject(1));
+        }
+
+        Map<Integer, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 5; i++) {
+            expected.put(i, 2L);
+        }
+
+        assertEquals(expected, res);
+    }
+
+    private static Integer value(int key) {
+        return key % 7 == 0 ? null : key;
+    }
+
+    @SuppressWarnings("unused")
+    public static class Value implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private int grp;
+        private Integer val;
+
+        public Value() {
+            // No-op.
+        }
+
+        public Value(int grp, Integer val) {
+            this.grp = grp;
+            this.val = val;
+        }
+
+        public int getGrp() {
+            return grp;
+        }
+
+        public Integer getVal() {
+            return val;
+        }
+    }
+}
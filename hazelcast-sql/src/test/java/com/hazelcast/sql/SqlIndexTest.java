@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql;
+
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.exec.Exec;
+import com.hazelcast.sql.impl.exec.scan.MapIndexScanExec;
+import com.hazelcast.test.HazelcastSerialParametersRunnerFactory;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntPredicate;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test that covers index scans through SQL.
+ */
+@RunWith(Parameterized.class)
+@UseParametersRunnerFactory(HazelcastSerialParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SqlIndexTest extends SqlTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private static final TestHazelcastInstanceFactory FACTORY = new TestHazelcastInstanceFactory(2);
+
+    private static HazelcastInstance member1;
+    private static HazelcastInstance member2;
+
+    private final AtomicBoolean indexScanUsed = new AtomicBoolean();
+
+    @Parameter
+    public IndexType indexType;
+
+    @Parameters(name = "indexType:{0}")
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(new Object[][] { { IndexType.SORTED }, { IndexType.HASH }, { IndexType.BITMAP } });
+    }
+
+    @BeforeClass
+    public static void beforeClass() {
+        member1 = FACTORY.newHazelcastInstance();
+        member2 = FACTORY.newHazelcastInstance();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        FACTORY.shutdownAll();
+    }
+
+    @Before
+    public void before() {
+        MapConfig mapConfig = new MapConfig(mapName()).addIndexConfig(new IndexConfig(indexType, "val"));
+
+        member1.getConfig().addMapConfig(mapConfig);
+
+        IMap<Integer, Value> map = member1.getMap(mapName());
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Value(i % 10));
+        }
+
+        setExecHook(member1, this::onExec);
+        setExecHook(member2, this::onExec);
+    }
+
+    @Test
+    public void testEquals() {
+        check("val = 5", true, val -> val == 5);
+        check("5 = val", true, val -> val == 5);
+        check("val = 100", true, val -> false);
+    }
+
+    @Test
+    public void testDisjunction() {
+        check("val = 1 OR val = 3", true, val -> val == 1 || val == 3);
+    }
+
+    @Test
+    public void testRange() {
+        boolean sorted = indexType == IndexType.SORTED;
+
+        check("val > 5", sorted, val -> val > 5);
+        check("val >= 5", sorted, val -> val >= 5);
+        check("val < 5", sorted, val -> val < 5);
+        check("5 > val", sorted, val -> val < 5);
+        check("val > 2 AND val <= 7", sorted, val -> val > 2 && val <= 7);
+    }
+
+    @Test
+    public void testIndexWithAdditionalFilter() {
+        check("val = 5 AND __key < 50", true, val -> val == 5, key -> key < 50);
+    }
+
+    private void check(String condition, boolean expectedIndexScan, IntPredicate valPredicate) {
+        check(condition, expectedIndexScan, valPredicate, key -> true);
+    }
+
+    private void check(String condition, boolean expectedIndexScan, IntPredicate valPredicate, IntPredicate keyPredicate) {
+        indexScanUsed.set(false);
+
+        Set<Integer> expectedKeys = new HashSet<>();
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            if (valPredicate.test(i % 10) && keyPredicate.test(i)) {
+                expectedKeys.add(i);
+            }
+        }
+
+        Set<Integer> keys = new HashSet<>();
+
+        for (SqlRow row : execute(member1, "SELECT __key FROM " + mapName() + " WHERE " + condition)) {
+            keys.add(row.getObject(0));
+        }
+
+        assertEquals(expectedKeys, keys);
+        assertEquals(expectedIndexScan, indexScanUsed.get());
+    }
+
+    private Exec onExec(Exec exec) {
+        if (exec instanceof MapIndexScanExec) {
+            indexScanUsed.set(true);
+        }
+
+        return exec;
+    }
+
+    private String mapName() {
+        return "map_" + indexType.name().toLowerCase();
+    }
+
+    @SuppressWarnings("unused")
+    public static class Value implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private int val;
+
+        public Value() {
+            // No-op.
+        }
+
+        public Value(int val) {
+            this.val = val;
+        }
+
+        public int getVal() {
+            return val;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test that covers joins through SQL.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SqlJoinTest extends SqlTestSupport {
+
+    private static final int ORDER_COUNT = 1000;
+    private static final int ORDER_CUSTOMER_COUNT = 60;
+    private static final int CUSTOMER_COUNT = 50;
+    private static final int AMOUNT_COUNT = 10;
+
+    private static final String ORDERS = "orders";
+    private static final String CUSTOMERS = "customers";
+
+    private static final TestHazelcastInstanceFactory FACTORY = new TestHazelcastInstanceFactory(3);
+
+    private static HazelcastInstance member;
+
+    @BeforeClass
+    public static void beforeClass() {
+        member = FACTORY.newHazelcastInstance();
+        FACTORY.newHazelcastInstance();
+        FACTORY.newHazelcastInstance();
+
+        IMap<Integer, Order> orders = member.getMap(ORDERS);
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orders.put(i, new Order(customer(i), amount(i)));
+        }
+
+        IMap<Integer, Customer> customers = member.getMap(CUSTOMERS);
+
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            customers.put(i, new Customer(name(i)));
+        }
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        FACTORY.shutdownAll();
+    }
+
+    @Test
+    public void testInnerJoin() {
+        List<SqlRow> rows = execute(
+            member,
+            "SELECT o.__key, c.name FROM " + ORDERS + " o JOIN " + CUSTOMERS + " c ON o.cust = c.__key"
+        );
+
+        assertEquals(matchedOrderCount(), rows.size());
+
+        for (SqlRow row : rows) {
+            int key = row.getObject(0);
+
+            assertEquals(name(customer(key)), row.getObject(1));
+        }
+    }
+
+    @Test
+    public void testCommaJoin() {
+        List<SqlRow> rows = execute(
+            member,
+            "SELECT o.__key, c.name FROM " + ORDERS + " o, " + CUSTOMERS + " c WHERE o.cust = c.__key"
+        );
+
+        assertEquals(matchedOrderCount(), rows.size());
+
+        for (SqlRow row : rows) {
+            int key = row.getObject(0);
+
+            assertEquals(name(customer(key)), row.getObject(1));
+        }
+    }
+
+    @Test
+    public void testLeftJoin() {
+        List<SqlRow> rows = execute(
+            member,
+            "SELECT o.__key, c.name FROM " + ORDERS + " o LEFT JOIN " + CUSTOMERS + " c ON o.cust = c.__key"
+        );
+
+        assertEquals(ORDER_COUNT, rows.size());
+
+        for (SqlRow row : rows) {
+            int key = row.getObject(0);
+            int customer = customer(key);
+
+            if (customer < CUSTOMER_COUNT) {
+                assertEquals(name(customer), row.getObject(1));
+            } else {
+                assertNull(row.getObject(1));
+            }
+        }
+    }
+
+    @Test
+    public void testLeftJoinWithConditionOnLeftInput() {
+        List<SqlRow> rows = execute(
+            member,
+            "SELECT o.__key, c.name FROM " + ORDERS + " o LEFT JOIN " + CUSTOMERS + " c "
+                + "ON o.cust = c.__key AND o.amount = 0"
+        );
+
+        assertEquals(ORDER_COUNT, rows.size());
+
+        for (SqlRow row : rows) {
+            int key = row.getObject(0);
+            int customer = customer(key);
+
+            if (customer < CUSTOMER_COUNT && amount(key) == 0) {
+                assertEquals(name(customer), row.getObject(1));
+            } else {
+                assertNull(row.getObject(1));
+            }
+        }
+    }
+
+    @Test
+    public void testNonEquiJoin() {
+        List<SqlRow> rows = execute(
+            member,
+            "SELECT COUNT(*) FROM " + ORDERS + " o JOIN " + CUSTOMERS + " c ON o.amount > c.__key"
+        );
+
+        long expected = 0;
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            expected += Math.min(amount(i), CUSTOMER_COUNT);
+        }
+
+        assertEquals(1, rows.size());
+        assertEquals(expected, (long) rows.get(0).getObject(0));
+    }
+
+    @Test
+    public void testSelfJoin() {
+        List<SqlRow> rows = execute(
+            member,
+            "SELECT o1.__key, o2.__key, o2.amount FROM " + ORDERS + " o1 JOIN " + ORDERS + " o2 ON o1.__key = o2.__key"
+        );
+
+        assertEquals(ORDER_COUNT, rows.size());
+
+        for (SqlRow row : rows) {
+            int key = row.getObject(0);
+
+            assertEquals(key, (int) row.getObject(1));
+            assertEquals(amount(key), (int) row.getObject(2));
+        }
+    }
+
+    @Test
+    public void testJoinWithAggregate() {
+        List<SqlRow> rows = execute(
+            member,
+            "SELECT c.name, COUNT(*) FROM " + ORDERS + " o JOIN " + CUSTOMERS + " c ON o.cust = c.__key GROUP BY c.name"
+        );
+
+        Map<String, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            int customer = customer(i);
+
+            if (customer < CUSTOMER_COUNT) {
+                expected.merge(name(customer), 1L, Long::sum);
+            }
+        }
+
+        Map<String, Long> actual = new HashMap<>();
+
+        for (SqlRow row : rows) {
+            actual.put(row.getObject(0), row.getObject(1));
+        }
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testJoinWithEmptyInput() {
+        List<SqlRow> rows = execute(
+            member,
+            "SELECT o.__key, c.name FROM " + ORDERS + " o JOIN " + CUSTOMERS + " c ON o.cust = c.__key WHERE c.__key < 0"
+        );
+
+        assertEquals(0, rows.size());
+    }
+
+    private static int matchedOrderCount() {
+        int res = 0;
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            if (customer(i) < CUSTOMER_COUNT) {
+                res++;
+            }
+        }
+
+        return res;
+    }
+
+    private static int customer(int key) {
+        return key % ORDER_CUSTOMER_COUNT;
+    }
+
+    private static int amount(int key) {
+        return key % AMOUNT_COUNT;
+    }
+
+    private static String name(int customer) {
+        return "customer-" + customer;
+    }
+
+    @SuppressWarnings("unused")
+    public static class Order implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private int cust;
+        private int amount;
+
+        public Order() {
+            // No-op.
+        }
+
+        public Order(int cust, int amount) {
+            this.cust = cust;
+            this.amount = amount;
+        }
+
+        public int getCust() {
+            return cust;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class Customer implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String name;
+
+        public Customer() {
+            // No-op.
+        }
+
+        public Customer(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastJsonValue;
+import com.hazelcast.map.IMap;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test that covers queries over maps with JSON values.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SqlJsonTest extends SqlTestSupport {
+
+    private static final int MEMBER_COUNT = 2;
+    private static final int ENTRY_COUNT = 100;
+
+    private static final String MAP_BINARY = "map_binary";
+    private static final String MAP_OBJECT = "map_object";
+
+    private static final TestHazelcastInstanceFactory FACTORY = new TestHazelcastInstanceFactory(MEMBER_COUNT);
+
+    private static HazelcastInstance member;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Config config = new Config()
+            .addMapConfig(new MapConfig(MAP_BINARY).setInMemoryFormat(InMemoryFormat.BINARY))
+            .addMapConfig(new MapConfig(MAP_OBJECT).setInMemoryFormat(InMemoryFormat.OBJECT));
+
+        member = FACTORY.newInstances(config, MEMBER_COUNT)[0];
+
+        for (String mapName : new String[] { MAP_BINARY, MAP_OBJECT }) {
+            IMap<Integer, HazelcastJsonValue> map = member.getMap(mapName);
+
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                map.put(i, new HazelcastJsonValue("{\"name\": \"name" + i + "\", \"age\": " + i + ", \"score\": " + i + ".5}"));
+            }
+        }
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        FACTORY.shutdownAll();
+    }
+
+    @Test
+    public void testFields() {
+        checkFields(MAP_BINARY);
+        checkFields(MAP_OBJECT);
+    }
+
+    private void checkFields(String mapName) {
+        Map<Integer, String> names = new TreeMap<>();
+
+        try (SqlResult res = member.getSql().query("SELECT __key, name, age, score FROM " + mapName + " WHERE age < 10")) {
+            for (SqlRow row : res) {
+                int key = row.getObject(0);
+
+                assertEquals(key, (long) row.getObject(2));
+                assertEquals(key + 0.5d, row.<Double>getObject(3), 0.0d);
+
+                names.put(key, row.getObject(1));
+            }
+        }
+
+        assertEquals(10, names.size());
+
+        for (Map.Entry<Integer, String> entry : names.entrySet()) {
+            assertEquals("name" + entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Test
+    public void testTopLevelObject() {
+        int count = 0;
+
+        try (SqlResult res = member.getSql().query("SELECT this FROM " + MAP_BINARY + " WHERE __key = 1")) {
+            for (SqlRow row : res) {
+                assertEquals(new HazelcastJsonValue("{\"name\": \"name1\", \"age\": 1, \"score\": 1.5}"), row.getObject(0));
+
+                count++;
+            }
+        }
+
+        assertEquals(1, count);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.map.IMap;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.exec.Exec;
+import com.hazelcast.sql.impl.exec.scan.MapScanExec;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that covers partition pruning for queries that restrict the {@code __key} column.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SqlPartitionPruningTest extends SqlTestSupport {
+
+    private static final int MEMBER_COUNT = 3;
+    private static final int ENTRY_COUNT = 100;
+
+    private static final String MAP_INT = "map_int";
+    private static final String MAP_STRING = "map_string";
+
+    private static final TestHazelcastInstanceFactory FACTORY = new TestHazelcastInstanceFactory(MEMBER_COUNT);
+
+    private static HazelcastInstance[] members;
+
+    /** Partitions scanned by every member. */
+    private final ConcurrentHashMap<Integer, PartitionIdSet> scannedPartitions = new ConcurrentHashMap<>();
+
+    @BeforeClass
+    public static void beforeClass() {
+        members = FACTORY.newInstances(null, MEMBER_COUNT);
+
+        IMap<Integer, Integer> intMap = members[0].getMap(MAP_INT);
+        IMap<String, Integer> stringMap = members[0].getMap(MAP_STRING);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            intMap.put(i, i);
+            stringMap.put("key" + i, i);
+        }
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        FACTORY.shutdownAll();
+    }
+
+    @Before
+    public void before() {
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            int memberIndex = i;
+
+            setExecHook(members[i], exec -> onExec(memberIndex, exec));
+        }
+    }
+
+    @Test
+    public void testEquals() {
+        check("SELECT this FROM " + MAP_INT + " WHERE __key = 5", Arrays.asList(5), 5);
+        check("SELECT this FROM " + MAP_INT + " WHERE 5 = __key AND this > 0", Arrays.asList(5), 5);
+        check("SELECT this FROM " + MAP_INT + " WHERE __key = 1000", Arrays.asList(), 1000);
+    }
+
+    @Test
+    public void testDisjunction() {
+        check("SELECT this FROM " + MAP_INT + " WHERE __key = 1 OR __key = 2 OR 3 = __key", Arrays.asList(1, 2, 3), 1, 2, 3);
+        check("SELECT this FROM " + MAP_INT + " WHERE __key = 1 OR __key = 50", Arrays.asList(1, 50), 1, 50);
+    }
+
+    @Test
+    public void testParameter() {
+        // The same cached plan must be pruned differently for every execution.
+        for (int key = 0; key < 10; key++) {
+            scannedPartitions.clear();
+
+            List<Object> values = new ArrayList<>();
+
+            try (SqlResult res = members[0].getSql().query("SELECT this FROM " + MAP_INT + " WHERE __key = ?", key)) {
+                for (SqlRow row : res) {
+                    values.add(row.getObject(0));
+                }
+            }
+
+            assertEquals(Arrays.asList(key), values);
+            checkPartitions(key);
+        }
+    }
+
+    @Test
+    public void testStringKey() {
+        check("SELECT this FROM " + MAP_STRING + " WHERE __key = 'key7'", Arrays.asList(7), "key7");
+    }
+
+    @Test
+    public void testNoPruning() {
+        checkNoPruning("SELECT this FROM " + MAP_INT + " WHERE __key = 5 OR this = 7", Arrays.asList(5, 7));
+        checkNoPruning("SELECT this FROM " + MAP_INT + " WHERE __key < 2", Arrays.asList(0, 1));
+        checkNoPruning("SELECT this FROM " + MAP_INT + " WHERE this = 5", Arrays.asList(5));
+    }
+
+    private void check(String sql, List<Integer> expectedValues, Object... keys) {
+        scannedPartitions.clear();
+
+        assertEquals(new HashSet<>(expectedValues), executeValues(sql));
+
+        checkPartitions(keys);
+    }
+
+    private void checkNoPruning(String sql, List<Integer> expectedValues) {
+        scannedPartitions.clear();
+
+        assertEquals(new HashSet<>(expectedValues), executeValues(sql));
+
+        int partitionCount = members[0].getPartitionService().getPartitions().size();
+        int scannedPartitionCount = 0;
+
+        for (PartitionIdSet partitions : scannedPartitions.values()) {
+            scannedPartitionCount += partitions.size();
+        }
+
+        assertEquals(MEMBER_COUNT, scannedPartitions.size());
+        assertEquals(partitionCount, scannedPartitionCount);
+    }
+
+    private void checkPartitions(Object... keys) {
+        Set<Integer> expectedPartitions = new HashSet<>();
+        Set<Integer> expectedMembers = new HashSet<>();
+
+        for (Object key : keys) {
+            int partition = members[0].getPartitionService().getPartition(key).getPartitionId();
+
+            expectedPartitions.add(partition);
+
+            for (int i = 0; i < MEMBER_COUNT; i++) {
+                if (members[i].getPartitionService().getPartition(key).getOwner().localMember()) {
+                    expectedMembers.add(i);
+                }
+            }
+        }
+
+        Set<Integer> partitions = new HashSet<>();
+
+        for (PartitionIdSet memberPartitions : scannedPartitions.values()) {
+            for (int partition : memberPartitions) {
+                assertTrue(partitions.add(partition));
+            }
+        }
+
+        assertEquals(expectedPartitions, partitions);
+        assertEquals(expectedMembers, scannedPartitions.keySet());
+    }
+
+    @Test
+    public void testParameterOverflow() {
+        // Integer parameters are widened to BIGINT, the value which doesn't fit into the key type doesn't match any key.
+        try (SqlResult res = members[0].getSql().query("SELECT this FROM " + MAP_INT + " WHERE __key = ?", Long.MAX_VALUE)) {
+            assertFalse(res.iterator().hasNext());
+        }
+    }
+
+    private Set<Integer> executeValues(String sql) {
+        Set<Integer> res = new HashSet<>();
+
+        for (SqlRow row : execute(members[0], sql)) {
+            res.add(row.getObject(0));
+        }
+
+        return res;
+    }
+
+    private Exec onExec(int memberIndex, Exec exec) {
+        if (exec instanceof MapScanExec) {
+            scannedPartitions.put(memberIndex, ((MapScanExec) exec).getPartitions());
+        }
+
+        return exec;
+    }
+}
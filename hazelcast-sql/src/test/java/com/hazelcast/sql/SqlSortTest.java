@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that covers ORDER BY, LIMIT and OFFSET through SQL.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SqlSortTest extends SqlTestSupport {
+
+    private static final int ENTRY_COUNT = 2000;
+    private static final int GROUP_COUNT = 10;
+
+    private static final String MAP_NAME = "map";
+
+    private static final TestHazelcastInstanceFactory FACTORY = new TestHazelcastInstanceFactory(2);
+
+    private static HazelcastInstance member;
+
+    @BeforeClass
+    public static void beforeClass() {
+        member = FACTORY.newHazelcastInstance();
+        FACTORY.newHazelcastInstance();
+
+        IMap<Integer, Value> map = member.getMap(MAP_NAME);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Value(i % GROUP_COUNT, value(i)));
+        }
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        FACTORY.shutdownAll();
+    }
+
+    @Test
+    public void testOrderByAscending() {
+        List<SqlRow> rows = execute(member, "SELECT __key FROM " + MAP_NAME + " ORDER BY __key");
+
+        assertEquals(expectedKeys(Comparator.naturalOrder(), 0, ENTRY_COUNT), keys(rows));
+    }
+
+    @Test
+    public void testOrderByDescending() {
+        List<SqlRow> rows = execute(member, "SELECT __key FROM " + MAP_NAME + " ORDER BY __key DESC");
+
+        assertEquals(expectedKeys(Comparator.reverseOrder(), 0, ENTRY_COUNT), keys(rows));
+    }
+
+    @Test
+    public void testOrderByMultipleColumns() {
+        List<SqlRow> rows = execute(member, "SELECT grp, __key FROM " + MAP_NAME + " ORDER BY grp DESC, __key");
+
+        assertEquals(ENTRY_COUNT, rows.size());
+
+        for (int i = 1; i < rows.size(); i++) {
+            int prevGrp = rows.get(i - 1).getObject(0);
+            int grp = rows.get(i).getObject(0);
+
+            assertTrue(prevGrp >= grp);
+
+            if (prevGrp == grp) {
+                assertTrue(rows.get(i - 1).<Integer>getObject(1) < rows.get(i).<Integer>getObject(1));
+            }
+        }
+    }
+
+    @Test
+    public void testOrderByNullsLast() {
+        List<SqlRow> rows = execute(member, "SELECT val FROM " + MAP_NAME + " ORDER BY val");
+
+        assertEquals(ENTRY_COUNT, rows.size());
+
+        List<Integer> values = new ArrayList<>();
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            values.add(value(i));
+        }
+
+        values.sort(Comparator.nullsLast(Comparator.naturalOrder()));
+
+        List<Integer> res = new ArrayList<>();
+
+        for (SqlRow row : rows) {
+            res.add(row.getObject(0));
+        }
+
+        assertEquals(values, res);
+    }
+
+    @Test
+    public void testTopN() {
+        List<SqlRow> rows = execute(member, "SELECT __key FROM " + MAP_NAME + " ORDER BY __key DESC LIMIT 10");
+
+        assertEquals(expectedKeys(Comparator.reverseOrder(), 0, 10), keys(rows));
+    }
+
+    @Test
+    public void testTopNWithOffset() {
+        List<SqlRow> rows = execute(member, "SELECT __key FROM " + MAP_NAME + " ORDER BY __key LIMIT 10 OFFSET 1995");
+
+        assertEquals(expectedKeys(Comparator.naturalOrder(), 1995, ENTRY_COUNT), keys(rows));
+    }
+
+    @Test
+    public void testTopNWithParameters() {
+        List<SqlRow> rows = new ArrayList<>();
+
+        String sql = "SELECT __key FROM " + MAP_NAME + " ORDER BY __key LIMIT ? OFFSET ?";
+
+        try (SqlResult res = member.getSql().query(sql, 5, 20)) {
+            for (SqlRow row : res) {
+                rows.add(row);
+            }
+        }
+
+        assertEquals(expectedKeys(Comparator.naturalOrder(), 20, 25), keys(rows));
+    }
+
+    @Test
+    public void testLimitWithoutOrderBy() {
+        List<SqlRow> rows = execute(member, "SELECT __key FROM " + MAP_NAME + " LIMIT 15");
+
+        assertEquals(15, rows.size());
+    }
+
+    @Test
+    public void testOrderByOnEmptyInput() {
+        List<SqlRow> rows = execute(member, "SELECT __key FROM " + MAP_NAME + " WHERE __key < 0 ORDER BY __key LIMIT 10");
+
+        assertEquals(0, rows.size());
+    }
+
+    @Test
+    public void testOrderByAggregate() {
+        List<SqlRow> rows = execute(member, "SELECT grp, COUNT(*) FROM " + MAP_NAME + " GROUP BY grp ORDER BY grp DESC");
+
+        assertEquals(GROUP_COUNT, rows.size());
+
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            assertEquals(GROUP_COUNT - 1 - i, (int) rows.get(i).getObject(0));
+            assertEquals(ENTRY_COUNT / GROUP_COUNT, (long) rows.get(i).getObject(1));
+        }
+    }
+
+    private static List<Integer> expectedKeys(Comparator<Integer> comparator, int from, int to) {
+        List<Integer> keys = new ArrayList<>(ENTRY_COUNT);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            keys.add(i);
+        }
+
+        keys.sort(comparator);
+
+        return new ArrayList<>(keys.subList(from, to));
+    }
+
+    private static List<Integer> keys(List<SqlRow> rows) {
+        List<Integer> res = new ArrayList<>(rows.size());
+
+        for (SqlRow row : rows) {
+            res.add(row.getObject(0));
+        }
+
+        return res;
+    }
+
+    private static Integer value(int key) {
+        return key % 7 == 0 ? null : key % 100;
+    }
+
+    @SuppressWarnings("unused")
+    public static class Value implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private int grp;
+        private Integer val;
+
+        public Value() {
+            // No-op.
+        }
+
+        public Value(int grp, Integer val) {
+            this.grp = grp;
+            this.val = val;
+        }
+
+        public int getGrp() {
+            return grp;
+        }
+
+        public Integer getVal() {
+            return val;
+        }
+    }
+}
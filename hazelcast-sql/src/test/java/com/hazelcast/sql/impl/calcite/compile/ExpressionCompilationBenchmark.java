@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.compile;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.exec.IterationResult;
+import com.hazelcast.sql.impl.exec.scan.MapScanExec;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.hazelcast.sql.impl.SqlTestSupport.valuePath;
+
+/**
+ * Compares interpreted and compiled evaluation of the filter {@code a + a > 10 AND b * b < 1000000 OR c IS NULL}
+ * during the scan of a local map.
+ */
+@State(Scope.Benchmark)
+public class ExpressionCompilationBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    private static final List<QueryPath> FIELD_PATHS = Arrays.asList(valuePath("a"), valuePath("b"), valuePath("c"));
+    private static final List<QueryDataType> FIELD_TYPES = Arrays.asList(QueryDataType.INT, QueryDataType.BIGINT,
+        QueryDataType.DOUBLE);
+    private static final List<Integer> PROJECTS = Arrays.asList(0, 1);
+
+    private final Random random = new Random(303);
+    private HazelcastInstance instance;
+    private MapContainer mapContainer;
+    private PartitionIdSet partitions;
+    private InternalSerializationService serializationService;
+    private Expression<Boolean> interpretedFilter;
+    private Expression<Boolean> compiledFilter;
+
+    @Setup
+    public void setup() {
+        Config config = new Config();
+        config.getMapConfig("values").setInMemoryFormat(InMemoryFormat.OBJECT);
+
+        instance = Hazelcast.newHazelcastInstance(config);
+
+        MapProxyImpl<Integer, Value> map = (MapProxyImpl<Integer, Value>) instance.<Integer, Value>getMap("values");
+
+        for (int i = 0; i < SIZE; ++i) {
+            Double c = random.nextInt(10) == 0 ? null : random.nextDouble();
+
+            map.put(i, new Value(random.nextInt(100), random.nextInt(2000), c));
+        }
+
+        mapContainer = map.getService().getMapServiceContext().getMapContainer(map.getName());
+        serializationService = (InternalSerializationService) map.getNodeEngine().getSerializationService();
+
+        int partitionCount = instance.getPartitionService().getPartitions().size();
+        partitions = new PartitionIdSet(partitionCount);
+
+        for (int i = 0; i < partitionCount; ++i) {
+            partitions.add(i);
+        }
+
+        interpretedFilter = createFilter();
+        compiledFilter = new JaninoExpressionCompiler().compile(interpretedFilter);
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public void interpretedScan(Blackhole blackhole) {
+        scan(interpretedFilter, blackhole);
+    }
+
+    @Benchmark
+    public void compiledScan(Blackhole blackhole) {
+        scan(compiledFilter, blackhole);
+    }
+
+    private void scan(Expression<Boolean> filter, Blackhole blackhole) {
+        MapScanExec exec = new MapScanExec(
+            1,
+            mapContainer,
+            partitions,
+            GenericQueryTargetDescriptor.DEFAULT,
+            GenericQueryTargetDescriptor.DEFAULT,
+            FIELD_PATHS,
+            FIELD_TYPES,
+            PROJECTS,
+            filter,
+            serializationService
+        );
+
+        exec.setup(SqlTestSupport.emptyFragmentContext());
+
+        IterationResult result;
+
+        do {
+            result = exec.advance();
+
+            blackhole.consume(exec.currentBatch().getRowCount());
+        } while (result != IterationResult.FETCHED_DONE);
+    }
+
+    private static Expression<Boolean> createFilter() {
+        Expression<?> a = ColumnExpression.create(0, QueryDataType.INT);
+        Expression<?> b = ColumnExpression.create(1, QueryDataType.BIGINT);
+        Expression<?> c = ColumnExpression.create(2, QueryDataType.DOUBLE);
+
+        Expression<?> aCondition = ComparisonPredicate.create(
+            PlusFunction.create(a, a, QueryDataType.INT),
+            ConstantExpression.create(10, QueryDataType.INT),
+            ComparisonMode.GREATER_THAN
+        );
+
+        Expression<?> bCondition = ComparisonPredicate.create(
+            MultiplyFunction.create(b, b, QueryDataType.BIGINT),
+            ConstantExpression.create(1_000_000L, QueryDataType.BIGINT),
+            ComparisonMode.LESS_THAN
+        );
+
+        return OrPredicate.create(
+            AndPredicate.create(aCondition, bCondition),
+            IsNullPredicate.create(c)
+        );
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        // @formatter:off
+        Options opt = new OptionsBuilder()
+                .include(ExpressionCompilationBenchmark.class.getSimpleName())
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(10)
+                .measurementTime(TimeValue.seconds(1))
+                .forks(1)
+                .threads(1)
+                .build();
+        // @formatter:on
+
+        new Runner(opt).run();
+    }
+
+    public static class Value implements Serializable {
+
+        private final int a;
+        private final long b;
+        private final Double c;
+
+        public Value(int a, long b, Double c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @SuppressWarnings("unused")
+        public int getA() {
+            return a;
+        }
+
+        @SuppressWarnings("unused")
+        public long getB() {
+            return b;
+        }
+
+        @SuppressWarnings("unused")
+        public Double getC() {
+            return c;
+        }
+    }
+}
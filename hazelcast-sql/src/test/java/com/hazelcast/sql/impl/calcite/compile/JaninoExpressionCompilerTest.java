@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.compile;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.expression.CastExpression;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.CompiledExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.expression.math.DivideFunction;
+import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.math.UnaryMinusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.row.HeapRow;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class JaninoExpressionCompilerTest extends SqlTestSupport {
+
+    private static final List<Object[]> ROWS = Arrays.asList(
+        new Object[] { 1, 2L, 3.0d, true, "a" },
+        new Object[] { -5, 10L, -0.5d, false, "b" },
+        new Object[] { null, 0L, null, null, null },
+        new Object[] { 7, null, 1.5d, true, "a" },
+        new Object[] { Integer.MAX_VALUE, Long.MIN_VALUE, Double.NaN, false, "c" }
+    );
+
+    private final JaninoExpressionCompiler compiler = new JaninoExpressionCompiler();
+
+    @Test
+    public void testLeafNotCompiled() {
+        assertNull(compiler.compile(column(0)));
+        assertNull(compiler.compile(ParameterExpression.create(0, QueryDataType.INT)));
+        assertNull(compiler.compile(ConstantExpression.create(1, QueryDataType.INT)));
+    }
+
+    @Test
+    public void testInterpretedRootNotCompiled() {
+        assertNull(compiler.compile(CastExpression.create(column(0), QueryDataType.BIGINT)));
+    }
+
+    @Test
+    public void testComparison() {
+        for (ComparisonMode mode : ComparisonMode.values()) {
+            checkCompiled(ComparisonPredicate.create(column(0), ConstantExpression.create(1, QueryDataType.INT), mode));
+            checkCompiled(ComparisonPredicate.create(column(1), column(1), mode));
+            checkCompiled(ComparisonPredicate.create(column(2), ConstantExpression.create(1.5d, QueryDataType.DOUBLE), mode));
+            checkCompiled(ComparisonPredicate.create(column(3), ConstantExpression.create(true, QueryDataType.BOOLEAN), mode));
+            checkCompiled(ComparisonPredicate.create(column(4), ConstantExpression.create("b", QueryDataType.VARCHAR), mode));
+        }
+    }
+
+    @Test
+    public void testArithmetic() {
+        checkCompiled(PlusFunction.create(column(0), column(0), QueryDataType.INT));
+        checkCompiled(MultiplyFunction.create(column(2), column(2), QueryDataType.DOUBLE));
+        checkCompiled(UnaryMinusFunction.create(column(0), QueryDataType.INT));
+        checkCompiled(UnaryMinusFunction.create(column(2), QueryDataType.DOUBLE));
+
+        // Overflow and division by zero must fail as in the interpreted mode.
+        checkCompiled(UnaryMinusFunction.create(column(1), QueryDataType.BIGINT));
+        checkCompiled(DivideFunction.create(column(1), column(1), QueryDataType.BIGINT));
+    }
+
+    @Test
+    public void testLogic() {
+        Expression<?> positive = ComparisonPredicate.create(
+            column(0),
+            ConstantExpression.create(0, QueryDataType.INT),
+            ComparisonMode.GREATER_THAN
+        );
+
+        checkCompiled(AndPredicate.create(positive, column(3)));
+        checkCompiled(OrPredicate.create(column(3), positive, IsNotNullPredicate.create(column(4))));
+        checkCompiled(NotPredicate.create(column(3)));
+        checkCompiled(IsTruePredicate.create(AndPredicate.create(column(3), column(3))));
+        checkCompiled(AndPredicate.create(positive, ConstantExpression.create(null, QueryDataType.BOOLEAN)));
+    }
+
+    @Test
+    public void testInterpretedOperand() {
+        Expression<?> cast = CastExpression.create(column(0), QueryDataType.BIGINT);
+
+        checkCompiled(ComparisonPredicate.create(cast, column(1), ComparisonMode.LESS_THAN));
+    }
+
+    @Test
+    public void testParameters() {
+        Expression<?> expression = ComparisonPredicate.create(
+            column(1),
+            ParameterExpression.create(0, QueryDataType.BIGINT),
+            ComparisonMode.EQUALS
+        );
+
+        Expression<?> compiled = compile(expression);
+
+        assertEquals(true, compiled.eval(new HeapRow(ROWS.get(0)), index -> 2L));
+        assertEquals(false, compiled.eval(new HeapRow(ROWS.get(0)), index -> 3L));
+        assertNull(compiled.eval(new HeapRow(ROWS.get(0)), index -> null));
+    }
+
+    @Test
+    public void testShortCircuit() {
+        Expression<?> and = AndPredicate.create(column(3), new FailingExpression());
+        Expression<?> or = OrPredicate.create(NotPredicate.create(column(3)), new FailingExpression());
+        Expression<?> comparison = ComparisonPredicate.create(column(3), new FailingExpression(), ComparisonMode.EQUALS);
+
+        Row row = new HeapRow(new Object[] { null, null, null, false, null });
+        Row nullRow = new HeapRow(new Object[] { null, null, null, null, null });
+
+        assertEquals(false, compile(and).eval(row, null));
+        assertEquals(true, compile(or).eval(row, null));
+        assertNull(compile(comparison).eval(nullRow, null));
+    }
+
+    private void checkCompiled(Expression<?> expression) {
+        Expression<?> compiled = compile(expression);
+
+        for (Object[] values : ROWS) {
+            Row row = new HeapRow(values);
+
+            Object expected;
+            try {
+                expected = expression.eval(row, null);
+            } catch (RuntimeException e) {
+                expected = e.getClass();
+            }
+
+            Object actual;
+            try {
+                actual = compiled.eval(row, null);
+            } catch (RuntimeException e) {
+                actual = e.getClass();
+            }
+
+            assertEquals(expression + ": " + Arrays.toString(values), expected, actual);
+        }
+    }
+
+    private Expression<?> compile(Expression<?> expression) {
+        Expression<?> compiled = compiler.compile(expression);
+
+        assertTrue(compiled instanceof CompiledExpression);
+        assertSame(expression, ((CompiledExpression<?>) compiled).getSource());
+        assertEquals(expression.getType(), compiled.getType());
+
+        return compiled;
+    }
+
+    private static Expression<?> column(int index) {
+        switch (index) {
+            case 0:
+                return ColumnExpression.create(index, QueryDataType.INT);
+
+            case 1:
+                return ColumnExpression.create(index, QueryDataType.BIGINT);
+
+            case 2:
+                return ColumnExpression.create(index, QueryDataType.DOUBLE);
+
+            case 3:
+                return ColumnExpression.create(index, QueryDataType.BOOLEAN);
+
+            default:
+                return ColumnExpression.create(index, QueryDataType.VARCHAR);
+        }
+    }
+
+    private static class FailingExpression implements Expression<Boolean> {
+        @Override
+        public Boolean eval(Row row, ExpressionEvalContext context) {
+            fail("Must not be evaluated");
+
+            return null;
+        }
+
+        @Override
+        public QueryDataType getType() {
+            return QueryDataType.BOOLEAN;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) {
+            // No-op.
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) {
+            // No-op.
+        }
+    }
+}
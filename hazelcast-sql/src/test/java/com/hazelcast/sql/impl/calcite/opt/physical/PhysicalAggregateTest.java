@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.TestMapTable;
+import com.hazelcast.sql.impl.calcite.opt.OptimizerTestSupport;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.RootExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.schema.HazelcastSchema;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.apache.calcite.schema.Table;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests for aggregate planning.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PhysicalAggregateTest extends OptimizerTestSupport {
+    @Override
+    protected HazelcastSchema createDefaultSchema() {
+        Map<String, Table> tableMap = new HashMap<>();
+
+        tableMap.put("p", OptimizerTestSupport.partitionedTable(
+            "p",
+            Arrays.asList(
+                TestMapTable.field("f0"),
+                TestMapTable.field("f1"),
+                TestMapTable.field("f2")
+            ),
+            100
+        ));
+
+        return new HazelcastSchema(tableMap);
+    }
+
+    @Test
+    public void testGroupBySingleMember() {
+        assertPlan(
+            optimizePhysical("SELECT f0, COUNT(*), SUM(f1), MIN(f1), MAX(f2) FROM p GROUP BY f0"),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, AggregatePhysicalRel.class,
+                    "group=[{0}], EXPR$1=[COUNT()], EXPR$2=[SUM($1)], EXPR$3=[MIN($1)], EXPR$4=[MAX($2)]"),
+                planRow(2, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[0, 1, 2]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testGroupByMultipleMembers() {
+        assertPlan(
+            optimizePhysical("SELECT f0, COUNT(*), SUM(f1), MIN(f1), MAX(f2) FROM p GROUP BY f0", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, AggregatePhysicalRel.class,
+                    "group=[{0}], EXPR$1=[$SUM0($1)], EXPR$2=[SUM($2)], EXPR$3=[MIN($3)], EXPR$4=[MAX($4)]"),
+                planRow(2, RootExchangePhysicalRel.class, ""),
+                planRow(3, AggregatePhysicalRel.class,
+                    "group=[{0}], EXPR$1=[COUNT()], EXPR$2=[SUM($1)], EXPR$3=[MIN($1)], EXPR$4=[MAX($2)]"),
+                planRow(4, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[0, 1, 2]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testAvgSingleMember() {
+        assertPlan(
+            optimizePhysical("SELECT AVG(f1) FROM p"),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, ProjectPhysicalRel.class,
+                    "EXPR$0=[/(CAST($0):DECIMAL(38, 38), CAST($1):DECIMAL(38, 38) NOT NULL)]"),
+                planRow(2, AggregatePhysicalRel.class, "group=[{}], agg#0=[SUM($0)], agg#1=[COUNT($0)]"),
+                planRow(3, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[1]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testAvgMultipleMembers() {
+        assertPlan(
+            optimizePhysical("SELECT AVG(f1) FROM p", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, ProjectPhysicalRel.class,
+                    "EXPR$0=[/(CAST($0):DECIMAL(38, 38), CAST($1):DECIMAL(38, 38) NOT NULL)]"),
+                planRow(2, AggregatePhysicalRel.class, "group=[{}], agg#0=[SUM($0)], agg#1=[$SUM0($1)]"),
+                planRow(3, RootExchangePhysicalRel.class, ""),
+                planRow(4, AggregatePhysicalRel.class, "group=[{}], agg#0=[SUM($0)], agg#1=[COUNT($0)]"),
+                planRow(5, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[1]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testHaving() {
+        assertPlan(
+            optimizePhysical("SELECT f0, SUM(f1) FROM p GROUP BY f0 HAVING SUM(f1) > 10", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, FilterPhysicalRel.class, "condition=[>($1, 10)]"),
+                planRow(2, AggregatePhysicalRel.class, "group=[{0}], EXPR$1=[SUM($1)]"),
+                planRow(3, RootExchangePhysicalRel.class, ""),
+                planRow(4, AggregatePhysicalRel.class, "group=[{0}], EXPR$1=[SUM($1)]"),
+                planRow(5, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[0, 1]]]]")
+            )
+        );
+    }
+}
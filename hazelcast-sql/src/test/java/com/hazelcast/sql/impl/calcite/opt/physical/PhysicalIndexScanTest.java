@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.config.IndexType;
+import com.hazelcast.sql.impl.calcite.opt.OptimizerTestSupport;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.RootExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.schema.HazelcastSchema;
+import com.hazelcast.sql.impl.schema.map.MapTableIndex;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.apache.calcite.schema.Table;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static java.util.Collections.singletonList;
+
+/**
+ * Test for index scan optimizations.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PhysicalIndexScanTest extends OptimizerTestSupport {
+    @Override
+    protected HazelcastSchema createDefaultSchema() {
+        Map<String, Table> tableMap = new HashMap<>();
+
+        tableMap.put("p", partitionedTable(
+            "p",
+            fields("f0", INT, "f1", INT, "f2", INT, "f3", INT),
+            Arrays.asList(
+                new MapTableIndex("sorted", IndexType.SORTED, singletonList(0)),
+                new MapTableIndex("hash", IndexType.HASH, singletonList(1)),
+                new MapTableIndex("bitmap", IndexType.BITMAP, singletonList(2))
+            ),
+            100
+        ));
+
+        return new HazelcastSchema(tableMap);
+    }
+
+    @Test
+    public void testEquals() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f0 = 1", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 15d),
+                planRow(1, RootExchangePhysicalRel.class, "", 15d),
+                planRow(2, MapIndexScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter==($0, 1)]]], "
+                    + "index=[sorted], indexExp=[=($0, 1)]", 15d)
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsReversed() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE 1 = f1", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 15d),
+                planRow(1, RootExchangePhysicalRel.class, "", 15d),
+                planRow(2, MapIndexScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter==(1, $1)]]], "
+                    + "index=[hash], indexExp=[=(1, $1)]", 15d)
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsParameter() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f0 = CAST(? AS INTEGER)", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 15d),
+                planRow(1, RootExchangePhysicalRel.class, "", 15d),
+                planRow(2, MapIndexScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter==($0, ?0)]]], "
+                    + "index=[sorted], indexExp=[=($0, ?0)]", 15d)
+            )
+        );
+    }
+
+    @Test
+    public void testDisjunction() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f2 = 1 OR f2 = 2", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 25d),
+                planRow(1, RootExchangePhysicalRel.class, "", 25d),
+                planRow(2, MapIndexScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter=OR(=($2, 1), =($2, 2))]]], "
+                    + "index=[bitmap], indexExp=[OR(=($2, 1), =($2, 2))]", 25d)
+            )
+        );
+    }
+
+    @Test
+    public void testRange() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f0 > 1 AND f0 <= 5", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 25d),
+                planRow(1, RootExchangePhysicalRel.class, "", 25d),
+                planRow(2, MapIndexScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter=AND(>($0, 1), <=($0, 5))]]], "
+                    + "index=[sorted], indexExp=[AND(>($0, 1), <=($0, 5))]", 25d)
+            )
+        );
+    }
+
+    @Test
+    public void testMostSelectiveIndexChosen() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f0 > 1 AND f1 = 5", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 7.5d),
+                planRow(1, RootExchangePhysicalRel.class, "", 7.5d),
+                planRow(2, MapIndexScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter=AND(>($0, 1), =($1, 5))]]], "
+                    + "index=[hash], indexExp=[=($1, 5)]", 7.5d)
+            )
+        );
+    }
+
+    @Test
+    public void testRangeNotSupportedByHashIndex() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f1 > 1", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 50d),
+                planRow(1, RootExchangePhysicalRel.class, "", 50d),
+                planRow(2, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter=>($1, 1)]]]", 50d)
+            )
+        );
+    }
+
+    @Test
+    public void testNoIndex() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f3 = 1", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 15d),
+                planRow(1, RootExchangePhysicalRel.class, "", 15d),
+                planRow(2, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter==($3, 1)]]]", 15d)
+            )
+        );
+    }
+
+    @Test
+    public void testColumnComparisonNotSupported() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f0 = f3", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 15d),
+                planRow(1, RootExchangePhysicalRel.class, "", 15d),
+                planRow(2, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter==($0, $3)]]]", 15d)
+            )
+        );
+    }
+}
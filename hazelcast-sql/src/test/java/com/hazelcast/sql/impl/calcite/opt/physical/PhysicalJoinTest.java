@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.TestMapTable;
+import com.hazelcast.sql.impl.calcite.opt.OptimizerTestSupport;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.BroadcastExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.RootExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.UnicastExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.schema.HazelcastSchema;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.apache.calcite.schema.Table;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests for join planning.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PhysicalJoinTest extends OptimizerTestSupport {
+    @Override
+    protected HazelcastSchema createDefaultSchema() {
+        Map<String, Table> tableMap = new HashMap<>();
+
+        tableMap.put("big1", OptimizerTestSupport.partitionedTable(
+            "big1",
+            Arrays.asList(TestMapTable.field("f0"), TestMapTable.field("f1")),
+            10_000
+        ));
+
+        tableMap.put("big2", OptimizerTestSupport.partitionedTable(
+            "big2",
+            Arrays.asList(TestMapTable.field("f0"), TestMapTable.field("f1")),
+            10_000
+        ));
+
+        tableMap.put("small", OptimizerTestSupport.partitionedTable(
+            "small",
+            Arrays.asList(TestMapTable.field("f0"), TestMapTable.field("f1")),
+            10
+        ));
+
+        return new HazelcastSchema(tableMap);
+    }
+
+    @Test
+    public void testJoinSingleMember() {
+        assertPlan(
+            optimizePhysical("SELECT big1.f1, small.f1 FROM big1 JOIN small ON big1.f0 = small.f0"),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, ProjectPhysicalRel.class, "f1=[$1], f10=[$3]"),
+                planRow(2, HashJoinPhysicalRel.class, "condition=[=($0, $2)], joinType=[inner], leftHashKeys=[[0]], rightHashKeys=[[0]]"),
+                planRow(3, MapScanPhysicalRel.class, "table=[[hazelcast, big1[projects=[0, 1]]]]"),
+                planRow(3, MapScanPhysicalRel.class, "table=[[hazelcast, small[projects=[0, 1]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testBroadcastJoin() {
+        assertPlan(
+            optimizePhysical("SELECT big1.f1, small.f1 FROM big1 JOIN small ON big1.f0 = small.f0", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, RootExchangePhysicalRel.class, ""),
+                planRow(2, ProjectPhysicalRel.class, "f1=[$1], f10=[$3]"),
+                planRow(3, HashJoinPhysicalRel.class, "condition=[=($0, $2)], joinType=[inner], leftHashKeys=[[0]], rightHashKeys=[[0]]"),
+                planRow(4, MapScanPhysicalRel.class, "table=[[hazelcast, big1[projects=[0, 1]]]]"),
+                planRow(4, BroadcastExchangePhysicalRel.class, ""),
+                planRow(5, MapScanPhysicalRel.class, "table=[[hazelcast, small[projects=[0, 1]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testPartitionedJoin() {
+        assertPlan(
+            optimizePhysical("SELECT big1.f1, big2.f1 FROM big1 JOIN big2 ON big1.f0 = big2.f0", 3),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, RootExchangePhysicalRel.class, ""),
+                planRow(2, ProjectPhysicalRel.class, "f1=[$1], f10=[$3]"),
+                planRow(3, HashJoinPhysicalRel.class, "condition=[=($0, $2)], joinType=[inner], leftHashKeys=[[0]], rightHashKeys=[[0]]"),
+                planRow(4, UnicastExchangePhysicalRel.class, "hashKeys=[[0]]"),
+                planRow(5, MapScanPhysicalRel.class, "table=[[hazelcast, big1[projects=[0, 1]]]]"),
+                planRow(4, UnicastExchangePhysicalRel.class, "hashKeys=[[0]]"),
+                planRow(5, MapScanPhysicalRel.class, "table=[[hazelcast, big2[projects=[0, 1]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testNonEquiJoinIsBroadcast() {
+        assertPlan(
+            optimizePhysical("SELECT big1.f1, big2.f1 FROM big1 JOIN big2 ON big1.f0 > big2.f0", 3),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, RootExchangePhysicalRel.class, ""),
+                planRow(2, ProjectPhysicalRel.class, "f1=[$1], f10=[$3]"),
+                planRow(3, HashJoinPhysicalRel.class, "condition=[>($0, $2)], joinType=[inner], leftHashKeys=[[]], rightHashKeys=[[]]"),
+                planRow(4, MapScanPhysicalRel.class, "table=[[hazelcast, big1[projects=[0, 1]]]]"),
+                planRow(4, BroadcastExchangePhysicalRel.class, ""),
+                planRow(5, MapScanPhysicalRel.class, "table=[[hazelcast, big2[projects=[0, 1]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testLeftJoin() {
+        assertPlan(
+            optimizePhysical("SELECT big1.f1, small.f1 FROM big1 LEFT JOIN small ON big1.f0 = small.f0", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, RootExchangePhysicalRel.class, ""),
+                planRow(2, ProjectPhysicalRel.class, "f1=[$1], f10=[$3]"),
+                planRow(3, HashJoinPhysicalRel.class, "condition=[=($0, $2)], joinType=[left], leftHashKeys=[[0]], rightHashKeys=[[0]]"),
+                planRow(4, MapScanPhysicalRel.class, "table=[[hazelcast, big1[projects=[0, 1]]]]"),
+                planRow(4, BroadcastExchangePhysicalRel.class, ""),
+                planRow(5, MapScanPhysicalRel.class, "table=[[hazelcast, small[projects=[0, 1]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testCommaJoinWithWhere() {
+        assertPlan(
+            optimizePhysical("SELECT big1.f1, small.f1 FROM big1, small WHERE big1.f0 = small.f0", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, RootExchangePhysicalRel.class, ""),
+                planRow(2, ProjectPhysicalRel.class, "f1=[$1], f10=[$3]"),
+                planRow(3, HashJoinPhysicalRel.class, "condition=[=($0, $2)], joinType=[inner], leftHashKeys=[[0]], rightHashKeys=[[0]]"),
+                planRow(4, MapScanPhysicalRel.class, "table=[[hazelcast, big1[projects=[0, 1]]]]"),
+                planRow(4, BroadcastExchangePhysicalRel.class, ""),
+                planRow(5, MapScanPhysicalRel.class, "table=[[hazelcast, small[projects=[0, 1]]]]")
+            )
+        );
+    }
+}
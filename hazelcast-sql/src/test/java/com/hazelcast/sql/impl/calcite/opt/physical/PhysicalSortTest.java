@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.sql.impl.calcite.TestMapTable;
+import com.hazelcast.sql.impl.calcite.opt.OptimizerTestSupport;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.RootExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.SortMergeExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.schema.HazelcastSchema;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.apache.calcite.schema.Table;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests for sort planning.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PhysicalSortTest extends OptimizerTestSupport {
+    @Override
+    protected HazelcastSchema createDefaultSchema() {
+        Map<String, Table> tableMap = new HashMap<>();
+
+        tableMap.put("p", OptimizerTestSupport.partitionedTable(
+            "p",
+            Arrays.asList(
+                TestMapTable.field("f0"),
+                TestMapTable.field("f1"),
+                TestMapTable.field("f2")
+            ),
+            100
+        ));
+
+        return new HazelcastSchema(tableMap);
+    }
+
+    @Test
+    public void testSortSingleMember() {
+        assertPlan(
+            optimizePhysical("SELECT f0, f1 FROM p ORDER BY f0 DESC, f1"),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, SortPhysicalRel.class, "sort0=[$0], sort1=[$1], dir0=[DESC], dir1=[ASC]"),
+                planRow(2, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[0, 1]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testSortMultipleMembers() {
+        assertPlan(
+            optimizePhysical("SELECT f0, f1 FROM p ORDER BY f0 DESC, f1", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, SortMergeExchangePhysicalRel.class, "collation=[[0 DESC, 1]]"),
+                planRow(2, SortPhysicalRel.class, "sort0=[$0], sort1=[$1], dir0=[DESC], dir1=[ASC]"),
+                planRow(3, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[0, 1]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testTopNMultipleMembers() {
+        assertPlan(
+            optimizePhysical("SELECT f0 FROM p ORDER BY f0 LIMIT 10 OFFSET 5", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, SortMergeExchangePhysicalRel.class, "collation=[[0]], offset=[5], fetch=[10]"),
+                planRow(2, SortPhysicalRel.class, "sort0=[$0], dir0=[ASC], fetch=[15]"),
+                planRow(3, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[0]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testTopNWithParametersMultipleMembers() {
+        assertPlan(
+            optimizePhysical("SELECT f0 FROM p ORDER BY f0 LIMIT ? OFFSET ?", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, SortMergeExchangePhysicalRel.class, "collation=[[0]], offset=[?1], fetch=[?0]"),
+                planRow(2, SortPhysicalRel.class, "sort0=[$0], dir0=[ASC], fetch=[+(?1, ?0)]"),
+                planRow(3, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[0]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testLimitMultipleMembers() {
+        assertPlan(
+            optimizePhysical("SELECT f0 FROM p LIMIT 10", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, SortMergeExchangePhysicalRel.class, "fetch=[10]"),
+                planRow(2, SortPhysicalRel.class, "fetch=[10]"),
+                planRow(3, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[0]]]]")
+            )
+        );
+    }
+
+    @Test
+    public void testSortAfterAggregate() {
+        assertPlan(
+            optimizePhysical("SELECT f0, SUM(f1) FROM p GROUP BY f0 ORDER BY f0 LIMIT 10", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, ""),
+                planRow(1, SortPhysicalRel.class, "sort0=[$0], dir0=[ASC], fetch=[10]"),
+                planRow(2, AggregatePhysicalRel.class, "group=[{0}], EXPR$1=[SUM($1)]"),
+                planRow(3, RootExchangePhysicalRel.class, ""),
+                planRow(4, AggregatePhysicalRel.class, "group=[{0}], EXPR$1=[SUM($1)]"),
+                planRow(5, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[0, 1]]]]")
+            )
+        );
+    }
+}
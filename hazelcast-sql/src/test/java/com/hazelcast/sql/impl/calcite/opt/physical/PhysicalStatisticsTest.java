@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.calcite.opt.physical;
+
+import com.hazelcast.config.IndexType;
+import com.hazelcast.sql.impl.calcite.opt.OptimizerTestSupport;
+import com.hazelcast.sql.impl.calcite.opt.physical.exchange.RootExchangePhysicalRel;
+import com.hazelcast.sql.impl.calcite.schema.HazelcastSchema;
+import com.hazelcast.sql.impl.schema.map.MapTableIndex;
+import com.hazelcast.sql.impl.schema.map.MapTableStatistics;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.apache.calcite.schema.Table;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static java.util.Collections.singletonList;
+
+/**
+ * Test for cost estimations based on the collected table statistics.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PhysicalStatisticsTest extends OptimizerTestSupport {
+    @Override
+    protected HazelcastSchema createDefaultSchema() {
+        Map<String, Table> tableMap = new HashMap<>();
+
+        // f0: 1 distinct value, f1: 2 distinct values, f2: 100 distinct values, f3: 50 distinct values.
+        Map<Integer, Long> distinctValueCounts = new HashMap<>();
+        distinctValueCounts.put(0, 1L);
+        distinctValueCounts.put(1, 2L);
+        distinctValueCounts.put(2, 100L);
+        distinctValueCounts.put(3, 50L);
+
+        Map<String, Long> indexCardinalities = new HashMap<>();
+        indexCardinalities.put("f0", 1L);
+        indexCardinalities.put("f1", 2L);
+        indexCardinalities.put("f2", 100L);
+
+        tableMap.put("p", partitionedTable(
+            "p",
+            fields("f0", INT, "f1", INT, "f2", INT, "f3", INT),
+            Arrays.asList(
+                new MapTableIndex("f0", IndexType.HASH, singletonList(0)),
+                new MapTableIndex("f1", IndexType.HASH, singletonList(1)),
+                new MapTableIndex("f2", IndexType.HASH, singletonList(2))
+            ),
+            new MapTableStatistics(1000, distinctValueCounts, indexCardinalities)
+        ));
+
+        tableMap.put("small", partitionedTable(
+            "small",
+            fields("f0", INT, "f1", INT),
+            Collections.emptyList(),
+            new MapTableStatistics(100, Collections.singletonMap(0, 100L), null)
+        ));
+
+        return new HazelcastSchema(tableMap);
+    }
+
+    @Test
+    public void testEqualsWithoutIndex() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f3 = 1", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 20d),
+                planRow(1, RootExchangePhysicalRel.class, "", 20d),
+                planRow(2, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter==($3, 1)]]]", 20d)
+            )
+        );
+    }
+
+    @Test
+    public void testMostSelectiveIndexChosen() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f1 = 1 AND f2 = 1", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 5d),
+                planRow(1, RootExchangePhysicalRel.class, "", 5d),
+                planRow(2, MapIndexScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter=AND(=($1, 1), =($2, 1))]]], "
+                    + "index=[f2], indexExp=[=($2, 1)]", 5d)
+            )
+        );
+    }
+
+    @Test
+    public void testIn() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f2 = 1 OR f2 = 2", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 20d),
+                planRow(1, RootExchangePhysicalRel.class, "", 20d),
+                planRow(2, MapIndexScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter=OR(=($2, 1), =($2, 2))]]], "
+                    + "index=[f2], indexExp=[OR(=($2, 1), =($2, 2))]", 20d)
+            )
+        );
+    }
+
+    @Test
+    public void testNonSelectiveIndexIgnored() {
+        assertPlan(
+            optimizePhysical("SELECT f3 FROM p WHERE f0 = 1", 2),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 1000d),
+                planRow(1, RootExchangePhysicalRel.class, "", 1000d),
+                planRow(2, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[3], filter==($0, 1)]]]", 1000d)
+            )
+        );
+    }
+
+    /**
+     * Every value of {@code small.f0} matches 1/100 of the rows of {@code p}, i.e. 1000 * 100 / 100 rows.
+     */
+    @Test
+    public void testJoinRowCount() {
+        assertPlan(
+            optimizePhysical("SELECT p.f3, small.f1 FROM p JOIN small ON p.f2 = small.f0"),
+            plan(
+                planRow(0, RootPhysicalRel.class, "", 1000d),
+                planRow(1, ProjectPhysicalRel.class, "f3=[$1], f1=[$3]", 1000d),
+                planRow(2, HashJoinPhysicalRel.class, "condition=[=($0, $2)], joinType=[inner], leftHashKeys=[[0]], "
+                    + "rightHashKeys=[[0]]", 1000d),
+                planRow(3, MapScanPhysicalRel.class, "table=[[hazelcast, p[projects=[2, 3]]]]", 1000d),
+                planRow(3, MapScanPhysicalRel.class, "table=[[hazelcast, small[projects=[0, 1]]]]", 100d)
+            )
+        );
+    }
+}
@@ -97,50 +97,88 @@ public class ParserOperationsTest {
     }
 
     @Test
-    public void testUnsupportedOrderBy() {
+    public void testOrderBy() {
+        checkSuccess("SELECT a FROM t ORDER BY a");
+        checkSuccess("SELECT a, b FROM t ORDER BY a DESC, b ASC");
+    }
+
+    @Test
+    public void testUnsupportedNullsFirst() {
         checkFailure(
-            "SELECT a FROM t ORDER BY a",
-            "ORDER BY is not supported"
+            "SELECT a FROM t ORDER BY a NULLS FIRST",
+            "NULLS FIRST is not supported"
         );
     }
 
     @Test
-    public void testUnsupportedGroupBy() {
+    public void testGroupBy() {
+        checkSuccess("SELECT a FROM t GROUP BY a");
+        checkSuccess("SELECT a, SUM(b) FROM t GROUP BY a HAVING SUM(b) > 1");
+    }
+
+    @Test
+    public void testAggregate() {
+        checkSuccess("SELECT COUNT(*), COUNT(a), SUM(a), AVG(a), MIN(a), MAX(a) FROM t");
+    }
+
+    @Test
+    public void testUnsupportedGroupingSets() {
         checkFailure(
-            "SELECT a FROM t GROUP BY a",
-            "GROUP BY is not supported"
+            "SELECT a FROM t GROUP BY ROLLUP(a)",
+            "ROLLUP is not supported"
         );
     }
 
     @Test
-    public void testUnsupportedLimit() {
+    public void testLimit() {
+        checkSuccess("SELECT a FROM t LIMIT 1");
+        checkSuccess("SELECT a FROM t ORDER BY a LIMIT 1");
+    }
+
+    @Test
+    public void testOffset() {
+        checkSuccess("SELECT a FROM t OFFSET 1");
+        checkSuccess("SELECT a FROM t ORDER BY a LIMIT 1 OFFSET 1");
+    }
+
+    @Test
+    public void testUnsupportedAggregate() {
         checkFailure(
-              "SELECT a FROM t LIMIT 1",
-              "LIMIT is not supported"
+            "SELECT STDDEV(a) FROM t",
+            "STDDEV is not supported"
         );
     }
 
     @Test
-    public void testUnsupportedOffset() {
+    public void testUnsupportedDistinctAggregate() {
         checkFailure(
-              "SELECT a FROM t OFFSET 1",
-              "OFFSET is not supported"
+            "SELECT SUM(DISTINCT a) FROM t",
+            "DISTINCT aggregate is not supported"
         );
     }
 
     @Test
-    public void testUnsupportedAggregate() {
+    public void testJoin() {
+        checkSuccess("SELECT t1.a, t2.a FROM t t1 JOIN t t2 ON t1.a = t2.a");
+        checkSuccess("SELECT t1.a, t2.a FROM t t1 INNER JOIN t t2 ON t1.a = t2.a AND t1.b > t2.b");
+        checkSuccess("SELECT t1.a, t2.a FROM t t1 LEFT JOIN t t2 ON t1.a = t2.a");
+        checkSuccess("SELECT t1.a, t2.a FROM t t1, t t2 WHERE t1.a = t2.a");
+        checkSuccess("SELECT t1.a, t2.a FROM t t1 CROSS JOIN t t2");
+    }
+
+    @Test
+    public void testUnsupportedRightJoin() {
         checkFailure(
-            "SELECT SUM(a) FROM t",
-            "SUM is not supported"
+            "SELECT t1.a, t2.a FROM t t1 RIGHT JOIN t t2 ON t1.a = t2.a",
+            "RIGHT JOIN is not supported"
         );
     }
 
     @Test
-    public void testUnsupportedJoin() {
+    public void testUnsupportedFullJoin() {
         checkFailure(
-            "SELECT t1.a, t2.a FROM t t1 JOIN t t2 ON t1.a = t2.a",
-            "JOIN is not supported"
+            "SELECT t1.a, t2.a FROM t t1 FULL JOIN t t2 ON t1.a = t2.a",
+            "FULL JOIN is not supported"
         );
     }
 
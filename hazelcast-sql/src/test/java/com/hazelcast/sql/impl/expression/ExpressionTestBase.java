@@ -31,6 +31,7 @@ import com.hazelcast.sql.impl.QueryUtils;
 import com.hazelcast.sql.impl.SqlTestSupport;
 import com.hazelcast.sql.impl.calcite.OptimizerContext;
 import com.hazelcast.sql.impl.calcite.SqlToQueryType;
+import com.hazelcast.sql.impl.calcite.compile.JaninoExpressionCompiler;
 import com.hazelcast.sql.impl.calcite.opt.physical.visitor.RexToExpressionVisitor;
 import com.hazelcast.sql.impl.calcite.parse.QueryParseResult;
 import com.hazelcast.sql.impl.calcite.schema.HazelcastSchema;
@@ -39,6 +40,8 @@ import com.hazelcast.sql.impl.calcite.schema.MapTableStatistic;
 import com.hazelcast.sql.impl.calcite.validate.types.HazelcastTypeFactory;
 import com.hazelcast.sql.impl.calcite.validate.types.HazelcastTypeSystem;
 import com.hazelcast.sql.impl.plan.node.PlanNodeSchema;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.ColumnarRowBatch;
 import com.hazelcast.sql.impl.row.Row;
 import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
 import com.hazelcast.sql.impl.schema.TableField;
@@ -175,6 +178,8 @@ public abstract class ExpressionTestBase extends SqlTestSupport {
         }
     };
 
+    private static final ExpressionCompiler COMPILER = new JaninoExpressionCompiler();
+
     private static final SqlTypeName[] TYPE_NAMES;
 
     static {
@@ -754,6 +759,10 @@ public abstract class ExpressionTestBase extends SqlTestSupport {
 
         List<Object> parameters = new ArrayList<>();
 
+        // Compile the expression, null if it is interpreted anyway.
+
+        Expression<?> compiledExpression = COMPILER.compile(expression);
+
         // Calculate possible substitutions of values.
 
         List<List<Operand>> substitutions = new ArrayList<>();
@@ -829,6 +838,32 @@ public abstract class ExpressionTestBase extends SqlTestSupport {
                 Object expected = expectedValues.compute(operands, types, args);
 
                 assertEquals(id + ": " + Arrays.toString(args), expected, actual);
+
+                // Evaluate on a columnar batch and assert.
+
+                Object actualBatch;
+                try {
+                    actualBatch = evalBatch(expression, columns, parameters);
+                } catch (QueryException e) {
+                    assert e.getCode() == SqlErrorCode.DATA_EXCEPTION : "id=" + id + ", error=" + e;
+                    actualBatch = INVALID_VALUE;
+                }
+
+                assertEquals(id + " (batch): " + Arrays.toString(args), expected, actualBatch);
+
+                // Evaluate the compiled expression and assert.
+
+                if (compiledExpression != null) {
+                    Object actualCompiled;
+                    try {
+                        actualCompiled = compiledExpression.eval(row, parameters::get);
+                    } catch (QueryException e) {
+                        assert e.getCode() == SqlErrorCode.DATA_EXCEPTION : "id=" + id + ", error=" + e;
+                        actualCompiled = INVALID_VALUE;
+                    }
+
+                    assertEquals(id + " (compiled): " + Arrays.toString(args), expected, actualCompiled);
+                }
             }
 
             // Generate next substitution (Cartesian product).
@@ -847,6 +882,28 @@ public abstract class ExpressionTestBase extends SqlTestSupport {
         }
     }
 
+    /**
+     * Evaluates the expression on a columnar batch of two rows: the first row
+     * has only nulls and is not selected, the second row has the given column
+     * values.
+     */
+    private static Object evalBatch(Expression<?> expression, Object[] columns, List<Object> parameters) {
+        ColumnVector[] vectors = new ColumnVector[columns.length];
+
+        int i = 0;
+        for (QueryDataType fieldType : FIELDS.values()) {
+            ColumnVector vector = ColumnVector.create(fieldType, 2);
+            vector.setNull(0);
+            vector.set(1, columns[i]);
+
+            vectors[i++] = vector;
+        }
+
+        ColumnVector res = expression.evalBatch(new ColumnarRowBatch(vectors, 2), new int[] { 1 }, 1, parameters::get);
+
+        return res.get(1);
+    }
+
     protected static final class Operand {
 
         private static final Map<RelDataType, List<Operand>> SUBSTITUTIONS_CACHE = new ConcurrentHashMap<>();
@@ -1038,7 +1095,8 @@ public abstract class ExpressionTestBase extends SqlTestSupport {
             fields.add(new TableField(entry.getKey(), entry.getValue(), false));
         }
 
-        PartitionedMapTable table = new PartitionedMapTable("t", fields, new ConstantTableStatistics(100), null, null);
+        PartitionedMapTable table = new PartitionedMapTable("t", fields, new ConstantTableStatistics(100), null, null,
+            Collections.emptyList());
 
         HazelcastTable hazelcastTable = new HazelcastTable(table, new MapTableStatistic(100));
         return OptimizerContext.create(new HazelcastSchema(singletonMap("t", hazelcastTable)),
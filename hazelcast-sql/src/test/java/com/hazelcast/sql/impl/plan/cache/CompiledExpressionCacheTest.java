@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.cache;
+
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.CompiledExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionCompiler;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompiledExpressionCacheTest extends PlanCacheTestSupport {
+    @Test
+    public void testBasicOperations() {
+        TestExpressionCompiler compiler = new TestExpressionCompiler();
+        CompiledExpressionCache cache = new CompiledExpressionCache(compiler, 10);
+
+        // Compile
+        Expression<Boolean> expression = createExpression(0);
+        Expression<Boolean> compiled = cache.compile(expression);
+        assertTrue(compiled instanceof TestCompiledExpression);
+        assertSame(expression, ((TestCompiledExpression<?>) compiled).getSource());
+        assertEquals(1, compiler.invocations);
+        assertEquals(1, cache.size());
+
+        // Get the cached expression for an equal expression
+        assertSame(compiled, cache.compile(createExpression(0)));
+        assertEquals(1, compiler.invocations);
+        assertEquals(1, cache.size());
+
+        // Null expressions are not cached
+        assertNull(cache.compile(null));
+        assertEquals(1, cache.size());
+
+        // Clear
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertTrue(cache.compile(expression) instanceof TestCompiledExpression);
+        assertEquals(2, compiler.invocations);
+    }
+
+    @Test
+    public void testNotCompiled() {
+        TestExpressionCompiler compiler = new TestExpressionCompiler();
+        CompiledExpressionCache cache = new CompiledExpressionCache(compiler, 10);
+
+        // The source expression is returned and cached, so that compilation is not attempted again
+        Expression<?> expression = ColumnExpression.create(0, QueryDataType.INT);
+        assertSame(expression, cache.compile(expression));
+        assertSame(expression, cache.compile(expression));
+        assertEquals(1, compiler.invocations);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testOverflow() {
+        // Fill till full
+        int size = 5;
+
+        TestExpressionCompiler compiler = new TestExpressionCompiler();
+        CompiledExpressionCache cache = new CompiledExpressionCache(compiler, size);
+
+        for (int i = 0; i < size; i++) {
+            cache.compile(createExpression(i));
+
+            advanceTime();
+        }
+
+        assertEquals(size, cache.size());
+
+        // Overflow happens here
+        cache.compile(createExpression(size));
+
+        assertEquals(size, cache.size());
+        assertEquals(size + 1, compiler.invocations);
+
+        for (int i = 0; i < size; i++) {
+            cache.compile(createExpression(i + 1));
+        }
+
+        assertEquals(size + 1, compiler.invocations);
+    }
+
+    private static Expression<Boolean> createExpression(int value) {
+        return IsNullPredicate.create(ConstantExpression.create(value, QueryDataType.INT));
+    }
+
+    private static class TestExpressionCompiler implements ExpressionCompiler {
+
+        private int invocations;
+
+        @Override
+        public <T> Expression<T> compile(Expression<T> expression) {
+            invocations++;
+
+            if (expression instanceof ColumnExpression) {
+                return null;
+            }
+
+            return new TestCompiledExpression<>(expression);
+        }
+    }
+
+    private static class TestCompiledExpression<T> extends CompiledExpression<T> {
+        private TestCompiledExpression(Expression<T> source) {
+            super(source);
+        }
+
+        @Override
+        public T eval(Row row, ExpressionEvalContext context) {
+            return source.eval(row, context);
+        }
+    }
+}
@@ -70,6 +70,7 @@ public class PlanCacheTestSupport extends SqlTestSupport {
             null,
             null,
             null,
+            null,
             QueryParameterMetadata.EMPTY,
             key,
             objectIds0
@@ -22,6 +22,7 @@ import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Objects;
 
 public final class CountAggregator<I> extends AbstractAggregator<I, Object, Long> implements IdentifiedDataSerializable {
@@ -40,6 +41,23 @@ public final class CountAggregator<I> extends AbstractAggregator<I, Object, Long
         count++;
     }
 
+    /**
+     * Accumulates the given entries by their number if this aggregator counts
+     * the entries themselves rather than the values of an attribute, so the
+     * entries and their values are not accessed at all.
+     *
+     * @param entries the entries to accumulate.
+     * @return {@code true} if the entries were accumulated, {@code false} if
+     * they have to be accumulated one by one.
+     */
+    public boolean accumulateAll(Collection<?> entries) {
+        if (attributePath != null) {
+            return false;
+        }
+        count += entries.size();
+        return true;
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         CountAggregator countAggregator = (CountAggregator) aggregator;
@@ -18,6 +18,7 @@ package com.hazelcast.cache.impl;
 
 import com.hazelcast.cache.CacheEventType;
 import com.hazelcast.cache.CacheNotExistsException;
+import com.hazelcast.cache.impl.eviction.CacheClearExpiredRecordsTask;
 import com.hazelcast.cache.impl.maxsize.impl.EntryCountCacheEvictionChecker;
 import com.hazelcast.cache.impl.record.CacheRecord;
 import com.hazelcast.cache.impl.record.CacheRecordFactory;
@@ -39,13 +40,16 @@ import com.hazelcast.internal.eviction.EvictionCandidate;
 import com.hazelcast.internal.eviction.EvictionChecker;
 import com.hazelcast.internal.eviction.EvictionListener;
 import com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider;
+import com.hazelcast.internal.eviction.ExpirationIndex;
 import com.hazelcast.internal.eviction.ExpiredKey;
+import com.hazelcast.internal.eviction.impl.comparator.TinyLFUEvictionPolicyComparator;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
 import com.hazelcast.internal.eviction.impl.strategy.sampling.SamplingEvictionStrategy;
 import com.hazelcast.internal.iteration.IterationPointer;
 import com.hazelcast.internal.nearcache.impl.invalidation.InvalidationQueue;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DataCompressor;
 import com.hazelcast.internal.services.ObjectNamespace;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.ExceptionUtil;
@@ -74,12 +78,14 @@ import javax.cache.integration.CacheWriter;
 import javax.cache.integration.CacheWriterException;
 import javax.cache.processor.EntryProcessor;
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -133,8 +139,18 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     protected final CacheRecordFactory cacheRecordFactory;
     protected final EventJournalConfig eventJournalConfig;
     protected final ClearExpiredRecordsTask clearExpiredRecordsTask;
+    /**
+     * Index of keys by their expiration time, {@code null} if expired
+     * entries are found by iterating over the records instead.
+     */
+    protected final ExpirationIndex<Data> expirationIndex;
     protected final SamplingEvictionStrategy<Data, R, CRM> evictionStrategy;
     protected final EvictionPolicyEvaluator<Data, R> evictionPolicyEvaluator;
+    /**
+     * Set only when the eviction policy is
+     * {@link com.hazelcast.config.EvictionPolicy#TINY_LFU}, to record key accesses.
+     */
+    protected final TinyLFUEvictionPolicyComparator tinyLFUComparator;
     protected final Map<CacheEventType, Set<CacheEventData>> batchEvent = new HashMap<CacheEventType, Set<CacheEventData>>();
 
     protected boolean primary;
@@ -178,15 +194,19 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
             EvictionPolicyComparator evictionPolicyComparator = createEvictionPolicyComparator(evictionConfig);
             evictionPolicyComparator = injectDependencies(evictionPolicyComparator);
             this.evictionPolicyEvaluator = new EvictionPolicyEvaluator<>(evictionPolicyComparator);
+            this.tinyLFUComparator = evictionPolicyComparator instanceof TinyLFUEvictionPolicyComparator
+                    ? (TinyLFUEvictionPolicyComparator) evictionPolicyComparator : null;
             this.cacheContext = cacheService.getOrCreateCacheContext(cacheNameWithPrefix);
             this.records = createRecordCacheMap();
             this.evictionChecker = createCacheEvictionChecker(evictionConfig.getSize(), evictionConfig.getMaxSizePolicy());
             this.evictionStrategy = createEvictionStrategy(evictionConfig);
             this.objectNamespace = CacheService.getObjectNamespace(cacheNameWithPrefix);
             this.persistWanReplicatedData = canPersistWanReplicatedData(cacheConfig, nodeEngine);
-            this.cacheRecordFactory = new CacheRecordFactory(cacheConfig.getInMemoryFormat(), ss);
+            this.cacheRecordFactory = new CacheRecordFactory(cacheConfig.getInMemoryFormat(),
+                    cacheConfig.isValueCompressionEnabled(), ss);
             this.valueComparator = getValueComparatorOf(cacheConfig.getInMemoryFormat());
             this.clearExpiredRecordsTask = cacheService.getExpirationManager().getTask();
+            this.expirationIndex = isExpirationIndexEnabled(clearExpiredRecordsTask) ? new ExpirationIndex<>() : null;
 
             registerResourceIfItIsClosable(cacheWriter);
             registerResourceIfItIsClosable(cacheLoader);
@@ -201,6 +221,11 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
         }
     }
 
+    private static boolean isExpirationIndexEnabled(ClearExpiredRecordsTask clearExpiredRecordsTask) {
+        return clearExpiredRecordsTask instanceof CacheClearExpiredRecordsTask
+                && ((CacheClearExpiredRecordsTask) clearExpiredRecordsTask).isExpirationIndexEnabled();
+    }
+
     private void initializeStatisticsAndFactories(String cacheNameWithPrefix) {
         if (cacheConfig.isStatisticsEnabled()) {
             statistics = cacheService.createCacheStatIfAbsent(cacheNameWithPrefix);
@@ -355,7 +380,12 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
 
         Closeable tenantContext = getTenantControl(cacheConfig).setTenant(false);
         try {
-            return EvictionPolicyEvaluatorProvider.getEvictionPolicyComparator(evictionConfig, nodeEngine.getConfigClassLoader());
+            // eviction is done per partition, so is the frequency tracking of TinyLFU
+            int expectedKeyCount = evictionConfig.getMaxSizePolicy() == MaxSizePolicy.ENTRY_COUNT
+                    ? evictionConfig.getSize() / partitionCount
+                    : TinyLFUEvictionPolicyComparator.DEFAULT_EXPECTED_KEY_COUNT / partitionCount;
+            return EvictionPolicyEvaluatorProvider.getEvictionPolicyComparator(evictionConfig,
+                    nodeEngine.getConfigClassLoader(), expectedKeyCount);
         } finally {
             closeResource(tenantContext);
         }
@@ -554,6 +584,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
         } else {
             cacheService.eventJournal.writeEvictEvent(eventJournalConfig, objectNamespace, partitionId, key, record.getValue());
         }
+        removeFromExpirationIndex(key);
         invalidateEntry(key);
     }
 
@@ -595,6 +626,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
             if (expiryDuration != null) {
                 expiryTime = getAdjustedExpireTime(expiryDuration, now);
                 record.setExpirationTime(expiryTime);
+                updateExpirationIndex(key, record);
                 if (isEventsEnabled()) {
                     CacheEventContext cacheEventContext =
                             createBaseEventContext(CacheEventType.EXPIRATION_TIME_UPDATED, toEventData(key),
@@ -612,9 +644,16 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     protected long onRecordAccess(Data key, R record, ExpiryPolicy expiryPolicy, long now) {
         record.setLastAccessTime(now);
         record.incrementHits();
+        recordKeyAccess(key);
         return updateAccessDuration(key, record, expiryPolicy, now);
     }
 
+    protected void recordKeyAccess(Data key) {
+        if (tinyLFUComparator != null) {
+            tinyLFUComparator.recordAccess(key);
+        }
+    }
+
     protected void updateReplaceStat(boolean result, boolean isHit, long startNanos) {
         if (isStatisticsEnabled()) {
             if (result) {
@@ -708,6 +747,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
             // Writing to `CacheWriter` failed, so we should revert entry (remove added record).
             final R removed = records.remove(key);
             if (removed != null) {
+                removeFromExpirationIndex(key);
                 cacheService.eventJournal.writeRemoveEvent(eventJournalConfig, objectNamespace, partitionId,
                         key, removed.getValue());
             }
@@ -776,6 +816,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
 
     protected void updateRecord(Data key, CacheRecord record, long expiryTime, long now, UUID origin) {
         record.setExpirationTime(expiryTime);
+        updateExpirationIndex(key, record);
         invalidateEntry(key, origin);
     }
 
@@ -787,6 +828,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
         Object recordValue = value;
         try {
             updateExpiryTime(record, expiryTime);
+            updateExpirationIndex(key, record);
             if (isExpiredAt(expiryTime, now)) {
                 // No need to update record value if it is expired
                 if (!disableWriteThrough) {
@@ -896,7 +938,11 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     }
 
     protected void updateRecordValue(R record, Object recordValue) {
-        record.setValue(recordValue);
+        if (cacheConfig.isValueCompressionEnabled() && recordValue instanceof Data) {
+            record.setValue(DataCompressor.compress((Data) recordValue));
+        } else {
+            record.setValue(recordValue);
+        }
     }
 
     @SuppressWarnings("checkstyle:parameternumber")
@@ -1128,6 +1174,8 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     protected R doPutRecord(Data key, R record, UUID source, boolean updateJournal) {
         markExpirable(record.getExpirationTime());
         R oldRecord = records.put(key, record);
+        updateExpirationIndex(key, record);
+        recordKeyAccess(key);
         if (updateJournal) {
             if (oldRecord != null) {
                 cacheService.eventJournal.writeUpdateEvent(
@@ -1149,6 +1197,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     protected R doRemoveRecord(Data key, UUID source) {
         R removedRecord = records.remove(key);
         if (removedRecord != null) {
+            removeFromExpirationIndex(key);
             cacheService.eventJournal.writeRemoveEvent(eventJournalConfig, objectNamespace, partitionId,
                     key, removedRecord.getValue());
             invalidateEntry(key, source);
@@ -1204,6 +1253,11 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     public void evictExpiredEntries(int expirationPercentage) {
         long now = Clock.currentTimeMillis();
         int maxIterationCount = getMaxIterationCount(size(), expirationPercentage);
+        if (expirationIndex != null) {
+            evictExpiredFromIndex(maxIterationCount, now);
+            return;
+        }
+
         int evictedCount = 0;
         int maxRetry = 3;
         int loop = 0;
@@ -1245,6 +1299,39 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
         return evictedCount;
     }
 
+    /**
+     * Evicts the records whose keys are due in the {@link #expirationIndex}.
+     * Keys of records which did not expire yet are scheduled again.
+     */
+    private void evictExpiredFromIndex(int maxIterationCount, long now) {
+        List<Data> dueKeys = new ArrayList<>();
+        expirationIndex.poll(now, maxIterationCount, dueKeys);
+
+        for (Data key : dueKeys) {
+            R record = records.get(key);
+            if (record == null) {
+                continue;
+            }
+            if (!evictIfExpired(key, record, now)) {
+                long expirationTime = record.getExpirationTime();
+                expirationIndex.schedule(key, expirationTime > now
+                        ? expirationTime : now + ExpirationIndex.DEFAULT_TICK_MILLIS);
+            }
+        }
+    }
+
+    protected void updateExpirationIndex(Data key, CacheRecord record) {
+        if (expirationIndex != null) {
+            expirationIndex.schedule(toHeapData(key), record.getExpirationTime());
+        }
+    }
+
+    protected void removeFromExpirationIndex(Data key) {
+        if (expirationIndex != null) {
+            expirationIndex.remove(toHeapData(key));
+        }
+    }
+
     private int getMaxIterationCount(int size, int percentage) {
         final int defaultMaxIterationCount = 100;
         final float oneHundred = 100F;
@@ -1902,6 +1989,9 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     @Override
     public void reset() {
         records.clear();
+        if (expirationIndex != null) {
+            expirationIndex.clear();
+        }
     }
 
     @Override
@@ -60,6 +60,12 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * partitions in each round. No default value exists. Dynamically
  * calculated against partition-count or partition-thread-count.
  * </li>
+ * <li>
+ * {@value PROP_EXPIRATION_INDEX_ENABLED}: Used to enable/disable
+ * the per-partition expiration index. When enabled, each round
+ * removes the entries whose expiration time has passed instead
+ * of scanning a percentage of the partition. Default is false.
+ * </li>
  * </ul>
  *
  * <p>
@@ -81,6 +87,7 @@ public class CacheClearExpiredRecordsTask
         extends ClearExpiredRecordsTask<CachePartitionSegment, ICacheRecordStore> {
 
     public static final String PROP_CLEANUP_ENABLED = "hazelcast.internal.cache.expiration.cleanup.enabled";
+    public static final String PROP_EXPIRATION_INDEX_ENABLED = "hazelcast.internal.cache.expiration.index.enabled";
     public static final String PROP_CLEANUP_PERCENTAGE = "hazelcast.internal.cache.expiration.cleanup.percentage";
     public static final String PROP_TASK_PERIOD_SECONDS = "hazelcast.internal.cache.expiration.task.period.seconds";
     public static final String PROP_CLEANUP_OPERATION_COUNT = "hazelcast.internal.cache.expiration.cleanup.operation.count";
@@ -93,6 +100,10 @@ public class CacheClearExpiredRecordsTask
             = new HazelcastProperty(PROP_CLEANUP_PERCENTAGE, DEFAULT_CLEANUP_PERCENTAGE);
     private static final HazelcastProperty CLEANUP_OPERATION_COUNT = new HazelcastProperty(PROP_CLEANUP_OPERATION_COUNT);
     private static final HazelcastProperty CLEANUP_ENABLED = new HazelcastProperty(PROP_CLEANUP_ENABLED, true);
+    private static final HazelcastProperty EXPIRATION_INDEX_ENABLED
+            = new HazelcastProperty(PROP_EXPIRATION_INDEX_ENABLED, false);
+
+    private final boolean expirationIndexEnabled;
 
     private final Comparator<CachePartitionSegment> partitionSegmentComparator = (o1, o2) -> {
         long s1 = o1.getLastCleanupTimeBeforeSorting();
@@ -103,6 +114,11 @@ public class CacheClearExpiredRecordsTask
     public CacheClearExpiredRecordsTask(CachePartitionSegment[] containers, NodeEngine nodeEngine) {
         super(SERVICE_NAME, containers, CLEANUP_ENABLED, CLEANUP_OPERATION_COUNT,
                 CLEANUP_PERCENTAGE, TASK_PERIOD_SECONDS, nodeEngine);
+        this.expirationIndexEnabled = nodeEngine.getProperties().getBoolean(EXPIRATION_INDEX_ENABLED);
+    }
+
+    public boolean isExpirationIndexEnabled() {
+        return expirationIndexEnabled;
     }
 
     @Override
@@ -21,6 +21,7 @@ import com.hazelcast.internal.nio.IOUtil;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.DataCompressor;
 
 import java.io.IOException;
 
@@ -43,7 +44,7 @@ public class CacheDataRecord extends AbstractCacheRecord<Data, Data> {
 
     @Override
     public Data getValue() {
-        return value;
+        return DataCompressor.decompress(value);
     }
 
     @Override
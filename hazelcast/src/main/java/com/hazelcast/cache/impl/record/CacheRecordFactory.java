@@ -19,6 +19,7 @@ package com.hazelcast.cache.impl.record;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DataCompressor;
 
 /**
  * Provides factory for {@link com.hazelcast.cache.impl.record.CacheRecord}.
@@ -30,9 +31,16 @@ public class CacheRecordFactory<R extends CacheRecord> {
 
     protected InMemoryFormat inMemoryFormat;
     protected SerializationService serializationService;
+    protected boolean valueCompressionEnabled;
 
     public CacheRecordFactory(InMemoryFormat inMemoryFormat, SerializationService serializationService) {
+        this(inMemoryFormat, false, serializationService);
+    }
+
+    public CacheRecordFactory(InMemoryFormat inMemoryFormat, boolean valueCompressionEnabled,
+                              SerializationService serializationService) {
         this.inMemoryFormat = inMemoryFormat;
+        this.valueCompressionEnabled = valueCompressionEnabled;
         this.serializationService = serializationService;
     }
 
@@ -41,6 +49,9 @@ public class CacheRecordFactory<R extends CacheRecord> {
         switch (inMemoryFormat) {
             case BINARY:
                 Data dataValue = serializationService.toData(value);
+                if (valueCompressionEnabled) {
+                    dataValue = DataCompressor.compress(dataValue);
+                }
                 record = (R) createCacheDataRecord(dataValue, creationTime, expiryTime);
                 break;
             case OBJECT:
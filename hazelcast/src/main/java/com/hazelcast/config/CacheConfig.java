@@ -88,6 +88,8 @@ public class CacheConfig<K, V> extends AbstractCacheConfig<K, V> {
      */
     private boolean disablePerEntryInvalidationEvents;
 
+    private boolean valueCompressionEnabled;
+
     private TenantControl tenantControl = NOOP_TENANT_CONTROL;
 
     public CacheConfig() {
@@ -123,6 +125,7 @@ public class CacheConfig<K, V> extends AbstractCacheConfig<K, V> {
             this.splitBrainProtectionName = config.splitBrainProtectionName;
             this.mergePolicyConfig = new MergePolicyConfig(config.mergePolicyConfig);
             this.disablePerEntryInvalidationEvents = config.disablePerEntryInvalidationEvents;
+            this.valueCompressionEnabled = config.valueCompressionEnabled;
             this.serializationService = config.serializationService;
             this.classLoader = config.classLoader;
         }
@@ -159,6 +162,7 @@ public class CacheConfig<K, V> extends AbstractCacheConfig<K, V> {
         this.hotRestartConfig = new HotRestartConfig(simpleConfig.getHotRestartConfig());
         this.eventJournalConfig = new EventJournalConfig(simpleConfig.getEventJournalConfig());
         this.disablePerEntryInvalidationEvents = simpleConfig.isDisablePerEntryInvalidationEvents();
+        this.valueCompressionEnabled = simpleConfig.isValueCompressionEnabled();
     }
 
     private void initExpiryPolicyFactoryConfig(CacheSimpleConfig simpleConfig) throws Exception {
@@ -487,6 +491,30 @@ public class CacheConfig<K, V> extends AbstractCacheConfig<K, V> {
         return this;
     }
 
+    /**
+     * Checks if the values of this cache are kept compressed in memory.
+     *
+     * @return {@code true} if value compression is enabled, {@code false} otherwise
+     */
+    public boolean isValueCompressionEnabled() {
+        return valueCompressionEnabled;
+    }
+
+    /**
+     * Enables or disables value compression for this cache.
+     * <p>
+     * When enabled, large values of a cache with {@link InMemoryFormat#BINARY}
+     * format are kept compressed in memory and sent compressed during
+     * migrations. They are inflated when they are read.
+     *
+     * @param valueCompressionEnabled {@code true} to enable value compression, {@code false} to disable
+     * @return this configuration
+     */
+    public CacheConfig<K, V> setValueCompressionEnabled(boolean valueCompressionEnabled) {
+        this.valueCompressionEnabled = valueCompressionEnabled;
+        return this;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeUTF(name);
@@ -523,6 +551,7 @@ public class CacheConfig<K, V> extends AbstractCacheConfig<K, V> {
         out.writeBoolean(disablePerEntryInvalidationEvents);
 
         writePartitionLostListenerConfigs(out);
+        out.writeBoolean(valueCompressionEnabled);
     }
 
     private void writePartitionLostListenerConfigs(ObjectDataOutput out)
@@ -591,6 +620,7 @@ public class CacheConfig<K, V> extends AbstractCacheConfig<K, V> {
         this.serializationService = ((SerializationServiceSupport) in).getSerializationService();
 
         readPartitionLostListenerConfigs(in);
+        valueCompressionEnabled = in.readBoolean();
     }
 
     private void readPartitionLostListenerConfigs(ObjectDataInput in)
@@ -716,6 +746,7 @@ public class CacheConfig<K, V> extends AbstractCacheConfig<K, V> {
         target.setAsyncBackupCount(getAsyncBackupCount());
         target.setBackupCount(getBackupCount());
         target.setDisablePerEntryInvalidationEvents(isDisablePerEntryInvalidationEvents());
+        target.setValueCompressionEnabled(isValueCompressionEnabled());
         target.setEvictionConfig(getEvictionConfig());
         target.setHotRestartConfig(getHotRestartConfig());
         target.setEventJournalConfig(getEventJournalConfig());
@@ -108,6 +108,8 @@ public class CacheSimpleConfig implements IdentifiedDataSerializable, NamedConfi
      */
     private boolean disablePerEntryInvalidationEvents;
 
+    private boolean valueCompressionEnabled;
+
     @SuppressWarnings("checkstyle:executablestatementcount")
     public CacheSimpleConfig(CacheSimpleConfig cacheSimpleConfig) {
         this.name = cacheSimpleConfig.name;
@@ -139,6 +141,7 @@ public class CacheSimpleConfig implements IdentifiedDataSerializable, NamedConfi
         this.hotRestartConfig = new HotRestartConfig(cacheSimpleConfig.hotRestartConfig);
         this.eventJournalConfig = new EventJournalConfig(cacheSimpleConfig.eventJournalConfig);
         this.disablePerEntryInvalidationEvents = cacheSimpleConfig.disablePerEntryInvalidationEvents;
+        this.valueCompressionEnabled = cacheSimpleConfig.valueCompressionEnabled;
     }
 
     /**
@@ -699,6 +702,30 @@ public class CacheSimpleConfig implements IdentifiedDataSerializable, NamedConfi
         return this;
     }
 
+    /**
+     * Checks if the values of this cache are kept compressed in memory.
+     *
+     * @return {@code true} if value compression is enabled, {@code false} otherwise
+     */
+    public boolean isValueCompressionEnabled() {
+        return valueCompressionEnabled;
+    }
+
+    /**
+     * Enables or disables value compression for this cache.
+     * <p>
+     * When enabled, large values of a cache with {@link InMemoryFormat#BINARY}
+     * format are kept compressed in memory and sent compressed during
+     * migrations. They are inflated when they are read.
+     *
+     * @param valueCompressionEnabled {@code true} to enable value compression, {@code false} to disable
+     * @return this configuration
+     */
+    public CacheSimpleConfig setValueCompressionEnabled(boolean valueCompressionEnabled) {
+        this.valueCompressionEnabled = valueCompressionEnabled;
+        return this;
+    }
+
     @Override
     public int getFactoryId() {
         return ConfigDataSerializerHook.F_ID;
@@ -735,6 +762,7 @@ public class CacheSimpleConfig implements IdentifiedDataSerializable, NamedConfi
         out.writeObject(mergePolicyConfig);
         out.writeObject(hotRestartConfig);
         out.writeObject(eventJournalConfig);
+        out.writeBoolean(valueCompressionEnabled);
     }
 
     @Override
@@ -763,6 +791,7 @@ public class CacheSimpleConfig implements IdentifiedDataSerializable, NamedConfi
         mergePolicyConfig = in.readObject();
         hotRestartConfig = in.readObject();
         eventJournalConfig = in.readObject();
+        valueCompressionEnabled = in.readBoolean();
     }
 
     @Override
@@ -798,6 +827,9 @@ public class CacheSimpleConfig implements IdentifiedDataSerializable, NamedConfi
         if (disablePerEntryInvalidationEvents != that.disablePerEntryInvalidationEvents) {
             return false;
         }
+        if (valueCompressionEnabled != that.valueCompressionEnabled) {
+            return false;
+        }
         if (!name.equals(that.name)) {
             return false;
         }
@@ -876,6 +908,7 @@ public class CacheSimpleConfig implements IdentifiedDataSerializable, NamedConfi
         result = 31 * result + (hotRestartConfig != null ? hotRestartConfig.hashCode() : 0);
         result = 31 * result + (eventJournalConfig != null ? eventJournalConfig.hashCode() : 0);
         result = 31 * result + (disablePerEntryInvalidationEvents ? 1 : 0);
+        result = 31 * result + (valueCompressionEnabled ? 1 : 0);
         return result;
     }
 
@@ -905,6 +938,7 @@ public class CacheSimpleConfig implements IdentifiedDataSerializable, NamedConfi
                 + ", mergePolicyConfig=" + mergePolicyConfig
                 + ", hotRestartConfig=" + hotRestartConfig
                 + ", eventJournal=" + eventJournalConfig
+                + ", valueCompressionEnabled=" + valueCompressionEnabled
                 + '}';
     }
 
@@ -951,6 +951,8 @@ public class ConfigXmlGenerator {
                             "batch-size", mergePolicyConfig.getBatchSize())
                     .node("split-brain-protection-ref", m.getSplitBrainProtectionName())
                     .node("read-backup-data", m.isReadBackupData())
+                    .node("read-replica-policy", m.getReadReplicaPolicy())
+                    .node("value-compression-enabled", m.isValueCompressionEnabled())
                     .node("metadata-policy", m.getMetadataPolicy());
 
             evictionConfigXmlGenerator(gen, m.getEvictionConfig());
@@ -1035,6 +1037,7 @@ public class ConfigXmlGenerator {
             appendHotRestartConfig(gen, c.getHotRestartConfig());
 
             gen.node("disable-per-entry-invalidation-events", c.isDisablePerEntryInvalidationEvents())
+                    .node("value-compression-enabled", c.isValueCompressionEnabled())
                     .close();
         }
     }
@@ -1220,6 +1223,7 @@ public class ConfigXmlGenerator {
                     .node("factory-class-name", factoryClass)
                     .node("write-delay-seconds", s.getWriteDelaySeconds())
                     .node("write-batch-size", s.getWriteBatchSize())
+                    .node("offload", s.isOffload())
                     .appendProperties(s.getProperties())
                     .close();
         }
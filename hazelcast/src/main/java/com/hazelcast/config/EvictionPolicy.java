@@ -35,7 +35,15 @@ public enum EvictionPolicy {
     /**
      * Randomly
      */
-    RANDOM(3);
+    RANDOM(3),
+    /**
+     * Approximate Window TinyLFU: evicts the sampled entry with the lowest
+     * recent access frequency, as estimated by a count-min sketch which is
+     * periodically aged, falling back to least recently used on ties.
+     * Unlike {@link #LFU}, a burst of one-time accesses (e.g. a scan)
+     * cannot push frequently used entries out.
+     */
+    TINY_LFU(4);
 
     private static final EvictionPolicy[] VALUES = values();
 
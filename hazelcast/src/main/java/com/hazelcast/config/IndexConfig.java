@@ -55,6 +55,9 @@ public class IndexConfig implements IdentifiedDataSerializable {
     /** Indexed attributes. */
     private List<String> attributes;
 
+    /** Attributes stored in the index in addition to the indexed ones. */
+    private List<String> includedAttributes;
+
     private BitmapIndexOptions bitmapIndexOptions;
 
     public IndexConfig() {
@@ -94,6 +97,10 @@ public class IndexConfig implements IdentifiedDataSerializable {
         for (String attribute : other.getAttributes()) {
             addAttributeInternal(attribute);
         }
+
+        for (String includedAttribute : other.getIncludedAttributes()) {
+            addIncludedAttribute(includedAttribute);
+        }
     }
 
     /**
@@ -195,6 +202,67 @@ public class IndexConfig implements IdentifiedDataSerializable {
         return this;
     }
 
+    /**
+     * Gets attributes included into the index in addition to the indexed
+     * attributes.
+     * <p>
+     * Values of the included attributes, as well as values of the indexed
+     * attributes, are stored in the index for every indexed entry, so
+     * projections and aggregations of these attributes over entries
+     * matched by the index are served from the index without accessing
+     * and deserializing the entry values. This makes the index a covering
+     * one at the cost of additional memory.
+     *
+     * @return Included attributes.
+     */
+    public List<String> getIncludedAttributes() {
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        return includedAttributes;
+    }
+
+    /**
+     * Adds an attribute to be included into the index in addition to the
+     * indexed attributes.
+     *
+     * @param includedAttribute Included attribute name.
+     * @return This instance for chaining.
+     * @see #getIncludedAttributes()
+     */
+    public IndexConfig addIncludedAttribute(String includedAttribute) {
+        IndexUtils.validateAttribute(includedAttribute);
+
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        includedAttributes.add(includedAttribute);
+
+        return this;
+    }
+
+    /**
+     * Sets attributes to be included into the index in addition to the
+     * indexed attributes.
+     *
+     * @param includedAttributes Included attributes.
+     * @return This instance for chaining.
+     * @see #getIncludedAttributes()
+     */
+    public IndexConfig setIncludedAttributes(List<String> includedAttributes) {
+        checkNotNull(includedAttributes, "Index included attributes cannot be null.");
+
+        this.includedAttributes = new ArrayList<>(includedAttributes.size());
+
+        for (String includedAttribute : includedAttributes) {
+            addIncludedAttribute(includedAttribute);
+        }
+
+        return this;
+    }
+
     /**
      * Provides access to index options specific to bitmap indexes.
      *
@@ -234,6 +302,7 @@ public class IndexConfig implements IdentifiedDataSerializable {
         out.writeInt(type.getId());
         writeNullableList(attributes, out);
         out.writeObject(bitmapIndexOptions);
+        writeNullableList(includedAttributes, out);
     }
 
     @Override
@@ -242,6 +311,7 @@ public class IndexConfig implements IdentifiedDataSerializable {
         type = IndexType.getById(in.readInt());
         attributes = readNullableList(in);
         bitmapIndexOptions = in.readObject();
+        includedAttributes = readNullableList(in);
     }
 
     @Override
@@ -268,6 +338,10 @@ public class IndexConfig implements IdentifiedDataSerializable {
             return false;
         }
 
+        if (!getIncludedAttributes().equals(that.getIncludedAttributes())) {
+            return false;
+        }
+
         return getAttributes().equals(that.getAttributes());
     }
 
@@ -278,6 +352,7 @@ public class IndexConfig implements IdentifiedDataSerializable {
         result = 31 * result + (type != null ? type.hashCode() : 0);
         result = 31 * result + getAttributes().hashCode();
         result = 31 * result + getBitmapIndexOptions().hashCode();
+        result = 31 * result + getIncludedAttributes().hashCode();
 
         return result;
     }
@@ -285,6 +360,9 @@ public class IndexConfig implements IdentifiedDataSerializable {
     @Override
     public String toString() {
         String string = "IndexConfig{name=" + name + ", type=" + type + ", attributes=" + getAttributes();
+        if (includedAttributes != null && !includedAttributes.isEmpty()) {
+            string += ", includedAttributes=" + includedAttributes;
+        }
         if (bitmapIndexOptions != null && !bitmapIndexOptions.areDefault()) {
             string += ", bitmapIndexOptions=" + bitmapIndexOptions;
         }
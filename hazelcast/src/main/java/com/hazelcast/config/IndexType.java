@@ -26,8 +26,14 @@ public enum IndexType {
     /** Hash index. Can be used with equality predicates. */
     HASH(1),
 
-    /** Bitmap index. Can be used with equality predicates. */
-    BITMAP(2);
+    /** Bitmap index. Can be used with equality and range predicates. */
+    BITMAP(2),
+
+    /**
+     * Text index. Can be used with LIKE and ILIKE predicates having at least
+     * three consecutive literal characters.
+     */
+    TEXT(3);
 
     private final int id;
 
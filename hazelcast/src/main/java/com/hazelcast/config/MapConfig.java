@@ -99,7 +99,19 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig {
      */
     public static final EvictionPolicy DEFAULT_EVICTION_POLICY = EvictionPolicy.NONE;
 
+    /**
+     * Default replica read policy
+     */
+    public static final ReadReplicaPolicy DEFAULT_READ_REPLICA_POLICY = ReadReplicaPolicy.PRIMARY;
+
+    /**
+     * Default value compression flag
+     */
+    public static final boolean DEFAULT_VALUE_COMPRESSION_ENABLED = false;
+
     private boolean readBackupData;
+    private ReadReplicaPolicy readReplicaPolicy = DEFAULT_READ_REPLICA_POLICY;
+    private boolean valueCompressionEnabled = DEFAULT_VALUE_COMPRESSION_ENABLED;
     private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
     private int backupCount = DEFAULT_BACKUP_COUNT;
     private int asyncBackupCount = MIN_BACKUP_COUNT;
@@ -147,6 +159,8 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig {
         this.mapStoreConfig = config.mapStoreConfig != null ? new MapStoreConfig(config.mapStoreConfig) : null;
         this.nearCacheConfig = config.nearCacheConfig != null ? new NearCacheConfig(config.nearCacheConfig) : null;
         this.readBackupData = config.readBackupData;
+        this.readReplicaPolicy = config.readReplicaPolicy;
+        this.valueCompressionEnabled = config.valueCompressionEnabled;
         this.cacheDeserializedValues = config.cacheDeserializedValues;
         this.statisticsEnabled = config.statisticsEnabled;
         this.mergePolicyConfig = new MergePolicyConfig(config.mergePolicyConfig);
@@ -198,7 +212,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig {
      * <ul>
      * <li>BINARY (default): keys and values will be stored as binary data</li>
      * <li>OBJECT: values will be stored in their object forms</li>
-     * <li>NATIVE: values will be stored in non-heap region of JVM (Hazelcast Enterprise only)</li>
+     * <li>NATIVE: values will be stored in non-heap region of JVM (requires native memory to be enabled)</li>
      * </ul>
      *
      * @param inMemoryFormat the record type to set for this {@link IMap}
@@ -439,6 +453,58 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig {
         return this;
     }
 
+    /**
+     * Returns the {@link ReadReplicaPolicy} which decides the replica
+     * serving {@code get}, {@code getAll} and {@code containsKey} calls.
+     *
+     * @return the replica read policy of this map
+     */
+    public ReadReplicaPolicy getReadReplicaPolicy() {
+        return readReplicaPolicy;
+    }
+
+    /**
+     * Sets the {@link ReadReplicaPolicy} which decides the replica
+     * serving {@code get}, {@code getAll} and {@code containsKey} calls.
+     *
+     * @param readReplicaPolicy the replica read policy
+     * @return the current map config instance
+     */
+    public MapConfig setReadReplicaPolicy(ReadReplicaPolicy readReplicaPolicy) {
+        this.readReplicaPolicy = checkNotNull(readReplicaPolicy, "readReplicaPolicy cannot be null!");
+        return this;
+    }
+
+    /**
+     * Checks if the values of this map are kept compressed in memory.
+     *
+     * @return {@code true} if value compression is enabled, {@code false} otherwise
+     */
+    public boolean isValueCompressionEnabled() {
+        return valueCompressionEnabled;
+    }
+
+    /**
+     * Enables or disables value compression for this map.
+     * <p>
+     * When enabled, large values of a map with {@link InMemoryFormat#BINARY}
+     * format are deflated when they are stored. They are kept compressed in
+     * memory and sent compressed during migrations and replica
+     * synchronization, and they are inflated when they are read. Backups
+     * of single updates carry the plain value, which the backup replica
+     * compresses when it stores it. This trades CPU time for memory and
+     * network bandwidth, so it pays off for big values which compress
+     * well, like JSON documents. Values of maps with other formats are not
+     * compressed.
+     *
+     * @param valueCompressionEnabled {@code true} to enable value compression, {@code false} to disable
+     * @return the current map config instance
+     */
+    public MapConfig setValueCompressionEnabled(boolean valueCompressionEnabled) {
+        this.valueCompressionEnabled = valueCompressionEnabled;
+        return this;
+    }
+
     /**
      * Gets the WAN target replication reference.
      *
@@ -728,6 +794,12 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig {
         if (readBackupData != that.readBackupData) {
             return false;
         }
+        if (readReplicaPolicy != that.readReplicaPolicy) {
+            return false;
+        }
+        if (valueCompressionEnabled != that.valueCompressionEnabled) {
+            return false;
+        }
         if (statisticsEnabled != that.statisticsEnabled) {
             return false;
         }
@@ -799,6 +871,8 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig {
         result = 31 * result + (mapStoreConfig != null ? mapStoreConfig.hashCode() : 0);
         result = 31 * result + (nearCacheConfig != null ? nearCacheConfig.hashCode() : 0);
         result = 31 * result + (readBackupData ? 1 : 0);
+        result = 31 * result + readReplicaPolicy.hashCode();
+        result = 31 * result + (valueCompressionEnabled ? 1 : 0);
         result = 31 * result + cacheDeserializedValues.hashCode();
         result = 31 * result + (mergePolicyConfig != null ? mergePolicyConfig.hashCode() : 0);
         result = 31 * result + inMemoryFormat.hashCode();
@@ -829,6 +903,8 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig {
                 + ", timeToLiveSeconds=" + timeToLiveSeconds
                 + ", maxIdleSeconds=" + maxIdleSeconds
                 + ", readBackupData=" + readBackupData
+                + ", readReplicaPolicy=" + readReplicaPolicy
+                + ", valueCompressionEnabled=" + valueCompressionEnabled
                 + ", evictionConfig=" + evictionConfig
                 + ", merkleTree=" + merkleTreeConfig
                 + ", eventJournal=" + eventJournalConfig
@@ -883,6 +959,8 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig {
         out.writeObject(merkleTreeConfig);
         out.writeObject(eventJournalConfig);
         out.writeShort(metadataPolicy.getId());
+        out.writeShort(readReplicaPolicy.getId());
+        out.writeBoolean(valueCompressionEnabled);
     }
 
     @Override
@@ -912,5 +990,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig {
         merkleTreeConfig = in.readObject();
         eventJournalConfig = in.readObject();
         metadataPolicy = MetadataPolicy.getById(in.readShort());
+        readReplicaPolicy = ReadReplicaPolicy.getById(in.readShort());
+        valueCompressionEnabled = in.readBoolean();
     }
 }
@@ -48,9 +48,14 @@ public class MapStoreConfig implements IdentifiedDataSerializable {
      * Default write coalescing behavior
      */
     public static final boolean DEFAULT_WRITE_COALESCING = true;
+    /**
+     * Default offload behavior
+     */
+    public static final boolean DEFAULT_OFFLOAD = false;
 
     private boolean enabled = true;
     private boolean writeCoalescing = DEFAULT_WRITE_COALESCING;
+    private boolean offload = DEFAULT_OFFLOAD;
     private int writeDelaySeconds = DEFAULT_WRITE_DELAY_SECONDS;
     private int writeBatchSize = DEFAULT_WRITE_BATCH_SIZE;
     private String className;
@@ -87,6 +92,7 @@ public class MapStoreConfig implements IdentifiedDataSerializable {
         writeBatchSize = config.getWriteBatchSize();
         initialLoadMode = config.getInitialLoadMode();
         writeCoalescing = config.isWriteCoalescing();
+        offload = config.isOffload();
         properties.putAll(config.getProperties());
     }
 
@@ -322,6 +328,36 @@ public class MapStoreConfig implements IdentifiedDataSerializable {
         return this;
     }
 
+    /**
+     * Returns {@code true} if read-through loads are offloaded.
+     *
+     * @return {@code true} if offloading is enabled, {@code false} otherwise
+     * @see #setOffload(boolean)
+     */
+    public boolean isOffload() {
+        return offload;
+    }
+
+    /**
+     * Sets whether the {@link com.hazelcast.map.MapLoader#load(Object)} calls of
+     * {@link com.hazelcast.map.IMap#get(Object) IMap.get()} misses are
+     * offloaded from the partition thread.
+     * <p>
+     * When {@code true}, a missing key is loaded on an executor thread
+     * while the partition thread keeps serving other operations. Until
+     * the load completes, other operations on the same key wait for it,
+     * so concurrent misses for a key result in a single load.
+     * <p>
+     * Default value is {@value #DEFAULT_OFFLOAD}.
+     *
+     * @param offload {@code true} to offload loads, otherwise {@code false}
+     * @return this MapStoreConfig instance
+     */
+    public MapStoreConfig setOffload(boolean offload) {
+        this.offload = offload;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "MapStoreConfig{"
@@ -335,10 +371,12 @@ public class MapStoreConfig implements IdentifiedDataSerializable {
                 + ", properties=" + properties
                 + ", initialLoadMode=" + initialLoadMode
                 + ", writeCoalescing=" + writeCoalescing
+                + ", offload=" + offload
                 + '}';
     }
 
     @Override
+    @SuppressWarnings("checkstyle:cyclomaticcomplexity")
     public final boolean equals(Object o) {
         if (this == o) {
             return true;
@@ -351,6 +389,7 @@ public class MapStoreConfig implements IdentifiedDataSerializable {
 
         return enabled == that.enabled
             && writeCoalescing == that.writeCoalescing
+            && offload == that.offload
             && writeDelaySeconds == that.writeDelaySeconds
             && writeBatchSize == that.writeBatchSize
             && Objects.equals(implementation, that.implementation)
@@ -363,7 +402,7 @@ public class MapStoreConfig implements IdentifiedDataSerializable {
 
     @Override
     public final int hashCode() {
-        return Objects.hash(enabled, writeCoalescing, implementation, className, factoryImplementation, factoryClassName,
+        return Objects.hash(enabled, writeCoalescing, offload, implementation, className, factoryImplementation, factoryClassName,
             writeDelaySeconds, writeBatchSize, properties, initialLoadMode);
     }
 
@@ -390,6 +429,7 @@ public class MapStoreConfig implements IdentifiedDataSerializable {
         out.writeObject(factoryImplementation);
         out.writeObject(properties);
         out.writeUTF(initialLoadMode.name());
+        out.writeBoolean(offload);
     }
 
     @Override
@@ -404,5 +444,6 @@ public class MapStoreConfig implements IdentifiedDataSerializable {
         factoryImplementation = in.readObject();
         properties = in.readObject();
         initialLoadMode = InitialLoadMode.valueOf(in.readUTF());
+        offload = in.readBoolean();
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.config;
+
+/**
+ * Defines which replica of a partition serves the {@code get},
+ * {@code getAll} and {@code containsKey} calls of an
+ * {@link com.hazelcast.map.IMap IMap} proxy on a member.
+ * <p>
+ * Any policy other than {@link #PRIMARY} spreads the reads of hot keys
+ * over the primary and the synchronous backups of their partitions, at the
+ * cost of consistency: a backup may not have applied the latest updates
+ * yet, so a read may return a stale value or miss a recently added entry.
+ * Entries which are not found on a backup are read from the primary again
+ * if the map has a {@link MapStoreConfig map store}, since only the
+ * primary loads missing entries.
+ */
+public enum ReadReplicaPolicy {
+
+    /**
+     * All reads are served by the primary replica, unless
+     * {@link MapConfig#setReadBackupData(boolean) read-backup-data}
+     * allows reading a local backup. This is the default.
+     */
+    PRIMARY(0),
+
+    /**
+     * Reads are served by the local member if it holds a replica of the
+     * partition, otherwise by the least loaded replica.
+     */
+    PREFER_LOCAL(1),
+
+    /**
+     * Reads are served by the replica with the fewest reads in flight from
+     * this member, picking a random one among equally loaded replicas.
+     */
+    LEAST_LOADED(2);
+
+    private final int id;
+
+    ReadReplicaPolicy(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns enumeration id of this policy. We use id field instead of
+     * {@link #ordinal()} because this value is used in serialization.
+     * The ids for the known policies must not be changed.
+     *
+     * @return id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the ReadReplicaPolicy for the given ID.
+     *
+     * @return the ReadReplicaPolicy found or null if not found
+     */
+    public static ReadReplicaPolicy getById(int id) {
+        for (ReadReplicaPolicy policy : values()) {
+            if (policy.id == id) {
+                return policy;
+            }
+        }
+        return null;
+    }
+}
@@ -221,6 +221,11 @@ public class CacheConfigReadOnly<K, V> extends CacheConfig<K, V> {
         throw throwReadOnly();
     }
 
+    @Override
+    public CacheConfig<K, V> setValueCompressionEnabled(boolean valueCompressionEnabled) {
+        throw throwReadOnly();
+    }
+
     private UnsupportedOperationException throwReadOnly() {
         throw new UnsupportedOperationException("This config is read-only");
     }
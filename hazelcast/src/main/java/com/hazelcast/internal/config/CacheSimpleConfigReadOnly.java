@@ -174,6 +174,11 @@ public class CacheSimpleConfigReadOnly extends CacheSimpleConfig {
         throw new UnsupportedOperationException("This config is read-only cache: " + getName());
     }
 
+    @Override
+    public CacheSimpleConfig setValueCompressionEnabled(boolean valueCompressionEnabled) {
+        throw new UnsupportedOperationException("This config is read-only cache: " + getName());
+    }
+
     @Override
     public CacheSimpleConfig setHotRestartConfig(HotRestartConfig hotRestartConfig) {
         throw new UnsupportedOperationException("This config is read-only cache: " + getName());
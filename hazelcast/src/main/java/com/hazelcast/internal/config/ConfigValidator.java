@@ -59,6 +59,7 @@ import static com.hazelcast.config.EvictionPolicy.LFU;
 import static com.hazelcast.config.EvictionPolicy.LRU;
 import static com.hazelcast.config.EvictionPolicy.NONE;
 import static com.hazelcast.config.EvictionPolicy.RANDOM;
+import static com.hazelcast.config.EvictionPolicy.TINY_LFU;
 import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.config.MaxSizePolicy.ENTRY_COUNT;
 import static com.hazelcast.config.MaxSizePolicy.FREE_HEAP_PERCENTAGE;
@@ -89,13 +90,13 @@ import static java.lang.String.format;
 @SuppressWarnings({"checkstyle:classfanoutcomplexity", "checkstyle:methodcount"})
 public final class ConfigValidator {
 
-    public static final EnumSet<EvictionPolicy> COMMONLY_SUPPORTED_EVICTION_POLICIES = EnumSet.of(LRU, LFU);
+    public static final EnumSet<EvictionPolicy> COMMONLY_SUPPORTED_EVICTION_POLICIES = EnumSet.of(LRU, LFU, TINY_LFU);
 
     private static final EnumSet<MaxSizePolicy> NEAR_CACHE_SUPPORTED_ON_HEAP_MAX_SIZE_POLICIES
             = EnumSet.of(MaxSizePolicy.ENTRY_COUNT);
 
     private static final EnumSet<EvictionPolicy> MAP_SUPPORTED_EVICTION_POLICIES
-            = EnumSet.of(LRU, LFU, RANDOM, NONE);
+            = EnumSet.of(LRU, LFU, RANDOM, NONE, TINY_LFU);
 
     private static final EnumSet<MaxSizePolicy> MAP_SUPPORTED_NATIVE_MAX_SIZE_POLICIES
             = EnumSet.of(PER_NODE, PER_PARTITION, USED_NATIVE_MEMORY_PERCENTAGE,
@@ -125,11 +126,11 @@ public final class ConfigValidator {
                                       SplitBrainMergePolicyProvider mergePolicyProvider,
                                       HazelcastProperties properties) {
 
-        checkNotNativeWhenOpenSource(mapConfig.getInMemoryFormat());
-
         if (getBuildInfo().isEnterprise()) {
             checkMapNativeConfig(mapConfig, nativeMemoryConfig);
             checkHotRestartSpecificConfig(mapConfig, properties);
+        } else {
+            checkMapNativeMemoryEnabled(mapConfig, nativeMemoryConfig);
         }
 
         checkMapEvictionConfig(mapConfig.getEvictionConfig());
@@ -211,6 +212,17 @@ public final class ConfigValidator {
         checkMapNativeMaxSizePolicy(mapConfig);
     }
 
+    /**
+     * Open source maps keep NATIVE records in a malloc-backed store, which
+     * still needs the native memory config to be enabled to bound its size.
+     */
+    private static void checkMapNativeMemoryEnabled(MapConfig mapConfig, NativeMemoryConfig nativeMemoryConfig) {
+        if (NATIVE == mapConfig.getInMemoryFormat() && !nativeMemoryConfig.isEnabled()) {
+            throw new InvalidConfigurationException(format("Enable native memory config to use NATIVE"
+                    + " in-memory-format for the map [%s]", mapConfig.getName()));
+        }
+    }
+
     private static void checkMapNativeMaxSizePolicy(MapConfig mapConfig) {
         MaxSizePolicy maxSizePolicy = mapConfig.getEvictionConfig().getMaxSizePolicy();
         if (!MAP_SUPPORTED_NATIVE_MAX_SIZE_POLICIES.contains(maxSizePolicy)) {
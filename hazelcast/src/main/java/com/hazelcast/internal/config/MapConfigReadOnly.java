@@ -32,6 +32,7 @@ import com.hazelcast.config.MerkleTreeConfig;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.PartitioningStrategyConfig;
 import com.hazelcast.config.QueryCacheConfig;
+import com.hazelcast.config.ReadReplicaPolicy;
 import com.hazelcast.config.WanReplicationRef;
 import com.hazelcast.internal.util.CollectionUtil;
 
@@ -289,6 +290,16 @@ public class MapConfigReadOnly extends MapConfig {
         throw throwReadOnly();
     }
 
+    @Override
+    public MapConfig setReadReplicaPolicy(ReadReplicaPolicy readReplicaPolicy) {
+        throw throwReadOnly();
+    }
+
+    @Override
+    public MapConfig setValueCompressionEnabled(boolean valueCompressionEnabled) {
+        throw throwReadOnly();
+    }
+
     @Override
     public MapConfig setWanReplicationRef(WanReplicationRef wanReplicationRef) {
         throw throwReadOnly();
@@ -85,6 +85,7 @@ import com.hazelcast.config.ProbabilisticSplitBrainProtectionConfigBuilder;
 import com.hazelcast.config.QueryCacheConfig;
 import com.hazelcast.config.QueueConfig;
 import com.hazelcast.config.QueueStoreConfig;
+import com.hazelcast.config.ReadReplicaPolicy;
 import com.hazelcast.config.RecentlyActiveSplitBrainProtectionConfigBuilder;
 import com.hazelcast.config.ReliableTopicConfig;
 import com.hazelcast.config.ReplicatedMapConfig;
@@ -1785,6 +1786,10 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
                 mapConfig.setHotRestartConfig(createHotRestartConfig(node));
             } else if ("read-backup-data".equals(nodeName)) {
                 mapConfig.setReadBackupData(getBooleanValue(value));
+            } else if ("read-replica-policy".equals(nodeName)) {
+                mapConfig.setReadReplicaPolicy(ReadReplicaPolicy.valueOf(upperCaseInternal(value)));
+            } else if ("value-compression-enabled".equals(nodeName)) {
+                mapConfig.setValueCompressionEnabled(getBooleanValue(value));
             } else if ("statistics-enabled".equals(nodeName)) {
                 mapConfig.setStatisticsEnabled(getBooleanValue(value));
             } else if ("cache-deserialized-values".equals(nodeName)) {
@@ -1922,6 +1927,8 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
                 cacheConfig.setHotRestartConfig(createHotRestartConfig(n));
             } else if ("disable-per-entry-invalidation-events".equals(nodeName)) {
                 cacheConfig.setDisablePerEntryInvalidationEvents(getBooleanValue(value));
+            } else if ("value-compression-enabled".equals(nodeName)) {
+                cacheConfig.setValueCompressionEnabled(getBooleanValue(value));
             }
         }
         try {
@@ -2276,6 +2283,8 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
                 } else {
                     mapStoreConfig.setWriteCoalescing(getBooleanValue(writeCoalescing));
                 }
+            } else if ("offload".equals(nodeName)) {
+                mapStoreConfig.setOffload(getBooleanValue(getTextContent(n).trim()));
             } else if ("properties".equals(nodeName)) {
                 fillProperties(n, mapStoreConfig.getProperties());
             }
@@ -20,6 +20,7 @@ import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.internal.eviction.impl.comparator.LFUEvictionPolicyComparator;
 import com.hazelcast.internal.eviction.impl.comparator.LRUEvictionPolicyComparator;
 import com.hazelcast.internal.eviction.impl.comparator.RandomEvictionPolicyComparator;
+import com.hazelcast.internal.eviction.impl.comparator.TinyLFUEvictionPolicyComparator;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
 import com.hazelcast.spi.eviction.EvictionPolicyComparator;
@@ -67,6 +68,25 @@ public final class EvictionPolicyEvaluatorProvider {
      */
     public static EvictionPolicyComparator getEvictionPolicyComparator(EvictionConfiguration evictionConfig,
                                                                        ClassLoader classLoader) {
+        return getEvictionPolicyComparator(evictionConfig, classLoader,
+                TinyLFUEvictionPolicyComparator.DEFAULT_EXPECTED_KEY_COUNT);
+    }
+
+    /**
+     * @param evictionConfig   {@link EvictionConfiguration} for
+     *                         requested {@link EvictionPolicyEvaluator} implementation
+     * @param classLoader      the {@link java.lang.ClassLoader} to be
+     *                         used while creating custom {@link EvictionPolicyComparator}
+     *                         if it is specified in the config
+     * @param expectedKeyCount expected number of distinct keys the comparator
+     *                         will see, used to size stateful comparators
+     * @return {@link
+     * EvictionPolicyComparator} instance if it is defined, otherwise
+     * returns null to indicate there is no comparator defined
+     */
+    public static EvictionPolicyComparator getEvictionPolicyComparator(EvictionConfiguration evictionConfig,
+                                                                       ClassLoader classLoader,
+                                                                       int expectedKeyCount) {
         // 1. First check comparator class name
         String evictionPolicyComparatorClassName = evictionConfig.getComparatorClassName();
         if (!isNullOrEmpty(evictionPolicyComparatorClassName)) {
@@ -84,10 +104,11 @@ public final class EvictionPolicyEvaluatorProvider {
         }
 
         // 3. As a last resort, try to pick an out-of-the-box comparator implementation
-        return pickOutOfTheBoxComparator(evictionConfig.getEvictionPolicy());
+        return pickOutOfTheBoxComparator(evictionConfig.getEvictionPolicy(), expectedKeyCount);
     }
 
-    private static EvictionPolicyComparator pickOutOfTheBoxComparator(EvictionPolicy evictionPolicy) {
+    private static EvictionPolicyComparator pickOutOfTheBoxComparator(EvictionPolicy evictionPolicy,
+                                                                      int expectedKeyCount) {
         switch (evictionPolicy) {
             case LRU:
                 return LRUEvictionPolicyComparator.INSTANCE;
@@ -95,6 +116,9 @@ public final class EvictionPolicyEvaluatorProvider {
                 return LFUEvictionPolicyComparator.INSTANCE;
             case RANDOM:
                 return RandomEvictionPolicyComparator.INSTANCE;
+            case TINY_LFU:
+                // stateful, so not shared between data structures
+                return new TinyLFUEvictionPolicyComparator(expectedKeyCount);
             case NONE:
                 return null;
             default:
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.eviction;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Per-partition index of keys by their expiration time.
+ * <p>
+ * Expiration times are rounded up to {@code tickMillis} wide buckets
+ * and the buckets are kept sorted, so finding the expired keys costs
+ * work proportional to the number of expired keys instead of a scan
+ * over the whole record store.
+ * <p>
+ * The index is maintained lazily: a key is only guaranteed not to be
+ * returned before its scheduled time. Callers are expected to verify
+ * the expiration of returned keys against their records and to {@link
+ * #schedule} them again when their expiration time was extended in the
+ * meantime, e.g. by an access to an entry with max-idle.
+ * <p>
+ * Not thread-safe, expected to be accessed only from the partition
+ * thread owning the record store.
+ *
+ * @param <K> type of the indexed keys
+ */
+public final class ExpirationIndex<K> {
+
+    /**
+     * Default width of an expiration bucket.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 1000;
+
+    private final long tickMillis;
+    private final Map<K, Long> scheduledTicks = new HashMap<>();
+    private final TreeMap<Long, Set<K>> buckets = new TreeMap<>();
+
+    public ExpirationIndex() {
+        this(DEFAULT_TICK_MILLIS);
+    }
+
+    public ExpirationIndex(long tickMillis) {
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * Schedules {@code key} to be returned from {@link #poll} once {@code
+     * expirationTime} has been reached. A previous schedule of the same key
+     * is replaced. Keys which never expire are removed from the index.
+     *
+     * @param key            the key to schedule
+     * @param expirationTime expiration time of the key in millis
+     */
+    public void schedule(K key, long expirationTime) {
+        if (expirationTime <= 0 || expirationTime == Long.MAX_VALUE) {
+            remove(key);
+            return;
+        }
+
+        long tick = toTick(expirationTime);
+        Long previousTick = scheduledTicks.put(key, tick);
+        if (previousTick != null) {
+            if (previousTick == tick) {
+                return;
+            }
+            removeFromBucket(previousTick, key);
+        }
+        buckets.computeIfAbsent(tick, t -> new HashSet<>()).add(key);
+    }
+
+    /**
+     * Removes {@code key} from the index, if it is present.
+     *
+     * @param key the key to remove
+     */
+    public void remove(K key) {
+        Long tick = scheduledTicks.remove(key);
+        if (tick != null) {
+            removeFromBucket(tick, key);
+        }
+    }
+
+    /**
+     * Removes at most {@code maxCount} keys scheduled at or before {@code now}
+     * from the index and adds them to {@code expiredKeys}, earliest first.
+     *
+     * @param now         current time in millis
+     * @param maxCount    maximum number of keys to return
+     * @param expiredKeys collection to add the due keys to
+     * @return number of keys added to {@code expiredKeys}
+     */
+    public int poll(long now, int maxCount, Collection<K> expiredKeys) {
+        int count = 0;
+        while (count < maxCount && !buckets.isEmpty()) {
+            Map.Entry<Long, Set<K>> bucket = buckets.firstEntry();
+            if (bucket.getKey() * tickMillis > now) {
+                break;
+            }
+
+            Set<K> keys = bucket.getValue();
+            Iterator<K> iterator = keys.iterator();
+            while (count < maxCount && iterator.hasNext()) {
+                K key = iterator.next();
+                iterator.remove();
+                scheduledTicks.remove(key);
+                expiredKeys.add(key);
+                count++;
+            }
+            if (keys.isEmpty()) {
+                buckets.remove(bucket.getKey());
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return number of keys in the index
+     */
+    public int size() {
+        return scheduledTicks.size();
+    }
+
+    public void clear() {
+        scheduledTicks.clear();
+        buckets.clear();
+    }
+
+    private long toTick(long expirationTime) {
+        // round up, so a key is never returned before its expiration time
+        long tick = expirationTime / tickMillis;
+        return expirationTime % tickMillis == 0 ? tick : tick + 1;
+    }
+
+    private void removeFromBucket(long tick, K key) {
+        Set<K> keys = buckets.get(tick);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            buckets.remove(tick);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.eviction.impl.comparator;
+
+import com.hazelcast.internal.serialization.SerializableByConvention;
+
+import java.io.Serializable;
+
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * Count-min sketch with 4-bit counters which estimates the access
+ * frequency of keys in a fixed amount of memory.
+ * <p>
+ * Each key is mapped to four counters, each one in a different 16-counter
+ * long word of the table; its estimated frequency is the minimum of those
+ * counters. The table has one word per expected key, up to 512 KB. After
+ * the number of increments reaches ten times the expected number of keys,
+ * all counters are halved, so the estimates reflect recent popularity
+ * rather than the whole history.
+ * <p>
+ * The sketch is not thread-safe and is meant to be confined to a single
+ * thread. Each word is read once per update, so concurrent increments can
+ * only get lost, which lowers the accuracy of the estimates, but they
+ * cannot overflow a counter into its neighbour.
+ */
+@SerializableByConvention
+final class FrequencySketch implements Serializable {
+
+    static final int MAX_FREQUENCY = 15;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_TABLE_LENGTH = 16;
+    private static final int MAX_TABLE_LENGTH = 65536;
+    private static final int COUNTERS_PER_KEY = 4;
+    private static final int SAMPLE_SIZE_MULTIPLIER = 10;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final long COUNTER_MASK = 0xfL;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L,
+    };
+    private static final int SPREAD_MULTIPLIER = 0x45d9f3b;
+    private static final int HALF_INT_BITS = 16;
+    private static final int HALF_LONG_BITS = 32;
+
+    private final int tableLength;
+    private final int sampleSize;
+
+    private long[] table;
+    private int size;
+
+    /**
+     * @param expectedKeyCount expected number of distinct keys, used to
+     *                         size the table and the aging period
+     */
+    FrequencySketch(int expectedKeyCount) {
+        int keyCount = Math.max(1, expectedKeyCount);
+        // one 16-counter word per expected key keeps hash collisions rare
+        this.tableLength = Math.max(MIN_TABLE_LENGTH, nextPowerOfTwo(Math.min(keyCount, MAX_TABLE_LENGTH)));
+        // aging period is bounded by what the table can track, not by the hint
+        this.sampleSize = SAMPLE_SIZE_MULTIPLIER * Math.min(keyCount, tableLength);
+    }
+
+    /**
+     * @return the estimated number of recent increments for the given
+     * hash code, at most {@link #MAX_FREQUENCY}
+     */
+    int frequency(int hashCode) {
+        long[] table = this.table;
+        if (table == null) {
+            return 0;
+        }
+
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < COUNTERS_PER_KEY; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & COUNTER_MASK);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the estimated frequency of the given hash code.
+     */
+    void increment(int hashCode) {
+        if (table == null) {
+            // allocated lazily, so sketches of empty stores cost nothing
+            table = new long[tableLength];
+        }
+
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < COUNTERS_PER_KEY; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = COUNTER_MASK << offset;
+        long word = table[index];
+        if ((word & mask) != mask) {
+            table[index] = word + (1L << offset);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Halves all counters. The odd counters lose their lowest bit,
+     * which is accounted for in the new size.
+     */
+    private void reset() {
+        int oddCount = 0;
+        for (int i = 0; i < table.length; i++) {
+            long word = table[i];
+            oddCount += Long.bitCount(word & ONE_MASK);
+            table[i] = (word >>> 1) & RESET_MASK;
+        }
+        size = Math.max(0, (size >>> 1) - (oddCount >>> 2));
+    }
+
+    private int indexOf(int hash, int i) {
+        long index = (hash + SEEDS[i]) * SEEDS[i];
+        index += index >>> HALF_LONG_BITS;
+        return ((int) index) & (tableLength - 1);
+    }
+
+    private static int spread(int hashCode) {
+        int hash = ((hashCode >>> HALF_INT_BITS) ^ hashCode) * SPREAD_MULTIPLIER;
+        hash = ((hash >>> HALF_INT_BITS) ^ hash) * SPREAD_MULTIPLIER;
+        return (hash >>> HALF_INT_BITS) ^ hash;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.eviction.impl.comparator;
+
+import com.hazelcast.internal.eviction.EvictionCandidate;
+import com.hazelcast.internal.serialization.SerializableByConvention;
+import com.hazelcast.spi.eviction.EvictableEntryView;
+import com.hazelcast.spi.eviction.EvictionPolicyComparator;
+
+/**
+ * {@link com.hazelcast.config.EvictionPolicy#TINY_LFU}
+ * policy based {@link EvictionPolicyComparator}.
+ * <p>
+ * The comparator keeps a {@link FrequencySketch} of recent key accesses,
+ * which the owning data structure feeds via {@link #recordAccess(Object)}.
+ * Among the sampled entries, the one with the lowest estimated frequency
+ * is evicted; ties are broken by the last access time, so newly added
+ * entries are ranked like in an LRU window until they gather accesses.
+ * <p>
+ * Since the sketch is stateful, every data structure gets its own
+ * instance and, unlike the other out-of-the-box comparators, there is
+ * no shared {@code INSTANCE}. Keys passed to {@link #recordAccess(Object)}
+ * and to {@link #compare(Object, EvictableEntryView, Object, EvictableEntryView)}
+ * must be of the same kind (e.g. both serialized) so their hash codes match.
+ */
+@SerializableByConvention
+public class TinyLFUEvictionPolicyComparator
+        implements EvictionPolicyComparator<Object, Object, EvictableEntryView<Object, Object>> {
+
+    /**
+     * Expected number of distinct keys used when the caller has no better estimate.
+     */
+    public static final int DEFAULT_EXPECTED_KEY_COUNT = 65536;
+
+    private static final long serialVersionUID = 1L;
+
+    private final FrequencySketch sketch;
+
+    public TinyLFUEvictionPolicyComparator() {
+        this(DEFAULT_EXPECTED_KEY_COUNT);
+    }
+
+    /**
+     * @param expectedKeyCount expected number of distinct keys
+     *                         in the data structure, used to size the sketch
+     */
+    public TinyLFUEvictionPolicyComparator(int expectedKeyCount) {
+        this.sketch = new FrequencySketch(expectedKeyCount);
+    }
+
+    /**
+     * Records an access (creation, read or update) of the given key.
+     *
+     * @param key the accessed key
+     */
+    public void recordAccess(Object key) {
+        if (key != null) {
+            sketch.increment(key.hashCode());
+        }
+    }
+
+    /**
+     * @param key the key to estimate the access frequency of
+     * @return the estimated number of recent accesses of the key, saturating at 15
+     */
+    public int frequency(Object key) {
+        return key == null ? 0 : sketch.frequency(key.hashCode());
+    }
+
+    /**
+     * Compares the given entries by their keys' access frequencies.
+     * The keys are taken from {@link EvictionCandidate#getAccessor()} if
+     * the entries are eviction candidates, otherwise from
+     * {@link EvictableEntryView#getKey()}.
+     */
+    @Override
+    public int compare(EvictableEntryView e1, EvictableEntryView e2) {
+        return compare(keyOf(e1), e1, keyOf(e2), e2);
+    }
+
+    /**
+     * Compares the given entries by the access frequencies of the given keys.
+     * Used by callers which know the key in the form it was recorded with,
+     * so it does not have to be extracted from the entry view.
+     */
+    public int compare(Object key1, EvictableEntryView e1, Object key2, EvictableEntryView e2) {
+        int result = Integer.compare(frequency(key1), frequency(key2));
+        // if frequencies are same, we try to select least recently used entry to evict
+        return result == 0 ? LRUEvictionPolicyComparator.INSTANCE.compare(e1, e2) : result;
+    }
+
+    private static Object keyOf(EvictableEntryView entryView) {
+        if (entryView instanceof EvictionCandidate) {
+            return ((EvictionCandidate) entryView).getAccessor();
+        }
+        return entryView.getKey();
+    }
+
+    @Override
+    public String toString() {
+        return "TinyLFUEvictionPolicyComparator{" + super.toString() + "} ";
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+
+/**
+ * {@link MemoryManager} backed by the operating system's {@code malloc}/{@code free}, reached
+ * through {@link sun.misc.Unsafe}. Memory is accessed with the platform-aware
+ * {@link UnsafeBasedMemoryAccessor} from {@link GlobalMemoryAccessorRegistry#MEM}.
+ * <p>
+ * The manager enforces an upper bound on the total number of bytes handed out and throws
+ * {@link NativeOutOfMemoryError} when an allocation would exceed it. The allocator is thread-safe,
+ * but it does not track individual blocks: whoever allocates a block is responsible for freeing it.
+ */
+public final class StandardMemoryManager implements MemoryManager {
+
+    private final long maxMemory;
+    private final AtomicLong usedMemory = new AtomicLong();
+    private final Allocator malloc = new Allocator();
+    private final MemoryAccessor mem;
+
+    public StandardMemoryManager(long maxMemory) {
+        if (!UNSAFE_AVAILABLE || !GlobalMemoryAccessorRegistry.MEM_AVAILABLE) {
+            throw new IllegalStateException("Native memory requires sun.misc.Unsafe, which is not available");
+        }
+        if (maxMemory <= 0) {
+            throw new IllegalArgumentException("Native memory size must be positive: " + maxMemory);
+        }
+        this.maxMemory = maxMemory;
+        this.mem = GlobalMemoryAccessorRegistry.MEM;
+    }
+
+    @Override
+    public MemoryAllocator getAllocator() {
+        return malloc;
+    }
+
+    @Override
+    public MemoryAccessor getAccessor() {
+        return mem;
+    }
+
+    @Override
+    public void dispose() {
+        malloc.dispose();
+    }
+
+    /**
+     * @return the number of bytes currently allocated through this manager
+     */
+    public long getUsedMemory() {
+        return usedMemory.get();
+    }
+
+    /**
+     * @return the maximum number of bytes this manager is allowed to allocate
+     */
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    /**
+     * @return the number of bytes that can still be allocated
+     */
+    public long getFreeMemory() {
+        return Math.max(maxMemory - usedMemory.get(), 0L);
+    }
+
+    private void reserve(long size) {
+        while (true) {
+            long used = usedMemory.get();
+            long newUsed = used + size;
+            if (newUsed > maxMemory) {
+                throw new NativeOutOfMemoryError("Not enough native memory available! Cannot allocate " + size
+                        + " bytes, used: " + used + " bytes, max: " + maxMemory + " bytes");
+            }
+            if (usedMemory.compareAndSet(used, newUsed)) {
+                return;
+            }
+        }
+    }
+
+    private void release(long size) {
+        usedMemory.addAndGet(-size);
+    }
+
+    private final class Allocator implements MemoryAllocator {
+
+        @Override
+        public long allocate(long size) {
+            assert size > 0 : "StandardMemoryManager.allocate(" + size + ")";
+            reserve(size);
+            long address;
+            try {
+                address = UNSAFE.allocateMemory(size);
+            } catch (OutOfMemoryError e) {
+                release(size);
+                throw new NativeOutOfMemoryError("Cannot allocate " + size + " bytes of native memory", e);
+            }
+            UNSAFE.setMemory(address, size, (byte) 0);
+            return address;
+        }
+
+        @Override
+        public long reallocate(long address, long currentSize, long newSize) {
+            assert newSize > 0 : "StandardMemoryManager.reallocate(" + newSize + ")";
+            long delta = newSize - currentSize;
+            if (delta > 0) {
+                reserve(delta);
+            }
+            long newAddress;
+            try {
+                newAddress = UNSAFE.reallocateMemory(address, newSize);
+            } catch (OutOfMemoryError e) {
+                if (delta > 0) {
+                    release(delta);
+                }
+                throw new NativeOutOfMemoryError("Cannot reallocate " + newSize + " bytes of native memory", e);
+            }
+            if (delta > 0) {
+                UNSAFE.setMemory(newAddress + currentSize, delta, (byte) 0);
+            } else {
+                release(-delta);
+            }
+            return newAddress;
+        }
+
+        @Override
+        public void free(long address, long size) {
+            if (address == NULL_ADDRESS) {
+                return;
+            }
+            UNSAFE.freeMemory(address);
+            release(size);
+        }
+
+        @Override
+        public void dispose() {
+            // blocks are owned and freed by their allocators
+        }
+    }
+}
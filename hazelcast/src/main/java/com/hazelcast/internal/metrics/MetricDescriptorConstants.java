@@ -199,6 +199,7 @@ public final class MetricDescriptorConstants {
     public static final String MAP_PREFIX = "map";
     public static final String MAP_PREFIX_INDEX = "map.index";
     public static final String MAP_PREFIX_NEARCACHE = "map.nearcache";
+    public static final String MAP_PREFIX_KEY_LOAD = "map.keyLoad";
     public static final String MAP_DISCRIMINATOR_NAME = "name";
     public static final String MAP_TAG_INDEX = "index";
     public static final String MAP_METRIC_LAST_ACCESS_TIME = "lastAccessTime";
@@ -242,6 +243,11 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_INDEX_REMOVE_COUNT = "removeCount";
     public static final String MAP_METRIC_INDEX_TOTAL_REMOVE_LATENCY = "totalRemoveLatency";
     public static final String MAP_METRIC_INDEX_MEMORY_COST = "memoryCost";
+    public static final String MAP_METRIC_INDEX_INDEXED_PARTITION_COUNT = "indexedPartitionCount";
+    public static final String MAP_METRIC_KEY_LOAD_SEGMENTS = "segments";
+    public static final String MAP_METRIC_KEY_LOAD_LOADED_SEGMENTS = "loadedSegments";
+    public static final String MAP_METRIC_KEY_LOAD_ACTIVE_SEGMENTS = "activeSegments";
+    public static final String MAP_METRIC_KEY_LOAD_LOADED_KEYS = "loadedKeys";
     // ===[/MAP]========================================================
 
     // ===[MEMORY]======================================================
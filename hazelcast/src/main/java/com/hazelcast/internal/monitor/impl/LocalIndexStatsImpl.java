@@ -23,6 +23,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_AVERAGE_HIT_SELECTIVITY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_CREATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_HIT_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_INDEXED_PARTITION_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_INSERT_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_MEMORY_COST;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_QUERY_COUNT;
@@ -79,6 +80,9 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
     @Probe(name = MAP_METRIC_INDEX_MEMORY_COST, unit = BYTES)
     private volatile long memoryCost;
 
+    @Probe(name = MAP_METRIC_INDEX_INDEXED_PARTITION_COUNT)
+    private volatile long indexedPartitionCount;
+
     @Override
     public long getCreationTime() {
         return creationTime;
@@ -252,6 +256,20 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
         this.memoryCost = memoryCost;
     }
 
+    @Override
+    public long getIndexedPartitionCount() {
+        return indexedPartitionCount;
+    }
+
+    /**
+     * Sets the indexed partition count of this stats to the given value.
+     *
+     * @param indexedPartitionCount the indexed partition count to set.
+     */
+    public void setIndexedPartitionCount(long indexedPartitionCount) {
+        this.indexedPartitionCount = indexedPartitionCount;
+    }
+
     /**
      * Sets all the values in this stats to the corresponding values in the
      * given on-demand stats.
@@ -271,6 +289,7 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
         this.removeCount = onDemandStats.getRemoveCount();
         this.totalRemoveLatency = onDemandStats.getTotalRemoveLatency();
         this.memoryCost = onDemandStats.getMemoryCost();
+        this.indexedPartitionCount = onDemandStats.getIndexedPartitionCount();
     }
 
     @Override
@@ -288,6 +307,7 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
                 + ", removeCount=" + removeCount
                 + ", totalRemoveLatency=" + totalRemoveLatency
                 + ", memoryCost=" + memoryCost
+                + ", indexedPartitionCount=" + indexedPartitionCount
                 + '}';
     }
 
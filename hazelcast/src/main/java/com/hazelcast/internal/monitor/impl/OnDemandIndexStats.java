@@ -49,6 +49,8 @@ public class OnDemandIndexStats {
 
     private long memoryCost;
 
+    private long indexedPartitionCount;
+
     private long totalHitCount;
 
     /**
@@ -243,6 +245,22 @@ public class OnDemandIndexStats {
         this.memoryCost = memoryCost;
     }
 
+    /**
+     * Returns the indexed partition count.
+     */
+    public long getIndexedPartitionCount() {
+        return indexedPartitionCount;
+    }
+
+    /**
+     * Sets the indexed partition count to the given value.
+     *
+     * @param indexedPartitionCount the indexed partition count value to set.
+     */
+    public void setIndexedPartitionCount(long indexedPartitionCount) {
+        this.indexedPartitionCount = indexedPartitionCount;
+    }
+
     /**
      * Returns the total hit count.
      */
@@ -265,8 +283,8 @@ public class OnDemandIndexStats {
                 + ", queryCount=" + queryCount + ", averageHitSelectivity=" + averageHitSelectivity + ", averageHitLatency="
                 + averageHitLatency + ", insertCount=" + insertCount + ", totalInsertLatency=" + totalInsertLatency
                 + ", updateCount=" + updateCount + ", totalUpdateLatency=" + totalUpdateLatency + ", removeCount=" + removeCount
-                + ", totalRemoveLatency=" + totalRemoveLatency + ", memoryCost=" + memoryCost + ", totalHitCount=" + totalHitCount
-                + '}';
+                + ", totalRemoveLatency=" + totalRemoveLatency + ", memoryCost=" + memoryCost + ", indexedPartitionCount="
+                + indexedPartitionCount + ", totalHitCount=" + totalHitCount + '}';
     }
 
 }
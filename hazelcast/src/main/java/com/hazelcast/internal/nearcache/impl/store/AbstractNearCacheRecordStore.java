@@ -22,6 +22,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.internal.eviction.EvictionChecker;
 import com.hazelcast.internal.eviction.EvictionListener;
+import com.hazelcast.internal.eviction.impl.comparator.TinyLFUEvictionPolicyComparator;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
 import com.hazelcast.internal.eviction.impl.strategy.sampling.SamplingEvictionStrategy;
 import com.hazelcast.internal.monitor.impl.NearCacheStatsImpl;
@@ -35,10 +36,11 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.nearcache.NearCacheStats;
+import com.hazelcast.spi.eviction.EvictionPolicyComparator;
 
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
-import static com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider.getEvictionPolicyEvaluator;
+import static com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider.getEvictionPolicyComparator;
 import static com.hazelcast.internal.nearcache.NearCache.CACHED_AS_NULL;
 import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
 import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.WRITE_UPDATE;
@@ -79,6 +81,11 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
     protected EvictionChecker evictionChecker;
     protected SamplingEvictionStrategy<KS, R, NCRM> evictionStrategy;
     protected EvictionPolicyEvaluator<KS, R> evictionPolicyEvaluator;
+    /**
+     * Set only when the eviction policy is
+     * {@link EvictionPolicy#TINY_LFU}, to record key accesses.
+     */
+    protected TinyLFUEvictionPolicyComparator tinyLFUComparator;
 
     protected volatile long reservationId;
     protected volatile StaleReadDetector staleReadDetector = ALWAYS_FRESH;
@@ -109,7 +116,12 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         this.evictionChecker = createNearCacheEvictionChecker(evictionConfig, nearCacheConfig);
         if (!evictionDisabled) {
             this.evictionStrategy = SamplingEvictionStrategy.INSTANCE;
-            this.evictionPolicyEvaluator = getEvictionPolicyEvaluator(evictionConfig, classLoader);
+            EvictionPolicyComparator comparator
+                    = getEvictionPolicyComparator(evictionConfig, classLoader, evictionConfig.getSize());
+            this.evictionPolicyEvaluator = new EvictionPolicyEvaluator<>(comparator);
+            if (comparator instanceof TinyLFUEvictionPolicyComparator) {
+                this.tinyLFUComparator = (TinyLFUEvictionPolicyComparator) comparator;
+            }
         }
     }
 
@@ -256,7 +268,7 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
 
             // TODO what does onGet do?
             onGet(key, value, record);
-            onRecordAccess(record);
+            onRecordAccess(key, record);
             nearCacheStats.incrementHits();
 
             return recordToValue(record);
@@ -380,9 +392,16 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         return reservedRecord;
     }
 
-    private void onRecordAccess(R record) {
+    private void onRecordAccess(K key, R record) {
         record.setLastAccessTime(Clock.currentTimeMillis());
         record.incrementHits();
+        recordKeyAccess(key);
+    }
+
+    protected void recordKeyAccess(K key) {
+        if (tinyLFUComparator != null) {
+            tinyLFUComparator.recordAccess(key);
+        }
     }
 
     protected void initInvalidationMetaData(R record, K key, Data keyData) {
@@ -408,6 +427,7 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
             record = createRecord(null);
             record.setReservationId(reservationId);
             initInvalidationMetaData(record, key, keyData);
+            recordKeyAccess(key);
         } catch (Throwable throwable) {
             onPutError(key, null, record, null, throwable);
             throw rethrow(throwable);
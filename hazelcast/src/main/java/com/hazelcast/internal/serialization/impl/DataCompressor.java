@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.serialization.impl.HeapData.DATA_OFFSET;
+import static com.hazelcast.internal.serialization.impl.HeapData.TYPE_OFFSET;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.COMPRESSED_DATA_TYPE;
+
+/**
+ * Compresses serialized values kept in memory by the record stores.
+ * <p>
+ * A compressed value is a {@link Data} of type
+ * {@link SerializationConstants#COMPRESSED_DATA_TYPE}: its payload holds
+ * the size of the original {@link Data} followed by the original bytes
+ * deflated. Such a {@link Data} can be stored and sent to other members
+ * as is, but no serializer is registered for its type, so it has to be
+ * {@link #decompress(Data) decompressed} before it is handed out.
+ * <p>
+ * Values smaller than {@link #COMPRESSION_THRESHOLD} and values which do
+ * not get smaller when deflated are not compressed.
+ */
+public final class DataCompressor {
+
+    /**
+     * Minimum size in bytes of a value to be compressed. Deflating smaller
+     * values saves little memory and costs more per byte.
+     */
+    public static final int COMPRESSION_THRESHOLD = 512;
+
+    private static final int ORIGINAL_SIZE_OFFSET = DATA_OFFSET;
+    private static final int COMPRESSED_DATA_OFFSET = ORIGINAL_SIZE_OFFSET + INT_SIZE_IN_BYTES;
+
+    // creating a deflater or an inflater allocates native memory, so they are reused
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private DataCompressor() {
+    }
+
+    /**
+     * @return {@code true} if the given data was compressed
+     * by {@link #compress(Data)}, otherwise {@code false}
+     */
+    public static boolean isCompressed(Data data) {
+        return data != null && data.getType() == COMPRESSED_DATA_TYPE;
+    }
+
+    /**
+     * Compresses the given data.
+     *
+     * @return the compressed data, or the given data if it is
+     * {@code null}, too small, already compressed or not compressible
+     */
+    public static Data compress(Data data) {
+        if (data == null || data.totalSize() < COMPRESSION_THRESHOLD || isCompressed(data)) {
+            return data;
+        }
+
+        byte[] bytes = data.toByteArray();
+        // the compressed form is kept only if it is smaller than the original
+        byte[] buffer = new byte[bytes.length];
+        Deflater deflater = DEFLATER.get();
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            int size = COMPRESSED_DATA_OFFSET;
+            while (!deflater.finished() && size < buffer.length) {
+                size += deflater.deflate(buffer, size, buffer.length - size);
+            }
+            if (!deflater.finished()) {
+                return data;
+            }
+            writeIntB(buffer, TYPE_OFFSET, COMPRESSED_DATA_TYPE);
+            writeIntB(buffer, ORIGINAL_SIZE_OFFSET, bytes.length);
+            return new HeapData(Arrays.copyOf(buffer, size));
+        } finally {
+            deflater.reset();
+        }
+    }
+
+    /**
+     * Restores the value if it is a data compressed by {@link #compress(Data)}.
+     *
+     * @return the original data, or the given value if it is not compressed
+     */
+    public static Object decompress(Object value) {
+        return value instanceof Data ? decompress((Data) value) : value;
+    }
+
+    /**
+     * Restores the data compressed by {@link #compress(Data)}.
+     *
+     * @return the original data, or the given data if it is not compressed
+     */
+    public static Data decompress(Data data) {
+        if (!isCompressed(data)) {
+            return data;
+        }
+
+        byte[] compressed = data.toByteArray();
+        byte[] bytes = new byte[readIntB(compressed, ORIGINAL_SIZE_OFFSET)];
+        Inflater inflater = INFLATER.get();
+        try {
+            inflater.setInput(compressed, COMPRESSED_DATA_OFFSET, compressed.length - COMPRESSED_DATA_OFFSET);
+            int size = 0;
+            while (size < bytes.length) {
+                int inflated = inflater.inflate(bytes, size, bytes.length - size);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new HazelcastSerializationException("Compressed data is truncated");
+                }
+                size += inflated;
+            }
+            return new HeapData(bytes);
+        } catch (DataFormatException e) {
+            throw new HazelcastSerializationException("Compressed data is corrupted", e);
+        } finally {
+            inflater.reset();
+        }
+    }
+}
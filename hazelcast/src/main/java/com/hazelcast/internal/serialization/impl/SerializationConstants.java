@@ -160,6 +160,12 @@ public final class SerializationConstants {
     public static final int HIBERNATE5_TYPE_HIBERNATE_CACHE_ENTRY = -205;
     public static final int HIBERNATE5_TYPE_HIBERNATE_NATURAL_ID_KEY = -206;
 
+    //--------------------------------------------------------------
+    // COMPRESSED RECORD VALUES
+    // No serializer is registered, see DataCompressor
+
+    public static final int COMPRESSED_DATA_TYPE = -250;
+
     //--------------------------------------------------------------
     // RESERVED FOR JET -300 to -400
 
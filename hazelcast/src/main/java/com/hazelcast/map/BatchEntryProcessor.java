@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * An {@link EntryProcessor} which can process all entries of a partition
+ * in a single call.
+ * <p>
+ * When a {@code BatchEntryProcessor} is passed to
+ * {@link IMap#executeOnKeys(java.util.Set, EntryProcessor) executeOnKeys},
+ * {@link IMap#executeOnEntries(EntryProcessor) executeOnEntries} or
+ * {@link IMap#executeOnEntries(EntryProcessor, com.hazelcast.query.Predicate)
+ * executeOnEntries with a predicate}, {@link #process(List)} is invoked
+ * once per partition with all entries of that partition which are selected
+ * by the call. This allows the processor to amortize an expensive setup,
+ * such as a lookup in an external system or parsing a rule set, across
+ * these entries instead of repeating it for every entry.
+ * <p>
+ * The entries are the same as the ones passed to {@link #process(Entry)}:
+ * they can be modified with {@link Entry#setValue setValue()} and all of
+ * them are processed on the partition thread before any modification is
+ * applied to the map. Events, WAN replication, near cache invalidation and
+ * statistics are still handled entry by entry afterwards.
+ * <p>
+ * Single key calls such as {@link IMap#executeOnKey(Object, EntryProcessor)
+ * executeOnKey} keep calling {@link #process(Entry)}. If the
+ * {@link #getBackupProcessor() backup processor} is a
+ * {@code BatchEntryProcessor} too, backup replicas process their entries
+ * in a batch as well.
+ *
+ * @param <K> map entry key type
+ * @param <V> map entry value type
+ * @param <R> return type
+ * @since 4.1
+ */
+public interface BatchEntryProcessor<K, V, R> extends EntryProcessor<K, V, R> {
+
+    /**
+     * Processes the given entries of a single partition.
+     * <p>
+     * The default implementation calls {@link #process(Entry)} for each
+     * entry.
+     *
+     * @param entries entries to be processed, never empty
+     * @return results of the processing in the same order as the entries,
+     * {@code null} elements are not returned to the caller
+     */
+    default List<R> process(List<Entry<K, V>> entries) {
+        List<R> results = new ArrayList<>(entries.size());
+        for (Entry<K, V> entry : entries) {
+            results.add(process(entry));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import java.util.List;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+
+/**
+ * This is an extension to {@link MapStore} for write-behind map stores
+ * with write-coalescing disabled.
+ * <p>
+ * When write-coalescing is disabled, every update of a key has to reach
+ * the store, so the updates cannot be batched with {@link #storeAll(java.util.Map)}
+ * and {@link #deleteAll(java.util.Collection)}: a map can hold only one
+ * value per key. Without this interface Hazelcast calls {@link #store(Object, Object)}
+ * and {@link #delete(Object)} for every single update. If the map store
+ * implements this interface, the queued updates are passed instead to
+ * {@link #storeBatch(List)} in chunks of up to
+ * {@link com.hazelcast.config.MapStoreConfig#getWriteBatchSize() writeBatchSize}
+ * operations, in the order they were made. With the default
+ * {@code writeBatchSize} of {@code 1}, every operation is applied with
+ * {@link #store(Object, Object)} or {@link #delete(Object)}, so the
+ * write batch size has to be increased for the batches to be used.
+ * <p>
+ * The interface is ignored for write-through map stores and when
+ * write-coalescing is enabled.
+ *
+ * @param <K> type of the MapStore key
+ * @param <V> type of the MapStore value
+ */
+public interface OrderedBatchMapStore<K, V> extends MapStore<K, V> {
+
+    /**
+     * Applies the given store and delete operations in the list order.
+     * <p>
+     * A key may appear several times in the list, the last operation on a
+     * key defines its final state.
+     * <p>
+     * If an exception is thrown, the operations left in the list will be
+     * retried, and if they still fail they will be applied one by one using
+     * the {@link #store(Object, Object)} and {@link #delete(Object)} methods.
+     * In this way an implementation can handle partial failures by removing
+     * the operations it has already applied from the head of the list.
+     *
+     * @param operations the ordered operations to apply
+     */
+    void storeBatch(List<StoreOperation<K, V>> operations);
+
+    /**
+     * A single store or delete operation passed to {@link #storeBatch(List)}.
+     *
+     * @param <K> type of the key
+     * @param <V> type of the value
+     */
+    final class StoreOperation<K, V> {
+
+        /**
+         * Type of the operation.
+         */
+        public enum Type {
+            /**
+             * The key-value pair should be stored.
+             */
+            STORE,
+            /**
+             * The key should be deleted.
+             */
+            DELETE
+        }
+
+        private final Type type;
+        private final K key;
+        private final V value;
+
+        private StoreOperation(Type type, K key, V value) {
+            this.type = type;
+            this.key = checkNotNull(key, "key cannot be null");
+            this.value = value;
+        }
+
+        /**
+         * Creates an operation storing the given key-value pair.
+         *
+         * @param key   the key to store
+         * @param value the value to store
+         * @param <K>   type of the key
+         * @param <V>   type of the value
+         * @return the store operation
+         */
+        public static <K, V> StoreOperation<K, V> store(K key, V value) {
+            return new StoreOperation<>(Type.STORE, key, checkNotNull(value, "value cannot be null"));
+        }
+
+        /**
+         * Creates an operation deleting the given key.
+         *
+         * @param key the key to delete
+         * @param <K> type of the key
+         * @param <V> type of the value
+         * @return the delete operation
+         */
+        public static <K, V> StoreOperation<K, V> delete(K key) {
+            return new StoreOperation<>(Type.DELETE, key, null);
+        }
+
+        /**
+         * @return the type of the operation
+         */
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return the key of the operation
+         */
+        public K getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the value to store, or {@code null} for delete operations.
+         * If the map store is an {@link EntryStore}, the value is a
+         * {@link EntryLoader.MetadataAwareValue}.
+         *
+         * @return the value to store
+         */
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return "StoreOperation{type=" + type + ", key=" + key + ", value=" + value + '}';
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * This is an extension to {@link MapLoader} for stores whose key space can be
+ * split into independent segments, e.g. ID ranges or table partitions.
+ * <p>
+ * By default all keys are loaded by {@link #loadAllKeys()} on a single
+ * member, which then sends them to the partition owners for value loading.
+ * If the map loader implements this interface, the initial load and
+ * {@link IMap#loadAll(boolean)} instead assign the segments to all data
+ * members, and each member loads the keys of its segments in parallel and
+ * sends them to the partition owners. How many segments a member loads at a
+ * time is set by the {@code hazelcast.map.load.segment.concurrency} property.
+ * <p>
+ * {@link #loadAllKeys()} is not used for the initial load if this interface is
+ * implemented.
+ *
+ * @param <K> type of the MapLoader key
+ * @param <V> type of the MapLoader value
+ */
+public interface SegmentedMapLoader<K, V> extends MapLoader<K, V> {
+
+    /**
+     * Returns the number of key segments. The segments are numbered from
+     * {@code 0} to {@code getKeySegmentCount() - 1}.
+     * <p>
+     * The count should be larger than the member count so that the load can
+     * be spread evenly over the cluster.
+     *
+     * @return the number of key segments
+     */
+    int getKeySegmentCount();
+
+    /**
+     * Loads the keys of the given segment. The segments must not overlap and
+     * all of them together must return all keys of the store.
+     * <p>
+     * The method may be called on any member, and for several segments
+     * concurrently. The {@link Iterator} of the returned {@link Iterable} may
+     * implement the {@link Closeable} interface in which case it will be
+     * closed once iteration is over.
+     *
+     * @param segment the segment, between {@code 0} and {@code getKeySegmentCount() - 1}
+     * @return the keys of the segment. Keys inside the Iterable cannot be {@code null}.
+     */
+    Iterable<K> loadAllKeys(int segment);
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.diagnostics.StoreLatencyPlugin;
+import com.hazelcast.internal.diagnostics.StoreLatencyPlugin.LatencyProbe;
+import com.hazelcast.internal.util.Timer;
+import com.hazelcast.map.OrderedBatchMapStore;
+
+import java.util.List;
+
+public class LatencyTrackingOrderedBatchMapStore<K, V> extends LatencyTrackingMapStore<K, V>
+        implements OrderedBatchMapStore<K, V> {
+
+    private final LatencyProbe storeBatchProbe;
+    private final OrderedBatchMapStore<K, V> delegate;
+
+    public LatencyTrackingOrderedBatchMapStore(OrderedBatchMapStore<K, V> delegate, StoreLatencyPlugin plugin,
+                                               String mapName) {
+        super(delegate, plugin, mapName);
+        this.delegate = delegate;
+        this.storeBatchProbe = plugin.newProbe(KEY, mapName, "storeBatch");
+    }
+
+    @Override
+    public void storeBatch(List<StoreOperation<K, V>> operations) {
+        long startNanos = Timer.nanos();
+        try {
+            delegate.storeBatch(operations);
+        } finally {
+            storeBatchProbe.recordValue(Timer.nanosElapsed(startNanos));
+        }
+    }
+}
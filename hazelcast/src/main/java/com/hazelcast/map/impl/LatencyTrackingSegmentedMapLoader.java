@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.diagnostics.StoreLatencyPlugin;
+import com.hazelcast.internal.diagnostics.StoreLatencyPlugin.LatencyProbe;
+import com.hazelcast.internal.util.Timer;
+import com.hazelcast.map.SegmentedMapLoader;
+
+public class LatencyTrackingSegmentedMapLoader<K, V> extends LatencyTrackingMapLoader<K, V>
+        implements SegmentedMapLoader<K, V> {
+
+    private final LatencyProbe loadAllKeysSegmentProbe;
+    private final SegmentedMapLoader<K, V> delegate;
+
+    public LatencyTrackingSegmentedMapLoader(SegmentedMapLoader<K, V> delegate, StoreLatencyPlugin plugin,
+                                             String mapName) {
+        super(delegate, plugin, mapName);
+        this.delegate = delegate;
+        this.loadAllKeysSegmentProbe = plugin.newProbe(KEY, mapName, "loadAllKeysSegment");
+    }
+
+    @Override
+    public int getKeySegmentCount() {
+        return delegate.getKeySegmentCount();
+    }
+
+    @Override
+    public Iterable<K> loadAllKeys(int segment) {
+        long startNanos = Timer.nanos();
+        try {
+            return delegate.loadAllKeys(segment);
+        } finally {
+            loadAllKeysSegmentProbe.recordValue(Timer.nanosElapsed(startNanos));
+        }
+    }
+}
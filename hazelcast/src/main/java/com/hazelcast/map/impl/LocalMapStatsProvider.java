@@ -342,6 +342,12 @@ public class LocalMapStatsProvider {
             localMapStats.setQueryCount(globalIndexes.getIndexesStats().getQueryCount());
             localMapStats.setIndexedQueryCount(globalIndexes.getIndexesStats().getIndexedQueryCount());
             freshStats = aggregateFreshIndexStats(globalIndexes.getIndexes(), null);
+            for (PartitionContainer partitionContainer : mapServiceContext.getPartitionContainers()) {
+                int partitionId = partitionContainer.getPartitionId();
+                if (partitionService.getPartition(partitionId).isLocal()) {
+                    aggregateIndexedPartition(globalIndexes.getIndexes(), partitionId, freshStats);
+                }
+            }
             finalizeFreshIndexStats(freshStats);
         } else {
             long queryCount = 0;
@@ -368,6 +374,7 @@ public class LocalMapStatsProvider {
                 indexedQueryCount = Math.max(indexedQueryCount, indexesStats.getIndexedQueryCount());
 
                 freshStats = aggregateFreshIndexStats(partitionIndexes.getIndexes(), freshStats);
+                aggregateIndexedPartition(partitionIndexes.getIndexes(), partitionContainer.getPartitionId(), freshStats);
             }
 
             localMapStats.setQueryCount(queryCount);
@@ -417,6 +424,16 @@ public class LocalMapStatsProvider {
         return freshStats;
     }
 
+    private static void aggregateIndexedPartition(InternalIndex[] freshIndexes, int partitionId,
+                                                  Map<String, OnDemandIndexStats> freshStats) {
+        for (InternalIndex index : freshIndexes) {
+            OnDemandIndexStats freshIndexStats = freshStats.get(index.getName());
+            if (freshIndexStats != null && index.hasPartitionIndexed(partitionId)) {
+                freshIndexStats.setIndexedPartitionCount(freshIndexStats.getIndexedPartitionCount() + 1);
+            }
+        }
+    }
+
     /**
      * Finalizes the aggregation of the freshly obtained on-demand index
      * statistics by computing the final average values which are accumulated
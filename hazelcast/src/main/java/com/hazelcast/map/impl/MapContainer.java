@@ -17,15 +17,18 @@
 package com.hazelcast.map.impl;
 
 import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.EventJournalConfig;
 import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.InvalidConfigurationException;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.WanConsumerConfig;
 import com.hazelcast.config.WanReplicationConfig;
 import com.hazelcast.config.WanReplicationRef;
 import com.hazelcast.config.WanSyncConfig;
+import com.hazelcast.internal.eviction.impl.comparator.TinyLFUEvictionPolicyComparator;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.serialization.Data;
@@ -44,7 +47,9 @@ import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.nearcache.invalidation.InvalidationListener;
 import com.hazelcast.map.impl.query.QueryEntryFactory;
 import com.hazelcast.map.impl.record.DataRecordFactory;
+import com.hazelcast.map.impl.record.NativeDataRecordFactory;
 import com.hazelcast.map.impl.record.ObjectRecordFactory;
+import com.hazelcast.map.impl.record.PackedDataRecordFactory;
 import com.hazelcast.map.impl.record.RecordFactory;
 import com.hazelcast.partition.PartitioningStrategy;
 import com.hazelcast.query.impl.Index;
@@ -54,6 +59,7 @@ import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.spi.eviction.EvictionPolicyComparator;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.merge.SplitBrainMergePolicy;
+import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.wan.impl.DelegatingWanScheme;
 import com.hazelcast.wan.impl.WanReplicationService;
 
@@ -66,6 +72,7 @@ import static com.hazelcast.config.ConsistencyCheckStrategy.MERKLE_TREES;
 import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider.getEvictionPolicyComparator;
+import static com.hazelcast.internal.util.QuickMath.divideByAndCeilToInt;
 import static com.hazelcast.map.impl.eviction.Evictor.NULL_EVICTOR;
 import static com.hazelcast.map.impl.mapstore.MapStoreContextFactory.createMapStoreContext;
 import static com.hazelcast.spi.properties.ClusterProperty.MAP_EVICTION_BATCH_SIZE;
@@ -78,6 +85,17 @@ import static java.lang.System.getProperty;
 @SuppressWarnings({"WeakerAccess", "checkstyle:classfanoutcomplexity"})
 public class MapContainer {
 
+    /**
+     * Keeps each record of a {@link InMemoryFormat#BINARY} map, including its
+     * key and value, in a single byte array which lives directly in an open
+     * addressing table. This saves the record object, the key and value
+     * {@link Data} instances and the hash map node per entry, at the price of
+     * copying the key and value on every access. Deserialized values are
+     * never cached in this mode.
+     */
+    public static final HazelcastProperty PACKED_RECORDS
+            = new HazelcastProperty("hazelcast.map.packed.records", false);
+
     protected final String name;
     protected final String splitBrainProtectionName;
     // on-heap indexes are global, meaning there is only one index per map,
@@ -105,6 +123,15 @@ public class MapContainer {
 
     protected volatile MapConfig mapConfig;
     private volatile Evictor evictor;
+    /**
+     * Number of keys per partition the access frequency sketches of the
+     * {@link com.hazelcast.config.EvictionPolicy#TINY_LFU} eviction are sized
+     * for, or {@code 0} if another eviction policy is used.
+     */
+    private volatile int tinyLFUExpectedKeyCount;
+
+    private final boolean packedRecords;
+    private final MapKeySegmentLoader keySegmentLoader = new MapKeySegmentLoader(this);
 
     private boolean persistWanReplicatedData;
 
@@ -125,6 +152,7 @@ public class MapContainer {
         this.partitioningStrategy = createPartitioningStrategy();
         this.splitBrainProtectionName = mapConfig.getSplitBrainProtectionName();
         this.serializationService = ((InternalSerializationService) nodeEngine.getSerializationService());
+        this.packedRecords = nodeEngine.getProperties().getBoolean(PACKED_RECORDS);
         this.recordFactoryConstructor = createRecordFactoryConstructor(serializationService);
         this.objectNamespace = MapService.getObjectNamespace(name);
         this.extractors = Extractors.newBuilder(serializationService)
@@ -160,14 +188,31 @@ public class MapContainer {
 
     public final void initEvictor() {
         NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
-        EvictionPolicyComparator evictionPolicyComparator
-                = getEvictionPolicyComparator(mapConfig.getEvictionConfig(), nodeEngine.getConfigClassLoader());
+        EvictionConfig evictionConfig = mapConfig.getEvictionConfig();
+        int expectedKeyCount = expectedKeyCountPerPartition(evictionConfig, nodeEngine);
+        EvictionPolicyComparator evictionPolicyComparator = getEvictionPolicyComparator(evictionConfig,
+                nodeEngine.getConfigClassLoader(), expectedKeyCount);
+
+        tinyLFUExpectedKeyCount = evictionPolicyComparator instanceof TinyLFUEvictionPolicyComparator
+                ? expectedKeyCount : 0;
 
         evictor = evictionPolicyComparator != null
                 ? newEvictor(evictionPolicyComparator, nodeEngine.getProperties().getInteger(MAP_EVICTION_BATCH_SIZE),
                 nodeEngine.getPartitionService()) : NULL_EVICTOR;
     }
 
+    private static int expectedKeyCountPerPartition(EvictionConfig evictionConfig, NodeEngine nodeEngine) {
+        int partitionCount = nodeEngine.getPartitionService().getPartitionCount();
+        switch (evictionConfig.getMaxSizePolicy()) {
+            case PER_PARTITION:
+                return evictionConfig.getSize();
+            case PER_NODE:
+                return divideByAndCeilToInt(evictionConfig.getSize(), partitionCount);
+            default:
+                return divideByAndCeilToInt(TinyLFUEvictionPolicyComparator.DEFAULT_EXPECTED_KEY_COUNT, partitionCount);
+        }
+    }
+
     // this method is overridden
     protected Evictor newEvictor(EvictionPolicyComparator evictionPolicyComparator,
                                  int evictionBatchSize, IPartitionService partitionService) {
@@ -203,9 +248,13 @@ public class MapContainer {
         return anyArg -> {
             switch (mapConfig.getInMemoryFormat()) {
                 case BINARY:
-                    return new DataRecordFactory(mapConfig, serializationService);
+                    return packedRecords
+                            ? new PackedDataRecordFactory(mapConfig, serializationService)
+                            : new DataRecordFactory(mapConfig, serializationService);
                 case OBJECT:
                     return new ObjectRecordFactory(mapConfig, serializationService);
+                case NATIVE:
+                    return new NativeDataRecordFactory(mapConfig, serializationService);
                 default:
                     throw new IllegalArgumentException("Invalid storage format: " + mapConfig.getInMemoryFormat());
             }
@@ -330,6 +379,14 @@ public class MapContainer {
         return mapStoreContext;
     }
 
+    /**
+     * @return the loader of the key segments assigned to this member,
+     * used if the map loader is a {@link com.hazelcast.map.SegmentedMapLoader}
+     */
+    public MapKeySegmentLoader getKeySegmentLoader() {
+        return keySegmentLoader;
+    }
+
     public MapConfig getMapConfig() {
         return mapConfig;
     }
@@ -354,6 +411,14 @@ public class MapContainer {
         return toDataFunction;
     }
 
+    /**
+     * @return {@code true} if the records of this map are packed
+     * @see #PACKED_RECORDS
+     */
+    public boolean isPackedRecords() {
+        return packedRecords && mapConfig.getInMemoryFormat() == InMemoryFormat.BINARY;
+    }
+
     public ConstructorFunction<Void, RecordFactory> getRecordFactoryConstructor() {
         return recordFactoryConstructor;
     }
@@ -366,6 +431,19 @@ public class MapContainer {
         return evictor;
     }
 
+    /**
+     * Creates the comparator of the {@link com.hazelcast.config.EvictionPolicy#TINY_LFU}
+     * eviction policy for a single partition. Each record store tracks its
+     * key accesses in its own comparator, so its sketch is only touched by
+     * the partition thread.
+     *
+     * @return a new comparator or {@code null} if another policy is used
+     */
+    public TinyLFUEvictionPolicyComparator newTinyLFUComparator() {
+        int expectedKeyCount = tinyLFUExpectedKeyCount;
+        return expectedKeyCount > 0 ? new TinyLFUEvictionPolicyComparator(expectedKeyCount) : null;
+    }
+
     // only used for testing purposes
     public void setEvictor(Evictor evictor) {
         this.evictor = evictor;
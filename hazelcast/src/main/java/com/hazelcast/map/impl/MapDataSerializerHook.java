@@ -63,7 +63,9 @@ import com.hazelcast.map.impl.operation.IsPartitionLoadedOperationFactory;
 import com.hazelcast.map.impl.operation.KeyLoadStatusOperation;
 import com.hazelcast.map.impl.operation.KeyLoadStatusOperationFactory;
 import com.hazelcast.map.impl.operation.LoadAllOperation;
+import com.hazelcast.map.impl.operation.LoadKeySegmentsOperation;
 import com.hazelcast.map.impl.operation.LoadMapOperation;
+import com.hazelcast.map.impl.operation.LoadedValueSetOperation;
 import com.hazelcast.map.impl.operation.MapFetchEntriesOperation;
 import com.hazelcast.map.impl.operation.MapFetchKeysOperation;
 import com.hazelcast.map.impl.operation.MapFetchWithQueryOperation;
@@ -113,6 +115,7 @@ import com.hazelcast.map.impl.operation.RemoveInterceptorOperation;
 import com.hazelcast.map.impl.operation.RemoveOperation;
 import com.hazelcast.map.impl.operation.ReplaceIfSameOperation;
 import com.hazelcast.map.impl.operation.ReplaceOperation;
+import com.hazelcast.map.impl.operation.ReplicaReadOperation;
 import com.hazelcast.map.impl.operation.SetOperation;
 import com.hazelcast.map.impl.operation.SetTtlBackupOperation;
 import com.hazelcast.map.impl.operation.SetTtlOperation;
@@ -314,8 +317,11 @@ public final class MapDataSerializerHook implements DataSerializerHook {
     public static final int COMPUTE_IF_ABSENT_PROCESSOR = 149;
     public static final int KEY_VALUE_CONSUMING_PROCESSOR = 150;
     public static final int COMPUTE_MAP_OPERATION_PROCESSOR = 151;
+    public static final int LOAD_KEY_SEGMENTS = 152;
+    public static final int REPLICA_READ = 153;
+    public static final int LOADED_VALUE_SET = 154;
 
-    private static final int LEN = COMPUTE_MAP_OPERATION_PROCESSOR + 1;
+    private static final int LEN = LOADED_VALUE_SET + 1;
 
     @Override
     public int getFactoryId() {
@@ -475,6 +481,9 @@ public final class MapDataSerializerHook implements DataSerializerHook {
         constructors[COMPUTE_IF_ABSENT_PROCESSOR] = arg -> new ComputeIfAbsentEntryProcessor<>();
         constructors[KEY_VALUE_CONSUMING_PROCESSOR] = arg -> new KeyValueConsumingEntryProcessor<>();
         constructors[COMPUTE_MAP_OPERATION_PROCESSOR] = arg -> new ComputeEntryProcessor<>();
+        constructors[LOAD_KEY_SEGMENTS] = arg -> new LoadKeySegmentsOperation();
+        constructors[REPLICA_READ] = arg -> new ReplicaReadOperation();
+        constructors[LOADED_VALUE_SET] = arg -> new LoadedValueSetOperation();
 
         return new ArrayDataSerializableFactory(constructors);
     }
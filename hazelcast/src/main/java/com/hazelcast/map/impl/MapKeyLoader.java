@@ -25,9 +25,11 @@ import com.hazelcast.internal.util.StateMachine;
 import com.hazelcast.internal.util.scheduler.CoalescingDelayedTrigger;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.MapLoader;
+import com.hazelcast.map.SegmentedMapLoader;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.operation.KeyLoadStatusOperation;
 import com.hazelcast.map.impl.operation.KeyLoadStatusOperationFactory;
+import com.hazelcast.map.impl.operation.LoadKeySegmentsOperation;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
 import com.hazelcast.map.impl.operation.TriggerLoadIfNeededOperation;
@@ -47,12 +49,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
+import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
 import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.IterableUtil.limit;
 import static com.hazelcast.internal.util.IterableUtil.map;
 import static com.hazelcast.logging.Logger.getLogger;
@@ -396,6 +402,8 @@ public class MapKeyLoader {
      * many keys have been loaded from the map loader. If the keys returned from the
      * map loader are not equally distributed over all partitions, this may cause some nodes
      * to load more entries than others and exceed the configured policy.
+     * If the map loader is a {@link SegmentedMapLoader}, the keys are loaded by all
+     * members instead, see {@link #sendKeySegments(int, boolean)}.
      *
      * @param mapStoreContext       the map store context for this map
      * @param replaceExistingValues if the existing entries for the loaded keys should be replaced
@@ -413,31 +421,35 @@ public class MapKeyLoader {
         Throwable loadError = null;
 
         try {
-            Iterable<Object> allKeys = mapStoreContext.loadAllKeys();
-            keys = allKeys.iterator();
-            Iterator<Data> dataKeys = map(keys, toData);
-            int mapMaxSize = clusterSize * maxSizePerNode;
-
-            if (mapMaxSize > 0) {
-                dataKeys = limit(dataKeys, mapMaxSize);
-            }
+            MapStoreWrapper mapStore = mapStoreContext.getMapStoreWrapper();
+            if (mapStore != null && mapStore.isSegmentedMapLoader()) {
+                sendKeySegments(mapStore.getKeySegmentCount(), replaceExistingValues);
+            } else {
+                Iterable<Object> allKeys = mapStoreContext.loadAllKeys();
+                keys = allKeys.iterator();
+                Iterator<Data> dataKeys = map(keys, toData);
+                int mapMaxSize = clusterSize * maxSizePerNode;
 
-            Iterator<Entry<Integer, Data>> partitionsAndKeys = map(dataKeys, toPartition(partitionService));
-            Iterator<Map<Integer, List<Data>>> batches = toBatches(partitionsAndKeys, maxBatch);
+                if (mapMaxSize > 0) {
+                    dataKeys = limit(dataKeys, mapMaxSize);
+                }
 
-            List<Future> futures = new ArrayList<>();
-            while (batches.hasNext()) {
-                Map<Integer, List<Data>> batch = batches.next();
-                futures.addAll(sendBatch(batch, replaceExistingValues));
-            }
+                Iterator<Entry<Integer, Data>> partitionsAndKeys = map(dataKeys, toPartition(partitionService));
+                Iterator<Map<Integer, List<Data>>> batches = toBatches(partitionsAndKeys, maxBatch);
 
-            // This acts as a barrier to prevent re-ordering of key distribution operations (LoadAllOperation)
-            // and LoadStatusOperation(s) which indicates all keys were already loaded.
-            // Re-ordering of in-flight operations can happen during a partition migration. We are waiting here
-            // for all LoadAllOperation(s) to be ACKed by receivers and only then we send them the LoadStatusOperation
-            // See https://github.com/hazelcast/hazelcast/issues/4024 for additional details
-            FutureUtil.waitForever(futures);
+                List<Future> futures = new ArrayList<>();
+                while (batches.hasNext()) {
+                    Map<Integer, List<Data>> batch = batches.next();
+                    futures.addAll(sendBatch(batch, replaceExistingValues));
+                }
 
+                // This acts as a barrier to prevent re-ordering of key distribution operations (LoadAllOperation)
+                // and LoadStatusOperation(s) which indicates all keys were already loaded.
+                // Re-ordering of in-flight operations can happen during a partition migration. We are waiting here
+                // for all LoadAllOperation(s) to be ACKed by receivers and only then we send them the LoadStatusOperation
+                // See https://github.com/hazelcast/hazelcast/issues/4024 for additional details
+                FutureUtil.waitForever(futures);
+            }
         } catch (Exception caught) {
             loadError = caught;
         } finally {
@@ -449,6 +461,40 @@ public class MapKeyLoader {
         }
     }
 
+    /**
+     * Assigns the key segments of a {@link SegmentedMapLoader} round-robin to
+     * the data members, which then load the keys of their segments and send
+     * them to the partition owners for value loading. This method returns
+     * after all members have dispatched the keys of their segments.
+     *
+     * @param segmentCount          the number of key segments
+     * @param replaceExistingValues if the existing entries for the loaded keys should be replaced
+     * @throws Exception if loading the keys failed on any member
+     * @see MapKeySegmentLoader
+     */
+    private void sendKeySegments(int segmentCount, boolean replaceExistingValues) throws Exception {
+        List<Member> members = new ArrayList<>(clusterService.getMembers(DATA_MEMBER_SELECTOR));
+        int memberCount = members.size();
+        List<Future> futures = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount && i < segmentCount; i++) {
+            int[] segments = new int[(segmentCount - i + memberCount - 1) / memberCount];
+            for (int j = 0; j < segments.length; j++) {
+                segments[j] = i + j * memberCount;
+            }
+
+            Operation op = new LoadKeySegmentsOperation(mapName, segments, replaceExistingValues);
+            futures.add(opService.invokeOnTarget(SERVICE_NAME, op, members.get(i).getAddress()));
+        }
+
+        // wait for all members, also when some of them failed, for the same reason as
+        // the barrier in sendKeysInBatches
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        FutureUtil.waitForever(futures, t -> failure.compareAndSet(null, t instanceof ExecutionException ? t.getCause() : t));
+        if (failure.get() != null) {
+            throw rethrow(failure.get());
+        }
+    }
+
     /**
      * Sends the key batches to the partition owners for value loading.
      * The returned futures represent pending offloading of the value loading on the
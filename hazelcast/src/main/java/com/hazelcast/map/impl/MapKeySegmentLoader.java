@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.FutureUtil;
+import com.hazelcast.internal.util.UnmodifiableIterator;
+import com.hazelcast.internal.util.counters.MwCounter;
+import com.hazelcast.map.SegmentedMapLoader;
+import com.hazelcast.map.impl.operation.MapOperation;
+import com.hazelcast.map.impl.operation.MapOperationProvider;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
+import com.hazelcast.spi.impl.operationservice.OperationService;
+import com.hazelcast.spi.properties.ClusterProperty;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_KEY_LOAD_ACTIVE_SEGMENTS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_KEY_LOAD_LOADED_KEYS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_KEY_LOAD_LOADED_SEGMENTS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_KEY_LOAD_SEGMENTS;
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.util.IterableUtil.map;
+import static com.hazelcast.internal.util.IterableUtil.nullToEmpty;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+import static com.hazelcast.map.impl.MapKeyLoaderUtil.getMaxSizePerNode;
+import static com.hazelcast.map.impl.MapKeyLoaderUtil.toBatches;
+import static com.hazelcast.map.impl.MapKeyLoaderUtil.toPartition;
+import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_LOAD_KEY_SEGMENTS_EXECUTOR;
+
+/**
+ * Loads the key segments of a {@link SegmentedMapLoader} assigned to this
+ * member and sends the keys to the partition owners for value loading.
+ * <p>
+ * The segments are assigned to the members by the map key loader with the
+ * {@link MapKeyLoader.Role#SENDER} role. Up to
+ * {@link ClusterProperty#MAP_LOAD_SEGMENT_CONCURRENCY} segments are loaded
+ * concurrently on the {@link ExecutionService#MAP_LOAD_KEY_SEGMENTS_EXECUTOR}
+ * executor. The progress of the loading on this member is exposed by the
+ * probes of this class.
+ */
+public class MapKeySegmentLoader {
+
+    private final MapContainer mapContainer;
+
+    @Probe(name = MAP_METRIC_KEY_LOAD_SEGMENTS)
+    private final MwCounter segments = newMwCounter();
+    @Probe(name = MAP_METRIC_KEY_LOAD_LOADED_SEGMENTS)
+    private final MwCounter loadedSegments = newMwCounter();
+    @Probe(name = MAP_METRIC_KEY_LOAD_ACTIVE_SEGMENTS)
+    private final MwCounter activeSegments = newMwCounter();
+    @Probe(name = MAP_METRIC_KEY_LOAD_LOADED_KEYS)
+    private final MwCounter loadedKeys = newMwCounter();
+
+    public MapKeySegmentLoader(MapContainer mapContainer) {
+        this.mapContainer = mapContainer;
+    }
+
+    /**
+     * Loads the keys of the given segments and sends them to the partition
+     * owners for value loading.
+     * <p>
+     * The returned future is completed once all keys have been dispatched to
+     * the partition owners, the values may still be loading at that point.
+     * If loading a segment fails, the remaining segments are skipped and the
+     * future is completed with the failure.
+     *
+     * @param segmentIds            the segments assigned to this member
+     * @param replaceExistingValues if the existing entries for the loaded keys should be replaced
+     * @return a future representing pending completion of the key loading
+     */
+    public CompletableFuture<Object> load(int[] segmentIds, boolean replaceExistingValues) {
+        SegmentsLoad load = new SegmentsLoad(segmentIds, replaceExistingValues);
+        load.start();
+        return load.result;
+    }
+
+    /**
+     * @return the total number of key segments assigned to this member
+     */
+    public long getSegmentCount() {
+        return segments.get();
+    }
+
+    /**
+     * @return the number of key segments loaded by this member
+     */
+    public long getLoadedSegmentCount() {
+        return loadedSegments.get();
+    }
+
+    /**
+     * @return the number of keys loaded by this member
+     */
+    public long getLoadedKeyCount() {
+        return loadedKeys.get();
+    }
+
+    /**
+     * A single load of the segments assigned to this member.
+     */
+    private final class SegmentsLoad {
+
+        private final Queue<Integer> pendingSegments = new ConcurrentLinkedQueue<>();
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final AtomicInteger runningWorkers = new AtomicInteger();
+        private final boolean replaceExistingValues;
+
+        private final String mapName;
+        private final MapStoreWrapper mapStore;
+        private final OperationService operationService;
+        private final IPartitionService partitionService;
+        private final ExecutionService executionService;
+        private final MapOperationProvider operationProvider;
+        private final int maxBatch;
+        private final int concurrency;
+        /**
+         * The number of keys this member may still load, or {@code null} if
+         * there is no per-node limit, see {@link MapKeyLoader#setMaxSize(int)}.
+         */
+        private final AtomicLong remainingKeys;
+
+        SegmentsLoad(int[] segmentIds, boolean replaceExistingValues) {
+            for (int segmentId : segmentIds) {
+                pendingSegments.add(segmentId);
+            }
+            this.replaceExistingValues = replaceExistingValues;
+
+            MapServiceContext mapServiceContext = mapContainer.getMapServiceContext();
+            NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
+            this.mapName = mapContainer.getName();
+            this.mapStore = mapContainer.getMapStoreContext().getMapStoreWrapper();
+            this.operationService = nodeEngine.getOperationService();
+            this.partitionService = nodeEngine.getPartitionService();
+            this.executionService = nodeEngine.getExecutionService();
+            this.operationProvider = mapServiceContext.getMapOperationProvider(mapName);
+            this.maxBatch = nodeEngine.getProperties().getInteger(ClusterProperty.MAP_LOAD_CHUNK_SIZE);
+            this.concurrency = nodeEngine.getProperties().getInteger(ClusterProperty.MAP_LOAD_SEGMENT_CONCURRENCY);
+            int maxSizePerNode = getMaxSizePerNode(mapContainer.getMapConfig().getEvictionConfig());
+            this.remainingKeys = maxSizePerNode > 0 ? new AtomicLong(maxSizePerNode) : null;
+        }
+
+        void start() {
+            segments.inc(pendingSegments.size());
+            int workers = Math.max(1, Math.min(concurrency, pendingSegments.size()));
+            runningWorkers.set(workers);
+            for (int i = 0; i < workers; i++) {
+                try {
+                    executionService.execute(MAP_LOAD_KEY_SEGMENTS_EXECUTOR, this::runWorker);
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                    workerFinished();
+                }
+            }
+        }
+
+        private void runWorker() {
+            try {
+                Integer segment;
+                while (failure.get() == null && (segment = pendingSegments.poll()) != null) {
+                    activeSegments.inc();
+                    try {
+                        loadSegment(segment);
+                    } finally {
+                        activeSegments.inc(-1);
+                    }
+                    loadedSegments.inc();
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                workerFinished();
+            }
+        }
+
+        /**
+         * Completes the result once the last worker has finished, so that the
+         * result is not reported while key batches of other segments are
+         * still being dispatched.
+         */
+        private void workerFinished() {
+            if (runningWorkers.decrementAndGet() == 0) {
+                Throwable t = failure.get();
+                if (t == null) {
+                    result.complete(null);
+                } else {
+                    result.completeExceptionally(t);
+                }
+            }
+        }
+
+        private void loadSegment(int segment) {
+            Iterator<Object> keys = null;
+            try {
+                keys = nullToEmpty(mapStore.loadAllKeys(segment)).iterator();
+                Iterator<Data> dataKeys = limit(map(keys, mapContainer.toData()));
+                Iterator<Entry<Integer, Data>> partitionsAndKeys = map(dataKeys, toPartition(partitionService));
+                Iterator<Map<Integer, List<Data>>> batches = toBatches(partitionsAndKeys, maxBatch);
+
+                List<Future> futures = new ArrayList<>();
+                while (batches.hasNext()) {
+                    for (Entry<Integer, List<Data>> e : batches.next().entrySet()) {
+                        List<Data> partitionKeys = e.getValue();
+                        MapOperation op = operationProvider.createLoadAllOperation(mapName, partitionKeys,
+                                replaceExistingValues);
+                        futures.add(operationService.invokeOnPartition(SERVICE_NAME, op, e.getKey()));
+                        loadedKeys.inc(partitionKeys.size());
+                    }
+                }
+                // same barrier as in MapKeyLoader: the keys must reach the partition
+                // owners before they are notified that the key loading has completed
+                FutureUtil.waitForever(futures);
+            } finally {
+                if (keys instanceof Closeable) {
+                    closeResource((Closeable) keys);
+                }
+            }
+        }
+
+        /**
+         * Stops returning keys once this member has loaded its per-node limit
+         * of keys. The limit is shared by all segments loaded on this member,
+         * so {@code hasNext()} reserves the key returned by the following
+         * {@code next()} before the concurrent segment loads can take it.
+         */
+        private Iterator<Data> limit(Iterator<Data> keys) {
+            if (remainingKeys == null) {
+                return keys;
+            }
+            return new UnmodifiableIterator<Data>() {
+                private boolean reserved;
+
+                @Override
+                public boolean hasNext() {
+                    if (!reserved && keys.hasNext()) {
+                        reserved = reserveKey();
+                    }
+                    return reserved;
+                }
+
+                @Override
+                public Data next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    reserved = false;
+                    return keys.next();
+                }
+            };
+        }
+
+        private boolean reserveKey() {
+            long remaining;
+            do {
+                remaining = remainingKeys.get();
+                if (remaining <= 0) {
+                    return false;
+                }
+            } while (!remainingKeys.compareAndSet(remaining, remaining - 1));
+            return true;
+        }
+    }
+}
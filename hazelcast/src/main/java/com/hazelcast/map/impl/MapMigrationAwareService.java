@@ -277,15 +277,17 @@ class MapMigrationAwareService implements FragmentedMigrationAwareService {
 
             InternalIndex[] indexesSnapshot = indexes.getIndexes();
 
+            Index.BulkLoader loader = indexes.newBulkLoader(Index.OperationSource.SYSTEM);
             recordStore.forEach((key, record) -> {
                 Object value = Records.getValueOrCachedValue(record, serializationService);
                 if (value != null) {
                     QueryableEntry queryEntry = mapContainer.newQueryEntry(key, value);
                     queryEntry.setRecord(record);
                     queryEntry.setStoreAdapter(storeAdapter);
-                    indexes.putEntry(queryEntry, null, Index.OperationSource.SYSTEM);
+                    loader.add(queryEntry);
                 }
             }, false);
+            loader.complete();
 
             Indexes.markPartitionAsIndexed(event.getPartitionId(), indexesSnapshot);
         }
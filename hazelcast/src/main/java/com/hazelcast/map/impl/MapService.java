@@ -69,6 +69,7 @@ import static com.hazelcast.core.EntryEventType.INVALIDATION;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_DISCRIMINATOR_NAME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_INDEX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_KEY_LOAD;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_NEARCACHE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_TAG_INDEX;
 
@@ -285,6 +286,8 @@ public class MapService implements ManagedService, FragmentedMigrationAwareServi
 
     @Override
     public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        provideKeyLoadMetrics(descriptor, context);
+
         Map<String, LocalMapStats> stats = getStats();
         if (stats == null) {
             return;
@@ -323,4 +326,19 @@ public class MapService implements ManagedService, FragmentedMigrationAwareServi
             }
         }
     }
+
+    private void provideKeyLoadMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (MapContainer mapContainer : mapServiceContext.getMapContainers().values()) {
+            MapStoreWrapper mapStore = mapContainer.getMapStoreContext().getMapStoreWrapper();
+            if (mapStore == null || !mapStore.isSegmentedMapLoader()) {
+                continue;
+            }
+
+            MetricDescriptor keyLoadDescriptor = descriptor
+                    .copy()
+                    .withPrefix(MAP_PREFIX_KEY_LOAD)
+                    .withDiscriminator(MAP_DISCRIMINATOR_NAME, mapContainer.getName());
+            context.collect(keyLoadDescriptor, mapContainer.getKeySegmentLoader());
+        }
+    }
 }
@@ -21,6 +21,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.PartitioningStrategyConfig;
 import com.hazelcast.internal.eviction.ExpirationManager;
+import com.hazelcast.internal.memory.impl.StandardMemoryManager;
 import com.hazelcast.internal.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.internal.util.comparators.ValueComparator;
@@ -197,4 +198,10 @@ public interface MapServiceContext extends MapServiceContextInterceptorSupport,
     ValueComparator getValueComparatorOf(InMemoryFormat inMemoryFormat);
 
     NodeWideUsedCapacityCounter getNodeWideUsedCapacityCounter();
+
+    /**
+     * @return the memory manager backing maps with {@link InMemoryFormat#NATIVE}
+     * in-memory format, or {@code null} if native memory is not enabled
+     */
+    StandardMemoryManager getNativeMemoryManager();
 }
@@ -20,7 +20,9 @@ import com.hazelcast.cluster.ClusterState;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.PartitioningStrategyConfig;
+import com.hazelcast.config.NativeMemoryConfig;
 import com.hazelcast.internal.eviction.ExpirationManager;
+import com.hazelcast.internal.memory.impl.StandardMemoryManager;
 import com.hazelcast.internal.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.serialization.DataType;
@@ -142,6 +144,7 @@ class MapServiceContextImpl implements MapServiceContext {
     private final MapClearExpiredRecordsTask clearExpiredRecordsTask;
     private final PartitioningStrategyFactory partitioningStrategyFactory;
     private final NodeWideUsedCapacityCounter nodeWideUsedCapacityCounter;
+    private final StandardMemoryManager nativeMemoryManager;
     private final ConstructorFunction<String, MapContainer> mapConstructor;
     private final IndexProvider indexProvider = new DefaultIndexProvider();
     private final ContextMutexFactory contextMutexFactory = new ContextMutexFactory();
@@ -172,6 +175,7 @@ class MapServiceContextImpl implements MapServiceContext {
         this.operationProviders = createOperationProviders();
         this.partitioningStrategyFactory = new PartitioningStrategyFactory(nodeEngine.getConfigClassLoader());
         this.nodeWideUsedCapacityCounter = new NodeWideUsedCapacityCounter(nodeEngine.getProperties());
+        this.nativeMemoryManager = createNativeMemoryManager();
         this.logger = nodeEngine.getLogger(getClass());
     }
 
@@ -189,6 +193,12 @@ class MapServiceContextImpl implements MapServiceContext {
         return new MapContainer(mapName, nodeEngine.getConfig(), mapServiceContext);
     }
 
+    // this method is overridden in another context
+    StandardMemoryManager createNativeMemoryManager() {
+        NativeMemoryConfig nativeMemoryConfig = nodeEngine.getConfig().getNativeMemoryConfig();
+        return nativeMemoryConfig.isEnabled() ? new StandardMemoryManager(nativeMemoryConfig.getSize().bytes()) : null;
+    }
+
     // this method is overridden in another context
     MapNearCacheManager createMapNearCacheManager() {
         return new MapNearCacheManager(this);
@@ -448,6 +458,9 @@ class MapServiceContextImpl implements MapServiceContext {
         mapNearCacheManager.shutdown();
         mapContainers.clear();
         expirationManager.onShutdown();
+        if (nativeMemoryManager != null) {
+            nativeMemoryManager.dispose();
+        }
     }
 
     @Override
@@ -876,6 +889,11 @@ class MapServiceContextImpl implements MapServiceContext {
         return nodeWideUsedCapacityCounter;
     }
 
+    @Override
+    public StandardMemoryManager getNativeMemoryManager() {
+        return nativeMemoryManager;
+    }
+
     // used only for testing purposes
     PartitioningStrategyFactory getPartitioningStrategyFactory() {
         return partitioningStrategyFactory;
@@ -23,12 +23,16 @@ import com.hazelcast.map.EntryLoader;
 import com.hazelcast.map.MapLoader;
 import com.hazelcast.map.MapLoaderLifecycleSupport;
 import com.hazelcast.map.MapStore;
+import com.hazelcast.map.OrderedBatchMapStore;
+import com.hazelcast.map.OrderedBatchMapStore.StoreOperation;
 import com.hazelcast.map.PostProcessingMapStore;
+import com.hazelcast.map.SegmentedMapLoader;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -106,11 +110,17 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
             return;
         }
 
-        if (mapLoader != null) {
+        if (mapLoader instanceof SegmentedMapLoader) {
+            this.mapLoader = new LatencyTrackingSegmentedMapLoader((SegmentedMapLoader) mapLoader, storeLatencyPlugin,
+                    mapName);
+        } else if (mapLoader != null) {
             this.mapLoader = new LatencyTrackingMapLoader(mapLoader, storeLatencyPlugin, mapName);
         }
 
-        if (mapStore != null) {
+        if (mapStore instanceof OrderedBatchMapStore) {
+            this.mapStore = new LatencyTrackingOrderedBatchMapStore((OrderedBatchMapStore) mapStore, storeLatencyPlugin,
+                    mapName);
+        } else if (mapStore != null) {
             this.mapStore = new LatencyTrackingMapStore(mapStore, storeLatencyPlugin, mapName);
         }
     }
@@ -145,6 +155,14 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
         }
     }
 
+    /**
+     * Applies the given operations in order, see {@link OrderedBatchMapStore#storeBatch(List)}.
+     * Must only be called if {@link #isOrderedBatchMapStore()} returns {@code true}.
+     */
+    public void storeBatch(List<StoreOperation> operations) {
+        ((OrderedBatchMapStore) mapStore).storeBatch(operations);
+    }
+
     /**
      * Returns an {@link Iterable} of all keys or {@code null}
      * if a map loader is not configured for this map.
@@ -158,6 +176,29 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
         return null;
     }
 
+    /**
+     * @return {@code true} if the configured {@link MapLoader} is a {@link SegmentedMapLoader}
+     */
+    public boolean isSegmentedMapLoader() {
+        return mapLoader instanceof SegmentedMapLoader;
+    }
+
+    /**
+     * Returns the key segment count of the map loader, see {@link SegmentedMapLoader#getKeySegmentCount()}.
+     * Must only be called if {@link #isSegmentedMapLoader()} returns {@code true}.
+     */
+    public int getKeySegmentCount() {
+        return ((SegmentedMapLoader) mapLoader).getKeySegmentCount();
+    }
+
+    /**
+     * Returns the keys of the given segment, see {@link SegmentedMapLoader#loadAllKeys(int)}.
+     * Must only be called if {@link #isSegmentedMapLoader()} returns {@code true}.
+     */
+    public Iterable<Object> loadAllKeys(int segment) {
+        return (Iterable<Object>) ((SegmentedMapLoader) mapLoader).loadAllKeys(segment);
+    }
+
     @Override
     public Object load(Object key) {
         if (isMapLoader()) {
@@ -185,6 +226,13 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
         return isMapStore() && mapStore instanceof PostProcessingMapStore;
     }
 
+    /**
+     * @return {@code true} if the configured {@link MapStore} is an {@link OrderedBatchMapStore}
+     */
+    public boolean isOrderedBatchMapStore() {
+        return mapStore instanceof OrderedBatchMapStore;
+    }
+
     public boolean isWithExpirationTime() {
         return withExpirationTime;
     }
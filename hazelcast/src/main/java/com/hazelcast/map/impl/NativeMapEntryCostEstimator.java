@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.record.Record;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+
+/**
+ * Owned entry cost estimator for maps which have {@link InMemoryFormat#NATIVE} memory-format.
+ * The estimate is the native memory occupied by the entries: the record
+ * blocks including keys and values, plus the hash slot pointing to them.
+ */
+class NativeMapEntryCostEstimator
+        implements EntryCostEstimator<Data, Record> {
+
+    private static final int HASH_SLOT_COST_IN_BYTES = 2 * LONG_SIZE_IN_BYTES;
+
+    private volatile long estimate;
+
+    NativeMapEntryCostEstimator() {
+    }
+
+    @Override
+    public long getEstimate() {
+        return estimate;
+    }
+
+    @SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT",
+            justification = "We have the guarantee that only a single partition thread at any given time can change the volatile"
+                    + " field, but multiple threads can read it.")
+    @Override
+    public void adjustEstimateBy(long adjustment) {
+        this.estimate += adjustment;
+    }
+
+    @Override
+    public void reset() {
+        estimate = 0L;
+    }
+
+    @Override
+    public long calculateValueCost(Record value) {
+        return value.getCost();
+    }
+
+    @Override
+    public long calculateEntryCost(Data key, Record value) {
+        return HASH_SLOT_COST_IN_BYTES + value.getCost();
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.map.impl.eviction;
 import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.memory.impl.StandardMemoryManager;
 import com.hazelcast.internal.nearcache.NearCache;
 import com.hazelcast.internal.util.MemoryInfoAccessor;
 import com.hazelcast.logging.ILogger;
@@ -55,6 +56,7 @@ public class EvictionChecker {
     private final PartitionContainer[] containers;
     private final MemoryInfoAccessor memoryInfoAccessor;
     private final MapNearCacheManager mapNearCacheManager;
+    private final StandardMemoryManager nativeMemoryManager;
     private final AtomicBoolean misconfiguredPerNodeMaxSizeWarningLogged;
 
     public EvictionChecker(MemoryInfoAccessor givenMemoryInfoAccessor, MapServiceContext mapServiceContext) {
@@ -67,6 +69,7 @@ public class EvictionChecker {
         this.clusterService = nodeEngine.getClusterService();
         this.partitionCount = nodeEngine.getPartitionService().getPartitionCount();
         this.mapNearCacheManager = mapServiceContext.getMapNearCacheManager();
+        this.nativeMemoryManager = mapServiceContext.getNativeMemoryManager();
         this.memoryInfoAccessor = givenMemoryInfoAccessor;
 
         if (logger.isFinestEnabled()) {
@@ -76,6 +79,7 @@ public class EvictionChecker {
         this.misconfiguredPerNodeMaxSizeWarningLogged = new AtomicBoolean();
     }
 
+    @SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:returncount"})
     public boolean checkEvictable(RecordStore recordStore) {
         if (recordStore.size() == 0) {
             return false;
@@ -101,6 +105,14 @@ public class EvictionChecker {
                 return (usedHeapInBytes(mapName) * ONE_HUNDRED / Math.max(maxMemoryInBytes(), 1)) > maxConfiguredSize;
             case FREE_HEAP_PERCENTAGE:
                 return (availableMemoryInBytes() * ONE_HUNDRED / Math.max(maxMemoryInBytes(), 1)) < maxConfiguredSize;
+            case USED_NATIVE_MEMORY_SIZE:
+                return usedNativeMemoryInBytes() > MEGABYTES.toBytes(maxConfiguredSize);
+            case FREE_NATIVE_MEMORY_SIZE:
+                return freeNativeMemoryInBytes() < MEGABYTES.toBytes(maxConfiguredSize);
+            case USED_NATIVE_MEMORY_PERCENTAGE:
+                return (usedNativeMemoryInBytes() * ONE_HUNDRED / Math.max(maxNativeMemoryInBytes(), 1)) > maxConfiguredSize;
+            case FREE_NATIVE_MEMORY_PERCENTAGE:
+                return (freeNativeMemoryInBytes() * ONE_HUNDRED / Math.max(maxNativeMemoryInBytes(), 1)) < maxConfiguredSize;
             default:
                 throw new IllegalArgumentException("Not an appropriate max size policy [" + maximumSizePolicy + ']');
         }
@@ -177,4 +189,16 @@ public class EvictionChecker {
     private long availableMemoryInBytes() {
         return freeMemoryInBytes() + maxMemoryInBytes() - totalMemoryInBytes();
     }
+
+    private long usedNativeMemoryInBytes() {
+        return nativeMemoryManager == null ? 0L : nativeMemoryManager.getUsedMemory();
+    }
+
+    private long freeNativeMemoryInBytes() {
+        return nativeMemoryManager == null ? 0L : nativeMemoryManager.getFreeMemory();
+    }
+
+    private long maxNativeMemoryInBytes() {
+        return nativeMemoryManager == null ? 0L : nativeMemoryManager.getMaxMemory();
+    }
 }
@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.eviction;
 
 import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.eviction.impl.comparator.TinyLFUEvictionPolicyComparator;
 import com.hazelcast.internal.partition.IPartition;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.util.Clock;
@@ -82,7 +83,7 @@ public class EvictorImpl implements Evictor {
             }
 
             if (selected == null
-                    || policy.compare(current, selected) < 0) {
+                    || compare(recordStore, current, selected) < 0) {
                 selected = current;
             }
         }
@@ -90,6 +91,15 @@ public class EvictorImpl implements Evictor {
         return selected == null ? excluded : selected;
     }
 
+    private int compare(RecordStore recordStore, EntryView e1, EntryView e2) {
+        TinyLFUEvictionPolicyComparator tinyLFUComparator = recordStore.getTinyLFUComparator();
+        if (tinyLFUComparator != null) {
+            // access frequencies are tracked per partition by serialized keys
+            return tinyLFUComparator.compare(getDataKeyFromEntryView(e1), e1, getDataKeyFromEntryView(e2), e2);
+        }
+        return policy.compare(e1, e2);
+    }
+
     private void evictEntry(RecordStore recordStore, EntryView selectedEntry) {
         Record record = getRecordFromEntryView(selectedEntry);
         Data dataKey = getDataKeyFromEntryView(selectedEntry);
@@ -65,6 +65,12 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * management of backup expiration from primary. This
  * can only be used with max idle seconds expiration.
  * </li>
+ * <li>
+ * {@value PROP_EXPIRATION_INDEX_ENABLED}: Used to enable/disable
+ * the per-partition expiration index. When enabled, each round
+ * removes the entries whose expiration time has passed instead
+ * of scanning a percentage of the partition. Default is false.
+ * </li>
  * </ul>
  *
  * <p>
@@ -86,6 +92,7 @@ public class MapClearExpiredRecordsTask
         extends ClearExpiredRecordsTask<PartitionContainer, RecordStore> {
 
     public static final String PROP_CLEANUP_ENABLED = "hazelcast.internal.map.expiration.cleanup.enabled";
+    public static final String PROP_EXPIRATION_INDEX_ENABLED = "hazelcast.internal.map.expiration.index.enabled";
     public static final String PROP_PRIMARY_DRIVES_BACKUP = "hazelcast.internal.map.expiration.primary.drives_backup";
     public static final String PROP_CLEANUP_PERCENTAGE = "hazelcast.internal.map.expiration.cleanup.percentage";
     public static final String PROP_CLEANUP_OPERATION_COUNT = "hazelcast.internal.map.expiration.cleanup.operation.count";
@@ -104,8 +111,11 @@ public class MapClearExpiredRecordsTask
             = new HazelcastProperty(PROP_CLEANUP_OPERATION_COUNT);
     private static final HazelcastProperty CLEANUP_ENABLED
             = new HazelcastProperty(PROP_CLEANUP_ENABLED, true);
+    private static final HazelcastProperty EXPIRATION_INDEX_ENABLED
+            = new HazelcastProperty(PROP_EXPIRATION_INDEX_ENABLED, false);
 
     private final boolean primaryDrivesEviction;
+    private final boolean expirationIndexEnabled;
 
     private final Comparator<PartitionContainer> partitionContainerComparator = (o1, o2) -> {
         final long s1 = o1.getLastCleanupTimeCopy();
@@ -117,12 +127,17 @@ public class MapClearExpiredRecordsTask
         super(SERVICE_NAME, containers, CLEANUP_ENABLED, CLEANUP_OPERATION_COUNT,
                 CLEANUP_PERCENTAGE, TASK_PERIOD_SECONDS, nodeEngine);
         this.primaryDrivesEviction = nodeEngine.getProperties().getBoolean(PRIMARY_DRIVES_BACKUP);
+        this.expirationIndexEnabled = nodeEngine.getProperties().getBoolean(EXPIRATION_INDEX_ENABLED);
     }
 
     public boolean canPrimaryDriveExpiration() {
         return primaryDrivesEviction;
     }
 
+    public boolean isExpirationIndexEnabled() {
+        return expirationIndexEnabled;
+    }
+
     @Override
     public void tryToSendBackupExpiryOp(RecordStore store, boolean sendIfAtBatchSize) {
         if (!canPrimaryDriveExpiration()) {
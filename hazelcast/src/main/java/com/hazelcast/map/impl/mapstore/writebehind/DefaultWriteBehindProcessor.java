@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.mapstore.writebehind;
 
 import com.hazelcast.map.EntryLoader.MetadataAwareValue;
+import com.hazelcast.map.OrderedBatchMapStore.StoreOperation;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
 import com.hazelcast.internal.serialization.Data;
@@ -26,6 +27,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -61,7 +63,9 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
     public Map<Integer, List<DelayedEntry>> process(List<DelayedEntry> delayedEntries) {
         Map<Integer, List<DelayedEntry>> failMap;
         sort(delayedEntries);
-        if (writeBatchSize > 1) {
+        // ordered batches are always chunked, even by the default write batch size of one,
+        // since a single OrderedBatchMapStore#storeBatch call could otherwise take the whole queue
+        if (writeBatchSize > 1 || isOrderedBatch()) {
             failMap = doStoreUsingBatchSize(delayedEntries);
         } else {
             failMap = processInternal(delayedEntries);
@@ -74,6 +78,9 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         if (delayedEntries == null || delayedEntries.isEmpty()) {
             return Collections.emptyMap();
         }
+        if (isOrderedBatch()) {
+            return processOrderedBatch(delayedEntries);
+        }
         final Map<Integer, List<DelayedEntry>> failuresByPartition = new HashMap<>();
         final List<DelayedEntry> entriesToProcess = new ArrayList<>();
         StoreOperationType operationType = null;
@@ -99,6 +106,34 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         return failuresByPartition;
     }
 
+    private boolean isOrderedBatch() {
+        return !writeCoalescing && mapStore.isOrderedBatchMapStore();
+    }
+
+    /**
+     * Passes all entries, stores and deletes mixed, to the
+     * {@link com.hazelcast.map.OrderedBatchMapStore} in their original order.
+     *
+     * @param delayedEntries sorted entries to be processed.
+     * @return not-stored entries per partition.
+     */
+    private Map<Integer, List<DelayedEntry>> processOrderedBatch(List<DelayedEntry> delayedEntries) {
+        final Map<Integer, List<DelayedEntry>> failuresByPartition = new HashMap<>();
+        final List<DelayedEntry> failures;
+        if (delayedEntries.size() == 1) {
+            final DelayedEntry entry = delayedEntries.get(0);
+            failures = callSingleStoreWithListeners(entry, operationTypeOf(entry));
+        } else {
+            failures = callOrderedBatchStoreWithListeners(delayedEntries);
+        }
+        addFailsTo(failuresByPartition, failures);
+        return failuresByPartition;
+    }
+
+    private static StoreOperationType operationTypeOf(DelayedEntry entry) {
+        return entry.getValue() == null ? StoreOperationType.DELETE : StoreOperationType.WRITE;
+    }
+
     private void addFailsTo(Map<Integer, List<DelayedEntry>> failsPerPartition, List<DelayedEntry> fails) {
         if (fails == null || fails.isEmpty()) {
             return;
@@ -130,6 +165,7 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         // e.g. MapStore{#store,#delete}. This is because MapStore#storeAll requires a Map type in its signature and Map type
         // can only contain one store operation type per key, so only last update on a key can be included when batching.
         // Due to that limitation it is not possible to provide a correct no-write-coalescing write-behind behavior.
+        // Map stores implementing OrderedBatchMapStore don't have that limitation and are handled by processOrderedBatch.
         // Under that limitation of current MapStore interface, we are making a workaround and persisting all
         // entries one by one for no-write-coalescing write-behind map-stores and as a result not doing batching
         // when writeCoalescing is false.
@@ -203,6 +239,21 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         return retryCall(new StoreBatchTask(batchMap, operationType, mapStore.isWithExpirationTime()));
     }
 
+    /**
+     * @param delayedEntries sorted entries to be stored.
+     * @return failed entry list if any.
+     */
+    private List<DelayedEntry> callOrderedBatchStoreWithListeners(List<DelayedEntry> delayedEntries) {
+        final List<DelayedEntry> failedEntryList
+                = retryCall(new StoreOrderedBatchTask(delayedEntries, mapStore.isWithExpirationTime()));
+        final List<DelayedEntry> failedTries = new ArrayList<>();
+        // entries left by the failed batch are stored one by one, still in order
+        for (DelayedEntry entry : failedEntryList) {
+            failedTries.addAll(callSingleStoreWithListeners(entry, operationTypeOf(entry)));
+        }
+        return failedTries;
+    }
+
     private void callBeforeStoreListeners(DelayedEntry entry) {
         for (StoreListener listener : storeListeners) {
             listener.beforeStore(StoreEvent.createStoreEvent(entry));
@@ -447,6 +498,64 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         }
     }
 
+    private class StoreOrderedBatchTask implements RetryTask<DelayedEntry> {
+
+        private final List<DelayedEntry> entries;
+        private final List<StoreOperation> operations;
+
+        StoreOrderedBatchTask(List<DelayedEntry> delayedEntries, boolean withTtl) {
+            this.entries = new ArrayList<>(delayedEntries);
+            this.operations = new ArrayList<>(delayedEntries.size());
+            for (DelayedEntry entry : delayedEntries) {
+                final Object key = toObject(entry.getKey());
+                final Object value = toObject(entry.getValue());
+                if (value == null) {
+                    operations.add(StoreOperation.delete(key));
+                } else if (withTtl) {
+                    operations.add(StoreOperation.store(key, new MetadataAwareValue(value, entry.getExpirationTime())));
+                } else {
+                    operations.add(StoreOperation.store(key, value));
+                }
+            }
+        }
+
+        @Override
+        public boolean run() throws Exception {
+            callBeforeStoreListeners(entries);
+            final List<StoreOperation> batch = new ArrayList<>(operations);
+            try {
+                mapStore.storeBatch(batch);
+            } catch (Exception ex) {
+                retainLeftOperations(batch);
+                throw ex;
+            }
+            callAfterStoreListeners(entries);
+            return true;
+        }
+
+        /**
+         * Drops the operations which the map store has removed from the
+         * batch, i.e. the ones it has already applied before failing.
+         */
+        private void retainLeftOperations(List<StoreOperation> batch) {
+            final Map<StoreOperation, Boolean> left = new IdentityHashMap<>(batch.size());
+            for (StoreOperation operation : batch) {
+                left.put(operation, Boolean.TRUE);
+            }
+            for (int i = operations.size() - 1; i >= 0; i--) {
+                if (!left.containsKey(operations.get(i))) {
+                    operations.remove(i);
+                    entries.remove(i);
+                }
+            }
+        }
+
+        @Override
+        public List<DelayedEntry> failureList() {
+            return new ArrayList<>(entries);
+        }
+    }
+
     private void sleepSeconds(long secs) {
         try {
             SECONDS.sleep(secs);
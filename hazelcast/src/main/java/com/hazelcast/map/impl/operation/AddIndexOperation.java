@@ -91,13 +91,15 @@ public class AddIndexOperation extends MapOperation
 
         SerializationService serializationService = getNodeEngine().getSerializationService();
 
+        Index.BulkLoader loader = index.newBulkLoader(Index.OperationSource.USER);
         recordStore.forEach((dataKey, record) -> {
             Object value = Records.getValueOrCachedValue(record, serializationService);
             QueryableEntry queryEntry = mapContainer.newQueryEntry(dataKey, value);
             queryEntry.setRecord(record);
             queryEntry.setStoreAdapter(recordStoreAdapter);
-            index.putEntry(queryEntry, null, Index.OperationSource.USER);
+            loader.add(queryEntry);
         }, false);
+        loader.complete();
 
         index.markPartitionAsIndexed(partitionId);
     }
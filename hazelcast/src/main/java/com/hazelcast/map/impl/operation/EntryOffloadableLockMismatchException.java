@@ -21,6 +21,7 @@ import com.hazelcast.core.HazelcastException;
 /**
  * Actor of the EntryOffloadableOperation -&gt; EntryOffloadableSetUnlockOperation combined operations flow.
  * If returned from the EntryOffloadableSetUnlockOperation, the preceding EntryOffloadableOperation will be retried.
+ * The offloaded load of a {@link GetOperation} uses it the same way with the {@link LoadedValueSetOperation}.
  */
 public class EntryOffloadableLockMismatchException extends HazelcastException {
 
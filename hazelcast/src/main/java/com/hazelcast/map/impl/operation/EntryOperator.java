@@ -25,6 +25,7 @@ import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.Timer;
+import com.hazelcast.map.BatchEntryProcessor;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.ExtendedMapEntry;
 import com.hazelcast.map.impl.LazyMapEntry;
@@ -43,7 +44,11 @@ import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.eventservice.EventService;
 import com.hazelcast.spi.impl.operationservice.BackupOperation;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.function.BiConsumer;
 
 import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.core.EntryEventType.ADDED;
@@ -172,6 +177,53 @@ public final class EntryOperator {
         return operateOnKeyValueInternal(dataKey, clonedOrRawOldValue(), locked);
     }
 
+    /**
+     * Processes the given keys with a single {@link
+     * BatchEntryProcessor#process(List)} call and then runs the post
+     * operation steps of every processed entry.
+     * <p>
+     * Keys which belong to another partition or do not match the
+     * predicate are skipped, same as in {@link #operateOnKey(Data)}.
+     *
+     * @param keys           keys to be processed
+     * @param resultConsumer consumer of the non-null results, not used
+     *                       when this operator runs on a backup
+     */
+    public void operateOnKeys(Collection<Data> keys, BiConsumer<Data, Data> resultConsumer) {
+        List<Data> batchKeys = new ArrayList<>(keys.size());
+        List<Object> oldValues = new ArrayList<>(keys.size());
+        List<LockAwareLazyMapEntry> entries = new ArrayList<>(keys.size());
+        for (Data key : keys) {
+            LockAwareLazyMapEntry batchEntry = newBatchEntry(key);
+            if (batchEntry != null) {
+                batchKeys.add(key);
+                oldValues.add(oldValue);
+                entries.add(batchEntry);
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        List results = processBatch(entries);
+        for (int i = 0; i < entries.size(); i++) {
+            dataKey = batchKeys.get(i);
+            oldValue = oldValues.get(i);
+            entry = entries.get(i);
+            result = backup ? null : ss.toData(results.get(i));
+            didMatchPredicate = true;
+
+            findModificationType(entry);
+            if (readOnly && entryWasModified()) {
+                throwModificationInReadOnlyException();
+            }
+            doPostOperateOps();
+            if (result != null) {
+                resultConsumer.accept(dataKey, result);
+            }
+        }
+    }
+
     public EntryOperator operateOnKeyValue(Data dataKey, Object oldValue) {
         return operateOnKeyValueInternal(dataKey, oldValue, null);
     }
@@ -319,7 +371,7 @@ public final class EntryOperator {
         // updates access time if record exists
         Record record = recordStore.getRecord(dataKey);
         if (record != null) {
-            recordStore.accessRecord(record, Clock.currentTimeMillis());
+            recordStore.accessRecord(dataKey, record, Clock.currentTimeMillis());
         }
     }
 
@@ -332,6 +384,35 @@ public final class EntryOperator {
         result = ss.toData(entryProcessor.process(entry));
     }
 
+    /**
+     * @return entry to be processed in the batch or {@code null} if the
+     * key should be skipped, {@link #oldValue} is set to the entry's value
+     */
+    private LockAwareLazyMapEntry newBatchEntry(Data key) {
+        if (belongsAnotherPartition(key)) {
+            return null;
+        }
+        oldValue = recordStore.get(key, backup, callerAddress, false);
+        if (predicate != null && oldValue == null) {
+            return null;
+        }
+        oldValue = clonedOrRawOldValue();
+        LockAwareLazyMapEntry batchEntry = new LockAwareLazyMapEntry();
+        batchEntry.init(ss, key, oldValue, mapContainer.getExtractors(), recordStore.isLocked(key));
+        return outOfPredicateScope(batchEntry) ? null : batchEntry;
+    }
+
+    private List processBatch(List<? extends Entry> entries) {
+        BatchEntryProcessor processor = (BatchEntryProcessor) (backup ? backupProcessor : entryProcessor);
+        List results = processor.process(entries);
+        if (!backup && (results == null || results.size() != entries.size())) {
+            throw new IllegalStateException("Batch Entry Processor " + processor.getClass().getName()
+                    + " returned " + (results == null ? "null" : results.size() + " results")
+                    + " for " + entries.size() + " entries of map " + mapName);
+        }
+        return results;
+    }
+
     private void throwModificationInReadOnlyException() {
         throw new UnsupportedOperationException("Entry Processor " + entryProcessor.getClass().getName()
                 + " marked as ReadOnly tried to modify map " + mapName + ". This is not supported. Remove "
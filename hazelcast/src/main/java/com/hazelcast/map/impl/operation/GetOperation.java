@@ -18,15 +18,47 @@ package com.hazelcast.map.impl.operation;
 
 import com.hazelcast.core.OperationTimeoutException;
 import com.hazelcast.internal.locksupport.LockWaitNotifyKey;
-import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.mapstore.MapDataStore;
+import com.hazelcast.spi.exception.RetryableHazelcastException;
+import com.hazelcast.spi.exception.WrongTargetException;
 import com.hazelcast.spi.impl.operationservice.BlockingOperation;
+import com.hazelcast.spi.impl.operationservice.CallStatus;
+import com.hazelcast.spi.impl.operationservice.Offload;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.OperationAccessor;
+import com.hazelcast.spi.impl.operationservice.OperationResponseHandler;
 import com.hazelcast.spi.impl.operationservice.WaitNotifyKey;
 
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.hazelcast.map.impl.mapstore.MapDataStores.EMPTY_MAP_DATA_STORE;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_LOAD_OFFLOAD_EXECUTOR;
+import static com.hazelcast.spi.impl.operationservice.CallStatus.RESPONSE;
+import static com.hazelcast.spi.impl.operationservice.CallStatus.WAIT;
+import static com.hazelcast.spi.impl.operationservice.InvocationBuilder.DEFAULT_TRY_PAUSE_MILLIS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Returns the value of a key and loads missing keys from the map store.
+ * <p>
+ * When {@link com.hazelcast.config.MapStoreConfig#isOffload()} is enabled,
+ * the load of a missing key is offloaded to the {@link
+ * com.hazelcast.spi.impl.executionservice.ExecutionService#MAP_LOAD_OFFLOAD_EXECUTOR}.
+ * The load is registered in the record store with {@link
+ * com.hazelcast.map.impl.recordstore.RecordStore#startOffloadedLoad}, so
+ * the other gets and the lock-aware operations on the key wait until the
+ * loaded value is put by the {@link LoadedValueSetOperation}, while the
+ * other keys of the partition are not affected by the load.
+ */
 public final class GetOperation extends ReadonlyKeyBasedMapOperation implements BlockingOperation {
 
     private Data result;
 
+    private transient boolean offload;
+    private transient long loadId;
+
     public GetOperation() {
     }
 
@@ -36,6 +68,41 @@ public final class GetOperation extends ReadonlyKeyBasedMapOperation implements
         this.dataKey = dataKey;
     }
 
+    @Override
+    public CallStatus call() throws Exception {
+        if (shouldWait()) {
+            return WAIT;
+        }
+        offload = startOffloadedLoad();
+        if (offload) {
+            return new LoadOffload();
+        }
+        run();
+        return RESPONSE;
+    }
+
+    /**
+     * @return {@code true} if the key is missing and its load has been
+     * offloaded, {@code false} if the get runs on the partition thread
+     */
+    private boolean startOffloadedLoad() {
+        if (!isLoadOffloadable()) {
+            return false;
+        }
+        recordStore.checkIfLoaded();
+        // keys locked by users are loaded on the partition thread as before
+        if (recordStore.getRecordOrNull(dataKey) != null || recordStore.isLocked(dataKey)) {
+            return false;
+        }
+        loadId = recordStore.startOffloadedLoad(dataKey);
+        return true;
+    }
+
+    private boolean isLoadOffloadable() {
+        return recordStore.getMapDataStore() != EMPTY_MAP_DATA_STORE
+                && mapContainer.getMapConfig().getMapStoreConfig().isOffload();
+    }
+
     @Override
     protected void runInternal() {
         Object currentValue = recordStore.get(dataKey, false, getCallerAddress());
@@ -50,7 +117,9 @@ public final class GetOperation extends ReadonlyKeyBasedMapOperation implements
 
     @Override
     protected void afterRunInternal() {
-        mapServiceContext.interceptAfterGet(mapContainer.getInterceptorRegistry(), result);
+        if (!offload) {
+            mapServiceContext.interceptAfterGet(mapContainer.getInterceptorRegistry(), result);
+        }
     }
 
     @Override
@@ -60,6 +129,10 @@ public final class GetOperation extends ReadonlyKeyBasedMapOperation implements
 
     @Override
     public boolean shouldWait() {
+        if (isLoadOffloadable() && recordStore.isOffloadedLoadPending(dataKey)) {
+            // the key is being loaded by another get, waits for its value
+            return true;
+        }
         if (recordStore.isTransactionallyLocked(dataKey)) {
             return !recordStore.canAcquireLock(dataKey, getCallerUuid(), getThreadId());
         }
@@ -71,6 +144,21 @@ public final class GetOperation extends ReadonlyKeyBasedMapOperation implements
         sendResponse(new OperationTimeoutException("Cannot read transactionally locked entry!"));
     }
 
+    @Override
+    public boolean returnsResponse() {
+        // the offloaded load sends the response
+        return !offload && super.returnsResponse();
+    }
+
+    @Override
+    public void onExecutionFailure(Throwable e) {
+        if (offload) {
+            sendResponse(e);
+        } else {
+            super.onExecutionFailure(e);
+        }
+    }
+
     @Override
     public Data getResponse() {
         return result;
@@ -80,4 +168,55 @@ public final class GetOperation extends ReadonlyKeyBasedMapOperation implements
     public int getClassId() {
         return MapDataSerializerHook.GET;
     }
+
+    private final class LoadOffload extends Offload {
+
+        private LoadOffload() {
+            super(GetOperation.this);
+        }
+
+        @Override
+        public void start() {
+            MapDataStore<Data, Object> mapDataStore = recordStore.getMapDataStore();
+            try {
+                executionService.execute(MAP_LOAD_OFFLOAD_EXECUTOR, () -> {
+                    try {
+                        setLoadedValue(mapDataStore.load(dataKey), null);
+                    } catch (Throwable t) {
+                        setLoadedValue(null, t);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                setLoadedValue(null, e);
+            }
+        }
+
+        private void setLoadedValue(Object loadedValue, Throwable loadFailure) {
+            LoadedValueSetOperation setOperation = new LoadedValueSetOperation(name, dataKey, loadedValue, loadId);
+            setOperation.setPartitionId(getPartitionId());
+            setOperation.setReplicaIndex(0);
+            setOperation.setNodeEngine(nodeEngine);
+            setOperation.setCallerUuid(getCallerUuid());
+            OperationAccessor.setCallerAddress(setOperation, getCallerAddress());
+            setOperation.setOperationResponseHandler(new OperationResponseHandler() {
+                @Override
+                public void sendResponse(Operation op, Object response) {
+                    if (response instanceof RetryableHazelcastException && !(response instanceof WrongTargetException)) {
+                        // the load is still pending, the set has to complete
+                        executionService.schedule(() -> operationService.execute(op), DEFAULT_TRY_PAUSE_MILLIS, MILLISECONDS);
+                    } else if (response instanceof EntryOffloadableLockMismatchException) {
+                        GetOperation.this.sendResponse(new RetryableHazelcastException(
+                                ((Throwable) response).getMessage(), (Throwable) response));
+                    } else if (loadFailure != null || response instanceof Throwable) {
+                        GetOperation.this.sendResponse(loadFailure != null ? loadFailure : response);
+                    } else {
+                        result = (Data) response;
+                        mapServiceContext.interceptAfterGet(mapContainer.getInterceptorRegistry(), result);
+                        GetOperation.this.sendResponse(result);
+                    }
+                }
+            });
+            operationService.execute(setOperation);
+        }
+    }
 }
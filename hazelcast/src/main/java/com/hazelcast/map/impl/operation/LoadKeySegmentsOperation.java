@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.operationservice.AbstractNamedOperation;
+import com.hazelcast.spi.impl.operationservice.CallStatus;
+import com.hazelcast.spi.impl.operationservice.Offload;
+import com.hazelcast.spi.impl.operationservice.MutatingOperation;
+
+import java.io.IOException;
+
+import static com.hazelcast.spi.impl.operationservice.CallStatus.OFFLOAD_ORDINAL;
+
+/**
+ * Loads the given key segments of a {@link com.hazelcast.map.SegmentedMapLoader}
+ * on the target member and sends the keys to the partition owners for value
+ * loading. This operation is invoked by the map key loader with the
+ * {@link com.hazelcast.map.impl.MapKeyLoader.Role#SENDER} role on every data
+ * member. The response is sent once all keys of the segments have been
+ * dispatched.
+ *
+ * @see com.hazelcast.map.impl.MapKeySegmentLoader
+ */
+public class LoadKeySegmentsOperation extends AbstractNamedOperation implements MutatingOperation {
+
+    private int[] segments;
+    private boolean replaceExistingValues;
+
+    private transient CallStatus callStatus;
+
+    public LoadKeySegmentsOperation() {
+    }
+
+    public LoadKeySegmentsOperation(String name, int[] segments, boolean replaceExistingValues) {
+        super(name);
+        this.segments = segments;
+        this.replaceExistingValues = replaceExistingValues;
+    }
+
+    @Override
+    public CallStatus call() {
+        callStatus = new OffloadedKeyLoad();
+        return callStatus;
+    }
+
+    @Override
+    public void onExecutionFailure(Throwable e) {
+        if (callStatus != null && callStatus.ordinal() == OFFLOAD_ORDINAL) {
+            // the response is sent by the offloaded loading, see QueryOperation
+            sendResponse(e);
+        }
+    }
+
+    @Override
+    public String getServiceName() {
+        return MapService.SERVICE_NAME;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.LOAD_KEY_SEGMENTS;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeIntArray(segments);
+        out.writeBoolean(replaceExistingValues);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        segments = in.readIntArray();
+        replaceExistingValues = in.readBoolean();
+    }
+
+    private final class OffloadedKeyLoad extends Offload {
+
+        private OffloadedKeyLoad() {
+            super(LoadKeySegmentsOperation.this);
+        }
+
+        @Override
+        public void start() {
+            MapService mapService = getService();
+            MapContainer mapContainer = mapService.getMapServiceContext().getMapContainer(name);
+            mapContainer.getKeySegmentLoader().load(segments, replaceExistingValues)
+                    .whenComplete((response, throwable) -> sendResponse(throwable != null ? throwable : response));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.locksupport.LockWaitNotifyKey;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.operationservice.MutatingOperation;
+import com.hazelcast.spi.impl.operationservice.Notifier;
+import com.hazelcast.spi.impl.operationservice.WaitNotifyKey;
+
+import java.io.IOException;
+
+/**
+ * Set processing of a {@link GetOperation} which offloaded its
+ * read-through load.
+ * <p>
+ * Puts the loaded value into the record store unless a record was created
+ * for the key in the meantime, finishes the offloaded load which kept other
+ * operations on the key waiting and responds with the current value of the
+ * key. This operation is only executed locally.
+ *
+ * @see GetOperation
+ * @see com.hazelcast.map.impl.recordstore.RecordStore#startOffloadedLoad(Data)
+ */
+public class LoadedValueSetOperation extends KeyBasedMapOperation
+        implements MutatingOperation, Notifier {
+
+    private Object loadedValue;
+    private long loadId;
+
+    private transient Data result;
+
+    public LoadedValueSetOperation() {
+    }
+
+    public LoadedValueSetOperation(String name, Data key, Object loadedValue, long loadId) {
+        super(name, key);
+        this.loadedValue = loadedValue;
+        this.loadId = loadId;
+    }
+
+    @Override
+    protected void runInternal() {
+        if (!recordStore.finishOffloadedLoad(dataKey, loadId)) {
+            // the load is discarded on migration, the get has to be retried on the new owner
+            throw new EntryOffloadableLockMismatchException(
+                    String.format("The offloaded load with loadId=%d is not pending anymore", loadId));
+        }
+        Record record = recordStore.getRecordOrNull(dataKey);
+        if (record == null) {
+            record = recordStore.putLoadedRecordOrNull(dataKey, loadedValue, false, getCallerAddress());
+        }
+        Object value = record == null ? null : record.getValue();
+        result = mapServiceContext.toData(mapServiceContext.interceptGet(mapContainer.getInterceptorRegistry(), value));
+    }
+
+    @Override
+    public Data getResponse() {
+        return result;
+    }
+
+    @Override
+    public boolean shouldNotify() {
+        return true;
+    }
+
+    @Override
+    public WaitNotifyKey getNotifiedKey() {
+        return new LockWaitNotifyKey(getServiceNamespace(), dataKey);
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.LOADED_VALUE_SET;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeObject(loadedValue);
+        out.writeLong(loadId);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        loadedValue = in.readObject();
+        loadId = in.readLong();
+    }
+}
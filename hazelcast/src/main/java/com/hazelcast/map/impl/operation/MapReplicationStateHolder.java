@@ -239,7 +239,8 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable {
             recordStore.forEach((dataKey, record) -> {
                 try {
                     IOUtil.writeData(out, dataKey);
-                    Records.writeRecord(out, record, ss.toData(record.getValue()));
+                    // compressed values are sent as they are
+                    Records.writeRecord(out, record, ss.toData(record.getStoredValue()));
                 } catch (IOException e) {
                     throw ExceptionUtil.rethrow(e);
                 }
@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.operation;
 
 import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.map.BatchEntryProcessor;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
@@ -45,6 +46,10 @@ public class MultipleEntryBackupOperation extends AbstractMultipleEntryBackupOpe
     @Override
     protected void runInternal() {
         EntryOperator operator = operator(this, backupProcessor, getPredicate());
+        if (backupProcessor instanceof BatchEntryProcessor) {
+            operator.operateOnKeys(keys, null);
+            return;
+        }
         for (Data key : keys) {
             operator.operateOnKey(key).doPostOperateOps();
         }
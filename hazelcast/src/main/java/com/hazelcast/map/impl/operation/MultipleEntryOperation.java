@@ -19,6 +19,7 @@ package com.hazelcast.map.impl.operation;
 import com.hazelcast.core.ManagedContext;
 import com.hazelcast.internal.nio.IOUtil;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.BatchEntryProcessor;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapEntries;
@@ -72,6 +73,10 @@ public class MultipleEntryOperation extends MapOperation
         }
 
         EntryOperator operator = operator(this, entryProcessor, getPredicate());
+        if (entryProcessor instanceof BatchEntryProcessor) {
+            operator.operateOnKeys(keys, responses::add);
+            return;
+        }
         for (Data key : keys) {
             Data response = operator.operateOnKey(key).doPostOperateOps().getResult();
             if (response != null) {
@@ -19,6 +19,7 @@ package com.hazelcast.map.impl.operation;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.core.EntryEventType;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.BatchEntryProcessor;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
@@ -26,7 +27,9 @@ import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.spi.impl.operationservice.BackupOperation;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 
 import static com.hazelcast.internal.util.ToHeapDataConverter.toHeapData;
@@ -44,7 +47,9 @@ public class PartitionWideEntryBackupOperation extends AbstractMultipleEntryBack
 
     @Override
     protected void runInternal() {
-        if (mapContainer.getMapConfig().getInMemoryFormat() == InMemoryFormat.NATIVE) {
+        if (backupProcessor instanceof BatchEntryProcessor) {
+            runWithPartitionScanInBatch();
+        } else if (mapContainer.getMapConfig().getInMemoryFormat() == InMemoryFormat.NATIVE) {
             runWithPartitionScanForNative();
         } else {
             runWithPartitionScan();
@@ -56,6 +61,13 @@ public class PartitionWideEntryBackupOperation extends AbstractMultipleEntryBack
         recordStore.forEach((key, record) -> operator.operateOnKey(key).doPostOperateOps(), true);
     }
 
+    private void runWithPartitionScanInBatch() {
+        EntryOperator operator = operator(this, backupProcessor, getPredicate());
+        List<Data> keys = new ArrayList<>(recordStore.size());
+        recordStore.forEach((key, record) -> keys.add(toHeapData(key)), true);
+        operator.operateOnKeys(keys, null);
+    }
+
     // TODO unify this method with `runWithPartitionScan`
     protected void runWithPartitionScanForNative() {
         EntryOperator operator = operator(this, backupProcessor, getPredicate());
@@ -21,6 +21,7 @@ import com.hazelcast.core.EntryEventType;
 import com.hazelcast.core.ManagedContext;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.BatchEntryProcessor;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapEntries;
@@ -37,8 +38,10 @@ import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 
@@ -87,6 +90,8 @@ public class PartitionWideEntryOperation extends MapOperation
     protected void runInternal() {
         if (mapContainer.getMapConfig().getInMemoryFormat() == InMemoryFormat.NATIVE) {
             runForNative();
+        } else if (entryProcessor instanceof BatchEntryProcessor) {
+            runWithPartitionScanInBatch();
         } else {
             runWithPartitionScan();
         }
@@ -96,7 +101,11 @@ public class PartitionWideEntryOperation extends MapOperation
         if (runWithIndex()) {
             return;
         }
-        runWithPartitionScanForNative();
+        if (entryProcessor instanceof BatchEntryProcessor) {
+            runWithPartitionScanInBatch();
+        } else {
+            runWithPartitionScanForNative();
+        }
     }
 
     /**
@@ -123,6 +132,13 @@ public class PartitionWideEntryOperation extends MapOperation
         // happening on partition thread so no data-changes may occur
         operator = operator(this, entryProcessor, null);
         keysFromIndex = new HashSet<>(entries.size());
+        if (entryProcessor instanceof BatchEntryProcessor) {
+            for (QueryableEntry entry : entries) {
+                keysFromIndex.add(entry.getKeyData());
+            }
+            operator.operateOnKeys(keysFromIndex, responses::add);
+            return true;
+        }
         for (QueryableEntry entry : entries) {
             keysFromIndex.add(entry.getKeyData());
             Data response = operator.operateOnKey(entry.getKeyData()).doPostOperateOps().getResult();
@@ -145,6 +161,16 @@ public class PartitionWideEntryOperation extends MapOperation
         }, false);
     }
 
+    private void runWithPartitionScanInBatch() {
+        responses = new MapEntries(recordStore.size());
+        operator = operator(this, entryProcessor, getPredicate());
+        // keys are collected before any entry is modified,
+        // so the batch is safe for all storage formats
+        List<Data> keys = new ArrayList<>(recordStore.size());
+        recordStore.forEach((key, record) -> keys.add(toHeapData(key)), false);
+        operator.operateOnKeys(keys, responses::add);
+    }
+
     // TODO unify this method with `runWithPartitionScan`
     private void runWithPartitionScanForNative() {
         // if we reach here, it means we didn't manage to leverage index and we fall-back to full-partition scan
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.Clock;
+import com.hazelcast.map.impl.InterceptorRegistry;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+import com.hazelcast.spi.impl.operationservice.ReadonlyOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads entries of a single partition from whichever replica it is
+ * invoked on, for maps with a {@link com.hazelcast.config.ReadReplicaPolicy}
+ * other than {@code PRIMARY}.
+ * <p>
+ * Unlike {@link GetOperation} and {@link GetAllOperation}, it never
+ * loads missing entries from the map store, evicts expired entries or
+ * updates access statistics, so a backup replica is not modified by reads.
+ */
+public class ReplicaReadOperation extends MapOperation implements ReadonlyOperation, PartitionAwareOperation {
+
+    private List<Data> keys = new ArrayList<>();
+    private boolean keysOnly;
+    private MapEntries entries;
+
+    public ReplicaReadOperation() {
+        createRecordStoreOnDemand = false;
+    }
+
+    /**
+     * @param name     name of the map
+     * @param keys     keys to read, all of them owned by the target partition
+     * @param keysOnly {@code true} to return only the keys of the found
+     *                 entries, e.g. for {@code containsKey}
+     */
+    public ReplicaReadOperation(String name, List<Data> keys, boolean keysOnly) {
+        super(name);
+        this.keys = keys;
+        this.keysOnly = keysOnly;
+        createRecordStoreOnDemand = false;
+    }
+
+    @Override
+    protected void runInternal() {
+        entries = new MapEntries(keys.size());
+        if (recordStore == null) {
+            return;
+        }
+
+        long now = Clock.currentTimeMillis();
+        boolean backup = getReplicaIndex() != 0;
+        InterceptorRegistry interceptorRegistry = mapContainer.getInterceptorRegistry();
+        for (Data key : keys) {
+            Record record = recordStore.getRecord(key);
+            if (record == null || recordStore.isExpired(record, now, backup)) {
+                continue;
+            }
+            if (keysOnly) {
+                entries.add(key, null);
+                continue;
+            }
+            Object value = mapServiceContext.interceptGet(interceptorRegistry, record.getValue());
+            mapServiceContext.interceptAfterGet(interceptorRegistry, value);
+            entries.add(key, mapServiceContext.toData(value));
+        }
+    }
+
+    @Override
+    public Object getResponse() {
+        return entries;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeBoolean(keysOnly);
+        out.writeInt(keys.size());
+        for (Data key : keys) {
+            IOUtil.writeData(out, key);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        keysOnly = in.readBoolean();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            keys.add(IOUtil.readData(in));
+        }
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.REPLICA_READ;
+    }
+}
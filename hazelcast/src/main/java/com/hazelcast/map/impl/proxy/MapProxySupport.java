@@ -24,6 +24,7 @@ import com.hazelcast.config.ListenerConfig;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MapPartitionLostListenerConfig;
 import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.config.ReadReplicaPolicy;
 import com.hazelcast.core.EntryEventType;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.core.HazelcastInstanceAware;
@@ -212,6 +213,7 @@ abstract class MapProxySupport<K, V>
     // not final for testing purposes
     protected MapOperationProvider operationProvider;
 
+    private final ReplicaReader replicaReader;
     private final int putAllBatchSize;
     private final float putAllInitialSizeFactor;
 
@@ -234,6 +236,7 @@ abstract class MapProxySupport<K, V>
         this.serializationService = nodeEngine.getSerializationService();
         this.thisAddress = nodeEngine.getClusterService().getThisAddress();
         this.statisticsEnabled = mapConfig.isStatisticsEnabled();
+        this.replicaReader = createReplicaReader();
 
         this.putAllBatchSize = properties.getInteger(MAP_PUT_ALL_BATCH_SIZE);
         this.putAllInitialSizeFactor = properties.getFloat(MAP_PUT_ALL_INITIAL_SIZE_FACTOR);
@@ -352,6 +355,17 @@ abstract class MapProxySupport<K, V>
         return mapStoreConfig != null && mapStoreConfig.isEnabled();
     }
 
+    private ReplicaReader createReplicaReader() {
+        ReadReplicaPolicy readReplicaPolicy = mapConfig.getReadReplicaPolicy();
+        // a Near Cache could keep a stale value read from a backup
+        // forever, since its invalidation may have been sent already
+        if (readReplicaPolicy == ReadReplicaPolicy.PRIMARY || mapConfig.isNearCacheEnabled()) {
+            return null;
+        }
+        return new ReplicaReader(name, readReplicaPolicy, mapConfig.getBackupCount(), isMapStoreEnabled(),
+                thisAddress, partitionService, operationService, operationProvider, serializationService);
+    }
+
     protected Object getInternal(Object key) {
         // TODO: action for read-backup true is not well tested
         Data keyData = toDataWithStrategy(key);
@@ -361,6 +375,14 @@ abstract class MapProxySupport<K, V>
                 return fromBackup;
             }
         }
+        if (replicaReader != null) {
+            long startTimeNanos = Timer.nanos();
+            Data value = replicaReader.get(keyData, getThreadId());
+            if (statisticsEnabled) {
+                localMapStats.incrementGetLatencyNanos(Timer.nanosElapsed(startTimeNanos));
+            }
+            return value;
+        }
         MapOperation operation = operationProvider.createGetOperation(name, keyData);
         operation.setThreadId(getThreadId());
         return invokeOperation(keyData, operation);
@@ -707,6 +729,11 @@ abstract class MapProxySupport<K, V>
 
     protected boolean containsKeyInternal(Object key) {
         Data keyData = toDataWithStrategy(key);
+        if (replicaReader != null) {
+            boolean contains = replicaReader.containsKey(keyData, getThreadId());
+            incrementOtherOperationsStat();
+            return contains;
+        }
         int partitionId = partitionService.getPartitionId(keyData);
         MapOperation containsKeyOperation = operationProvider.createContainsKeyOperation(name, keyData);
         containsKeyOperation.setThreadId(getThreadId());
@@ -849,6 +876,14 @@ abstract class MapProxySupport<K, V>
         if (dataKeys.isEmpty()) {
             toDataCollectionWithNonNullKeyValidation(keys, dataKeys);
         }
+        if (replicaReader != null) {
+            long startTimeNanos = Timer.nanos();
+            replicaReader.getAll(dataKeys, resultingKeyValuePairs);
+            if (statisticsEnabled) {
+                localMapStats.incrementGetLatencyNanos(dataKeys.size(), Timer.nanosElapsed(startTimeNanos));
+            }
+            return;
+        }
         Collection<Integer> partitions = getPartitionsForKeys(dataKeys);
         Map<Integer, Object> responses;
         try {
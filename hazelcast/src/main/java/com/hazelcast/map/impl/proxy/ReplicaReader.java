@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.proxy;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.ReadReplicaPolicy;
+import com.hazelcast.internal.partition.IPartition;
+import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.util.ConstructorFunction;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.map.impl.operation.MapOperation;
+import com.hazelcast.map.impl.operation.MapOperationProvider;
+import com.hazelcast.map.impl.operation.ReplicaReadOperation;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.OperationService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.config.ReadReplicaPolicy.PREFER_LOCAL;
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
+import static com.hazelcast.internal.util.ConcurrencyUtil.getOrPutIfAbsent;
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
+import static java.util.Collections.singletonList;
+
+/**
+ * Serves the {@code get}, {@code getAll} and {@code containsKey} calls of
+ * a map proxy from the replica selected by the map's {@link ReadReplicaPolicy}.
+ * <p>
+ * The primary and the synchronous backups of a partition are the
+ * candidates. The load of a replica is the number of reads this member
+ * has in flight to the replica's member, so the reads of hot keys spread
+ * over the candidates as soon as they queue up on one of them.
+ * <p>
+ * Reads served by the primary use the regular operations. Reads served by
+ * a backup use {@link ReplicaReadOperation}, which never loads from the
+ * map store, so entries missing on a backup are read from the primary
+ * again if the map has a map store.
+ */
+class ReplicaReader {
+
+    private static final ConstructorFunction<Address, AtomicInteger> COUNTER_CONSTRUCTOR = address -> new AtomicInteger();
+
+    private final String name;
+    private final ReadReplicaPolicy policy;
+    private final int replicaCount;
+    private final boolean mapStoreEnabled;
+    private final Address thisAddress;
+    private final IPartitionService partitionService;
+    private final OperationService operationService;
+    private final MapOperationProvider operationProvider;
+    private final SerializationService serializationService;
+    private final ConcurrentMap<Address, AtomicInteger> inFlightReads = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    ReplicaReader(String name, ReadReplicaPolicy policy, int backupCount, boolean mapStoreEnabled,
+                  Address thisAddress, IPartitionService partitionService, OperationService operationService,
+                  MapOperationProvider operationProvider, SerializationService serializationService) {
+        this.name = name;
+        this.policy = policy;
+        this.replicaCount = backupCount + 1;
+        this.mapStoreEnabled = mapStoreEnabled;
+        this.thisAddress = thisAddress;
+        this.partitionService = partitionService;
+        this.operationService = operationService;
+        this.operationProvider = operationProvider;
+        this.serializationService = serializationService;
+    }
+
+    Data get(Data key, long threadId) {
+        int partitionId = partitionService.getPartitionId(key);
+        int replicaIndex = selectReplica(partitionId);
+        if (replicaIndex != 0) {
+            MapEntries entries = join(invoke(new ReplicaReadOperation(name, singletonList(key), false),
+                    partitionId, replicaIndex));
+            if (!entries.isEmpty() || !mapStoreEnabled) {
+                return entries.isEmpty() ? null : entries.getValue(0);
+            }
+        }
+
+        MapOperation operation = operationProvider.createGetOperation(name, key);
+        operation.setThreadId(threadId);
+        // the value is deserialized by the proxy
+        return (Data) joinInternal(invoke(operation, partitionId, 0));
+    }
+
+    boolean containsKey(Data key, long threadId) {
+        int partitionId = partitionService.getPartitionId(key);
+        int replicaIndex = selectReplica(partitionId);
+        if (replicaIndex != 0) {
+            MapEntries entries = join(invoke(new ReplicaReadOperation(name, singletonList(key), true),
+                    partitionId, replicaIndex));
+            if (!entries.isEmpty() || !mapStoreEnabled) {
+                return !entries.isEmpty();
+            }
+        }
+
+        MapOperation operation = operationProvider.createContainsKeyOperation(name, key);
+        operation.setThreadId(threadId);
+        Boolean contains = join(invoke(operation, partitionId, 0));
+        return contains;
+    }
+
+    /**
+     * Reads the given keys and adds the found keys and values
+     * to {@code resultingKeyValuePairs} in turns.
+     */
+    void getAll(List<Data> keys, List<Object> resultingKeyValuePairs) {
+        Map<Integer, List<Data>> keysByPartition = new HashMap<>();
+        for (Data key : keys) {
+            keysByPartition.computeIfAbsent(partitionService.getPartitionId(key), id -> new ArrayList<>()).add(key);
+        }
+
+        Map<Integer, InternalCompletableFuture<Object>> backupReads = new HashMap<>();
+        Map<Integer, InternalCompletableFuture<Object>> primaryReads = new HashMap<>();
+        for (Map.Entry<Integer, List<Data>> entry : keysByPartition.entrySet()) {
+            int partitionId = entry.getKey();
+            int replicaIndex = selectReplica(partitionId);
+            if (replicaIndex == 0) {
+                primaryReads.put(partitionId, invokeGetAll(partitionId, entry.getValue()));
+            } else {
+                backupReads.put(partitionId, invoke(new ReplicaReadOperation(name, entry.getValue(), false),
+                        partitionId, replicaIndex));
+            }
+        }
+
+        for (Map.Entry<Integer, InternalCompletableFuture<Object>> entry : backupReads.entrySet()) {
+            MapEntries entries = join(entry.getValue());
+            addEntries(entries, resultingKeyValuePairs);
+
+            List<Data> partitionKeys = keysByPartition.get(entry.getKey());
+            if (mapStoreEnabled && entries.size() < partitionKeys.size()) {
+                List<Data> missingKeys = missingKeys(partitionKeys, entries);
+                primaryReads.put(entry.getKey(), invokeGetAll(entry.getKey(), missingKeys));
+            }
+        }
+
+        for (InternalCompletableFuture<Object> future : primaryReads.values()) {
+            addEntries(join(future), resultingKeyValuePairs);
+        }
+    }
+
+    /**
+     * @return index of the replica which should serve a read of the given
+     * partition, {@code 0} being the primary
+     */
+    int selectReplica(int partitionId) {
+        IPartition partition = partitionService.getPartition(partitionId, false);
+        // random starting point, so equally loaded replicas are picked evenly
+        int start = ThreadLocalRandom.current().nextInt(replicaCount);
+        int selected = 0;
+        int selectedLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < replicaCount; i++) {
+            int replicaIndex = (start + i) % replicaCount;
+            Address address = partition.getReplicaAddress(replicaIndex);
+            if (address == null) {
+                continue;
+            }
+            if (policy == PREFER_LOCAL && address.equals(thisAddress)) {
+                return replicaIndex;
+            }
+            int load = getOrPutIfAbsent(inFlightReads, address, COUNTER_CONSTRUCTOR).get();
+            if (load < selectedLoad) {
+                selected = replicaIndex;
+                selectedLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    private InternalCompletableFuture<Object> invokeGetAll(int partitionId, List<Data> keys) {
+        Operation operation = operationProvider.createGetAllOperationFactory(name, keys)
+                .createOperation();
+        return invoke(operation, partitionId, 0);
+    }
+
+    private InternalCompletableFuture<Object> invoke(Operation operation, int partitionId, int replicaIndex) {
+        Address target = partitionService.getPartition(partitionId, false).getReplicaAddress(replicaIndex);
+        AtomicInteger inFlight = target == null ? null : getOrPutIfAbsent(inFlightReads, target, COUNTER_CONSTRUCTOR);
+        if (inFlight != null) {
+            inFlight.incrementAndGet();
+        }
+
+        InternalCompletableFuture<Object> future = operationService
+                .createInvocationBuilder(SERVICE_NAME, operation, partitionId)
+                .setReplicaIndex(replicaIndex)
+                .setResultDeserialized(false)
+                .invoke();
+        if (inFlight != null) {
+            future.whenCompleteAsync((response, throwable) -> inFlight.decrementAndGet(), CALLER_RUNS);
+        }
+        return future;
+    }
+
+    private <T> T join(InternalCompletableFuture<Object> future) {
+        return serializationService.toObject(joinInternal(future));
+    }
+
+    private static Object joinInternal(InternalCompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static List<Data> missingKeys(List<Data> keys, MapEntries foundEntries) {
+        Set<Data> foundKeys = new HashSet<>();
+        for (int i = 0; i < foundEntries.size(); i++) {
+            foundKeys.add(foundEntries.getKey(i));
+        }
+        List<Data> missingKeys = new ArrayList<>(keys.size() - foundKeys.size());
+        for (Data key : keys) {
+            if (!foundKeys.contains(key)) {
+                missingKeys.add(key);
+            }
+        }
+        return missingKeys;
+    }
+
+    private static void addEntries(MapEntries entries, List<Object> resultingKeyValuePairs) {
+        for (int i = 0; i < entries.size(); i++) {
+            resultingKeyValuePairs.add(entries.getKey(i));
+            resultingKeyValuePairs.add(entries.getValue(i));
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.query;
 
 import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.aggregation.impl.CountAggregator;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
@@ -40,8 +41,10 @@ public class CallerRunsAccumulationExecutor implements AccumulationExecutor {
             Aggregator aggregator, Collection<QueryableEntry> entries, PartitionIdSet partitionIds) {
         Aggregator resultAggregator = serializationService.toObject(serializationService.toData(aggregator));
         try {
-            for (QueryableEntry entry : entries) {
-                resultAggregator.accumulate(entry);
+            if (!accumulateAllIfCounting(resultAggregator, entries)) {
+                for (QueryableEntry entry : entries) {
+                    resultAggregator.accumulate(entry);
+                }
             }
         } finally {
             resultAggregator.onAccumulationFinished();
@@ -51,4 +54,16 @@ public class CallerRunsAccumulationExecutor implements AccumulationExecutor {
         result.setPartitionIds(partitionIds);
         return result;
     }
+
+    /**
+     * Accumulates the given entries at once if the given aggregator just
+     * counts them, so the entries, which are often served directly by
+     * indexes, don't have to be iterated and their values deserialized.
+     *
+     * @return {@code true} if the entries were accumulated, {@code false}
+     * otherwise.
+     */
+    static boolean accumulateAllIfCounting(Aggregator aggregator, Collection<QueryableEntry> entries) {
+        return aggregator instanceof CountAggregator && ((CountAggregator) aggregator).accumulateAll(entries);
+    }
 }
@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 
+import static com.hazelcast.map.impl.query.CallerRunsAccumulationExecutor.accumulateAllIfCounting;
 import static com.hazelcast.query.impl.predicates.PredicateUtils.estimatedSizeOf;
 import static com.hazelcast.internal.util.FutureUtil.RETHROW_EVERYTHING;
 import static com.hazelcast.internal.util.FutureUtil.returnWithDeadline;
@@ -56,9 +57,15 @@ public class ParallelAccumulationExecutor implements AccumulationExecutor {
     @SuppressWarnings("unchecked")
     public AggregationResult execute(
             Aggregator aggregator, Collection<QueryableEntry> entries, PartitionIdSet partitionIds) {
-        Collection<Aggregator> chunkAggregators = accumulateParallel(aggregator, entries);
-
         Aggregator resultAggregator = clone(aggregator);
+        if (accumulateAllIfCounting(resultAggregator, entries)) {
+            resultAggregator.onAccumulationFinished();
+            AggregationResult result = new AggregationResult(resultAggregator, serializationService);
+            result.setPartitionIds(partitionIds);
+            return result;
+        }
+
+        Collection<Aggregator> chunkAggregators = accumulateParallel(aggregator, entries);
         try {
             for (Aggregator chunkAggregator : chunkAggregators) {
                 resultAggregator.combine(chunkAggregator);
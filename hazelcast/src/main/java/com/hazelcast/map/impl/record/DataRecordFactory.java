@@ -20,22 +20,28 @@ import com.hazelcast.config.CacheDeserializedValues;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.DataCompressor;
 
 public class DataRecordFactory implements RecordFactory<Data> {
 
     private final boolean statisticsEnabled;
     private final SerializationService ss;
     private final CacheDeserializedValues cacheDeserializedValues;
+    private final boolean valueCompressionEnabled;
 
     public DataRecordFactory(MapConfig config, SerializationService ss) {
         this.ss = ss;
         this.statisticsEnabled = config.isStatisticsEnabled();
         this.cacheDeserializedValues = config.getCacheDeserializedValues();
+        this.valueCompressionEnabled = config.isValueCompressionEnabled();
     }
 
     @Override
     public Record<Data> newRecord(Object value) {
         Data valueData = ss.toData(value);
+        if (valueCompressionEnabled) {
+            valueData = DataCompressor.compress(valueData);
+        }
 
         switch (cacheDeserializedValues) {
             case NEVER:
@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.record;
 
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.DataCompressor;
 
 import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
 
@@ -41,6 +42,11 @@ public class DataRecordWithStats extends AbstractRecordWithStats<Data> {
 
     @Override
     public Data getValue() {
+        return DataCompressor.decompress(value);
+    }
+
+    @Override
+    public Data getStoredValue() {
         return value;
     }
 
@@ -0,0 +1,601 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.collection.Long2ObjectHashMap;
+import com.hazelcast.query.impl.Metadata;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_READER_WRITER;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_WITH_STATS_READER_WRITER;
+
+/**
+ * {@link Record} whose key, value and metadata live in native memory.
+ * <p>
+ * A record is created <i>detached</i>: its state is kept on-heap until the
+ * storage attaches it to a native memory block. From then on the instance is
+ * a flyweight over that block and every read and write goes straight to native
+ * memory. The storage hands out a new flyweight for each lookup, so several
+ * instances may point at the same block.
+ * <p>
+ * Layout of the record block:
+ * <pre>
+ * +--------------------------+--------+
+ * | next record in bucket    |  long  |
+ * | value block address      |  long  |
+ * | version                  |  long  |
+ * | ttl                      |  int   |
+ * | max idle                 |  int   |
+ * | hits                     |  int   |
+ * | last access time         |  int   |
+ * | last update time         |  int   |
+ * | creation time            |  int   |
+ * | last stored time         |  int   |
+ * | expiration time          |  int   |
+ * | key length               |  int   |
+ * | key bytes                |  byte[]|
+ * +--------------------------+--------+
+ * </pre>
+ * The value is kept in its own block (an {@code int} length followed by the
+ * serialized bytes), so that replacing a value never moves the record block.
+ * Times are stored as seconds relative to {@link Record#EPOCH_TIME}, exactly
+ * as in the on-heap records.
+ * <p>
+ * JSON {@link Metadata} is not serializable to native memory and is kept in
+ * an on-heap side table of the owning storage, keyed by record address.
+ * <p>
+ * Instances are not thread-safe; they must only be used by the partition
+ * thread owning the storage.
+ */
+@SuppressWarnings({"checkstyle:methodcount", "checkstyle:classfanoutcomplexity"})
+public class NativeDataRecord implements Record<Data> {
+
+    static final int NEXT_OFFSET = 0;
+    static final int VALUE_ADDRESS_OFFSET = NEXT_OFFSET + LONG_SIZE_IN_BYTES;
+    static final int VERSION_OFFSET = VALUE_ADDRESS_OFFSET + LONG_SIZE_IN_BYTES;
+    static final int TTL_OFFSET = VERSION_OFFSET + LONG_SIZE_IN_BYTES;
+    static final int MAX_IDLE_OFFSET = TTL_OFFSET + INT_SIZE_IN_BYTES;
+    static final int HITS_OFFSET = MAX_IDLE_OFFSET + INT_SIZE_IN_BYTES;
+    static final int LAST_ACCESS_TIME_OFFSET = HITS_OFFSET + INT_SIZE_IN_BYTES;
+    static final int LAST_UPDATE_TIME_OFFSET = LAST_ACCESS_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int CREATION_TIME_OFFSET = LAST_UPDATE_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int LAST_STORED_TIME_OFFSET = CREATION_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int EXPIRATION_TIME_OFFSET = LAST_STORED_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int KEY_LENGTH_OFFSET = EXPIRATION_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int KEY_OFFSET = KEY_LENGTH_OFFSET + INT_SIZE_IN_BYTES;
+
+    static final int VALUE_LENGTH_OFFSET = 0;
+    static final int VALUE_BYTES_OFFSET = VALUE_LENGTH_OFFSET + INT_SIZE_IN_BYTES;
+
+    private static final int INT_FIELD_COUNT = (KEY_LENGTH_OFFSET - TTL_OFFSET) / INT_SIZE_IN_BYTES;
+
+    private final boolean statisticsEnabled;
+
+    private MemoryManager memoryManager;
+    private MemoryAccessor mem;
+    private Long2ObjectHashMap<Metadata> metadataStore;
+    private long address = NULL_ADDRESS;
+
+    // on-heap state of a detached record
+    private int[] ints;
+    private long version;
+    private Data value;
+    private Metadata metadata;
+
+    /**
+     * Creates a detached record.
+     */
+    public NativeDataRecord(Data value, boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.value = value;
+        this.ints = new int[INT_FIELD_COUNT];
+        setIntField(LAST_ACCESS_TIME_OFFSET, UNSET);
+        setIntField(LAST_UPDATE_TIME_OFFSET, UNSET);
+        setIntField(CREATION_TIME_OFFSET, UNSET);
+        setIntField(LAST_STORED_TIME_OFFSET, UNSET);
+        setIntField(EXPIRATION_TIME_OFFSET, UNSET);
+    }
+
+    /**
+     * Creates a flyweight over an attached record block.
+     */
+    public NativeDataRecord(MemoryManager memoryManager, Long2ObjectHashMap<Metadata> metadataStore,
+                            long address, boolean statisticsEnabled) {
+        assert address != NULL_ADDRESS;
+        this.statisticsEnabled = statisticsEnabled;
+        this.memoryManager = memoryManager;
+        this.mem = memoryManager.getAccessor();
+        this.metadataStore = metadataStore;
+        this.address = address;
+    }
+
+    public boolean isAttached() {
+        return address != NULL_ADDRESS;
+    }
+
+    public long getAddress() {
+        return address;
+    }
+
+    /**
+     * Moves the state of this detached record into a newly allocated record
+     * block which also holds the given key.
+     *
+     * @return address of the record block
+     */
+    public long attach(MemoryManager memoryManager, Long2ObjectHashMap<Metadata> metadataStore, byte[] key) {
+        assert !isAttached() : "Record is already attached";
+        MemoryAccessor mem = memoryManager.getAccessor();
+        long recordAddress = memoryManager.getAllocator().allocate(KEY_OFFSET + key.length);
+        long valueAddress;
+        try {
+            valueAddress = allocateValue(memoryManager, value);
+        } catch (Error e) {
+            memoryManager.getAllocator().free(recordAddress, KEY_OFFSET + key.length);
+            throw e;
+        }
+
+        mem.putLong(recordAddress + VALUE_ADDRESS_OFFSET, valueAddress);
+        mem.putLong(recordAddress + VERSION_OFFSET, version);
+        for (int i = 0; i < INT_FIELD_COUNT; i++) {
+            mem.putInt(recordAddress + TTL_OFFSET + (long) i * INT_SIZE_IN_BYTES, ints[i]);
+        }
+        mem.putInt(recordAddress + KEY_LENGTH_OFFSET, key.length);
+        mem.copyFromByteArray(key, 0, recordAddress + KEY_OFFSET, key.length);
+        if (metadata != null) {
+            metadataStore.put(recordAddress, metadata);
+        }
+
+        this.memoryManager = memoryManager;
+        this.mem = mem;
+        this.metadataStore = metadataStore;
+        this.address = recordAddress;
+        this.ints = null;
+        this.value = null;
+        this.metadata = null;
+        return recordAddress;
+    }
+
+    /**
+     * Copies the state of this record back on-heap, so that the instance
+     * stays usable after its record block has been freed.
+     */
+    public void detach() {
+        if (!isAttached()) {
+            return;
+        }
+        int[] heapInts = new int[INT_FIELD_COUNT];
+        for (int i = 0; i < INT_FIELD_COUNT; i++) {
+            heapInts[i] = mem.getInt(address + TTL_OFFSET + (long) i * INT_SIZE_IN_BYTES);
+        }
+        Data heapValue = getValue();
+        Metadata heapMetadata = getMetadata();
+        long heapVersion = getVersion();
+
+        this.ints = heapInts;
+        this.value = heapValue;
+        this.metadata = heapMetadata;
+        this.version = heapVersion;
+        this.address = NULL_ADDRESS;
+        this.memoryManager = null;
+        this.mem = null;
+        this.metadataStore = null;
+    }
+
+    @Override
+    public Data getValue() {
+        if (!isAttached()) {
+            return value;
+        }
+        return readValue(mem, mem.getLong(address + VALUE_ADDRESS_OFFSET));
+    }
+
+    @Override
+    public void setValue(Data value) {
+        if (!isAttached()) {
+            this.value = value;
+            return;
+        }
+        long newValueAddress = allocateValue(memoryManager, value);
+        long oldValueAddress = mem.getLong(address + VALUE_ADDRESS_OFFSET);
+        mem.putLong(address + VALUE_ADDRESS_OFFSET, newValueAddress);
+        freeValue(memoryManager, oldValueAddress);
+    }
+
+    /**
+     * @return the number of native memory bytes occupied by this record,
+     * including its key and value
+     */
+    @Override
+    public long getCost() {
+        if (!isAttached()) {
+            return KEY_OFFSET + valueBlockSize(value);
+        }
+        return recordBlockSize(mem, address) + valueBlockSize(mem, mem.getLong(address + VALUE_ADDRESS_OFFSET));
+    }
+
+    @Override
+    public long getVersion() {
+        return isAttached() ? mem.getLong(address + VERSION_OFFSET) : version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        if (isAttached()) {
+            mem.putLong(address + VERSION_OFFSET, version);
+        } else {
+            this.version = version;
+        }
+    }
+
+    @Override
+    public Object getCachedValueUnsafe() {
+        return Record.NOT_CACHED;
+    }
+
+    @Override
+    public boolean casCachedValue(Object expectedValue, Object newValue) {
+        return true;
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return recomputeWithBaseTime(getRawLastAccessTime());
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        setRawLastAccessTime(stripBaseTime(lastAccessTime));
+    }
+
+    @Override
+    public long getLastUpdateTime() {
+        return recomputeWithBaseTime(getRawLastUpdateTime());
+    }
+
+    @Override
+    public void setLastUpdateTime(long lastUpdateTime) {
+        setRawLastUpdateTime(stripBaseTime(lastUpdateTime));
+    }
+
+    @Override
+    public long getCreationTime() {
+        return recomputeWithBaseTime(getRawCreationTime());
+    }
+
+    @Override
+    public void setCreationTime(long creationTime) {
+        setRawCreationTime(stripBaseTime(creationTime));
+    }
+
+    @Override
+    public int getHits() {
+        return getIntField(HITS_OFFSET);
+    }
+
+    @Override
+    public void setHits(int hits) {
+        setIntField(HITS_OFFSET, hits);
+    }
+
+    @Override
+    public long getExpirationTime() {
+        if (!statisticsEnabled) {
+            return UNSET;
+        }
+        int expirationTime = getIntField(EXPIRATION_TIME_OFFSET);
+        if (expirationTime == UNSET) {
+            return 0L;
+        }
+        if (expirationTime == Integer.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return recomputeWithBaseTime(expirationTime);
+    }
+
+    @Override
+    public void setExpirationTime(long expirationTime) {
+        if (statisticsEnabled) {
+            setIntField(EXPIRATION_TIME_OFFSET, expirationTime == Long.MAX_VALUE
+                    ? Integer.MAX_VALUE : stripBaseTime(expirationTime));
+        }
+    }
+
+    @Override
+    public long getLastStoredTime() {
+        if (!statisticsEnabled) {
+            return UNSET;
+        }
+        int lastStoredTime = getIntField(LAST_STORED_TIME_OFFSET);
+        return lastStoredTime == UNSET ? 0L : recomputeWithBaseTime(lastStoredTime);
+    }
+
+    @Override
+    public void setLastStoredTime(long lastStoredTime) {
+        if (statisticsEnabled) {
+            setIntField(LAST_STORED_TIME_OFFSET, stripBaseTime(lastStoredTime));
+        }
+    }
+
+    @Override
+    public long getSequence() {
+        return UNSET;
+    }
+
+    @Override
+    public void setSequence(long sequence) {
+    }
+
+    @Override
+    public void setMetadata(Metadata metadata) {
+        if (!isAttached()) {
+            this.metadata = metadata;
+        } else if (metadata == null) {
+            metadataStore.remove(address);
+        } else {
+            metadataStore.put(address, metadata);
+        }
+    }
+
+    @Override
+    public Metadata getMetadata() {
+        return isAttached() ? metadataStore.get(address) : metadata;
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return statisticsEnabled ? DATA_RECORD_WITH_STATS_READER_WRITER : DATA_RECORD_READER_WRITER;
+    }
+
+    @Override
+    public int getRawTtl() {
+        return getIntField(TTL_OFFSET);
+    }
+
+    @Override
+    public int getRawMaxIdle() {
+        return getIntField(MAX_IDLE_OFFSET);
+    }
+
+    @Override
+    public int getRawCreationTime() {
+        return getIntField(CREATION_TIME_OFFSET);
+    }
+
+    @Override
+    public int getRawLastAccessTime() {
+        return getIntField(LAST_ACCESS_TIME_OFFSET);
+    }
+
+    @Override
+    public int getRawLastUpdateTime() {
+        return getIntField(LAST_UPDATE_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawTtl(int ttl) {
+        setIntField(TTL_OFFSET, ttl);
+    }
+
+    @Override
+    public void setRawMaxIdle(int maxIdle) {
+        setIntField(MAX_IDLE_OFFSET, maxIdle);
+    }
+
+    @Override
+    public void setRawCreationTime(int creationTime) {
+        setIntField(CREATION_TIME_OFFSET, creationTime);
+    }
+
+    @Override
+    public void setRawLastAccessTime(int lastAccessTime) {
+        setIntField(LAST_ACCESS_TIME_OFFSET, lastAccessTime);
+    }
+
+    @Override
+    public void setRawLastUpdateTime(int lastUpdateTime) {
+        setIntField(LAST_UPDATE_TIME_OFFSET, lastUpdateTime);
+    }
+
+    @Override
+    public int getRawLastStoredTime() {
+        checkStatisticsEnabled();
+        return getIntField(LAST_STORED_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawLastStoredTime(int time) {
+        checkStatisticsEnabled();
+        setIntField(LAST_STORED_TIME_OFFSET, time);
+    }
+
+    @Override
+    public int getRawExpirationTime() {
+        checkStatisticsEnabled();
+        return getIntField(EXPIRATION_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawExpirationTime(int time) {
+        checkStatisticsEnabled();
+        setIntField(EXPIRATION_TIME_OFFSET, time);
+    }
+
+    private void checkStatisticsEnabled() {
+        if (!statisticsEnabled) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private int getIntField(int offset) {
+        return isAttached() ? mem.getInt(address + offset) : ints[intIndex(offset)];
+    }
+
+    private void setIntField(int offset, int value) {
+        if (isAttached()) {
+            mem.putInt(address + offset, value);
+        } else {
+            ints[intIndex(offset)] = value;
+        }
+    }
+
+    private static int intIndex(int offset) {
+        return (offset - TTL_OFFSET) / INT_SIZE_IN_BYTES;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        NativeDataRecord that = (NativeDataRecord) o;
+        if (isAttached() && that.isAttached()) {
+            return address == that.address;
+        }
+        return statisticsEnabled == that.statisticsEnabled
+                && getVersion() == that.getVersion()
+                && Arrays.equals(readInts(), that.readInts())
+                && Objects.equals(getValue(), that.getValue())
+                && Objects.equals(getMetadata(), that.getMetadata());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(readInts());
+        long version = getVersion();
+        result = 31 * result + (int) (version ^ (version >>> 32));
+        result = 31 * result + Objects.hashCode(getValue());
+        return result;
+    }
+
+    private int[] readInts() {
+        if (!isAttached()) {
+            return ints;
+        }
+        int[] result = new int[INT_FIELD_COUNT];
+        for (int i = 0; i < INT_FIELD_COUNT; i++) {
+            result[i] = mem.getInt(address + TTL_OFFSET + (long) i * INT_SIZE_IN_BYTES);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "NativeDataRecord{"
+                + "address=" + address
+                + ", value=" + getValue()
+                + ", version=" + getVersion()
+                + ", ints=" + Arrays.toString(readInts())
+                + '}';
+    }
+
+    // Static helpers used by the storage to walk and maintain record blocks.
+
+    public static long getNext(MemoryAccessor mem, long address) {
+        return mem.getLong(address + NEXT_OFFSET);
+    }
+
+    public static void setNext(MemoryAccessor mem, long address, long next) {
+        mem.putLong(address + NEXT_OFFSET, next);
+    }
+
+    /**
+     * @return {@code true} if the key stored in the record block equals the given serialized key
+     */
+    public static boolean keyEquals(MemoryAccessor mem, long address, byte[] key) {
+        if (mem.getInt(address + KEY_LENGTH_OFFSET) != key.length) {
+            return false;
+        }
+        long keyAddress = address + KEY_OFFSET;
+        for (int i = 0; i < key.length; i++) {
+            if (mem.getByte(keyAddress + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return an on-heap copy of the key stored in the record block
+     */
+    public static Data readKey(MemoryAccessor mem, long address) {
+        byte[] key = new byte[mem.getInt(address + KEY_LENGTH_OFFSET)];
+        mem.copyToByteArray(address + KEY_OFFSET, key, 0, key.length);
+        return new HeapData(key);
+    }
+
+    /**
+     * Frees the record block and its value block.
+     */
+    public static void free(MemoryManager memoryManager, long address) {
+        MemoryAccessor mem = memoryManager.getAccessor();
+        freeValue(memoryManager, mem.getLong(address + VALUE_ADDRESS_OFFSET));
+        memoryManager.getAllocator().free(address, recordBlockSize(mem, address));
+    }
+
+    private static long recordBlockSize(MemoryAccessor mem, long address) {
+        return KEY_OFFSET + mem.getInt(address + KEY_LENGTH_OFFSET);
+    }
+
+    private static long allocateValue(MemoryManager memoryManager, Data value) {
+        if (value == null) {
+            return NULL_ADDRESS;
+        }
+        byte[] bytes = value.toByteArray();
+        long valueAddress = memoryManager.getAllocator().allocate(VALUE_BYTES_OFFSET + bytes.length);
+        MemoryAccessor mem = memoryManager.getAccessor();
+        mem.putInt(valueAddress + VALUE_LENGTH_OFFSET, bytes.length);
+        mem.copyFromByteArray(bytes, 0, valueAddress + VALUE_BYTES_OFFSET, bytes.length);
+        return valueAddress;
+    }
+
+    private static Data readValue(MemoryAccessor mem, long valueAddress) {
+        if (valueAddress == NULL_ADDRESS) {
+            return null;
+        }
+        byte[] bytes = new byte[mem.getInt(valueAddress + VALUE_LENGTH_OFFSET)];
+        mem.copyToByteArray(valueAddress + VALUE_BYTES_OFFSET, bytes, 0, bytes.length);
+        return new HeapData(bytes);
+    }
+
+    private static void freeValue(MemoryManager memoryManager, long valueAddress) {
+        if (valueAddress != NULL_ADDRESS) {
+            memoryManager.getAllocator().free(valueAddress, valueBlockSize(memoryManager.getAccessor(), valueAddress));
+        }
+    }
+
+    private static long valueBlockSize(MemoryAccessor mem, long valueAddress) {
+        return valueAddress == NULL_ADDRESS ? 0L : VALUE_BYTES_OFFSET + mem.getInt(valueAddress + VALUE_LENGTH_OFFSET);
+    }
+
+    private static long valueBlockSize(Data value) {
+        return value == null ? 0L : VALUE_BYTES_OFFSET + value.totalSize();
+    }
+}
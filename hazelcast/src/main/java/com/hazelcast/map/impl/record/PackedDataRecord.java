@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.query.impl.Metadata;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.readLongB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.nio.Bits.writeLongB;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_READER_WRITER;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_WITH_STATS_READER_WRITER;
+
+/**
+ * {@link Record} which packs its fields, its key and its value into a single
+ * {@code byte[]}, the <i>entry</i>. A map entry then costs one array instead
+ * of a record object, two {@link HeapData} instances with their payload
+ * arrays and a hash map node.
+ * <p>
+ * A record is created <i>detached</i>, with an entry holding no key. The
+ * storage attaches it when it is put, which copies the key into a new entry.
+ * From then on the instance is a flyweight over that entry; the storage hands
+ * out a new flyweight for each lookup, so several instances may share an entry.
+ * <p>
+ * Layout of the entry:
+ * <pre>
+ * +--------------------------+--------+
+ * | version                  |  long  |
+ * | ttl                      |  int   |
+ * | max idle                 |  int   |
+ * | hits                     |  int   |
+ * | last access time         |  int   |
+ * | last update time         |  int   |
+ * | creation time            |  int   |
+ * | key hash                 |  int   |
+ * | key length               |  int   |
+ * | last stored time (*)     |  int   |
+ * | expiration time (*)      |  int   |
+ * | key bytes                |  byte[]|
+ * | value bytes              |  byte[]|
+ * +--------------------------+--------+
+ * (*) only when statistics are enabled
+ * </pre>
+ * Times are stored as seconds relative to {@link Record#EPOCH_TIME}, exactly
+ * as in the other records. Fields are updated in place, but a new value
+ * always produces a new entry, so that readers on other threads never see a
+ * partially written value. The storage must be told about the new entry,
+ * hence the value of an attached record must only be changed through
+ * the storage.
+ * <p>
+ * JSON {@link Metadata} is kept in a side table of the owning storage,
+ * keyed by the record key.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class PackedDataRecord implements Record<Data> {
+
+    static final int VERSION_OFFSET = 0;
+    static final int TTL_OFFSET = VERSION_OFFSET + LONG_SIZE_IN_BYTES;
+    static final int MAX_IDLE_OFFSET = TTL_OFFSET + INT_SIZE_IN_BYTES;
+    static final int HITS_OFFSET = MAX_IDLE_OFFSET + INT_SIZE_IN_BYTES;
+    static final int LAST_ACCESS_TIME_OFFSET = HITS_OFFSET + INT_SIZE_IN_BYTES;
+    static final int LAST_UPDATE_TIME_OFFSET = LAST_ACCESS_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int CREATION_TIME_OFFSET = LAST_UPDATE_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int KEY_HASH_OFFSET = CREATION_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int KEY_LENGTH_OFFSET = KEY_HASH_OFFSET + INT_SIZE_IN_BYTES;
+    static final int LAST_STORED_TIME_OFFSET = KEY_LENGTH_OFFSET + INT_SIZE_IN_BYTES;
+    static final int EXPIRATION_TIME_OFFSET = LAST_STORED_TIME_OFFSET + INT_SIZE_IN_BYTES;
+
+    static final int HEADER_SIZE = LAST_STORED_TIME_OFFSET;
+    static final int HEADER_SIZE_WITH_STATS = EXPIRATION_TIME_OFFSET + INT_SIZE_IN_BYTES;
+
+    private static final int ARRAY_HEADER_SIZE_IN_BYTES = 16;
+    private static final int OBJECT_ALIGNMENT_IN_BYTES = 8;
+
+    private final boolean statisticsEnabled;
+
+    private byte[] entry;
+    // null while the record is detached
+    private Map<Data, Metadata> metadataStore;
+    private Metadata metadata;
+
+    /**
+     * Creates a detached record.
+     */
+    public PackedDataRecord(Data value, boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.entry = newEntry(new byte[headerSize(statisticsEnabled)], value);
+        writeIntB(entry, LAST_ACCESS_TIME_OFFSET, UNSET);
+        writeIntB(entry, LAST_UPDATE_TIME_OFFSET, UNSET);
+        writeIntB(entry, CREATION_TIME_OFFSET, UNSET);
+        if (statisticsEnabled) {
+            writeIntB(entry, LAST_STORED_TIME_OFFSET, UNSET);
+            writeIntB(entry, EXPIRATION_TIME_OFFSET, UNSET);
+        }
+    }
+
+    /**
+     * Creates a flyweight over an attached entry.
+     */
+    public PackedDataRecord(byte[] entry, Map<Data, Metadata> metadataStore, boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.entry = entry;
+        this.metadataStore = metadataStore;
+    }
+
+    public boolean isAttached() {
+        return metadataStore != null;
+    }
+
+    public byte[] getEntry() {
+        return entry;
+    }
+
+    /**
+     * Replaces the entry of this record with a new one which also holds the
+     * given key. The fields and the value are copied from the current entry,
+     * so a record which is attached elsewhere may be attached again.
+     *
+     * @return the new entry
+     */
+    public byte[] attach(Data key, Map<Data, Metadata> metadataStore) {
+        Metadata currentMetadata = getMetadata();
+        byte[] keyBytes = key.toByteArray();
+        int headerSize = headerSize(statisticsEnabled);
+        int valueOffset = valueOffset(entry, statisticsEnabled);
+        int valueLength = entry.length - valueOffset;
+
+        byte[] attached = new byte[headerSize + keyBytes.length + valueLength];
+        System.arraycopy(entry, 0, attached, 0, headerSize);
+        writeIntB(attached, KEY_HASH_OFFSET, key.hashCode());
+        writeIntB(attached, KEY_LENGTH_OFFSET, keyBytes.length);
+        System.arraycopy(keyBytes, 0, attached, headerSize, keyBytes.length);
+        System.arraycopy(entry, valueOffset, attached, headerSize + keyBytes.length, valueLength);
+
+        if (currentMetadata != null) {
+            metadataStore.put(key, currentMetadata);
+        } else {
+            metadataStore.remove(key);
+        }
+        this.entry = attached;
+        this.metadataStore = metadataStore;
+        this.metadata = null;
+        return attached;
+    }
+
+    @Override
+    public Data getValue() {
+        int valueOffset = valueOffset(entry, statisticsEnabled);
+        if (valueOffset == entry.length) {
+            return null;
+        }
+        return new HeapData(Arrays.copyOfRange(entry, valueOffset, entry.length));
+    }
+
+    /**
+     * Replaces the entry of this record with a new one holding the given
+     * value. An attached record must be updated through its storage.
+     */
+    @Override
+    public void setValue(Data value) {
+        int valueOffset = valueOffset(entry, statisticsEnabled);
+        entry = newEntry(Arrays.copyOf(entry, valueOffset), value);
+    }
+
+    /**
+     * @return the number of heap bytes occupied by the entry array of
+     * this record, including its key and value
+     */
+    @Override
+    public long getCost() {
+        return entryCost(entry);
+    }
+
+    @Override
+    public long getVersion() {
+        return readLongB(entry, VERSION_OFFSET);
+    }
+
+    @Override
+    public void setVersion(long version) {
+        writeLongB(entry, VERSION_OFFSET, version);
+    }
+
+    @Override
+    public Object getCachedValueUnsafe() {
+        return Record.NOT_CACHED;
+    }
+
+    @Override
+    public boolean casCachedValue(Object expectedValue, Object newValue) {
+        return true;
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return recomputeWithBaseTime(getRawLastAccessTime());
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        setRawLastAccessTime(stripBaseTime(lastAccessTime));
+    }
+
+    @Override
+    public long getLastUpdateTime() {
+        return recomputeWithBaseTime(getRawLastUpdateTime());
+    }
+
+    @Override
+    public void setLastUpdateTime(long lastUpdateTime) {
+        setRawLastUpdateTime(stripBaseTime(lastUpdateTime));
+    }
+
+    @Override
+    public long getCreationTime() {
+        return recomputeWithBaseTime(getRawCreationTime());
+    }
+
+    @Override
+    public void setCreationTime(long creationTime) {
+        setRawCreationTime(stripBaseTime(creationTime));
+    }
+
+    @Override
+    public int getHits() {
+        return readIntB(entry, HITS_OFFSET);
+    }
+
+    @Override
+    public void setHits(int hits) {
+        writeIntB(entry, HITS_OFFSET, hits);
+    }
+
+    @Override
+    public long getExpirationTime() {
+        if (!statisticsEnabled) {
+            return UNSET;
+        }
+        int expirationTime = readIntB(entry, EXPIRATION_TIME_OFFSET);
+        if (expirationTime == UNSET) {
+            return 0L;
+        }
+        if (expirationTime == Integer.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return recomputeWithBaseTime(expirationTime);
+    }
+
+    @Override
+    public void setExpirationTime(long expirationTime) {
+        if (statisticsEnabled) {
+            writeIntB(entry, EXPIRATION_TIME_OFFSET, expirationTime == Long.MAX_VALUE
+                    ? Integer.MAX_VALUE : stripBaseTime(expirationTime));
+        }
+    }
+
+    @Override
+    public long getLastStoredTime() {
+        if (!statisticsEnabled) {
+            return UNSET;
+        }
+        int lastStoredTime = readIntB(entry, LAST_STORED_TIME_OFFSET);
+        return lastStoredTime == UNSET ? 0L : recomputeWithBaseTime(lastStoredTime);
+    }
+
+    @Override
+    public void setLastStoredTime(long lastStoredTime) {
+        if (statisticsEnabled) {
+            writeIntB(entry, LAST_STORED_TIME_OFFSET, stripBaseTime(lastStoredTime));
+        }
+    }
+
+    @Override
+    public long getSequence() {
+        return UNSET;
+    }
+
+    @Override
+    public void setSequence(long sequence) {
+    }
+
+    @Override
+    public void setMetadata(Metadata metadata) {
+        if (!isAttached()) {
+            this.metadata = metadata;
+        } else if (metadata == null) {
+            metadataStore.remove(readKey(entry, statisticsEnabled));
+        } else {
+            metadataStore.put(readKey(entry, statisticsEnabled), metadata);
+        }
+    }
+
+    @Override
+    public Metadata getMetadata() {
+        if (!isAttached()) {
+            return metadata;
+        }
+        // avoid materializing the key when there is no JSON metadata at all
+        return metadataStore.isEmpty() ? null : metadataStore.get(readKey(entry, statisticsEnabled));
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return statisticsEnabled ? DATA_RECORD_WITH_STATS_READER_WRITER : DATA_RECORD_READER_WRITER;
+    }
+
+    @Override
+    public int getRawTtl() {
+        return readIntB(entry, TTL_OFFSET);
+    }
+
+    @Override
+    public int getRawMaxIdle() {
+        return readIntB(entry, MAX_IDLE_OFFSET);
+    }
+
+    @Override
+    public int getRawCreationTime() {
+        return readIntB(entry, CREATION_TIME_OFFSET);
+    }
+
+    @Override
+    public int getRawLastAccessTime() {
+        return readIntB(entry, LAST_ACCESS_TIME_OFFSET);
+    }
+
+    @Override
+    public int getRawLastUpdateTime() {
+        return readIntB(entry, LAST_UPDATE_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawTtl(int ttl) {
+        writeIntB(entry, TTL_OFFSET, ttl);
+    }
+
+    @Override
+    public void setRawMaxIdle(int maxIdle) {
+        writeIntB(entry, MAX_IDLE_OFFSET, maxIdle);
+    }
+
+    @Override
+    public void setRawCreationTime(int creationTime) {
+        writeIntB(entry, CREATION_TIME_OFFSET, creationTime);
+    }
+
+    @Override
+    public void setRawLastAccessTime(int lastAccessTime) {
+        writeIntB(entry, LAST_ACCESS_TIME_OFFSET, lastAccessTime);
+    }
+
+    @Override
+    public void setRawLastUpdateTime(int lastUpdateTime) {
+        writeIntB(entry, LAST_UPDATE_TIME_OFFSET, lastUpdateTime);
+    }
+
+    @Override
+    public int getRawLastStoredTime() {
+        checkStatisticsEnabled();
+        return readIntB(entry, LAST_STORED_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawLastStoredTime(int time) {
+        checkStatisticsEnabled();
+        writeIntB(entry, LAST_STORED_TIME_OFFSET, time);
+    }
+
+    @Override
+    public int getRawExpirationTime() {
+        checkStatisticsEnabled();
+        return readIntB(entry, EXPIRATION_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawExpirationTime(int time) {
+        checkStatisticsEnabled();
+        writeIntB(entry, EXPIRATION_TIME_OFFSET, time);
+    }
+
+    private void checkStatisticsEnabled() {
+        if (!statisticsEnabled) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PackedDataRecord that = (PackedDataRecord) o;
+        if (entry == that.entry) {
+            return true;
+        }
+        int headerSize = headerSize(statisticsEnabled);
+        return statisticsEnabled == that.statisticsEnabled
+                && Arrays.equals(Arrays.copyOf(entry, KEY_HASH_OFFSET), Arrays.copyOf(that.entry, KEY_HASH_OFFSET))
+                && Arrays.equals(Arrays.copyOfRange(entry, KEY_LENGTH_OFFSET + INT_SIZE_IN_BYTES, headerSize),
+                Arrays.copyOfRange(that.entry, KEY_LENGTH_OFFSET + INT_SIZE_IN_BYTES, headerSize))
+                && Arrays.equals(Arrays.copyOfRange(entry, valueOffset(entry, statisticsEnabled), entry.length),
+                Arrays.copyOfRange(that.entry, valueOffset(that.entry, statisticsEnabled), that.entry.length));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(Arrays.copyOf(entry, KEY_HASH_OFFSET));
+        result = 31 * result + Arrays.hashCode(Arrays.copyOfRange(entry, valueOffset(entry, statisticsEnabled),
+                entry.length));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "PackedDataRecord{"
+                + "value=" + getValue()
+                + ", version=" + getVersion()
+                + ", ttl=" + getRawTtl()
+                + ", maxIdle=" + getRawMaxIdle()
+                + ", hits=" + getHits()
+                + ", lastAccessTime=" + getRawLastAccessTime()
+                + ", lastUpdateTime=" + getRawLastUpdateTime()
+                + ", creationTime=" + getRawCreationTime()
+                + ", attached=" + isAttached()
+                + '}';
+    }
+
+    // Static helpers used by the storage to look up and maintain entries.
+
+    /**
+     * @return the number of heap bytes occupied by the given entry array
+     */
+    public static long entryCost(byte[] entry) {
+        long size = ARRAY_HEADER_SIZE_IN_BYTES + entry.length;
+        return (size + OBJECT_ALIGNMENT_IN_BYTES - 1) & -OBJECT_ALIGNMENT_IN_BYTES;
+    }
+
+    /**
+     * @return the {@link Data#hashCode()} of the key held by the entry
+     */
+    public static int keyHash(byte[] entry) {
+        return readIntB(entry, KEY_HASH_OFFSET);
+    }
+
+    /**
+     * @return {@code true} if the key held by the entry equals the given serialized key
+     */
+    public static boolean keyEquals(byte[] entry, byte[] key, boolean statisticsEnabled) {
+        if (readIntB(entry, KEY_LENGTH_OFFSET) != key.length) {
+            return false;
+        }
+        int keyOffset = headerSize(statisticsEnabled);
+        for (int i = 0; i < key.length; i++) {
+            if (entry[keyOffset + i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a copy of the key held by the entry
+     */
+    public static Data readKey(byte[] entry, boolean statisticsEnabled) {
+        int keyOffset = headerSize(statisticsEnabled);
+        return new HeapData(Arrays.copyOfRange(entry, keyOffset, keyOffset + readIntB(entry, KEY_LENGTH_OFFSET)));
+    }
+
+    private static int headerSize(boolean statisticsEnabled) {
+        return statisticsEnabled ? HEADER_SIZE_WITH_STATS : HEADER_SIZE;
+    }
+
+    private static int valueOffset(byte[] entry, boolean statisticsEnabled) {
+        return headerSize(statisticsEnabled) + readIntB(entry, KEY_LENGTH_OFFSET);
+    }
+
+    /**
+     * @return an entry made of the given header and key followed by the bytes of the value
+     */
+    private static byte[] newEntry(byte[] headerAndKey, Data value) {
+        if (value == null) {
+            return headerAndKey;
+        }
+        byte[] valueBytes = value.toByteArray();
+        byte[] newEntry = Arrays.copyOf(headerAndKey, headerAndKey.length + valueBytes.length);
+        System.arraycopy(valueBytes, 0, newEntry, headerAndKey.length, valueBytes.length);
+        return newEntry;
+    }
+}
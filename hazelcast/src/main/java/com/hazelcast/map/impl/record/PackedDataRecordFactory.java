@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+
+/**
+ * Creates detached {@link PackedDataRecord}s; the record storage packs
+ * their keys into them when they are put.
+ */
+public class PackedDataRecordFactory implements RecordFactory<Data> {
+
+    private final boolean statisticsEnabled;
+    private final SerializationService serializationService;
+
+    public PackedDataRecordFactory(MapConfig config,
+                                   SerializationService serializationService) {
+        this.serializationService = serializationService;
+        this.statisticsEnabled = config.isStatisticsEnabled();
+    }
+
+    @Override
+    public Record<Data> newRecord(Object value) {
+        return new PackedDataRecord(serializationService.toData(value), statisticsEnabled);
+    }
+}
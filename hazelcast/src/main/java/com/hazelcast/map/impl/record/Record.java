@@ -57,6 +57,20 @@ public interface Record<V> {
 
     V getValue();
 
+    /**
+     * Returns the value in the form it is kept in memory, which may be
+     * compressed by {@link com.hazelcast.internal.serialization.impl.DataCompressor}.
+     * Unlike {@link #getValue()}, it never restores a compressed value.
+     * <p>
+     * Meant for internal paths which only pass the value through, use
+     * {@link #getValue()} where the value is handed out.
+     *
+     * @return the value as stored in this record
+     */
+    default V getStoredValue() {
+        return getValue();
+    }
+
     void setValue(V value);
 
     /**
@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.record;
 
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DataCompressor;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
@@ -123,12 +124,13 @@ public final class Records {
         }
         for (; ; ) {
             if (cachedValue == null) {
-                Object valueBeforeCas = record.getValue();
+                Object storedValueBeforeCas = record.getStoredValue();
+                Object valueBeforeCas = DataCompressor.decompress(storedValueBeforeCas);
                 if (!shouldCache(valueBeforeCas)) {
                     //it's either a null or value which we do not want to cache. let's just return it.
                     return valueBeforeCas;
                 }
-                Object fromCache = tryStoreIntoCache(record, valueBeforeCas, serializationService);
+                Object fromCache = tryStoreIntoCache(record, storedValueBeforeCas, valueBeforeCas, serializationService);
                 if (fromCache != null) {
                     return fromCache;
                 }
@@ -151,14 +153,16 @@ public final class Records {
         }
     }
 
-    private static Object tryStoreIntoCache(Record record, Object valueBeforeCas, SerializationService serializationService) {
+    private static Object tryStoreIntoCache(Record record, Object storedValueBeforeCas, Object valueBeforeCas,
+                                            SerializationService serializationService) {
         Thread currentThread = Thread.currentThread();
         if (!record.casCachedValue(null, currentThread)) {
             return null;
         }
 
         //we managed to lock the record for ourselves
-        Object valueAfterCas = record.getValue();
+        //compare the stored values, a compressed value is restored into a new instance on every read
+        Object storedValueAfterCas = record.getStoredValue();
         Object object = null;
         try {
             object = serializationService.toObject(valueBeforeCas);
@@ -166,7 +170,7 @@ public final class Records {
             record.casCachedValue(currentThread, null);
             throw e;
         }
-        if (valueAfterCas == valueBeforeCas) {
+        if (storedValueAfterCas == storedValueBeforeCas) {
             //this check is needed to make sure a partition thread had not changed the value
             //right before we won the CAS
             Object wrappedObject = ThreadWrapper.wrapIfNeeded(object);
@@ -20,6 +20,7 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.internal.eviction.ClearExpiredRecordsTask;
+import com.hazelcast.internal.eviction.ExpirationIndex;
 import com.hazelcast.internal.eviction.ExpiredKey;
 import com.hazelcast.internal.nearcache.impl.invalidation.InvalidationQueue;
 import com.hazelcast.internal.serialization.Data;
@@ -63,6 +64,11 @@ public abstract class AbstractEvictableRecordStore extends AbstractRecordStore {
     protected final MapEventPublisher mapEventPublisher;
     protected final ClearExpiredRecordsTask clearExpiredRecordsTask;
     protected final InvalidationQueue<ExpiredKey> expiredKeys = new InvalidationQueue<>();
+    /**
+     * Index of keys by their expiration time, {@code null} if expired
+     * entries are found by iterating over the record store instead.
+     */
+    protected final ExpirationIndex<Data> expirationIndex;
     /**
      * Iterates over a pre-set entry count/percentage in one round.
      * Used in expiration logic for traversing entries. Initializes lazily.
@@ -80,6 +86,17 @@ public abstract class AbstractEvictableRecordStore extends AbstractRecordStore {
         mapEventPublisher = mapServiceContext.getMapEventPublisher();
         thisAddress = nodeEngine.getThisAddress();
         clearExpiredRecordsTask = mapServiceContext.getExpirationManager().getTask();
+        expirationIndex = mapServiceContext.getClearExpiredRecordsTask().isExpirationIndexEnabled()
+                ? new ExpirationIndex<>() : null;
+    }
+
+    @Override
+    protected void addMutationObservers() {
+        super.addMutationObservers();
+
+        if (expirationIndex != null) {
+            mutationObserver.add(new ExpirationIndexMutationObserver(expirationIndex));
+        }
     }
 
     /**
@@ -97,6 +114,12 @@ public abstract class AbstractEvictableRecordStore extends AbstractRecordStore {
         long now = getNow();
         int size = size();
         int maxIterationCount = getMaxIterationCount(size, percentage);
+        if (expirationIndex != null) {
+            evictExpiredEntriesFromIndex(maxIterationCount, now, backup);
+            accumulateOrSendExpiredKey(null, null);
+            return;
+        }
+
         int maxRetry = 3;
         int loop = 0;
         int evictedEntryCount = 0;
@@ -163,6 +186,71 @@ public abstract class AbstractEvictableRecordStore extends AbstractRecordStore {
         return evictedEntryCount;
     }
 
+    /**
+     * Evicts the entries whose keys are due in the {@link #expirationIndex}.
+     * Keys of entries which did not expire yet, e.g. because they were
+     * accessed or are locked, are scheduled again.
+     */
+    private void evictExpiredEntriesFromIndex(int maxIterationCount, long now, boolean backup) {
+        List<Data> dueKeys = new ArrayList<>();
+        expirationIndex.poll(now, maxIterationCount, dueKeys);
+
+        for (Data key : dueKeys) {
+            Record record = storage.get(key);
+            if (record == null) {
+                continue;
+            }
+            if (getOrNullIfExpired(key, record, now, backup) != null) {
+                expirationIndex.schedule(key, getNextExpirationCheckTime(record, now, backup));
+            }
+        }
+    }
+
+    /**
+     * Returns the time at which a not yet expired record should
+     * be checked for expiration again.
+     */
+    private long getNextExpirationCheckTime(Record record, long now, boolean backup) {
+        long expirationTime = record.getExpirationTime();
+        if (expirationTime == Long.MAX_VALUE) {
+            return expirationTime;
+        }
+        if (backup) {
+            expirationTime = calculateExpirationWithDelay(expirationTime, expiryDelayMillis, true);
+        }
+        if (expirationTime > now) {
+            return expirationTime;
+        }
+
+        // the record is locked or, on a backup replica, its idleness
+        // is tracked by the primary replica. Check it again later.
+        long maxIdleMillis = getRecordMaxIdleOrConfig(record);
+        if (!backup || !isMaxIdleDefined(maxIdleMillis)) {
+            return now + ExpirationIndex.DEFAULT_TICK_MILLIS;
+        }
+        long nextCheckTime = now + maxIdleMillis;
+        long ttlMillis = getRecordTTLOrConfig(record);
+        if (isTtlDefined(ttlMillis)) {
+            long ttlExpirationTime = calculateExpirationWithDelay(getLifeStartTime(record) + ttlMillis,
+                    expiryDelayMillis, true);
+            if (ttlExpirationTime > now) {
+                nextCheckTime = Math.min(nextCheckTime, ttlExpirationTime);
+            }
+        }
+        return nextCheckTime;
+    }
+
+    /**
+     * Updates the position of {@code key} in the expiration index
+     * after the expiration time of its record was changed outside
+     * of a {@link MutationObserver} notification.
+     */
+    protected void updateExpirationIndex(Data key, Record record) {
+        if (expirationIndex != null) {
+            expirationIndex.schedule(toHeapData(key), record.getExpirationTime());
+        }
+    }
+
     private void initExpirationIterator() {
         if (expirationIterator == null || !expirationIterator.hasNext()) {
             expirationIterator = storage.mutationTolerantIterator();
@@ -338,8 +426,9 @@ public abstract class AbstractEvictableRecordStore extends AbstractRecordStore {
     }
 
     @Override
-    public void accessRecord(Record record, long now) {
+    public void accessRecord(Data key, Record record, long now) {
         record.onAccess(now);
+        recordKeyAccess(key);
         updateStatsOnGet(now);
         setExpirationTime(record);
     }
@@ -20,7 +20,9 @@ import com.hazelcast.config.EventJournalConfig;
 import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MetadataPolicy;
+import com.hazelcast.internal.eviction.impl.comparator.TinyLFUEvictionPolicyComparator;
 import com.hazelcast.internal.locksupport.LockStore;
+import com.hazelcast.internal.memory.impl.StandardMemoryManager;
 import com.hazelcast.internal.locksupport.LockSupportService;
 import com.hazelcast.internal.monitor.LocalRecordStoreStats;
 import com.hazelcast.internal.monitor.impl.LocalRecordStoreStatsImpl;
@@ -65,6 +67,11 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     protected final SerializationService serializationService;
     protected final CompositeMutationObserver<Record> mutationObserver;
     protected final LocalRecordStoreStatsImpl stats = new LocalRecordStoreStatsImpl();
+    /**
+     * Access frequency sketch of the {@link com.hazelcast.config.EvictionPolicy#TINY_LFU}
+     * eviction. It is kept per partition, so only the partition thread touches it.
+     */
+    protected final TinyLFUEvictionPolicyComparator tinyLFUComparator;
 
     protected Storage<Data, Record> storage;
     protected IndexingMutationObserver<Record> indexingObserver;
@@ -83,6 +90,7 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         this.mapDataStore = mapStoreContext.getMapStoreManager().getMapDataStore(name, partitionId);
         this.lockStore = createLockStore();
         this.mutationObserver = new CompositeMutationObserver<>();
+        this.tinyLFUComparator = mapContainer.newTinyLFUComparator();
     }
 
     @Override
@@ -154,12 +162,28 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
 
         setExpirationTimes(ttlMillis, maxIdle, record, mapContainer.getMapConfig(), true);
         updateStatsOnPut(false, now);
+        recordKeyAccess(key);
         return record;
     }
 
+    /**
+     * Feeds the access frequency sketch of the partition's
+     * {@link com.hazelcast.config.EvictionPolicy#TINY_LFU} eviction, if configured.
+     */
+    protected void recordKeyAccess(Data key) {
+        if (tinyLFUComparator != null) {
+            tinyLFUComparator.recordAccess(key);
+        }
+    }
+
+    @Override
+    public TinyLFUEvictionPolicyComparator getTinyLFUComparator() {
+        return tinyLFUComparator;
+    }
+
     @Override
     public Record createRecord(Data key, Record fromRecord, long nowInMillis) {
-        Record newRecord = recordFactory.newRecord(fromRecord == null ? null : fromRecord.getValue());
+        Record newRecord = recordFactory.newRecord(fromRecord == null ? null : fromRecord.getStoredValue());
         if (fromRecord != null) {
             Records.copyMetadataFrom(fromRecord, newRecord);
         }
@@ -168,7 +192,18 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     }
 
     public Storage createStorage(RecordFactory recordFactory, InMemoryFormat memoryFormat) {
-        return new StorageImpl(memoryFormat, serializationService);
+        if (memoryFormat == InMemoryFormat.NATIVE) {
+            StandardMemoryManager memoryManager = mapServiceContext.getNativeMemoryManager();
+            if (memoryManager == null) {
+                throw new IllegalStateException("Native memory is not enabled, cannot create NATIVE storage for map " + name);
+            }
+            return new NativeStorageImpl(memoryManager, mapContainer.getMapConfig().isStatisticsEnabled(),
+                    serializationService);
+        }
+        if (mapContainer.isPackedRecords()) {
+            return new PackedStorageImpl(mapContainer.getMapConfig().isStatisticsEnabled(), serializationService);
+        }
+        return new StorageImpl(memoryFormat, mapContainer.getMapConfig().isValueCompressionEnabled(), serializationService);
     }
 
     @Override
@@ -199,6 +234,7 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         record.onUpdate(now);
         if (countAsAccess) {
             record.onAccess(now);
+            recordKeyAccess(key);
         }
         setExpirationTimes(ttl, maxIdle, record, mapContainer.getMapConfig(), true);
         if (mapStoreOperation) {
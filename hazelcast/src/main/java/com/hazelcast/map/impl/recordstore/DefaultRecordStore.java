@@ -59,6 +59,7 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -112,6 +113,16 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
      */
     private boolean loadedOnPreMigration;
 
+    /**
+     * Keys whose read-through loads run outside of the partition thread,
+     * mapped to the ids of the loads. Created on the first offloaded load
+     * and only accessed by the partition thread.
+     *
+     * @see #startOffloadedLoad(Data)
+     */
+    private Map<Data, Long> offloadedLoads;
+    private long offloadedLoadIdSequence;
+
     private final IPartitionService partitionService;
     private final InterceptorRegistry interceptorRegistry;
 
@@ -355,7 +366,28 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
 
     @Override
     public boolean canAcquireLock(Data key, UUID caller, long threadId) {
-        return lockStore == null || lockStore.canAcquireLock(key, caller, threadId);
+        return !isOffloadedLoadPending(key)
+                && (lockStore == null || lockStore.canAcquireLock(key, caller, threadId));
+    }
+
+    @Override
+    public long startOffloadedLoad(Data key) {
+        if (offloadedLoads == null) {
+            offloadedLoads = new HashMap<>();
+        }
+        long loadId = ++offloadedLoadIdSequence;
+        offloadedLoads.put(key, loadId);
+        return loadId;
+    }
+
+    @Override
+    public boolean isOffloadedLoadPending(Data key) {
+        return offloadedLoads != null && offloadedLoads.containsKey(key);
+    }
+
+    @Override
+    public boolean finishOffloadedLoad(Data key, long loadId) {
+        return offloadedLoads != null && offloadedLoads.remove(key, loadId);
     }
 
     @Override
@@ -370,7 +402,12 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
 
     @Override
     public Record loadRecordOrNull(Data key, boolean backup, Address callerAddress) {
-        Object value = mapDataStore.load(key);
+        return putLoadedRecordOrNull(key, mapDataStore.load(key), backup, callerAddress);
+    }
+
+    @Override
+    public Record putLoadedRecordOrNull(Data key, Object loadedValue, boolean backup, Address callerAddress) {
+        Object value = loadedValue;
         if (value == null) {
             return null;
         }
@@ -558,7 +595,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
             record = loadRecordOrNull(key, backup, callerAddress);
             record = getOrNullIfExpired(key, record, now, backup);
         } else if (touch) {
-            accessRecord(record, now);
+            accessRecord(key, record, now);
         }
         Object value = record == null ? null : record.getValue();
         value = mapServiceContext.interceptGet(interceptorRegistry, value);
@@ -605,7 +642,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
             Record record = getRecordOrNull(key, now, false);
             if (record != null) {
                 addToMapEntrySet(key, record.getValue(), mapEntries);
-                accessRecord(record, now);
+                accessRecord(key, record, now);
                 iterator.remove();
             }
         }
@@ -694,7 +731,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
         }
         boolean contains = record != null;
         if (contains) {
-            accessRecord(record, now);
+            accessRecord(key, record, now);
         }
 
         return contains;
@@ -828,6 +865,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
 
             if (valueComparator.isEqual(newValue, oldValue, serializationService)) {
                 mergeRecordExpiration(record, mergingEntry);
+                updateExpirationIndex(key, record);
                 return true;
             }
 
@@ -917,6 +955,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
             updateRecord(key, record, oldValue, value, now, true, UNSET,
                     UNSET, false, null, false);
             setExpirationTimes(ttl, maxIdle, record, mapContainer.getMapConfig(), false);
+            updateExpirationIndex(key, record);
         }
         mapDataStore.addTransient(key, now);
         return oldValue;
@@ -1029,7 +1068,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
                 mapEventPublisher.publishEvent(callerAddress, name, EntryEventType.LOADED, key, null, oldValue);
             }
         } else {
-            accessRecord(record, now);
+            accessRecord(key, record, now);
             oldValue = record.getValue();
         }
         if (oldValue == null) {
@@ -1270,6 +1309,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
 
     @Override
     public void reset() {
+        offloadedLoads = null;
         mapDataStore.reset();
         storage.clear(false);
         stats.reset();
@@ -1283,6 +1323,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
 
     @Override
     public void clearPartition(boolean onShutdown, boolean onStorageDestroy) {
+        offloadedLoads = null;
         clearLockStore();
         mapDataStore.reset();
 
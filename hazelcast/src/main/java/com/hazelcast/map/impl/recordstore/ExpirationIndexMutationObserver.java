@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.eviction.ExpirationIndex;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.record.Record;
+
+import javax.annotation.Nonnull;
+
+import static com.hazelcast.internal.util.ToHeapDataConverter.toHeapData;
+
+/**
+ * Keeps the {@link ExpirationIndex} of a record store up to date
+ * with the expiration times of its records. Records are indexed
+ * by the expiration time they have after the mutation; later
+ * extensions of the expiration time, e.g. by accesses, are
+ * picked up when the key is polled from the index.
+ */
+public class ExpirationIndexMutationObserver implements MutationObserver<Record> {
+
+    private final ExpirationIndex<Data> expirationIndex;
+
+    public ExpirationIndexMutationObserver(ExpirationIndex<Data> expirationIndex) {
+        this.expirationIndex = expirationIndex;
+    }
+
+    @Override
+    public void onPutRecord(@Nonnull Data key, Record record, Object oldValue, boolean backup) {
+        if (record != null) {
+            schedule(key, record);
+        }
+    }
+
+    @Override
+    public void onReplicationPutRecord(@Nonnull Data key, @Nonnull Record record, boolean populateIndex) {
+        schedule(key, record);
+    }
+
+    @Override
+    public void onUpdateRecord(@Nonnull Data key, @Nonnull Record record,
+                               Object oldValue, Object newValue, boolean backup) {
+        schedule(key, record);
+    }
+
+    @Override
+    public void onRemoveRecord(@Nonnull Data key, Record record) {
+        expirationIndex.remove(toHeapData(key));
+    }
+
+    @Override
+    public void onEvictRecord(@Nonnull Data key, @Nonnull Record record) {
+        expirationIndex.remove(toHeapData(key));
+    }
+
+    @Override
+    public void onLoadRecord(@Nonnull Data key, @Nonnull Record record, boolean backup) {
+        schedule(key, record);
+    }
+
+    @Override
+    public void onReset() {
+        expirationIndex.clear();
+    }
+
+    @Override
+    public void onClear() {
+        expirationIndex.clear();
+    }
+
+    @Override
+    public void onDestroy(boolean isDuringShutdown, boolean internal) {
+        expirationIndex.clear();
+    }
+
+    private void schedule(Data key, Record record) {
+        expirationIndex.schedule(toHeapData(key), record.getExpirationTime());
+    }
+}
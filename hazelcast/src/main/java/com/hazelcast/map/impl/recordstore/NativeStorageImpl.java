@@ -0,0 +1,517 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.util.ThreadLocalRandomProvider;
+import com.hazelcast.internal.util.collection.Long2ObjectHashMap;
+import com.hazelcast.internal.util.hashslot.SlotAssignmentResult;
+import com.hazelcast.internal.util.hashslot.impl.HashSlotArray8byteKeyImpl;
+import com.hazelcast.map.impl.EntryCostEstimator;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.NativeDataRecord;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.query.impl.Metadata;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.HashUtil.fastLongMix;
+import static com.hazelcast.map.impl.OwnedEntryCostEstimatorFactory.createMapSizeEstimator;
+import static com.hazelcast.map.impl.record.NativeDataRecord.getNext;
+import static com.hazelcast.map.impl.record.NativeDataRecord.keyEquals;
+import static com.hazelcast.map.impl.record.NativeDataRecord.readKey;
+import static com.hazelcast.map.impl.record.NativeDataRecord.setNext;
+
+/**
+ * {@link Storage} which keeps keys, values and record metadata in native
+ * memory, used for the {@link InMemoryFormat#NATIVE} in-memory format.
+ * <p>
+ * The index is a {@link HashSlotArray8byteKeyImpl} keyed by the 64-bit hash
+ * of the serialized key. The slot value is the address of the first
+ * {@link NativeDataRecord} block of a bucket; records whose keys share the
+ * same hash are chained through their {@code next} field. Record blocks are
+ * allocated from the supplied {@link MemoryManager}, so nothing but the
+ * flyweights handed out by the lookups lives on the Java heap.
+ * <p>
+ * Removed and replaced record blocks are not freed immediately but only in
+ * {@link #disposeDeferredBlocks()}, which the map operations call once they
+ * have finished, so that records obtained earlier by the same operation
+ * remain readable.
+ * <p>
+ * Like the rest of the record store, the storage must only be mutated by
+ * the partition thread owning it. {@link #size()} may be read from any
+ * thread.
+ *
+ * @param <R> the value type to be put in this storage.
+ */
+@SuppressWarnings({"checkstyle:methodcount", "rawtypes", "unchecked"})
+public class NativeStorageImpl<R extends Record> implements Storage<Data, R> {
+
+    /**
+     * Slot value of an unassigned slot: a bucket always has a head record.
+     */
+    private static final long UNASSIGNED_SENTINEL = NULL_ADDRESS;
+    private static final int SLOT_KEY_LENGTH = LONG_SIZE_IN_BYTES;
+    private static final int SLOT_VALUE_LENGTH = LONG_SIZE_IN_BYTES;
+    private static final int SLOT_LENGTH = SLOT_KEY_LENGTH + SLOT_VALUE_LENGTH;
+    private static final int INITIAL_DEFERRED_BLOCKS_CAPACITY = 16;
+
+    private final MemoryManager memoryManager;
+    private final MemoryAccessor mem;
+    private final HashSlotArray8byteKeyImpl buckets;
+    private final Long2ObjectHashMap<Metadata> metadataStore = new Long2ObjectHashMap<>();
+    private final SerializationService serializationService;
+    private final boolean statisticsEnabled;
+
+    private long[] deferredBlocks = new long[INITIAL_DEFERRED_BLOCKS_CAPACITY];
+    private int deferredBlockCount;
+    private volatile int size;
+    private boolean destroyed;
+
+    // not final for testing purposes.
+    private EntryCostEstimator<Data, Record> entryCostEstimator;
+
+    public NativeStorageImpl(MemoryManager memoryManager, boolean statisticsEnabled,
+                             SerializationService serializationService) {
+        this.memoryManager = memoryManager;
+        this.mem = memoryManager.getAccessor();
+        this.buckets = new HashSlotArray8byteKeyImpl(UNASSIGNED_SENTINEL, memoryManager, SLOT_VALUE_LENGTH);
+        this.buckets.gotoNew();
+        this.statisticsEnabled = statisticsEnabled;
+        this.serializationService = serializationService;
+        this.entryCostEstimator = createMapSizeEstimator(InMemoryFormat.NATIVE);
+    }
+
+    @Override
+    public void put(Data key, R record) {
+        NativeDataRecord nativeRecord = (NativeDataRecord) record;
+        byte[] keyBytes = key.toByteArray();
+        long hash = key.hash64();
+
+        long slotValueAddress = buckets.get(hash);
+        long previousAddress = NULL_ADDRESS;
+        long existingAddress = NULL_ADDRESS;
+        if (slotValueAddress != NULL_ADDRESS) {
+            for (long address = mem.getLong(slotValueAddress); address != NULL_ADDRESS; address = getNext(mem, address)) {
+                if (keyEquals(mem, address, keyBytes)) {
+                    existingAddress = address;
+                    break;
+                }
+                previousAddress = address;
+            }
+        }
+
+        if (existingAddress != NULL_ADDRESS && existingAddress == nativeRecord.getAddress()) {
+            return;
+        }
+
+        // a record which is attached elsewhere is copied into a new block
+        nativeRecord.detach();
+        long newAddress = nativeRecord.attach(memoryManager, metadataStore, keyBytes);
+
+        if (existingAddress != NULL_ADDRESS) {
+            replace(slotValueAddress, previousAddress, existingAddress, newAddress);
+            NativeDataRecord existingRecord = newRecord(existingAddress);
+            updateCostEstimate(-entryCostEstimator.calculateValueCost(existingRecord));
+            updateCostEstimate(entryCostEstimator.calculateValueCost(nativeRecord));
+            deferDispose(existingAddress);
+            return;
+        }
+
+        SlotAssignmentResult slot;
+        try {
+            slot = buckets.ensure(hash);
+        } catch (Error e) {
+            nativeRecord.detach();
+            metadataStore.remove(newAddress);
+            NativeDataRecord.free(memoryManager, newAddress);
+            throw e;
+        }
+        setNext(mem, newAddress, slot.isNew() ? NULL_ADDRESS : mem.getLong(slot.address()));
+        mem.putLong(slot.address(), newAddress);
+        size++;
+
+        updateCostEstimate(entryCostEstimator.calculateEntryCost(key, nativeRecord));
+    }
+
+    private void replace(long slotValueAddress, long previousAddress, long existingAddress, long newAddress) {
+        setNext(mem, newAddress, getNext(mem, existingAddress));
+        if (previousAddress == NULL_ADDRESS) {
+            mem.putLong(slotValueAddress, newAddress);
+        } else {
+            setNext(mem, previousAddress, newAddress);
+        }
+    }
+
+    @Override
+    public void updateRecordValue(Data key, R record, Object value) {
+        boolean attached = ((NativeDataRecord) record).isAttached();
+        if (attached) {
+            updateCostEstimate(-entryCostEstimator.calculateValueCost(record));
+        }
+
+        record.setValue(serializationService.toData(value));
+
+        if (attached) {
+            updateCostEstimate(entryCostEstimator.calculateValueCost(record));
+        }
+    }
+
+    @Override
+    public R get(Data key) {
+        long address = find(key);
+        return address == NULL_ADDRESS ? null : (R) newRecord(address);
+    }
+
+    @Override
+    public R getIfSameKey(Data key) {
+        return get(key);
+    }
+
+    @Override
+    public void removeRecord(Data dataKey, R record) {
+        byte[] keyBytes = dataKey.toByteArray();
+        long hash = dataKey.hash64();
+        long slotValueAddress = buckets.get(hash);
+        if (slotValueAddress == NULL_ADDRESS) {
+            return;
+        }
+
+        long previousAddress = NULL_ADDRESS;
+        long address = mem.getLong(slotValueAddress);
+        while (address != NULL_ADDRESS && !keyEquals(mem, address, keyBytes)) {
+            previousAddress = address;
+            address = getNext(mem, address);
+        }
+        if (address == NULL_ADDRESS) {
+            return;
+        }
+
+        long next = getNext(mem, address);
+        if (previousAddress != NULL_ADDRESS) {
+            setNext(mem, previousAddress, next);
+        } else if (next != NULL_ADDRESS) {
+            mem.putLong(slotValueAddress, next);
+        } else {
+            buckets.remove(hash);
+        }
+        size--;
+
+        NativeDataRecord removedRecord = record instanceof NativeDataRecord
+                && ((NativeDataRecord) record).getAddress() == address
+                ? (NativeDataRecord) record : newRecord(address);
+        updateCostEstimate(-entryCostEstimator.calculateEntryCost(dataKey, removedRecord));
+        // the caller may still use the record it has removed
+        removedRecord.detach();
+        deferDispose(address);
+    }
+
+    @Override
+    public boolean containsKey(Data key) {
+        return find(key) != NULL_ADDRESS;
+    }
+
+    @Override
+    public Iterator<Map.Entry<Data, R>> mutationTolerantIterator() {
+        return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear(boolean isDuringShutdown) {
+        if (destroyed) {
+            return;
+        }
+        long capacity = buckets.capacity();
+        for (long slot = 0; slot < capacity; slot++) {
+            long address = headAt(slot);
+            while (address != NULL_ADDRESS) {
+                long next = getNext(mem, address);
+                NativeDataRecord.free(memoryManager, address);
+                address = next;
+            }
+        }
+        buckets.clear();
+        metadataStore.clear();
+        disposeDeferredBlocks();
+        size = 0;
+
+        entryCostEstimator.reset();
+    }
+
+    @Override
+    public void destroy(boolean isDuringShutdown) {
+        clear(isDuringShutdown);
+        if (!destroyed) {
+            buckets.dispose();
+            destroyed = true;
+        }
+    }
+
+    @Override
+    public EntryCostEstimator getEntryCostEstimator() {
+        return entryCostEstimator;
+    }
+
+    @Override
+    public void setEntryCostEstimator(EntryCostEstimator entryCostEstimator) {
+        this.entryCostEstimator = entryCostEstimator;
+    }
+
+    @Override
+    public void disposeDeferredBlocks() {
+        for (int i = 0; i < deferredBlockCount; i++) {
+            NativeDataRecord.free(memoryManager, deferredBlocks[i]);
+        }
+        deferredBlockCount = 0;
+    }
+
+    @Override
+    public Iterable getRandomSamples(int sampleCount) {
+        if (sampleCount < 0) {
+            throw new IllegalArgumentException("Sample count cannot be a negative value.");
+        }
+        if (sampleCount == 0 || size == 0) {
+            return Collections.EMPTY_LIST;
+        }
+
+        List<EntryView> samples = new ArrayList<>(sampleCount);
+        long capacity = buckets.capacity();
+        long mask = capacity - 1;
+        long start = ThreadLocalRandomProvider.get().nextInt(Integer.MAX_VALUE) & mask;
+        for (long i = 0; i < capacity && samples.size() < sampleCount; i++) {
+            long slot = (start + i) & mask;
+            for (long address = headAt(slot); address != NULL_ADDRESS; address = getNext(mem, address)) {
+                samples.add(new LazyEvictableEntryView<>(readKey(mem, address), newRecord(address),
+                        serializationService));
+            }
+        }
+        return samples;
+    }
+
+    @Override
+    public MapKeysWithCursor fetchKeys(IterationPointer[] pointers, int size) {
+        List<Data> keys = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, (key, address) -> keys.add(key));
+        return new MapKeysWithCursor(keys, newPointers);
+    }
+
+    @Override
+    public MapEntriesWithCursor fetchEntries(IterationPointer[] pointers, int size) {
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size,
+                (key, address) -> entries.add(new AbstractMap.SimpleEntry<>(key, newRecord(address).getValue())));
+        return new MapEntriesWithCursor(entries, newPointers);
+    }
+
+    @Override
+    public Record extractRecordFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getRecord();
+    }
+
+    @Override
+    public Data extractDataKeyFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getDataKey();
+    }
+
+    @Override
+    public Data toBackingDataKeyFormat(Data key) {
+        return key;
+    }
+
+    protected void updateCostEstimate(long entrySize) {
+        entryCostEstimator.adjustEstimateBy(entrySize);
+    }
+
+    private NativeDataRecord newRecord(long address) {
+        return new NativeDataRecord(memoryManager, metadataStore, address, statisticsEnabled);
+    }
+
+    private long find(Data key) {
+        long slotValueAddress = buckets.get(key.hash64());
+        if (slotValueAddress == NULL_ADDRESS) {
+            return NULL_ADDRESS;
+        }
+        byte[] keyBytes = key.toByteArray();
+        for (long address = mem.getLong(slotValueAddress); address != NULL_ADDRESS; address = getNext(mem, address)) {
+            if (keyEquals(mem, address, keyBytes)) {
+                return address;
+            }
+        }
+        return NULL_ADDRESS;
+    }
+
+    /**
+     * Reads the bucket head directly from the hash slot array, which lays out
+     * each slot as the 8-byte key followed by the 8-byte value.
+     *
+     * @return address of the first record in the slot or {@code NULL_ADDRESS} if the slot is unassigned
+     */
+    private long headAt(long slot) {
+        return mem.getLong(buckets.address() + slot * SLOT_LENGTH + SLOT_KEY_LENGTH);
+    }
+
+    private long hashAt(long slot) {
+        return mem.getLong(buckets.address() + slot * SLOT_LENGTH);
+    }
+
+    private void deferDispose(long address) {
+        metadataStore.remove(address);
+        if (deferredBlockCount == deferredBlocks.length) {
+            deferredBlocks = Arrays.copyOf(deferredBlocks, deferredBlockCount * 2);
+        }
+        deferredBlocks[deferredBlockCount++] = address;
+    }
+
+    /**
+     * Fetches at least {@code size} entries, walking the slots from the
+     * highest index down, in the same manner as
+     * {@link com.hazelcast.internal.util.SampleableConcurrentHashMap}.
+     */
+    private IterationPointer[] fetchNext(IterationPointer[] pointers, int size, BiConsumer<Data, Long> consumer) {
+        int capacity = (int) buckets.capacity();
+        pointers = checkPointers(pointers, capacity);
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+
+        int nextSlot = lastPointer.getIndex() >= 0 && lastPointer.getIndex() < capacity
+                ? lastPointer.getIndex() : capacity - 1;
+        int counter = 0;
+        while (nextSlot >= 0 && counter < size) {
+            long hash = hashAt(nextSlot);
+            long address = headAt(nextSlot--);
+            if (address == NULL_ADDRESS || !hasNotBeenObserved(hash, pointers)) {
+                continue;
+            }
+            for (; address != NULL_ADDRESS; address = getNext(mem, address)) {
+                consumer.accept(readKey(mem, address), address);
+                counter++;
+            }
+        }
+        lastPointer.setIndex(nextSlot);
+        return pointers;
+    }
+
+    private static IterationPointer[] checkPointers(IterationPointer[] pointers, int capacity) {
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+        boolean iterationStarted = lastPointer.getSize() == -1;
+        boolean resized = lastPointer.getSize() != capacity;
+        // clone pointers to avoid mutating given reference
+        // add new pointer if resize happened during iteration
+        int newLength = !iterationStarted && resized ? pointers.length + 1 : pointers.length;
+
+        IterationPointer[] updatedPointers = new IterationPointer[newLength];
+        for (int i = 0; i < pointers.length; i++) {
+            updatedPointers[i] = new IterationPointer(pointers[i]);
+        }
+
+        // reset last pointer if we haven't started iteration or there was a resize
+        if (iterationStarted || resized) {
+            updatedPointers[updatedPointers.length - 1] = new IterationPointer(Integer.MAX_VALUE, capacity);
+        }
+        return updatedPointers;
+    }
+
+    /**
+     * Checks, based on the home slot of the hash in each previous capacity,
+     * whether a bucket has already been returned before a resize.
+     */
+    private static boolean hasNotBeenObserved(long hash, IterationPointer[] pointers) {
+        if (pointers.length < 2) {
+            return true;
+        }
+        long mixedHash = fastLongMix(hash);
+        for (int i = 0; i < pointers.length - 1; i++) {
+            IterationPointer iterationPointer = pointers[i];
+            long homeSlot = mixedHash & (iterationPointer.getSize() - 1);
+            if (homeSlot > iterationPointer.getIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Walks the slots from the highest index down. The iterator remembers
+     * only its position, never record addresses, so it stays valid when
+     * records are removed and their blocks disposed between two calls.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<Data, R>> {
+
+        private long slot = destroyed ? -1 : buckets.capacity() - 1;
+        private int chainIndex;
+
+        @Override
+        public boolean hasNext() {
+            return advance() != NULL_ADDRESS;
+        }
+
+        @Override
+        public Map.Entry<Data, R> next() {
+            long address = advance();
+            if (address == NULL_ADDRESS) {
+                throw new NoSuchElementException();
+            }
+            chainIndex++;
+            return new AbstractMap.SimpleEntry<>(readKey(mem, address), (R) newRecord(address));
+        }
+
+        private long advance() {
+            if (destroyed) {
+                return NULL_ADDRESS;
+            }
+            slot = Math.min(slot, buckets.capacity() - 1);
+            while (slot >= 0) {
+                long address = headAt(slot);
+                for (int i = 0; i < chainIndex && address != NULL_ADDRESS; i++) {
+                    address = getNext(mem, address);
+                }
+                if (address != NULL_ADDRESS) {
+                    return address;
+                }
+                slot--;
+                chainIndex = 0;
+            }
+            return NULL_ADDRESS;
+        }
+    }
+}
@@ -0,0 +1,537 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.util.ThreadLocalRandomProvider;
+import com.hazelcast.map.impl.EntryCostEstimator;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.PackedDataRecord;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.query.impl.Metadata;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
+import static com.hazelcast.map.impl.OwnedEntryCostEstimatorFactory.createPackedMapSizeEstimator;
+import static com.hazelcast.map.impl.record.PackedDataRecord.keyEquals;
+import static com.hazelcast.map.impl.record.PackedDataRecord.keyHash;
+import static com.hazelcast.map.impl.record.PackedDataRecord.readKey;
+
+/**
+ * {@link Storage} for maps with packed records, see
+ * {@link MapContainer#PACKED_RECORDS}.
+ * <p>
+ * Every entry is a single {@code byte[]} built by {@link PackedDataRecord}
+ * and the entries are kept directly in an open addressing hash table with
+ * linear probing, so there are no per-entry key, value or node objects.
+ * The home slot of an entry is taken from the high bits of its mixed key
+ * hash, hence the slot order is the same for every table capacity.
+ * Removed entries leave a tombstone, which is purged when the table is
+ * rebuilt.
+ * <p>
+ * The storage must only be mutated by the partition thread owning it, but
+ * it may be read from other threads. The table is published through a
+ * volatile field, its slots are accessed with volatile semantics and
+ * entries never move within a published table, so readers always see
+ * complete entries.
+ *
+ * @param <R> the value type to be put in this storage.
+ */
+@SuppressWarnings({"rawtypes", "unchecked", "checkstyle:methodcount"})
+@SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT",
+        justification = "Only the partition thread owning the storage changes its size, but other threads can read it.")
+public class PackedStorageImpl<R extends Record> implements Storage<Data, R> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_FILL_NUMERATOR = 3;
+    private static final int MAX_FILL_DENOMINATOR = 4;
+    private static final byte[] TOMBSTONE = new byte[0];
+
+    private static final long UNSIGNED_INT_MASK = 0xFFFFFFFFL;
+    private static final long SIGN_BIT = 0x80000000L;
+    private static final int INT_BITS = 32;
+    private static final int NOT_STARTED = Integer.MAX_VALUE;
+    private static final int IN_PROGRESS = 0;
+    private static final int DONE = -1;
+
+    private final SerializationService serializationService;
+    private final boolean statisticsEnabled;
+    private final Map<Data, Metadata> metadataStore = new ConcurrentHashMap<>();
+
+    private volatile AtomicReferenceArray<byte[]> table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    private volatile int size;
+    private int tombstoneCount;
+
+    // not final for testing purposes.
+    private EntryCostEstimator<Data, Record> entryCostEstimator;
+
+    public PackedStorageImpl(boolean statisticsEnabled, SerializationService serializationService) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.serializationService = serializationService;
+        this.entryCostEstimator = createPackedMapSizeEstimator();
+    }
+
+    @Override
+    public void put(Data key, R record) {
+        PackedDataRecord packedRecord = (PackedDataRecord) record;
+        AtomicReferenceArray<byte[]> tab = table;
+        int slot = findSlot(tab, key.hashCode(), key.toByteArray());
+
+        if (slot >= 0) {
+            byte[] existing = tab.get(slot);
+            if (existing == packedRecord.getEntry()) {
+                return;
+            }
+            updateCostEstimate(-entryCostEstimator.calculateValueCost(newRecord(existing)));
+            tab.set(slot, packedRecord.attach(key, metadataStore));
+            updateCostEstimate(entryCostEstimator.calculateValueCost(packedRecord));
+            return;
+        }
+
+        if ((size + tombstoneCount + 1) * MAX_FILL_DENOMINATOR > tab.length() * MAX_FILL_NUMERATOR) {
+            tab = rebuild();
+        }
+        if (insert(tab, packedRecord.attach(key, metadataStore))) {
+            tombstoneCount--;
+        }
+        size++;
+
+        updateCostEstimate(entryCostEstimator.calculateEntryCost(key, packedRecord));
+    }
+
+    @Override
+    public void updateRecordValue(Data key, R record, Object value) {
+        Data dataValue = serializationService.toData(value);
+        PackedDataRecord packedRecord = (PackedDataRecord) record;
+        AtomicReferenceArray<byte[]> tab = table;
+        int slot = packedRecord.isAttached() ? findSlot(tab, key.hashCode(), key.toByteArray()) : -1;
+        if (slot < 0) {
+            record.setValue(dataValue);
+            return;
+        }
+
+        updateCostEstimate(-entryCostEstimator.calculateValueCost(newRecord(tab.get(slot))));
+        record.setValue(dataValue);
+        tab.set(slot, packedRecord.getEntry());
+        updateCostEstimate(entryCostEstimator.calculateValueCost(record));
+    }
+
+    @Override
+    public R get(Data key) {
+        byte[] entry = findEntry(key);
+        return entry == null ? null : (R) newRecord(entry);
+    }
+
+    @Override
+    public R getIfSameKey(Data key) {
+        return get(key);
+    }
+
+    @Override
+    public void removeRecord(Data dataKey, R record) {
+        AtomicReferenceArray<byte[]> tab = table;
+        int slot = findSlot(tab, dataKey.hashCode(), dataKey.toByteArray());
+        if (slot < 0) {
+            return;
+        }
+
+        byte[] entry = tab.get(slot);
+        // no probe sequence passes an empty slot, so neither does it pass this one
+        if (tab.get((slot + 1) & (tab.length() - 1)) == null) {
+            tab.set(slot, null);
+        } else {
+            tab.set(slot, TOMBSTONE);
+            tombstoneCount++;
+        }
+        size--;
+        metadataStore.remove(dataKey);
+
+        updateCostEstimate(-entryCostEstimator.calculateEntryCost(dataKey, newRecord(entry)));
+    }
+
+    @Override
+    public boolean containsKey(Data key) {
+        return findEntry(key) != null;
+    }
+
+    @Override
+    public Iterator<Map.Entry<Data, R>> mutationTolerantIterator() {
+        return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear(boolean isDuringShutdown) {
+        table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+        size = 0;
+        tombstoneCount = 0;
+        metadataStore.clear();
+
+        entryCostEstimator.reset();
+    }
+
+    @Override
+    public void destroy(boolean isDuringShutdown) {
+        clear(isDuringShutdown);
+    }
+
+    @Override
+    public EntryCostEstimator getEntryCostEstimator() {
+        return entryCostEstimator;
+    }
+
+    @Override
+    public void setEntryCostEstimator(EntryCostEstimator entryCostEstimator) {
+        this.entryCostEstimator = entryCostEstimator;
+    }
+
+    @Override
+    public Iterable getRandomSamples(int sampleCount) {
+        if (sampleCount < 0) {
+            throw new IllegalArgumentException("Sample count cannot be a negative value.");
+        }
+        if (sampleCount == 0 || size == 0) {
+            return Collections.EMPTY_LIST;
+        }
+
+        List<EntryView> samples = new ArrayList<>(sampleCount);
+        AtomicReferenceArray<byte[]> tab = table;
+        int capacity = tab.length();
+        int start = ThreadLocalRandomProvider.get().nextInt(capacity);
+        for (int i = 0; i < capacity && samples.size() < sampleCount; i++) {
+            byte[] entry = tab.get((start + i) & (capacity - 1));
+            if (isLive(entry)) {
+                samples.add(new LazyEvictableEntryView<>(readKey(entry, statisticsEnabled), newRecord(entry),
+                        serializationService));
+            }
+        }
+        return samples;
+    }
+
+    @Override
+    public MapKeysWithCursor fetchKeys(IterationPointer[] pointers, int size) {
+        List<Data> keys = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size,
+                entry -> keys.add(readKey(entry, statisticsEnabled)));
+        return new MapKeysWithCursor(keys, newPointers);
+    }
+
+    @Override
+    public MapEntriesWithCursor fetchEntries(IterationPointer[] pointers, int size) {
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size,
+                entry -> entries.add(new AbstractMap.SimpleEntry<>(readKey(entry, statisticsEnabled),
+                        newRecord(entry).getValue())));
+        return new MapEntriesWithCursor(entries, newPointers);
+    }
+
+    @Override
+    public Record extractRecordFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getRecord();
+    }
+
+    @Override
+    public Data extractDataKeyFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getDataKey();
+    }
+
+    @Override
+    public Data toBackingDataKeyFormat(Data key) {
+        return key;
+    }
+
+    protected void updateCostEstimate(long entrySize) {
+        entryCostEstimator.adjustEstimateBy(entrySize);
+    }
+
+    private PackedDataRecord newRecord(byte[] entry) {
+        return new PackedDataRecord(entry, metadataStore, statisticsEnabled);
+    }
+
+    private byte[] findEntry(Data key) {
+        AtomicReferenceArray<byte[]> tab = table;
+        byte[] keyBytes = key.toByteArray();
+        int hash = key.hashCode();
+        int mask = tab.length() - 1;
+        for (int slot = homeSlot(hash, tab.length()); ; slot = (slot + 1) & mask) {
+            byte[] entry = tab.get(slot);
+            if (entry == null) {
+                return null;
+            }
+            if (isLive(entry) && keyHash(entry) == hash && keyEquals(entry, keyBytes, statisticsEnabled)) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * @return slot holding the key or {@code -1} if the key is not in the table
+     */
+    private int findSlot(AtomicReferenceArray<byte[]> tab, int hash, byte[] keyBytes) {
+        int mask = tab.length() - 1;
+        for (int slot = homeSlot(hash, tab.length()); ; slot = (slot + 1) & mask) {
+            byte[] entry = tab.get(slot);
+            if (entry == null) {
+                return -1;
+            }
+            if (isLive(entry) && keyHash(entry) == hash && keyEquals(entry, keyBytes, statisticsEnabled)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Puts the entry into the first free slot of its probe sequence.
+     *
+     * @return {@code true} if a tombstone was reused
+     */
+    private static boolean insert(AtomicReferenceArray<byte[]> tab, byte[] entry) {
+        int mask = tab.length() - 1;
+        for (int slot = homeSlot(keyHash(entry), tab.length()); ; slot = (slot + 1) & mask) {
+            byte[] current = tab.get(slot);
+            if (current == null || current == TOMBSTONE) {
+                tab.set(slot, entry);
+                return current == TOMBSTONE;
+            }
+        }
+    }
+
+    /**
+     * Copies the live entries into a new table, doubling the capacity unless
+     * the table is filled mostly by tombstones.
+     */
+    private AtomicReferenceArray<byte[]> rebuild() {
+        AtomicReferenceArray<byte[]> oldTable = table;
+        int capacity = oldTable.length();
+        int newCapacity = (size + 1) * 2 > capacity ? capacity * 2 : capacity;
+        AtomicReferenceArray<byte[]> newTable = new AtomicReferenceArray<>(newCapacity);
+        for (int slot = 0; slot < capacity; slot++) {
+            byte[] entry = oldTable.get(slot);
+            if (isLive(entry)) {
+                insert(newTable, entry);
+            }
+        }
+        tombstoneCount = 0;
+        table = newTable;
+        return newTable;
+    }
+
+    private static boolean isLive(byte[] entry) {
+        return entry != null && entry != TOMBSTONE;
+    }
+
+    private static long mixedHash(byte[] entry) {
+        return fastIntMix(keyHash(entry)) & UNSIGNED_INT_MASK;
+    }
+
+    private static int homeSlot(int hash, int capacity) {
+        return fastIntMix(hash) >>> slotShift(capacity);
+    }
+
+    private static int slotShift(int capacity) {
+        return Integer.numberOfLeadingZeros(capacity - 1);
+    }
+
+    /**
+     * Fetches at least {@code size} entries in the order of their mixed key
+     * hashes, which is also the order of their home slots. The pointer keeps
+     * the mixed hash of the last returned entry instead of a slot, so the
+     * iteration neither skips nor repeats entries which stay in the storage,
+     * even if the table is rebuilt in between.
+     */
+    private IterationPointer[] fetchNext(IterationPointer[] pointers, int size, Consumer<byte[]> consumer) {
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+        if (lastPointer.getIndex() < 0) {
+            return new IterationPointer[]{new IterationPointer(DONE, lastPointer.getSize())};
+        }
+        long cursor = lastPointer.getIndex() == NOT_STARTED ? -1L : lastPointer.getSize() & UNSIGNED_INT_MASK;
+
+        AtomicReferenceArray<byte[]> tab = table;
+        CandidateCollector candidates = new CandidateCollector(tab, cursor, Math.max(size, 1));
+        boolean exhausted = candidates.collect();
+
+        long[] sorted = candidates.sorted();
+        int count = 0;
+        long lastMixedHash = cursor;
+        // entries with equal mixed hashes are always returned together
+        while (count < sorted.length && (count < size || candidateMixedHash(sorted[count]) == lastMixedHash)) {
+            lastMixedHash = candidateMixedHash(sorted[count]);
+            consumer.accept(tab.get(candidateSlot(sorted[count])));
+            count++;
+        }
+
+        boolean done = exhausted && count == sorted.length;
+        return new IterationPointer[]{new IterationPointer(done ? DONE : IN_PROGRESS, (int) lastMixedHash)};
+    }
+
+    /**
+     * Encodes a candidate so that sorting the encoded values orders the
+     * candidates by the unsigned mixed hash.
+     */
+    private static long encodeCandidate(long mixedHash, int slot) {
+        return ((mixedHash ^ SIGN_BIT) << INT_BITS) | slot;
+    }
+
+    private static long candidateMixedHash(long candidate) {
+        return (candidate >>> INT_BITS) ^ SIGN_BIT;
+    }
+
+    private static int candidateSlot(long candidate) {
+        return (int) candidate;
+    }
+
+    /**
+     * Collects the entries whose mixed hash is greater than the cursor,
+     * scanning the slots from the home slot of the cursor up. The scan stops
+     * at an empty slot once enough entries are collected: no entry whose home
+     * slot lies before an empty slot can be stored after it, so the collected
+     * entries are then exactly those with mixed hashes up to that slot.
+     */
+    private static final class CandidateCollector {
+
+        private final AtomicReferenceArray<byte[]> tab;
+        private final long cursor;
+        private final int size;
+        private final int shift;
+
+        private long[] candidates;
+        private int count;
+
+        CandidateCollector(AtomicReferenceArray<byte[]> tab, long cursor, int size) {
+            this.tab = tab;
+            this.cursor = cursor;
+            this.size = size;
+            this.shift = slotShift(tab.length());
+            this.candidates = new long[size];
+        }
+
+        /**
+         * @return {@code true} if the collected entries are all the entries
+         * with a mixed hash greater than the cursor
+         */
+        boolean collect() {
+            int capacity = tab.length();
+            int slot = cursor < 0 ? 0 : (int) (cursor >>> shift);
+            for (; slot < capacity; slot++) {
+                byte[] entry = tab.get(slot);
+                if (entry == null && count >= size) {
+                    return false;
+                }
+                // entries whose probe sequence wrapped around are collected below
+                if (isLive(entry) && homeSlotOf(entry) <= slot) {
+                    add(entry, slot);
+                }
+            }
+            // the cluster at the end of the table may continue at its beginning
+            for (slot = 0; slot < capacity; slot++) {
+                byte[] entry = tab.get(slot);
+                if (entry == null) {
+                    break;
+                }
+                if (isLive(entry) && homeSlotOf(entry) > slot) {
+                    add(entry, slot);
+                }
+            }
+            return true;
+        }
+
+        long[] sorted() {
+            long[] result = Arrays.copyOf(candidates, count);
+            Arrays.sort(result);
+            return result;
+        }
+
+        private int homeSlotOf(byte[] entry) {
+            return (int) (mixedHash(entry) >>> shift);
+        }
+
+        private void add(byte[] entry, int slot) {
+            long mixedHash = mixedHash(entry);
+            if (mixedHash <= cursor) {
+                return;
+            }
+            if (count == candidates.length) {
+                candidates = Arrays.copyOf(candidates, count * 2);
+            }
+            candidates[count++] = encodeCandidate(mixedHash, slot);
+        }
+    }
+
+    /**
+     * Walks the slots from the highest index down. The iterator remembers
+     * only its position, so it stays usable when entries are removed or the
+     * table is rebuilt between two calls.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<Data, R>> {
+
+        private int slot = Integer.MAX_VALUE;
+        private byte[] nextEntry;
+
+        @Override
+        public boolean hasNext() {
+            if (nextEntry != null) {
+                return true;
+            }
+            AtomicReferenceArray<byte[]> tab = table;
+            slot = Math.min(slot, tab.length() - 1);
+            while (slot >= 0) {
+                byte[] entry = tab.get(slot--);
+                if (isLive(entry)) {
+                    nextEntry = entry;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Map.Entry<Data, R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            byte[] entry = nextEntry;
+            nextEntry = null;
+            return new AbstractMap.SimpleEntry<>(readKey(entry, statisticsEnabled), (R) newRecord(entry));
+        }
+    }
+}
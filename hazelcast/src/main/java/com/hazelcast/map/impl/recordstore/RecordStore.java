@@ -20,6 +20,7 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.internal.eviction.ExpiredKey;
+import com.hazelcast.internal.eviction.impl.comparator.TinyLFUEvictionPolicyComparator;
 import com.hazelcast.internal.iteration.IterationPointer;
 import com.hazelcast.internal.monitor.LocalRecordStoreStats;
 import com.hazelcast.internal.nearcache.impl.invalidation.InvalidationQueue;
@@ -130,10 +131,18 @@ public interface RecordStore<R extends Record> {
      * <p>
      * An implementation is not supposed to be thread safe.
      *
+     * @param key    the key of the accessed record
      * @param record the accessed record
      * @param now    the current time
      */
-    void accessRecord(Record record, long now);
+    void accessRecord(Data key, Record record, long now);
+
+    /**
+     * @return the comparator of the {@link EvictionPolicy#TINY_LFU} eviction,
+     * which tracks the key accesses of this record store, or {@code null} if
+     * another eviction policy is used
+     */
+    TinyLFUEvictionPolicyComparator getTinyLFUComparator();
 
     /**
      * Similar to {@link RecordStore#remove(Data, CallerProvenance)}
@@ -362,6 +371,35 @@ public interface RecordStore<R extends Record> {
 
     boolean canAcquireLock(Data key, UUID caller, long threadId);
 
+    /**
+     * Registers a read-through load of the missing key which runs outside
+     * of the partition thread. Until the load is finished, {@link
+     * #canAcquireLock} returns {@code false} for the key, so the lock-aware
+     * operations on the key wait for the loaded value.
+     *
+     * @param key the key being loaded
+     * @return the id of the load, to be passed to {@link #finishOffloadedLoad}
+     */
+    long startOffloadedLoad(Data key);
+
+    /**
+     * @param key the key to check
+     * @return {@code true} if an offloaded load of the key is in progress,
+     * otherwise {@code false}
+     */
+    boolean isOffloadedLoadPending(Data key);
+
+    /**
+     * Unregisters an offloaded load started with {@link #startOffloadedLoad}.
+     *
+     * @param key    the loaded key
+     * @param loadId the id of the load
+     * @return {@code true} if the load was still registered, {@code false}
+     * if it was discarded in the meantime, e.g. the partition was cleared
+     * on migration
+     */
+    boolean finishOffloadedLoad(Data key, long loadId);
+
     String getLockOwnerInfo(Data key);
 
     boolean containsValue(Object testValue);
@@ -478,6 +516,18 @@ public interface RecordStore<R extends Record> {
 
     R loadRecordOrNull(Data key, boolean backup, Address callerAddress);
 
+    /**
+     * Creates a record for a value which was loaded with {@link
+     * MapDataStore#load(Object)} outside of the partition thread. The
+     * record is created the same way {@link #loadRecordOrNull} creates
+     * the record of the value it loads.
+     *
+     * @param key         the loaded key
+     * @param loadedValue the value returned by the map data store
+     * @return the created record or {@code null} if nothing was loaded
+     */
+    R putLoadedRecordOrNull(Data key, Object loadedValue, boolean backup, Address callerAddress);
+
     /**
      * This can be used to release unused resources.
      */
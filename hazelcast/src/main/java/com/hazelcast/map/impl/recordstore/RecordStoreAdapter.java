@@ -45,7 +45,7 @@ public class RecordStoreAdapter implements StoreAdapter<Record> {
         }
 
         // not expired record, update access info
-        recordStore.accessRecord(record, now);
+        recordStore.accessRecord(key, record, now);
         return false;
     }
 
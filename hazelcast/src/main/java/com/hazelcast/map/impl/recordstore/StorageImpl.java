@@ -20,6 +20,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.internal.iteration.IterationPointer;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DataCompressor;
 import com.hazelcast.map.impl.EntryCostEstimator;
 import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
 import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
@@ -45,13 +46,16 @@ public class StorageImpl<R extends Record> implements Storage<Data, R> {
     private final StorageSCHM<R> records;
     private final SerializationService serializationService;
     private final InMemoryFormat inMemoryFormat;
+    private final boolean valueCompressionEnabled;
 
     // not final for testing purposes.
     private EntryCostEstimator<Data, Record> entryCostEstimator;
 
-    StorageImpl(InMemoryFormat inMemoryFormat, SerializationService serializationService) {
+    StorageImpl(InMemoryFormat inMemoryFormat, boolean valueCompressionEnabled,
+                SerializationService serializationService) {
         this.entryCostEstimator = createMapSizeEstimator(inMemoryFormat);
         this.inMemoryFormat = inMemoryFormat;
+        this.valueCompressionEnabled = valueCompressionEnabled && inMemoryFormat == BINARY;
         this.records = new StorageSCHM<>(serializationService);
         this.serializationService = serializationService;
     }
@@ -84,8 +88,12 @@ public class StorageImpl<R extends Record> implements Storage<Data, R> {
     public void updateRecordValue(Data key, R record, Object value) {
         updateCostEstimate(-entryCostEstimator.calculateValueCost(record));
 
-        record.setValue(inMemoryFormat == BINARY
-                ? serializationService.toData(value) : serializationService.toObject(value));
+        if (valueCompressionEnabled) {
+            record.setValue(DataCompressor.compress(serializationService.toData(value)));
+        } else {
+            record.setValue(inMemoryFormat == BINARY
+                    ? serializationService.toData(value) : serializationService.toObject(value));
+        }
 
         updateCostEstimate(entryCostEstimator.calculateValueCost(record));
     }
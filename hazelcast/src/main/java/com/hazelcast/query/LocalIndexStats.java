@@ -111,4 +111,15 @@ public interface LocalIndexStats extends LocalInstanceStats {
      */
     long getMemoryCost();
 
+    /**
+     * Returns the number of local partitions whose entries are fully indexed
+     * by the index.
+     * <p>
+     * While the index is being populated, after it was added or after a
+     * partition migration, the returned value is less than the number of the
+     * owned partitions. Queries are not using the index and fall back to the
+     * full scan until all the owned partitions are indexed.
+     */
+    long getIndexedPartitionCount();
+
 }
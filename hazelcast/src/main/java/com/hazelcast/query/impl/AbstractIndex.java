@@ -32,6 +32,8 @@ import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.predicates.PredicateDataSerializerHook;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
@@ -57,6 +59,11 @@ public abstract class AbstractIndex implements InternalIndex {
     protected final IndexCopyBehavior copyBehavior;
 
     private final String[] components;
+    /**
+     * Attributes covered by this index or {@code null} if this index is not
+     * a covering one.
+     */
+    private final String[] coveredAttributes;
     private final IndexConfig config;
     private final boolean ordered;
     private final PerIndexStats stats;
@@ -79,6 +86,7 @@ public abstract class AbstractIndex implements InternalIndex {
     ) {
         this.config = config;
         this.components = IndexUtils.getComponents(config);
+        this.coveredAttributes = getCoveredAttributes(config, components);
         this.ordered = config.getType() == IndexType.SORTED;
         this.ss = ss;
         this.extractors = extractors;
@@ -136,6 +144,10 @@ public abstract class AbstractIndex implements InternalIndex {
             converter = obtainConverter(entry);
         }
 
+        if (coveredAttributes != null) {
+            entry.coverAttributes(coveredAttributes);
+        }
+
         Object newAttributeValue = extractAttributeValue(entry.getKeyData(), entry.getTargetObject(false));
         if (oldValue == null) {
             indexStore.insert(newAttributeValue, entry, operationStats);
@@ -147,6 +159,11 @@ public abstract class AbstractIndex implements InternalIndex {
         }
     }
 
+    @Override
+    public BulkLoader newBulkLoader(OperationSource operationSource) {
+        return new IndexBulkLoader(indexStore.newBulkInserter(), operationSource);
+    }
+
     @Override
     public void removeEntry(Data key, Object value, OperationSource operationSource) {
         long timestamp = stats.makeTimestamp();
@@ -317,6 +334,19 @@ public abstract class AbstractIndex implements InternalIndex {
         }
     }
 
+    private static String[] getCoveredAttributes(IndexConfig config, String[] components) {
+        List<String> includedAttributes = config.getIncludedAttributes();
+        if (includedAttributes.isEmpty()) {
+            // text indexes verify their candidates against the indexed attribute
+            return config.getType() == IndexType.TEXT ? components : null;
+        }
+        String[] coveredAttributes = Arrays.copyOf(components, components.length + includedAttributes.size());
+        for (int i = 0; i < includedAttributes.size(); ++i) {
+            coveredAttributes[components.length + i] = includedAttributes.get(i);
+        }
+        return coveredAttributes;
+    }
+
     private static boolean converterIsUnassignedOrTransient(TypeConverter converter) {
         if (converter == null) {
             // unassigned
@@ -344,6 +374,42 @@ public abstract class AbstractIndex implements InternalIndex {
         return componentConverter == NULL_CONVERTER ? null : componentConverter;
     }
 
+    private final class IndexBulkLoader implements BulkLoader {
+
+        private final IndexStore.BulkInserter inserter;
+        private final OperationSource operationSource;
+
+        IndexBulkLoader(IndexStore.BulkInserter inserter, OperationSource operationSource) {
+            this.inserter = inserter;
+            this.operationSource = operationSource;
+        }
+
+        @Override
+        public void add(QueryableEntry entry) {
+            long timestamp = stats.makeTimestamp();
+            IndexOperationStats operationStats = stats.createOperationStats();
+
+            // see putEntry for the reasoning behind initializing the converter first
+            if (converterIsUnassignedOrTransient(converter)) {
+                converter = obtainConverter(entry);
+            }
+
+            if (coveredAttributes != null) {
+                entry.coverAttributes(coveredAttributes);
+            }
+
+            Object attributeValue = extractAttributeValue(entry.getKeyData(), entry.getTargetObject(false));
+            inserter.insert(attributeValue, entry, operationStats);
+            stats.onInsert(timestamp, operationStats, operationSource);
+        }
+
+        @Override
+        public void complete() {
+            inserter.complete();
+        }
+
+    }
+
     private static final class NullObject implements ComparableIdentifiedDataSerializable {
 
         @SuppressWarnings("NullableProblems")
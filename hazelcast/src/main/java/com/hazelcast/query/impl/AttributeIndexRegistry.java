@@ -215,6 +215,11 @@ public class AttributeIndexRegistry {
             throw newUnsupportedException();
         }
 
+        @Override
+        public BulkLoader newBulkLoader(OperationSource operationSource) {
+            throw newUnsupportedException();
+        }
+
         @Override
         public void removeEntry(Data key, Object value, OperationSource operationSource) {
             throw newUnsupportedException();
@@ -16,6 +16,7 @@
 
 package com.hazelcast.query.impl;
 
+import com.hazelcast.internal.monitor.impl.IndexOperationStats;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.map.impl.record.Record;
@@ -117,6 +118,11 @@ public abstract class BaseIndexStore implements IndexStore {
         // nothing to destroy
     }
 
+    @Override
+    public BulkInserter newBulkInserter() {
+        return new PassThroughBulkInserter();
+    }
+
     Comparable sanitizeValue(Object input) {
         if (input instanceof CompositeValue) {
             CompositeValue compositeValue = (CompositeValue) input;
@@ -167,6 +173,24 @@ public abstract class BaseIndexStore implements IndexStore {
 
     }
 
+    /**
+     * Inserts every entry into the store as it is added, used by stores
+     * having no dedicated bulk insertion path.
+     */
+    private class PassThroughBulkInserter implements BulkInserter {
+
+        @Override
+        public void insert(Object value, QueryableEntry entry, IndexOperationStats operationStats) {
+            BaseIndexStore.this.insert(value, entry, operationStats);
+        }
+
+        @Override
+        public void complete() {
+            // the entries are already inserted
+        }
+
+    }
+
     private class PassThroughFunctor implements CopyFunctor<Data, QueryableEntry> {
 
         @Override
@@ -21,7 +21,9 @@ import com.hazelcast.internal.monitor.impl.IndexOperationStats;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.query.impl.getters.MultiResult;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The base store for indexes that are unable to work with multi-value
@@ -74,6 +76,36 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
      */
     abstract Object removeInternal(Comparable value, Data recordKey);
 
+    /**
+     * Associates the given value in this index store with all the given
+     * records at once. None of the records may be already associated with
+     * any value.
+     * <p>
+     * The default implementation inserts the records one by one.
+     *
+     * @param value   the value of an attribute this index store is built for.
+     * @param records the records to associate with the given value.
+     */
+    void insertAllInternal(Comparable value, Map<Data, QueryableEntry> records) {
+        for (QueryableEntry record : records.values()) {
+            insertInternal(value, record);
+        }
+    }
+
+    /**
+     * Creates a load collecting the records inserted in bulk into this index
+     * store. The values passed to the load are unwrapped and sanitized, and the
+     * load is completed under the write lock of this store.
+     * <p>
+     * The default load groups the records by their values and associates every
+     * group with its value at once using {@link #insertAllInternal}.
+     *
+     * @return the new load.
+     */
+    BulkLoad newBulkLoad() {
+        return new GroupingBulkLoad();
+    }
+
     final MultiResultSet createMultiResultSet() {
         return multiResultHasToDetectDuplicates ? new DuplicateDetectingMultiResult() : new FastMultiResultSet();
     }
@@ -88,6 +120,11 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
         }
     }
 
+    @Override
+    public final BulkInserter newBulkInserter() {
+        return new SingleValueBulkInserter(newBulkLoad());
+    }
+
     @Override
     public final void update(Object oldValue, Object newValue, QueryableEntry entry, IndexOperationStats operationStats) {
         takeWriteLock();
@@ -149,4 +186,79 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
         }
     }
 
+    /**
+     * Collects the records inserted in bulk into an index store.
+     *
+     * @see #newBulkLoad
+     */
+    interface BulkLoad {
+
+        void add(Comparable value, QueryableEntry record);
+
+        void complete();
+
+    }
+
+    private final class SingleValueBulkInserter implements BulkInserter {
+
+        private final BulkLoad load;
+
+        SingleValueBulkInserter(BulkLoad load) {
+            this.load = load;
+        }
+
+        @Override
+        public void insert(Object value, QueryableEntry entry, IndexOperationStats operationStats) {
+            if (value == NonTerminalJsonValue.INSTANCE) {
+                return;
+            }
+            if (value instanceof MultiResult) {
+                multiResultHasToDetectDuplicates = true;
+                List<Object> results = ((MultiResult) value).getResults();
+                for (Object o : results) {
+                    load.add(sanitizeValue(o), entry);
+                    operationStats.onEntryAdded(null, value);
+                }
+            } else {
+                load.add(sanitizeValue(value), entry);
+                operationStats.onEntryAdded(null, value);
+            }
+        }
+
+        @Override
+        public void complete() {
+            takeWriteLock();
+            try {
+                load.complete();
+            } finally {
+                releaseWriteLock();
+            }
+        }
+
+    }
+
+    /**
+     * Groups the records by their values, so every distinct value is looked up
+     * in the store and, for the copy-on-write stores, copied just once for the
+     * whole load.
+     */
+    private final class GroupingBulkLoad implements BulkLoad {
+
+        private final Map<Comparable, Map<Data, QueryableEntry>> groups = new HashMap<>();
+
+        @Override
+        public void add(Comparable value, QueryableEntry record) {
+            groups.computeIfAbsent(value, v -> new HashMap<>()).put(record.getKeyData(), record);
+        }
+
+        @Override
+        public void complete() {
+            for (Map.Entry<Comparable, Map<Data, QueryableEntry>> group : groups.entrySet()) {
+                insertAllInternal(group.getKey(), group.getValue());
+            }
+            groups.clear();
+        }
+
+    }
+
 }
@@ -121,6 +121,11 @@ public class GlobalQueryContextWithStats extends QueryContext {
             delegate.putEntry(entry, oldValue, operationSource);
         }
 
+        @Override
+        public BulkLoader newBulkLoader(OperationSource operationSource) {
+            return delegate.newBulkLoader(operationSource);
+        }
+
         @Override
         public void removeEntry(Data key, Object value, OperationSource operationSource) {
             delegate.removeEntry(key, value, operationSource);
@@ -76,6 +76,21 @@ public interface Index {
      */
     void putEntry(QueryableEntry entry, Object oldValue, OperationSource operationSource);
 
+    /**
+     * Creates a loader saving new entries into this index in bulk.
+     * <p>
+     * Used while populating the index with the entries of a partition: the
+     * entries are added to the loader while iterating over the partition and
+     * the index store inserts them all at once on {@link BulkLoader#complete},
+     * instead of processing every entry on its own. Index stores having no
+     * bulk insertion path insert every entry as it is added. None of the
+     * entries may be already present in this index.
+     *
+     * @param operationSource the operation source.
+     * @return the new loader.
+     */
+    BulkLoader newBulkLoader(OperationSource operationSource);
+
     /**
      * Removes the entry having the given key and the value from this index.
      *
@@ -162,6 +177,30 @@ public interface Index {
      */
     void destroy();
 
+    /**
+     * Saves new entries into an index in bulk.
+     *
+     * @see #newBulkLoader
+     */
+    interface BulkLoader {
+
+        /**
+         * Adds the given entry to save. The entry may stay invisible to the
+         * index queries until the loader is completed.
+         *
+         * @param entry the entry to save.
+         * @throws QueryException if there were errors while extracting the
+         *                        attribute value from the entry.
+         */
+        void add(QueryableEntry entry);
+
+        /**
+         * Saves all the added entries into the index.
+         */
+        void complete();
+
+    }
+
     /**
      * Identifies an original source of an index operation.
      * <p>
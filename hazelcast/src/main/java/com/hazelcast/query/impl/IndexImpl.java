@@ -47,11 +47,15 @@ public class IndexImpl extends AbstractIndex {
     protected IndexStore createIndexStore(IndexConfig config, PerIndexStats stats) {
         switch (config.getType()) {
             case SORTED:
-                return new OrderedIndexStore(copyBehavior);
+                // composite values are never representable as primitive sort keys
+                return config.getAttributes().size() == 1
+                        ? new OrderedPrimitiveIndexStore(copyBehavior) : new OrderedIndexStore(copyBehavior);
             case HASH:
                 return new UnorderedIndexStore(copyBehavior);
             case BITMAP:
                 return new BitmapIndexStore(config, ss, extractors);
+            case TEXT:
+                return new TextIndexStore();
             default:
                 throw new IllegalArgumentException("unexpected index type: " + config.getType());
         }
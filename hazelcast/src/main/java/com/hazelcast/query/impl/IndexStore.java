@@ -59,6 +59,17 @@ public interface IndexStore {
      */
     void insert(Object value, QueryableEntry entry, IndexOperationStats operationStats);
 
+    /**
+     * Creates an inserter inserting new entries into this index store in bulk.
+     * <p>
+     * Stores having no dedicated bulk insertion path insert every entry as it
+     * is added to the inserter.
+     *
+     * @return the new inserter.
+     * @see Index#newBulkLoader
+     */
+    BulkInserter newBulkInserter();
+
     /**
      * Updates the existing entry mapping in this index by remapping it from the
      * given old value to the new given value.
@@ -170,4 +181,31 @@ public interface IndexStore {
      */
     Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive);
 
+    /**
+     * Inserts new entries into an index store in bulk.
+     *
+     * @see #newBulkInserter
+     */
+    interface BulkInserter {
+
+        /**
+         * Adds the given entry to insert under the given value acting as an
+         * index key. None of the entries added to the inserter may be already
+         * present in the store.
+         *
+         * @param value          the value to insert the entry under.
+         * @param entry          the entry to insert.
+         * @param operationStats the operation stats to update while performing
+         *                       the operation.
+         * @see IndexStore#insert
+         */
+        void insert(Object value, QueryableEntry entry, IndexOperationStats operationStats);
+
+        /**
+         * Inserts all the added entries not inserted yet into the store.
+         */
+        void complete();
+
+    }
+
 }
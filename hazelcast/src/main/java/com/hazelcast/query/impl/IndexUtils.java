@@ -73,8 +73,10 @@ public final class IndexUtils {
                 + " attributes: " + config);
         }
 
-        if (config.getType() == IndexType.BITMAP && originalAttributeNames.size() > 1) {
-            throw new IllegalArgumentException("Composite bitmap indexes are not supported: " + config);
+        boolean compositeSupported = config.getType() != IndexType.BITMAP && config.getType() != IndexType.TEXT;
+        if (!compositeSupported && originalAttributeNames.size() > 1) {
+            throw new IllegalArgumentException("Composite " + getIndexTypeName(config.getType())
+                + " indexes are not supported: " + config);
         }
 
         List<String> normalizedAttributeNames = new ArrayList<>(originalAttributeNames.size());
@@ -125,9 +127,25 @@ public final class IndexUtils {
             normalizedConfig.getBitmapIndexOptions().setUniqueKey(uniqueKey).setUniqueKeyTransformation(uniqueKeyTransformation);
         }
 
+        normalizeIncludedAttributes(config, normalizedConfig);
+
         return normalizedConfig;
     }
 
+    private static void normalizeIncludedAttributes(IndexConfig config, IndexConfig normalizedConfig) {
+        for (String includedAttribute : config.getIncludedAttributes()) {
+            validateAttribute(config, includedAttribute);
+
+            String normalizedIncludedAttribute = canonicalizeAttribute(includedAttribute.trim());
+
+            // indexed attributes are always covered, so they are not included twice
+            if (!normalizedConfig.getAttributes().contains(normalizedIncludedAttribute)
+                    && !normalizedConfig.getIncludedAttributes().contains(normalizedIncludedAttribute)) {
+                normalizedConfig.addIncludedAttribute(normalizedIncludedAttribute);
+            }
+        }
+    }
+
     private static IndexConfig buildNormalizedConfig(String mapName, IndexType indexType, String indexName,
                                                      List<String> normalizedAttributeNames) {
         IndexConfig newConfig = new IndexConfig().setType(indexType);
@@ -274,6 +292,14 @@ public final class IndexUtils {
             }
             gen.close();
 
+            if (!indexCfg.getIncludedAttributes().isEmpty()) {
+                gen.open("included-attributes");
+                for (String includedAttribute : indexCfg.getIncludedAttributes()) {
+                    gen.node("attribute", includedAttribute);
+                }
+                gen.close();
+            }
+
             if (indexCfg.getType() == IndexType.BITMAP) {
                 BitmapIndexOptions bitmapIndexOptions = indexCfg.getBitmapIndexOptions();
 
@@ -303,12 +329,18 @@ public final class IndexUtils {
         IndexConfig res = new IndexConfig().setName(name).setType(type);
 
         for (Node attributesNode : childElements(indexNode)) {
-            if ("attributes".equals(cleanNodeName(attributesNode))) {
+            String attributesNodeName = cleanNodeName(attributesNode);
+            boolean included = "included-attributes".equals(attributesNodeName);
+            if (included || "attributes".equals(attributesNodeName)) {
                 for (Node attributeNode : childElements(attributesNode)) {
                     if ("attribute".equals(cleanNodeName(attributeNode))) {
                         String attribute = DomConfigHelper.getTextContent(attributeNode, domLevel3);
 
-                        res.addAttribute(attribute);
+                        if (included) {
+                            res.addIncludedAttribute(attribute);
+                        } else {
+                            res.addAttribute(attribute);
+                        }
                     }
                 }
             }
@@ -348,6 +380,8 @@ public final class IndexUtils {
             return IndexType.HASH;
         } else if (typeStr.equals(IndexType.BITMAP.name().toLowerCase())) {
             return IndexType.BITMAP;
+        } else if (typeStr.equals(IndexType.TEXT.name().toLowerCase())) {
+            return IndexType.TEXT;
         } else {
             throw new IllegalArgumentException("Unsupported index type: " + typeStr);
         }
@@ -363,24 +397,7 @@ public final class IndexUtils {
         }
 
         String typeStr = DomConfigHelper.getTextContent(attrs.getNamedItem("type"), domLevel3);
-
-        if (typeStr.isEmpty()) {
-            typeStr = IndexConfig.DEFAULT_TYPE.name();
-        }
-
-        typeStr = typeStr.toLowerCase();
-
-        IndexType type;
-
-        if (typeStr.equals(IndexType.SORTED.name().toLowerCase())) {
-            type = IndexType.SORTED;
-        } else if (typeStr.equals(IndexType.HASH.name().toLowerCase())) {
-            type = IndexType.HASH;
-        } else if (typeStr.equals(IndexType.BITMAP.name().toLowerCase())) {
-            type = IndexType.BITMAP;
-        } else {
-            throw new IllegalArgumentException("Unsupported index type: " + typeStr);
-        }
+        IndexType type = getIndexTypeFromXmlName(typeStr);
 
         IndexConfig res = new IndexConfig().setName(name).setType(type);
 
@@ -391,6 +408,8 @@ public final class IndexUtils {
             res.addAttribute(attribute);
         }
 
+        addIncludedAttributesFromYaml(res, attrs.getNamedItem("included-attributes"));
+
         if (type == IndexType.BITMAP) {
             Node optionsNode = DomConfigHelper.childElementWithName(indexNode, "bitmap-index-options");
             if (optionsNode != null) {
@@ -412,6 +431,14 @@ public final class IndexUtils {
         return res;
     }
 
+    private static void addIncludedAttributesFromYaml(IndexConfig config, Node includedAttributesNode) {
+        if (includedAttributesNode != null) {
+            for (Node attributeNode : childElements(includedAttributesNode)) {
+                config.addIncludedAttribute(attributeNode.getNodeValue());
+            }
+        }
+    }
+
     private static String getIndexTypeName(IndexType type) {
         switch (type) {
             case SORTED:
@@ -423,6 +450,9 @@ public final class IndexUtils {
             case BITMAP:
                 return "bitmap";
 
+            case TEXT:
+                return "text";
+
             default:
                 throw new IllegalArgumentException("Unsupported index type: " + type);
         }
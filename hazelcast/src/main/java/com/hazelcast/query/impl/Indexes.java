@@ -68,6 +68,8 @@ public class Indexes {
     private final Map<String, InternalIndex> indexesByName = new ConcurrentHashMap<>(3);
     private final AttributeIndexRegistry attributeIndexRegistry = new AttributeIndexRegistry();
     private final AttributeIndexRegistry evaluateOnlyAttributeIndexRegistry = new AttributeIndexRegistry();
+    // text indexes are kept aside, so they don't shadow bitmap indexes on the same attributes
+    private final AttributeIndexRegistry textAttributeIndexRegistry = new AttributeIndexRegistry();
     private final ConverterCache converterCache = new ConverterCache(this);
     private final Map<String, IndexConfig> definitions = new ConcurrentHashMap<>();
 
@@ -143,7 +145,9 @@ public class Indexes {
         );
 
         indexesByName.put(name, index);
-        if (index.isEvaluateOnly()) {
+        if (indexConfig.getType() == IndexType.TEXT) {
+            textAttributeIndexRegistry.register(index);
+        } else if (index.isEvaluateOnly()) {
             evaluateOnlyAttributeIndexRegistry.register(index);
         } else {
             attributeIndexRegistry.register(index);
@@ -222,6 +226,7 @@ public class Indexes {
         indexesByName.clear();
         attributeIndexRegistry.clear();
         evaluateOnlyAttributeIndexRegistry.clear();
+        textAttributeIndexRegistry.clear();
         converterCache.clear();
 
         for (InternalIndex index : indexesSnapshot) {
@@ -277,6 +282,23 @@ public class Indexes {
         }
     }
 
+    /**
+     * Creates a loader saving new queryable entries into all indexes of this
+     * indexes instance in bulk.
+     *
+     * @param operationSource the operation source.
+     * @return the new loader.
+     * @see Index#newBulkLoader
+     */
+    public Index.BulkLoader newBulkLoader(Index.OperationSource operationSource) {
+        InternalIndex[] indexes = getIndexes();
+        Index.BulkLoader[] loaders = new Index.BulkLoader[indexes.length];
+        for (int i = 0; i < indexes.length; ++i) {
+            loaders[i] = indexes[i].newBulkLoader(operationSource);
+        }
+        return new CompositeBulkLoader(loaders);
+    }
+
     /**
      * Removes the entry from this indexes instance identified by the given key
      * and value.
@@ -397,6 +419,12 @@ public class Indexes {
             index = indexesByName.get(pattern);
         } else {
             index = evaluateOnlyAttributeIndexRegistry.match(pattern, matchHint);
+            if (index == null || !index.canEvaluate(predicateClass)) {
+                InternalIndex textIndex = textAttributeIndexRegistry.match(pattern, matchHint);
+                if (textIndex != null && textIndex.canEvaluate(predicateClass)) {
+                    index = textIndex;
+                }
+            }
             if (index == null) {
                 index = attributeIndexRegistry.match(pattern, matchHint);
             }
@@ -454,6 +482,30 @@ public class Indexes {
         }
     }
 
+    private static final class CompositeBulkLoader implements Index.BulkLoader {
+
+        private final Index.BulkLoader[] loaders;
+
+        CompositeBulkLoader(Index.BulkLoader[] loaders) {
+            this.loaders = loaders;
+        }
+
+        @Override
+        public void add(QueryableEntry entry) {
+            for (Index.BulkLoader loader : loaders) {
+                loader.add(entry);
+            }
+        }
+
+        @Override
+        public void complete() {
+            for (Index.BulkLoader loader : loaders) {
+                loader.complete();
+            }
+        }
+
+    }
+
     /**
      * Builder which is used to create a new Indexes object.
      */
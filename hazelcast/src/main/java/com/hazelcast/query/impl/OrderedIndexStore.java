@@ -40,6 +40,7 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
             new ConcurrentSkipListMap<>(Comparables.COMPARATOR);
 
     private final IndexFunctor<Comparable, QueryableEntry> addFunctor;
+    private final IndexFunctor<Comparable, Map<Data, QueryableEntry>> addAllFunctor;
     private final IndexFunctor<Comparable, Data> removeFunctor;
 
     private volatile Map<Data, QueryableEntry> recordsWithNullValue;
@@ -49,10 +50,12 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
         assert copyOn != null;
         if (copyOn == IndexCopyBehavior.COPY_ON_WRITE) {
             addFunctor = new CopyOnWriteAddFunctor();
+            addAllFunctor = new CopyOnWriteAddAllFunctor();
             removeFunctor = new CopyOnWriteRemoveFunctor();
             recordsWithNullValue = Collections.emptyMap();
         } else {
             addFunctor = new AddFunctor();
+            addAllFunctor = new AddAllFunctor();
             removeFunctor = new RemoveFunctor();
             recordsWithNullValue = new ConcurrentHashMap<>();
         }
@@ -64,6 +67,14 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
         return addFunctor.invoke(value, record);
     }
 
+    @Override
+    void insertAllInternal(Comparable value, Map<Data, QueryableEntry> records) {
+        for (QueryableEntry record : records.values()) {
+            markIndexStoreExpirableIfNecessary(record);
+        }
+        addAllFunctor.invoke(value, records);
+    }
+
     @Override
     Object removeInternal(Comparable value, Data recordKey) {
         return removeFunctor.invoke(value, recordKey);
@@ -256,6 +267,63 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
 
     }
 
+    /**
+     * Adds entries to the given index map without copying it.
+     * Needs to be invoked in a thread-safe way.
+     *
+     * @see IndexCopyBehavior
+     */
+    private class AddAllFunctor implements IndexFunctor<Comparable, Map<Data, QueryableEntry>> {
+
+        @Override
+        public Object invoke(Comparable value, Map<Data, QueryableEntry> entries) {
+            if (value == NULL) {
+                recordsWithNullValue.putAll(entries);
+            } else {
+                Map<Data, QueryableEntry> records = recordMap.get(value);
+                if (records == null) {
+                    records = new ConcurrentHashMap<>(entries.size(), LOAD_FACTOR, 1);
+                    records.putAll(entries);
+                    recordMap.put(value, records);
+                } else {
+                    records.putAll(entries);
+                }
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * Adds entries to the given index map copying it to secure exclusive access.
+     * Needs to be invoked in a thread-safe way.
+     *
+     * @see IndexCopyBehavior
+     */
+    private class CopyOnWriteAddAllFunctor implements IndexFunctor<Comparable, Map<Data, QueryableEntry>> {
+
+        @Override
+        public Object invoke(Comparable value, Map<Data, QueryableEntry> entries) {
+            if (value == NULL) {
+                HashMap<Data, QueryableEntry> copy = new HashMap<>(recordsWithNullValue);
+                copy.putAll(entries);
+                recordsWithNullValue = copy;
+            } else {
+                Map<Data, QueryableEntry> records = recordMap.get(value);
+                if (records == null) {
+                    records = Collections.emptyMap();
+                }
+
+                records = new HashMap<>(records);
+                records.putAll(entries);
+
+                recordMap.put(value, records);
+            }
+            return null;
+        }
+
+    }
+
     /**
      * Removes entry from the given index map without copying it.
      * Needs to be invoked in a thread-safe way.
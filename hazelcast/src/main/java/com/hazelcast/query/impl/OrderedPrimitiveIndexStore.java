@@ -0,0 +1,774 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.query.Predicate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static java.util.Collections.emptySet;
+
+/**
+ * Store indexes rankly for attributes of primitive numeric and timestamp
+ * types.
+ * <p>
+ * Instead of a skip list of boxed values each mapped to its own nested map
+ * of records, the attribute values are encoded as {@code long} sort keys and
+ * kept together with the records in sorted arrays split into bounded leaves,
+ * which makes the store a two-level B+-tree. Records sharing the same value
+ * are ordered by the hash of their keys, so inserts and removals touch only
+ * a handful of slots even for low-cardinality attributes. Bulk loads sort
+ * the loaded records and merge them into the leaves at once.
+ * <p>
+ * The key encoding is chosen by the first non-null value inserted into the
+ * store: integral values ({@code long}, {@code int}, {@code short} and
+ * {@code byte}) are stored as is, floating point values are stored using
+ * their order-preserving bit representation and {@link Date dates} and
+ * {@link Timestamp timestamps} are stored as epoch milliseconds. Values not
+ * representable in the chosen encoding, including {@code null}s, are kept in
+ * a regular {@link OrderedIndexStore}, so the query results are the same as
+ * if the whole index was backed by it.
+ */
+public class OrderedPrimitiveIndexStore extends BaseSingleValueIndexStore {
+
+    static final int LEAF_CAPACITY = 256;
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final List<Leaf> leaves = new ArrayList<>();
+    private final OrderedIndexStore fallback;
+
+    private KeyKind keyKind;
+
+    public OrderedPrimitiveIndexStore(IndexCopyBehavior copyOn) {
+        super(copyOn, true);
+        assert copyOn != null;
+        this.fallback = new OrderedIndexStore(copyOn);
+    }
+
+    @Override
+    Object insertInternal(Comparable value, QueryableEntry record) {
+        if (keyKind == null && value != NULL) {
+            keyKind = KeyKind.of(value);
+        }
+        if (keyKind == null || !keyKind.canEncodeStored(value)) {
+            return fallback.insertInternal(value, record);
+        }
+        markIndexStoreExpirableIfNecessary(record);
+        return put(keyKind.encode(value), record);
+    }
+
+    @Override
+    Object removeInternal(Comparable value, Data recordKey) {
+        if (keyKind == null || !keyKind.canEncodeStored(value)) {
+            return fallback.removeInternal(value, recordKey);
+        }
+        return remove(keyKind.encode(value), recordKey);
+    }
+
+    @Override
+    BulkLoad newBulkLoad() {
+        return new SortedRunLoad();
+    }
+
+    @Override
+    public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
+        // We still need to canonicalize query arguments for ordered indexes to
+        // support InPredicate queries.
+        return Comparables.canonicalizeForHashLookup(value);
+    }
+
+    @Override
+    public Comparable canonicalizeScalarForStorage(Comparable value) {
+        // Returning the original value since ordered indexes are not supporting
+        // hash lookups on their stored values, so there is no need in providing
+        // canonical representations.
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            leaves.clear();
+            keyKind = null;
+            fallback.clear();
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean isEvaluateOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean canEvaluate(Class<? extends Predicate> predicateClass) {
+        return false;
+    }
+
+    @Override
+    public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            collectEqual(value, records);
+            addAll(records, fallback.getRecords(value));
+            return toResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            for (Comparable value : values) {
+                collectEqual(value, records);
+            }
+            addAll(records, fallback.getRecords(values));
+            return toResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparison comparison, Comparable searchedValue) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            if (searchedValue != NULL && canEncodeArgument(searchedValue)) {
+                long key = keyKind.encode(searchedValue);
+                switch (comparison) {
+                    case LESS:
+                        collectRange(Long.MIN_VALUE, true, key, false, records);
+                        break;
+                    case LESS_OR_EQUAL:
+                        collectRange(Long.MIN_VALUE, true, key, true, records);
+                        break;
+                    case GREATER:
+                        collectRange(key, false, Long.MAX_VALUE, true, records);
+                        break;
+                    case GREATER_OR_EQUAL:
+                        collectRange(key, true, Long.MAX_VALUE, true, records);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+                }
+            } else if (searchedValue != NULL) {
+                collectMatching(value -> satisfies(comparison, value, searchedValue), records);
+            }
+            addAll(records, fallback.getRecords(comparison, searchedValue));
+            return toResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        takeReadLock();
+        try {
+            int order = Comparables.compare(from, to);
+            if (order > 0 || order == 0 && (!fromInclusive || !toInclusive)) {
+                return emptySet();
+            }
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            if (canEncodeArgument(from) && canEncodeArgument(to)) {
+                collectRange(keyKind.encode(from), fromInclusive, keyKind.encode(to), toInclusive, records);
+            } else if (from != NULL && to != NULL) {
+                collectMatching(value -> {
+                    int fromOrder = Comparables.compare(from, value);
+                    int toOrder = Comparables.compare(value, to);
+                    return (fromInclusive ? fromOrder <= 0 : fromOrder < 0) && (toInclusive ? toOrder <= 0 : toOrder < 0);
+                }, records);
+            }
+            addAll(records, fallback.getRecords(from, fromInclusive, to, toInclusive));
+            return toResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    private boolean canEncodeArgument(Comparable value) {
+        return keyKind != null && keyKind.canEncodeArgument(value);
+    }
+
+    private void collectEqual(Comparable value, Map<Data, QueryableEntry> records) {
+        if (value == NULL) {
+            return;
+        }
+        if (canEncodeArgument(value)) {
+            long key = keyKind.encode(value);
+            collectRange(key, true, key, true, records);
+        } else {
+            collectMatching(stored -> Comparables.compare(value, stored) == 0, records);
+        }
+    }
+
+    private Set<QueryableEntry> toResultSet(Map<Data, QueryableEntry> records) {
+        // the records are collected into a fresh map on every query, so they
+        // don't need to be copied regardless of the index copy behavior
+        return new SingleResultSet(isExpirable() ? new ExpirationAwareHashMapDelegate(records) : records);
+    }
+
+    private static boolean satisfies(Comparison comparison, Comparable value, Comparable searchedValue) {
+        switch (comparison) {
+            case LESS:
+                return Comparables.compare(value, searchedValue) < 0;
+            case LESS_OR_EQUAL:
+                return Comparables.compare(value, searchedValue) <= 0;
+            case GREATER:
+                return Comparables.compare(searchedValue, value) < 0;
+            case GREATER_OR_EQUAL:
+                return Comparables.compare(searchedValue, value) <= 0;
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    private static void addAll(Map<Data, QueryableEntry> records, Set<QueryableEntry> entries) {
+        for (QueryableEntry entry : entries) {
+            records.put(entry.getKeyData(), entry);
+        }
+    }
+
+    private Object put(long key, QueryableEntry record) {
+        Data recordKey = record.getKeyData();
+        int hash = recordKey.hashCode();
+        if (leaves.isEmpty()) {
+            Leaf leaf = new Leaf();
+            leaf.insert(0, key, hash, record);
+            leaves.add(leaf);
+            return null;
+        }
+
+        int leafIndex = lowerBoundLeaf(key, hash);
+        if (leafIndex == leaves.size()) {
+            // greater than anything stored, append to the last leaf
+            Leaf last = leaves.get(leafIndex - 1);
+            insertAt(leafIndex - 1, last.size, key, hash, record);
+            return null;
+        }
+
+        int position = leaves.get(leafIndex).lowerBound(key, hash);
+        for (int i = leafIndex; i < leaves.size(); ++i) {
+            Leaf leaf = leaves.get(i);
+            for (int j = i == leafIndex ? position : 0; j < leaf.size; ++j) {
+                if (leaf.keys[j] != key || leaf.hashes[j] != hash) {
+                    insertAt(leafIndex, position, key, hash, record);
+                    return null;
+                }
+                if (leaf.records[j].getKeyData().equals(recordKey)) {
+                    QueryableEntry oldRecord = leaf.records[j];
+                    leaf.records[j] = record;
+                    return oldRecord;
+                }
+            }
+        }
+        insertAt(leafIndex, position, key, hash, record);
+        return null;
+    }
+
+    /**
+     * Merges the given run sorted by keys and hashes into the leaves. Only the
+     * leaves the run falls into are rebuilt, each of them at once instead of
+     * shifting its elements for every record inserted into it.
+     */
+    private void putAll(Leaf run) {
+        if (run.size == 0) {
+            return;
+        }
+
+        int leafCount = leaves.size();
+        List<Leaf> merged = new ArrayList<>(leafCount + run.size / LEAF_CAPACITY + 1);
+        int from = 0;
+        for (int i = 0; i < leafCount; ++i) {
+            Leaf leaf = leaves.get(i);
+            int last = leaf.size - 1;
+            int to = i == leafCount - 1 ? run.size : run.upperBound(from, leaf.keys[last], leaf.hashes[last]);
+            if (from == to) {
+                merged.add(leaf);
+            } else {
+                merge(leaf, run, from, to, merged);
+                from = to;
+            }
+        }
+        if (from < run.size) {
+            // there are no leaves yet
+            merge(new Leaf(0), run, from, run.size, merged);
+        }
+
+        leaves.clear();
+        leaves.addAll(merged);
+    }
+
+    /**
+     * Merges the given leaf with the given range of the given run into new
+     * leaves filled evenly up to the leaf capacity.
+     */
+    private static void merge(Leaf leaf, Leaf run, int from, int to, List<Leaf> merged) {
+        int total = leaf.size + to - from;
+        int leafCount = (total + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+        int i = 0;
+        int j = from;
+        for (int k = 0; k < leafCount; ++k) {
+            Leaf target = new Leaf();
+            int targetSize = total / leafCount + (k < total % leafCount ? 1 : 0);
+            while (target.size < targetSize) {
+                if (j == to || i < leaf.size && compare(leaf.keys[i], leaf.hashes[i], run.keys[j], run.hashes[j]) <= 0) {
+                    target.append(leaf.keys[i], leaf.hashes[i], leaf.records[i]);
+                    ++i;
+                } else {
+                    target.append(run.keys[j], run.hashes[j], run.records[j]);
+                    ++j;
+                }
+            }
+            merged.add(target);
+        }
+    }
+
+    private void insertAt(int leafIndex, int position, long key, int hash, QueryableEntry record) {
+        Leaf leaf = leaves.get(leafIndex);
+        if (leaf.size == LEAF_CAPACITY) {
+            Leaf right = leaf.split();
+            leaves.add(leafIndex + 1, right);
+            if (position > leaf.size) {
+                right.insert(position - leaf.size, key, hash, record);
+                return;
+            }
+        }
+        leaf.insert(position, key, hash, record);
+    }
+
+    private Object remove(long key, Data recordKey) {
+        int hash = recordKey.hashCode();
+        int leafIndex = lowerBoundLeaf(key, hash);
+        if (leafIndex == leaves.size()) {
+            return null;
+        }
+
+        int position = leaves.get(leafIndex).lowerBound(key, hash);
+        for (int i = leafIndex; i < leaves.size(); ++i) {
+            Leaf leaf = leaves.get(i);
+            for (int j = i == leafIndex ? position : 0; j < leaf.size; ++j) {
+                if (leaf.keys[j] != key || leaf.hashes[j] != hash) {
+                    return null;
+                }
+                if (leaf.records[j].getKeyData().equals(recordKey)) {
+                    QueryableEntry oldRecord = leaf.records[j];
+                    leaf.remove(j);
+                    if (leaf.size == 0) {
+                        leaves.remove(i);
+                    }
+                    return oldRecord;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void collectRange(long from, boolean fromInclusive, long to, boolean toInclusive,
+                              Map<Data, QueryableEntry> records) {
+        if (!fromInclusive) {
+            if (from == Long.MAX_VALUE) {
+                return;
+            }
+            ++from;
+        }
+
+        int leafIndex = lowerBoundLeaf(from, Integer.MIN_VALUE);
+        if (leafIndex == leaves.size()) {
+            return;
+        }
+
+        int position = leaves.get(leafIndex).lowerBound(from, Integer.MIN_VALUE);
+        for (int i = leafIndex; i < leaves.size(); ++i) {
+            Leaf leaf = leaves.get(i);
+            for (int j = i == leafIndex ? position : 0; j < leaf.size; ++j) {
+                long key = leaf.keys[j];
+                if (toInclusive ? key > to : key >= to) {
+                    return;
+                }
+                QueryableEntry record = leaf.records[j];
+                records.put(record.getKeyData(), record);
+            }
+        }
+    }
+
+    /**
+     * Collects the records having values matching the given filter by decoding
+     * every stored sort key. Used for query arguments not representable in the
+     * key encoding of this store, the lower and upper bounds are compared
+     * against the stored values in the same order {@link OrderedIndexStore}
+     * compares them.
+     */
+    private void collectMatching(ValueFilter filter, Map<Data, QueryableEntry> records) {
+        for (Leaf leaf : leaves) {
+            for (int j = 0; j < leaf.size; ++j) {
+                if (filter.test(keyKind.decode(leaf.keys[j]))) {
+                    QueryableEntry record = leaf.records[j];
+                    records.put(record.getKeyData(), record);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the index of the first leaf having its last element greater
+     * than or equal to the given key and hash, or the number of leaves if
+     * there is no such leaf.
+     */
+    private int lowerBoundLeaf(long key, int hash) {
+        int low = 0;
+        int high = leaves.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Leaf leaf = leaves.get(middle);
+            int last = leaf.size - 1;
+            if (compare(leaf.keys[last], leaf.hashes[last], key, hash) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(long key1, int hash1, long key2, int hash2) {
+        int order = Long.compare(key1, key2);
+        return order != 0 ? order : Integer.compare(hash1, hash2);
+    }
+
+    /**
+     * Collects the records of a bulk load. On completion, the records
+     * representable in the key encoding are sorted by their sort keys and
+     * merged into the leaves, the rest is loaded into the fallback store.
+     */
+    private final class SortedRunLoad implements BulkLoad {
+
+        private final List<Comparable> values = new ArrayList<>();
+        private final List<QueryableEntry> records = new ArrayList<>();
+
+        @Override
+        public void add(Comparable value, QueryableEntry record) {
+            values.add(value);
+            records.add(record);
+        }
+
+        @Override
+        public void complete() {
+            // the key encoding may be chosen only under the write lock
+            BulkLoad fallbackLoad = fallback.newBulkLoad();
+            Leaf run = new Leaf(records.size());
+            for (int i = 0; i < records.size(); ++i) {
+                Comparable value = values.get(i);
+                QueryableEntry record = records.get(i);
+                if (keyKind == null && value != NULL) {
+                    keyKind = KeyKind.of(value);
+                }
+                if (keyKind == null || !keyKind.canEncodeStored(value)) {
+                    fallbackLoad.add(value, record);
+                } else {
+                    markIndexStoreExpirableIfNecessary(record);
+                    run.append(keyKind.encode(value), record.getKeyData().hashCode(), record);
+                }
+            }
+            values.clear();
+            records.clear();
+
+            fallbackLoad.complete();
+            putAll(run.sort());
+        }
+
+    }
+
+    private interface ValueFilter {
+
+        boolean test(Comparable value);
+
+    }
+
+    /**
+     * A bounded sorted run of sort keys, record key hashes and records.
+     * <p>
+     * Bulk loads use it with a custom capacity to collect and sort the run of
+     * the loaded records.
+     */
+    private static final class Leaf {
+
+        private final long[] keys;
+        private final int[] hashes;
+        private final QueryableEntry[] records;
+        private int size;
+
+        Leaf() {
+            this(LEAF_CAPACITY);
+        }
+
+        Leaf(int capacity) {
+            this(new long[capacity], new int[capacity], new QueryableEntry[capacity], 0);
+        }
+
+        private Leaf(long[] keys, int[] hashes, QueryableEntry[] records, int size) {
+            this.keys = keys;
+            this.hashes = hashes;
+            this.records = records;
+            this.size = size;
+        }
+
+        int lowerBound(long key, int hash) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compare(keys[middle], hashes[middle], key, hash) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @return the position of the first element in the given range
+         * greater than the given key and hash.
+         */
+        int upperBound(int from, long key, int hash) {
+            int low = from;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compare(keys[middle], hashes[middle], key, hash) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        void append(long key, int hash, QueryableEntry record) {
+            keys[size] = key;
+            hashes[size] = hash;
+            records[size] = record;
+            ++size;
+        }
+
+        /**
+         * Sorts the elements of this run by keys and hashes using a bottom-up
+         * merge sort.
+         *
+         * @return the sorted run, either this one or a new one.
+         */
+        Leaf sort() {
+            Leaf source = this;
+            Leaf target = new Leaf(size);
+            target.size = size;
+            for (int width = 1; width < size; width <<= 1) {
+                for (int low = 0; low < size; low += width << 1) {
+                    int middle = Math.min(low + width, size);
+                    int high = Math.min(middle + width, size);
+                    mergeRuns(source, low, middle, high, target);
+                }
+                Leaf sorted = target;
+                target = source;
+                source = sorted;
+            }
+            return source;
+        }
+
+        private static void mergeRuns(Leaf source, int low, int middle, int high, Leaf target) {
+            int i = low;
+            int j = middle;
+            for (int k = low; k < high; ++k) {
+                int from;
+                if (j == high || i < middle && compare(source.keys[i], source.hashes[i], source.keys[j], source.hashes[j]) <= 0) {
+                    from = i++;
+                } else {
+                    from = j++;
+                }
+                target.keys[k] = source.keys[from];
+                target.hashes[k] = source.hashes[from];
+                target.records[k] = source.records[from];
+            }
+        }
+
+        void insert(int position, long key, int hash, QueryableEntry record) {
+            int tail = size - position;
+            System.arraycopy(keys, position, keys, position + 1, tail);
+            System.arraycopy(hashes, position, hashes, position + 1, tail);
+            System.arraycopy(records, position, records, position + 1, tail);
+            keys[position] = key;
+            hashes[position] = hash;
+            records[position] = record;
+            ++size;
+        }
+
+        void remove(int position) {
+            int tail = size - position - 1;
+            System.arraycopy(keys, position + 1, keys, position, tail);
+            System.arraycopy(hashes, position + 1, hashes, position, tail);
+            System.arraycopy(records, position + 1, records, position, tail);
+            records[--size] = null;
+        }
+
+        /**
+         * Moves the upper half of this leaf into a new leaf.
+         *
+         * @return the new leaf.
+         */
+        Leaf split() {
+            int half = size >>> 1;
+            Leaf right = new Leaf();
+            right.size = size - half;
+            System.arraycopy(keys, half, right.keys, 0, right.size);
+            System.arraycopy(hashes, half, right.hashes, 0, right.size);
+            System.arraycopy(records, half, right.records, 0, right.size);
+            for (int i = half; i < size; ++i) {
+                records[i] = null;
+            }
+            size = half;
+            return right;
+        }
+
+    }
+
+    /**
+     * Defines how attribute values are mapped to {@code long} sort keys
+     * preserving their order.
+     */
+    private enum KeyKind {
+
+        INTEGRAL {
+            @Override
+            boolean canEncodeStored(Comparable value) {
+                return value != null && Numbers.isLongRepresentable(value.getClass());
+            }
+
+            @Override
+            boolean canEncodeArgument(Comparable value) {
+                return canEncodeStored(value);
+            }
+
+            @Override
+            long encode(Comparable value) {
+                return ((Number) value).longValue();
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return key;
+            }
+        },
+
+        FLOATING_POINT {
+            @Override
+            boolean canEncodeStored(Comparable value) {
+                return value != null && Numbers.isDoubleRepresentable(value.getClass());
+            }
+
+            @Override
+            boolean canEncodeArgument(Comparable value) {
+                if (canEncodeStored(value)) {
+                    return true;
+                }
+                if (value == null || !Numbers.isLongRepresentable(value.getClass())) {
+                    return false;
+                }
+                // Integral query arguments are produced by the canonicalization
+                // of whole floating point values. Zero is excluded since it's
+                // equal to both -0.0 and 0.0.
+                long longValue = ((Number) value).longValue();
+                return longValue != 0 && (long) (double) longValue == longValue;
+            }
+
+            @Override
+            long encode(Comparable value) {
+                long bits = Double.doubleToLongBits(((Number) value).doubleValue());
+                return bits ^ (bits >> (Long.SIZE - 1) & Long.MAX_VALUE);
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return Double.longBitsToDouble(key ^ (key >> (Long.SIZE - 1) & Long.MAX_VALUE));
+            }
+        },
+
+        TIMESTAMP {
+            @Override
+            boolean canEncodeStored(Comparable value) {
+                // timestamps with sub-millisecond precision are not representable
+                return value instanceof Date
+                        && (!(value instanceof Timestamp) || ((Timestamp) value).getNanos() % NANOS_PER_MILLI == 0);
+            }
+
+            @Override
+            boolean canEncodeArgument(Comparable value) {
+                return canEncodeStored(value);
+            }
+
+            @Override
+            long encode(Comparable value) {
+                return ((Date) value).getTime();
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return new Date(key);
+            }
+        };
+
+        abstract boolean canEncodeStored(Comparable value);
+
+        abstract boolean canEncodeArgument(Comparable value);
+
+        abstract long encode(Comparable value);
+
+        abstract Comparable decode(long key);
+
+        static KeyKind of(Comparable value) {
+            for (KeyKind kind : values()) {
+                if (kind.canEncodeStored(value)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -29,8 +29,12 @@ import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.getters.ReflectionHelper;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.query.QueryConstants.KEY_ATTRIBUTE_NAME;
 import static com.hazelcast.query.QueryConstants.THIS_ATTRIBUTE_NAME;
 import static com.hazelcast.query.impl.TypeConverters.IDENTITY_CONVERTER;
@@ -49,6 +53,7 @@ public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K,
 
     private StoreAdapter storeAdapter;
     private Record record;
+    private CoveredAttributes coveredAttributes;
 
     // overridden in some subclasses
     public Metadata getMetadata() {
@@ -77,9 +82,54 @@ public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K,
 
     @Override
     public Object getAttributeValue(String attributeName) throws QueryException {
+        CoveredAttributes coveredAttributes = this.coveredAttributes;
+        if (coveredAttributes != null) {
+            int index = coveredAttributes.indexOf(attributeName);
+            if (index != -1) {
+                return coveredAttributes.values[index];
+            }
+        }
         return extractAttributeValue(attributeName);
     }
 
+    /**
+     * Extracts the values of the given attributes and keeps them in this
+     * entry, so the subsequent {@link #getAttributeValue} calls for them are
+     * served without accessing the value of this entry. Used by covering
+     * indexes storing this entry.
+     * <p>
+     * Attributes which can't be extracted from this entry are skipped, the
+     * extraction failure is reported when their values are requested.
+     *
+     * @param attributeNames the canonical names of the attributes to cover.
+     */
+    void coverAttributes(String[] attributeNames) {
+        CoveredAttributes existing = this.coveredAttributes;
+        List<String> names = new ArrayList<>(attributeNames.length);
+        List<Object> values = new ArrayList<>(attributeNames.length);
+        for (String attributeName : attributeNames) {
+            if (existing != null && existing.indexOf(attributeName) != -1) {
+                continue;
+            }
+            try {
+                values.add(extractAttributeValue(attributeName));
+                names.add(attributeName);
+            } catch (QueryException e) {
+                ignore(e);
+            }
+        }
+        if (names.isEmpty()) {
+            return;
+        }
+        if (existing != null) {
+            names.addAll(Arrays.asList(existing.names));
+            values.addAll(Arrays.asList(existing.values));
+        }
+        // the covered attributes are immutable, so they are safely published
+        // to the query threads even if this entry is shared by several indexes
+        this.coveredAttributes = new CoveredAttributes(names.toArray(new String[0]), values.toArray());
+    }
+
     public abstract V getValue();
 
     public abstract K getKey();
@@ -213,4 +263,30 @@ public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K,
         return isKey ? metadata.getKeyMetadata() : metadata.getValueMetadata();
     }
 
+    /**
+     * Immutable values of the attributes covered by indexes.
+     */
+    private static final class CoveredAttributes {
+
+        private static final String THIS_PREFIX = THIS_ATTRIBUTE_NAME.value() + ".";
+
+        private final String[] names;
+        private final Object[] values;
+
+        CoveredAttributes(String[] names, Object[] values) {
+            this.names = names;
+            this.values = values;
+        }
+
+        int indexOf(String attributeName) {
+            for (int i = 0; i < names.length; ++i) {
+                if (names[i].equals(attributeName)) {
+                    return i;
+                }
+            }
+            return attributeName.startsWith(THIS_PREFIX) ? indexOf(attributeName.substring(THIS_PREFIX.length())) : -1;
+        }
+
+    }
+
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+import com.hazelcast.internal.monitor.impl.IndexOperationStats;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.collection.Object2LongHashMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.bitmap.Bitmap;
+import com.hazelcast.query.impl.getters.MultiResult;
+import com.hazelcast.query.impl.predicates.ILikePredicate;
+import com.hazelcast.query.impl.predicates.LikePredicate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The store of text indexes.
+ * <p>
+ * Internally, manages a {@link Bitmap} instance mapping {@link Trigrams
+ * trigrams} of indexed texts to the entries containing them. LIKE and ILIKE
+ * predicates are evaluated by intersecting the entries of the trigrams of
+ * their expressions and verifying the resulting candidates against the
+ * predicates.
+ */
+public final class TextIndexStore extends BaseIndexStore {
+
+    private static final long NO_KEY = -1;
+    private static final int INITIAL_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.75F;
+
+    private static final Set<Class<? extends Predicate>> EVALUABLE_PREDICATES = new HashSet<>();
+
+    static {
+        EVALUABLE_PREDICATES.add(LikePredicate.class);
+        EVALUABLE_PREDICATES.add(ILikePredicate.class);
+    }
+
+    private final Bitmap<QueryableEntry> bitmap = new Bitmap<>();
+    // maps entry keys to long bitmap keys
+    private final Object2LongHashMap<Data> internalKeys = new Object2LongHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, NO_KEY);
+    private long internalKeyCounter;
+
+    public TextIndexStore() {
+        super(IndexCopyBehavior.NEVER, true);
+    }
+
+    @Override
+    public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
+        return value;
+    }
+
+    @Override
+    public void insert(Object value, QueryableEntry entry, IndexOperationStats operationStats) {
+        Iterator<Long> trigrams = makeIterator(value);
+
+        takeWriteLock();
+        try {
+            markIndexStoreExpirableIfNecessary(entry);
+
+            long internalKey = internalKeyCounter++;
+            long replaced = internalKeys.put(entry.getKeyData(), internalKey);
+            assert replaced == NO_KEY;
+            bitmap.insert(trigrams, internalKey, entry);
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public void update(Object oldValue, Object newValue, QueryableEntry entry, IndexOperationStats operationStats) {
+        Iterator<Long> oldTrigrams = makeIterator(oldValue);
+        Iterator<Long> newTrigrams = makeIterator(newValue);
+
+        takeWriteLock();
+        try {
+            markIndexStoreExpirableIfNecessary(entry);
+
+            long internalKey = internalKeys.getValue(entry.getKeyData());
+            if (internalKey == NO_KEY) {
+                internalKey = internalKeyCounter++;
+                internalKeys.put(entry.getKeyData(), internalKey);
+                bitmap.insert(newTrigrams, internalKey, entry);
+            } else {
+                bitmap.update(oldTrigrams, newTrigrams, internalKey, entry);
+            }
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public void remove(Object value, Data entryKey, Object entryValue, IndexOperationStats operationStats) {
+        Iterator<Long> trigrams = makeIterator(value);
+
+        takeWriteLock();
+        try {
+            long internalKey = internalKeys.removeKey(entryKey);
+            if (internalKey != NO_KEY) {
+                bitmap.remove(trigrams, internalKey);
+            }
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            bitmap.clear();
+            internalKeys.clear();
+            internalKeyCounter = 0;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean isEvaluateOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean canEvaluate(Class<? extends Predicate> predicateClass) {
+        return EVALUABLE_PREDICATES.contains(predicateClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
+        long[] trigrams = Trigrams.ofLikeExpression(((LikePredicate) predicate).getExpression());
+        assert trigrams.length > 0;
+
+        List<QueryableEntry> candidates = new ArrayList<>();
+        takeReadLock();
+        try {
+            Iterator<QueryableEntry> iterator = bitmap.intersect(new TrigramIterator(trigrams));
+            while (iterator.hasNext()) {
+                candidates.add(iterator.next());
+            }
+        } finally {
+            releaseReadLock();
+        }
+
+        // Trigrams only narrow down the candidates, the actual matching is
+        // done by the predicate itself outside of the lock.
+        Map<Data, QueryableEntry> result = new HashMap<>();
+        for (QueryableEntry candidate : candidates) {
+            if (predicate.apply(candidate)) {
+                result.put(candidate.getKeyData(), candidate);
+            }
+        }
+        return toSingleResultSet(isExpirable() && !result.isEmpty() ? new ExpirationAwareHashMapDelegate(result) : result);
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        throw makeUnsupportedOperationException();
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        throw makeUnsupportedOperationException();
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparison comparison, Comparable value) {
+        throw makeUnsupportedOperationException();
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        throw makeUnsupportedOperationException();
+    }
+
+    @Override
+    Comparable canonicalizeScalarForStorage(Comparable value) {
+        return value;
+    }
+
+    private static Iterator<Long> makeIterator(Object value) {
+        if (value instanceof String) {
+            return new TrigramIterator(Trigrams.of((String) value));
+        }
+
+        if (value instanceof MultiResult) {
+            // duplicate trigrams are fine here, bitmaps tolerate them
+            List<Long> trigrams = new ArrayList<>();
+            for (Object result : ((MultiResult<?>) value).getResults()) {
+                if (result instanceof String) {
+                    for (long trigram : Trigrams.of((String) result)) {
+                        trigrams.add(trigram);
+                    }
+                }
+            }
+            return trigrams.iterator();
+        }
+
+        // only texts are indexed, the entry is still tracked to keep the
+        // key mapping consistent
+        return new TrigramIterator(new long[0]);
+    }
+
+    private static UnsupportedOperationException makeUnsupportedOperationException() {
+        return new UnsupportedOperationException("text indexes support only direct predicate evaluation");
+    }
+
+    private static final class TrigramIterator implements Iterator<Long> {
+
+        private final long[] trigrams;
+        private int position;
+
+        TrigramIterator(long[] trigrams) {
+            this.trigrams = trigrams;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < trigrams.length;
+        }
+
+        @Override
+        public Long next() {
+            return trigrams[position++];
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
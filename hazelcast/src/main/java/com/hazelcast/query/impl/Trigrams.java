@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import java.util.Arrays;
+
+/**
+ * Provides utilities which split texts and LIKE expressions into trigrams used
+ * as keys by text indexes.
+ * <p>
+ * A trigram is a run of three consecutive characters packed into a single
+ * {@code long}. Characters are case-folded the same way case-insensitive
+ * patterns compare them, so every text matched by a LIKE or ILIKE expression
+ * contains all the trigrams of the literal parts of the expression.
+ */
+public final class Trigrams {
+
+    private static final long[] EMPTY = new long[0];
+
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final int CHAR_BITS = 16;
+
+    private static final char ESCAPE = '\\';
+    private static final char ANY_STRING = '%';
+    private static final char ANY_CHARACTER = '_';
+
+    private Trigrams() {
+    }
+
+    /**
+     * Splits the given text into trigrams.
+     *
+     * @param text the text to split.
+     * @return the distinct trigrams of the text in ascending order.
+     */
+    public static long[] of(String text) {
+        String folded = fold(text);
+        int count = folded.length() - TRIGRAM_LENGTH + 1;
+        if (count <= 0) {
+            return EMPTY;
+        }
+
+        long[] trigrams = new long[count];
+        for (int i = 0; i < count; ++i) {
+            trigrams[i] = trigram(folded, i);
+        }
+        return distinct(trigrams, count);
+    }
+
+    /**
+     * Splits the literal parts of the given LIKE expression into trigrams.
+     * <p>
+     * Wildcards preceded by a backslash are treated as literal characters, the
+     * same way {@link com.hazelcast.query.impl.predicates.LikePredicate} does.
+     *
+     * @param expression the LIKE expression to split, may be {@code null}.
+     * @return the distinct trigrams every text matched by the expression
+     * contains in ascending order; empty if the expression has no literal part
+     * of at least three characters.
+     */
+    public static long[] ofLikeExpression(String expression) {
+        if (expression == null) {
+            return EMPTY;
+        }
+
+        long[] trigrams = EMPTY;
+
+        StringBuilder literal = new StringBuilder(expression.length());
+        for (int i = 0; i < expression.length(); ++i) {
+            char c = expression.charAt(i);
+            if (c == ESCAPE && i + 1 < expression.length() && isWildcard(expression.charAt(i + 1))) {
+                literal.append(expression.charAt(++i));
+            } else if (isWildcard(c)) {
+                trigrams = concat(trigrams, of(literal.toString()));
+                literal.setLength(0);
+            } else {
+                literal.append(c);
+            }
+        }
+        trigrams = concat(trigrams, of(literal.toString()));
+
+        return distinct(trigrams, trigrams.length);
+    }
+
+    private static long[] concat(long[] trigrams, long[] otherTrigrams) {
+        if (otherTrigrams.length == 0) {
+            return trigrams;
+        }
+        if (trigrams.length == 0) {
+            return otherTrigrams;
+        }
+
+        long[] result = Arrays.copyOf(trigrams, trigrams.length + otherTrigrams.length);
+        System.arraycopy(otherTrigrams, 0, result, trigrams.length, otherTrigrams.length);
+        return result;
+    }
+
+    private static boolean isWildcard(char c) {
+        return c == ANY_STRING || c == ANY_CHARACTER;
+    }
+
+    private static String fold(String text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+            i += Character.charCount(codePoint);
+        }
+        return folded.toString();
+    }
+
+    private static long trigram(String text, int index) {
+        return (long) text.charAt(index) << (2 * CHAR_BITS)
+                | (long) text.charAt(index + 1) << CHAR_BITS
+                | text.charAt(index + 2);
+    }
+
+    private static long[] distinct(long[] trigrams, int count) {
+        Arrays.sort(trigrams, 0, count);
+
+        int distinctCount = 0;
+        for (int i = 0; i < count; ++i) {
+            if (distinctCount == 0 || trigrams[distinctCount - 1] != trigrams[i]) {
+                trigrams[distinctCount++] = trigrams[i];
+            }
+        }
+        return distinctCount == trigrams.length ? trigrams : Arrays.copyOf(trigrams, distinctCount);
+    }
+
+}
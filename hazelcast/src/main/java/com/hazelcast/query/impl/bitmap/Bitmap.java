@@ -18,16 +18,26 @@ package com.hazelcast.query.impl.bitmap;
 
 import com.hazelcast.core.TypeConverter;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.Comparables;
 import com.hazelcast.query.impl.predicates.AndPredicate;
 import com.hazelcast.query.impl.predicates.EqualPredicate;
 import com.hazelcast.query.impl.predicates.InPredicate;
 import com.hazelcast.query.impl.predicates.NotEqualPredicate;
 import com.hazelcast.query.impl.predicates.NotPredicate;
 import com.hazelcast.query.impl.predicates.OrPredicate;
+import com.hazelcast.query.impl.predicates.RangePredicate;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
 
 /**
  * Provides indexing and querying capabilities for a single attribute of entries
@@ -36,7 +46,9 @@ import java.util.Map;
  * <p>
  * Internally, each bitmap manages a set of sparse bit sets, one for each
  * possible attribute value, and a sparse array to map from unique {@code long}
- * entry keys back to entries.
+ * entry keys back to entries. The bit sets are additionally ordered by their
+ * attribute values, a range query is answered by a union of the bit sets
+ * of the values falling into the range.
  *
  * @param <E> the type of entries being indexed.
  */
@@ -47,6 +59,10 @@ public final class Bitmap<E> {
 
     private final SparseArray<E> entries = new SparseArray<>();
 
+    // The same bit sets ordered by their values to answer range queries, null
+    // if some of the values turned out to be mutually incomparable.
+    private NavigableMap<Comparable, SparseBitSet> orderedBitSets = new TreeMap<>(Comparables.COMPARATOR);
+
     /**
      * Inserts the given values associated with the given entry having the given
      * unique key.
@@ -57,15 +73,7 @@ public final class Bitmap<E> {
      */
     public void insert(Iterator values, long key, E entry) {
         while (values.hasNext()) {
-            Object value = values.next();
-            assert value != null;
-
-            SparseBitSet bitSet = bitSets.get(value);
-            if (bitSet == null) {
-                bitSet = new SparseBitSet();
-                bitSets.put(value, bitSet);
-            }
-            bitSet.add(key);
+            add(values.next(), key);
         }
 
         entries.set(key, entry);
@@ -82,25 +90,11 @@ public final class Bitmap<E> {
      */
     public void update(Iterator oldValues, Iterator newValues, long key, E entry) {
         while (oldValues.hasNext()) {
-            Object value = oldValues.next();
-            assert value != null;
-
-            SparseBitSet bitSet = bitSets.get(value);
-            if (bitSet != null) {
-                bitSet.remove(key);
-            }
+            remove(oldValues.next(), key);
         }
 
         while (newValues.hasNext()) {
-            Object value = newValues.next();
-            assert value != null;
-
-            SparseBitSet bitSet = bitSets.get(value);
-            if (bitSet == null) {
-                bitSet = new SparseBitSet();
-                bitSets.put(value, bitSet);
-            }
-            bitSet.add(key);
+            add(newValues.next(), key);
         }
 
         entries.set(key, entry);
@@ -115,15 +109,7 @@ public final class Bitmap<E> {
      */
     public void remove(Iterator values, long key) {
         while (values.hasNext()) {
-            Object value = values.next();
-            assert value != null;
-
-            SparseBitSet bitSet = bitSets.get(value);
-            if (bitSet != null) {
-                if (bitSet.remove(key)) {
-                    bitSets.remove(value);
-                }
-            }
+            remove(values.next(), key);
         }
 
         entries.clear(key);
@@ -134,6 +120,7 @@ public final class Bitmap<E> {
      */
     public void clear() {
         bitSets.clear();
+        orderedBitSets = new TreeMap<>(Comparables.COMPARATOR);
         entries.clear();
     }
 
@@ -143,7 +130,8 @@ public final class Bitmap<E> {
      * <p>
      * The following predicates (and combinations of them) are supported:
      * {@link AndPredicate}, {@link OrPredicate}, {@link NotPredicate}, {@link
-     * NotEqualPredicate}, {@link EqualPredicate}, {@link InPredicate}.
+     * NotEqualPredicate}, {@link EqualPredicate}, {@link InPredicate} and
+     * other {@link RangePredicate range predicates}.
      *
      * @param predicate the predicate to evaluate.
      * @param converter the converter to use for the predicate arguments
@@ -154,7 +142,34 @@ public final class Bitmap<E> {
         return new EntryIterator<>(predicateIterator(predicate, converter), entries.iterator());
     }
 
-    @SuppressWarnings("checkstyle:npathcomplexity")
+    /**
+     * Intersects the entries associated with the given values.
+     *
+     * @param values the values to intersect the entries of.
+     * @return an iterator containing entries associated with every of the
+     * given values.
+     */
+    public Iterator<E> intersect(Iterator values) {
+        List<AscendingLongIterator> iterators = new ArrayList<>();
+        while (values.hasNext()) {
+            Object value = values.next();
+            assert value != null;
+
+            SparseBitSet bitSet = bitSets.get(value);
+            if (bitSet == null) {
+                // no entries associated with one of the values
+                return new EntryIterator<>(AscendingLongIterator.EMPTY, entries.iterator());
+            }
+            iterators.add(bitSet.iterator());
+        }
+        assert !iterators.isEmpty();
+
+        AscendingLongIterator iterator = iterators.size() == 1 ? iterators.get(0)
+                : BitmapAlgorithms.and(iterators.toArray(new AscendingLongIterator[0]));
+        return new EntryIterator<>(iterator, entries.iterator());
+    }
+
+    @SuppressWarnings({"checkstyle:npathcomplexity", "checkstyle:returncount"})
     private AscendingLongIterator predicateIterator(Predicate predicate, TypeConverter converter) {
         if (predicate instanceof AndPredicate) {
             Predicate[] predicates = ((AndPredicate) predicate).getPredicates();
@@ -196,6 +211,10 @@ public final class Bitmap<E> {
             return BitmapAlgorithms.or(valueIterators(values, converter));
         }
 
+        if (predicate instanceof RangePredicate) {
+            return rangeIterator((RangePredicate) predicate, converter);
+        }
+
         throw new IllegalArgumentException("unexpected predicate: " + predicate);
     }
 
@@ -212,6 +231,121 @@ public final class Bitmap<E> {
         return bitSet == null ? AscendingLongIterator.EMPTY : bitSet.iterator();
     }
 
+    private AscendingLongIterator rangeIterator(RangePredicate predicate, TypeConverter converter) {
+        Comparable from = predicate.getFrom() == null ? null : converter.convert(predicate.getFrom());
+        Comparable to = predicate.getTo() == null ? null : converter.convert(predicate.getTo());
+        if (from == NULL || to == NULL) {
+            // nulls never satisfy range predicates
+            return AscendingLongIterator.EMPTY;
+        }
+
+        boolean fromInclusive = predicate.isFromInclusive();
+        boolean toInclusive = predicate.isToInclusive();
+        if (from != null && to != null) {
+            int order = Comparables.compare(from, to);
+            if (order > 0 || order == 0 && !(fromInclusive && toInclusive)) {
+                return AscendingLongIterator.EMPTY;
+            }
+        }
+
+        NavigableMap<Comparable, SparseBitSet> orderedBitSets = this.orderedBitSets;
+        Collection<SparseBitSet> matched = orderedBitSets == null ? scan(from, fromInclusive, to, toInclusive)
+                : subMap(orderedBitSets, from, fromInclusive, to, toInclusive).values();
+        return orIterator(matched);
+    }
+
+    private static AscendingLongIterator orIterator(Collection<SparseBitSet> matched) {
+        if (matched.isEmpty()) {
+            return AscendingLongIterator.EMPTY;
+        }
+        AscendingLongIterator[] iterators = new AscendingLongIterator[matched.size()];
+        int i = 0;
+        for (SparseBitSet bitSet : matched) {
+            iterators[i++] = bitSet.iterator();
+        }
+        return iterators.length == 1 ? iterators[0] : BitmapAlgorithms.or(iterators);
+    }
+
+    private static NavigableMap<Comparable, SparseBitSet> subMap(NavigableMap<Comparable, SparseBitSet> orderedBitSets,
+                                                                 Comparable from, boolean fromInclusive,
+                                                                 Comparable to, boolean toInclusive) {
+        if (from == null) {
+            return to == null ? orderedBitSets : orderedBitSets.headMap(to, toInclusive);
+        } else {
+            return to == null ? orderedBitSets.tailMap(from, fromInclusive) : orderedBitSets.subMap(from, fromInclusive, to,
+                    toInclusive);
+        }
+    }
+
+    private Collection<SparseBitSet> scan(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        List<SparseBitSet> matched = new ArrayList<>();
+        for (Map.Entry<Object, SparseBitSet> entry : bitSets.entrySet()) {
+            if (isOrderable(entry.getKey())) {
+                try {
+                    Comparable value = (Comparable) entry.getKey();
+                    if ((from == null || satisfies(Comparables.compare(value, from), fromInclusive, true))
+                            && (to == null || satisfies(Comparables.compare(value, to), toInclusive, false))) {
+                        matched.add(entry.getValue());
+                    }
+                } catch (ClassCastException e) {
+                    // values of other types never satisfy the range
+                    ignore(e);
+                }
+            }
+        }
+        return matched;
+    }
+
+    private static boolean satisfies(int order, boolean inclusive, boolean greater) {
+        return order == 0 ? inclusive : greater == order > 0;
+    }
+
+    private void add(Object value, long key) {
+        assert value != null;
+
+        SparseBitSet bitSet = bitSets.get(value);
+        if (bitSet == null) {
+            bitSet = new SparseBitSet();
+            bitSets.put(value, bitSet);
+            addOrdered(value, bitSet);
+        }
+        bitSet.add(key);
+    }
+
+    private void remove(Object value, long key) {
+        assert value != null;
+
+        SparseBitSet bitSet = bitSets.get(value);
+        if (bitSet != null) {
+            if (bitSet.remove(key)) {
+                bitSets.remove(value);
+                if (orderedBitSets != null && isOrderable(value)) {
+                    orderedBitSets.remove(value);
+                }
+            }
+        }
+    }
+
+    private void addOrdered(Object value, SparseBitSet bitSet) {
+        if (orderedBitSets == null || !isOrderable(value)) {
+            return;
+        }
+
+        try {
+            if (orderedBitSets.put((Comparable) value, bitSet) != null) {
+                // distinct values comparing as equal, e.g. 1 and 1L
+                orderedBitSets = null;
+            }
+        } catch (ClassCastException e) {
+            // mutually incomparable values, range queries fall back to scanning
+            orderedBitSets = null;
+        }
+    }
+
+    private static boolean isOrderable(Object value) {
+        return value instanceof Comparable && value != NULL;
+    }
+
     private AscendingLongIterator[] valueIterators(Comparable[] values, TypeConverter converter) {
         AscendingLongIterator[] iterators = new AscendingLongIterator[values.length];
         for (int i = 0; i < values.length; ++i) {
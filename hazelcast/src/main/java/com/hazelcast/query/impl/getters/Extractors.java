@@ -80,6 +80,16 @@ public final class Extractors {
         return null;
     }
 
+    /**
+     * Checks whether a custom {@link ValueExtractor} is registered for the given attribute.
+     *
+     * @param attributeName attribute name, possibly with arguments
+     * @return {@code true} if the attribute is extracted with a custom extractor
+     */
+    public boolean hasExtractor(String attributeName) {
+        return extractors.containsKey(extractAttributeNameNameWithoutArguments(attributeName));
+    }
+
     /**
      * Returns the form of this data that is queryable.
      * Returns {@link Data} if {@code target} is
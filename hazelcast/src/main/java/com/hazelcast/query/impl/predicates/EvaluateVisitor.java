@@ -21,6 +21,7 @@ import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.Indexes;
 import com.hazelcast.query.impl.QueryContext.IndexMatchHint;
+import com.hazelcast.query.impl.Trigrams;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -40,7 +41,7 @@ public class EvaluateVisitor extends AbstractVisitor {
     @SuppressWarnings({"checkstyle:npathcomplexity", "checkstyle:cyclomaticcomplexity"})
     @Override
     public Predicate visit(AndPredicate andPredicate, Indexes indexes) {
-        Predicate[] predicates = andPredicate.predicates;
+        Predicate[] predicates = visitBoundedRanges(andPredicate.predicates, indexes);
 
         // Try to group evaluable predicates by their indexes.
 
@@ -73,8 +74,8 @@ public class EvaluateVisitor extends AbstractVisitor {
         }
 
         if (!requiresGeneration) {
-            // no changes to the predicates required
-            return andPredicate;
+            // no grouping required
+            return predicates == andPredicate.predicates ? andPredicate : new AndPredicate(predicates);
         }
 
         // Add non-evaluable predicates to the output.
@@ -261,4 +262,86 @@ public class EvaluateVisitor extends AbstractVisitor {
         return new EvaluatePredicate(predicate, index.getName());
     }
 
+    @Override
+    public Predicate visit(LikePredicate predicate, Indexes indexes) {
+        Index index = indexes.matchIndex(predicate.attributeName, predicate.getClass(), IndexMatchHint.PREFER_UNORDERED,
+                SKIP_PARTITIONS_COUNT_CHECK);
+        if (index == null) {
+            return predicate;
+        }
+
+        TypeConverter converter = index.getConverter();
+        if (converter == null) {
+            return predicate;
+        }
+
+        // text indexes can't narrow down expressions having no trigrams
+        if (Trigrams.ofLikeExpression(predicate.getExpression()).length == 0) {
+            return predicate;
+        }
+
+        return new EvaluatePredicate(predicate, index.getName());
+    }
+
+    @Override
+    public Predicate visit(GreaterLessPredicate predicate, Indexes indexes) {
+        return visitRange(predicate, indexes);
+    }
+
+    @Override
+    public Predicate visit(BetweenPredicate predicate, Indexes indexes) {
+        return visitRange(predicate, indexes);
+    }
+
+    /**
+     * Visits the given bounded range predicate produced by {@link
+     * RangeVisitor}. Bounded range predicates are not visitable since they
+     * are never transferred between members, so the visiting is performed
+     * explicitly.
+     */
+    Predicate visit(BoundedRangePredicate predicate, Indexes indexes) {
+        return visitRange(predicate, indexes);
+    }
+
+    private static Predicate[] visitBoundedRanges(Predicate[] predicates, Indexes indexes) {
+        Predicate[] output = predicates;
+        for (int i = 0; i < predicates.length; ++i) {
+            Predicate predicate = predicates[i];
+            if (!(predicate instanceof BoundedRangePredicate)) {
+                continue;
+            }
+
+            Predicate visited = visitRange((BoundedRangePredicate) predicate, indexes);
+            if (visited != predicate) {
+                if (output == predicates) {
+                    output = predicates.clone();
+                }
+                output[i] = visited;
+            }
+        }
+        return output;
+    }
+
+    private static Predicate visitRange(RangePredicate predicate, Indexes indexes) {
+        // ordered indexes are able to answer range queries on their own
+        Index orderedIndex = indexes.matchIndex(predicate.getAttribute(), IndexMatchHint.PREFER_ORDERED,
+                SKIP_PARTITIONS_COUNT_CHECK);
+        if (orderedIndex != null && orderedIndex.isOrdered()) {
+            return predicate;
+        }
+
+        Index index = indexes.matchIndex(predicate.getAttribute(), predicate.getClass(), IndexMatchHint.PREFER_UNORDERED,
+                SKIP_PARTITIONS_COUNT_CHECK);
+        if (index == null) {
+            return predicate;
+        }
+
+        TypeConverter converter = index.getConverter();
+        if (converter == null) {
+            return predicate;
+        }
+
+        return new EvaluatePredicate(predicate, index.getName());
+    }
+
 }
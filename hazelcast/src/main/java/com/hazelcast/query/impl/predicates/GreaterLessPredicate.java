@@ -23,6 +23,7 @@ import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.Comparables;
 import com.hazelcast.query.impl.Comparison;
 import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.Indexes;
 import com.hazelcast.query.impl.QueryContext;
 import com.hazelcast.query.impl.QueryableEntry;
 
@@ -33,7 +34,8 @@ import java.util.Set;
  * Greater Less Predicate
  */
 @BinaryInterface
-public final class GreaterLessPredicate extends AbstractIndexAwarePredicate implements NegatablePredicate, RangePredicate {
+public final class GreaterLessPredicate extends AbstractIndexAwarePredicate implements NegatablePredicate, RangePredicate,
+        VisitablePredicate {
 
     private static final long serialVersionUID = 1L;
 
@@ -161,6 +163,11 @@ public final class GreaterLessPredicate extends AbstractIndexAwarePredicate impl
         return result;
     }
 
+    @Override
+    public Predicate accept(Visitor visitor, Indexes indexes) {
+        return visitor.visit(this, indexes);
+    }
+
     @Override
     public String getAttribute() {
         return attributeName;
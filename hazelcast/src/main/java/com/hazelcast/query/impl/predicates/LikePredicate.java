@@ -19,6 +19,8 @@ package com.hazelcast.query.impl.predicates;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.internal.serialization.BinaryInterface;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.Indexes;
 
 import java.io.IOException;
 import java.util.regex.Matcher;
@@ -28,7 +30,7 @@ import java.util.regex.Pattern;
  * Like Predicate
  */
 @BinaryInterface
-public class LikePredicate extends AbstractPredicate {
+public class LikePredicate extends AbstractPredicate implements VisitablePredicate {
 
     private static final long serialVersionUID = 1L;
 
@@ -43,6 +45,18 @@ public class LikePredicate extends AbstractPredicate {
         this.expression = expression;
     }
 
+    /**
+     * @return the LIKE expression of this predicate.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public Predicate accept(Visitor visitor, Indexes indexes) {
+        return visitor.visit(this, indexes);
+    }
+
     @Override
     protected boolean applyForSingleAttributeValue(Comparable attributeValue) {
         String attributeValueString = (String) attributeValue;
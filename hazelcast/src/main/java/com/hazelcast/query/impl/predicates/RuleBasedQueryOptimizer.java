@@ -28,7 +28,7 @@ public final class RuleBasedQueryOptimizer implements QueryOptimizer {
     private final Visitor rangeVisitor = new RangeVisitor();
     private final Visitor orToInVisitor = new OrToInVisitor();
     private final Visitor compositeIndexVisitor = new CompositeIndexVisitor();
-    private final Visitor evaluateVisitor = new EvaluateVisitor();
+    private final EvaluateVisitor evaluateVisitor = new EvaluateVisitor();
 
     @SuppressWarnings("unchecked")
     public <K, V> Predicate<K, V> optimize(Predicate<K, V> predicate, Indexes indexes) {
@@ -47,6 +47,8 @@ public final class RuleBasedQueryOptimizer implements QueryOptimizer {
         }
         if (optimized instanceof VisitablePredicate) {
             optimized = ((VisitablePredicate) optimized).accept(evaluateVisitor, indexes);
+        } else if (optimized instanceof BoundedRangePredicate) {
+            optimized = evaluateVisitor.visit((BoundedRangePredicate) optimized, indexes);
         }
         return optimized;
     }
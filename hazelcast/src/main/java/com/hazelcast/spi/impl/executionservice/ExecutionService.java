@@ -99,6 +99,22 @@ public interface ExecutionService {
      */
     String MAP_LOAD_ALL_KEYS_EXECUTOR = "hz:map-loadAllKeys";
 
+    /**
+     * The name of the executor that loads the key segments assigned to this
+     * member and dispatches the keys to the partition owners for value loading.
+     *
+     * @see com.hazelcast.map.SegmentedMapLoader#loadAllKeys(int)
+     */
+    String MAP_LOAD_KEY_SEGMENTS_EXECUTOR = "hz:map-loadKeySegments";
+
+    /**
+     * The name of the executor that runs the offloaded read-through loads
+     * of single keys.
+     *
+     * @see com.hazelcast.config.MapStoreConfig#setOffload(boolean)
+     */
+    String MAP_LOAD_OFFLOAD_EXECUTOR = "hz:map-loadOffload";
+
     /**
      * Name of the Management Center executor. Used to execute blocking tasks
      * related with operations run by Management Center.
@@ -339,6 +339,13 @@ public final class ClusterProperty {
     public static final HazelcastProperty MAP_LOAD_CHUNK_SIZE
             = new HazelcastProperty("hazelcast.map.load.chunk.size", 1000);
 
+    /**
+     * The maximum number of key segments a member loads concurrently when the
+     * map loader is a {@link com.hazelcast.map.SegmentedMapLoader}.
+     */
+    public static final HazelcastProperty MAP_LOAD_SEGMENT_CONCURRENCY
+            = new HazelcastProperty("hazelcast.map.load.segment.concurrency", 4);
+
     /**
      * The delay until the first run of the split-brain handler.
      */
@@ -22,6 +22,13 @@ import com.hazelcast.internal.serialization.impl.FactoryIdHelper;
 import com.hazelcast.internal.util.ConstructorFunction;
 import com.hazelcast.nio.serialization.DataSerializableFactory;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.sql.impl.exec.agg.CountAggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.MaxAggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.MinAggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.SumAggregateFunction;
+import com.hazelcast.sql.impl.exec.scan.index.IndexEqualsFilter;
+import com.hazelcast.sql.impl.exec.scan.index.IndexInFilter;
+import com.hazelcast.sql.impl.exec.scan.index.IndexRangeFilter;
 import com.hazelcast.sql.impl.expression.CastExpression;
 import com.hazelcast.sql.impl.expression.ColumnExpression;
 import com.hazelcast.sql.impl.expression.ConstantExpression;
@@ -50,12 +57,19 @@ import com.hazelcast.sql.impl.operation.QueryCheckResponseOperation;
 import com.hazelcast.sql.impl.operation.QueryExecuteOperation;
 import com.hazelcast.sql.impl.operation.QueryExecuteOperationFragment;
 import com.hazelcast.sql.impl.operation.QueryFlowControlExchangeOperation;
+import com.hazelcast.sql.impl.plan.node.AggregatePlanNode;
 import com.hazelcast.sql.impl.plan.node.FilterPlanNode;
+import com.hazelcast.sql.impl.plan.node.HashJoinPlanNode;
+import com.hazelcast.sql.impl.plan.node.MapIndexScanPlanNode;
 import com.hazelcast.sql.impl.plan.node.MapScanPlanNode;
 import com.hazelcast.sql.impl.plan.node.ProjectPlanNode;
 import com.hazelcast.sql.impl.plan.node.RootPlanNode;
+import com.hazelcast.sql.impl.plan.node.SortPlanNode;
+import com.hazelcast.sql.impl.plan.node.io.BroadcastSendPlanNode;
 import com.hazelcast.sql.impl.plan.node.io.ReceivePlanNode;
+import com.hazelcast.sql.impl.plan.node.io.ReceiveSortMergePlanNode;
 import com.hazelcast.sql.impl.plan.node.io.RootSendPlanNode;
+import com.hazelcast.sql.impl.plan.node.io.UnicastSendPlanNode;
 import com.hazelcast.sql.impl.row.EmptyRow;
 import com.hazelcast.sql.impl.row.EmptyRowBatch;
 import com.hazelcast.sql.impl.row.HeapRow;
@@ -123,7 +137,26 @@ public class SqlDataSerializerHook implements DataSerializerHook {
     public static final int EXPRESSION_IS_NOT_FALSE = 39;
     public static final int EXPRESSION_IS_NOT_NULL = 40;
 
-    public static final int LEN = EXPRESSION_IS_NOT_NULL + 1;
+    public static final int NODE_MAP_INDEX_SCAN = 41;
+
+    public static final int INDEX_FILTER_EQUALS = 42;
+    public static final int INDEX_FILTER_IN = 43;
+    public static final int INDEX_FILTER_RANGE = 44;
+
+    public static final int NODE_AGGREGATE = 45;
+
+    public static final int AGGREGATE_FUNCTION_COUNT = 46;
+    public static final int AGGREGATE_FUNCTION_SUM = 47;
+    public static final int AGGREGATE_FUNCTION_MIN = 48;
+    public static final int AGGREGATE_FUNCTION_MAX = 49;
+
+    public static final int NODE_SORT = 50;
+    public static final int NODE_RECEIVE_SORT_MERGE = 51;
+    public static final int NODE_HASH_JOIN = 52;
+    public static final int NODE_BROADCAST_SEND = 53;
+    public static final int NODE_UNICAST_SEND = 54;
+
+    public static final int LEN = NODE_UNICAST_SEND + 1;
 
     @Override
     public int getFactoryId() {
@@ -185,6 +218,25 @@ public class SqlDataSerializerHook implements DataSerializerHook {
         constructors[EXPRESSION_IS_NOT_FALSE] = arg -> new IsNotFalsePredicate();
         constructors[EXPRESSION_IS_NOT_NULL] = arg -> new IsNotNullPredicate();
 
+        constructors[NODE_MAP_INDEX_SCAN] = arg -> new MapIndexScanPlanNode();
+
+        constructors[INDEX_FILTER_EQUALS] = arg -> new IndexEqualsFilter();
+        constructors[INDEX_FILTER_IN] = arg -> new IndexInFilter();
+        constructors[INDEX_FILTER_RANGE] = arg -> new IndexRangeFilter();
+
+        constructors[NODE_AGGREGATE] = arg -> new AggregatePlanNode();
+
+        constructors[AGGREGATE_FUNCTION_COUNT] = arg -> new CountAggregateFunction();
+        constructors[AGGREGATE_FUNCTION_SUM] = arg -> new SumAggregateFunction();
+        constructors[AGGREGATE_FUNCTION_MIN] = arg -> new MinAggregateFunction();
+        constructors[AGGREGATE_FUNCTION_MAX] = arg -> new MaxAggregateFunction();
+
+        constructors[NODE_SORT] = arg -> new SortPlanNode();
+        constructors[NODE_RECEIVE_SORT_MERGE] = arg -> new ReceiveSortMergePlanNode();
+        constructors[NODE_HASH_JOIN] = arg -> new HashJoinPlanNode();
+        constructors[NODE_BROADCAST_SEND] = arg -> new BroadcastSendPlanNode();
+        constructors[NODE_UNICAST_SEND] = arg -> new UnicastSendPlanNode();
+
         return new ArrayDataSerializableFactory(constructors);
     }
 }
@@ -18,6 +18,7 @@ package com.hazelcast.sql.impl;
 
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.sql.SqlErrorCode;
 import com.hazelcast.sql.impl.exec.io.flowcontrol.FlowControlFactory;
 import com.hazelcast.sql.impl.exec.io.flowcontrol.simple.SimpleFlowControlFactory;
@@ -26,6 +27,7 @@ import com.hazelcast.sql.impl.operation.QueryExecuteOperation;
 import com.hazelcast.sql.impl.operation.QueryExecuteOperationFactory;
 import com.hazelcast.sql.impl.operation.QueryOperationHandlerImpl;
 import com.hazelcast.sql.impl.plan.Plan;
+import com.hazelcast.sql.impl.plan.PlanPartitionPruning;
 import com.hazelcast.sql.impl.plan.cache.CachedPlanInvalidationCallback;
 import com.hazelcast.sql.impl.plan.cache.PlanCacheChecker;
 import com.hazelcast.sql.impl.state.QueryClientStateRegistry;
@@ -50,6 +52,12 @@ public class SqlInternalService {
     /** Memory assigned to a single edge mailbox. Will be reworked to dynamic mode when memory manager is implemented. */
     private static final long MEMORY_PER_EDGE_MAILBOX = 512 * 1024;
 
+    /**
+     * Number of result pages that the root fragment may produce ahead of the consumer. Two pages let the member prepare the
+     * next page while the previous one is still in flight to the client.
+     */
+    private static final int ROOT_CONSUMER_WINDOW = 2;
+
     /** Default flow control factory. */
     private static final FlowControlFactory FLOW_CONTROL_FACTORY = SimpleFlowControlFactory.INSTANCE;
 
@@ -145,15 +153,24 @@ public class SqlInternalService {
             throw QueryException.memberConnection(localMemberId);
         }
 
+        // Restrict execution to the members owning the accessed partitions, if possible.
+        Map<UUID, PartitionIdSet> partMap = plan.getPartitionMap();
+        PlanPartitionPruning partitionPruning = plan.getPartitionPruning();
+
+        if (partitionPruning != null) {
+            partMap = partitionPruning.prune(partMap, localMemberId, params, nodeServiceProvider);
+        }
+
         // Prepare mappings.
         QueryExecuteOperationFactory operationFactory = new QueryExecuteOperationFactory(
             plan,
+            partMap,
             params,
             createEdgeInitialMemoryMapForPlan(plan)
         );
 
         // Register the state.
-        BlockingRootResultConsumer consumer = new BlockingRootResultConsumer();
+        BlockingRootResultConsumer consumer = new BlockingRootResultConsumer(ROOT_CONSUMER_WINDOW);
 
         QueryState state = stateRegistry.onInitiatorQueryStarted(
             localMemberId,
@@ -174,7 +191,7 @@ public class SqlInternalService {
             operationHandler.submitLocal(localMemberId, localOp);
 
             // Start execution on remote members.
-            for (UUID memberId : plan.getMemberIds()) {
+            for (UUID memberId : partMap.keySet()) {
                 if (memberId.equals(localMemberId)) {
                     continue;
                 }
@@ -27,17 +27,20 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.sql.SqlQuery;
 import com.hazelcast.sql.SqlResult;
 import com.hazelcast.sql.SqlService;
+import com.hazelcast.sql.impl.expression.ExpressionCompiler;
 import com.hazelcast.sql.impl.optimizer.DisabledSqlOptimizer;
 import com.hazelcast.sql.impl.optimizer.OptimizationTask;
 import com.hazelcast.sql.impl.optimizer.SqlOptimizer;
 import com.hazelcast.sql.impl.optimizer.SqlPlan;
 import com.hazelcast.sql.impl.plan.Plan;
 import com.hazelcast.sql.impl.plan.cache.CacheablePlan;
+import com.hazelcast.sql.impl.plan.cache.CompiledExpressionCache;
 import com.hazelcast.sql.impl.plan.cache.PlanCache;
 import com.hazelcast.sql.impl.plan.cache.PlanCacheChecker;
 import com.hazelcast.sql.impl.plan.cache.PlanCacheKey;
 import com.hazelcast.sql.impl.schema.SqlCatalog;
 import com.hazelcast.sql.impl.schema.TableResolver;
+import com.hazelcast.sql.impl.schema.map.MapStatisticsCollector;
 import com.hazelcast.sql.impl.schema.map.PartitionedMapTableResolver;
 import com.hazelcast.sql.impl.state.QueryState;
 
@@ -46,6 +49,8 @@ import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 
@@ -64,6 +69,16 @@ public class SqlServiceImpl implements SqlService, Consumer<Packet> {
     private static final String OPTIMIZER_CLASS_PROPERTY_NAME = "hazelcast.sql.optimizerClass";
     private static final String SQL_MODULE_OPTIMIZER_CLASS = "com.hazelcast.sql.impl.calcite.CalciteSqlOptimizer";
 
+    private static final int COMPILED_EXPRESSION_CACHE_SIZE = 1_000;
+
+    private static final String COMPILE_EXPRESSIONS_PROPERTY_NAME = "hazelcast.sql.compileExpressions";
+    private static final String SQL_MODULE_EXPRESSION_COMPILER_CLASS =
+        "com.hazelcast.sql.impl.calcite.compile.JaninoExpressionCompiler";
+
+    private static final String STATISTICS_INTERVAL_PROPERTY_NAME = "hazelcast.sql.statisticsCollectionIntervalSeconds";
+    private static final long DEFAULT_STATISTICS_INTERVAL_SECONDS = 10L;
+    private static final String STATISTICS_TASK_NAME = "hz:sql:statistics";
+
     private SqlOptimizer optimizer;
     private final ILogger logger;
     private final NodeEngineImpl nodeEngine;
@@ -77,6 +92,11 @@ public class SqlServiceImpl implements SqlService, Consumer<Packet> {
 
     private final PlanCache planCache = new PlanCache(PLAN_CACHE_SIZE);
 
+    private volatile CompiledExpressionCache compiledExpressionCache;
+
+    private final MapStatisticsCollector statisticsCollector;
+    private ScheduledFuture<?> statisticsFuture;
+
     public SqlServiceImpl(NodeEngineImpl nodeEngine) {
         this.nodeEngine = nodeEngine;
         logger = nodeEngine.getLogger(getClass());
@@ -106,7 +126,8 @@ public class SqlServiceImpl implements SqlService, Consumer<Packet> {
         String instanceName = nodeEngine.getHazelcastInstance().getName();
         InternalSerializationService serializationService = (InternalSerializationService) nodeEngine.getSerializationService();
 
-        this.tableResolvers = createTableResolvers(nodeEngine);
+        this.statisticsCollector = new MapStatisticsCollector(nodeEngine);
+        this.tableResolvers = createTableResolvers(nodeEngine, statisticsCollector);
 
         PlanCacheChecker planCacheChecker = new PlanCacheChecker(
             nodeEngine,
@@ -128,17 +149,27 @@ public class SqlServiceImpl implements SqlService, Consumer<Packet> {
 
     public void start() {
         optimizer = createOptimizer(nodeEngine);
+        compiledExpressionCache = createCompiledExpressionCache();
 
+        internalService.getOperationHandler().setExpressionCompiler(compiledExpressionCache);
         internalService.start();
+
+        startStatisticsCollection();
     }
 
     public void reset() {
         planCache.clear();
+        clearCompiledExpressionCache();
+        statisticsCollector.clear();
         internalService.reset();
     }
 
     public void shutdown() {
+        stopStatisticsCollection();
+
         planCache.clear();
+        clearCompiledExpressionCache();
+        statisticsCollector.clear();
         internalService.shutdown();
     }
 
@@ -161,6 +192,17 @@ public class SqlServiceImpl implements SqlService, Consumer<Packet> {
         return planCache;
     }
 
+    public MapStatisticsCollector getStatisticsCollector() {
+        return statisticsCollector;
+    }
+
+    /**
+     * @return the cache of compiled expressions, or {@code null} if expressions are interpreted.
+     */
+    public CompiledExpressionCache getCompiledExpressionCache() {
+        return compiledExpressionCache;
+    }
+
     @Nonnull
     @Override
     public SqlResult query(@Nonnull SqlQuery query) {
@@ -292,10 +334,79 @@ public class SqlServiceImpl implements SqlService, Consumer<Packet> {
         }
     }
 
-    private static List<TableResolver> createTableResolvers(NodeEngine nodeEngine) {
+    /**
+     * Creates the cache of compiled filter and projection expressions if compilation is enabled with the
+     * {@value #COMPILE_EXPRESSIONS_PROPERTY_NAME} system property and the compiler is available.
+     *
+     * @return the cache, or {@code null} if expressions should be interpreted.
+     */
+    @SuppressWarnings("unchecked")
+    private CompiledExpressionCache createCompiledExpressionCache() {
+        if (!Boolean.getBoolean(COMPILE_EXPRESSIONS_PROPERTY_NAME)) {
+            return null;
+        }
+
+        Class<ExpressionCompiler> clazz;
+
+        try {
+            clazz = (Class<ExpressionCompiler>) Class.forName(SQL_MODULE_EXPRESSION_COMPILER_CLASS);
+        } catch (ClassNotFoundException e) {
+            logger.warning("Expression compiler class \"" + SQL_MODULE_EXPRESSION_COMPILER_CLASS
+                + "\" not found, expressions will be interpreted");
+
+            return null;
+        }
+
+        try {
+            ExpressionCompiler compiler = clazz.getConstructor().newInstance();
+
+            return new CompiledExpressionCache(compiler, COMPILED_EXPRESSION_CACHE_SIZE);
+        } catch (ReflectiveOperationException e) {
+            throw new HazelcastException("Failed to instantiate the expression compiler class "
+                + SQL_MODULE_EXPRESSION_COMPILER_CLASS + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void clearCompiledExpressionCache() {
+        CompiledExpressionCache compiledExpressionCache0 = compiledExpressionCache;
+
+        if (compiledExpressionCache0 != null) {
+            compiledExpressionCache0.clear();
+        }
+    }
+
+    /**
+     * Schedule periodic collection of map statistics used by the optimizer for cost estimation. The collection is
+     * disabled if the interval is not positive.
+     */
+    private void startStatisticsCollection() {
+        long interval = Long.getLong(STATISTICS_INTERVAL_PROPERTY_NAME, DEFAULT_STATISTICS_INTERVAL_SECONDS);
+
+        if (interval <= 0) {
+            return;
+        }
+
+        statisticsFuture = nodeEngine.getExecutionService().scheduleWithRepetition(
+            STATISTICS_TASK_NAME,
+            statisticsCollector::collect,
+            interval,
+            interval,
+            TimeUnit.SECONDS
+        );
+    }
+
+    private void stopStatisticsCollection() {
+        if (statisticsFuture != null) {
+            statisticsFuture.cancel(false);
+
+            statisticsFuture = null;
+        }
+    }
+
+    private static List<TableResolver> createTableResolvers(NodeEngine nodeEngine, MapStatisticsCollector statisticsCollector) {
         List<TableResolver> res = new ArrayList<>();
 
-        res.add(new PartitionedMapTableResolver(nodeEngine));
+        res.add(new PartitionedMapTableResolver(nodeEngine, statisticsCollector));
 
         return res;
     }
@@ -16,6 +16,7 @@
 
 package com.hazelcast.sql.impl.client;
 
+import com.hazelcast.client.impl.spi.impl.ClientInvocationFuture;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.sql.SqlResult;
@@ -35,8 +36,15 @@ import java.util.NoSuchElementException;
 
 /**
  * Client-side cursor.
+ * <p>
+ * Pages are fetched in a pipelined fashion: when the consumer has processed a part of the current page, the request for the
+ * next page is sent, so that the member prepares and transfers it while the rest of the current page is being consumed.
+ * The fetch request carries the number of rows that the member is allowed to send (the credit), and at most one request
+ * is in flight at any time. This bounds the client memory to two pages and keeps the server-side cursor access sequential.
  */
 public class SqlClientResult implements SqlResult {
+    /** The fraction of the current page that should be consumed before the next page is requested. */
+    static final double PREFETCH_THRESHOLD = 0.5d;
 
     private final boolean isUpdateCount;
     private final SqlClientService service;
@@ -50,6 +58,9 @@ public class SqlClientResult implements SqlResult {
     private boolean closed;
     private boolean iteratorAccessed;
 
+    /** Pending request for the next page, if any. */
+    private ClientInvocationFuture nextPageFuture;
+
     public SqlClientResult(
         boolean isUpdateCount,
         SqlClientService service,
@@ -120,6 +131,8 @@ public class SqlClientResult implements SqlResult {
 
         try {
             if (!closed) {
+                nextPageFuture = null;
+
                 if (iterator.last) {
                     // The last page accessed, so the remote cursor is already closed. No-op.
                     return;
@@ -138,8 +151,22 @@ public class SqlClientResult implements SqlResult {
         }
     }
 
+    private void prefetchNextPage() {
+        assert nextPageFuture == null;
+
+        nextPageFuture = service.fetchAsync(connection, queryId, cursorBufferSize);
+    }
+
     private void fetchNextPage(ClientIterator iterator) {
-        SqlPage page = service.fetch(connection, queryId, cursorBufferSize);
+        ClientInvocationFuture future = nextPageFuture;
+
+        if (future == null) {
+            future = service.fetchAsync(connection, queryId, cursorBufferSize);
+        } else {
+            nextPageFuture = null;
+        }
+
+        SqlPage page = service.awaitFetch(connection, future);
 
         iterator.onNextPage(page.getRows(), page.isLast());
     }
@@ -167,6 +194,7 @@ public class SqlClientResult implements SqlResult {
 
         private List<Row> currentRows;
         private int currentPosition;
+        private int prefetchPosition;
         private boolean last;
 
         @Override
@@ -196,12 +224,18 @@ public class SqlClientResult implements SqlResult {
 
             Row row = currentRows.get(currentPosition++);
 
+            // Request the next page in advance when enough rows of the current page are consumed.
+            if (currentPosition == prefetchPosition) {
+                prefetchNextPage();
+            }
+
             return new SqlRowImpl(rowMetadata, row);
         }
 
         private void onNextPage(List<List<Data>> rowPage, boolean rowPageLast) {
             currentRows = convertPageRows(rowPage);
             currentPosition = 0;
+            prefetchPosition = rowPageLast ? Integer.MAX_VALUE : Math.max(1, (int) (currentRows.size() * PREFETCH_THRESHOLD));
 
             this.last = rowPageLast;
         }
@@ -123,9 +123,38 @@ public class SqlClientService implements SqlService {
      * @return Pair: fetched rows + last page flag.
      */
     public SqlPage fetch(Connection connection, QueryId queryId, int cursorBufferSize) {
+        return awaitFetch(connection, fetchAsync(connection, queryId, cursorBufferSize));
+    }
+
+    /**
+     * Send the fetch request for the next page of the given query without waiting for the response. The returned future
+     * should be passed to {@link #awaitFetch(Connection, ClientInvocationFuture)} to get the page.
+     *
+     * @param connection Connection.
+     * @param queryId Query ID.
+     * @param cursorBufferSize The number of rows the member is allowed to send.
+     * @return Future of the fetch response.
+     */
+    ClientInvocationFuture fetchAsync(Connection connection, QueryId queryId, int cursorBufferSize) {
         try {
             ClientMessage requestMessage = SqlFetchCodec.encodeRequest(queryId, cursorBufferSize);
-            ClientMessage responseMessage = invoke(requestMessage, connection);
+
+            return new ClientInvocation(client, requestMessage, null, connection).invoke();
+        } catch (Exception e) {
+            throw rethrow(e, connection);
+        }
+    }
+
+    /**
+     * Wait for the response of the previously sent fetch request.
+     *
+     * @param connection Connection.
+     * @param future Future of the fetch response.
+     * @return Pair: fetched rows + last page flag.
+     */
+    SqlPage awaitFetch(Connection connection, ClientInvocationFuture future) {
+        try {
+            ClientMessage responseMessage = future.get();
             SqlFetchCodec.ResponseParameters responseParameters = SqlFetchCodec.decodeResponse(responseMessage);
 
             handleResponseError(responseParameters.error);
@@ -16,6 +16,7 @@
 
 package com.hazelcast.sql.impl.exec;
 
+import com.hazelcast.sql.impl.row.ColumnarRowBatch;
 import com.hazelcast.sql.impl.row.ListRowBatch;
 import com.hazelcast.sql.impl.row.Row;
 import com.hazelcast.sql.impl.row.RowBatch;
@@ -29,6 +30,8 @@ import java.util.List;
  * Currently the executor batches rows, and reports progress only when the batch is full or when EOS has been reached.
  * This is done to minimize the operator evaluation overhead.
  * <p>
+ * Columnar upstream batches are filtered as a whole and are passed further without re-batching.
+ * <p>
  * The compiled counterpart does not require batching.
  */
 public abstract class AbstractFilterExec extends AbstractUpstreamAwareExec {
@@ -36,7 +39,7 @@ public abstract class AbstractFilterExec extends AbstractUpstreamAwareExec {
     static final int BATCH_SIZE = 1024;
 
     private List<Row> currentRows;
-    private ListRowBatch currentBatch;
+    private RowBatch currentBatch;
 
     protected AbstractFilterExec(int id, Exec upstream) {
         super(id, upstream);
@@ -57,6 +60,15 @@ public abstract class AbstractFilterExec extends AbstractUpstreamAwareExec {
                 return IterationResult.WAIT;
             }
 
+            // Filter columnar batches at once.
+            if (count == 0) {
+                IterationResult result = advanceColumnar();
+
+                if (result != null) {
+                    return result;
+                }
+            }
+
             // Consume results until the batch is full.
             for (Row upstreamRow : state) {
                 boolean matches = eval(upstreamRow);
@@ -76,8 +88,33 @@ public abstract class AbstractFilterExec extends AbstractUpstreamAwareExec {
         }
     }
 
+    /**
+     * Filter the current upstream batch if it is columnar.
+     *
+     * @return Iteration result or {@code null} if the current batch is not columnar, or no rows passed the filter.
+     */
+    private IterationResult advanceColumnar() {
+        if (!(state.peekBatch() instanceof ColumnarRowBatch)) {
+            return null;
+        }
+
+        ColumnarRowBatch batch = evalBatch((ColumnarRowBatch) state.consumeBatch());
+
+        if (state.isDone()) {
+            return prepareBatch(batch, IterationResult.FETCHED_DONE);
+        } else if (batch.getRowCount() > 0) {
+            return prepareBatch(batch, IterationResult.FETCHED);
+        } else {
+            return null;
+        }
+    }
+
     private IterationResult prepareBatch(IterationResult result) {
-        currentBatch = new ListRowBatch(currentRows);
+        return prepareBatch(new ListRowBatch(currentRows), result);
+    }
+
+    private IterationResult prepareBatch(RowBatch batch, IterationResult result) {
+        currentBatch = batch;
         currentRows = null;
 
         return result;
@@ -89,4 +126,12 @@ public abstract class AbstractFilterExec extends AbstractUpstreamAwareExec {
     }
 
     protected abstract boolean eval(Row row);
+
+    /**
+     * Filter the columnar batch.
+     *
+     * @param batch Batch.
+     * @return Batch with the rows which passed the filter.
+     */
+    protected abstract ColumnarRowBatch evalBatch(ColumnarRowBatch batch);
 }
@@ -20,39 +20,59 @@ import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.sql.impl.NodeServiceProvider;
+import com.hazelcast.sql.impl.exec.agg.AggregateExec;
+import com.hazelcast.sql.impl.exec.io.BroadcastSendExec;
 import com.hazelcast.sql.impl.exec.io.InboundHandler;
 import com.hazelcast.sql.impl.exec.io.Inbox;
 import com.hazelcast.sql.impl.exec.io.OutboundHandler;
 import com.hazelcast.sql.impl.exec.io.Outbox;
 import com.hazelcast.sql.impl.exec.io.ReceiveExec;
+import com.hazelcast.sql.impl.exec.io.ReceiveSortMergeExec;
 import com.hazelcast.sql.impl.exec.io.SendExec;
+import com.hazelcast.sql.impl.exec.io.StripedInbox;
+import com.hazelcast.sql.impl.exec.io.UnicastSendExec;
 import com.hazelcast.sql.impl.exec.io.flowcontrol.FlowControl;
 import com.hazelcast.sql.impl.exec.io.flowcontrol.FlowControlFactory;
+import com.hazelcast.sql.impl.exec.join.HashJoinExec;
 import com.hazelcast.sql.impl.exec.root.RootExec;
+import com.hazelcast.sql.impl.exec.scan.MapIndexScanExec;
 import com.hazelcast.sql.impl.exec.scan.MapScanExec;
+import com.hazelcast.sql.impl.exec.sort.SortExec;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionCompiler;
 import com.hazelcast.sql.impl.operation.QueryExecuteOperation;
 import com.hazelcast.sql.impl.operation.QueryExecuteOperationFragment;
 import com.hazelcast.sql.impl.operation.QueryExecuteOperationFragmentMapping;
 import com.hazelcast.sql.impl.operation.QueryOperationHandler;
-import com.hazelcast.sql.impl.plan.node.MapScanPlanNode;
+import com.hazelcast.sql.impl.plan.node.AggregatePlanNode;
 import com.hazelcast.sql.impl.plan.node.FilterPlanNode;
+import com.hazelcast.sql.impl.plan.node.HashJoinPlanNode;
+import com.hazelcast.sql.impl.plan.node.MapIndexScanPlanNode;
+import com.hazelcast.sql.impl.plan.node.MapScanPlanNode;
 import com.hazelcast.sql.impl.plan.node.PlanNode;
 import com.hazelcast.sql.impl.plan.node.PlanNodeVisitor;
 import com.hazelcast.sql.impl.plan.node.ProjectPlanNode;
 import com.hazelcast.sql.impl.plan.node.RootPlanNode;
+import com.hazelcast.sql.impl.plan.node.SortPlanNode;
+import com.hazelcast.sql.impl.plan.node.io.BroadcastSendPlanNode;
 import com.hazelcast.sql.impl.plan.node.io.EdgeAwarePlanNode;
 import com.hazelcast.sql.impl.plan.node.io.ReceivePlanNode;
+import com.hazelcast.sql.impl.plan.node.io.ReceiveSortMergePlanNode;
 import com.hazelcast.sql.impl.plan.node.io.RootSendPlanNode;
+import com.hazelcast.sql.impl.plan.node.io.UnicastSendPlanNode;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 import java.util.UUID;
 
 /**
  * Visitor which builds an executor for every observed physical node.
  */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
 public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
     /** Operation handler. */
     private final QueryOperationHandler operationHandler;
@@ -81,6 +101,9 @@ public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
     /** Hook to alter produced Exec (for testing purposes). */
     private final CreateExecPlanNodeVisitorHook hook;
 
+    /** Compiler for filter and projection expressions, {@code null} if expressions are interpreted. */
+    private final ExpressionCompiler expressionCompiler;
+
     /** Stack of elements to be merged. */
     private final ArrayList<Exec> stack = new ArrayList<>(1);
 
@@ -102,7 +125,8 @@ public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
         FlowControlFactory flowControlFactory,
         PartitionIdSet localParts,
         int outboxBatchSize,
-        CreateExecPlanNodeVisitorHook hook
+        CreateExecPlanNodeVisitorHook hook,
+        ExpressionCompiler expressionCompiler
     ) {
         this.operationHandler = operationHandler;
         this.nodeServiceProvider = nodeServiceProvider;
@@ -113,6 +137,7 @@ public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
         this.localParts = localParts;
         this.outboxBatchSize = outboxBatchSize;
         this.hook = hook;
+        this.expressionCompiler = expressionCompiler;
     }
 
     @Override
@@ -156,6 +181,42 @@ public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
         push(res);
     }
 
+    @Override
+    public void onReceiveSortMergeNode(ReceiveSortMergePlanNode node) {
+        // Navigate to sender exec and get sender members, one stripe per member.
+        int edgeId = node.getEdgeId();
+
+        int sendFragmentPos = operation.getOutboundEdgeMap().get(edgeId);
+        QueryExecuteOperationFragment sendFragment = operation.getFragments().get(sendFragmentPos);
+
+        Collection<UUID> senderMemberIds = getFragmentMembers(sendFragment);
+
+        // Create and register inbox.
+        StripedInbox inbox = new StripedInbox(
+            operationHandler,
+            operation.getQueryId(),
+            edgeId,
+            node.getSchema().getEstimatedRowSize(),
+            localMemberId,
+            senderMemberIds,
+            createFlowControl(edgeId)
+        );
+
+        inboxes.put(edgeId, inbox);
+
+        // Instantiate executor and put it to stack.
+        ReceiveSortMergeExec res = new ReceiveSortMergeExec(
+            node.getId(),
+            inbox,
+            node.getColumns(),
+            node.getAscending(),
+            node.getFetch(),
+            node.getOffset()
+        );
+
+        push(res);
+    }
+
     @Override
     public void onRootSendNode(RootSendPlanNode node) {
         Outbox[] outboxes = prepareOutboxes(node);
@@ -165,8 +226,23 @@ public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
         exec = new SendExec(node.getId(), pop(), outboxes[0]);
     }
 
+    @Override
+    public void onBroadcastSendNode(BroadcastSendPlanNode node) {
+        Outbox[] outboxes = prepareOutboxes(node);
+
+        exec = new BroadcastSendExec(node.getId(), pop(), outboxes);
+    }
+
+    @Override
+    public void onUnicastSendNode(UnicastSendPlanNode node) {
+        Outbox[] outboxes = prepareOutboxes(node);
+
+        exec = new UnicastSendExec(node.getId(), pop(), outboxes, node.getHashKeys());
+    }
+
     /**
-     * Prepare outboxes for the given sender node.
+     * Prepare outboxes for the given sender node. Outboxes are ordered by the receiver member ID, so that the order is
+     * the same on all sender members.
      *
      * @param node Node.
      * @return Outboxes.
@@ -177,7 +253,7 @@ public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
 
         int receiveFragmentPos = operation.getInboundEdgeMap().get(edgeId);
         QueryExecuteOperationFragment receiveFragment = operation.getFragments().get(receiveFragmentPos);
-        Collection<UUID> receiveFragmentMemberIds = getFragmentMembers(receiveFragment);
+        Collection<UUID> receiveFragmentMemberIds = new TreeSet<>(getFragmentMembers(receiveFragment));
 
         Outbox[] res = new Outbox[receiveFragmentMemberIds.size()];
 
@@ -211,7 +287,7 @@ public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
         Exec res = new ProjectExec(
             node.getId(),
             pop(),
-            node.getProjects()
+            compile(node.getProjects())
         );
 
         push(res);
@@ -222,7 +298,52 @@ public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
         Exec res = new FilterExec(
             node.getId(),
             pop(),
-            node.getFilter()
+            compile(node.getFilter())
+        );
+
+        push(res);
+    }
+
+    @Override
+    public void onAggregateNode(AggregatePlanNode node) {
+        Exec res = new AggregateExec(
+            node.getId(),
+            pop(),
+            node.getGroupKey(),
+            node.getFunctions()
+        );
+
+        push(res);
+    }
+
+    @Override
+    public void onSortNode(SortPlanNode node) {
+        Exec res = new SortExec(
+            node.getId(),
+            pop(),
+            node.getColumns(),
+            node.getAscending(),
+            node.getFetch(),
+            node.getOffset()
+        );
+
+        push(res);
+    }
+
+    @Override
+    public void onHashJoinNode(HashJoinPlanNode node) {
+        Exec right = pop();
+        Exec left = pop();
+
+        Exec res = new HashJoinExec(
+            node.getId(),
+            left,
+            right,
+            node.getLeftHashKeys(),
+            node.getRightHashKeys(),
+            node.getFilter(),
+            node.isOuter(),
+            node.getRight().getSchema().getTypes().size()
         );
 
         push(res);
@@ -251,7 +372,41 @@ public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
                     node.getFieldPaths(),
                     node.getFieldTypes(),
                     node.getProjects(),
-                    node.getFilter(),
+                    compile(node.getFilter()),
+                    serializationService
+                );
+            }
+        }
+
+        push(res);
+    }
+
+    @Override
+    public void onMapIndexScanNode(MapIndexScanPlanNode node) {
+        Exec res;
+
+        if (localParts.isEmpty()) {
+            res = new EmptyExec(node.getId());
+        } else {
+            String mapName = node.getMapName();
+
+            MapContainer map = nodeServiceProvider.getMap(mapName);
+
+            if (map == null) {
+                res = new EmptyExec(node.getId());
+            } else {
+                res = new MapIndexScanExec(
+                    node.getId(),
+                    map,
+                    localParts,
+                    node.getKeyDescriptor(),
+                    node.getValueDescriptor(),
+                    node.getFieldPaths(),
+                    node.getFieldTypes(),
+                    node.getProjects(),
+                    node.getIndexName(),
+                    node.getIndexFilter(),
+                    compile(node.getFilter()),
                     serializationService
                 );
             }
@@ -323,4 +478,27 @@ public class CreateExecPlanNodeVisitor implements PlanNodeVisitor {
 
         return operation.getPartitionMap().keySet();
     }
+
+    private <T> Expression<T> compile(Expression<T> expression) {
+        if (expressionCompiler == null || expression == null) {
+            return expression;
+        }
+
+        return expressionCompiler.compile(expression);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private List<Expression> compile(List<Expression> expressions) {
+        if (expressionCompiler == null) {
+            return expressions;
+        }
+
+        List<Expression> res = new ArrayList<>(expressions.size());
+
+        for (Expression<?> expression : expressions) {
+            res.add(compile(expression));
+        }
+
+        return res;
+    }
 }
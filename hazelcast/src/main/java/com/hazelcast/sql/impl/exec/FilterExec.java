@@ -17,6 +17,9 @@
 package com.hazelcast.sql.impl.exec;
 
 import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionVectors;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.ColumnarRowBatch;
 import com.hazelcast.sql.impl.row.Row;
 
 /**
@@ -39,6 +42,19 @@ public class FilterExec extends AbstractFilterExec {
         return res != null && res;
     }
 
+    @Override
+    protected ColumnarRowBatch evalBatch(ColumnarRowBatch batch) {
+        int rowCount = batch.getRowCount();
+
+        int[] selection = ExpressionVectors.identity(rowCount);
+
+        ColumnVector res = filter.evalBatch(batch, selection, rowCount, ctx);
+
+        int selectionSize = ExpressionVectors.selectTrue(res, selection, rowCount, selection);
+
+        return batch.select(selection, selectionSize);
+    }
+
     public Expression<Boolean> getFilter() {
         return filter;
     }
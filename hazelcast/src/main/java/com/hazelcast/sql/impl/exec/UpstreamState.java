@@ -96,6 +96,13 @@ public class UpstreamState implements Iterable<Row> {
         upstream.setup(ctx);
     }
 
+    /**
+     * @return The current batch if none of its rows were consumed yet, {@code null} otherwise.
+     */
+    public RowBatch peekBatch() {
+        return currentBatchPos == 0 ? currentBatch : null;
+    }
+
     public RowBatch consumeBatch() {
         if (currentBatchPos != 0) {
             throw QueryException.error("Batch can be consumed only as a whole: " + upstream);
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.agg;
+
+import com.hazelcast.sql.impl.exec.AbstractUpstreamAwareExec;
+import com.hazelcast.sql.impl.exec.Exec;
+import com.hazelcast.sql.impl.exec.IterationResult;
+import com.hazelcast.sql.impl.row.HeapRow;
+import com.hazelcast.sql.impl.row.ListRowBatch;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash aggregation executor. Consumes all rows from the upstream, groups them by the group key, and produces a row per
+ * group once the upstream is exhausted. Output rows consist of the group key columns followed by the aggregate results.
+ * <p>
+ * The same executor is used for both the local (partial) and the final phases of the two-phase aggregation. The phases
+ * differ only in the aggregate functions and the input they are applied to.
+ * <p>
+ * If the group key is empty, exactly one row is produced even if the upstream is empty.
+ */
+public class AggregateExec extends AbstractUpstreamAwareExec {
+
+    static final int BATCH_SIZE = 1024;
+
+    private final List<Integer> groupKey;
+    private final List<AggregateFunction> functions;
+
+    private Map<AggregateKey, AggregateCollector[]> groups = new HashMap<>();
+    private Iterator<Map.Entry<AggregateKey, AggregateCollector[]>> resultIterator;
+    private RowBatch currentBatch;
+
+    public AggregateExec(int id, Exec upstream, List<Integer> groupKey, List<AggregateFunction> functions) {
+        super(id, upstream);
+
+        this.groupKey = groupKey;
+        this.functions = functions;
+    }
+
+    @Override
+    public IterationResult advance0() {
+        if (resultIterator == null) {
+            while (true) {
+                if (!state.advance()) {
+                    return IterationResult.WAIT;
+                }
+
+                for (Row row : state) {
+                    consumeRow(row);
+                }
+
+                if (state.isDone()) {
+                    break;
+                }
+            }
+
+            if (groups.isEmpty() && groupKey.isEmpty()) {
+                groups.put(AggregateKey.empty(), createCollectors());
+            }
+
+            resultIterator = groups.entrySet().iterator();
+        }
+
+        return prepareBatch();
+    }
+
+    @Override
+    public RowBatch currentBatch0() {
+        return currentBatch;
+    }
+
+    public List<Integer> getGroupKey() {
+        return groupKey;
+    }
+
+    public List<AggregateFunction> getFunctions() {
+        return functions;
+    }
+
+    private void consumeRow(Row row) {
+        AggregateKey key = AggregateKey.create(row, groupKey);
+
+        AggregateCollector[] collectors = groups.get(key);
+
+        if (collectors == null) {
+            collectors = createCollectors();
+
+            groups.put(key, collectors);
+        }
+
+        for (int i = 0; i < collectors.length; i++) {
+            functions.get(i).collect(collectors[i], row, ctx);
+        }
+    }
+
+    private AggregateCollector[] createCollectors() {
+        AggregateCollector[] collectors = new AggregateCollector[functions.size()];
+
+        for (int i = 0; i < collectors.length; i++) {
+            collectors[i] = functions.get(i).createCollector();
+        }
+
+        return collectors;
+    }
+
+    private IterationResult prepareBatch() {
+        List<Row> rows = new ArrayList<>(Math.min(BATCH_SIZE, groups.size()));
+
+        while (resultIterator.hasNext() && rows.size() < BATCH_SIZE) {
+            Map.Entry<AggregateKey, AggregateCollector[]> group = resultIterator.next();
+
+            rows.add(createRow(group.getKey(), group.getValue()));
+        }
+
+        currentBatch = new ListRowBatch(rows);
+
+        if (resultIterator.hasNext()) {
+            return IterationResult.FETCHED;
+        }
+
+        // Release the groups as soon as possible.
+        groups = null;
+
+        return IterationResult.FETCHED_DONE;
+    }
+
+    private static Row createRow(AggregateKey key, AggregateCollector[] collectors) {
+        HeapRow row = new HeapRow(key.getCount() + collectors.length);
+
+        int idx = 0;
+
+        for (int i = 0; i < key.getCount(); i++) {
+            row.set(idx++, key.get(i));
+        }
+
+        for (AggregateCollector collector : collectors) {
+            row.set(idx++, collector.reduce());
+        }
+
+        return row;
+    }
+}
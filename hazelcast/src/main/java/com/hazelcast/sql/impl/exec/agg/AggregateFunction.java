@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.agg;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Aggregate function. Produces a collector for every group, and feeds it with the values of the operand.
+ * <p>
+ * {@code NULL} values of the operand are ignored, as required by the SQL standard.
+ */
+public abstract class AggregateFunction implements IdentifiedDataSerializable {
+    /** Operand, might be {@code null} for functions without arguments, e.g. COUNT(*). */
+    protected Expression<?> operand;
+
+    /** Return type. */
+    protected QueryDataType resultType;
+
+    protected AggregateFunction() {
+        // No-op.
+    }
+
+    protected AggregateFunction(Expression<?> operand, QueryDataType resultType) {
+        this.operand = operand;
+        this.resultType = resultType;
+    }
+
+    public Expression<?> getOperand() {
+        return operand;
+    }
+
+    public QueryDataType getType() {
+        return resultType;
+    }
+
+    /**
+     * Collect the value for the given row.
+     *
+     * @param collector Collector of the row's group.
+     * @param row Row.
+     * @param context Context.
+     */
+    public void collect(AggregateCollector collector, Row row, ExpressionEvalContext context) {
+        Object value = operand.eval(row, context);
+
+        if (value != null) {
+            collector.collect(value);
+        }
+    }
+
+    /**
+     * @return New collector for a group.
+     */
+    public abstract AggregateCollector createCollector();
+
+    @Override
+    public int getFactoryId() {
+        return SqlDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(operand);
+        out.writeObject(resultType);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        operand = in.readObject();
+        resultType = in.readObject();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operand, resultType);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AggregateFunction that = (AggregateFunction) o;
+
+        return Objects.equals(operand, that.operand) && resultType.equals(that.resultType);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{operand=" + operand + ", resultType=" + resultType + '}';
+    }
+}
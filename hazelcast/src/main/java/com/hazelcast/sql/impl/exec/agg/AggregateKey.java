@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.agg;
+
+import com.hazelcast.sql.impl.row.Row;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Values of the group key columns of a single row.
+ */
+final class AggregateKey {
+
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    private final Object[] values;
+    private final int hash;
+
+    private AggregateKey(Object[] values) {
+        this.values = values;
+
+        hash = Arrays.hashCode(values);
+    }
+
+    static AggregateKey create(Row row, List<Integer> groupKey) {
+        if (groupKey.isEmpty()) {
+            return empty();
+        }
+
+        Object[] values = new Object[groupKey.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = row.get(groupKey.get(i));
+        }
+
+        return new AggregateKey(values);
+    }
+
+    static AggregateKey empty() {
+        return new AggregateKey(EMPTY_VALUES);
+    }
+
+    Object get(int index) {
+        return values[index];
+    }
+
+    int getCount() {
+        return values.length;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AggregateKey that = (AggregateKey) o;
+
+        return hash == that.hash && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public String toString() {
+        return "AggregateKey" + Arrays.toString(values);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.agg;
+
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+/**
+ * COUNT function. Counts all rows if the operand is not set, or rows with non-null operand values otherwise.
+ */
+public class CountAggregateFunction extends AggregateFunction {
+    public CountAggregateFunction() {
+        // No-op.
+    }
+
+    public CountAggregateFunction(Expression<?> operand) {
+        super(operand, QueryDataType.BIGINT);
+    }
+
+    @Override
+    public void collect(AggregateCollector collector, Row row, ExpressionEvalContext context) {
+        if (operand == null) {
+            collector.collect(row);
+        } else {
+            super.collect(collector, row, context);
+        }
+    }
+
+    @Override
+    public AggregateCollector createCollector() {
+        return new Collector();
+    }
+
+    @Override
+    public int getClassId() {
+        return SqlDataSerializerHook.AGGREGATE_FUNCTION_COUNT;
+    }
+
+    private static final class Collector implements AggregateCollector {
+        private long count;
+
+        @Override
+        public void collect(Object value) {
+            count++;
+        }
+
+        @Override
+        public Object reduce() {
+            return count;
+        }
+    }
+}
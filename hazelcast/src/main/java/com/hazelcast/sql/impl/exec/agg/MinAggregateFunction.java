@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.agg;
+
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+/**
+ * MIN function. Returns the minimum non-null value of the group, or {@code NULL} for an empty group.
+ */
+public class MinAggregateFunction extends AggregateFunction {
+    public MinAggregateFunction() {
+        // No-op.
+    }
+
+    public MinAggregateFunction(Expression<?> operand, QueryDataType resultType) {
+        super(operand, resultType);
+    }
+
+    @Override
+    public AggregateCollector createCollector() {
+        return new Collector();
+    }
+
+    @Override
+    public int getClassId() {
+        return SqlDataSerializerHook.AGGREGATE_FUNCTION_MIN;
+    }
+
+    private static final class Collector implements AggregateCollector {
+        private Comparable<Object> result;
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void collect(Object value) {
+            Comparable<Object> value0 = (Comparable<Object>) value;
+
+            if (result == null || value0.compareTo(result) < 0) {
+                result = value0;
+            }
+        }
+
+        @Override
+        public Object reduce() {
+            return result;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.agg;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.sql.SqlErrorCode;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+import com.hazelcast.sql.impl.type.converter.Converter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * SUM function. Returns {@code NULL} for an empty group, or zero if {@code zeroIfEmpty} is set. The latter is used to merge
+ * partial counts during two-phase aggregation.
+ */
+public class SumAggregateFunction extends AggregateFunction {
+
+    private boolean zeroIfEmpty;
+
+    public SumAggregateFunction() {
+        // No-op.
+    }
+
+    public SumAggregateFunction(Expression<?> operand, QueryDataType resultType, boolean zeroIfEmpty) {
+        super(operand, resultType);
+
+        this.zeroIfEmpty = zeroIfEmpty;
+    }
+
+    public boolean isZeroIfEmpty() {
+        return zeroIfEmpty;
+    }
+
+    @Override
+    public AggregateCollector createCollector() {
+        Converter converter = operand.getType().getConverter();
+
+        switch (resultType.getTypeFamily()) {
+            case BIGINT:
+                return new LongCollector(converter, zeroIfEmpty);
+
+            case DECIMAL:
+                return new DecimalCollector(converter, zeroIfEmpty);
+
+            case REAL:
+            case DOUBLE:
+                return new DoubleCollector(converter, resultType, zeroIfEmpty);
+
+            default:
+                throw new IllegalArgumentException("Unsupported SUM type: " + resultType);
+        }
+    }
+
+    @Override
+    public int getClassId() {
+        return SqlDataSerializerHook.AGGREGATE_FUNCTION_SUM;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        super.writeData(out);
+
+        out.writeBoolean(zeroIfEmpty);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        super.readData(in);
+
+        zeroIfEmpty = in.readBoolean();
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + (zeroIfEmpty ? 1 : 0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) && zeroIfEmpty == ((SumAggregateFunction) o).zeroIfEmpty;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{operand=" + operand + ", resultType=" + resultType
+            + ", zeroIfEmpty=" + zeroIfEmpty + '}';
+    }
+
+    private abstract static class AbstractCollector implements AggregateCollector {
+
+        protected final Converter converter;
+        private final boolean zeroIfEmpty;
+        private boolean empty = true;
+
+        protected AbstractCollector(Converter converter, boolean zeroIfEmpty) {
+            this.converter = converter;
+            this.zeroIfEmpty = zeroIfEmpty;
+        }
+
+        @Override
+        public final void collect(Object value) {
+            add(value);
+
+            empty = false;
+        }
+
+        @Override
+        public final Object reduce() {
+            if (empty && !zeroIfEmpty) {
+                return null;
+            }
+
+            return result();
+        }
+
+        protected abstract void add(Object value);
+
+        protected abstract Object result();
+    }
+
+    private static final class LongCollector extends AbstractCollector {
+
+        private long sum;
+
+        private LongCollector(Converter converter, boolean zeroIfEmpty) {
+            super(converter, zeroIfEmpty);
+        }
+
+        @Override
+        protected void add(Object value) {
+            try {
+                sum = Math.addExact(sum, converter.asBigint(value));
+            } catch (ArithmeticException e) {
+                throw QueryException.error(SqlErrorCode.DATA_EXCEPTION,
+                    "BIGINT overflow in SUM function (consider adding explicit CAST to DECIMAL)");
+            }
+        }
+
+        @Override
+        protected Object result() {
+            return sum;
+        }
+    }
+
+    private static final class DecimalCollector extends AbstractCollector {
+
+        private BigDecimal sum = BigDecimal.ZERO;
+
+        private DecimalCollector(Converter converter, boolean zeroIfEmpty) {
+            super(converter, zeroIfEmpty);
+        }
+
+        @Override
+        protected void add(Object value) {
+            sum = sum.add(converter.asDecimal(value));
+        }
+
+        @Override
+        protected Object result() {
+            return sum;
+        }
+    }
+
+    private static final class DoubleCollector extends AbstractCollector {
+
+        private final QueryDataType resultType;
+        private double sum;
+
+        private DoubleCollector(Converter converter, QueryDataType resultType, boolean zeroIfEmpty) {
+            super(converter, zeroIfEmpty);
+
+            this.resultType = resultType;
+        }
+
+        @Override
+        protected void add(Object value) {
+            sum += converter.asDouble(value);
+        }
+
+        @Override
+        protected Object result() {
+            return resultType.getTypeFamily() == QueryDataTypeFamily.REAL ? (float) sum : sum;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.io;
+
+import com.hazelcast.sql.impl.exec.AbstractExec;
+import com.hazelcast.sql.impl.exec.IterationResult;
+import com.hazelcast.sql.impl.exec.sort.RowComparator;
+import com.hazelcast.sql.impl.exec.sort.SortUtils;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.row.ListRowBatch;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.sql.impl.worker.QueryFragmentContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Executor which receives already sorted streams from several senders and merges them into a single sorted stream.
+ * <p>
+ * A row can be produced only when every sender that is not finished yet has at least one buffered row, because
+ * otherwise a smaller row may still arrive from it. The number of streams is equal to the number of members, so the
+ * smallest row is located with a linear scan.
+ */
+public class ReceiveSortMergeExec extends AbstractExec {
+
+    static final int BATCH_SIZE = 1024;
+
+    private static final int STRIPE_WAIT = -1;
+    private static final int STRIPE_DONE = -2;
+
+    private final StripedInbox inbox;
+    private final List<Integer> columns;
+    private final List<Boolean> ascending;
+    private final Expression<?> fetch;
+    private final Expression<?> offset;
+
+    private final RowComparator comparator;
+
+    /** Current batch of every stripe. */
+    private final RowBatch[] batches;
+
+    /** Position of the next row in the current batch of every stripe. */
+    private final int[] positions;
+
+    /** Whether the last batch of the stripe has been received. */
+    private final boolean[] done;
+
+    private long remainingOffset;
+    private long remainingFetch;
+
+    private RowBatch currentBatch;
+
+    public ReceiveSortMergeExec(
+        int id,
+        StripedInbox inbox,
+        List<Integer> columns,
+        List<Boolean> ascending,
+        Expression<?> fetch,
+        Expression<?> offset
+    ) {
+        super(id);
+
+        this.inbox = inbox;
+        this.columns = columns;
+        this.ascending = ascending;
+        this.fetch = fetch;
+        this.offset = offset;
+
+        comparator = new RowComparator(columns, ascending);
+
+        int stripeCount = inbox.getStripeCount();
+
+        batches = new RowBatch[stripeCount];
+        positions = new int[stripeCount];
+        done = new boolean[stripeCount];
+    }
+
+    @Override
+    protected void setup0(QueryFragmentContext ctx) {
+        inbox.setup();
+
+        remainingOffset = SortUtils.evaluateLimit(offset, ctx, 0);
+        remainingFetch = SortUtils.evaluateLimit(fetch, ctx, SortUtils.NO_LIMIT);
+    }
+
+    @Override
+    public IterationResult advance0() {
+        List<Row> rows = new ArrayList<>();
+
+        boolean last = remainingFetch == 0;
+
+        while (!last && rows.size() < BATCH_SIZE) {
+            int stripe = nextStripe();
+
+            if (stripe == STRIPE_DONE) {
+                last = true;
+
+                break;
+            }
+
+            if (stripe == STRIPE_WAIT) {
+                if (rows.isEmpty()) {
+                    currentBatch = null;
+
+                    return IterationResult.WAIT;
+                }
+
+                currentBatch = new ListRowBatch(rows);
+
+                return IterationResult.FETCHED;
+            }
+
+            Row row = batches[stripe].getRow(positions[stripe]++);
+
+            if (remainingOffset > 0) {
+                remainingOffset--;
+            } else {
+                rows.add(row);
+
+                // Stop as soon as the fetch is exhausted, without waiting for the remaining senders.
+                last = --remainingFetch == 0;
+            }
+        }
+
+        currentBatch = new ListRowBatch(rows);
+
+        return last ? IterationResult.FETCHED_DONE : IterationResult.FETCHED;
+    }
+
+    @Override
+    public RowBatch currentBatch0() {
+        return currentBatch;
+    }
+
+    public StripedInbox getInbox() {
+        return inbox;
+    }
+
+    public List<Integer> getColumns() {
+        return columns;
+    }
+
+    public List<Boolean> getAscending() {
+        return ascending;
+    }
+
+    public Expression<?> getFetch() {
+        return fetch;
+    }
+
+    public Expression<?> getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return Index of the stripe with the smallest current row, {@link #STRIPE_WAIT} if some stripe has no buffered
+     *     rows yet, or {@link #STRIPE_DONE} if all stripes are exhausted.
+     */
+    private int nextStripe() {
+        int res = STRIPE_DONE;
+        Row resRow = null;
+
+        for (int i = 0; i < batches.length; i++) {
+            if (!ensureRow(i)) {
+                if (done[i]) {
+                    continue;
+                }
+
+                return STRIPE_WAIT;
+            }
+
+            Row row = batches[i].getRow(positions[i]);
+
+            if (resRow == null || comparator.compare(row, resRow) < 0) {
+                res = i;
+                resRow = row;
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Make sure that the stripe has a row at the current position, polling the inbox if needed.
+     *
+     * @return {@code true} if the row is available.
+     */
+    private boolean ensureRow(int stripe) {
+        while (batches[stripe] == null || positions[stripe] == batches[stripe].getRowCount()) {
+            if (done[stripe]) {
+                return false;
+            }
+
+            InboundBatch batch = inbox.poll(stripe);
+
+            if (batch == null) {
+                return false;
+            }
+
+            batches[stripe] = batch.getBatch();
+            positions[stripe] = 0;
+            done[stripe] = batch.isLast();
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.io;
+
+import com.hazelcast.sql.impl.QueryId;
+import com.hazelcast.sql.impl.exec.io.flowcontrol.FlowControl;
+import com.hazelcast.sql.impl.operation.QueryOperationHandler;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Inbox which keeps batches from different senders in separate stripes. Batches of a single sender are received in the
+ * order they were sent, so a stripe preserves the order of rows produced by the sender.
+ */
+public class StripedInbox extends AbstractInbox {
+    /** Map from the sender member ID to the stripe index. */
+    private final Map<UUID, Integer> senderStripes;
+
+    /** Batches of every stripe. */
+    private final ArrayDeque<InboundBatch>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public StripedInbox(
+        QueryOperationHandler operationHandler,
+        QueryId queryId,
+        int edgeId,
+        int rowWidth,
+        UUID localMemberId,
+        Collection<UUID> senderMemberIds,
+        FlowControl flowControl
+    ) {
+        super(operationHandler, queryId, edgeId, rowWidth, localMemberId, senderMemberIds.size(), flowControl);
+
+        senderStripes = new HashMap<>(senderMemberIds.size());
+        stripes = new ArrayDeque[senderMemberIds.size()];
+
+        for (UUID senderMemberId : senderMemberIds) {
+            int index = senderStripes.size();
+
+            senderStripes.put(senderMemberId, index);
+            stripes[index] = new ArrayDeque<>();
+        }
+    }
+
+    @Override
+    protected void onBatch0(InboundBatch batch) {
+        Integer index = senderStripes.get(batch.getSenderId());
+
+        assert index != null : "Unknown sender: " + batch.getSenderId();
+
+        stripes[index].addLast(batch);
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    public InboundBatch poll(int stripe) {
+        InboundBatch batch = stripes[stripe].pollFirst();
+
+        onBatchPolled(batch);
+
+        return batch;
+    }
+
+    @Override
+    public String toString() {
+        return "StripedInbox {queryId=" + queryId + ", edgeId=" + edgeId + "}";
+    }
+}
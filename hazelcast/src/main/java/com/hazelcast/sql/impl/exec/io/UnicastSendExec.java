@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.io;
+
+import com.hazelcast.internal.util.HashUtil;
+import com.hazelcast.sql.impl.exec.Exec;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sender that sends every row to exactly one outbox, chosen by the hash of the hash key columns. Senders on all
+ * members must observe outboxes in the same order, so that rows with equal keys are delivered to the same member.
+ */
+public class UnicastSendExec extends AbstractMultiOutboxSendExec {
+
+    private static final int HASH_MULTIPLIER = 31;
+
+    private final List<Integer> hashKeys;
+    private final OutboxSendQualifier[] qualifiers;
+
+    /** Index of the target outbox for every row of the current batch. */
+    private int[] rowOutboxIndexes = new int[0];
+
+    public UnicastSendExec(int id, Exec upstream, Outbox[] outboxes, List<Integer> hashKeys) {
+        super(id, upstream, outboxes);
+
+        this.hashKeys = hashKeys;
+
+        qualifiers = new OutboxSendQualifier[outboxes.length];
+
+        for (int i = 0; i < outboxes.length; i++) {
+            int outboxIndex = i;
+
+            qualifiers[i] = rowIndex -> rowOutboxIndexes[rowIndex] == outboxIndex;
+        }
+    }
+
+    @Override
+    protected void setCurrentBatch(RowBatch batch) {
+        int rowCount = batch.getRowCount();
+
+        if (rowOutboxIndexes.length < rowCount) {
+            rowOutboxIndexes = new int[rowCount];
+        }
+
+        for (int i = 0; i < rowCount; i++) {
+            rowOutboxIndexes[i] = HashUtil.hashToIndex(hash(batch.getRow(i), hashKeys), outboxes.length);
+        }
+    }
+
+    @Override
+    protected OutboxSendQualifier getOutboxQualifier(int outboxIndex) {
+        return qualifiers[outboxIndex];
+    }
+
+    public List<Integer> getHashKeys() {
+        return hashKeys;
+    }
+
+    /**
+     * Calculate the hash of the given row. Must be consistent with the {@code equals} of the key values, and must
+     * produce the same result on all members.
+     */
+    static int hash(Row row, List<Integer> hashKeys) {
+        int res = 0;
+
+        for (Integer hashKey : hashKeys) {
+            res = HASH_MULTIPLIER * res + Objects.hashCode(row.get(hashKey));
+        }
+
+        return res;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.join;
+
+import com.hazelcast.sql.impl.exec.AbstractExec;
+import com.hazelcast.sql.impl.exec.Exec;
+import com.hazelcast.sql.impl.exec.IterationResult;
+import com.hazelcast.sql.impl.exec.UpstreamState;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.row.EmptyRowBatch;
+import com.hazelcast.sql.impl.row.HeapRow;
+import com.hazelcast.sql.impl.row.JoinRow;
+import com.hazelcast.sql.impl.row.ListRowBatch;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.sql.impl.worker.QueryFragmentContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash join executor. Consumes all rows from the right upstream into a hash table keyed by the right hash keys, and
+ * then probes rows of the left upstream against it, producing a {@link JoinRow} for every matching pair.
+ * <p>
+ * If there are no hash keys, all right rows share the same key, so that every left row is matched against all right
+ * rows. This is used for joins without equi-conditions.
+ * <p>
+ * For the outer join, a left row without matches is returned once, with {@code NULL} values in place of the right
+ * columns. For the inner join, the left upstream is not consumed at all if the right upstream is empty.
+ */
+public class HashJoinExec extends AbstractExec {
+
+    static final int BATCH_SIZE = 1024;
+
+    private final Exec left;
+    private final Exec right;
+    private final UpstreamState leftState;
+    private final UpstreamState rightState;
+    private final List<Integer> leftHashKeys;
+    private final List<Integer> rightHashKeys;
+    private final Expression<Boolean> filter;
+    private final boolean outer;
+    private final Row emptyRightRow;
+
+    private final Map<JoinKey, List<Row>> table = new HashMap<>();
+    private boolean built;
+
+    private List<Row> currentRows;
+    private RowBatch currentBatch;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public HashJoinExec(
+        int id,
+        Exec left,
+        Exec right,
+        List<Integer> leftHashKeys,
+        List<Integer> rightHashKeys,
+        Expression<Boolean> filter,
+        boolean outer,
+        int rightColumnCount
+    ) {
+        super(id);
+
+        assert leftHashKeys.size() == rightHashKeys.size();
+
+        this.left = left;
+        this.right = right;
+        this.leftHashKeys = leftHashKeys;
+        this.rightHashKeys = rightHashKeys;
+        this.filter = filter;
+        this.outer = outer;
+
+        leftState = new UpstreamState(left);
+        rightState = new UpstreamState(right);
+        emptyRightRow = new HeapRow(rightColumnCount);
+    }
+
+    @Override
+    protected void setup0(QueryFragmentContext ctx) {
+        leftState.setup(ctx);
+        rightState.setup(ctx);
+    }
+
+    @Override
+    public IterationResult advance0() {
+        if (!built) {
+            if (!build()) {
+                return IterationResult.WAIT;
+            }
+
+            if (table.isEmpty() && !outer) {
+                // Nothing could be joined.
+                currentBatch = EmptyRowBatch.INSTANCE;
+
+                return IterationResult.FETCHED_DONE;
+            }
+        }
+
+        if (currentRows == null) {
+            currentRows = new ArrayList<>(BATCH_SIZE);
+            currentBatch = null;
+        }
+
+        while (true) {
+            if (!leftState.advance()) {
+                return IterationResult.WAIT;
+            }
+
+            Row leftRow;
+
+            while ((leftRow = leftState.nextIfExists()) != null) {
+                probe(leftRow);
+
+                if (currentRows.size() >= BATCH_SIZE) {
+                    return prepareBatch(leftState.isDone() ? IterationResult.FETCHED_DONE : IterationResult.FETCHED);
+                }
+            }
+
+            if (leftState.isDone()) {
+                return prepareBatch(IterationResult.FETCHED_DONE);
+            }
+        }
+    }
+
+    @Override
+    protected RowBatch currentBatch0() {
+        return currentBatch;
+    }
+
+    /**
+     * Consume the right upstream into the hash table.
+     *
+     * @return {@code true} if the right upstream is exhausted, {@code false} if more data is expected.
+     */
+    private boolean build() {
+        while (true) {
+            if (!rightState.advance()) {
+                return false;
+            }
+
+            for (Row row : rightState) {
+                JoinKey key = JoinKey.create(row, rightHashKeys);
+
+                if (key != null) {
+                    table.computeIfAbsent(key, k -> new ArrayList<>(1)).add(row);
+                }
+            }
+
+            if (rightState.isDone()) {
+                built = true;
+
+                return true;
+            }
+        }
+    }
+
+    private void probe(Row leftRow) {
+        JoinKey key = JoinKey.create(leftRow, leftHashKeys);
+        List<Row> rightRows = key != null ? table.get(key) : null;
+
+        boolean matched = false;
+
+        if (rightRows != null) {
+            for (Row rightRow : rightRows) {
+                JoinRow row = new JoinRow(leftRow, rightRow);
+
+                if (filter != null) {
+                    Boolean res = filter.eval(row, ctx);
+
+                    if (res == null || !res) {
+                        continue;
+                    }
+                }
+
+                currentRows.add(row);
+                matched = true;
+            }
+        }
+
+        if (!matched && outer) {
+            currentRows.add(new JoinRow(leftRow, emptyRightRow));
+        }
+    }
+
+    private IterationResult prepareBatch(IterationResult result) {
+        currentBatch = new ListRowBatch(currentRows);
+        currentRows = null;
+
+        return result;
+    }
+
+    public Exec getLeft() {
+        return left;
+    }
+
+    public Exec getRight() {
+        return right;
+    }
+
+    public List<Integer> getLeftHashKeys() {
+        return leftHashKeys;
+    }
+
+    public List<Integer> getRightHashKeys() {
+        return rightHashKeys;
+    }
+
+    public Expression<Boolean> getFilter() {
+        return filter;
+    }
+
+    public boolean isOuter() {
+        return outer;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.join;
+
+import com.hazelcast.sql.impl.row.Row;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Values of the hash key columns of a single row.
+ */
+final class JoinKey {
+
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    private static final JoinKey EMPTY = new JoinKey(EMPTY_VALUES);
+
+    private final Object[] values;
+    private final int hash;
+
+    private JoinKey(Object[] values) {
+        this.values = values;
+
+        hash = Arrays.hashCode(values);
+    }
+
+    /**
+     * Create the key for the given row.
+     *
+     * @param row Row.
+     * @param hashKeys Indexes of the hash key columns.
+     * @return Key or {@code null} if any of the key values is {@code NULL}, since such row cannot match anything.
+     */
+    static JoinKey create(Row row, List<Integer> hashKeys) {
+        if (hashKeys.isEmpty()) {
+            return EMPTY;
+        }
+
+        Object[] values = new Object[hashKeys.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            Object value = row.get(hashKeys.get(i));
+
+            if (value == null) {
+                return null;
+            }
+
+            values[i] = value;
+        }
+
+        return new JoinKey(values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        JoinKey that = (JoinKey) o;
+
+        return hash == that.hash && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public String toString() {
+        return "JoinKey" + Arrays.toString(values);
+    }
+}
@@ -20,32 +20,55 @@ import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.row.Row;
 import com.hazelcast.sql.impl.worker.QueryFragmentContext;
 
+import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
  * Blocking array-based result consumer which delivers the results to API caller.
+ * <p>
+ * The consumer maintains a window of batches that the root fragment may produce ahead of the API caller. Every batch taken
+ * by the caller returns a credit to the producer, which is then rescheduled to fill the window again. This way the
+ * production of the next batches overlaps with the consumption of the current one.
  */
 public class BlockingRootResultConsumer implements RootResultConsumer {
+    /** Default number of batches that could be produced ahead of the consumer. */
+    public static final int DEFAULT_WINDOW = 1;
+
     /** Mutex for concurrency support. */
     private final Object mux = new Object();
 
+    /** Maximum number of batches that could be buffered. */
+    private final int window;
+
+    /** Batches that are produced, but not consumed yet. */
+    private final ArrayDeque<List<Row>> batches;
+
     /** Iterator over produced rows. */
     private final InternalIterator iterator = new InternalIterator();
 
     /** Query context to schedule root execution when the next batch is needed. */
     private volatile QueryFragmentContext context;
 
-    /** The batch that is currently being consumed. */
-    private List<Row> currentBatch;
-
     /** When "true" no more batches are expected. */
     private boolean done;
 
     /** Error which occurred during query execution. */
     private QueryException doneError;
 
+    public BlockingRootResultConsumer() {
+        this(DEFAULT_WINDOW);
+    }
+
+    public BlockingRootResultConsumer(int window) {
+        assert window > 0;
+
+        this.window = window;
+
+        batches = new ArrayDeque<>(window);
+    }
+
     @Override
     public void setup(QueryFragmentContext context) {
         this.context = context;
@@ -56,9 +79,9 @@ public class BlockingRootResultConsumer implements RootResultConsumer {
         synchronized (mux) {
             assert !done;
 
-            if (currentBatch == null) {
+            if (batches.size() < window) {
                 if (!batch.isEmpty()) {
-                    currentBatch = batch;
+                    batches.add(batch);
                 }
 
                 if (last) {
@@ -77,29 +100,42 @@ public class BlockingRootResultConsumer implements RootResultConsumer {
     @Override
     public void onError(QueryException error) {
         synchronized (mux) {
-            if (!done) {
+            // The error is reported if there are results that are not delivered to the caller yet. This includes the case
+            // when the last batch has already been produced, but not consumed.
+            if (!done || (doneError == null && !batches.isEmpty())) {
                 done = true;
                 doneError = error;
 
+                batches.clear();
+
                 mux.notifyAll();
             }
         }
     }
 
     /**
-     * Poll the next batch from the upstream, waiting if needed.
+     * Poll the next batch from the upstream, waiting if needed. Polling of a batch frees a slot in the window, so the
+     * producer is requested to continue.
      *
      * @return The batch or {@code null} if end of stream is reached.
      */
     private List<Row> awaitNextBatch() {
+        List<Row> res = awaitNextBatch0();
+
+        if (res != null) {
+            requestNextBatch();
+        }
+
+        return res;
+    }
+
+    private List<Row> awaitNextBatch0() {
         synchronized (mux) {
             while (true) {
                 // Consume the batch if it is available.
-                if (currentBatch != null) {
-                    List<Row> res = currentBatch;
-
-                    currentBatch = null;
+                List<Row> res = batches.poll();
 
+                if (res != null) {
                     return res;
                 }
 
@@ -182,8 +218,6 @@ public class BlockingRootResultConsumer implements RootResultConsumer {
             if (position == batch.size()) {
                 batch = null;
                 position = 0;
-
-                requestNextBatch();
             }
 
             return res;
@@ -17,6 +17,7 @@
 package com.hazelcast.sql.impl.exec.scan;
 
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.query.impl.Metadata;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.sql.SqlErrorCode;
 import com.hazelcast.sql.impl.QueryException;
@@ -26,19 +27,19 @@ import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.predicate.TernaryLogic;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
-import com.hazelcast.sql.impl.row.EmptyRow;
-import com.hazelcast.sql.impl.row.HeapRow;
-import com.hazelcast.sql.impl.row.ListRowBatch;
-import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.ColumnarRowBatch;
 import com.hazelcast.sql.impl.row.RowBatch;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.sql.impl.worker.QueryFragmentContext;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Common operator for map scans.
+ * <p>
+ * Projected values are written directly to the columns of a {@link ColumnarRowBatch}, so that no intermediate row
+ * objects are created for map entries.
  */
 public abstract class AbstractMapScanExec extends AbstractExec {
 
@@ -59,7 +60,8 @@ public abstract class AbstractMapScanExec extends AbstractExec {
     private KeyValueIterator recordIterator;
 
     private MapScanRow row;
-    private List<Row> currentRows;
+    private ColumnVector[] currentColumns;
+    private int currentRowCount;
 
     protected AbstractMapScanExec(
         int id,
@@ -107,21 +109,14 @@ public abstract class AbstractMapScanExec extends AbstractExec {
 
     @Override
     protected IterationResult advance0() {
-        currentRows = null;
+        currentColumns = null;
+        currentRowCount = 0;
 
         while (recordIterator.tryAdvance()) {
-            Row row = prepareRow(recordIterator.getKey(), recordIterator.getValue());
+            boolean added = prepareRow(recordIterator.getKey(), recordIterator.getValue(), recordIterator.getMetadata());
 
-            if (row != null) {
-                if (currentRows == null) {
-                    currentRows = new ArrayList<>(BATCH_SIZE);
-                }
-
-                currentRows.add(row);
-
-                if (currentRows.size() == BATCH_SIZE) {
-                    break;
-                }
+            if (added && currentRowCount == BATCH_SIZE) {
+                break;
             }
         }
 
@@ -148,7 +143,7 @@ public abstract class AbstractMapScanExec extends AbstractExec {
 
     @Override
     public RowBatch currentBatch0() {
-        return currentRows != null ? new ListRowBatch(currentRows) : null;
+        return currentColumns != null ? new ColumnarRowBatch(currentColumns, currentRowCount) : null;
     }
 
     protected abstract int getMigrationStamp();
@@ -162,34 +157,38 @@ public abstract class AbstractMapScanExec extends AbstractExec {
     /**
      * Prepare the row for the given key and value:
      * 1) Check filter
-     * 2) Extract projections
+     * 2) Extract projections into the columns of the current batch
      *
      * @param rawKey Key (data or object)
      * @param rawValue Value (data or object)
-     * @return Row that is ready for processing by parent operators or {@code null} if the row hasn't passed the filter.
+     * @param metadata Record metadata (may be null)
+     * @return {@code true} if the row has been added to the current batch, {@code false} if the row hasn't passed the
+     *     filter.
      */
-    protected Row prepareRow(Object rawKey, Object rawValue) {
-        row.setKeyValue(rawKey, rawValue);
+    protected boolean prepareRow(Object rawKey, Object rawValue, Metadata metadata) {
+        row.setKeyValue(rawKey, rawValue, metadata);
 
         // Filter.
         if (filter != null && TernaryLogic.isNotTrue(filter.eval(row, ctx))) {
-            return null;
+            return false;
         }
 
         // Project.
-        if (projects.size() == 0) {
-            return EmptyRow.INSTANCE;
-        }
+        if (currentColumns == null) {
+            currentColumns = new ColumnVector[projects.size()];
 
-        HeapRow row = new HeapRow(projects.size());
+            for (int j = 0; j < projects.size(); j++) {
+                currentColumns[j] = ColumnVector.create(fieldTypes.get(projects.get(j)), BATCH_SIZE);
+            }
+        }
 
         for (int j = 0; j < projects.size(); j++) {
-            Object projectRes = this.row.get(projects.get(j));
-
-            row.set(j, projectRes);
+            currentColumns[j].set(currentRowCount, row.get(projects.get(j)));
         }
 
-        return row;
+        currentRowCount++;
+
+        return true;
     }
 
     /**
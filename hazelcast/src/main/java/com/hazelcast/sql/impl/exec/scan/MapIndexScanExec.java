@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.scan;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.query.impl.Indexes;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.sql.impl.exec.scan.index.IndexFilter;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+import java.util.List;
+
+/**
+ * Executor for map index scan.
+ * <p>
+ * Entries are looked up in the index with the help of the index filter, and then the remainder filter is applied to them.
+ * If the index is not available on the local member (e.g. it has been destroyed, or it is still being populated),
+ * the executor falls back to the normal scan, which is always correct because the remainder filter contains the whole
+ * original predicate.
+ */
+public class MapIndexScanExec extends MapScanExec {
+
+    private final String indexName;
+    private final IndexFilter indexFilter;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public MapIndexScanExec(
+        int id,
+        MapContainer map,
+        PartitionIdSet partitions,
+        QueryTargetDescriptor keyDescriptor,
+        QueryTargetDescriptor valueDescriptor,
+        List<QueryPath> fieldPaths,
+        List<QueryDataType> fieldTypes,
+        List<Integer> projects,
+        String indexName,
+        IndexFilter indexFilter,
+        Expression<Boolean> filter,
+        InternalSerializationService serializationService
+    ) {
+        super(
+            id,
+            map,
+            partitions,
+            keyDescriptor,
+            valueDescriptor,
+            fieldPaths,
+            fieldTypes,
+            projects,
+            filter,
+            serializationService
+        );
+
+        this.indexName = indexName;
+        this.indexFilter = indexFilter;
+    }
+
+    @Override
+    protected KeyValueIterator createIterator() {
+        // Partitions might be pruned completely on the member, no need to touch the index then.
+        if (partitions.isEmpty()) {
+            return super.createIterator();
+        }
+
+        InternalIndex index = getIndex();
+
+        if (index == null) {
+            return super.createIterator();
+        }
+
+        return new MapIndexScanExecIterator(map, partitions, indexFilter.getEntries(index, ctx));
+    }
+
+    /**
+     * Get the index that could be used for the scan.
+     *
+     * @return Index or {@code null} if the index cannot be used.
+     */
+    private InternalIndex getIndex() {
+        // Only global indexes are supported at the moment. Partitioned indexes are used only for HD maps.
+        if (!map.isGlobalIndexEnabled()) {
+            return null;
+        }
+
+        Indexes indexes = map.getIndexes();
+
+        InternalIndex index = indexes.getIndex(indexName);
+
+        if (index == null) {
+            return null;
+        }
+
+        int ownedPartitionCount = map.getMapServiceContext().getOwnedPartitions().size();
+
+        // Do not use the index if some partitions are not indexed yet.
+        if (!index.allPartitionsIndexed(ownedPartitionCount)) {
+            return null;
+        }
+
+        return index;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public IndexFilter getIndexFilter() {
+        return indexFilter;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.scan;
+
+import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.query.impl.CachedQueryEntry;
+import com.hazelcast.query.impl.Metadata;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.sql.SqlErrorCode;
+import com.hazelcast.sql.impl.QueryException;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Iterator over entries returned from the index.
+ * <p>
+ * Global index contains entries from all owned partitions, so the entries from partitions that do not belong to the
+ * scan are skipped.
+ */
+@SuppressWarnings("rawtypes")
+public class MapIndexScanExecIterator implements KeyValueIterator {
+
+    private final PartitionIdSet partitions;
+    private final IPartitionService partitionService;
+    private final Iterator<QueryableEntry> entryIterator;
+
+    private Object currentKey;
+    private Object currentValue;
+    private Metadata currentMetadata;
+    private Object nextKey;
+    private Object nextValue;
+    private Metadata nextMetadata;
+
+    public MapIndexScanExecIterator(
+        MapContainer map,
+        PartitionIdSet partitions,
+        Collection<QueryableEntry> entries
+    ) {
+        PartitionIdSet ownedPartitions = map.getMapServiceContext().getOwnedPartitions();
+
+        for (int partition : partitions) {
+            if (!ownedPartitions.contains(partition)) {
+                throw QueryException.error(
+                    SqlErrorCode.PARTITION_NOT_OWNED,
+                    "Partition is not owned by member: " + partition
+                ).withInvalidate();
+            }
+        }
+
+        this.partitions = partitions;
+        this.partitionService = map.getMapServiceContext().getNodeEngine().getPartitionService();
+        this.entryIterator = entries.iterator();
+
+        advance0();
+    }
+
+    @Override
+    public boolean tryAdvance() {
+        if (!done()) {
+            currentKey = nextKey;
+            currentValue = nextValue;
+            currentMetadata = nextMetadata;
+
+            advance0();
+
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean done() {
+        return nextKey == null;
+    }
+
+    private void advance0() {
+        while (entryIterator.hasNext()) {
+            QueryableEntry entry = entryIterator.next();
+
+            if (!partitions.contains(partitionService.getPartitionId(entry.getKeyData()))) {
+                continue;
+            }
+
+            nextKey = entry.getKeyData();
+            nextValue = entry instanceof CachedQueryEntry
+                ? ((CachedQueryEntry) entry).getByPrioritizingDataValue() : entry.getValue();
+            nextMetadata = entry.getMetadata();
+
+            return;
+        }
+
+        nextKey = null;
+        nextValue = null;
+        nextMetadata = null;
+    }
+
+    @Override
+    public Object getKey() {
+        return currentKey;
+    }
+
+    @Override
+    public Object getValue() {
+        return currentValue;
+    }
+
+    @Override
+    public Metadata getMetadata() {
+        return currentMetadata;
+    }
+}
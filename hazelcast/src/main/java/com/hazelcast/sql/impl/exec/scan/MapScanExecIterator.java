@@ -21,6 +21,7 @@ import com.hazelcast.internal.util.Clock;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.impl.Metadata;
 import com.hazelcast.spi.exception.RetryableHazelcastException;
 import com.hazelcast.sql.SqlErrorCode;
 import com.hazelcast.sql.impl.QueryException;
@@ -43,8 +44,10 @@ public class MapScanExecIterator implements KeyValueIterator {
 
     private Data currentKey;
     private Object currentValue;
+    private Metadata currentMetadata;
     private Data nextKey;
     private Object nextValue;
+    private Metadata nextMetadata;
 
     public MapScanExecIterator(MapContainer map, Iterator<Integer> partsIterator) {
         this.map = map;
@@ -58,6 +61,7 @@ public class MapScanExecIterator implements KeyValueIterator {
         if (!done()) {
             currentKey = nextKey;
             currentValue = nextValue;
+            currentMetadata = nextMetadata;
 
             advance0();
 
@@ -83,6 +87,7 @@ public class MapScanExecIterator implements KeyValueIterator {
                 if (!partsIterator.hasNext()) {
                     nextKey = null;
                     nextValue = null;
+                    nextMetadata = null;
 
                     return;
                 } else {
@@ -124,6 +129,7 @@ public class MapScanExecIterator implements KeyValueIterator {
                 if (!currentRecordStore.isExpired(entry.getValue(), now, false)) {
                     nextKey = entry.getKey();
                     nextValue = entry.getValue().getValue();
+                    nextMetadata = entry.getValue().getMetadata();
 
                     return;
                 }
@@ -144,4 +150,9 @@ public class MapScanExecIterator implements KeyValueIterator {
     public Object getValue() {
         return currentValue;
     }
+
+    @Override
+    public Metadata getMetadata() {
+        return currentMetadata;
+    }
 }
@@ -17,6 +17,7 @@
 package com.hazelcast.sql.impl.exec.scan;
 
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.query.impl.Metadata;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.sql.impl.extract.QueryExtractor;
 import com.hazelcast.sql.impl.extract.QueryPath;
@@ -70,10 +71,16 @@ public final class MapScanRow implements Row {
      *
      * @param rawKey Key (object or data).
      * @param rawValue Value (objecct or data).
+     * @param metadata Record metadata (may be null).
      */
-    public void setKeyValue(Object rawKey, Object rawValue) {
-        keyTarget.setTarget(rawKey);
-        valueTarget.setTarget(rawValue);
+    public void setKeyValue(Object rawKey, Object rawValue, Metadata metadata) {
+        if (metadata != null) {
+            keyTarget.setTarget(rawKey, metadata.getKeyMetadata());
+            valueTarget.setTarget(rawValue, metadata.getValueMetadata());
+        } else {
+            keyTarget.setTarget(rawKey, null);
+            valueTarget.setTarget(rawValue, null);
+        }
     }
 
     @SuppressWarnings("unchecked")
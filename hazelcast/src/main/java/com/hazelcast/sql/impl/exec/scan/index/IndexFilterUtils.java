@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.scan.index;
+
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.EmptyRow;
+
+/**
+ * Utility methods for index filters.
+ */
+public final class IndexFilterUtils {
+    private IndexFilterUtils() {
+        // No-op.
+    }
+
+    /**
+     * Evaluate the value of the filter. The expression is not allowed to reference row columns.
+     *
+     * @param expression Expression.
+     * @param evalContext Context.
+     * @return Value or {@code null} if the expression evaluated to {@code null}.
+     */
+    @SuppressWarnings("rawtypes")
+    public static Comparable evaluate(Expression<?> expression, ExpressionEvalContext evalContext) {
+        Object value = expression.eval(EmptyRow.INSTANCE, evalContext);
+
+        return (Comparable) value;
+    }
+}
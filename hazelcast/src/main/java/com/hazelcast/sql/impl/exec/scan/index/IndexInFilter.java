@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.scan.index;
+
+import com.hazelcast.internal.serialization.impl.SerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.predicates.InPredicate;
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Filter that returns entries with the attribute equal to one of the given values.
+ */
+@SuppressWarnings("rawtypes")
+public class IndexInFilter implements IndexFilter {
+
+    private List<Expression<?>> values;
+
+    public IndexInFilter() {
+        // No-op.
+    }
+
+    public IndexInFilter(List<Expression<?>> values) {
+        this.values = values;
+    }
+
+    public List<Expression<?>> getValues() {
+        return values;
+    }
+
+    @Override
+    public Set<QueryableEntry> getEntries(InternalIndex index, ExpressionEvalContext evalContext) {
+        if (index.getConverter() == null) {
+            return Collections.emptySet();
+        }
+
+        List<Comparable> values0 = new ArrayList<>(values.size());
+
+        for (Expression<?> value : values) {
+            Comparable value0 = IndexFilterUtils.evaluate(value, evalContext);
+
+            // Comparison with NULL never yields TRUE, so the value is skipped.
+            if (value0 != null) {
+                values0.add(value0);
+            }
+        }
+
+        if (values0.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Comparable[] valuesArray = values0.toArray(new Comparable[0]);
+
+        if (index.isEvaluateOnly()) {
+            return index.evaluate(new InPredicate(index.getComponents()[0], valuesArray));
+        }
+
+        return index.getRecords(valuesArray);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SqlDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SqlDataSerializerHook.INDEX_FILTER_IN;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        SerializationUtil.writeList(values, out);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        values = SerializationUtil.readList(in);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        IndexInFilter that = (IndexInFilter) o;
+
+        return Objects.equals(values, that.values);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{values=" + values + '}';
+    }
+}
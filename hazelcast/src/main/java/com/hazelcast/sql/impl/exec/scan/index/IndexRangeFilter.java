@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.scan.index;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.query.impl.Comparison;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Filter that returns entries with the attribute within the given range. Either bound may be absent. Requires a sorted index.
+ */
+@SuppressWarnings("rawtypes")
+public class IndexRangeFilter implements IndexFilter {
+
+    private Expression<?> from;
+    private boolean fromInclusive;
+    private Expression<?> to;
+    private boolean toInclusive;
+
+    public IndexRangeFilter() {
+        // No-op.
+    }
+
+    public IndexRangeFilter(Expression<?> from, boolean fromInclusive, Expression<?> to, boolean toInclusive) {
+        assert from != null || to != null;
+
+        this.from = from;
+        this.fromInclusive = fromInclusive;
+        this.to = to;
+        this.toInclusive = toInclusive;
+    }
+
+    public Expression<?> getFrom() {
+        return from;
+    }
+
+    public boolean isFromInclusive() {
+        return fromInclusive;
+    }
+
+    public Expression<?> getTo() {
+        return to;
+    }
+
+    public boolean isToInclusive() {
+        return toInclusive;
+    }
+
+    @Override
+    public Set<QueryableEntry> getEntries(InternalIndex index, ExpressionEvalContext evalContext) {
+        assert index.isOrdered();
+
+        if (index.getConverter() == null) {
+            return Collections.emptySet();
+        }
+
+        Comparable fromValue = from != null ? IndexFilterUtils.evaluate(from, evalContext) : null;
+        Comparable toValue = to != null ? IndexFilterUtils.evaluate(to, evalContext) : null;
+
+        // Comparison with NULL never yields TRUE.
+        if ((from != null && fromValue == null) || (to != null && toValue == null)) {
+            return Collections.emptySet();
+        }
+
+        if (from == null) {
+            return index.getRecords(toInclusive ? Comparison.LESS_OR_EQUAL : Comparison.LESS, toValue);
+        } else if (to == null) {
+            return index.getRecords(fromInclusive ? Comparison.GREATER_OR_EQUAL : Comparison.GREATER, fromValue);
+        } else {
+            return index.getRecords(fromValue, fromInclusive, toValue, toInclusive);
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SqlDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SqlDataSerializerHook.INDEX_FILTER_RANGE;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(from);
+        out.writeBoolean(fromInclusive);
+        out.writeObject(to);
+        out.writeBoolean(toInclusive);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        from = in.readObject();
+        fromInclusive = in.readBoolean();
+        to = in.readObject();
+        toInclusive = in.readBoolean();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, fromInclusive, to, toInclusive);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        IndexRangeFilter that = (IndexRangeFilter) o;
+
+        return fromInclusive == that.fromInclusive
+            && toInclusive == that.toInclusive
+            && Objects.equals(from, that.from)
+            && Objects.equals(to, that.to);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{from=" + from + ", fromInclusive=" + fromInclusive
+            + ", to=" + to + ", toInclusive=" + toInclusive + '}';
+    }
+}
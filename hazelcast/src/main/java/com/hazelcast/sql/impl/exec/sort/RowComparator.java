@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.sort;
+
+import com.hazelcast.sql.impl.row.Row;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compares rows by the given columns. NULL is considered greater than any other value, so it goes last in ascending
+ * order and first in descending order.
+ */
+public final class RowComparator implements Comparator<Row> {
+
+    private final int[] columns;
+    private final boolean[] ascending;
+
+    public RowComparator(List<Integer> columns, List<Boolean> ascending) {
+        assert columns.size() == ascending.size();
+
+        this.columns = new int[columns.size()];
+        this.ascending = new boolean[ascending.size()];
+
+        for (int i = 0; i < columns.size(); i++) {
+            this.columns[i] = columns.get(i);
+            this.ascending[i] = ascending.get(i);
+        }
+    }
+
+    /**
+     * @return {@code true} if the comparator has no columns, so that all rows are equal.
+     */
+    public boolean isEmpty() {
+        return columns.length == 0;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public int compare(Row row1, Row row2) {
+        for (int i = 0; i < columns.length; i++) {
+            Comparable value1 = row1.get(columns[i]);
+            Comparable value2 = row2.get(columns[i]);
+
+            int res;
+
+            if (value1 == null) {
+                res = value2 == null ? 0 : 1;
+            } else if (value2 == null) {
+                res = -1;
+            } else {
+                res = value1.compareTo(value2);
+            }
+
+            if (res != 0) {
+                return ascending[i] ? res : -res;
+            }
+        }
+
+        return 0;
+    }
+}
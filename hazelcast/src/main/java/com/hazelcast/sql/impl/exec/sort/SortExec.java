@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.sort;
+
+import com.hazelcast.sql.impl.exec.AbstractUpstreamAwareExec;
+import com.hazelcast.sql.impl.exec.Exec;
+import com.hazelcast.sql.impl.exec.IterationResult;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.row.ListRowBatch;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.sql.impl.worker.QueryFragmentContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Blocking sort executor. Consumes all rows from the upstream, and produces them in the order defined by the sort
+ * columns once the upstream is exhausted.
+ * <p>
+ * If the fetch is defined, only {@code offset + fetch} rows are retained in a bounded heap (Top-N), so that memory
+ * consumption doesn't depend on the size of the input. Otherwise all rows are accumulated and sorted at once.
+ */
+public class SortExec extends AbstractUpstreamAwareExec {
+
+    static final int BATCH_SIZE = 1024;
+
+    private final List<Integer> columns;
+    private final List<Boolean> ascending;
+    private final Expression<?> fetch;
+    private final Expression<?> offset;
+
+    private final RowComparator comparator;
+
+    /** Number of rows to skip. */
+    private long offsetValue;
+
+    /** Maximum number of rows to retain, or {@link SortUtils#NO_LIMIT}. */
+    private long limit;
+
+    /** Max-heap of the best rows seen so far, used when the limit is defined. */
+    private PriorityQueue<Row> heap;
+
+    /** All rows, used when the limit is not defined. */
+    private List<Row> rows;
+
+    private List<Row> result;
+    private int resultPosition;
+    private RowBatch currentBatch;
+
+    public SortExec(
+        int id,
+        Exec upstream,
+        List<Integer> columns,
+        List<Boolean> ascending,
+        Expression<?> fetch,
+        Expression<?> offset
+    ) {
+        super(id, upstream);
+
+        this.columns = columns;
+        this.ascending = ascending;
+        this.fetch = fetch;
+        this.offset = offset;
+
+        comparator = new RowComparator(columns, ascending);
+    }
+
+    @Override
+    protected void setup1(QueryFragmentContext ctx) {
+        offsetValue = SortUtils.evaluateLimit(offset, ctx, 0);
+
+        long fetchValue = SortUtils.evaluateLimit(fetch, ctx, SortUtils.NO_LIMIT);
+
+        limit = SortUtils.addLimits(fetchValue, offsetValue);
+
+        if (limit == SortUtils.NO_LIMIT) {
+            rows = new ArrayList<>();
+        } else {
+            heap = new PriorityQueue<>((int) Math.min(limit, BATCH_SIZE) + 1, Collections.reverseOrder(comparator));
+        }
+    }
+
+    @Override
+    public IterationResult advance0() {
+        if (result == null) {
+            while (true) {
+                if (!state.advance()) {
+                    return IterationResult.WAIT;
+                }
+
+                for (Row row : state) {
+                    consumeRow(row);
+                }
+
+                if (state.isDone()) {
+                    break;
+                }
+            }
+
+            result = finish();
+            resultPosition = (int) Math.min(offsetValue, result.size());
+        }
+
+        return prepareBatch();
+    }
+
+    @Override
+    public RowBatch currentBatch0() {
+        return currentBatch;
+    }
+
+    public List<Integer> getColumns() {
+        return columns;
+    }
+
+    public List<Boolean> getAscending() {
+        return ascending;
+    }
+
+    public Expression<?> getFetch() {
+        return fetch;
+    }
+
+    public Expression<?> getOffset() {
+        return offset;
+    }
+
+    private void consumeRow(Row row) {
+        if (heap == null) {
+            rows.add(row);
+        } else if (heap.size() < limit) {
+            heap.add(row);
+        } else if (limit > 0 && comparator.compare(row, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(row);
+        }
+    }
+
+    private List<Row> finish() {
+        List<Row> res;
+
+        if (heap == null) {
+            res = rows;
+            rows = null;
+        } else {
+            res = new ArrayList<>(heap);
+            heap = null;
+        }
+
+        if (!comparator.isEmpty()) {
+            res.sort(comparator);
+        }
+
+        return res;
+    }
+
+    private IterationResult prepareBatch() {
+        int endPosition = Math.min(resultPosition + BATCH_SIZE, result.size());
+
+        currentBatch = new ListRowBatch(result.subList(resultPosition, endPosition));
+
+        resultPosition = endPosition;
+
+        return resultPosition < result.size() ? IterationResult.FETCHED : IterationResult.FETCHED_DONE;
+    }
+}
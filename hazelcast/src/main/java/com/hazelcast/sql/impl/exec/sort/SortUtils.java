@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.sort;
+
+import com.hazelcast.sql.SqlErrorCode;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.EmptyRow;
+
+/**
+ * Utility methods for sort operators.
+ */
+public final class SortUtils {
+
+    /** Value which denotes the absence of the limit. */
+    public static final long NO_LIMIT = Long.MAX_VALUE;
+
+    private SortUtils() {
+        // No-op.
+    }
+
+    /**
+     * Evaluate the value of FETCH or OFFSET clause.
+     *
+     * @param expression Expression or {@code null} if the clause is absent.
+     * @param context Evaluation context.
+     * @param defaultValue Value to be returned if the clause is absent.
+     * @return Evaluated value.
+     */
+    public static long evaluateLimit(Expression<?> expression, ExpressionEvalContext context, long defaultValue) {
+        if (expression == null) {
+            return defaultValue;
+        }
+
+        Object value = expression.eval(EmptyRow.INSTANCE, context);
+
+        if (value == null) {
+            throw QueryException.error(SqlErrorCode.DATA_EXCEPTION, "LIMIT and OFFSET values cannot be NULL");
+        }
+
+        long res = ((Number) value).longValue();
+
+        if (res < 0) {
+            throw QueryException.error(SqlErrorCode.DATA_EXCEPTION, "LIMIT and OFFSET values cannot be negative: " + res);
+        }
+
+        return res;
+    }
+
+    /**
+     * Add two non-negative limits, saturating to {@link #NO_LIMIT} on overflow.
+     */
+    public static long addLimits(long first, long second) {
+        long res = first + second;
+
+        return res < 0 ? NO_LIMIT : res;
+    }
+}
@@ -20,7 +20,10 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.ColumnarRowBatch;
 import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.sql.impl.type.QueryDataTypeUtils;
 
@@ -61,6 +64,20 @@ public final class ColumnExpression<T> implements Expression<T>, IdentifiedDataS
         return (T) row.get(index);
     }
 
+    @Override
+    public ColumnVector evalBatch(RowBatch batch, int[] selection, int selectionSize, ExpressionEvalContext context) {
+        if (batch instanceof ColumnarRowBatch) {
+            // Columns are immutable, so the vector is returned as is.
+            return ((ColumnarRowBatch) batch).getColumn(index);
+        }
+
+        return ExpressionVectors.evalRowByRow(this, batch, selection, selectionSize, context);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
     @Override
     public QueryDataType getType() {
         return type;
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+/**
+ * Base class for expressions generated by an {@link ExpressionCompiler}.
+ * <p>
+ * Compiled expressions are local to the member which compiled them and are never serialized: plan nodes always
+ * carry the source expression, which is compiled again on the receiving member.
+ *
+ * @param <T> the return type of this expression.
+ */
+public abstract class CompiledExpression<T> implements Expression<T> {
+
+    /** The expression this expression has been compiled from. */
+    protected final Expression<T> source;
+
+    protected CompiledExpression(Expression<T> source) {
+        this.source = source;
+    }
+
+    public Expression<T> getSource() {
+        return source;
+    }
+
+    /**
+     * Delegates to the source expression, since batch evaluation already avoids per-row dispatch.
+     */
+    @Override
+    public ColumnVector evalBatch(RowBatch batch, int[] selection, int selectionSize, ExpressionEvalContext context) {
+        return source.evalBatch(batch, selection, selectionSize, context);
+    }
+
+    @Override
+    public QueryDataType getType() {
+        return source.getType();
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) {
+        throw new UnsupportedOperationException("Compiled expressions cannot be serialized");
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) {
+        throw new UnsupportedOperationException("Compiled expressions cannot be serialized");
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{source=" + source + '}';
+    }
+}
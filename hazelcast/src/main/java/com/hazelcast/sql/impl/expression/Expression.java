@@ -17,7 +17,9 @@
 package com.hazelcast.sql.impl.expression;
 
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.sql.impl.row.ColumnVector;
 import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
 import com.hazelcast.sql.impl.type.QueryDataType;
 
 /**
@@ -35,6 +37,27 @@ public interface Expression<T> extends DataSerializable {
      */
     T eval(Row row, ExpressionEvalContext context);
 
+    /**
+     * Evaluates this expression on the selected rows of the given batch.
+     * <p>
+     * The default implementation evaluates the expression row by row. Expressions
+     * may override it to process the whole batch at once, e.g. by operating on
+     * primitive values of a {@link com.hazelcast.sql.impl.row.ColumnarRowBatch}.
+     * Rows outside of the selection must not be evaluated.
+     *
+     * @param batch         the batch to evaluate this expression on.
+     * @param selection     the ordered positions of the rows to evaluate this
+     *                      expression on, must not be modified.
+     * @param selectionSize the number of positions in the selection.
+     * @param context       the expression evaluation context.
+     * @return the vector of {@code batch.getRowCount()} size; only the values at
+     * the selected positions are defined. The vector must not be modified.
+     * @see ExpressionVectors
+     */
+    default ColumnVector evalBatch(RowBatch batch, int[] selection, int selectionSize, ExpressionEvalContext context) {
+        return ExpressionVectors.evalRowByRow(this, batch, selection, selectionSize, context);
+    }
+
     /**
      * @return the return query data type of this expression.
      */
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression;
+
+/**
+ * Compiles expression trees into classes which evaluate the whole tree in a single method.
+ * <p>
+ * Interpreted evaluation dispatches {@link Expression#eval} virtually at every node of the tree. Call sites
+ * which are shared by many expression classes become megamorphic and are not inlined by the JIT. A compiled
+ * expression replaces the dispatch with straight-line code operating on primitive values.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface ExpressionCompiler {
+    /**
+     * Compiles the expression.
+     *
+     * @param expression the expression to compile.
+     * @return the compiled expression, or {@code null} if the expression cannot be compiled or compilation
+     * would not make evaluation cheaper.
+     */
+    <T> Expression<T> compile(Expression<T> expression);
+}
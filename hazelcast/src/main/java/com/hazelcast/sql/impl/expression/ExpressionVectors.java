@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression;
+
+import com.hazelcast.sql.impl.row.BooleanColumnVector;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.RowBatch;
+
+/**
+ * Utility methods for batch-at-a-time expression evaluation.
+ * <p>
+ * A batch is evaluated on a <i>selection</i>: an ordered array of row positions in the batch, accompanied by the
+ * number of valid elements in that array. Results are returned as {@link ColumnVector column vectors} which are
+ * addressed by row positions, so that results of different expressions could be combined without re-mapping.
+ */
+public final class ExpressionVectors {
+
+    private ExpressionVectors() {
+        // No-op.
+    }
+
+    /**
+     * Create a selection of all rows of a batch.
+     *
+     * @param size the number of rows in the batch.
+     * @return the selection.
+     */
+    public static int[] identity(int size) {
+        int[] res = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            res[i] = i;
+        }
+
+        return res;
+    }
+
+    /**
+     * Evaluates the expression row by row. Used by expressions which do not have a dedicated batch implementation.
+     *
+     * @param expression    the expression.
+     * @param batch         the batch.
+     * @param selection     the selection.
+     * @param selectionSize the number of rows in the selection.
+     * @param context       the expression evaluation context.
+     * @return the vector with results.
+     */
+    public static ColumnVector evalRowByRow(
+        Expression<?> expression,
+        RowBatch batch,
+        int[] selection,
+        int selectionSize,
+        ExpressionEvalContext context
+    ) {
+        ColumnVector res = ColumnVector.create(expression.getType(), batch.getRowCount());
+
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            res.set(idx, expression.eval(batch.getRow(idx), context));
+        }
+
+        return res;
+    }
+
+    /**
+     * Copies positions of the selection having non-null values in the given vector to the target selection.
+     *
+     * @param vector        the vector.
+     * @param selection     the source selection.
+     * @param selectionSize the number of rows in the source selection.
+     * @param target        the target selection, may be the same array as the source selection.
+     * @return the number of rows in the target selection.
+     */
+    public static int selectNotNull(ColumnVector vector, int[] selection, int selectionSize, int[] target) {
+        if (!vector.hasNulls()) {
+            if (target != selection) {
+                System.arraycopy(selection, 0, target, 0, selectionSize);
+            }
+
+            return selectionSize;
+        }
+
+        int res = 0;
+
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            if (!vector.isNull(idx)) {
+                target[res++] = idx;
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Sets nulls in the target vector at the positions of the selection having null values in the source vector.
+     *
+     * @param source        the source vector.
+     * @param selection     the selection.
+     * @param selectionSize the number of rows in the selection.
+     * @param target        the target vector.
+     */
+    public static void copyNulls(ColumnVector source, int[] selection, int selectionSize, ColumnVector target) {
+        if (!source.hasNulls()) {
+            return;
+        }
+
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            if (source.isNull(idx)) {
+                target.setNull(idx);
+            }
+        }
+    }
+
+    /**
+     * Copies positions of the selection having {@code TRUE} values in the given boolean vector to the target
+     * selection.
+     *
+     * @param vector        the boolean vector.
+     * @param selection     the source selection.
+     * @param selectionSize the number of rows in the source selection.
+     * @param target        the target selection, may be the same array as the source selection.
+     * @return the number of rows in the target selection.
+     */
+    public static int selectTrue(ColumnVector vector, int[] selection, int selectionSize, int[] target) {
+        int res = 0;
+
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            if (!vector.isNull(idx) && getBoolean(vector, idx)) {
+                target[res++] = idx;
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Gets a non-null boolean value from the vector.
+     *
+     * @param vector the vector.
+     * @param idx    the position.
+     * @return the value.
+     */
+    public static boolean getBoolean(ColumnVector vector, int idx) {
+        if (vector instanceof BooleanColumnVector) {
+            return ((BooleanColumnVector) vector).getBoolean(idx);
+        } else {
+            return (Boolean) vector.get(idx);
+        }
+    }
+}
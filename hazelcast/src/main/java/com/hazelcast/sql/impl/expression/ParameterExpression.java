@@ -62,6 +62,10 @@ public final class ParameterExpression<T> implements Expression<T>, IdentifiedDa
         return (T) context.getArgument(index);
     }
 
+    public int getIndex() {
+        return index;
+    }
+
     @Override
     public QueryDataType getType() {
         return type;
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.math;
+
+import com.hazelcast.sql.impl.expression.BiExpressionWithType;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.ExpressionVectors;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.DoubleColumnVector;
+import com.hazelcast.sql.impl.row.LongColumnVector;
+import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+
+/**
+ * Base class for binary arithmetic functions.
+ * <p>
+ * Provides batch evaluation which operates on primitive values when both operands are evaluated to primitive
+ * vectors of the result family, and falls back to boxed arithmetic otherwise.
+ */
+public abstract class AbstractArithmeticFunction<T> extends BiExpressionWithType<T> {
+
+    protected AbstractArithmeticFunction() {
+        // No-op.
+    }
+
+    protected AbstractArithmeticFunction(Expression<?> operand1, Expression<?> operand2, QueryDataType resultType) {
+        super(operand1, operand2, resultType);
+    }
+
+    @Override
+    public ColumnVector evalBatch(RowBatch batch, int[] selection, int selectionSize, ExpressionEvalContext context) {
+        QueryDataTypeFamily family = resultType.getTypeFamily();
+
+        if (family.isTemporal()) {
+            return ExpressionVectors.evalRowByRow(this, batch, selection, selectionSize, context);
+        }
+
+        ColumnVector left = operand1.evalBatch(batch, selection, selectionSize, context);
+
+        // The right operand is evaluated only for rows where the left operand is not null.
+        int[] notNullSelection = new int[selectionSize];
+        int notNullSelectionSize = ExpressionVectors.selectNotNull(left, selection, selectionSize, notNullSelection);
+
+        ColumnVector right = operand2.evalBatch(batch, notNullSelection, notNullSelectionSize, context);
+
+        ColumnVector res = ColumnVector.create(resultType, batch.getRowCount());
+
+        ExpressionVectors.copyNulls(left, selection, selectionSize, res);
+
+        if (res instanceof LongColumnVector && left instanceof LongColumnVector && right instanceof LongColumnVector) {
+            evalLongBatch(
+                (LongColumnVector) left,
+                (LongColumnVector) right,
+                (LongColumnVector) res,
+                notNullSelection,
+                notNullSelectionSize
+            );
+        } else if (res instanceof DoubleColumnVector
+            && left instanceof DoubleColumnVector && right instanceof DoubleColumnVector) {
+            evalDoubleBatch(
+                (DoubleColumnVector) left,
+                (DoubleColumnVector) right,
+                (DoubleColumnVector) res,
+                notNullSelection,
+                notNullSelectionSize
+            );
+        } else {
+            evalBoxedBatch(left, right, res, notNullSelection, notNullSelectionSize);
+        }
+
+        return res;
+    }
+
+    private void evalBoxedBatch(
+        ColumnVector left,
+        ColumnVector right,
+        ColumnVector res,
+        int[] selection,
+        int selectionSize
+    ) {
+        QueryDataTypeFamily family = resultType.getTypeFamily();
+
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            Object rightValue = right.get(idx);
+
+            res.set(idx, rightValue == null ? null : evalNumeric((Number) left.get(idx), (Number) rightValue, family));
+        }
+    }
+
+    private void evalLongBatch(
+        LongColumnVector left,
+        LongColumnVector right,
+        LongColumnVector res,
+        int[] selection,
+        int selectionSize
+    ) {
+        QueryDataTypeFamily family = resultType.getTypeFamily();
+
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            if (right.isNull(idx)) {
+                res.setNull(idx);
+            } else {
+                res.setLong(idx, evalLong(left.getLong(idx), right.getLong(idx), family));
+            }
+        }
+    }
+
+    private void evalDoubleBatch(
+        DoubleColumnVector left,
+        DoubleColumnVector right,
+        DoubleColumnVector res,
+        int[] selection,
+        int selectionSize
+    ) {
+        QueryDataTypeFamily family = resultType.getTypeFamily();
+
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            if (right.isNull(idx)) {
+                res.setNull(idx);
+            } else {
+                res.setDouble(idx, evalDouble(left.getDouble(idx), right.getDouble(idx), family));
+            }
+        }
+    }
+
+    /**
+     * Evaluates the function on boxed non-null values.
+     */
+    protected abstract Object evalNumeric(Number left, Number right, QueryDataTypeFamily family);
+
+    /**
+     * Evaluates the function on values of the TINYINT, SMALLINT, INT or BIGINT result family, widened to longs.
+     * The result must be equal to the result of {@link #evalNumeric(Number, Number, QueryDataTypeFamily)}.
+     */
+    public abstract long evalLong(long left, long right, QueryDataTypeFamily family);
+
+    /**
+     * Evaluates the function on values of the REAL or DOUBLE result family, widened to doubles.
+     * The result must be equal to the result of {@link #evalNumeric(Number, Number, QueryDataTypeFamily)}.
+     */
+    public abstract double evalDouble(double left, double right, QueryDataTypeFamily family);
+}
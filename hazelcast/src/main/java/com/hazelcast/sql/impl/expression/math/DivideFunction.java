@@ -20,7 +20,6 @@ import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.sql.SqlErrorCode;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.SqlDataSerializerHook;
-import com.hazelcast.sql.impl.expression.BiExpressionWithType;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.Row;
@@ -34,7 +33,7 @@ import static com.hazelcast.sql.impl.expression.math.ExpressionMath.DECIMAL_MATH
 /**
  * Implements evaluation of SQL divide operator.
  */
-public final class DivideFunction<T> extends BiExpressionWithType<T> implements IdentifiedDataSerializable {
+public final class DivideFunction<T> extends AbstractArithmeticFunction<T> implements IdentifiedDataSerializable {
 
     public DivideFunction() {
         // No-op.
@@ -79,7 +78,8 @@ public final class DivideFunction<T> extends BiExpressionWithType<T> implements
         return (T) evalNumeric((Number) left, (Number) right, family);
     }
 
-    private static Object evalNumeric(Number left, Number right, QueryDataTypeFamily family) {
+    @Override
+    protected Object evalNumeric(Number left, Number right, QueryDataTypeFamily family) {
         try {
             switch (family) {
                 case TINYINT:
@@ -104,4 +104,33 @@ public final class DivideFunction<T> extends BiExpressionWithType<T> implements
         }
     }
 
+    @Override
+    public long evalLong(long left, long right, QueryDataTypeFamily family) {
+        try {
+            switch (family) {
+                case TINYINT:
+                    return (byte) ((byte) left / right);
+                case SMALLINT:
+                    return (short) ((short) left / right);
+                case INT:
+                    return (int) ((int) left / right);
+                case BIGINT:
+                    return ExpressionMath.divideExact(left, right);
+                default:
+                    throw new IllegalArgumentException("unexpected result family: " + family);
+            }
+        } catch (ArithmeticException e) {
+            throw QueryException.error(SqlErrorCode.DATA_EXCEPTION, "division by zero");
+        }
+    }
+
+    @Override
+    public double evalDouble(double left, double right, QueryDataTypeFamily family) {
+        if (family == QueryDataTypeFamily.REAL) {
+            return ExpressionMath.divideExact((float) left, (float) right);
+        } else {
+            return ExpressionMath.divideExact(left, right);
+        }
+    }
+
 }
@@ -20,7 +20,6 @@ import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.sql.SqlErrorCode;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.SqlDataSerializerHook;
-import com.hazelcast.sql.impl.expression.BiExpressionWithType;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.Row;
@@ -34,7 +33,7 @@ import static com.hazelcast.sql.impl.expression.math.ExpressionMath.DECIMAL_MATH
 /**
  * Implements evaluation of SQL minus operator.
  */
-public final class MinusFunction<T> extends BiExpressionWithType<T> implements IdentifiedDataSerializable {
+public final class MinusFunction<T> extends AbstractArithmeticFunction<T> implements IdentifiedDataSerializable {
 
     public MinusFunction() {
         // No-op.
@@ -79,7 +78,8 @@ public final class MinusFunction<T> extends BiExpressionWithType<T> implements I
         return (T) evalNumeric((Number) left, (Number) right, family);
     }
 
-    private static Object evalNumeric(Number left, Number right, QueryDataTypeFamily family) {
+    @Override
+    protected Object evalNumeric(Number left, Number right, QueryDataTypeFamily family) {
         switch (family) {
             case TINYINT:
                 return (byte) (left.byteValue() - right.byteValue());
@@ -105,4 +105,34 @@ public final class MinusFunction<T> extends BiExpressionWithType<T> implements I
         }
     }
 
+    @Override
+    public long evalLong(long left, long right, QueryDataTypeFamily family) {
+        switch (family) {
+            case TINYINT:
+                return (byte) (left - right);
+            case SMALLINT:
+                return (short) (left - right);
+            case INT:
+                return (int) (left - right);
+            case BIGINT:
+                try {
+                    return Math.subtractExact(left, right);
+                } catch (ArithmeticException e) {
+                    throw QueryException.error(SqlErrorCode.DATA_EXCEPTION,
+                            "BIGINT overflow in '-' operator (consider adding explicit CAST to DECIMAL)");
+                }
+            default:
+                throw new IllegalArgumentException("unexpected result family: " + family);
+        }
+    }
+
+    @Override
+    public double evalDouble(double left, double right, QueryDataTypeFamily family) {
+        if (family == QueryDataTypeFamily.REAL) {
+            return (float) left - (float) right;
+        } else {
+            return left - right;
+        }
+    }
+
 }
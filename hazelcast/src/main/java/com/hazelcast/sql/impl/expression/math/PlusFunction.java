@@ -20,7 +20,6 @@ import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.sql.SqlErrorCode;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.SqlDataSerializerHook;
-import com.hazelcast.sql.impl.expression.BiExpressionWithType;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.Row;
@@ -32,7 +31,7 @@ import java.math.BigDecimal;
 /**
  * Implements evaluation of SQL plus operator.
  */
-public final class PlusFunction<T> extends BiExpressionWithType<T> implements IdentifiedDataSerializable {
+public final class PlusFunction<T> extends AbstractArithmeticFunction<T> implements IdentifiedDataSerializable {
 
     public PlusFunction() {
         // No-op.
@@ -77,7 +76,8 @@ public final class PlusFunction<T> extends BiExpressionWithType<T> implements Id
         return (T) evalNumeric((Number) left, (Number) right, family);
     }
 
-    private static Object evalNumeric(Number left, Number right, QueryDataTypeFamily family) {
+    @Override
+    protected Object evalNumeric(Number left, Number right, QueryDataTypeFamily family) {
         switch (family) {
             case TINYINT:
                 return (byte) (left.byteValue() + right.byteValue());
@@ -103,4 +103,34 @@ public final class PlusFunction<T> extends BiExpressionWithType<T> implements Id
         }
     }
 
+    @Override
+    public long evalLong(long left, long right, QueryDataTypeFamily family) {
+        switch (family) {
+            case TINYINT:
+                return (byte) (left + right);
+            case SMALLINT:
+                return (short) (left + right);
+            case INT:
+                return (int) (left + right);
+            case BIGINT:
+                try {
+                    return Math.addExact(left, right);
+                } catch (ArithmeticException e) {
+                    throw QueryException.error(SqlErrorCode.DATA_EXCEPTION,
+                            "BIGINT overflow in '+' operator (consider adding explicit CAST to DECIMAL)");
+                }
+            default:
+                throw new IllegalArgumentException("unexpected result family: " + family);
+        }
+    }
+
+    @Override
+    public double evalDouble(double left, double right, QueryDataTypeFamily family) {
+        if (family == QueryDataTypeFamily.REAL) {
+            return (float) left + (float) right;
+        } else {
+            return left + right;
+        }
+    }
+
 }
@@ -23,7 +23,11 @@ import com.hazelcast.sql.impl.SqlDataSerializerHook;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.expression.UniExpressionWithType;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.DoubleColumnVector;
+import com.hazelcast.sql.impl.row.LongColumnVector;
 import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
 
@@ -70,6 +74,86 @@ public final class UnaryMinusFunction<T> extends UniExpressionWithType<T> implem
         return (T) evalNumeric((Number) value, family);
     }
 
+    @Override
+    public ColumnVector evalBatch(RowBatch batch, int[] selection, int selectionSize, ExpressionEvalContext context) {
+        ColumnVector value = operand.evalBatch(batch, selection, selectionSize, context);
+
+        QueryDataTypeFamily family = resultType.getTypeFamily();
+        ColumnVector res = ColumnVector.create(resultType, batch.getRowCount());
+
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            if (value.isNull(idx)) {
+                res.setNull(idx);
+            }
+        }
+
+        if (res instanceof LongColumnVector && value instanceof LongColumnVector) {
+            LongColumnVector value0 = (LongColumnVector) value;
+            LongColumnVector res0 = (LongColumnVector) res;
+
+            for (int i = 0; i < selectionSize; i++) {
+                int idx = selection[i];
+
+                if (!value0.isNull(idx)) {
+                    res0.setLong(idx, evalLong(value0.getLong(idx), family));
+                }
+            }
+        } else if (res instanceof DoubleColumnVector && value instanceof DoubleColumnVector) {
+            DoubleColumnVector value0 = (DoubleColumnVector) value;
+            DoubleColumnVector res0 = (DoubleColumnVector) res;
+
+            // Negation is exact for both REAL and DOUBLE values.
+            for (int i = 0; i < selectionSize; i++) {
+                int idx = selection[i];
+
+                res0.setDouble(idx, -value0.getDouble(idx));
+            }
+        } else {
+            for (int i = 0; i < selectionSize; i++) {
+                int idx = selection[i];
+
+                if (!value.isNull(idx)) {
+                    res.set(idx, evalNumeric((Number) value.get(idx), family));
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Negates the value of the TINYINT, SMALLINT, INT or BIGINT result family, widened to long.
+     *
+     * @param value  the value to negate.
+     * @param family the result family.
+     * @return the negated value.
+     */
+    public static long evalLong(long value, QueryDataTypeFamily family) {
+        switch (family) {
+            case TINYINT:
+                return (byte) -value;
+
+            case SMALLINT:
+                return (short) -value;
+
+            case INT:
+                return (int) -value;
+
+            case BIGINT:
+                try {
+                    return Math.negateExact(value);
+                } catch (ArithmeticException e) {
+                    throw QueryException.error(SqlErrorCode.DATA_EXCEPTION,
+                            "BIGINT overflow in unary '-' operator (consider adding explicit CAST to DECIMAL)");
+                }
+
+            default:
+                throw new IllegalArgumentException("unexpected result family: " + family);
+        }
+    }
+
     private static Object evalNumeric(Number number, QueryDataTypeFamily family) {
         switch (family) {
             case TINYINT:
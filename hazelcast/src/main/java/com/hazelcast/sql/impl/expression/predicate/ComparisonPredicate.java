@@ -23,7 +23,13 @@ import com.hazelcast.sql.impl.SqlDataSerializerHook;
 import com.hazelcast.sql.impl.expression.BiExpression;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.ExpressionVectors;
+import com.hazelcast.sql.impl.row.BooleanColumnVector;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.DoubleColumnVector;
+import com.hazelcast.sql.impl.row.LongColumnVector;
 import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -80,8 +86,92 @@ public final class ComparisonPredicate extends BiExpression<Boolean> implements
         Comparable leftComparable = (Comparable) left;
         Comparable rightComparable = (Comparable) right;
 
-        int order = leftComparable.compareTo(rightComparable);
+        return matches(leftComparable.compareTo(rightComparable));
+    }
+
+    @Override
+    public ColumnVector evalBatch(RowBatch batch, int[] selection, int selectionSize, ExpressionEvalContext context) {
+        ColumnVector left = operand1.evalBatch(batch, selection, selectionSize, context);
+
+        // The right operand is evaluated only for rows where the left operand is not null.
+        int[] notNullSelection = new int[selectionSize];
+        int notNullSelectionSize = ExpressionVectors.selectNotNull(left, selection, selectionSize, notNullSelection);
+
+        ColumnVector right = operand2.evalBatch(batch, notNullSelection, notNullSelectionSize, context);
+
+        BooleanColumnVector res = new BooleanColumnVector(batch.getRowCount());
 
+        ExpressionVectors.copyNulls(left, selection, selectionSize, res);
+
+        if (left instanceof LongColumnVector && right instanceof LongColumnVector) {
+            compareLongs((LongColumnVector) left, (LongColumnVector) right, res, notNullSelection, notNullSelectionSize);
+        } else if (left instanceof DoubleColumnVector && right instanceof DoubleColumnVector) {
+            compareDoubles((DoubleColumnVector) left, (DoubleColumnVector) right, res, notNullSelection, notNullSelectionSize);
+        } else {
+            compareObjects(left, right, res, notNullSelection, notNullSelectionSize);
+        }
+
+        return res;
+    }
+
+    private void compareLongs(
+        LongColumnVector left,
+        LongColumnVector right,
+        BooleanColumnVector res,
+        int[] selection,
+        int selectionSize
+    ) {
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            if (right.isNull(idx)) {
+                res.setNull(idx);
+            } else {
+                res.setBoolean(idx, matches(Long.compare(left.getLong(idx), right.getLong(idx))));
+            }
+        }
+    }
+
+    private void compareDoubles(
+        DoubleColumnVector left,
+        DoubleColumnVector right,
+        BooleanColumnVector res,
+        int[] selection,
+        int selectionSize
+    ) {
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            if (right.isNull(idx)) {
+                res.setNull(idx);
+            } else {
+                res.setBoolean(idx, matches(Double.compare(left.getDouble(idx), right.getDouble(idx))));
+            }
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void compareObjects(
+        ColumnVector left,
+        ColumnVector right,
+        BooleanColumnVector res,
+        int[] selection,
+        int selectionSize
+    ) {
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            Comparable rightComparable = (Comparable) right.get(idx);
+
+            if (rightComparable == null) {
+                res.setNull(idx);
+            } else {
+                res.setBoolean(idx, matches(((Comparable) left.get(idx)).compareTo(rightComparable)));
+            }
+        }
+    }
+
+    private boolean matches(int order) {
         switch (mode) {
             case EQUALS:
                 return order == 0;
@@ -106,6 +196,10 @@ public final class ComparisonPredicate extends BiExpression<Boolean> implements
         }
     }
 
+    public ComparisonMode getMode() {
+        return mode;
+    }
+
     @Override
     public QueryDataType getType() {
         return QueryDataType.BOOLEAN;
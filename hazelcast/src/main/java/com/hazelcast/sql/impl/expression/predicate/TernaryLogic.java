@@ -18,7 +18,13 @@ package com.hazelcast.sql.impl.expression.predicate;
 
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.ExpressionVectors;
+import com.hazelcast.sql.impl.row.BooleanColumnVector;
+import com.hazelcast.sql.impl.row.ColumnVector;
 import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+
+import java.util.Arrays;
 
 /**
  * Implements ternary boolean logic according to SQL standard.
@@ -98,6 +104,122 @@ public final class TernaryLogic {
         return seenUnknown ? null : Boolean.FALSE;
     }
 
+    /**
+     * Performs AND for the given operands acting on the selected rows of the
+     * given batch in the given context.
+     * <p>
+     * Every operand is evaluated only on the rows for which none of the previous
+     * operands was evaluated to {@code false}, so the per-row short-circuiting
+     * behaviour of {@link #and(Row, ExpressionEvalContext, Expression[])} is
+     * preserved.
+     *
+     * @param batch         the batch to evaluate the operands on.
+     * @param selection     the positions of the rows to evaluate the operands on.
+     * @param selectionSize the number of positions in the selection.
+     * @param context       the context to evaluate the operands in.
+     * @param operands      the boolean operands to evaluate.
+     * @return the vector with results of AND for the selected rows.
+     */
+    public static ColumnVector and(
+        RowBatch batch,
+        int[] selection,
+        int selectionSize,
+        ExpressionEvalContext context,
+        Expression<?>... operands
+    ) {
+        return evalBatch(batch, selection, selectionSize, context, operands, false);
+    }
+
+    /**
+     * Performs OR for the given operands acting on the selected rows of the
+     * given batch in the given context.
+     * <p>
+     * Every operand is evaluated only on the rows for which none of the previous
+     * operands was evaluated to {@code true}, so the per-row short-circuiting
+     * behaviour of {@link #or(Row, ExpressionEvalContext, Expression[])} is
+     * preserved.
+     *
+     * @param batch         the batch to evaluate the operands on.
+     * @param selection     the positions of the rows to evaluate the operands on.
+     * @param selectionSize the number of positions in the selection.
+     * @param context       the context to evaluate the operands in.
+     * @param operands      the boolean operands to evaluate.
+     * @return the vector with results of OR for the selected rows.
+     */
+    public static ColumnVector or(
+        RowBatch batch,
+        int[] selection,
+        int selectionSize,
+        ExpressionEvalContext context,
+        Expression<?>... operands
+    ) {
+        return evalBatch(batch, selection, selectionSize, context, operands, true);
+    }
+
+    /**
+     * Evaluates AND or OR on a batch.
+     *
+     * @param terminal the value which terminates evaluation for a row: {@code false} for AND, {@code true} for OR.
+     */
+    private static ColumnVector evalBatch(
+        RowBatch batch,
+        int[] selection,
+        int selectionSize,
+        ExpressionEvalContext context,
+        Expression<?>[] operands,
+        boolean terminal
+    ) {
+        BooleanColumnVector res = new BooleanColumnVector(batch.getRowCount());
+
+        // Rows for which the result is not known yet.
+        int[] active = Arrays.copyOf(selection, selectionSize);
+        int activeSize = selectionSize;
+
+        boolean[] unknown = null;
+
+        for (Expression<?> operand : operands) {
+            if (activeSize == 0) {
+                break;
+            }
+
+            ColumnVector operandRes = operand.evalBatch(batch, active, activeSize, context);
+
+            int newActiveSize = 0;
+
+            for (int i = 0; i < activeSize; i++) {
+                int idx = active[i];
+
+                if (operandRes.isNull(idx)) {
+                    if (unknown == null) {
+                        unknown = new boolean[batch.getRowCount()];
+                    }
+
+                    unknown[idx] = true;
+                } else if (ExpressionVectors.getBoolean(operandRes, idx) == terminal) {
+                    res.setBoolean(idx, terminal);
+
+                    continue;
+                }
+
+                active[newActiveSize++] = idx;
+            }
+
+            activeSize = newActiveSize;
+        }
+
+        for (int i = 0; i < activeSize; i++) {
+            int idx = active[i];
+
+            if (unknown != null && unknown[idx]) {
+                res.setNull(idx);
+            } else {
+                res.setBoolean(idx, !terminal);
+            }
+        }
+
+        return res;
+    }
+
     /**
      * Negates the given boolean value.
      *
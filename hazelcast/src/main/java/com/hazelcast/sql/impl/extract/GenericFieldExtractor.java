@@ -16,18 +16,30 @@
 
 package com.hazelcast.sql.impl.extract;
 
+import com.hazelcast.internal.serialization.impl.portable.DefaultPortableReader;
+import com.hazelcast.nio.serialization.ClassDefinition;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.sql.impl.type.QueryDataTypeMismatchException;
 
+import java.io.IOException;
+
 /**
  * An extractor that uses {@link com.hazelcast.query.impl.getters.Extractors} for field retrieval.
+ * <p>
+ * Top-level Portable fields are read through the reader shared by all extractors of the record, so that the reader is
+ * created once per record rather than once per field. JSON fields are extracted from {@code Data} with the help of the
+ * record metadata, avoiding deserialization of the whole document.
  */
 public class GenericFieldExtractor extends AbstractGenericExtractor {
 
     private final Extractors extractors;
     private final String path;
+    private final boolean portableDirect;
+
+    private ClassDefinition lastClassDefinition;
+    private boolean lastClassDefinitionHasField;
 
     public GenericFieldExtractor(
         boolean key,
@@ -40,13 +52,25 @@ public class GenericFieldExtractor extends AbstractGenericExtractor {
 
         this.extractors = extractors;
         this.path = path;
+
+        // Top-level Portable fields are read directly through the shared reader, unless a custom extractor is registered.
+        portableDirect = !extractors.hasExtractor(path) && path.indexOf('.') < 0 && path.indexOf('[') < 0;
     }
 
     @Override
     public Object get() {
         try {
-            Object target = targetAccessor.getTargetForFieldAccess();
-            Object value = extractors.extract(target, path, null);
+            DefaultPortableReader portableReader = portableDirect ? targetAccessor.getPortableReader() : null;
+
+            Object value;
+
+            if (portableReader != null) {
+                value = hasPortableField() ? portableReader.read(path) : null;
+            } else {
+                Object target = targetAccessor.getTargetForFieldAccess();
+                value = extractors.extract(target, path, targetAccessor.getTargetMetadata());
+            }
+
             return type.normalize(value);
         } catch (QueryDataTypeMismatchException e) {
             throw QueryException.dataException("Failed to extract map entry " + (key ? "key" : "value") + " field \""
@@ -57,4 +81,15 @@ public class GenericFieldExtractor extends AbstractGenericExtractor {
                 + path + "\": " + e.getMessage(), e);
         }
     }
+
+    private boolean hasPortableField() throws IOException {
+        ClassDefinition classDefinition = targetAccessor.getPortableClassDefinition();
+
+        if (classDefinition != lastClassDefinition) {
+            lastClassDefinition = classDefinition;
+            lastClassDefinitionHasField = classDefinition.hasField(path);
+        }
+
+        return lastClassDefinitionHasField;
+    }
 }
@@ -18,10 +18,14 @@ package com.hazelcast.sql.impl.extract;
 
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.portable.DefaultPortableReader;
+import com.hazelcast.nio.serialization.ClassDefinition;
 import com.hazelcast.nio.serialization.Portable;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.sql.impl.type.QueryDataType;
 
+import java.io.IOException;
+
 public class GenericQueryTarget implements QueryTarget, GenericTargetAccessor {
 
     private final InternalSerializationService serializationService;
@@ -30,6 +34,9 @@ public class GenericQueryTarget implements QueryTarget, GenericTargetAccessor {
 
     private Object rawTarget;
     private Object target;
+    private Object metadata;
+    private DefaultPortableReader portableReader;
+    private ClassDefinition portableClassDefinition;
 
     public GenericQueryTarget(InternalSerializationService serializationService, Extractors extractors, boolean key) {
         this.serializationService = serializationService;
@@ -38,9 +45,12 @@ public class GenericQueryTarget implements QueryTarget, GenericTargetAccessor {
     }
 
     @Override
-    public void setTarget(Object target) {
+    public void setTarget(Object target, Object metadata) {
         this.rawTarget = target;
+        this.metadata = metadata;
         this.target = null;
+        this.portableReader = null;
+        this.portableClassDefinition = null;
     }
 
     @Override
@@ -55,14 +65,14 @@ public class GenericQueryTarget implements QueryTarget, GenericTargetAccessor {
     @Override
     public Object getTargetForFieldAccess() {
         if (target == null) {
-            // General rule: Portable must be Data, other objects must be deserialized.
+            // General rule: Portable and JSON must be Data, other objects must be deserialized.
             if (rawTarget instanceof Data) {
                 Data rawTarget0 = (Data) rawTarget;
 
-                if (rawTarget0.isPortable()) {
+                if (rawTarget0.isPortable() || rawTarget0.isJson()) {
                     target = rawTarget;
                 } else {
-                    // Deserialize non-Portable.
+                    // Deserialize non-Portable and non-JSON.
                     target = serializationService.toObject(rawTarget);
                 }
             } else {
@@ -106,6 +116,34 @@ public class GenericQueryTarget implements QueryTarget, GenericTargetAccessor {
         return result;
     }
 
+    @Override
+    public Object getTargetMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public DefaultPortableReader getPortableReader() throws IOException {
+        if (portableReader == null) {
+            Object target0 = getTargetForFieldAccess();
+
+            if (!(target0 instanceof Data) || !((Data) target0).isPortable()) {
+                return null;
+            }
+
+            Data data = (Data) target0;
+
+            portableClassDefinition = serializationService.getPortableContext().lookupClassDefinition(data);
+            portableReader = (DefaultPortableReader) serializationService.createPortableReader(data);
+        }
+
+        return portableReader;
+    }
+
+    @Override
+    public ClassDefinition getPortableClassDefinition() throws IOException {
+        return getPortableReader() != null ? portableClassDefinition : null;
+    }
+
     public boolean isKey() {
         return key;
     }
@@ -16,6 +16,11 @@
 
 package com.hazelcast.sql.impl.extract;
 
+import com.hazelcast.internal.serialization.impl.portable.DefaultPortableReader;
+import com.hazelcast.nio.serialization.ClassDefinition;
+
+import java.io.IOException;
+
 /**
  * An interface that provides an indirection between {@link AbstractGenericExtractor} implementations and the parent
  * {@link QueryTarget}. It allows us to have different target implementations that produce same generic extractors.
@@ -36,4 +41,27 @@ public interface GenericTargetAccessor {
      * @return target in the deserialized form
      */
     Object getTargetDeserialized();
+
+    /**
+     * Gets the metadata of the target, such as the JSON schema.
+     *
+     * @return target metadata or {@code null} if absent
+     */
+    Object getTargetMetadata();
+
+    /**
+     * Gets the reader for the Portable target. The reader is created once per target and shared between all fields.
+     *
+     * @return reader or {@code null} if the target is not Portable
+     * @throws IOException if the reader cannot be created
+     */
+    DefaultPortableReader getPortableReader() throws IOException;
+
+    /**
+     * Gets the class definition of the Portable target.
+     *
+     * @return class definition or {@code null} if the target is not Portable
+     * @throws IOException if the reader cannot be created
+     */
+    ClassDefinition getPortableClassDefinition() throws IOException;
 }
@@ -22,13 +22,23 @@ import com.hazelcast.sql.impl.type.QueryDataType;
  * Target that is used to extract values from map entry's key or value.
  * <p>
  * Extractors are created once per query using the {@link #createExtractor(String, QueryDataType)} method. The target is then
- * updated for every map record using the {@link #setTarget(Object)} method, while extractors remain the same.
+ * updated for every map record using the {@link #setTarget(Object, Object)} method, while extractors remain the same.
  * <p>
  * The motivation for this design is to minimize the overhead on extractors creation and to avoid constant overhead associated
  * with data extraction, by maintaining the state. An example is {@code PortableGetter} that opens a reader on every get
- * operation. Instead, the reader might be opened in {@code setTarget} once and then reused for all fields.
+ * operation. Instead, the reader is opened once per record and then reused for all fields.
+ * <p>
+ * The record metadata (e.g. the JSON schema collected by the map) is passed along with the target, so that extractors
+ * could navigate to the requested field without parsing the whole object.
  */
 public interface QueryTarget {
-    void setTarget(Object target);
+    /**
+     * Set the current target.
+     *
+     * @param target key or value (object or data)
+     * @param metadata key or value metadata, or {@code null} if absent
+     */
+    void setTarget(Object target, Object metadata);
+
     QueryExtractor createExtractor(String path, QueryDataType type);
 }
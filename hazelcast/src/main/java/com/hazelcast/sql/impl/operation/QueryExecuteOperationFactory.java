@@ -16,6 +16,7 @@
 
 package com.hazelcast.sql.impl.operation;
 
+import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.sql.impl.QueryId;
 import com.hazelcast.sql.impl.plan.Plan;
 import com.hazelcast.sql.impl.plan.PlanFragmentMapping;
@@ -32,19 +33,24 @@ import static com.hazelcast.sql.impl.operation.QueryExecuteOperationFragmentMapp
 
 /**
  * Factory to create query execute operations.
+ * <p>
+ * The partition mapping may be narrower than the one of the plan if partition pruning was applied to the execution.
  */
 public class QueryExecuteOperationFactory {
 
     private final Plan plan;
+    private final Map<UUID, PartitionIdSet> partMap;
     private final List<Object> args;
     private final Map<Integer, Long> edgeInitialMemoryMap;
 
     public QueryExecuteOperationFactory(
         Plan plan,
+        Map<UUID, PartitionIdSet> partMap,
         List<Object> args,
         Map<Integer, Long> edgeInitialMemoryMap
     ) {
         this.plan = plan;
+        this.partMap = partMap;
         this.args = args;
         this.edgeInitialMemoryMap = edgeInitialMemoryMap;
     }
@@ -77,7 +83,7 @@ public class QueryExecuteOperationFactory {
 
         return new QueryExecuteOperation(
             queryId,
-            plan.getPartitionMap(),
+            partMap,
             fragments,
             plan.getOutboundEdgeMap(),
             plan.getInboundEdgeMap(),
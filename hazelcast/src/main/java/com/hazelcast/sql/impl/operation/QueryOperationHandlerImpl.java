@@ -29,6 +29,7 @@ import com.hazelcast.sql.impl.exec.Exec;
 import com.hazelcast.sql.impl.exec.io.InboundHandler;
 import com.hazelcast.sql.impl.exec.io.OutboundHandler;
 import com.hazelcast.sql.impl.exec.io.flowcontrol.FlowControlFactory;
+import com.hazelcast.sql.impl.expression.ExpressionCompiler;
 import com.hazelcast.sql.impl.state.QueryState;
 import com.hazelcast.sql.impl.state.QueryStateCompletionCallback;
 import com.hazelcast.sql.impl.state.QueryStateRegistry;
@@ -56,6 +57,7 @@ public class QueryOperationHandlerImpl implements QueryOperationHandler, QuerySt
     private final int outboxBatchSize;
     private final FlowControlFactory flowControlFactory;
     private volatile CreateExecPlanNodeVisitorHook execHook;
+    private volatile ExpressionCompiler expressionCompiler;
 
     public QueryOperationHandlerImpl(
         String instanceName,
@@ -198,7 +200,8 @@ public class QueryOperationHandlerImpl implements QueryOperationHandler, QuerySt
                 flowControlFactory,
                 operation.getPartitionMap().get(localMemberId),
                 outboxBatchSize,
-                execHook
+                execHook,
+                expressionCompiler
             );
 
             fragmentDescriptor.getNode().visit(visitor);
@@ -377,4 +380,8 @@ public class QueryOperationHandlerImpl implements QueryOperationHandler, QuerySt
     public void setExecHook(CreateExecPlanNodeVisitorHook execHook) {
         this.execHook = execHook;
     }
+
+    public void setExpressionCompiler(ExpressionCompiler expressionCompiler) {
+        this.expressionCompiler = expressionCompiler;
+    }
 }
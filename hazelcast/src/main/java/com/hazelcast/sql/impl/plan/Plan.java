@@ -45,6 +45,9 @@ public class Plan implements CacheablePlan {
     /** Partition mapping. */
     private final Map<UUID, PartitionIdSet> partMap;
 
+    /** Partition pruning, {@code null} if the plan accesses all partitions. */
+    private final PlanPartitionPruning partitionPruning;
+
     /** Fragment nodes. */
     private final List<PlanNode> fragments;
 
@@ -70,6 +73,7 @@ public class Plan implements CacheablePlan {
     @SuppressWarnings("checkstyle:ParameterNumber")
     public Plan(
         Map<UUID, PartitionIdSet> partMap,
+        PlanPartitionPruning partitionPruning,
         List<PlanNode> fragments,
         List<PlanFragmentMapping> fragmentMappings,
         Map<Integer, Integer> outboundEdgeMap,
@@ -81,6 +85,7 @@ public class Plan implements CacheablePlan {
         Set<PlanObjectKey> objectIds
     ) {
         this.partMap = partMap;
+        this.partitionPruning = partitionPruning;
         this.fragments = fragments;
         this.fragmentMappings = fragmentMappings;
         this.outboundEdgeMap = outboundEdgeMap;
@@ -121,6 +126,10 @@ public class Plan implements CacheablePlan {
         return partMap;
     }
 
+    public PlanPartitionPruning getPartitionPruning() {
+        return partitionPruning;
+    }
+
     public Collection<UUID> getMemberIds() {
         return partMap.keySet();
     }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.sql.impl.NodeServiceProvider;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.EmptyRow;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.UUID;
+
+/**
+ * Keys of the maps accessed by the plan. Used to restrict query execution to the members owning the partitions of
+ * these keys, and to restrict map scans to these partitions.
+ * <p>
+ * Pruning is possible only if every map scan of the plan restricts the {@code __key} column to a set of literals or
+ * dynamic parameters. Key expressions return values of the key type of the map. They are evaluated on every execution,
+ * so that the plan remains cacheable.
+ */
+public class PlanPartitionPruning {
+    /** Key expressions for every map accessed by the plan. */
+    private final Map<String, List<Expression<?>>> keys;
+
+    public PlanPartitionPruning(Map<String, List<Expression<?>>> keys) {
+        assert !keys.isEmpty();
+
+        this.keys = keys;
+    }
+
+    public Map<String, List<Expression<?>>> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Restrict the partition mapping of the plan to the partitions of the accessed keys.
+     * <p>
+     * Only members owning at least one of the partitions are retained. The local member is always retained, possibly with
+     * an empty set of partitions, because it executes the root fragment.
+     *
+     * @param partMap Partition mapping of the plan.
+     * @param localMemberId Local member ID.
+     * @param args Query arguments.
+     * @param nodeServiceProvider Node service provider.
+     * @return Restricted partition mapping or the original mapping if the partitions of some keys cannot be resolved.
+     */
+    public Map<UUID, PartitionIdSet> prune(
+        Map<UUID, PartitionIdSet> partMap,
+        UUID localMemberId,
+        List<Object> args,
+        NodeServiceProvider nodeServiceProvider
+    ) {
+        PartitionIdSet partitions = getPartitions(partMap.get(localMemberId).getPartitionCount(), args, nodeServiceProvider);
+
+        if (partitions == null) {
+            return partMap;
+        }
+
+        Map<UUID, PartitionIdSet> res = new HashMap<>();
+
+        for (Map.Entry<UUID, PartitionIdSet> entry : partMap.entrySet()) {
+            UUID memberId = entry.getKey();
+            PartitionIdSet memberPartitions = entry.getValue();
+
+            PartitionIdSet prunedMemberPartitions = new PartitionIdSet(memberPartitions.getPartitionCount());
+
+            PrimitiveIterator.OfInt iterator = partitions.intIterator();
+
+            while (iterator.hasNext()) {
+                int partition = iterator.nextInt();
+
+                if (memberPartitions.contains(partition)) {
+                    prunedMemberPartitions.add(partition);
+                }
+            }
+
+            if (!prunedMemberPartitions.isEmpty() || memberId.equals(localMemberId)) {
+                res.put(memberId, prunedMemberPartitions);
+            }
+        }
+
+        return res;
+    }
+
+    private PartitionIdSet getPartitions(int partitionCount, List<Object> args, NodeServiceProvider nodeServiceProvider) {
+        ExpressionEvalContext ctx = args::get;
+
+        PartitionIdSet res = new PartitionIdSet(partitionCount);
+
+        for (Map.Entry<String, List<Expression<?>>> entry : keys.entrySet()) {
+            MapContainer map = nodeServiceProvider.getMap(entry.getKey());
+
+            if (map == null) {
+                // Concurrent map destroy, the error will be reported by the scan.
+                return null;
+            }
+
+            MapServiceContext mapServiceContext = map.getMapServiceContext();
+
+            for (Expression<?> keyExpression : entry.getValue()) {
+                Object key;
+
+                try {
+                    key = keyExpression.eval(EmptyRow.INSTANCE, ctx);
+                } catch (QueryException e) {
+                    // The value cannot be converted to the key type (e.g. numeric overflow), so it doesn't match any key.
+                    continue;
+                }
+
+                // NULL key doesn't match any entry.
+                if (key == null) {
+                    continue;
+                }
+
+                Data keyData = mapServiceContext.toData(key, map.getPartitioningStrategy());
+
+                res.add(mapServiceContext.getNodeEngine().getPartitionService().getPartitionId(keyData));
+            }
+        }
+
+        return res;
+    }
+}
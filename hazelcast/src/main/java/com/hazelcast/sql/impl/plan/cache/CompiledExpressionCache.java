@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.cache;
+
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionCompiler;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of compiled expressions.
+ * <p>
+ * Plans are cached on the initiator only, while expressions are compiled on every member which executes a
+ * fragment. Compiled expressions are therefore cached separately, keyed by the source expression tree. Expressions
+ * which could not be compiled are cached as well, so that compilation is attempted only once.
+ */
+public class CompiledExpressionCache implements ExpressionCompiler {
+
+    private final ExpressionCompiler compiler;
+    private final int maxSize;
+    private final ConcurrentHashMap<Expression<?>, Entry> entries = new ConcurrentHashMap<>();
+
+    public CompiledExpressionCache(ExpressionCompiler compiler, int maxSize) {
+        assert maxSize > 0;
+
+        this.compiler = compiler;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the compiled expression from the cache, compiling it if needed.
+     *
+     * @param expression Source expression.
+     * @return Compiled expression or the source expression if it cannot be compiled.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Expression<T> compile(Expression<T> expression) {
+        if (expression == null) {
+            return null;
+        }
+
+        Entry entry = entries.get(expression);
+
+        if (entry == null) {
+            Expression<T> compiled = compiler.compile(expression);
+
+            entry = new Entry(compiled != null ? compiled : expression);
+
+            Entry oldEntry = entries.putIfAbsent(expression, entry);
+
+            if (oldEntry != null) {
+                entry = oldEntry;
+            } else {
+                shrinkIfNeeded();
+            }
+        }
+
+        entry.lastUsed = System.currentTimeMillis();
+
+        return (Expression<T>) entry.expression;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void shrinkIfNeeded() {
+        int oversize = entries.size() - maxSize;
+
+        if (oversize <= 0) {
+            return;
+        }
+
+        // Sort entries according to their last used timestamps
+        TreeMap<Long, Expression<?>> sorted = new TreeMap<>();
+
+        for (Map.Entry<Expression<?>, Entry> entry : entries.entrySet()) {
+            sorted.put(entry.getValue().lastUsed, entry.getKey());
+        }
+
+        // Remove oldest entries
+        for (Expression<?> expression : sorted.values()) {
+            if (entries.remove(expression) != null) {
+                if (--oversize == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final Expression<?> expression;
+        private volatile long lastUsed;
+
+        private Entry(Expression<?> expression) {
+            this.expression = expression;
+
+            lastUsed = System.currentTimeMillis();
+        }
+    }
+}
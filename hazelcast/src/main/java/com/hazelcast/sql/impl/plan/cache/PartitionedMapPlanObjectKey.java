@@ -18,6 +18,7 @@ package com.hazelcast.sql.impl.plan.cache;
 
 import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
 import com.hazelcast.sql.impl.schema.TableField;
+import com.hazelcast.sql.impl.schema.map.MapTableIndex;
 
 import java.util.List;
 import java.util.Set;
@@ -30,6 +31,7 @@ public class PartitionedMapPlanObjectKey implements PlanObjectKey {
     private final QueryTargetDescriptor keyDescriptor;
     private final QueryTargetDescriptor valueDescriptor;
     private final Set<String> conflictingSchemas;
+    private final List<MapTableIndex> indexes;
 
     public PartitionedMapPlanObjectKey(
         String schemaName,
@@ -37,7 +39,8 @@ public class PartitionedMapPlanObjectKey implements PlanObjectKey {
         List<TableField> fields,
         Set<String> conflictingSchemas,
         QueryTargetDescriptor keyDescriptor,
-        QueryTargetDescriptor valueDescriptor
+        QueryTargetDescriptor valueDescriptor,
+        List<MapTableIndex> indexes
     ) {
         this.schemaName = schemaName;
         this.name = name;
@@ -45,6 +48,7 @@ public class PartitionedMapPlanObjectKey implements PlanObjectKey {
         this.keyDescriptor = keyDescriptor;
         this.valueDescriptor = valueDescriptor;
         this.conflictingSchemas = conflictingSchemas;
+        this.indexes = indexes;
     }
 
     @Override
@@ -64,7 +68,8 @@ public class PartitionedMapPlanObjectKey implements PlanObjectKey {
             && fields.equals(that.fields)
             && keyDescriptor.equals(that.keyDescriptor)
             && valueDescriptor.equals(that.valueDescriptor)
-            && conflictingSchemas.equals(that.conflictingSchemas);
+            && conflictingSchemas.equals(that.conflictingSchemas)
+            && indexes.equals(that.indexes);
     }
 
     @Override
@@ -75,6 +80,7 @@ public class PartitionedMapPlanObjectKey implements PlanObjectKey {
         result = 31 * result + keyDescriptor.hashCode();
         result = 31 * result + valueDescriptor.hashCode();
         result = 31 * result + conflictingSchemas.hashCode();
+        result = 31 * result + indexes.hashCode();
         return result;
     }
 }
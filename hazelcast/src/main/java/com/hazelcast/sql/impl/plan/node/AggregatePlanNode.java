@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.node;
+
+import com.hazelcast.internal.serialization.impl.SerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.exec.agg.AggregateFunction;
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hash aggregation. Produces the group key columns followed by the results of the aggregate functions.
+ */
+public class AggregatePlanNode extends UniInputPlanNode implements IdentifiedDataSerializable {
+
+    private List<Integer> groupKey;
+    private List<AggregateFunction> functions;
+
+    public AggregatePlanNode() {
+        // No-op.
+    }
+
+    public AggregatePlanNode(int id, PlanNode upstream, List<Integer> groupKey, List<AggregateFunction> functions) {
+        super(id, upstream);
+
+        this.groupKey = groupKey;
+        this.functions = functions;
+    }
+
+    public List<Integer> getGroupKey() {
+        return groupKey;
+    }
+
+    public List<AggregateFunction> getFunctions() {
+        return functions;
+    }
+
+    @Override
+    public void visit0(PlanNodeVisitor visitor) {
+        visitor.onAggregateNode(this);
+    }
+
+    @Override
+    public PlanNodeSchema getSchema0() {
+        PlanNodeSchema upstreamSchema = upstream.getSchema();
+
+        List<QueryDataType> types = new ArrayList<>(groupKey.size() + functions.size());
+
+        for (Integer index : groupKey) {
+            types.add(upstreamSchema.getType(index));
+        }
+
+        for (AggregateFunction function : functions) {
+            types.add(function.getType());
+        }
+
+        return new PlanNodeSchema(types);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SqlDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SqlDataSerializerHook.NODE_AGGREGATE;
+    }
+
+    @Override
+    public void writeData1(ObjectDataOutput out) throws IOException {
+        SerializationUtil.writeList(groupKey, out);
+        SerializationUtil.writeList(functions, out);
+    }
+
+    @Override
+    public void readData1(ObjectDataInput in) throws IOException {
+        groupKey = SerializationUtil.readList(in);
+        functions = SerializationUtil.readList(in);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, groupKey, functions, upstream);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AggregatePlanNode that = (AggregatePlanNode) o;
+
+        return id == that.id && groupKey.equals(that.groupKey) && functions.equals(that.functions)
+            && upstream.equals(that.upstream);
+    }
+}
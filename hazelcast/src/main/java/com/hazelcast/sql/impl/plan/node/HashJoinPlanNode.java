@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.node;
+
+import com.hazelcast.internal.serialization.impl.SerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.expression.Expression;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hash join. The right input is loaded into a hash table keyed by the right hash keys, and then the left input is
+ * probed against it. If there are no hash keys, every left row is matched against all right rows (nested loop).
+ * <p>
+ * The optional filter contains the non-equi part of the join condition, and is evaluated on the joined row.
+ */
+public class HashJoinPlanNode extends BiInputPlanNode implements IdentifiedDataSerializable {
+
+    private List<Integer> leftHashKeys;
+    private List<Integer> rightHashKeys;
+    private Expression<Boolean> filter;
+    private boolean outer;
+
+    public HashJoinPlanNode() {
+        // No-op.
+    }
+
+    public HashJoinPlanNode(
+        int id,
+        PlanNode left,
+        PlanNode right,
+        List<Integer> leftHashKeys,
+        List<Integer> rightHashKeys,
+        Expression<Boolean> filter,
+        boolean outer
+    ) {
+        super(id, left, right);
+
+        this.leftHashKeys = leftHashKeys;
+        this.rightHashKeys = rightHashKeys;
+        this.filter = filter;
+        this.outer = outer;
+    }
+
+    public List<Integer> getLeftHashKeys() {
+        return leftHashKeys;
+    }
+
+    public List<Integer> getRightHashKeys() {
+        return rightHashKeys;
+    }
+
+    public Expression<Boolean> getFilter() {
+        return filter;
+    }
+
+    /**
+     * @return {@code true} if left rows without matches should be returned with {@code NULL} right columns.
+     */
+    public boolean isOuter() {
+        return outer;
+    }
+
+    @Override
+    public void visit0(PlanNodeVisitor visitor) {
+        visitor.onHashJoinNode(this);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SqlDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SqlDataSerializerHook.NODE_HASH_JOIN;
+    }
+
+    @Override
+    public void writeData1(ObjectDataOutput out) throws IOException {
+        SerializationUtil.writeList(leftHashKeys, out);
+        SerializationUtil.writeList(rightHashKeys, out);
+        out.writeObject(filter);
+        out.writeBoolean(outer);
+    }
+
+    @Override
+    public void readData1(ObjectDataInput in) throws IOException {
+        leftHashKeys = SerializationUtil.readList(in);
+        rightHashKeys = SerializationUtil.readList(in);
+        filter = in.readObject();
+        outer = in.readBoolean();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, leftHashKeys, rightHashKeys, filter, outer, left, right);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HashJoinPlanNode that = (HashJoinPlanNode) o;
+
+        return id == that.id && leftHashKeys.equals(that.leftHashKeys) && rightHashKeys.equals(that.rightHashKeys)
+            && Objects.equals(filter, that.filter) && outer == that.outer && left.equals(that.left)
+            && right.equals(that.right);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.node;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.exec.scan.index.IndexFilter;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Node to scan a partitioned map using an index.
+ * <p>
+ * The index filter is used to get the candidate entries from the index, then the remaining filter is applied to them.
+ */
+public class MapIndexScanPlanNode extends AbstractMapScanPlanNode implements IdentifiedDataSerializable {
+
+    private String indexName;
+    private IndexFilter indexFilter;
+
+    public MapIndexScanPlanNode() {
+        // No-op.
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public MapIndexScanPlanNode(
+        int id,
+        String mapName,
+        QueryTargetDescriptor keyDescriptor,
+        QueryTargetDescriptor valueDescriptor,
+        List<QueryPath> fieldPaths,
+        List<QueryDataType> fieldTypes,
+        List<Integer> projects,
+        String indexName,
+        IndexFilter indexFilter,
+        Expression<Boolean> filter
+    ) {
+        super(id, mapName, keyDescriptor, valueDescriptor, fieldPaths, fieldTypes, projects, filter);
+
+        this.indexName = indexName;
+        this.indexFilter = indexFilter;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public IndexFilter getIndexFilter() {
+        return indexFilter;
+    }
+
+    @Override
+    public void visit(PlanNodeVisitor visitor) {
+        visitor.onMapIndexScanNode(this);
+    }
+
+    @Override
+    protected void writeData0(ObjectDataOutput out) throws IOException {
+        super.writeData0(out);
+
+        out.writeUTF(indexName);
+        out.writeObject(indexFilter);
+    }
+
+    @Override
+    protected void readData0(ObjectDataInput in) throws IOException {
+        super.readData0(in);
+
+        indexName = in.readUTF();
+        indexFilter = in.readObject();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, mapName, fieldPaths, fieldTypes, projects, filter, keyDescriptor, valueDescriptor, indexName,
+            indexFilter);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        MapIndexScanPlanNode that = (MapIndexScanPlanNode) o;
+
+        return id == that.id
+            && mapName.equals(that.mapName)
+            && fieldPaths.equals(that.fieldPaths)
+            && fieldTypes.equals(that.fieldTypes)
+            && projects.equals(that.projects)
+            && Objects.equals(filter, that.filter)
+            && keyDescriptor.equals(that.keyDescriptor)
+            && valueDescriptor.equals(that.valueDescriptor)
+            && indexName.equals(that.indexName)
+            && indexFilter.equals(that.indexFilter);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SqlDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SqlDataSerializerHook.NODE_MAP_INDEX_SCAN;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{id=" + id + ", mapName=" + mapName + ", fieldPaths=" + fieldPaths
+            + ", projects=" + projects + ", indexName=" + indexName + ", indexFilter=" + indexFilter
+            + ", filter=" + filter + '}';
+    }
+}
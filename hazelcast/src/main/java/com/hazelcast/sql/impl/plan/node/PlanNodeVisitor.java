@@ -16,8 +16,11 @@
 
 package com.hazelcast.sql.impl.plan.node;
 
+import com.hazelcast.sql.impl.plan.node.io.BroadcastSendPlanNode;
 import com.hazelcast.sql.impl.plan.node.io.ReceivePlanNode;
+import com.hazelcast.sql.impl.plan.node.io.ReceiveSortMergePlanNode;
 import com.hazelcast.sql.impl.plan.node.io.RootSendPlanNode;
+import com.hazelcast.sql.impl.plan.node.io.UnicastSendPlanNode;
 
 /**
  * Plan node visitor. Typically used to convert the tree of plan nodes to another tree
@@ -37,6 +40,13 @@ public interface PlanNodeVisitor {
     void onProjectNode(ProjectPlanNode node);
     void onFilterNode(FilterPlanNode node);
     void onMapScanNode(MapScanPlanNode node);
+    void onMapIndexScanNode(MapIndexScanPlanNode node);
+    void onAggregateNode(AggregatePlanNode node);
+    void onSortNode(SortPlanNode node);
+    void onReceiveSortMergeNode(ReceiveSortMergePlanNode node);
+    void onHashJoinNode(HashJoinPlanNode node);
+    void onBroadcastSendNode(BroadcastSendPlanNode node);
+    void onUnicastSendNode(UnicastSendPlanNode node);
 
     /**
      * Callback for a node without special handlers. For testing only.
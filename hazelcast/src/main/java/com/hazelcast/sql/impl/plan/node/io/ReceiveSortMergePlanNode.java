@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.node.io;
+
+import com.hazelcast.internal.serialization.impl.SerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.plan.node.PlanNodeSchema;
+import com.hazelcast.sql.impl.plan.node.PlanNodeVisitor;
+import com.hazelcast.sql.impl.plan.node.ZeroInputPlanNode;
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Physical node which receives sorted streams from remote stripes and merges them preserving the order. The final
+ * fetch and offset are applied to the merged stream.
+ */
+public class ReceiveSortMergePlanNode extends ZeroInputPlanNode implements EdgeAwarePlanNode, IdentifiedDataSerializable {
+    /** Edge ID. */
+    private int edgeId;
+
+    /** Field types. */
+    private List<QueryDataType> fieldTypes;
+
+    /** Sort columns. */
+    private List<Integer> columns;
+
+    /** Sort directions. */
+    private List<Boolean> ascending;
+
+    /** Fetch expression. */
+    private Expression<?> fetch;
+
+    /** Offset expression. */
+    private Expression<?> offset;
+
+    public ReceiveSortMergePlanNode() {
+        // No-op.
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ReceiveSortMergePlanNode(
+        int id,
+        int edgeId,
+        List<QueryDataType> fieldTypes,
+        List<Integer> columns,
+        List<Boolean> ascending,
+        Expression<?> fetch,
+        Expression<?> offset
+    ) {
+        super(id);
+
+        this.edgeId = edgeId;
+        this.fieldTypes = fieldTypes;
+        this.columns = columns;
+        this.ascending = ascending;
+        this.fetch = fetch;
+        this.offset = offset;
+    }
+
+    @Override
+    public int getEdgeId() {
+        return edgeId;
+    }
+
+    @Override
+    public boolean isSender() {
+        return false;
+    }
+
+    public List<Integer> getColumns() {
+        return columns;
+    }
+
+    public List<Boolean> getAscending() {
+        return ascending;
+    }
+
+    public Expression<?> getFetch() {
+        return fetch;
+    }
+
+    public Expression<?> getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void visit(PlanNodeVisitor visitor) {
+        visitor.onReceiveSortMergeNode(this);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SqlDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SqlDataSerializerHook.NODE_RECEIVE_SORT_MERGE;
+    }
+
+    @Override
+    public PlanNodeSchema getSchema0() {
+        return new PlanNodeSchema(fieldTypes);
+    }
+
+    @Override
+    public void writeData0(ObjectDataOutput out) throws IOException {
+        out.writeInt(edgeId);
+        SerializationUtil.writeList(fieldTypes, out);
+        SerializationUtil.writeList(columns, out);
+        SerializationUtil.writeList(ascending, out);
+        out.writeObject(fetch);
+        out.writeObject(offset);
+    }
+
+    @Override
+    public void readData0(ObjectDataInput in) throws IOException {
+        edgeId = in.readInt();
+        fieldTypes = SerializationUtil.readList(in);
+        columns = SerializationUtil.readList(in);
+        ascending = SerializationUtil.readList(in);
+        fetch = in.readObject();
+        offset = in.readObject();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, edgeId, fieldTypes, columns, ascending, fetch, offset);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ReceiveSortMergePlanNode that = (ReceiveSortMergePlanNode) o;
+
+        return id == that.id && edgeId == that.edgeId && fieldTypes.equals(that.fieldTypes) && columns.equals(that.columns)
+            && ascending.equals(that.ascending) && Objects.equals(fetch, that.fetch) && Objects.equals(offset, that.offset);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{id=" + id + ", edgeId=" + edgeId + ", fieldTypes=" + fieldTypes
+            + ", columns=" + columns + ", ascending=" + ascending + ", fetch=" + fetch + ", offset=" + offset + '}';
+    }
+}
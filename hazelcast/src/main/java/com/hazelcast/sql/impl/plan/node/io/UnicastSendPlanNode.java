@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.node.io;
+
+import com.hazelcast.internal.serialization.impl.SerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.plan.node.PlanNode;
+import com.hazelcast.sql.impl.plan.node.PlanNodeVisitor;
+import com.hazelcast.sql.impl.plan.node.UniInputPlanNode;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Node that sends every row to exactly one member of the receiving fragment, chosen by the hash of the given columns.
+ * Rows with equal values of the hash columns are always sent to the same member.
+ */
+public class UnicastSendPlanNode extends UniInputPlanNode implements EdgeAwarePlanNode, IdentifiedDataSerializable {
+    /** Edge ID. */
+    private int edgeId;
+
+    /** Columns used to calculate the target member. */
+    private List<Integer> hashKeys;
+
+    public UnicastSendPlanNode() {
+        // No-op.
+    }
+
+    public UnicastSendPlanNode(int id, PlanNode upstream, int edgeId, List<Integer> hashKeys) {
+        super(id, upstream);
+
+        this.edgeId = edgeId;
+        this.hashKeys = hashKeys;
+    }
+
+    @Override
+    public int getEdgeId() {
+        return edgeId;
+    }
+
+    @Override
+    public boolean isSender() {
+        return true;
+    }
+
+    public List<Integer> getHashKeys() {
+        return hashKeys;
+    }
+
+    @Override
+    public void visit0(PlanNodeVisitor visitor) {
+        visitor.onUnicastSendNode(this);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SqlDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SqlDataSerializerHook.NODE_UNICAST_SEND;
+    }
+
+    @Override
+    public void writeData1(ObjectDataOutput out) throws IOException {
+        out.writeInt(edgeId);
+        SerializationUtil.writeList(hashKeys, out);
+    }
+
+    @Override
+    public void readData1(ObjectDataInput in) throws IOException {
+        edgeId = in.readInt();
+        hashKeys = SerializationUtil.readList(in);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, edgeId, hashKeys, upstream);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        UnicastSendPlanNode that = (UnicastSendPlanNode) o;
+
+        return id == that.id && edgeId == that.edgeId && hashKeys.equals(that.hashKeys) && upstream.equals(that.upstream);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{id=" + id + ", edgeId=" + edgeId + ", hashKeys=" + hashKeys
+            + ", upstream=" + upstream + '}';
+    }
+}
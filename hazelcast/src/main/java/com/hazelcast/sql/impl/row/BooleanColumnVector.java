@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.row;
+
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+/**
+ * Vector of BOOLEAN values, which are stored as primitive booleans.
+ */
+public final class BooleanColumnVector extends ColumnVector {
+
+    private final boolean[] values;
+
+    public BooleanColumnVector(int size) {
+        super(QueryDataType.BOOLEAN, size);
+
+        values = new boolean[size];
+    }
+
+    public boolean getBoolean(int idx) {
+        return values[idx];
+    }
+
+    public void setBoolean(int idx, boolean value) {
+        values[idx] = value;
+    }
+
+    @Override
+    protected Object get0(int idx) {
+        return values[idx];
+    }
+
+    @Override
+    protected void set0(int idx, Object value) {
+        values[idx] = (Boolean) value;
+    }
+
+    @Override
+    protected void copy0(int idx, ColumnVector source, int sourceIdx) {
+        values[idx] = ((BooleanColumnVector) source).values[sourceIdx];
+    }
+}
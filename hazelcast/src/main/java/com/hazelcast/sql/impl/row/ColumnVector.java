@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.row;
+
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+/**
+ * A single column of a {@link ColumnarRowBatch}.
+ * <p>
+ * Values of numeric and boolean types are stored in primitive arrays, so that batch-at-a-time expression
+ * evaluation doesn't need to box them. Nulls are tracked in a separate bitmap which is allocated lazily on the
+ * first {@code null} value, so that columns without nulls do not pay for null checks.
+ * <p>
+ * Vectors are not thread-safe and are not expected to be modified after they were handed over to another operator.
+ */
+public abstract class ColumnVector {
+
+    private static final int BITMAP_SHIFT = 6;
+
+    /** Type of the values. */
+    protected final QueryDataType type;
+
+    /** Number of values. */
+    protected final int size;
+
+    /** Null bitmap, {@code null} if there are no null values. */
+    private long[] nulls;
+
+    protected ColumnVector(QueryDataType type, int size) {
+        this.type = type;
+        this.size = size;
+    }
+
+    /**
+     * Create a vector which is able to hold {@code size} values of the given type.
+     *
+     * @param type Type of the values.
+     * @param size Number of values.
+     * @return Vector.
+     */
+    public static ColumnVector create(QueryDataType type, int size) {
+        switch (type.getTypeFamily()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                return new LongColumnVector(type, size);
+
+            case REAL:
+            case DOUBLE:
+                return new DoubleColumnVector(type, size);
+
+            case BOOLEAN:
+                return new BooleanColumnVector(size);
+
+            default:
+                return new ObjectColumnVector(type, size);
+        }
+    }
+
+    public QueryDataType getType() {
+        return type;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if at least one value of the vector is {@code null}.
+     */
+    public boolean hasNulls() {
+        return nulls != null;
+    }
+
+    public boolean isNull(int idx) {
+        return nulls != null && (nulls[idx >>> BITMAP_SHIFT] & (1L << idx)) != 0;
+    }
+
+    public void setNull(int idx) {
+        if (nulls == null) {
+            nulls = new long[(size >>> BITMAP_SHIFT) + 1];
+        }
+
+        nulls[idx >>> BITMAP_SHIFT] |= 1L << idx;
+    }
+
+    /**
+     * Get the value at the given position, boxing it if needed.
+     *
+     * @param idx Position.
+     * @return Value or {@code null}.
+     */
+    public Object get(int idx) {
+        return isNull(idx) ? null : get0(idx);
+    }
+
+    /**
+     * Set the value at the given position.
+     *
+     * @param idx Position.
+     * @param value Value or {@code null}.
+     */
+    public void set(int idx, Object value) {
+        if (value == null) {
+            setNull(idx);
+        } else {
+            set0(idx, value);
+        }
+    }
+
+    /**
+     * Create a new vector with values at the given positions of this vector.
+     *
+     * @param selection Positions to copy.
+     * @param selectionSize Number of positions to copy.
+     * @return New vector of {@code selectionSize} values.
+     */
+    public ColumnVector select(int[] selection, int selectionSize) {
+        ColumnVector res = create(type, selectionSize);
+
+        for (int i = 0; i < selectionSize; i++) {
+            int idx = selection[i];
+
+            if (isNull(idx)) {
+                res.setNull(i);
+            } else {
+                res.copy0(i, this, idx);
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Get a non-null value at the given position.
+     */
+    protected abstract Object get0(int idx);
+
+    /**
+     * Set a non-null value at the given position.
+     */
+    protected abstract void set0(int idx, Object value);
+
+    /**
+     * Copy a non-null value from the vector of the same class.
+     */
+    protected abstract void copy0(int idx, ColumnVector source, int sourceIdx);
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.row;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Batch where values are organized in columns.
+ * <p>
+ * The batch is produced by operators which are able to fill columns directly, without creating intermediate
+ * row objects. Operators which support batch-at-a-time expression evaluation work with columns directly. Other
+ * operators access the batch through {@link #getRow(int)}, which materializes a {@link HeapRow} on every call.
+ */
+public class ColumnarRowBatch implements RowBatch {
+    /** Columns. */
+    private final ColumnVector[] columns;
+
+    /** Number of rows. */
+    private final int rowCount;
+
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public ColumnarRowBatch(ColumnVector[] columns, int rowCount) {
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    @Override
+    public Row getRow(int idx) {
+        assert idx >= 0 && idx < rowCount;
+
+        if (columns.length == 0) {
+            return EmptyRow.INSTANCE;
+        }
+
+        Object[] values = new Object[columns.length];
+
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i].get(idx);
+        }
+
+        return new HeapRow(values);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public ColumnVector getColumn(int idx) {
+        return columns[idx];
+    }
+
+    /**
+     * Create a new batch with rows at the given positions of this batch.
+     *
+     * @param selection Positions of the rows.
+     * @param selectionSize Number of positions.
+     * @return New batch.
+     */
+    public ColumnarRowBatch select(int[] selection, int selectionSize) {
+        if (selectionSize == rowCount) {
+            // Selection vectors are always ordered, so this is the identity selection.
+            return this;
+        }
+
+        ColumnVector[] selectedColumns = new ColumnVector[columns.length];
+
+        for (int i = 0; i < columns.length; i++) {
+            selectedColumns[i] = columns[i].select(selection, selectionSize);
+        }
+
+        return new ColumnarRowBatch(selectedColumns, selectionSize);
+    }
+}
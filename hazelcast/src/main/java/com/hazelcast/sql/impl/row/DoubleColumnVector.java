@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.row;
+
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+
+/**
+ * Vector of REAL and DOUBLE values, which are stored as primitive doubles.
+ */
+public final class DoubleColumnVector extends ColumnVector {
+
+    private final double[] values;
+
+    public DoubleColumnVector(QueryDataType type, int size) {
+        super(type, size);
+
+        values = new double[size];
+    }
+
+    public double getDouble(int idx) {
+        return values[idx];
+    }
+
+    public void setDouble(int idx, double value) {
+        values[idx] = value;
+    }
+
+    @Override
+    protected Object get0(int idx) {
+        double value = values[idx];
+
+        return type.getTypeFamily() == QueryDataTypeFamily.REAL ? (Object) (float) value : (Object) value;
+    }
+
+    @Override
+    protected void set0(int idx, Object value) {
+        values[idx] = ((Number) value).doubleValue();
+    }
+
+    @Override
+    protected void copy0(int idx, ColumnVector source, int sourceIdx) {
+        values[idx] = ((DoubleColumnVector) source).values[sourceIdx];
+    }
+}
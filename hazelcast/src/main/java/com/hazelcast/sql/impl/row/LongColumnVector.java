@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.row;
+
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+/**
+ * Vector of TINYINT, SMALLINT, INT and BIGINT values, which are stored as primitive longs.
+ */
+public final class LongColumnVector extends ColumnVector {
+
+    private final long[] values;
+
+    public LongColumnVector(QueryDataType type, int size) {
+        super(type, size);
+
+        values = new long[size];
+    }
+
+    public long getLong(int idx) {
+        return values[idx];
+    }
+
+    public void setLong(int idx, long value) {
+        values[idx] = value;
+    }
+
+    @Override
+    protected Object get0(int idx) {
+        long value = values[idx];
+
+        switch (type.getTypeFamily()) {
+            case TINYINT:
+                return (byte) value;
+
+            case SMALLINT:
+                return (short) value;
+
+            case INT:
+                return (int) value;
+
+            default:
+                return value;
+        }
+    }
+
+    @Override
+    protected void set0(int idx, Object value) {
+        values[idx] = ((Number) value).longValue();
+    }
+
+    @Override
+    protected void copy0(int idx, ColumnVector source, int sourceIdx) {
+        values[idx] = ((LongColumnVector) source).values[sourceIdx];
+    }
+}
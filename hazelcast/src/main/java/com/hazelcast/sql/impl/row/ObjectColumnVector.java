@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.row;
+
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+/**
+ * Vector of values which do not have a primitive representation.
+ */
+public final class ObjectColumnVector extends ColumnVector {
+
+    private final Object[] values;
+
+    public ObjectColumnVector(QueryDataType type, int size) {
+        super(type, size);
+
+        values = new Object[size];
+    }
+
+    @Override
+    public Object get(int idx) {
+        return values[idx];
+    }
+
+    @Override
+    public void set(int idx, Object value) {
+        values[idx] = value;
+    }
+
+    @Override
+    public boolean isNull(int idx) {
+        return values[idx] == null;
+    }
+
+    @Override
+    public void setNull(int idx) {
+        values[idx] = null;
+    }
+
+    @Override
+    public boolean hasNulls() {
+        return true;
+    }
+
+    @Override
+    protected Object get0(int idx) {
+        return values[idx];
+    }
+
+    @Override
+    protected void set0(int idx, Object value) {
+        values[idx] = value;
+    }
+
+    @Override
+    protected void copy0(int idx, ColumnVector source, int sourceIdx) {
+        values[idx] = ((ObjectColumnVector) source).values[sourceIdx];
+    }
+}
@@ -20,6 +20,9 @@ package com.hazelcast.sql.impl.schema;
  * Statistics for the table. Must not invoke any distributed operations.
  */
 public interface TableStatistics {
+    /** Value returned when the statistic is not known. */
+    long UNKNOWN = -1L;
+
     /**
      * Gets the estimated number of rows in the table that is used during planning for cost calculation.
      * Must return non-negative number. If the underlying table cannot estimate the number of rows, some
@@ -28,4 +31,25 @@ public interface TableStatistics {
      * @return Estimated number of rows in the table. Never negative.
      */
     long getRowCount();
+
+    /**
+     * Gets the estimated number of distinct values of the field.
+     *
+     * @param fieldOrdinal Ordinal of the field.
+     * @return Estimated number of distinct values or {@link #UNKNOWN} if the table has no statistics for the field.
+     */
+    default long getDistinctValueCount(int fieldOrdinal) {
+        return UNKNOWN;
+    }
+
+    /**
+     * Gets the estimated number of distinct keys of the index, i.e. the number of distinct tuples of the index
+     * components.
+     *
+     * @param indexName Name of the index.
+     * @return Estimated number of distinct index keys or {@link #UNKNOWN} if the table has no statistics for the index.
+     */
+    default long getIndexCardinality(String indexName) {
+        return UNKNOWN;
+    }
 }
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.schema.map;
+
+import com.hazelcast.cardinality.impl.hyperloglog.HyperLogLog;
+import com.hazelcast.cardinality.impl.hyperloglog.impl.HyperLogLogImpl;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.HashUtil;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.PartitionContainer;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.sql.impl.extract.QueryPath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hazelcast.sql.impl.schema.TableStatistics.UNKNOWN;
+
+/**
+ * Periodically samples the local entries of indexed maps and estimates the number of distinct values of the index
+ * components and the number of distinct keys of the indexes with {@link HyperLogLog}.
+ * <p>
+ * Only the entries of the locally owned partitions are sampled, and no more than the configured number of entries
+ * per map. The results are exposed as {@link Sample} objects, which are extrapolated to the whole map during
+ * schema resolution, see {@link MapTableUtils#createPartitionedMapStatistics}.
+ */
+public class MapStatisticsCollector {
+
+    /** Default maximum number of entries sampled per map. */
+    public static final int DEFAULT_SAMPLE_SIZE = 10_000;
+
+    /** Hash used for null attribute values. */
+    private static final long NULL_HASH = 0x9E3779B97F4A7C15L;
+
+    private final NodeEngine nodeEngine;
+    private final int sampleSize;
+    private final ILogger logger;
+    private final Map<String, Sample> samples = new ConcurrentHashMap<>();
+
+    public MapStatisticsCollector(NodeEngine nodeEngine) {
+        this(nodeEngine, DEFAULT_SAMPLE_SIZE);
+    }
+
+    public MapStatisticsCollector(NodeEngine nodeEngine, int sampleSize) {
+        assert sampleSize > 0;
+
+        this.nodeEngine = nodeEngine;
+        this.sampleSize = sampleSize;
+
+        logger = nodeEngine.getLogger(getClass());
+    }
+
+    /**
+     * Collect statistics of all local maps.
+     */
+    public void collect() {
+        MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        MapServiceContext context = mapService.getMapServiceContext();
+
+        Map<String, MapContainer> mapContainers = context.getMapContainers();
+
+        // Forget destroyed maps.
+        samples.keySet().retainAll(mapContainers.keySet());
+
+        for (MapContainer mapContainer : mapContainers.values()) {
+            String mapName = mapContainer.getName();
+
+            try {
+                Sample sample = collect(context, mapContainer);
+
+                if (sample != null) {
+                    samples.put(mapName, sample);
+                } else {
+                    samples.remove(mapName);
+                }
+            } catch (Exception e) {
+                // Concurrent modifications of the map are not expected to break the sampling, but the statistics
+                // are not critical anyway.
+                samples.remove(mapName);
+
+                logger.fine("Failed to collect statistics of the map " + mapName + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * @param mapName Name of the map.
+     * @return The latest sample of the map or {@code null} if the map has not been sampled yet.
+     */
+    public Sample getSample(String mapName) {
+        return samples.get(mapName);
+    }
+
+    public void clear() {
+        samples.clear();
+    }
+
+    private Sample collect(MapServiceContext context, MapContainer mapContainer) {
+        // Only global indexes are used by the SQL engine, and HD maps are not supported at the moment.
+        if (!mapContainer.isGlobalIndexEnabled() || mapContainer.getMapConfig().getInMemoryFormat() == InMemoryFormat.NATIVE) {
+            return null;
+        }
+
+        InternalIndex[] indexes = mapContainer.getIndexes().getIndexes();
+
+        if (indexes.length == 0) {
+            return null;
+        }
+
+        Sketches sketches = new Sketches(indexes, (InternalSerializationService) nodeEngine.getSerializationService());
+        PartitionIdSet ownedPartitions = context.getOwnedPartitions();
+
+        int sampledEntryCount = 0;
+
+        for (PartitionContainer partitionContainer : context.getPartitionContainers()) {
+            if (!ownedPartitions.contains(partitionContainer.getPartitionId())) {
+                continue;
+            }
+
+            RecordStore<?> recordStore = partitionContainer.getExistingRecordStore(mapContainer.getName());
+
+            if (recordStore == null) {
+                continue;
+            }
+
+            Iterator<Map.Entry<Data, Record>> iterator = recordStore.iterator();
+
+            while (sampledEntryCount < sampleSize && iterator.hasNext()) {
+                Map.Entry<Data, Record> entry = iterator.next();
+
+                sketches.add(mapContainer.newQueryEntry(entry.getKey(), entry.getValue().getValue()));
+
+                sampledEntryCount++;
+            }
+
+            if (sampledEntryCount == sampleSize) {
+                break;
+            }
+        }
+
+        return sketches.toSample(sampledEntryCount);
+    }
+
+    /**
+     * HyperLogLog sketches of the index components and of the index keys.
+     */
+    private static final class Sketches {
+
+        private static final long HASH_MULTIPLIER = 31L;
+
+        private final InternalIndex[] indexes;
+        private final InternalSerializationService ss;
+
+        /** Distinct index components, so that every attribute is extracted only once per entry. */
+        private final List<String> components = new ArrayList<>();
+
+        /** Positions of the components of every index in the components list. */
+        private final int[][] indexComponentPositions;
+
+        private final HyperLogLog[] componentSketches;
+        private final HyperLogLog[] indexSketches;
+        private final long[] componentHashes;
+
+        private Sketches(InternalIndex[] indexes, InternalSerializationService ss) {
+            this.indexes = indexes;
+            this.ss = ss;
+
+            indexComponentPositions = new int[indexes.length][];
+
+            for (int i = 0; i < indexes.length; i++) {
+                String[] indexComponents = indexes[i].getComponents();
+
+                indexComponentPositions[i] = new int[indexComponents.length];
+
+                for (int j = 0; j < indexComponents.length; j++) {
+                    int position = components.indexOf(indexComponents[j]);
+
+                    if (position == -1) {
+                        position = components.size();
+
+                        components.add(indexComponents[j]);
+                    }
+
+                    indexComponentPositions[i][j] = position;
+                }
+            }
+
+            componentSketches = newSketches(components.size());
+            indexSketches = newSketches(indexes.length);
+            componentHashes = new long[components.size()];
+        }
+
+        private void add(QueryableEntry entry) {
+            for (int i = 0; i < componentHashes.length; i++) {
+                componentHashes[i] = hash(entry.getAttributeValue(components.get(i)));
+
+                componentSketches[i].add(componentHashes[i]);
+            }
+
+            for (int i = 0; i < indexComponentPositions.length; i++) {
+                indexSketches[i].add(combineHashes(indexComponentPositions[i]));
+            }
+        }
+
+        private Sample toSample(int sampledEntryCount) {
+            Map<QueryPath, Long> distinctValueCounts = new HashMap<>();
+
+            for (int i = 0; i < components.size(); i++) {
+                distinctValueCounts.put(QueryPath.create(components.get(i)), componentSketches[i].estimate());
+            }
+
+            Map<String, Long> indexDistinctCounts = new HashMap<>();
+
+            for (int i = 0; i < indexes.length; i++) {
+                indexDistinctCounts.put(indexes[i].getName(), indexSketches[i].estimate());
+            }
+
+            return new Sample(sampledEntryCount, distinctValueCounts, indexDistinctCounts);
+        }
+
+        private long hash(Object value) {
+            if (value == null) {
+                return NULL_HASH;
+            }
+
+            Data data = value instanceof Data ? (Data) value : ss.toData(value);
+
+            return data.hash64();
+        }
+
+        private long combineHashes(int[] positions) {
+            if (positions.length == 1) {
+                return componentHashes[positions[0]];
+            }
+
+            long res = 0;
+
+            for (int position : positions) {
+                res = HashUtil.fastLongMix(res * HASH_MULTIPLIER + componentHashes[position]);
+            }
+
+            return res;
+        }
+
+        private static HyperLogLog[] newSketches(int count) {
+            HyperLogLog[] res = new HyperLogLog[count];
+
+            for (int i = 0; i < count; i++) {
+                res[i] = new HyperLogLogImpl();
+            }
+
+            return res;
+        }
+    }
+
+    /**
+     * Statistics collected from a sample of the local map entries.
+     */
+    public static final class Sample {
+        /** If the share of distinct values in the sample is above this threshold, the attribute is considered unique. */
+        static final double UNIQUE_RATIO = 0.9;
+
+        private final long sampledEntryCount;
+        private final Map<QueryPath, Long> distinctValueCounts;
+        private final Map<String, Long> indexDistinctCounts;
+
+        public Sample(long sampledEntryCount, Map<QueryPath, Long> distinctValueCounts, Map<String, Long> indexDistinctCounts) {
+            this.sampledEntryCount = sampledEntryCount;
+            this.distinctValueCounts = Collections.unmodifiableMap(distinctValueCounts);
+            this.indexDistinctCounts = Collections.unmodifiableMap(indexDistinctCounts);
+        }
+
+        public long getSampledEntryCount() {
+            return sampledEntryCount;
+        }
+
+        /**
+         * @return Number of distinct values of the sampled attributes observed in the sample.
+         */
+        public Map<QueryPath, Long> getDistinctValueCounts() {
+            return distinctValueCounts;
+        }
+
+        /**
+         * @return Number of distinct index keys observed in the sample.
+         */
+        public Map<String, Long> getIndexDistinctCounts() {
+            return indexDistinctCounts;
+        }
+
+        /**
+         * Extrapolates the number of distinct values observed in the sample to the given number of rows.
+         * <p>
+         * If almost all the values in the sample are distinct, the number of distinct values is assumed to grow
+         * proportionally to the number of rows. Otherwise the values repeat, and the sample is assumed to contain
+         * most of them.
+         *
+         * @param sampleDistinctCount Number of distinct values in the sample.
+         * @param rowCount Estimated number of rows.
+         * @return Estimated number of distinct values, or {@code UNKNOWN} if nothing has been sampled.
+         */
+        public long estimateDistinctValueCount(long sampleDistinctCount, long rowCount) {
+            if (sampledEntryCount == 0) {
+                return UNKNOWN;
+            }
+
+            long res;
+
+            if (sampleDistinctCount >= sampledEntryCount * UNIQUE_RATIO) {
+                res = (long) ((double) sampleDistinctCount / sampledEntryCount * rowCount);
+            } else {
+                res = sampleDistinctCount;
+            }
+
+            return Math.max(1L, Math.min(res, rowCount));
+        }
+
+        @Override
+        public String toString() {
+            return "Sample{sampledEntryCount=" + sampledEntryCount + ", distinctValueCounts=" + distinctValueCounts
+                + ", indexDistinctCounts=" + indexDistinctCounts + '}';
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.schema.map;
+
+import com.hazelcast.sql.impl.schema.TableStatistics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Statistics of a map table collected from the stored data.
+ */
+public class MapTableStatistics implements TableStatistics {
+
+    private final long rowCount;
+    private final Map<Integer, Long> distinctValueCounts;
+    private final Map<String, Long> indexCardinalities;
+
+    public MapTableStatistics(long rowCount, Map<Integer, Long> distinctValueCounts, Map<String, Long> indexCardinalities) {
+        this.rowCount = rowCount;
+        this.distinctValueCounts = distinctValueCounts != null ? distinctValueCounts : Collections.emptyMap();
+        this.indexCardinalities = indexCardinalities != null ? indexCardinalities : Collections.emptyMap();
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public long getDistinctValueCount(int fieldOrdinal) {
+        Long res = distinctValueCounts.get(fieldOrdinal);
+
+        return res != null ? res : UNKNOWN;
+    }
+
+    @Override
+    public long getIndexCardinality(String indexName) {
+        Long res = indexCardinalities.get(indexName);
+
+        return res != null ? res : UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return "MapTableStatistics{rowCount=" + rowCount + ", distinctValueCounts=" + distinctValueCounts
+            + ", indexCardinalities=" + indexCardinalities + '}';
+    }
+}
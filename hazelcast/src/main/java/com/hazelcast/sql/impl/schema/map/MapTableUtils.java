@@ -17,11 +17,23 @@
 package com.hazelcast.sql.impl.schema.map;
 
 import com.hazelcast.cluster.memberselector.MemberSelectors;
+import com.hazelcast.config.IndexType;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.PartitionContainer;
 import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.schema.TableField;
+import com.hazelcast.sql.impl.schema.TableStatistics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Utility methods for schema resolution.
@@ -54,4 +66,128 @@ public final class MapTableUtils {
 
         return entryCount * memberCount;
     }
+
+    /**
+     * Create statistics of a partitioned map from the local sample, extrapolated to the estimated number of rows.
+     *
+     * @param rowCount Estimated number of rows.
+     * @param fields Table fields.
+     * @param indexes Table indexes.
+     * @param sample Local sample or {@code null} if the map has not been sampled yet.
+     * @return Statistics.
+     */
+    public static TableStatistics createPartitionedMapStatistics(
+        long rowCount,
+        List<TableField> fields,
+        List<MapTableIndex> indexes,
+        MapStatisticsCollector.Sample sample
+    ) {
+        Map<Integer, Long> distinctValueCounts = new HashMap<>();
+
+        for (int i = 0; i < fields.size(); i++) {
+            MapTableField field = (MapTableField) fields.get(i);
+
+            if (QueryPath.KEY_PATH.equals(field.getPath())) {
+                // Keys are unique.
+                distinctValueCounts.put(i, rowCount);
+
+                continue;
+            }
+
+            Long sampleDistinctCount = sample != null ? sample.getDistinctValueCounts().get(field.getPath()) : null;
+
+            if (sampleDistinctCount != null) {
+                long distinctCount = sample.estimateDistinctValueCount(sampleDistinctCount, rowCount);
+
+                if (distinctCount != TableStatistics.UNKNOWN) {
+                    distinctValueCounts.put(i, distinctCount);
+                }
+            }
+        }
+
+        Map<String, Long> indexCardinalities = new HashMap<>();
+
+        if (sample != null) {
+            for (MapTableIndex index : indexes) {
+                Long sampleDistinctCount = sample.getIndexDistinctCounts().get(index.getName());
+
+                if (sampleDistinctCount != null) {
+                    long distinctCount = sample.estimateDistinctValueCount(sampleDistinctCount, rowCount);
+
+                    if (distinctCount != TableStatistics.UNKNOWN) {
+                        indexCardinalities.put(index.getName(), distinctCount);
+                    }
+                }
+            }
+        }
+
+        return new MapTableStatistics(rowCount, distinctValueCounts, indexCardinalities);
+    }
+
+    /**
+     * Get indexes of the map which could be used by the SQL engine. Only indexes whose components could be matched
+     * to the table fields are returned.
+     *
+     * @param mapContainer Map container.
+     * @param fields Table fields.
+     * @return Indexes.
+     */
+    public static List<MapTableIndex> getPartitionedMapIndexes(MapContainer mapContainer, List<TableField> fields) {
+        // Only global indexes are supported at the moment.
+        if (!mapContainer.isGlobalIndexEnabled()) {
+            return Collections.emptyList();
+        }
+
+        InternalIndex[] indexes = mapContainer.getIndexes().getIndexes();
+
+        if (indexes.length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<MapTableIndex> res = new ArrayList<>(indexes.length);
+
+        for (InternalIndex index : indexes) {
+            // text indexes answer LIKE predicates only
+            if (index.getConfig().getType() == IndexType.TEXT) {
+                continue;
+            }
+
+            List<Integer> fieldOrdinals = getIndexFieldOrdinals(index.getComponents(), fields);
+
+            if (fieldOrdinals != null) {
+                res.add(new MapTableIndex(index.getName(), index.getConfig().getType(), fieldOrdinals));
+            }
+        }
+
+        return res;
+    }
+
+    private static List<Integer> getIndexFieldOrdinals(String[] components, List<TableField> fields) {
+        List<Integer> res = new ArrayList<>(components.length);
+
+        for (String component : components) {
+            QueryPath componentPath = QueryPath.create(component);
+
+            int fieldOrdinal = -1;
+
+            for (int i = 0; i < fields.size(); i++) {
+                MapTableField field = (MapTableField) fields.get(i);
+
+                if (field.getPath().equals(componentPath)) {
+                    fieldOrdinal = i;
+
+                    break;
+                }
+            }
+
+            if (fieldOrdinal == -1) {
+                // The component is not exposed as a table field (e.g. collection attribute).
+                return null;
+            }
+
+            res.add(fieldOrdinal);
+        }
+
+        return res;
+    }
 }
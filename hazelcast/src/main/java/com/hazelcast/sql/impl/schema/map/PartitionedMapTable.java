@@ -23,23 +23,38 @@ import com.hazelcast.sql.impl.plan.cache.PlanObjectKey;
 import com.hazelcast.sql.impl.schema.TableField;
 import com.hazelcast.sql.impl.schema.TableStatistics;
 
+import java.util.Collections;
 import java.util.List;
 
 import static com.hazelcast.sql.impl.QueryUtils.SCHEMA_NAME_PARTITIONED;
 
 public class PartitionedMapTable extends AbstractMapTable {
+
+    private final List<MapTableIndex> indexes;
+
     public PartitionedMapTable(
         String name,
         List<TableField> fields,
         TableStatistics statistics,
         QueryTargetDescriptor keyDescriptor,
-        QueryTargetDescriptor valueDescriptor
+        QueryTargetDescriptor valueDescriptor,
+        List<MapTableIndex> indexes
     ) {
         super(SCHEMA_NAME_PARTITIONED, name, fields, statistics, keyDescriptor, valueDescriptor);
+
+        this.indexes = indexes;
     }
 
     public PartitionedMapTable(String name, QueryException exception) {
         super(SCHEMA_NAME_PARTITIONED, name, exception);
+
+        this.indexes = Collections.emptyList();
+    }
+
+    public List<MapTableIndex> getIndexes() {
+        checkException();
+
+        return indexes;
     }
 
     @Override
@@ -54,7 +69,8 @@ public class PartitionedMapTable extends AbstractMapTable {
             getFields(),
             getConflictingSchemas(),
             getKeyDescriptor(),
-            getValueDescriptor()
+            getValueDescriptor(),
+            indexes
         );
     }
 }
@@ -29,9 +29,9 @@ import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.QueryUtils;
-import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
 import com.hazelcast.sql.impl.schema.Table;
 import com.hazelcast.sql.impl.schema.TableField;
+import com.hazelcast.sql.impl.schema.TableStatistics;
 import com.hazelcast.sql.impl.schema.map.sample.MapSampleMetadata;
 import com.hazelcast.sql.impl.schema.map.sample.MapSampleMetadataResolver;
 
@@ -52,8 +52,16 @@ public class PartitionedMapTableResolver extends AbstractMapTableResolver {
     private static final List<List<String>> SEARCH_PATHS =
         Collections.singletonList(Arrays.asList(QueryUtils.CATALOG, SCHEMA_NAME_PARTITIONED));
 
+    private final MapStatisticsCollector statisticsCollector;
+
     public PartitionedMapTableResolver(NodeEngine nodeEngine) {
+        this(nodeEngine, null);
+    }
+
+    public PartitionedMapTableResolver(NodeEngine nodeEngine, MapStatisticsCollector statisticsCollector) {
         super(nodeEngine, SEARCH_PATHS);
+
+        this.statisticsCollector = statisticsCollector;
     }
 
     @Override @Nonnull
@@ -66,7 +74,7 @@ public class PartitionedMapTableResolver extends AbstractMapTableResolver {
 
         // Get started maps.
         for (String mapName : context.getMapContainers().keySet()) {
-            PartitionedMapTable table = createTable(nodeEngine, context, mapName);
+            PartitionedMapTable table = createTable(nodeEngine, context, mapName, statisticsCollector);
 
             if (table == null) {
                 continue;
@@ -97,7 +105,8 @@ public class PartitionedMapTableResolver extends AbstractMapTableResolver {
     public static PartitionedMapTable createTable(
         NodeEngine nodeEngine,
         MapServiceContext context,
-        String name
+        String name,
+        MapStatisticsCollector statisticsCollector
     ) {
         try {
             MapContainer mapContainer = context.getMapContainer(name);
@@ -148,13 +157,23 @@ public class PartitionedMapTableResolver extends AbstractMapTableResolver {
 
                 long estimatedRowCount = MapTableUtils.estimatePartitionedMapRowCount(nodeEngine, context, name);
 
+                List<MapTableIndex> indexes = MapTableUtils.getPartitionedMapIndexes(mapContainer, fields);
+
+                TableStatistics statistics = MapTableUtils.createPartitionedMapStatistics(
+                    estimatedRowCount,
+                    fields,
+                    indexes,
+                    statisticsCollector != null ? statisticsCollector.getSample(name) : null
+                );
+
                 // Done.
                 return new PartitionedMapTable(
                     name,
                     fields,
-                    new ConstantTableStatistics(estimatedRowCount),
+                    statistics,
                     keyMetadata.getDescriptor(),
-                    valueMetadata.getDescriptor()
+                    valueMetadata.getDescriptor(),
+                    indexes
                 );
             }
 
@@ -16,6 +16,10 @@
 
 package com.hazelcast.sql.impl.schema.map.sample;
 
+import com.hazelcast.core.HazelcastJsonValue;
+import com.hazelcast.internal.json.Json;
+import com.hazelcast.internal.json.JsonObject;
+import com.hazelcast.internal.json.JsonValue;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.nio.serialization.ClassDefinition;
@@ -76,10 +80,12 @@ public final class MapSampleMetadataResolver {
                 if (data.isPortable()) {
                     return resolvePortable(ss.getPortableContext().lookupClassDefinition(data), key);
                 } else if (data.isJson()) {
-                    throw new UnsupportedOperationException("JSON objects are not supported.");
+                    return resolveJson(ss.toObject(data).toString(), key);
                 } else {
                     return resolveClass(ss.toObject(data).getClass(), key);
                 }
+            } else if (target instanceof HazelcastJsonValue) {
+                return resolveJson(target.toString(), key);
             } else {
                 return resolveClass(target.getClass(), key);
             }
@@ -115,6 +121,52 @@ public final class MapSampleMetadataResolver {
         return new MapSampleMetadata(GenericQueryTargetDescriptor.DEFAULT, new LinkedHashMap<>(fields));
     }
 
+    /**
+     * Resolve metadata from a JSON object. Top-level members of the object are exposed as fields.
+     *
+     * @param json JSON string.
+     * @param isKey Whether this is a key.
+     * @return Metadata.
+     */
+    private static MapSampleMetadata resolveJson(String json, boolean isKey) {
+        TreeMap<String, TableField> fields = new TreeMap<>();
+
+        // Add regular fields.
+        JsonValue value = Json.parse(json);
+
+        if (value.isObject()) {
+            for (JsonObject.Member member : value.asObject()) {
+                String name = member.getName();
+
+                QueryDataType type = resolveJsonType(member.getValue());
+
+                fields.putIfAbsent(name, new MapTableField(name, type, false, new QueryPath(name, isKey)));
+            }
+        }
+
+        // Add top-level object.
+        String topName = isKey ? QueryPath.KEY : QueryPath.VALUE;
+        QueryPath topPath = isKey ? QueryPath.KEY_PATH : QueryPath.VALUE_PATH;
+        fields.put(topName, new MapTableField(topName, QueryDataType.OBJECT, !fields.isEmpty(), topPath));
+
+        return new MapSampleMetadata(GenericQueryTargetDescriptor.DEFAULT, new LinkedHashMap<>(fields));
+    }
+
+    /**
+     * Resolve the type of JSON value consistently with the value conversion performed by JSON getters.
+     */
+    private static QueryDataType resolveJsonType(JsonValue value) {
+        if (value.isNumber()) {
+            return value.toString().contains(".") ? QueryDataType.DOUBLE : QueryDataType.BIGINT;
+        } else if (value.isString()) {
+            return QueryDataType.VARCHAR;
+        } else if (value.isBoolean()) {
+            return QueryDataType.BOOLEAN;
+        } else {
+            return QueryDataType.OBJECT;
+        }
+    }
+
     @SuppressWarnings("checkstyle:ReturnCount")
     private static QueryDataType resolvePortableType(FieldType portableType) {
         switch (portableType) {
@@ -81,10 +81,15 @@ public class QueryClientStateRegistry {
         int cursorBufferSize,
         InternalSerializationService serializationService
     ) {
-        Iterator<SqlRow> iterator = clientCursor.getIterator();
-
         List<List<Data>> page = new ArrayList<>(cursorBufferSize);
-        boolean last = fetchPage(iterator, page, cursorBufferSize, serializationService);
+        boolean last;
+
+        // The client keeps at most one fetch request in flight, but requests may still be processed by different threads.
+        synchronized (clientCursor) {
+            Iterator<SqlRow> iterator = clientCursor.getIterator();
+
+            last = fetchPage(iterator, page, cursorBufferSize, serializationService);
+        }
 
         if (last) {
             deleteClientCursor(clientCursor);
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cache;
+
+import com.hazelcast.config.CacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+import static com.hazelcast.cache.CacheTestSupport.createServerCachingProvider;
+import static com.hazelcast.internal.serialization.impl.DataCompressor.COMPRESSION_THRESHOLD;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CacheValueCompressionTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    @Test
+    public void testValuesSurviveMigrationAndOwnerShutdown() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance();
+        CacheManager cacheManager = createServerCachingProvider(instance1).getCacheManager();
+        Cache<Integer, String> cache = cacheManager.createCache("compressed",
+                new CacheConfig<Integer, String>().setValueCompressionEnabled(true));
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            cache.put(i, value(i));
+        }
+        assertEquals(value(0), cache.getAndPut(0, value(ENTRY_COUNT)));
+        assertTrue(cache.replace(1, value(1), value(ENTRY_COUNT + 1)));
+        assertTrue(cache.remove(2, value(2)));
+        cache.put(3, "small");
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance();
+        waitAllForSafeState(instance1, instance2);
+        instance1.shutdown();
+
+        Cache<Integer, String> cache2 = createServerCachingProvider(instance2).getCacheManager()
+                .getCache("compressed");
+        assertEquals(value(ENTRY_COUNT), cache2.get(0));
+        assertEquals(value(ENTRY_COUNT + 1), cache2.get(1));
+        assertFalse(cache2.containsKey(2));
+        assertEquals("small", cache2.get(3));
+        for (int i = 4; i < ENTRY_COUNT; i++) {
+            assertEquals(value(i), cache2.get(i));
+        }
+    }
+
+    private static String value(int i) {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 4 * COMPRESSION_THRESHOLD) {
+            sb.append("value-").append(i).append(' ');
+        }
+        return sb.toString();
+    }
+}
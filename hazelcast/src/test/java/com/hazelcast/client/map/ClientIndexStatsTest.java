@@ -177,6 +177,9 @@ public class ClientIndexStatsTest extends LocalIndexStatsTest {
 
             combinedIndexStats.setMemoryCost(indexStats1.getMemoryCost() + indexStats2.getMemoryCost());
 
+            combinedIndexStats.setIndexedPartitionCount(
+                    indexStats1.getIndexedPartitionCount() + indexStats2.getIndexedPartitionCount());
+
             combinedIndexStatsMap.put(indexEntry.getKey(), combinedIndexStats);
         }
         combinedStats.setIndexStats(combinedIndexStatsMap);
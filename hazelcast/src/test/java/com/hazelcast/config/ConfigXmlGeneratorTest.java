@@ -872,6 +872,7 @@ public class ConfigXmlGeneratorTest extends HazelcastTestSupport {
 
         expectedConfig.getMergePolicyConfig().setPolicy("mergePolicy");
         expectedConfig.setDisablePerEntryInvalidationEvents(true);
+        expectedConfig.setValueCompressionEnabled(true);
         expectedConfig.setWanReplicationRef(wanReplicationRef());
 
         Config config = new Config()
@@ -1288,6 +1289,7 @@ public class ConfigXmlGeneratorTest extends HazelcastTestSupport {
                 .setClassName("className")
                 .setWriteCoalescing(true)
                 .setWriteBatchSize(500)
+                .setOffload(true)
                 .setProperty("key", "value");
 
         testMap(mapStoreConfig);
@@ -1387,7 +1389,8 @@ public class ConfigXmlGeneratorTest extends HazelcastTestSupport {
                 .setSize(10)
                 .setMaxSizePolicy(MaxSizePolicy.FREE_NATIVE_MEMORY_SIZE);
 
-        IndexConfig indexConfig = new IndexConfig().addAttribute("attribute").setType(IndexType.SORTED);
+        IndexConfig indexConfig = new IndexConfig().addAttribute("attribute").addIncludedAttribute("included")
+                .setType(IndexType.SORTED);
 
         EntryListenerConfig listenerConfig = new EntryListenerConfig("com.hazelcast.entrylistener", false, false);
 
@@ -1441,6 +1444,8 @@ public class ConfigXmlGeneratorTest extends HazelcastTestSupport {
                 .setCacheDeserializedValues(CacheDeserializedValues.ALWAYS)
                 .setStatisticsEnabled(true)
                 .setReadBackupData(true)
+                .setReadReplicaPolicy(ReadReplicaPolicy.LEAST_LOADED)
+                .setValueCompressionEnabled(true)
                 .setBackupCount(2)
                 .setAsyncBackupCount(3)
                 .setMapStoreConfig(mapStoreConfig)
@@ -25,6 +25,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -67,6 +68,30 @@ public class IndexConfigTest {
 
         checkIndexQuality(new IndexConfig().setName("name"), new IndexConfig().setName("name"), true);
         checkIndexQuality(new IndexConfig().setName("name"), new IndexConfig().setName("name2"), false);
+
+        checkIndexQuality(new IndexConfig().addIncludedAttribute("a"), new IndexConfig().addIncludedAttribute("a"), true);
+        checkIndexQuality(new IndexConfig().addIncludedAttribute("a"), new IndexConfig().addIncludedAttribute("b"), false);
+        checkIndexQuality(new IndexConfig().addIncludedAttribute("a"), new IndexConfig(), false);
+    }
+
+    @Test
+    public void testIncludedAttributesCopied() {
+        IndexConfig config = new IndexConfig(IndexType.HASH, "a").addIncludedAttribute("b").addIncludedAttribute("c");
+
+        IndexConfig copy = new IndexConfig(config);
+
+        assertEquals(config, copy);
+        assertEquals(Arrays.asList("b", "c"), copy.getIncludedAttributes());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testIncludedAttributesNull() {
+        new IndexConfig().setIncludedAttributes(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncludedAttributeEmptyAdd() {
+        new IndexConfig().addIncludedAttribute("");
     }
 
     private void checkIndexQuality(IndexConfig config1, IndexConfig config2, boolean expected) {
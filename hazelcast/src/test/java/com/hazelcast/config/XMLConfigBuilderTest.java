@@ -902,6 +902,34 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
         assertEquals(MetadataPolicy.CREATE_ON_UPDATE, mapConfig.getMetadataPolicy());
     }
 
+    @Test
+    public void testMapConfig_valueCompressionEnabled() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<value-compression-enabled>true</value-compression-enabled>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+
+        assertTrue(config.getMapConfig("mymap").isValueCompressionEnabled());
+        assertFalse(config.getMapConfig("othermap").isValueCompressionEnabled());
+    }
+
+    @Test
+    public void testMapConfig_readReplicaPolicy() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<read-replica-policy>PREFER_LOCAL</read-replica-policy>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertEquals(ReadReplicaPolicy.PREFER_LOCAL, mapConfig.getReadReplicaPolicy());
+    }
+
     @Override
     @Test
     public void testMapConfig_metadataPolicy_defaultValue() {
@@ -1058,6 +1086,25 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
         assertTrue(mapStoreConfig.isWriteCoalescing());
     }
 
+    @Test
+    public void testMapStoreConfig_offload() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<map-store>"
+                + "<offload>true</offload>"
+                + "</map-store>"
+                + "</map>"
+                + "<map name=\"othermap\">"
+                + "<map-store/>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+
+        assertTrue(config.getMapConfig("mymap").getMapStoreConfig().isOffload());
+        assertFalse(config.getMapConfig("othermap").getMapStoreConfig().isOffload());
+    }
+
     private MapStoreConfig getWriteCoalescingMapStoreConfig(boolean writeCoalescing, boolean useDefault) {
         String xml = getWriteCoalescingConfigXml(writeCoalescing, useDefault);
         Config config = buildConfig(xml);
@@ -1912,6 +1959,7 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
                 + "        <eviction size=\"1000\" max-size-policy=\"ENTRY_COUNT\" eviction-policy=\"LFU\"/>"
                 + "        <merge-policy batch-size=\"111\">LatestAccessMergePolicy</merge-policy>"
                 + "        <disable-per-entry-invalidation-events>true</disable-per-entry-invalidation-events>"
+                + "        <value-compression-enabled>true</value-compression-enabled>"
                 + "        <event-journal enabled=\"true\">\n"
                 + "            <capacity>120</capacity>\n"
                 + "            <time-to-live-seconds>20</time-to-live-seconds>\n"
@@ -1956,6 +2004,7 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
         assertEquals("LatestAccessMergePolicy", cacheConfig.getMergePolicyConfig().getPolicy());
         assertEquals(111, cacheConfig.getMergePolicyConfig().getBatchSize());
         assertTrue(cacheConfig.isDisablePerEntryInvalidationEvents());
+        assertTrue(cacheConfig.isValueCompressionEnabled());
         assertFalse(cacheConfig.getHotRestartConfig().isEnabled());
         assertFalse(cacheConfig.getHotRestartConfig().isFsync());
         EventJournalConfig journalConfig = cacheConfig.getEventJournalConfig();
@@ -2396,6 +2445,10 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
                 + "               <attributes>\n"
                 + "                   <attribute>age</attribute>\n"
                 + "               </attributes>\n"
+                + "               <included-attributes>\n"
+                + "                   <attribute>name</attribute>\n"
+                + "                   <attribute>address.city</attribute>\n"
+                + "               </included-attributes>\n"
                 + "           </index>\n"
                 + "       </indexes>"
                 + "   </map>"
@@ -2407,6 +2460,8 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
         assertFalse(mapConfig.getIndexConfigs().isEmpty());
         assertIndexEqual("name", false, mapConfig.getIndexConfigs().get(0));
         assertIndexEqual("age", true, mapConfig.getIndexConfigs().get(1));
+        assertTrue(mapConfig.getIndexConfigs().get(0).getIncludedAttributes().isEmpty());
+        assertEquals(Arrays.asList("name", "address.city"), mapConfig.getIndexConfigs().get(1).getIncludedAttributes());
     }
 
     private static void assertIndexEqual(String expectedAttribute, boolean expectedOrdered, IndexConfig indexConfig) {
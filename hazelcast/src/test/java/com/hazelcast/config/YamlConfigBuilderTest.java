@@ -900,6 +900,34 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
         assertEquals(MetadataPolicy.OFF, mapConfig.getMetadataPolicy());
     }
 
+    @Test
+    public void testMapConfig_valueCompressionEnabled() {
+        String yaml = ""
+                + "hazelcast:\n"
+                + "  map:\n"
+                + "    mymap:\n"
+                + "      value-compression-enabled: true";
+
+        Config config = buildConfig(yaml);
+
+        assertTrue(config.getMapConfig("mymap").isValueCompressionEnabled());
+        assertFalse(config.getMapConfig("othermap").isValueCompressionEnabled());
+    }
+
+    @Test
+    public void testMapConfig_readReplicaPolicy() {
+        String yaml = ""
+                + "hazelcast:\n"
+                + "  map:\n"
+                + "    mymap:\n"
+                + "      read-replica-policy: LEAST_LOADED";
+
+        Config config = buildConfig(yaml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertEquals(ReadReplicaPolicy.LEAST_LOADED, mapConfig.getReadReplicaPolicy());
+    }
+
     @Override
     @Test
     public void testMapConfig_metadataPolicy_defaultValue() {
@@ -1061,6 +1089,23 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
         assertTrue(mapStoreConfig.isWriteCoalescing());
     }
 
+    @Test
+    public void testMapStoreConfig_offload() {
+        String yaml = ""
+                + "hazelcast:\n"
+                + "  map:\n"
+                + "    mymap:\n"
+                + "      map-store:\n"
+                + "        offload: true\n"
+                + "    othermap:\n"
+                + "      map-store: {}\n";
+
+        Config config = buildConfig(yaml);
+
+        assertTrue(config.getMapConfig("mymap").getMapStoreConfig().isOffload());
+        assertFalse(config.getMapConfig("othermap").getMapStoreConfig().isOffload());
+    }
+
     private MapStoreConfig getWriteCoalescingMapStoreConfig(boolean writeCoalescing, boolean useDefault) {
         String yaml = getWriteCoalescingConfigYaml(writeCoalescing, useDefault);
         Config config = buildConfig(yaml);
@@ -1899,6 +1944,7 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
                 + "         batch-size: 100\n"
                 + "         class-name: LatestAccessMergePolicy\n"
                 + "      disable-per-entry-invalidation-events: true\n"
+                + "      value-compression-enabled: true\n"
                 + "      hot-restart:\n"
                 + "        enabled: false\n"
                 + "        fsync: false\n"
@@ -1941,6 +1987,7 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
         assertEquals("LatestAccessMergePolicy",
                 cacheConfig.getMergePolicyConfig().getPolicy());
         assertTrue(cacheConfig.isDisablePerEntryInvalidationEvents());
+        assertTrue(cacheConfig.isValueCompressionEnabled());
         assertFalse(cacheConfig.getHotRestartConfig().isEnabled());
         assertFalse(cacheConfig.getHotRestartConfig().isFsync());
 
@@ -2396,7 +2443,10 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
                 + "          attributes:\n"
                 + "            - \"name\"\n"
                 + "        - attributes:\n"
-                + "          - \"age\"\n";
+                + "          - \"age\"\n"
+                + "          included-attributes:\n"
+                + "          - \"name\"\n"
+                + "          - \"address.city\"\n";
 
         Config config = buildConfig(yaml);
         MapConfig mapConfig = config.getMapConfig("people");
@@ -2404,6 +2454,8 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
         assertFalse(mapConfig.getIndexConfigs().isEmpty());
         assertIndexEqual("name", false, mapConfig.getIndexConfigs().get(0));
         assertIndexEqual("age", true, mapConfig.getIndexConfigs().get(1));
+        assertTrue(mapConfig.getIndexConfigs().get(0).getIncludedAttributes().isEmpty());
+        assertEquals(Arrays.asList("name", "address.city"), mapConfig.getIndexConfigs().get(1).getIncludedAttributes());
     }
 
     @Override
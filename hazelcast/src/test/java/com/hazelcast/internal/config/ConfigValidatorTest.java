@@ -84,13 +84,19 @@ public class ConfigValidatorTest extends HazelcastTestSupport {
     }
 
     /**
-     * Not supported in open source version, so test is expected to throw exception.
+     * Native memory is disabled by default, so test is expected to throw exception.
      */
     @Test(expected = InvalidConfigurationException.class)
     public void checkMapConfig_NATIVE() {
         checkMapConfig(getMapConfig(NATIVE), nativeMemoryConfig, splitBrainMergePolicyProvider, properties);
     }
 
+    @Test
+    public void checkMapConfig_NATIVE_withNativeMemoryEnabled() {
+        checkMapConfig(getMapConfig(NATIVE), new NativeMemoryConfig().setEnabled(true),
+                splitBrainMergePolicyProvider, properties);
+    }
+
     private MapConfig getMapConfig(InMemoryFormat inMemoryFormat) {
         return new MapConfig()
                 .setInMemoryFormat(inMemoryFormat);
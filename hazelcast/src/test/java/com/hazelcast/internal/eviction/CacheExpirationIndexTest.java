@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.eviction;
+
+import com.hazelcast.cache.HazelcastExpiryPolicy;
+import com.hazelcast.cache.ICache;
+import com.hazelcast.cache.impl.CachePartitionSegment;
+import com.hazelcast.cache.impl.CacheService;
+import com.hazelcast.cache.impl.ICacheRecordStore;
+import com.hazelcast.config.CacheConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import javax.cache.CacheManager;
+import java.util.Iterator;
+
+import static com.hazelcast.cache.CacheTestSupport.createServerCachingProvider;
+import static com.hazelcast.cache.impl.eviction.CacheClearExpiredRecordsTask.PROP_EXPIRATION_INDEX_ENABLED;
+import static com.hazelcast.cache.impl.eviction.CacheClearExpiredRecordsTask.PROP_TASK_PERIOD_SECONDS;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CacheExpirationIndexTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void expires_entries_onPrimaryAndBackup() {
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(getConfig());
+        CacheManager cacheManager = createServerCachingProvider(instances[0]).getCacheManager();
+        ICache<Integer, Integer> cache = cacheManager.createCache(randomName(), new CacheConfig<Integer, Integer>())
+                .unwrap(ICache.class);
+
+        HazelcastExpiryPolicy expiryPolicy = new HazelcastExpiryPolicy(1000, 1000, 1000);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            cache.put(i, i, expiryPolicy);
+        }
+        cache.put(-1, -1);
+
+        assertTrueEventually(() -> {
+            assertEquals(1, cache.size());
+            // one primary and one backup replica
+            assertEquals(2, getRecordCount(instances[0]) + getRecordCount(instances[1]));
+        });
+        assertEquals(-1, (int) cache.get(-1));
+    }
+
+    @Test
+    public void does_not_expire_entry_whose_expiry_was_extended() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        CacheManager cacheManager = createServerCachingProvider(instance).getCacheManager();
+        ICache<Integer, Integer> cache = cacheManager.createCache(randomName(), new CacheConfig<Integer, Integer>())
+                .unwrap(ICache.class);
+
+        cache.put(1, 1, new HazelcastExpiryPolicy(2000, 2000, 2000));
+        cache.put(1, 1, new HazelcastExpiryPolicy(3600000, 3600000, 3600000));
+        cache.put(2, 2, new HazelcastExpiryPolicy(2000, 2000, 2000));
+
+        assertTrueEventually(() -> assertEquals(1, cache.size()));
+        assertTrueAllTheTime(() -> assertEquals(1, cache.size()), 3);
+    }
+
+    @Override
+    protected Config getConfig() {
+        return smallInstanceConfig()
+                .setProperty(PROP_EXPIRATION_INDEX_ENABLED, "true")
+                .setProperty(PROP_TASK_PERIOD_SECONDS, "1");
+    }
+
+    private static int getRecordCount(HazelcastInstance instance) {
+        CacheService cacheService = getNodeEngineImpl(instance).getService(CacheService.SERVICE_NAME);
+        int partitionCount = getNodeEngineImpl(instance).getPartitionService().getPartitionCount();
+        int recordCount = 0;
+        for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+            CachePartitionSegment segment = cacheService.getSegment(partitionId);
+            Iterator<ICacheRecordStore> iterator = segment.recordStoreIterator();
+            while (iterator.hasNext()) {
+                recordCount += iterator.next().size();
+            }
+        }
+        return recordCount;
+    }
+}
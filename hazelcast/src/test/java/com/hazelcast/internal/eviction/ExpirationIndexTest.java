@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.eviction;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ExpirationIndexTest {
+
+    private static final long TICK_MILLIS = 10;
+
+    private final ExpirationIndex<String> index = new ExpirationIndex<>(TICK_MILLIS);
+
+    @Test
+    public void poll_returnsOnlyDueKeys_inExpirationOrder() {
+        index.schedule("c", 300);
+        index.schedule("a", 100);
+        index.schedule("b", 200);
+
+        assertEquals(asList("a", "b"), poll(200, Integer.MAX_VALUE));
+        assertEquals(1, index.size());
+        assertEquals(singletonList("c"), poll(1000, Integer.MAX_VALUE));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void poll_doesNotReturnKey_beforeItsExpirationTime() {
+        index.schedule("a", 105);
+
+        assertEquals(emptyList(), poll(100, Integer.MAX_VALUE));
+        assertEquals(emptyList(), poll(109, Integer.MAX_VALUE));
+        assertEquals(singletonList("a"), poll(110, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void poll_respectsMaxCount() {
+        for (int i = 0; i < 10; i++) {
+            index.schedule("key" + i, 100 + i);
+        }
+
+        assertEquals(4, poll(1000, 4).size());
+        assertEquals(6, index.size());
+        assertEquals(6, poll(1000, 10).size());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void schedule_replacesPreviousSchedule() {
+        index.schedule("a", 100);
+        index.schedule("a", 500);
+
+        assertEquals(1, index.size());
+        assertEquals(emptyList(), poll(200, Integer.MAX_VALUE));
+        assertEquals(singletonList("a"), poll(500, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void schedule_removesKey_whenItNeverExpires() {
+        index.schedule("a", 100);
+        index.schedule("a", Long.MAX_VALUE);
+        index.schedule("b", -1);
+
+        assertEquals(0, index.size());
+        assertEquals(emptyList(), poll(Long.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void remove() {
+        index.schedule("a", 100);
+        index.schedule("b", 100);
+        index.remove("a");
+        index.remove("notIndexed");
+
+        assertEquals(singletonList("b"), poll(100, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void clear() {
+        index.schedule("a", 100);
+        index.schedule("b", 200);
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertEquals(emptyList(), poll(1000, Integer.MAX_VALUE));
+    }
+
+    private List<String> poll(long now, int maxCount) {
+        List<String> keys = new ArrayList<>();
+        index.poll(now, maxCount, keys);
+        return keys;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.eviction;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.map.impl.eviction.MapClearExpiredRecordsTask.PROP_EXPIRATION_INDEX_ENABLED;
+import static com.hazelcast.map.impl.eviction.MapClearExpiredRecordsTask.PROP_TASK_PERIOD_SECONDS;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapExpirationIndexTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void expires_ttlEntries_onPrimaryAndBackup() {
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(getConfig());
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+        AtomicInteger expiredEventCount = new AtomicInteger();
+        map.addEntryListener((EntryExpiredListener<Integer, Integer>) event -> expiredEventCount.incrementAndGet(), false);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i, 1, SECONDS);
+        }
+        map.put(-1, -1);
+
+        assertTrueEventually(() -> {
+            assertEquals(1, map.size());
+            assertEquals(ENTRY_COUNT, expiredEventCount.get());
+            long backupEntryCount = 0;
+            for (HazelcastInstance instance : instances) {
+                backupEntryCount += instance.getMap(map.getName()).getLocalMapStats().getBackupEntryCount();
+            }
+            assertEquals(1, backupEntryCount);
+        });
+        assertEquals(-1, (int) map.get(-1));
+    }
+
+    @Test
+    public void expires_idleEntries_andKeeps_accessedEntries() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+
+        map.put(1, 1, 0, SECONDS, 3, SECONDS);
+        map.put(2, 2, 0, SECONDS, 3, SECONDS);
+
+        // keep the first entry alive past its initial expiration time
+        for (int i = 0; i < 4; i++) {
+            sleepSeconds(1);
+            map.get(1);
+        }
+
+        assertTrueEventually(() -> assertEquals(1, map.size()));
+        assertEquals(1, (int) map.get(1));
+    }
+
+    @Test
+    public void does_not_expire_entry_whose_ttl_was_extended() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+
+        map.put(1, 1, 2, SECONDS);
+        map.put(1, 1, 1, HOURS);
+        map.put(2, 2, 2, SECONDS);
+
+        assertTrueEventually(() -> assertEquals(1, map.size()));
+        assertTrueAllTheTime(() -> assertEquals(1, map.size()), 3);
+    }
+
+    @Override
+    protected Config getConfig() {
+        return smallInstanceConfig()
+                .setProperty(PROP_EXPIRATION_INDEX_ENABLED, "true")
+                .setProperty(PROP_TASK_PERIOD_SECONDS, "1");
+    }
+}
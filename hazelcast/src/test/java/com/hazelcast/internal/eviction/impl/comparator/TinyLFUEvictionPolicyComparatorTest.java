@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.eviction.impl.comparator;
+
+import com.hazelcast.spi.eviction.EvictableEntryView;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TinyLFUEvictionPolicyComparatorTest {
+
+    private static final int KEY_COUNT = 1000;
+
+    private final TinyLFUEvictionPolicyComparator comparator = new TinyLFUEvictionPolicyComparator(KEY_COUNT);
+
+    @Test
+    public void frequency_countsAccesses() {
+        for (int i = 0; i < 5; i++) {
+            comparator.recordAccess("hot");
+        }
+        comparator.recordAccess("cold");
+
+        assertEquals(5, comparator.frequency("hot"));
+        assertEquals(1, comparator.frequency("cold"));
+        assertEquals(0, comparator.frequency("absent"));
+        assertEquals(0, comparator.frequency(null));
+    }
+
+    @Test
+    public void frequency_saturates() {
+        for (int i = 0; i < 100; i++) {
+            comparator.recordAccess("hot");
+        }
+
+        assertEquals(FrequencySketch.MAX_FREQUENCY, comparator.frequency("hot"));
+    }
+
+    @Test
+    public void frequency_isHalved_whenSketchAges() {
+        for (int i = 0; i < 8; i++) {
+            comparator.recordAccess("hot");
+        }
+
+        // one-time accesses which make the sketch reach its aging period
+        for (int i = 0; i < 10 * KEY_COUNT; i++) {
+            comparator.recordAccess(i);
+        }
+
+        int frequency = comparator.frequency("hot");
+        assertTrue("frequency was " + frequency, frequency >= 4 && frequency < 8);
+    }
+
+    @Test
+    public void compare_prefersLessFrequentlyUsed() {
+        comparator.recordAccess("hot");
+        comparator.recordAccess("hot");
+        comparator.recordAccess("cold");
+
+        // the cold entry was accessed more recently but is still the one to evict
+        EvictableEntryView hot = entryView("hot", 1);
+        EvictableEntryView cold = entryView("cold", 2);
+
+        assertTrue(comparator.compare(cold, hot) < 0);
+        assertTrue(comparator.compare(hot, cold) > 0);
+    }
+
+    @Test
+    public void compare_prefersLeastRecentlyUsed_whenFrequenciesAreSame() {
+        comparator.recordAccess("a");
+        comparator.recordAccess("b");
+
+        EvictableEntryView older = entryView("a", 1);
+        EvictableEntryView newer = entryView("b", 2);
+
+        assertTrue(comparator.compare(older, newer) < 0);
+        assertTrue(comparator.compare("b", newer, "a", older) > 0);
+    }
+
+    private static EvictableEntryView entryView(Object key, long lastAccessTime) {
+        EvictableEntryView entryView = mock(EvictableEntryView.class);
+        when(entryView.getKey()).thenReturn(key);
+        when(entryView.getLastAccessTime()).thenReturn(lastAccessTime);
+        return entryView;
+    }
+}
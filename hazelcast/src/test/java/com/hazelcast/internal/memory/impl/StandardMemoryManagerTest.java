@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class StandardMemoryManagerTest {
+
+    private static final long MAX_MEMORY = 1024;
+
+    private StandardMemoryManager memoryManager;
+    private MemoryAllocator malloc;
+    private MemoryAccessor mem;
+
+    @Before
+    public void setUp() {
+        memoryManager = new StandardMemoryManager(MAX_MEMORY);
+        malloc = memoryManager.getAllocator();
+        mem = memoryManager.getAccessor();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_constructor_whenMaxMemoryNotPositive() {
+        new StandardMemoryManager(0);
+    }
+
+    @Test
+    public void test_allocate_returnsZeroedBlock() {
+        long address = malloc.allocate(64);
+        for (int i = 0; i < 64; i++) {
+            assertEquals(0, mem.getByte(address + i));
+        }
+        malloc.free(address, 64);
+    }
+
+    @Test
+    public void test_allocateAndFree_tracksUsedMemory() {
+        long address = malloc.allocate(100);
+        assertEquals(100, memoryManager.getUsedMemory());
+        assertEquals(MAX_MEMORY - 100, memoryManager.getFreeMemory());
+
+        malloc.free(address, 100);
+        assertEquals(0, memoryManager.getUsedMemory());
+        assertEquals(MAX_MEMORY, memoryManager.getFreeMemory());
+    }
+
+    @Test
+    public void test_reallocate_keepsContentAndTracksUsedMemory() {
+        long address = malloc.allocate(8);
+        mem.putLong(address, 42L);
+
+        long newAddress = malloc.reallocate(address, 8, 24);
+        assertEquals(42L, mem.getLong(newAddress));
+        assertEquals(0L, mem.getLong(newAddress + 8));
+        assertEquals(0L, mem.getLong(newAddress + 16));
+        assertEquals(24, memoryManager.getUsedMemory());
+
+        malloc.free(newAddress, 24);
+        assertEquals(0, memoryManager.getUsedMemory());
+    }
+
+    @Test(expected = NativeOutOfMemoryError.class)
+    public void test_allocate_whenOverLimit() {
+        malloc.allocate(MAX_MEMORY + 1);
+    }
+
+    @Test
+    public void test_allocate_whenOverLimit_doesNotChangeUsedMemory() {
+        long address = malloc.allocate(MAX_MEMORY);
+        try {
+            malloc.allocate(1);
+            fail("Allocation over the limit should fail");
+        } catch (NativeOutOfMemoryError expected) {
+            assertEquals(MAX_MEMORY, memoryManager.getUsedMemory());
+        } finally {
+            malloc.free(address, MAX_MEMORY);
+        }
+        assertEquals(0, memoryManager.getUsedMemory());
+    }
+}
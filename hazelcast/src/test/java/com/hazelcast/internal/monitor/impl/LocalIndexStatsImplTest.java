@@ -49,6 +49,7 @@ public class LocalIndexStatsImplTest {
         stats.setRemoveCount(749274);
         stats.setTotalRemoveLatency(1454957);
         stats.setMemoryCost(2345);
+        stats.setIndexedPartitionCount(271);
     }
 
     @Test
@@ -65,6 +66,7 @@ public class LocalIndexStatsImplTest {
         assertEquals(749274, stats.getRemoveCount());
         assertEquals(1454957, stats.getTotalRemoveLatency());
         assertEquals(2345, stats.getMemoryCost());
+        assertEquals(271, stats.getIndexedPartitionCount());
         assertNotNull(stats.toString());
     }
 
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Random;
+
+import static com.hazelcast.internal.serialization.impl.DataCompressor.COMPRESSION_THRESHOLD;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class DataCompressorTest {
+
+    private final SerializationService ss = new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testCompress_thenDecompress() {
+        Data data = ss.toData(compressibleString(10 * COMPRESSION_THRESHOLD));
+
+        Data compressed = DataCompressor.compress(data);
+
+        assertTrue(DataCompressor.isCompressed(compressed));
+        assertTrue(compressed.totalSize() < data.totalSize());
+        assertEquals(data, DataCompressor.decompress(compressed));
+    }
+
+    @Test
+    public void testCompress_compressedData() {
+        Data compressed = DataCompressor.compress(ss.toData(compressibleString(10 * COMPRESSION_THRESHOLD)));
+
+        assertSame(compressed, DataCompressor.compress(compressed));
+    }
+
+    @Test
+    public void testCompress_smallData() {
+        Data data = ss.toData(compressibleString(COMPRESSION_THRESHOLD / 4));
+
+        assertSame(data, DataCompressor.compress(data));
+    }
+
+    @Test
+    public void testCompress_incompressibleData() {
+        byte[] bytes = new byte[10 * COMPRESSION_THRESHOLD];
+        new Random(42).nextBytes(bytes);
+        Data data = ss.toData(bytes);
+
+        assertSame(data, DataCompressor.compress(data));
+    }
+
+    @Test
+    public void testCompress_null() {
+        assertNull(DataCompressor.compress(null));
+        assertNull(DataCompressor.decompress(null));
+        assertFalse(DataCompressor.isCompressed(null));
+    }
+
+    @Test
+    public void testDecompress_uncompressedData() {
+        Data data = ss.toData("value");
+
+        assertFalse(DataCompressor.isCompressed(data));
+        assertSame(data, DataCompressor.decompress(data));
+    }
+
+    @Test
+    public void testCompressedData_survivesCopy() {
+        Data data = ss.toData(compressibleString(10 * COMPRESSION_THRESHOLD));
+        Data compressed = DataCompressor.compress(data);
+
+        Data copy = new HeapData(compressed.toByteArray().clone());
+
+        assertTrue(DataCompressor.isCompressed(copy));
+        assertEquals(data, DataCompressor.decompress(copy));
+    }
+
+    private static String compressibleString(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append("{\"name\":\"hazelcast\",\"count\":").append(sb.length()).append('}');
+        }
+        return sb.toString();
+    }
+}
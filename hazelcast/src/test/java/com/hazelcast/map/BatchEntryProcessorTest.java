@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.PartitionService;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.config.InMemoryFormat.OBJECT;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BatchEntryProcessorTest extends HazelcastTestSupport {
+
+    private static final String MAP_NAME = "BatchEntryProcessorTest";
+    private static final int ENTRY_COUNT = 1000;
+
+    @Parameter
+    public InMemoryFormat inMemoryFormat;
+
+    @Parameters(name = "{index}: {0}")
+    public static Collection<Object[]> data() {
+        return asList(new Object[][]{
+                {BINARY},
+                {OBJECT},
+        });
+    }
+
+    @Override
+    public Config getConfig() {
+        Config config = smallInstanceConfig();
+        config.addMapConfig(new MapConfig(MAP_NAME).setInMemoryFormat(inMemoryFormat));
+        return config;
+    }
+
+    @Test
+    public void testExecuteOnEntries_processesEachPartitionInOneBatch() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = fillMap(instance);
+
+        Map<Integer, Integer> results = map.executeOnEntries(new BatchSizeProcessor());
+
+        assertBatchSizes(instance, results, ENTRY_COUNT, key -> true);
+        assertBatchSizes(instance, map, ENTRY_COUNT, key -> true);
+    }
+
+    @Test
+    public void testExecuteOnEntriesWithPredicate_processesMatchingEntriesInOneBatch() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = fillMap(instance);
+        Predicate<Integer, Integer> predicate = Predicates.lessThan("__key", ENTRY_COUNT / 2);
+
+        Map<Integer, Integer> results = map.executeOnEntries(new BatchSizeProcessor(), predicate);
+
+        assertBatchSizes(instance, results, ENTRY_COUNT / 2, key -> key < ENTRY_COUNT / 2);
+    }
+
+    @Test
+    public void testExecuteOnEntriesWithIndexedPredicate_processesMatchingEntriesInOneBatch() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = fillMap(instance);
+        map.addIndex(IndexType.SORTED, "__key");
+        Predicate<Integer, Integer> predicate = Predicates.lessThan("__key", ENTRY_COUNT / 2);
+
+        Map<Integer, Integer> results = map.executeOnEntries(new BatchSizeProcessor(), predicate);
+
+        assertBatchSizes(instance, results, ENTRY_COUNT / 2, key -> key < ENTRY_COUNT / 2);
+    }
+
+    @Test
+    public void testExecuteOnKeys_processesKeysOfEachPartitionInOneBatch() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = fillMap(instance);
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            keys.add(i);
+        }
+
+        Map<Integer, Integer> results = map.executeOnKeys(keys, new BatchSizeProcessor());
+
+        assertBatchSizes(instance, results, keys.size(), key -> key % 2 == 0);
+    }
+
+    @Test
+    public void testExecuteOnKey_usesSingleEntryProcessing() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = fillMap(instance);
+
+        assertEquals(-1, (int) map.executeOnKey(1, new BatchSizeProcessor()));
+        assertEquals(-1, (int) map.get(1));
+    }
+
+    @Test
+    public void testBackupsAreProcessedInBatch() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(getConfig());
+        HazelcastInstance instance2 = factory.newHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = fillMap(instance1);
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            keys.add(i);
+        }
+
+        map.executeOnEntries(new BatchSizeProcessor(), Predicates.greaterEqual("__key", ENTRY_COUNT / 2));
+        map.executeOnKeys(keys, new BatchSizeProcessor());
+        waitAllForSafeState(instance1, instance2);
+        instance1.getLifecycleService().terminate();
+
+        IMap<Integer, Integer> map2 = instance2.getMap(MAP_NAME);
+        Map<Integer, Integer> expected = expectedBatchSizes(instance2, key -> key % 2 == 0);
+        Map<Integer, Integer> expectedForOdd = expectedBatchSizes(instance2, key -> key >= ENTRY_COUNT / 2);
+        for (int key = 0; key < ENTRY_COUNT; key++) {
+            if (key % 2 == 0) {
+                assertEquals("key: " + key, expected.get(key), map2.get(key));
+            } else if (key >= ENTRY_COUNT / 2) {
+                assertEquals("key: " + key, expectedForOdd.get(key), map2.get(key));
+            } else {
+                assertEquals("key: " + key, Integer.valueOf(key), map2.get(key));
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMissingResults_throwsException() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = fillMap(instance);
+
+        map.executeOnEntries(new NoResultProcessor());
+    }
+
+    private IMap<Integer, Integer> fillMap(HazelcastInstance instance) {
+        IMap<Integer, Integer> map = instance.getMap(MAP_NAME);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        return map;
+    }
+
+    private static void assertBatchSizes(HazelcastInstance instance, Map<Integer, Integer> actual,
+                                         int expectedSize, IntPredicate filter) {
+        Map<Integer, Integer> expected = expectedBatchSizes(instance, filter);
+        assertEquals(expectedSize, expected.size());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals("key: " + entry.getKey(), entry.getValue(), actual.get(entry.getKey()));
+        }
+    }
+
+    /**
+     * Returns, for each key matching the filter, the number of matching
+     * keys in its partition.
+     */
+    private static Map<Integer, Integer> expectedBatchSizes(HazelcastInstance instance, IntPredicate filter) {
+        PartitionService partitionService = instance.getPartitionService();
+        Map<Integer, Integer> partitionSizes = new HashMap<>();
+        for (int key = 0; key < ENTRY_COUNT; key++) {
+            if (filter.test(key)) {
+                partitionSizes.merge(partitionService.getPartition(key).getPartitionId(), 1, Integer::sum);
+            }
+        }
+        Map<Integer, Integer> batchSizes = new HashMap<>();
+        for (int key = 0; key < ENTRY_COUNT; key++) {
+            if (filter.test(key)) {
+                batchSizes.put(key, partitionSizes.get(partitionService.getPartition(key).getPartitionId()));
+            }
+        }
+        return batchSizes;
+    }
+
+    /**
+     * Sets each value to the size of the batch it was processed in, or
+     * to {@code -1} when it is processed on its own.
+     */
+    private static class BatchSizeProcessor implements BatchEntryProcessor<Integer, Integer, Integer> {
+
+        @Override
+        public Integer process(Entry<Integer, Integer> entry) {
+            entry.setValue(-1);
+            return -1;
+        }
+
+        @Override
+        public List<Integer> process(List<Entry<Integer, Integer>> entries) {
+            List<Integer> results = new ArrayList<>(entries.size());
+            for (Entry<Integer, Integer> entry : entries) {
+                entry.setValue(entries.size());
+                results.add(entries.size());
+            }
+            return results;
+        }
+    }
+
+    private static class NoResultProcessor implements BatchEntryProcessor<Integer, Integer, Integer> {
+
+        @Override
+        public Integer process(Entry<Integer, Integer> entry) {
+            return null;
+        }
+
+        @Override
+        public List<Integer> process(List<Entry<Integer, Integer>> entries) {
+            return new ArrayList<>();
+        }
+    }
+}
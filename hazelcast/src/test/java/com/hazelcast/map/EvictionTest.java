@@ -636,6 +636,45 @@ public class EvictionTest extends HazelcastTestSupport {
         }
     }
 
+    @Test
+    public void testEvictionTinyLFU_frequentlyUsedEntriesSurviveScan() {
+        int size = 1000;
+        int hotKeyCount = 100;
+        String mapName = randomMapName("testEvictionTinyLFU");
+
+        MapConfig mapConfig = newMapConfig(mapName);
+        mapConfig.getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.TINY_LFU)
+                .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+                .setSize(size);
+
+        Config config = getConfig()
+                .setProperty(ClusterProperty.PARTITION_COUNT.getName(), "1")
+                .addMapConfig(mapConfig);
+
+        HazelcastInstance node = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = node.getMap(mapName);
+        for (int i = 0; i < hotKeyCount; i++) {
+            map.put(i, i);
+            for (int j = 0; j < 3; j++) {
+                map.get(i);
+            }
+        }
+        // a scan of one-time entries, which would push all hot entries out under LRU
+        for (int i = hotKeyCount; i < hotKeyCount + 5 * size; i++) {
+            map.put(i, i);
+        }
+
+        int survivors = 0;
+        for (int i = 0; i < hotKeyCount; i++) {
+            if (map.get(i) != null) {
+                survivors++;
+            }
+        }
+        assertTrue("Only " + survivors + " of " + hotKeyCount + " hot entries survived the scan",
+                survivors >= hotKeyCount * 9 / 10);
+    }
+
     @Test
     public void testMapRecordEviction() {
         String mapName = randomMapName();
@@ -466,6 +466,22 @@ public class LocalIndexStatsTest extends HazelcastTestSupport {
         assertEquals(0, keyStats().getRemoveCount());
     }
 
+    @Test
+    public void testIndexedPartitionCountTracking() {
+        for (int i = 0; i < 1000; ++i) {
+            map.put(i, i);
+        }
+
+        addIndex(map, "__key", false);
+        addIndex(map, "this", true);
+
+        assertEquals(PARTITIONS, keyStats().getIndexedPartitionCount());
+        assertEquals(PARTITIONS, valueStats().getIndexedPartitionCount());
+        assertEquals(1000, keyStats().getInsertCount());
+        assertEquals(1000, valueStats().getInsertCount());
+        assertEquals(100, map.keySet(Predicates.lessThan("this", 100)).size());
+    }
+
     @Test
     public void testUpdateTracking() {
         addIndex(map, "__key", false);
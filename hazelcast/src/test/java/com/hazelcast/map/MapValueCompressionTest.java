@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastJsonValue;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.DataCompressor;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.PartitionContainer;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.serialization.impl.DataCompressor.COMPRESSION_THRESHOLD;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapValueCompressionTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+    private static final String COMPRESSED_MAP = "compressed";
+    private static final String UNCOMPRESSED_MAP = "uncompressed";
+
+    @Test
+    public void testPutGetReplaceRemove() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig());
+        IMap<Integer, String> map = instance.getMap(COMPRESSED_MAP);
+
+        map.put(1, value(1));
+        map.put(2, value(2));
+        map.set(3, "small");
+
+        assertEquals(value(1), map.get(1));
+        assertEquals(value(1), map.put(1, value(10)));
+        assertTrue(map.replace(1, value(10), value(11)));
+        assertEquals(value(11), map.get(1));
+        assertTrue(map.remove(2, value(2)));
+        assertEquals("small", map.get(3));
+        assertTrue(map.containsValue(value(11)));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testValuesAreStoredCompressed() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig());
+        IMap<Integer, String> compressed = instance.getMap(COMPRESSED_MAP);
+        IMap<Integer, String> uncompressed = instance.getMap(UNCOMPRESSED_MAP);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            compressed.put(i, value(i));
+            uncompressed.put(i, value(i));
+        }
+        // updates are compressed too
+        compressed.put(0, value(ENTRY_COUNT));
+        uncompressed.put(0, value(ENTRY_COUNT));
+
+        assertAllStoredValuesCompressed(instance, COMPRESSED_MAP, ENTRY_COUNT);
+        long compressedCost = compressed.getLocalMapStats().getOwnedEntryMemoryCost();
+        long uncompressedCost = uncompressed.getLocalMapStats().getOwnedEntryMemoryCost();
+        assertTrue("compressed: " + compressedCost + ", uncompressed: " + uncompressedCost,
+                compressedCost < uncompressedCost / 2);
+    }
+
+    @Test
+    public void testQueryJsonValues() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig());
+        IMap<Integer, HazelcastJsonValue> map = instance.getMap(COMPRESSED_MAP);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new HazelcastJsonValue("{\"id\":" + i + ",\"payload\":\"" + value(i) + "\"}"));
+        }
+
+        assertEquals(10, map.values(Predicates.lessThan("id", 10)).size());
+    }
+
+    @Test
+    public void testValuesSurviveMigrationAndOwnerShutdown() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(newConfig());
+        IMap<Integer, String> map = instance1.getMap(COMPRESSED_MAP);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, value(i));
+        }
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance(newConfig());
+        waitAllForSafeState(instance1, instance2);
+        instance1.shutdown();
+
+        // the second member got its entries by migration and by backups
+        assertAllStoredValuesCompressed(instance2, COMPRESSED_MAP, ENTRY_COUNT);
+        IMap<Integer, String> map2 = instance2.getMap(COMPRESSED_MAP);
+        assertEquals(ENTRY_COUNT, map2.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(value(i), map2.get(i));
+        }
+    }
+
+    private Config newConfig() {
+        return getConfig()
+                .addMapConfig(new MapConfig(COMPRESSED_MAP).setValueCompressionEnabled(true))
+                .addMapConfig(new MapConfig(UNCOMPRESSED_MAP));
+    }
+
+    private static void assertAllStoredValuesCompressed(HazelcastInstance instance, String mapName, int expectedCount) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        int count = 0;
+        for (PartitionContainer container : mapService.getMapServiceContext().getPartitionContainers()) {
+            RecordStore<?> recordStore = container.getExistingRecordStore(mapName);
+            if (recordStore == null) {
+                continue;
+            }
+            int[] compressedCount = new int[1];
+            recordStore.forEach((key, record) -> {
+                if (DataCompressor.isCompressed((Data) record.getStoredValue())) {
+                    compressedCount[0]++;
+                }
+            }, false);
+            count += compressedCount[0];
+        }
+        assertEquals(expectedCount, count);
+    }
+
+    private static String value(int i) {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 4 * COMPRESSION_THRESHOLD) {
+            sb.append("value-").append(i).append(' ');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.memory.MemorySize;
+import com.hazelcast.memory.MemoryUnit;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NativeMapTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void testPutGetRemove() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, String> map = instance.getMap(randomMapName());
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, "value" + i);
+        }
+        map.put(0, "updated");
+        map.remove(1);
+
+        assertEquals(ENTRY_COUNT - 1, map.size());
+        assertEquals("updated", map.get(0));
+        assertNull(map.get(1));
+        assertEquals("value2", map.get(2));
+        assertEquals(ENTRY_COUNT - 1, map.entrySet().size());
+        assertTrue(getUsedNativeMemory(instance) > 0);
+
+        map.destroy();
+        assertTrueEventually(() -> assertEquals(0, getUsedNativeMemory(instance)));
+    }
+
+    @Test
+    public void testExpiration() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, String> map = instance.getMap(randomMapName());
+
+        map.put(1, "value", 1, TimeUnit.SECONDS);
+
+        assertTrueEventually(() -> assertNull(map.get(1)));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testEviction_whenUsedNativeMemoryExceeded() {
+        Config config = getConfig();
+        config.getMapConfig("evicted").getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.USED_NATIVE_MEMORY_SIZE)
+                .setSize(1);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, byte[]> map = instance.getMap("evicted");
+
+        for (int i = 0; i < 2 * ENTRY_COUNT; i++) {
+            map.put(i, new byte[1024]);
+        }
+
+        assertTrue(map.size() < 2 * ENTRY_COUNT);
+    }
+
+    @Test
+    public void testMigration() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(getConfig());
+        String mapName = randomMapName();
+        IMap<Integer, Integer> map = instance1.getMap(mapName);
+
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+            expected.put(i, i);
+        }
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance(getConfig());
+        waitAllForSafeState(instance1, instance2);
+        instance1.shutdown();
+
+        IMap<Integer, Integer> migrated = instance2.getMap(mapName);
+        assertEquals(ENTRY_COUNT, migrated.size());
+        assertEquals(expected, new HashMap<>(migrated.getAll(expected.keySet())));
+    }
+
+    @Override
+    protected Config getConfig() {
+        Config config = smallInstanceConfig();
+        config.getNativeMemoryConfig()
+                .setEnabled(true)
+                .setSize(new MemorySize(64, MemoryUnit.MEGABYTES));
+        config.getMapConfig("default").setInMemoryFormat(InMemoryFormat.NATIVE);
+        return config;
+    }
+
+    private static long getUsedNativeMemory(HazelcastInstance instance) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        return mapServiceContext.getNativeMemoryManager().getUsedMemory();
+    }
+}
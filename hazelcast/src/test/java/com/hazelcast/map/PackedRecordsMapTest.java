@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PackedRecordsMapTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void testPutGetRemove() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, String> map = instance.getMap(randomMapName());
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, "value" + i);
+        }
+        map.put(0, "updated");
+        map.remove(1);
+        map.executeOnKey(2, entry -> entry.setValue("processed"));
+
+        assertEquals(ENTRY_COUNT - 1, map.size());
+        assertEquals("updated", map.get(0));
+        assertNull(map.get(1));
+        assertEquals("processed", map.get(2));
+        assertEquals("value3", map.get(3));
+        assertEquals(ENTRY_COUNT - 1, map.entrySet().size());
+        assertEquals(ENTRY_COUNT - 1, map.keySet().size());
+    }
+
+    @Test
+    public void testQuery() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+        map.addIndex(IndexType.SORTED, "this");
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        assertEquals(10, map.values(Predicates.lessThan("this", 10)).size());
+        assertEquals(ENTRY_COUNT / 2, map.keySet(Predicates.sql("this >= 500")).size());
+    }
+
+    @Test
+    public void testExpiration() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, String> map = instance.getMap(randomMapName());
+
+        map.put(1, "value", 1, TimeUnit.SECONDS);
+
+        assertTrueEventually(() -> assertNull(map.get(1)));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testOwnedEntryMemoryCost_isBelowDefaultLayout() {
+        // separate clusters, so that each member owns all the entries of its map
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance packedInstance = factory.newHazelcastInstance(getConfig().setClusterName(randomName()));
+        HazelcastInstance defaultInstance = factory.newHazelcastInstance(smallInstanceConfig().setClusterName(randomName()));
+        IMap<Integer, Integer> packed = packedInstance.getMap("map");
+        IMap<Integer, Integer> unpacked = defaultInstance.getMap("map");
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            packed.put(i, i);
+            unpacked.put(i, i);
+        }
+
+        long packedCost = packed.getLocalMapStats().getOwnedEntryMemoryCost();
+        long defaultCost = unpacked.getLocalMapStats().getOwnedEntryMemoryCost();
+        assertTrue("packed: " + packedCost + ", default: " + defaultCost, packedCost < defaultCost);
+    }
+
+    @Test
+    public void testMigration() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(getConfig());
+        String mapName = randomMapName();
+        IMap<Integer, Integer> map = instance1.getMap(mapName);
+
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+            expected.put(i, i);
+        }
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance(getConfig());
+        waitAllForSafeState(instance1, instance2);
+        instance1.shutdown();
+
+        IMap<Integer, Integer> migrated = instance2.getMap(mapName);
+        assertEquals(ENTRY_COUNT, migrated.size());
+        assertEquals(expected, new HashMap<>(migrated.getAll(expected.keySet())));
+    }
+
+    @Override
+    protected Config getConfig() {
+        return smallInstanceConfig()
+                .setProperty(MapContainer.PACKED_RECORDS.getName(), "true");
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.config.ReadReplicaPolicy;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReadReplicaPolicyTest extends HazelcastTestSupport {
+
+    private static final int CLUSTER_SIZE = 3;
+    private static final int KEY_COUNT = 100;
+
+    @Parameters(name = "readReplicaPolicy:{0}")
+    public static Object[] policies() {
+        return new Object[]{
+                ReadReplicaPolicy.PREFER_LOCAL,
+                ReadReplicaPolicy.LEAST_LOADED,
+        };
+    }
+
+    @Parameter
+    public ReadReplicaPolicy readReplicaPolicy;
+
+    @Test
+    public void testGet() {
+        HazelcastInstance[] instances = createInstances(null);
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+        for (int i = 0; i < KEY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        for (HazelcastInstance instance : instances) {
+            IMap<Integer, Integer> memberMap = instance.getMap(map.getName());
+            for (int i = 0; i < KEY_COUNT; i++) {
+                assertEquals(i, (int) memberMap.get(i));
+            }
+            assertNull(memberMap.get(KEY_COUNT));
+        }
+    }
+
+    @Test
+    public void testContainsKey() {
+        HazelcastInstance[] instances = createInstances(null);
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+        for (int i = 0; i < KEY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        for (HazelcastInstance instance : instances) {
+            IMap<Integer, Integer> memberMap = instance.getMap(map.getName());
+            for (int i = 0; i < KEY_COUNT; i++) {
+                assertTrue(memberMap.containsKey(i));
+            }
+            assertFalse(memberMap.containsKey(KEY_COUNT));
+        }
+    }
+
+    @Test
+    public void testGetAll() {
+        HazelcastInstance[] instances = createInstances(null);
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            map.put(i, i);
+            keys.add(i);
+        }
+        keys.add(KEY_COUNT);
+
+        for (HazelcastInstance instance : instances) {
+            Map<Integer, Integer> entries = instance.<Integer, Integer>getMap(map.getName()).getAll(keys);
+            assertEquals(KEY_COUNT, entries.size());
+            for (int i = 0; i < KEY_COUNT; i++) {
+                assertEquals(i, (int) entries.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testReadsMissingOnBackup_areLoadedByPrimary() {
+        HazelcastInstance[] instances = createInstances(new MapStoreAdapter<Integer, Integer>() {
+            @Override
+            public Integer load(Integer key) {
+                return key < KEY_COUNT ? key : null;
+            }
+        });
+
+        for (HazelcastInstance instance : instances) {
+            IMap<Integer, Integer> map = instance.getMap(randomMapName());
+            assertEquals(1, (int) map.get(1));
+            assertTrue(map.containsKey(2));
+            assertFalse(map.containsKey(KEY_COUNT));
+
+            Map<Integer, Integer> entries = map.getAll(new HashSet<>(asList(3, 4, KEY_COUNT)));
+            assertEquals(2, entries.size());
+            assertEquals(3, (int) entries.get(3));
+            assertEquals(4, (int) entries.get(4));
+        }
+    }
+
+    private HazelcastInstance[] createInstances(Object mapStoreImplementation) {
+        MapConfig mapConfig = new MapConfig("default")
+                .setBackupCount(CLUSTER_SIZE - 1)
+                .setReadReplicaPolicy(readReplicaPolicy);
+        if (mapStoreImplementation != null) {
+            mapConfig.setMapStoreConfig(new MapStoreConfig()
+                    .setEnabled(true)
+                    .setImplementation(mapStoreImplementation));
+        }
+        Config config = getConfig().addMapConfig(mapConfig);
+
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(CLUSTER_SIZE).newInstances(config);
+        waitAllForSafeState(instances);
+        return instances;
+    }
+}
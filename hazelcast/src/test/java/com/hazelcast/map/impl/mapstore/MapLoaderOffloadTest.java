@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapLoader;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapLoaderOffloadTest extends HazelcastTestSupport {
+
+    private static final String MAP_NAME = "offloaded";
+
+    private BlockingMapLoader loader;
+    private HazelcastInstance instance;
+    private IMap<String, String> map;
+    private int partitionId;
+    private String slowKey;
+    private String otherKey;
+
+    @Before
+    public void setUp() {
+        loader = new BlockingMapLoader();
+        Config config = getConfig();
+        config.getMapConfig(MAP_NAME).setMapStoreConfig(new MapStoreConfig()
+                .setImplementation(loader)
+                .setOffload(true));
+        instance = createHazelcastInstance(config);
+        map = instance.getMap(MAP_NAME);
+
+        // both keys are on the same partition
+        slowKey = generateKeyOwnedBy(instance);
+        partitionId = instance.getPartitionService().getPartition(slowKey).getPartitionId();
+        otherKey = generateKeyForPartition(instance, partitionId);
+        loader.slowKey = slowKey;
+    }
+
+    @Test
+    public void testSlowLoad_doesNotBlockOtherKeysOfPartition() throws Exception {
+        CompletableFuture<String> slowGet = map.getAsync(slowKey).toCompletableFuture();
+        assertOpenEventually(loader.loadStarted);
+
+        map.put(otherKey, "value");
+        assertEquals("value", map.getAsync(otherKey).toCompletableFuture().get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        String missingKey = generateKeyForPartition(instance, partitionId);
+        assertEquals("loaded-" + missingKey, map.get(missingKey));
+        assertFalse(slowGet.isDone());
+
+        loader.resume.countDown();
+        assertEquals("loaded-" + slowKey, slowGet.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        assertEquals("loaded-" + slowKey, map.get(slowKey));
+    }
+
+    @Test
+    public void testConcurrentMisses_areCoalesced() throws Exception {
+        List<CompletableFuture<String>> gets = new ArrayList<>();
+        gets.add(map.getAsync(slowKey).toCompletableFuture());
+        assertOpenEventually(loader.loadStarted);
+        for (int i = 0; i < 10; i++) {
+            gets.add(map.getAsync(slowKey).toCompletableFuture());
+        }
+
+        loader.resume.countDown();
+        for (CompletableFuture<String> get : gets) {
+            assertEquals("loaded-" + slowKey, get.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        }
+        assertEquals(1, loader.slowKeyLoadCount.get());
+    }
+
+    @Test
+    public void testPutDuringLoad_waitsForLoadAndWins() throws Exception {
+        CompletableFuture<String> slowGet = map.getAsync(slowKey).toCompletableFuture();
+        assertOpenEventually(loader.loadStarted);
+
+        CompletableFuture<String> put = map.putAsync(slowKey, "put").toCompletableFuture();
+        assertFalse(put.isDone());
+
+        loader.resume.countDown();
+        assertEquals("loaded-" + slowKey, slowGet.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        assertEquals("loaded-" + slowKey, put.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        assertEquals("put", map.get(slowKey));
+    }
+
+    @Test
+    public void testPendingLoad_doesNotLockKey() throws Exception {
+        CompletableFuture<String> slowGet = map.getAsync(slowKey).toCompletableFuture();
+        assertOpenEventually(loader.loadStarted);
+
+        assertFalse(map.isLocked(slowKey));
+        assertEquals(0, map.getLocalMapStats().getLockedEntryCount());
+
+        loader.resume.countDown();
+        assertEquals("loaded-" + slowKey, slowGet.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        assertFalse(map.isLocked(slowKey));
+    }
+
+    @Test
+    public void testFailedLoad_throwsAndReleasesKey() {
+        loader.failing = true;
+        loader.resume.countDown();
+
+        try {
+            map.get(slowKey);
+            fail("the load failure should be thrown");
+        } catch (IllegalStateException expected) {
+            assertEquals("load failed", expected.getMessage());
+        }
+
+        map.set(slowKey, "put");
+        assertEquals("put", map.get(slowKey));
+    }
+
+    @Test
+    public void testMissingValue_returnsNull() {
+        loader.resume.countDown();
+
+        assertNull(map.get("missing-" + slowKey));
+        assertTrue(map.isEmpty());
+    }
+
+    private static class BlockingMapLoader implements MapLoader<String, String> {
+
+        private final CountDownLatch loadStarted = new CountDownLatch(1);
+        private final CountDownLatch resume = new CountDownLatch(1);
+        private final AtomicInteger slowKeyLoadCount = new AtomicInteger();
+        private volatile String slowKey;
+        private volatile boolean failing;
+
+        @Override
+        public String load(String key) {
+            if (key.startsWith("missing-")) {
+                return null;
+            }
+            if (key.equals(slowKey)) {
+                slowKeyLoadCount.incrementAndGet();
+                loadStarted.countDown();
+                assertOpenEventually(resume);
+                if (failing) {
+                    throw new IllegalStateException("load failed");
+                }
+            }
+            return "loaded-" + key;
+        }
+
+        @Override
+        public Map<String, String> loadAll(Collection<String> keys) {
+            return null;
+        }
+
+        @Override
+        public Iterable<String> loadAllKeys() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.config.MapStoreConfig.InitialLoadMode;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.SegmentedMapLoader;
+import com.hazelcast.map.impl.MapKeySegmentLoader;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static com.hazelcast.config.MapStoreConfig.InitialLoadMode.EAGER;
+import static com.hazelcast.config.MapStoreConfig.InitialLoadMode.LAZY;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SegmentedMapLoaderTest extends HazelcastTestSupport {
+
+    private static final int MAP_STORE_ENTRY_COUNT = 10000;
+    private static final int SEGMENT_COUNT = 16;
+    private static final int BATCH_SIZE = 100;
+    private static final int NODE_COUNT = 3;
+
+    private final String mapName = getClass().getSimpleName();
+
+    private TestHazelcastInstanceFactory nodeFactory;
+    private SegmentedCountingMapLoader mapLoader;
+
+    @Before
+    public void setUp() {
+        nodeFactory = createHazelcastInstanceFactory(NODE_COUNT);
+        mapLoader = new SegmentedCountingMapLoader(MAP_STORE_ENTRY_COUNT, SEGMENT_COUNT, -1);
+    }
+
+    @Test
+    public void testInitialLoad_loadsSegmentsOnAllMembers() {
+        HazelcastInstance[] instances = nodeFactory.newInstances(newConfig(EAGER), NODE_COUNT);
+        IMap<Object, Object> map = getMap(instances);
+
+        assertSizeEventually(MAP_STORE_ENTRY_COUNT, map);
+        assertEquals(MAP_STORE_ENTRY_COUNT, mapLoader.loadedValueCount.get());
+        assertEquals(0, mapLoader.loadAllKeysInvocations.get());
+        for (int segment = 0; segment < SEGMENT_COUNT; segment++) {
+            assertEquals("Segment " + segment, 1, mapLoader.segmentInvocations.get(segment));
+        }
+        assertEquals(SEGMENT_COUNT, mapLoader.closedIterators.get());
+
+        long loadedKeys = 0;
+        long loadedSegments = 0;
+        for (HazelcastInstance instance : instances) {
+            MapKeySegmentLoader segmentLoader = getKeySegmentLoader(instance);
+            assertTrue(segmentLoader.getLoadedSegmentCount() > 0);
+            assertEquals(segmentLoader.getSegmentCount(), segmentLoader.getLoadedSegmentCount());
+            loadedSegments += segmentLoader.getLoadedSegmentCount();
+            loadedKeys += segmentLoader.getLoadedKeyCount();
+        }
+        assertEquals(SEGMENT_COUNT, loadedSegments);
+        assertEquals(MAP_STORE_ENTRY_COUNT, loadedKeys);
+    }
+
+    @Test
+    public void testLoadAll_reloadsAllSegments() {
+        HazelcastInstance[] instances = nodeFactory.newInstances(newConfig(LAZY), NODE_COUNT);
+        IMap<Object, Object> map = getMap(instances);
+
+        map.loadAll(true);
+        map.loadAll(true);
+
+        assertSizeEventually(MAP_STORE_ENTRY_COUNT, map);
+        assertEquals(0, mapLoader.loadAllKeysInvocations.get());
+        for (int segment = 0; segment < SEGMENT_COUNT; segment++) {
+            assertEquals("Segment " + segment, 2, mapLoader.segmentInvocations.get(segment));
+        }
+        assertEquals(2 * MAP_STORE_ENTRY_COUNT, mapLoader.loadedValueCount.get());
+        Map<Object, Object> expected = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            expected.put(i, i);
+        }
+        assertEquals(expected, map.getAll(expected.keySet()));
+    }
+
+    @Test
+    public void testInitialLoad_whenSegmentFails_thenFailureReported() {
+        mapLoader = new SegmentedCountingMapLoader(MAP_STORE_ENTRY_COUNT, SEGMENT_COUNT, 5);
+        HazelcastInstance[] instances = nodeFactory.newInstances(newConfig(LAZY), NODE_COUNT);
+        IMap<Object, Object> map = getMap(instances);
+
+        assertThrows(IllegalStateException.class, map::size);
+    }
+
+    @Test
+    public void testInitialLoad_withPerNodeLimit() {
+        int maxSizePerNode = 1000;
+        Config config = newConfig(EAGER);
+        config.getMapConfig(mapName).getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+                .setSize(maxSizePerNode);
+        // all segments of a member are loaded concurrently and share the limit
+        config.setProperty(ClusterProperty.MAP_LOAD_SEGMENT_CONCURRENCY.getName(), Integer.toString(SEGMENT_COUNT));
+        HazelcastInstance[] instances = nodeFactory.newInstances(config, NODE_COUNT);
+        getMap(instances).size();
+
+        for (HazelcastInstance instance : instances) {
+            long loadedKeyCount = getKeySegmentLoader(instance).getLoadedKeyCount();
+            assertTrue(loadedKeyCount > 0);
+            assertTrue(loadedKeyCount <= maxSizePerNode);
+        }
+    }
+
+    private IMap<Object, Object> getMap(HazelcastInstance[] instances) {
+        assertClusterSizeEventually(NODE_COUNT, instances[0]);
+        IMap<Object, Object> map = instances[0].getMap(mapName);
+        waitClusterForSafeState(instances[0]);
+        return map;
+    }
+
+    private MapKeySegmentLoader getKeySegmentLoader(HazelcastInstance instance) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getMapContainer(mapName).getKeySegmentLoader();
+    }
+
+    private Config newConfig(InitialLoadMode loadMode) {
+        Config cfg = getConfig();
+        cfg.setProperty(ClusterProperty.MAP_LOAD_CHUNK_SIZE.getName(), Integer.toString(BATCH_SIZE));
+        cfg.setProperty(ClusterProperty.MAP_LOAD_SEGMENT_CONCURRENCY.getName(), "2");
+        cfg.setProperty(ClusterProperty.PARTITION_COUNT.getName(), "31");
+
+        MapStoreConfig mapStoreConfig = new MapStoreConfig().setImplementation(mapLoader).setInitialLoadMode(loadMode);
+        cfg.getMapConfig(mapName).setMapStoreConfig(mapStoreConfig).setBackupCount(1);
+        return cfg;
+    }
+
+    private static class SegmentedCountingMapLoader implements SegmentedMapLoader<Integer, Integer> {
+
+        final AtomicInteger loadedValueCount = new AtomicInteger();
+        final AtomicInteger loadAllKeysInvocations = new AtomicInteger();
+        final AtomicInteger closedIterators = new AtomicInteger();
+        final AtomicIntegerArray segmentInvocations;
+
+        private final int size;
+        private final int segmentCount;
+        private final int failingSegment;
+
+        SegmentedCountingMapLoader(int size, int segmentCount, int failingSegment) {
+            this.size = size;
+            this.segmentCount = segmentCount;
+            this.failingSegment = failingSegment;
+            this.segmentInvocations = new AtomicIntegerArray(segmentCount);
+        }
+
+        @Override
+        public int getKeySegmentCount() {
+            return segmentCount;
+        }
+
+        @Override
+        public Iterable<Integer> loadAllKeys(int segment) {
+            segmentInvocations.incrementAndGet(segment);
+            if (segment == failingSegment) {
+                throw new IllegalStateException("Expected failure of segment " + segment);
+            }
+            List<Integer> keys = new ArrayList<>();
+            for (int key = segment; key < size; key += segmentCount) {
+                keys.add(key);
+            }
+            return () -> new CloseableIterator(keys.iterator());
+        }
+
+        @Override
+        public Iterable<Integer> loadAllKeys() {
+            loadAllKeysInvocations.incrementAndGet();
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Integer load(Integer key) {
+            return key < size ? key : null;
+        }
+
+        @Override
+        public Map<Integer, Integer> loadAll(Collection<Integer> keys) {
+            loadedValueCount.addAndGet(keys.size());
+            Map<Integer, Integer> result = new HashMap<>();
+            for (Integer key : keys) {
+                result.put(key, key);
+            }
+            return result;
+        }
+
+        private class CloseableIterator implements Iterator<Integer>, Closeable {
+
+            private final Iterator<Integer> iterator;
+
+            CloseableIterator(Iterator<Integer> iterator) {
+                this.iterator = iterator;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+                closedIterators.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapStoreAdapter;
+import com.hazelcast.map.OrderedBatchMapStore;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link OrderedBatchMapStore} with write-coalescing disabled.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class WriteBehindOrderedBatchMapStoreTest extends HazelcastTestSupport {
+
+    private static final int WRITE_BATCH_SIZE = 8;
+    private static final int KEY_COUNT = 10;
+    private static final int UPDATE_COUNT = 200;
+
+    @Test
+    public void testAllUpdatesStoredInBatches() {
+        RecordingMapStore mapStore = new RecordingMapStore();
+        IMap<Integer, Integer> map = newMap(mapStore);
+
+        Map<Integer, Integer> expected = update(map);
+
+        assertTrueEventually(() -> {
+            assertEquals(UPDATE_COUNT, mapStore.operationCount.get());
+            assertEquals(expected, mapStore.store);
+        });
+        assertEquals(0, mapStore.singleOperationCount.get());
+        int fullBatchCount = 0;
+        for (int batchSize : mapStore.batchSizes) {
+            assertTrue("Batch size: " + batchSize, batchSize <= WRITE_BATCH_SIZE);
+            if (batchSize == WRITE_BATCH_SIZE) {
+                fullBatchCount++;
+            }
+        }
+        assertTrue("Full batches: " + fullBatchCount, fullBatchCount >= UPDATE_COUNT / WRITE_BATCH_SIZE / 2);
+    }
+
+    @Test
+    public void testAllUpdatesStoredOneByOne_whenDefaultWriteBatchSize() {
+        RecordingMapStore mapStore = new RecordingMapStore();
+        IMap<Integer, Integer> map = newMap(mapStore, 1);
+
+        Map<Integer, Integer> expected = update(map);
+
+        assertTrueEventually(() -> {
+            assertEquals(UPDATE_COUNT, mapStore.operationCount.get());
+            assertEquals(expected, mapStore.store);
+        });
+        assertEquals(UPDATE_COUNT, mapStore.singleOperationCount.get());
+        assertTrue(mapStore.batchSizes.isEmpty());
+    }
+
+    @Test
+    public void testPartiallyAppliedBatch_isRetriedWithLeftOperations() {
+        RecordingMapStore mapStore = new RecordingMapStore();
+        mapStore.failOnce.set(true);
+        IMap<Integer, Integer> map = newMap(mapStore);
+
+        Map<Integer, Integer> expected = update(map);
+
+        assertTrueEventually(() -> {
+            assertEquals(UPDATE_COUNT, mapStore.operationCount.get());
+            assertEquals(expected, mapStore.store);
+        });
+    }
+
+    private IMap<Integer, Integer> newMap(RecordingMapStore mapStore) {
+        return newMap(mapStore, WRITE_BATCH_SIZE);
+    }
+
+    private IMap<Integer, Integer> newMap(RecordingMapStore mapStore, int writeBatchSize) {
+        return TestMapUsingMapStoreBuilder.<Integer, Integer>create()
+                .withMapStore(mapStore)
+                .withNodeCount(1)
+                .withNodeFactory(createHazelcastInstanceFactory(1))
+                .withPartitionCount(1)
+                .withWriteDelaySeconds(1)
+                .withWriteCoalescing(false)
+                .withWriteBatchSize(writeBatchSize)
+                .build();
+    }
+
+    private static Map<Integer, Integer> update(IMap<Integer, Integer> map) {
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            int key = i % KEY_COUNT;
+            if (i % 3 == 2) {
+                map.delete(key);
+                expected.remove(key);
+            } else {
+                map.set(key, i);
+                expected.put(key, i);
+            }
+        }
+        return expected;
+    }
+
+    private static class RecordingMapStore extends MapStoreAdapter<Integer, Integer>
+            implements OrderedBatchMapStore<Integer, Integer> {
+
+        final Map<Integer, Integer> store = new ConcurrentHashMap<>();
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger operationCount = new AtomicInteger();
+        final AtomicInteger singleOperationCount = new AtomicInteger();
+        final AtomicBoolean failOnce = new AtomicBoolean();
+
+        @Override
+        public void storeBatch(List<StoreOperation<Integer, Integer>> operations) {
+            batchSizes.add(operations.size());
+            boolean fail = operations.size() > 1 && failOnce.compareAndSet(true, false);
+            int applyCount = fail ? operations.size() / 2 : operations.size();
+            for (int i = 0; i < applyCount; i++) {
+                apply(operations.remove(0));
+            }
+            if (fail) {
+                throw new IllegalStateException("Expected failure");
+            }
+        }
+
+        private void apply(StoreOperation<Integer, Integer> operation) {
+            if (operation.getType() == StoreOperation.Type.STORE) {
+                store.put(operation.getKey(), operation.getValue());
+            } else {
+                store.remove(operation.getKey());
+            }
+            operationCount.incrementAndGet();
+        }
+
+        @Override
+        public void store(Integer key, Integer value) {
+            singleOperationCount.incrementAndGet();
+            apply(StoreOperation.store(key, value));
+        }
+
+        @Override
+        public void delete(Integer key) {
+            singleOperationCount.incrementAndGet();
+            apply(StoreOperation.delete(key));
+        }
+    }
+}
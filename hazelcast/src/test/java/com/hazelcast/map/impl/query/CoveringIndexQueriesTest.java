@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+@RunWith(Parameterized.class)
+@Parameterized.UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CoveringIndexQueriesTest extends HazelcastTestSupport {
+
+    private static final int PERSON_COUNT = 100;
+
+    @Parameterized.Parameters(name = "indexType:{0}")
+    public static Collection<Object[]> parameters() {
+        return asList(new Object[][]{{IndexType.HASH}, {IndexType.SORTED}});
+    }
+
+    @Parameterized.Parameter
+    public IndexType indexType;
+
+    private IMap<Integer, Person> map;
+    private String tag;
+
+    @Before
+    public void before() {
+        Config config = getConfig();
+        config.getMapConfig("map")
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setCacheDeserializedValues(CacheDeserializedValues.NEVER)
+                .addIndexConfig(new IndexConfig(indexType, "age").addIncludedAttribute("name").addIncludedAttribute("salary"));
+        map = createHazelcastInstance(config).getMap("map");
+        // the tests are run in parallel, so deserializations are counted per test
+        tag = randomString();
+
+        for (int i = 0; i < PERSON_COUNT; ++i) {
+            map.put(i, new Person(tag, "person" + i, i % 10, i, "city" + i));
+        }
+    }
+
+    @Test
+    public void testProjectionOfIncludedAttribute() {
+        int before = deserializationCount();
+
+        Collection<String> names = map.project(Projections.singleAttribute("name"), Predicates.equal("age", 3));
+
+        assertEquals(new HashSet<>(asList("person3", "person13", "person23", "person33", "person43", "person53", "person63",
+                "person73", "person83", "person93")), new HashSet<>(names));
+        assertEquals(before, deserializationCount());
+    }
+
+    @Test
+    public void testProjectionOfIndexedAndIncludedAttributes() {
+        int before = deserializationCount();
+
+        Collection<Object[]> rows = map.project(Projections.multiAttribute("this.age", "salary"), Predicates.equal("age", 7));
+
+        assertEquals(10, rows.size());
+        for (Object[] row : rows) {
+            assertEquals(7, row[0]);
+            assertEquals(7, (Integer) row[1] % 10);
+        }
+        assertEquals(before, deserializationCount());
+    }
+
+    @Test
+    public void testAggregationOfIncludedAttribute() {
+        int before = deserializationCount();
+
+        long sum = map.aggregate(Aggregators.integerSum("salary"), Predicates.equal("age", 5));
+
+        assertEquals(5 + 15 + 25 + 35 + 45 + 55 + 65 + 75 + 85 + 95, sum);
+        assertEquals(before, deserializationCount());
+    }
+
+    @Test
+    public void testCount() {
+        int before = deserializationCount();
+
+        long count = map.aggregate(Aggregators.count(), Predicates.equal("age", 5));
+
+        assertEquals(10, count);
+        assertEquals(before, deserializationCount());
+    }
+
+    @Test
+    public void testProjectionOfNotIncludedAttribute() {
+        int before = deserializationCount();
+
+        Collection<String> cities = map.project(Projections.singleAttribute("city"), Predicates.equal("age", 1));
+
+        assertEquals(10, cities.size());
+        assertNotEquals(before, deserializationCount());
+    }
+
+    @Test
+    public void testProjectionAfterUpdate() {
+        map.put(3, new Person(tag, "updated", 3, 1000, "city"));
+        map.put(13, new Person(tag, "moved", 4, 1000, "city"));
+
+        Collection<String> names = map.project(Projections.singleAttribute("name"), Predicates.equal("age", 3));
+        Collection<Integer> salaries = map.project(Projections.singleAttribute("salary"), Predicates.equal("age", 4));
+
+        assertEquals(10 - 1, names.size());
+        assertEquals(true, names.contains("updated"));
+        assertEquals(false, names.contains("person13"));
+        assertEquals(10 + 1, salaries.size());
+        assertEquals(true, salaries.contains(1000));
+    }
+
+    private int deserializationCount() {
+        return Person.DESERIALIZATION_COUNTS.computeIfAbsent(tag, t -> new AtomicInteger()).get();
+    }
+
+    public static class Person implements DataSerializable {
+
+        static final ConcurrentMap<String, AtomicInteger> DESERIALIZATION_COUNTS = new ConcurrentHashMap<>();
+
+        private String tag;
+        private String name;
+        private int age;
+        private int salary;
+        private String city;
+
+        public Person() {
+        }
+
+        Person(String tag, String name, int age, int salary, String city) {
+            this.tag = tag;
+            this.name = name;
+            this.age = age;
+            this.salary = salary;
+            this.city = city;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeUTF(tag);
+            out.writeUTF(name);
+            out.writeInt(age);
+            out.writeInt(salary);
+            out.writeUTF(city);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            tag = in.readUTF();
+            DESERIALIZATION_COUNTS.computeIfAbsent(tag, t -> new AtomicInteger()).incrementAndGet();
+            name = in.readUTF();
+            age = in.readInt();
+            salary = in.readInt();
+            city = in.readUTF();
+        }
+
+    }
+
+}
@@ -164,6 +164,9 @@ public class IndexCreateTest extends HazelcastTestSupport {
         if (type == IndexType.BITMAP) {
             thrown.expect(IllegalArgumentException.class);
             thrown.expectMessage(startsWith("Composite bitmap indexes are not supported:"));
+        } else if (type == IndexType.TEXT) {
+            thrown.expect(IllegalArgumentException.class);
+            thrown.expectMessage(startsWith("Composite text indexes are not supported:"));
         }
         checkIndex(createConfig("col1", "this.col2"));
     }
@@ -173,6 +176,9 @@ public class IndexCreateTest extends HazelcastTestSupport {
         if (type == IndexType.BITMAP) {
             thrown.expect(IllegalArgumentException.class);
             thrown.expectMessage(startsWith("Composite bitmap indexes are not supported:"));
+        } else if (type == IndexType.TEXT) {
+            thrown.expect(IllegalArgumentException.class);
+            thrown.expectMessage(startsWith("Composite text indexes are not supported:"));
         }
         checkIndex(createNamedConfig("index", "col1", "this.col2"));
     }
@@ -249,6 +255,8 @@ public class IndexCreateTest extends HazelcastTestSupport {
             res.append("hash");
         } else if (config.getType() == IndexType.BITMAP) {
             res.append("bitmap");
+        } else if (config.getType() == IndexType.TEXT) {
+            res.append("text");
         } else {
             throw new IllegalArgumentException("unexpected index type: " + config.getType());
         }
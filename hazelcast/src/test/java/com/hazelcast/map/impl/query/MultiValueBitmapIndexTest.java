@@ -56,7 +56,9 @@ import static com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation.LO
 import static com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation.OBJECT;
 import static com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation.RAW;
 import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.between;
 import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.greaterThan;
 import static com.hazelcast.query.Predicates.in;
 import static com.hazelcast.query.Predicates.not;
 import static com.hazelcast.query.Predicates.notEqual;
@@ -88,7 +90,7 @@ public class MultiValueBitmapIndexTest extends HazelcastTestSupport {
     private static final Predicate[] actualQueries;
 
     static {
-        actualQueries = new Predicate[9];
+        actualQueries = new Predicate[12];
         actualQueries[0] = notEqual("habits[any]", "0");
         actualQueries[1] = equal("habits[any]", 1L);
         actualQueries[2] = equal("habits[any]", 2);
@@ -106,12 +108,17 @@ public class MultiValueBitmapIndexTest extends HazelcastTestSupport {
 
         // try really dense query (returns all entries)
         actualQueries[8] = equal("habits[any]", "0");
+
+        // ranges
+        actualQueries[9] = greaterThan("habits[any]", 3);
+        actualQueries[10] = between("habits[any]", 1L, "2");
+        actualQueries[11] = not(between("habits[any]", 1, 2));
     }
 
     private final ExpectedQuery[] expectedQueries;
 
     {
-        expectedQueries = new ExpectedQuery[9];
+        expectedQueries = new ExpectedQuery[12];
         expectedQueries[0] = new ExpectedQuery(value -> !bit(0, value));
         expectedQueries[1] = new ExpectedQuery(value -> bit(1, value));
         expectedQueries[2] = new ExpectedQuery(value -> bit(2, value));
@@ -123,6 +130,9 @@ public class MultiValueBitmapIndexTest extends HazelcastTestSupport {
         expectedQueries[7] = new ExpectedQuery(
                 value -> !(bit(1, value) && (!bit(0, value) || bit(2, value)) && !(bit(3, value) || bit(4, value))));
         expectedQueries[8] = new ExpectedQuery(value -> bit(0, value));
+        expectedQueries[9] = new ExpectedQuery(value -> value >>> 4 != 0);
+        expectedQueries[10] = new ExpectedQuery(value -> bit(1, value) || bit(2, value));
+        expectedQueries[11] = new ExpectedQuery(value -> !(bit(1, value) || bit(2, value)));
     }
 
     @Rule
@@ -57,8 +57,14 @@ import static com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation.LO
 import static com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation.OBJECT;
 import static com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation.RAW;
 import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.between;
 import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.greaterEqual;
+import static com.hazelcast.query.Predicates.greaterThan;
 import static com.hazelcast.query.Predicates.in;
+import static com.hazelcast.query.Predicates.lessEqual;
+import static com.hazelcast.query.Predicates.lessThan;
+import static com.hazelcast.query.Predicates.not;
 import static com.hazelcast.query.Predicates.notEqual;
 import static com.hazelcast.query.Predicates.or;
 import static java.util.Arrays.asList;
@@ -88,7 +94,7 @@ public class SingleValueBitmapIndexTest extends HazelcastTestSupport {
     private static final Predicate[] actualQueries;
 
     static {
-        actualQueries = new Predicate[8];
+        actualQueries = new Predicate[15];
         actualQueries[0] = equal("age", new Age(0));
         actualQueries[1] = equal("age", null);
         actualQueries[2] = notEqual("age", null);
@@ -97,12 +103,19 @@ public class SingleValueBitmapIndexTest extends HazelcastTestSupport {
         actualQueries[5] = and(equal("age", new Age(50)), notEqual("age", new Age(99)));
         actualQueries[6] = or(equal("age", new Age(50)), equal("age", new Age(99)));
         actualQueries[7] = or(equal("age", new Age(5)), in("age", new Age(10), null));
+        actualQueries[8] = greaterThan("age", new Age(90));
+        actualQueries[9] = lessEqual("age", new Age(10));
+        actualQueries[10] = between("age", new Age(20), new Age(30));
+        actualQueries[11] = and(greaterThan("age", new Age(40)), lessThan("age", new Age(60)));
+        actualQueries[12] = or(lessThan("age", new Age(5)), greaterEqual("age", new Age(95)));
+        actualQueries[13] = not(between("age", new Age(20), new Age(30)));
+        actualQueries[14] = and(greaterEqual("age", new Age(50)), notEqual("age", new Age(60)));
     }
 
     private final ExpectedQuery[] expectedQueries;
 
     {
-        expectedQueries = new ExpectedQuery[8];
+        expectedQueries = new ExpectedQuery[15];
         expectedQueries[0] = new ExpectedQuery(value -> {
             // no zero values at all, they are all nulls
             return false;
@@ -115,6 +128,14 @@ public class SingleValueBitmapIndexTest extends HazelcastTestSupport {
         expectedQueries[5] = new ExpectedQuery(value -> value == 50 && value != 99);
         expectedQueries[6] = new ExpectedQuery(value -> value == 50 || value == 99);
         expectedQueries[7] = new ExpectedQuery(value -> value == 5 || value == 10 || value == 0);
+        expectedQueries[8] = new ExpectedQuery(value -> value > 90);
+        // zero values are nulls, they never satisfy range predicates
+        expectedQueries[9] = new ExpectedQuery(value -> value != 0 && value <= 10);
+        expectedQueries[10] = new ExpectedQuery(value -> value >= 20 && value <= 30);
+        expectedQueries[11] = new ExpectedQuery(value -> value > 40 && value < 60);
+        expectedQueries[12] = new ExpectedQuery(value -> value != 0 && value < 5 || value >= 95);
+        expectedQueries[13] = new ExpectedQuery(value -> value < 20 || value > 30);
+        expectedQueries[14] = new ExpectedQuery(value -> value >= 50 && value != 60);
     }
 
     @Rule
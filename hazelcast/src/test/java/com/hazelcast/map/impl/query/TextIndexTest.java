@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.query.CoveringIndexQueriesTest.Person;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.ilike;
+import static com.hazelcast.query.Predicates.like;
+import static com.hazelcast.query.Predicates.or;
+import static com.hazelcast.query.Predicates.sql;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(Parameterized.class)
+@Parameterized.UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TextIndexTest extends HazelcastTestSupport {
+
+    private static final int PERSON_COUNT = 200;
+    private static final int QUERY_COUNT = 20;
+    private static final String ALPHABET = "abcdeABCDE xyz_%";
+
+    @Parameterized.Parameters(name = "inMemoryFormat:{0}")
+    public static Collection<Object[]> parameters() {
+        return asList(new Object[][]{{InMemoryFormat.OBJECT}, {InMemoryFormat.BINARY}});
+    }
+
+    @Parameterized.Parameter
+    public InMemoryFormat inMemoryFormat;
+
+    private IMap<Integer, Person> indexed;
+    private IMap<Integer, Person> notIndexed;
+    private final Map<Integer, String> names = new HashMap<>();
+    private String tag;
+    private long seed;
+    private Random random;
+
+    @Before
+    public void before() {
+        Config config = getConfig();
+        config.getMapConfig("indexed")
+                .setInMemoryFormat(inMemoryFormat)
+                .setCacheDeserializedValues(CacheDeserializedValues.NEVER)
+                .addIndexConfig(new IndexConfig(IndexType.TEXT, "name"))
+                .addIndexConfig(new IndexConfig(IndexType.HASH, "age"));
+        config.getMapConfig("notIndexed").setInMemoryFormat(inMemoryFormat);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        indexed = instance.getMap("indexed");
+        notIndexed = instance.getMap("notIndexed");
+
+        // the tests are run in parallel, so deserializations are counted per test
+        tag = randomString();
+
+        // the seed is reported by the query assertions to reproduce failures
+        seed = System.nanoTime();
+        random = new Random(seed);
+    }
+
+    @Test
+    public void testQueries() {
+        for (int i = 0; i < PERSON_COUNT; ++i) {
+            put(i, i % 50 == 0 ? null : randomPersonName());
+        }
+        verifyQueries();
+
+        for (int i = 0; i < PERSON_COUNT; ++i) {
+            if (i % 3 == 0) {
+                put(i, randomPersonName());
+            } else if (i % 3 == 1) {
+                remove(i);
+            }
+        }
+        verifyQueries();
+
+        indexed.clear();
+        notIndexed.clear();
+        names.clear();
+        verifyQueries();
+    }
+
+    @Test
+    public void testQueriesDoNotDeserializeValues() {
+        for (int i = 0; i < PERSON_COUNT; ++i) {
+            put(i, "person" + i);
+        }
+        int before = deserializationCount();
+
+        Set<Integer> keys = indexed.keySet(like("name", "%son12%"));
+        Set<Integer> ignoringCaseKeys = indexed.keySet(ilike("name", "PERSON19_"));
+
+        assertEquals(11, keys.size());
+        assertEquals(10, ignoringCaseKeys.size());
+        assertEquals(before, deserializationCount());
+    }
+
+    @Test
+    public void testShortExpressions() {
+        put(1, "abc");
+        put(2, "ab");
+        put(3, "xabcx");
+
+        assertEquals(notIndexed.keySet(like("name", "%ab%")), indexed.keySet(like("name", "%ab%")));
+        assertEquals(notIndexed.keySet(like("name", "_b_")), indexed.keySet(like("name", "_b_")));
+        assertEquals(3, indexed.keySet(like("name", "%ab%")).size());
+    }
+
+    private void verifyQueries() {
+        List<String> names = new ArrayList<>();
+        for (String name : this.names.values()) {
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        if (names.isEmpty()) {
+            names.add(randomPersonName());
+        }
+
+        for (int i = 0; i < QUERY_COUNT; ++i) {
+            String name = names.get(random.nextInt(names.size()));
+            String expression = randomExpression(name);
+            String otherExpression = randomExpression(names.get(random.nextInt(names.size())));
+
+            verifyQuery(like("name", expression));
+            verifyQuery(ilike("name", expression));
+            verifyQuery(ilike("name", expression.toUpperCase()));
+            verifyQuery(and(like("name", expression), equal("age", name.length())));
+            verifyQuery(or(like("name", expression), ilike("name", otherExpression)));
+            verifyQuery(and(ilike("name", expression), ilike("name", otherExpression)));
+            verifyQuery(sql("name LIKE '" + expression.replace("'", "''") + "'"));
+        }
+    }
+
+    private void verifyQuery(Predicate<Integer, Person> predicate) {
+        Set<Integer> expected = notIndexed.keySet(predicate);
+        String message = predicate + ", seed: " + seed;
+        assertEquals(message, expected, indexed.keySet(predicate));
+        assertFalse(message, expected.contains(null));
+    }
+
+    private String randomExpression(String name) {
+        int from = random.nextInt(name.length());
+        int to = from + random.nextInt(name.length() - from + 1);
+        StringBuilder expression = new StringBuilder(name.substring(from, to));
+        if (expression.length() > 0 && random.nextBoolean()) {
+            expression.setCharAt(random.nextInt(expression.length()), '_');
+        }
+        if (from > 0 || random.nextBoolean()) {
+            expression.insert(0, '%');
+        }
+        if (to < name.length() || random.nextBoolean()) {
+            expression.append('%');
+        }
+        return expression.toString();
+    }
+
+    private String randomPersonName() {
+        int length = 1 + random.nextInt(12);
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; ++i) {
+            name.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return name.toString();
+    }
+
+    private void put(int key, String name) {
+        int age = name == null ? 0 : name.length();
+        indexed.put(key, new Person(tag, name, age, key, "city"));
+        notIndexed.put(key, new Person(tag, name, age, key, "city"));
+        names.put(key, name);
+    }
+
+    private void remove(int key) {
+        indexed.remove(key);
+        notIndexed.remove(key);
+        names.remove(key);
+    }
+
+    private int deserializationCount() {
+        return Person.DESERIALIZATION_COUNTS.computeIfAbsent(tag, t -> new AtomicInteger()).get();
+    }
+
+}
@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.record;
 
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DataCompressor;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.test.HazelcastParallelClassRunner;
@@ -30,8 +31,10 @@ import org.junit.runner.RunWith;
 
 import java.io.Serializable;
 
+import static com.hazelcast.internal.serialization.impl.DataCompressor.COMPRESSION_THRESHOLD;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -79,6 +82,21 @@ public class RecordsTest extends HazelcastTestSupport {
         assertSame(firstDeserializedValue, secondDeserializedValue);
     }
 
+    @Test
+    public void getValueOrCachedValue_whenRecordValueIsCompressed_thenCache() {
+        String objectPayload = new String(new char[COMPRESSION_THRESHOLD]).replace('\0', 'a');
+        Data dataPayload = DataCompressor.compress(serializationService.toData(objectPayload));
+        assertTrue(DataCompressor.isCompressed(dataPayload));
+        Record record = new CachedDataRecord(dataPayload);
+        Object firstDeserializedValue = Records.getValueOrCachedValue(record, serializationService);
+        assertEquals(objectPayload, firstDeserializedValue);
+
+        // we don't need serialization service for the 2nd call
+        Object secondDeserializedValue = Records.getValueOrCachedValue(record, null);
+        assertSame(firstDeserializedValue, secondDeserializedValue);
+        assertSame(dataPayload, record.getStoredValue());
+    }
+
     @Test
     public void givenCachedDataRecord_whenThreadIsInside_thenGetValueOrCachedValueReturnsTheThread() {
         // given
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.impl.StandardMemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.NativeDataRecordFactory;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NativeStorageImplTest {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private StandardMemoryManager memoryManager;
+    private SerializationService ss;
+    private NativeDataRecordFactory recordFactory;
+    private NativeStorageImpl<Record> storage;
+
+    @Before
+    public void setUp() {
+        memoryManager = new StandardMemoryManager(1 << 24);
+        ss = new DefaultSerializationServiceBuilder().build();
+        MapConfig mapConfig = new MapConfig().setInMemoryFormat(InMemoryFormat.NATIVE);
+        recordFactory = new NativeDataRecordFactory(mapConfig, ss);
+        storage = new NativeStorageImpl<>(memoryManager, mapConfig.isStatisticsEnabled(), ss);
+    }
+
+    @After
+    public void tearDown() {
+        storage.destroy(false);
+    }
+
+    @Test
+    public void test_putAndGet() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, "value" + i);
+        }
+
+        assertEquals(ENTRY_COUNT, storage.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals("value" + i, ss.toObject(storage.get(ss.toData(i)).getValue()));
+        }
+        assertNull(storage.get(ss.toData(ENTRY_COUNT)));
+    }
+
+    @Test
+    public void test_put_replacesExistingRecord() {
+        put(1, "old");
+        put(1, "new");
+        storage.disposeDeferredBlocks();
+
+        assertEquals(1, storage.size());
+        assertEquals("new", ss.toObject(storage.get(ss.toData(1)).getValue()));
+    }
+
+    @Test
+    public void test_updateRecordValue() {
+        Data key = ss.toData(1);
+        put(1, "old");
+        long costBefore = storage.getEntryCostEstimator().getEstimate();
+
+        Record record = storage.get(key);
+        storage.updateRecordValue(key, record, ss.toData("a much longer value than before"));
+
+        assertEquals("a much longer value than before", ss.toObject(storage.get(key).getValue()));
+        assertTrue(storage.getEntryCostEstimator().getEstimate() > costBefore);
+    }
+
+    @Test
+    public void test_removeRecord() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            Data key = ss.toData(i);
+            storage.removeRecord(key, storage.get(key));
+        }
+        storage.disposeDeferredBlocks();
+
+        assertEquals(ENTRY_COUNT / 2, storage.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i % 2 != 0, storage.containsKey(ss.toData(i)));
+        }
+    }
+
+    @Test
+    public void test_removedRecord_remainsReadable() {
+        put(1, "value");
+        Data key = ss.toData(1);
+        Record record = storage.get(key);
+
+        storage.removeRecord(key, record);
+
+        assertEquals("value", ss.toObject(record.getValue()));
+        storage.disposeDeferredBlocks();
+        assertEquals("value", ss.toObject(record.getValue()));
+    }
+
+    @Test
+    public void test_iterator() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        Set<Object> keys = new HashSet<>();
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Data, Record> entry = iterator.next();
+            assertEquals((Object) ss.toObject(entry.getKey()), ss.toObject(entry.getValue().getValue()));
+            keys.add(ss.toObject(entry.getKey()));
+        }
+
+        assertEquals(ENTRY_COUNT, keys.size());
+    }
+
+    @Test
+    public void test_fetchKeys() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        Set<Object> keys = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        do {
+            MapKeysWithCursor cursor = storage.fetchKeys(pointers, 100);
+            for (Data key : cursor.getBatch()) {
+                assertTrue(keys.add(ss.toObject(key)));
+            }
+            pointers = cursor.getIterationPointers();
+        } while (pointers[pointers.length - 1].getIndex() >= 0);
+
+        assertEquals(ENTRY_COUNT, keys.size());
+    }
+
+    @Test
+    public void test_getRandomSamples() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        int count = 0;
+        for (Object ignored : storage.getRandomSamples(15)) {
+            count++;
+        }
+        assertEquals(15, count);
+    }
+
+    @Test
+    public void test_clear_freesNativeMemory() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, "value" + i);
+        }
+        long filledStorageMemory = memoryManager.getUsedMemory();
+
+        storage.clear(false);
+
+        assertTrue(storage.isEmpty());
+        assertFalse(storage.containsKey(ss.toData(0)));
+        assertEquals(0, storage.getEntryCostEstimator().getEstimate());
+        long clearedStorageMemory = memoryManager.getUsedMemory();
+        assertTrue(clearedStorageMemory < filledStorageMemory);
+
+        // only the bucket array, which is kept at its capacity, survives a clear
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, "value" + i);
+        }
+        storage.clear(false);
+        assertEquals(clearedStorageMemory, memoryManager.getUsedMemory());
+    }
+
+    @Test
+    public void test_destroy_freesAllNativeMemory() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, "value" + i);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i += 3) {
+            Data key = ss.toData(i);
+            storage.removeRecord(key, storage.get(key));
+        }
+
+        storage.destroy(false);
+
+        assertEquals(0, memoryManager.getUsedMemory());
+    }
+
+    private void put(Object key, Object value) {
+        storage.put(ss.toData(key), recordFactory.newRecord(value));
+    }
+}
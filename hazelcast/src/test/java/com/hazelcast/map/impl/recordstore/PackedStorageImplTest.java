@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.DataRecordFactory;
+import com.hazelcast.map.impl.record.PackedDataRecordFactory;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+@Parameterized.UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PackedStorageImplTest {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Parameterized.Parameter
+    public boolean statisticsEnabled;
+
+    private SerializationService ss;
+    private PackedDataRecordFactory recordFactory;
+    private PackedStorageImpl<Record> storage;
+
+    @Parameterized.Parameters(name = "statisticsEnabled:{0}")
+    public static Collection<Object> parameters() {
+        return Arrays.asList(new Object[]{true, false});
+    }
+
+    @Before
+    public void setUp() {
+        ss = new DefaultSerializationServiceBuilder().build();
+        recordFactory = new PackedDataRecordFactory(mapConfig(), ss);
+        storage = new PackedStorageImpl<>(statisticsEnabled, ss);
+    }
+
+    private MapConfig mapConfig() {
+        return new MapConfig().setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @Test
+    public void test_putAndGet() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, "value" + i);
+        }
+
+        assertEquals(ENTRY_COUNT, storage.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals("value" + i, ss.toObject(storage.get(ss.toData(i)).getValue()));
+        }
+        assertNull(storage.get(ss.toData(ENTRY_COUNT)));
+    }
+
+    @Test
+    public void test_put_replacesExistingRecord() {
+        put(1, "old");
+        put(1, "new");
+
+        assertEquals(1, storage.size());
+        assertEquals("new", ss.toObject(storage.get(ss.toData(1)).getValue()));
+    }
+
+    @Test
+    public void test_recordFields_writeThrough() {
+        Data key = ss.toData(1);
+        put(1, "value");
+
+        Record record = storage.get(key);
+        record.setVersion(42);
+        record.setHits(3);
+        record.setTtl(5000);
+        record.setLastAccessTime(System.currentTimeMillis());
+        record.setExpirationTime(Long.MAX_VALUE);
+
+        Record stored = storage.get(key);
+        assertEquals(42, stored.getVersion());
+        assertEquals(3, stored.getHits());
+        assertEquals(5000, stored.getTtl());
+        assertEquals(record.getLastAccessTime(), stored.getLastAccessTime());
+        assertEquals(statisticsEnabled ? Long.MAX_VALUE : Record.UNSET, stored.getExpirationTime());
+    }
+
+    @Test
+    public void test_updateRecordValue() {
+        Data key = ss.toData(1);
+        put(1, "old");
+        long costBefore = storage.getEntryCostEstimator().getEstimate();
+
+        Record record = storage.get(key);
+        record.setVersion(7);
+        storage.updateRecordValue(key, record, "a much longer value than before");
+
+        Record stored = storage.get(key);
+        assertEquals("a much longer value than before", ss.toObject(stored.getValue()));
+        assertEquals(7, stored.getVersion());
+        assertTrue(storage.getEntryCostEstimator().getEstimate() > costBefore);
+    }
+
+    @Test
+    public void test_removeRecord() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            Data key = ss.toData(i);
+            Record record = storage.get(key);
+            storage.removeRecord(key, record);
+            // the caller may still use the record it has removed
+            assertEquals(i, (int) ss.toObject(record.getValue()));
+        }
+
+        assertEquals(ENTRY_COUNT / 2, storage.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i % 2 != 0, storage.containsKey(ss.toData(i)));
+        }
+    }
+
+    @Test
+    public void test_putAfterRemove_reusesTable() {
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                put(i, i);
+            }
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                Data key = ss.toData(i);
+                storage.removeRecord(key, storage.get(key));
+            }
+        }
+
+        assertTrue(storage.isEmpty());
+        assertEquals(0, storage.getEntryCostEstimator().getEstimate());
+    }
+
+    @Test
+    public void test_iterator() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        Set<Object> keys = new HashSet<>();
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Data, Record> entry = iterator.next();
+            assertEquals((Object) ss.toObject(entry.getKey()), ss.toObject(entry.getValue().getValue()));
+            keys.add(ss.toObject(entry.getKey()));
+        }
+
+        assertEquals(ENTRY_COUNT, keys.size());
+    }
+
+    @Test
+    public void test_fetchKeys() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        Set<Object> keys = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        do {
+            MapKeysWithCursor cursor = storage.fetchKeys(pointers, 100);
+            for (Data key : cursor.getBatch()) {
+                assertTrue(keys.add(ss.toObject(key)));
+            }
+            pointers = cursor.getIterationPointers();
+        } while (pointers[pointers.length - 1].getIndex() >= 0);
+
+        assertEquals(ENTRY_COUNT, keys.size());
+    }
+
+    @Test
+    public void test_fetchKeys_whenTableRebuiltDuringIteration() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        Set<Object> keys = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        int added = ENTRY_COUNT;
+        do {
+            MapKeysWithCursor cursor = storage.fetchKeys(pointers, 10);
+            for (Data key : cursor.getBatch()) {
+                assertTrue("Key returned twice: " + ss.toObject(key), keys.add(ss.toObject(key)));
+            }
+            pointers = cursor.getIterationPointers();
+            // grow the table between the first batches
+            for (int i = 0; i < 100 && added < 4 * ENTRY_COUNT; i++) {
+                put(added++, 0);
+            }
+        } while (pointers[pointers.length - 1].getIndex() >= 0);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertTrue("Key missing: " + i, keys.contains(i));
+        }
+    }
+
+    @Test
+    public void test_getRandomSamples() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        int count = 0;
+        for (Object ignored : storage.getRandomSamples(15)) {
+            count++;
+        }
+        assertEquals(15, count);
+    }
+
+    @Test
+    public void test_clear() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, "value" + i);
+        }
+
+        storage.clear(false);
+
+        assertTrue(storage.isEmpty());
+        assertFalse(storage.containsKey(ss.toData(0)));
+        assertEquals(0, storage.getEntryCostEstimator().getEstimate());
+    }
+
+    @Test
+    public void test_costEstimate_isBelowDefaultStorage() {
+        StorageImpl<Record> defaultStorage = new StorageImpl<>(BINARY, false, ss);
+        DataRecordFactory dataRecordFactory = new DataRecordFactory(mapConfig(), ss);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+            defaultStorage.put(ss.toData(i), dataRecordFactory.newRecord(i));
+        }
+
+        long packedCost = storage.getEntryCostEstimator().getEstimate();
+        long defaultCost = defaultStorage.getEntryCostEstimator().getEstimate();
+        assertTrue("packed: " + packedCost + ", default: " + defaultCost, packedCost < defaultCost);
+    }
+
+    private void put(Object key, Object value) {
+        storage.put(ss.toData(key), recordFactory.newRecord(value));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query;
+
+import com.hazelcast.internal.monitor.impl.IndexOperationStats;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.query.impl.Comparison;
+import com.hazelcast.query.impl.IndexCopyBehavior;
+import com.hazelcast.query.impl.IndexStore;
+import com.hazelcast.query.impl.OrderedIndexStore;
+import com.hazelcast.query.impl.OrderedPrimitiveIndexStore;
+import com.hazelcast.query.impl.QueryEntry;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.getters.Extractors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link OrderedIndexStore} with {@link OrderedPrimitiveIndexStore}
+ * on a {@code long} timestamp-like attribute. Run with {@code -prof gc} to
+ * compare the allocation rates as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class OrderedIndexStoresBenchmark {
+
+    private static final int ENTRY_COUNT = 100000;
+    private static final long BASE_TIMESTAMP = 1_600_000_000_000L;
+
+    @Param({"ordered", "primitive"})
+    String store;
+
+    IndexStore indexStore;
+    QueryableEntry[] entries;
+
+    @Setup
+    public void setup() {
+        InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+        Extractors extractors = Extractors.newBuilder(ss).build();
+        entries = new QueryableEntry[ENTRY_COUNT];
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            entries[i] = new QueryEntry(ss, ss.toData(i), timestamp(i), extractors);
+        }
+        indexStore = populate();
+    }
+
+    @Benchmark
+    public IndexStore benchmarkPopulate() {
+        return populate();
+    }
+
+    @Benchmark
+    public int benchmarkPointQuery() {
+        return indexStore.getRecords(timestamp(ENTRY_COUNT / 2)).size();
+    }
+
+    @Benchmark
+    public int benchmarkRangeQuery() {
+        return indexStore.getRecords(timestamp(ENTRY_COUNT / 2), true, timestamp(ENTRY_COUNT / 2 + 100), false).size();
+    }
+
+    @Benchmark
+    public int benchmarkComparisonQuery() {
+        return indexStore.getRecords(Comparison.GREATER_OR_EQUAL, timestamp(ENTRY_COUNT - 100)).size();
+    }
+
+    private IndexStore populate() {
+        IndexStore indexStore = "ordered".equals(store)
+                ? new OrderedIndexStore(IndexCopyBehavior.COPY_ON_READ)
+                : new OrderedPrimitiveIndexStore(IndexCopyBehavior.COPY_ON_READ);
+        for (QueryableEntry entry : entries) {
+            indexStore.insert(entry.getValue(), entry, IndexOperationStats.EMPTY);
+        }
+        return indexStore;
+    }
+
+    private static Long timestamp(int i) {
+        // every four entries share the same timestamp
+        return BASE_TIMESTAMP + i / 4;
+    }
+
+}
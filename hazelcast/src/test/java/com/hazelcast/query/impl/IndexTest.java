@@ -220,6 +220,39 @@ public class IndexTest {
         assertEquals(2, strIndex.getRecords((Comparable) null).size());
     }
 
+    @Test
+    public void testPutEntries() {
+        testPutEntries(true);
+        testPutEntries(false);
+    }
+
+    private void testPutEntries(boolean ordered) {
+        Indexes is = Indexes.newBuilder(ss, copyBehavior, DEFAULT_IN_MEMORY_FORMAT).build();
+        IndexType type = ordered ? IndexType.SORTED : IndexType.HASH;
+        Index dIndex = is.addOrGetIndex(IndexUtils.createTestIndexConfig(type, "d"), null);
+        Index strIndex = is.addOrGetIndex(IndexUtils.createTestIndexConfig(type, "str"), null);
+
+        // the second load is merged into the entries of the first one
+        for (int load = 0; load < 2; load++) {
+            Index.BulkLoader loader = is.newBulkLoader(Index.OperationSource.SYSTEM);
+            for (int i = load; i < 1000; i += 2) {
+                // insert in descending order to exercise the sorted bulk load
+                int d = 1000 - i;
+                Data key = ss.toData(i);
+                Data value = ss.toData(new MainPortable(false, d, i % 10 == 0 ? null : "joe" + i));
+                loader.add(new QueryEntry(ss, key, value, newExtractor()));
+            }
+            loader.complete();
+        }
+
+        assertEquals(1, dIndex.getRecords(1d).size());
+        assertEquals(1000, dIndex.getRecords(1d, true, 1000d, true).size());
+        assertEquals(400, dIndex.getRecords(Comparison.GREATER, 600d).size());
+        assertEquals(10, dIndex.getRecords(Comparison.LESS_OR_EQUAL, 10d).size());
+        assertEquals(100, strIndex.getRecords((Comparable) null).size());
+        assertEquals(1, strIndex.getRecords("joe23").size());
+    }
+
     private class TestPortableFactory implements PortableFactory {
 
         public Portable create(int classId) {
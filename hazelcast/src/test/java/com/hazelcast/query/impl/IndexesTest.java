@@ -29,6 +29,7 @@ import com.hazelcast.query.impl.QueryContext.IndexMatchHint;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.query.impl.predicates.EqualPredicate;
 import com.hazelcast.query.impl.predicates.GreaterLessPredicate;
+import com.hazelcast.query.impl.predicates.LikePredicate;
 import com.hazelcast.query.impl.predicates.SqlPredicate;
 import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -235,6 +236,9 @@ public class IndexesTest {
         assertSame(bitmapIndex, matched);
         matched = indexes.matchIndex(bitmapIndex.getName(), GreaterLessPredicate.class, IndexMatchHint.EXACT_NAME,
                 SKIP_PARTITIONS_COUNT_CHECK);
+        assertSame(bitmapIndex, matched);
+        matched = indexes.matchIndex(bitmapIndex.getName(), LikePredicate.class, IndexMatchHint.EXACT_NAME,
+                SKIP_PARTITIONS_COUNT_CHECK);
         assertNull(matched);
     }
 
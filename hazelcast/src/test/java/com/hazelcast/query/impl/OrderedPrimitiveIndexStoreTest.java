@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.IndexType;
+import com.hazelcast.internal.monitor.impl.PerIndexStats;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.hazelcast.internal.monitor.impl.IndexOperationStats.EMPTY;
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies {@link OrderedPrimitiveIndexStore} against {@link OrderedIndexStore}
+ * acting as a reference implementation.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OrderedPrimitiveIndexStoreTest {
+
+    private static final int KEY_COUNT = 1500;
+    private static final int OPERATION_COUNT = 6000;
+
+    private final Random random = new Random();
+
+    private InternalSerializationService ss;
+    private Extractors extractors;
+    private IndexStore expected;
+    private IndexStore actual;
+    private Map<Integer, Object> values;
+
+    @Before
+    public void before() {
+        ss = new DefaultSerializationServiceBuilder().build();
+        extractors = Extractors.newBuilder(ss).build();
+        expected = new OrderedIndexStore(IndexCopyBehavior.COPY_ON_READ);
+        actual = new OrderedPrimitiveIndexStore(IndexCopyBehavior.COPY_ON_READ);
+        values = new HashMap<>();
+    }
+
+    @Test
+    public void testIntegralValues() {
+        List<Comparable> pool = new ArrayList<>();
+        for (long i = -40; i <= 40; i += 4) {
+            pool.add(i);
+        }
+        pool.add((int) 3);
+        pool.add((short) 7);
+        pool.add(Long.MIN_VALUE);
+        pool.add(Long.MAX_VALUE);
+        pool.add(2.5);
+        pool.add(null);
+
+        run(() -> random.nextInt(10) == 0 ? pool.get(random.nextInt(pool.size())) : (long) random.nextInt(81) - 40,
+                pool);
+    }
+
+    @Test
+    public void testFloatingPointValues() {
+        List<Comparable> pool = new ArrayList<>();
+        pool.add(-0.0);
+        pool.add(0.0);
+        pool.add(0L);
+        pool.add(2L);
+        pool.add(1.5F);
+        pool.add(-1.5);
+        pool.add(Double.NaN);
+        pool.add(Double.NEGATIVE_INFINITY);
+        pool.add(Double.POSITIVE_INFINITY);
+        pool.add(Double.MAX_VALUE);
+        pool.add(-Double.MIN_VALUE);
+        pool.add(null);
+
+        run(() -> random.nextInt(10) == 0 ? pool.get(random.nextInt(pool.size())) : (random.nextInt(41) - 20) / 2.0,
+                pool);
+    }
+
+    @Test
+    public void testTimestampValues() {
+        long now = System.currentTimeMillis();
+        List<Comparable> pool = new ArrayList<>();
+        pool.add(new Date(now));
+        pool.add(new Timestamp(now + 20));
+        pool.add(new java.sql.Date(now - 20));
+        // timestamps with sub-millisecond precision are not consistently
+        // comparable with dates, so the reference store can't be used for them
+        pool.add(null);
+
+        run(() -> random.nextInt(10) == 0 ? pool.get(random.nextInt(pool.size())) : new Date(now + random.nextInt(41) - 20),
+                pool);
+    }
+
+    @Test
+    public void testNonPrimitiveValues() {
+        List<Comparable> pool = new ArrayList<>();
+        for (char c = 'a'; c <= 'z'; ++c) {
+            pool.add(String.valueOf(c));
+        }
+        pool.add(null);
+
+        run(() -> pool.get(random.nextInt(pool.size())), pool);
+    }
+
+    @Test
+    public void testBulkInsert() {
+        List<Comparable> pool = new ArrayList<>();
+        for (long i = -40; i <= 40; i += 4) {
+            pool.add(i);
+        }
+        pool.add(2.5);
+        pool.add(null);
+        Supplier<Comparable> valueSupplier =
+                () -> random.nextInt(10) == 0 ? pool.get(random.nextInt(pool.size())) : (long) random.nextInt(81) - 40;
+
+        // every load but the first one is merged into the already loaded leaves
+        for (int load = 0; load < 3; ++load) {
+            IndexStore.BulkInserter expectedInserter = expected.newBulkInserter();
+            IndexStore.BulkInserter actualInserter = actual.newBulkInserter();
+            for (int key = load; key < KEY_COUNT; key += 3) {
+                Comparable value = valueSupplier.get();
+                QueryableEntry entry = new QueryEntry(ss, ss.toData(key), value, extractors);
+                expectedInserter.insert(value, entry, EMPTY);
+                actualInserter.insert(value, entry, EMPTY);
+                values.put(key, value);
+            }
+            expectedInserter.complete();
+            actualInserter.complete();
+            verifyQueries(pool);
+        }
+
+        run(valueSupplier, pool);
+    }
+
+    @Test
+    public void testClear() {
+        put(1, 1L);
+        put(2, null);
+        actual.clear();
+        expected.clear();
+        values.clear();
+        put(1, 1.5);
+        put(2, -0.5);
+
+        assertSameRecords(actual.getRecords(Comparison.GREATER, 0.0), expected.getRecords(Comparison.GREATER, 0.0));
+        assertSameRecords(actual.getRecords(-1.0, true, 1.0, true), expected.getRecords(-1.0, true, 1.0, true));
+        assertEquals(1, actual.getRecords(1.5).size());
+        assertTrue(actual.getRecords(NULL).isEmpty());
+    }
+
+    @Test
+    public void testIndexImplSelectsPrimitiveStoreForSingleAttributeSortedIndexes() {
+        IndexImpl single = new IndexImpl(IndexUtils.createTestIndexConfig(IndexType.SORTED, "a"), ss, extractors,
+                IndexCopyBehavior.COPY_ON_READ, PerIndexStats.EMPTY);
+        IndexImpl composite = new IndexImpl(IndexUtils.createTestIndexConfig(IndexType.SORTED, "a", "b"), ss, extractors,
+                IndexCopyBehavior.COPY_ON_READ, PerIndexStats.EMPTY);
+
+        assertTrue(single.indexStore instanceof OrderedPrimitiveIndexStore);
+        assertEquals(OrderedIndexStore.class, composite.indexStore.getClass());
+    }
+
+    private void run(Supplier<Comparable> valueSupplier, List<Comparable> queryValues) {
+        for (int i = 0; i < OPERATION_COUNT; ++i) {
+            int key = random.nextInt(KEY_COUNT);
+            if (random.nextInt(4) == 0) {
+                remove(key);
+            } else {
+                put(key, valueSupplier.get());
+            }
+        }
+        verifyQueries(queryValues);
+
+        for (int key = 0; key < KEY_COUNT; ++key) {
+            remove(key);
+        }
+        verifyQueries(queryValues);
+    }
+
+    private void put(int key, Comparable value) {
+        QueryableEntry entry = new QueryEntry(ss, ss.toData(key), value, extractors);
+        if (values.containsKey(key)) {
+            Object oldValue = values.get(key);
+            expected.update(oldValue, value, entry, EMPTY);
+            actual.update(oldValue, value, entry, EMPTY);
+        } else {
+            expected.insert(value, entry, EMPTY);
+            actual.insert(value, entry, EMPTY);
+        }
+        values.put(key, value);
+    }
+
+    private void remove(int key) {
+        if (!values.containsKey(key)) {
+            return;
+        }
+        Object value = values.remove(key);
+        Data keyData = ss.toData(key);
+        expected.remove(value, keyData, value, EMPTY);
+        actual.remove(value, keyData, value, EMPTY);
+    }
+
+    private void verifyQueries(List<Comparable> queryValues) {
+        Set<Comparable> canonicalized = new HashSet<>();
+        for (Comparable value : queryValues) {
+            Comparable argument = value == null ? NULL : value;
+            assertSameRecords(actual.getRecords(argument), expected.getRecords(argument));
+            canonicalized.add(actual.canonicalizeQueryArgumentScalar(argument));
+            if (value == null) {
+                continue;
+            }
+
+            for (Comparison comparison : Comparison.values()) {
+                assertSameRecords(actual.getRecords(comparison, value), expected.getRecords(comparison, value));
+            }
+            for (Comparable to : queryValues) {
+                if (to == null) {
+                    continue;
+                }
+                for (int inclusiveness = 0; inclusiveness < 4; ++inclusiveness) {
+                    boolean fromInclusive = (inclusiveness & 1) != 0;
+                    boolean toInclusive = (inclusiveness & 2) != 0;
+                    assertSameRecords(actual.getRecords(value, fromInclusive, to, toInclusive),
+                            expected.getRecords(value, fromInclusive, to, toInclusive));
+                }
+            }
+        }
+        assertSameRecords(actual.getRecords(canonicalized), expected.getRecords(canonicalized));
+    }
+
+    private static void assertSameRecords(Set<QueryableEntry> actualRecords, Set<QueryableEntry> expectedRecords) {
+        assertEquals(keysOf(expectedRecords), keysOf(actualRecords));
+    }
+
+    private static Set<Data> keysOf(Set<QueryableEntry> records) {
+        Set<Data> keys = new HashSet<>();
+        for (QueryableEntry record : records) {
+            keys.add(record.getKeyData());
+        }
+        return keys;
+    }
+
+}
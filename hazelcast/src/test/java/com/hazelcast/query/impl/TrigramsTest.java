@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.query.impl.predicates.ILikePredicate;
+import com.hazelcast.query.impl.predicates.LikePredicate;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.hazelcast.query.impl.Trigrams.of;
+import static com.hazelcast.query.impl.Trigrams.ofLikeExpression;
+import static com.hazelcast.query.impl.predicates.PredicateTestUtils.entry;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TrigramsTest {
+
+    private static final String ALPHABET = "abcABC%_\\ İıißǅ";
+
+    @Test
+    public void testOf() {
+        assertEquals(0, of("").length);
+        assertEquals(0, of("ab").length);
+        assertEquals(1, of("abc").length);
+        assertEquals(2, of("abcd").length);
+
+        // abc, bca and cab
+        long[] trigrams = of("abcabc");
+        assertEquals(3, trigrams.length);
+        long[] sorted = trigrams.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(sorted, trigrams);
+    }
+
+    @Test
+    public void testOfFoldsCase() {
+        assertArrayEquals(of("abcd"), of("ABCD"));
+        assertArrayEquals(of("abcd"), of("aBcD"));
+    }
+
+    @Test
+    public void testOfLikeExpression() {
+        assertEquals(0, ofLikeExpression(null).length);
+        assertEquals(0, ofLikeExpression("").length);
+        assertEquals(0, ofLikeExpression("%").length);
+        assertEquals(0, ofLikeExpression("%ab%").length);
+        assertEquals(0, ofLikeExpression("ab%cd_ef").length);
+
+        assertArrayEquals(of("abcd"), ofLikeExpression("%abcd%"));
+        assertArrayEquals(of("abcd"), ofLikeExpression("abcd"));
+        assertArrayEquals(of("abcd"), ofLikeExpression("%ABCD_"));
+        assertArrayEquals(of("abc"), ofLikeExpression("abc%abc"));
+        assertEquals(2, ofLikeExpression("abc_def").length);
+    }
+
+    @Test
+    public void testOfLikeExpressionEscapedWildcards() {
+        assertArrayEquals(of("ab%c"), ofLikeExpression("ab\\%c"));
+        assertArrayEquals(of("ab_c"), ofLikeExpression("%ab\\_c%"));
+        assertArrayEquals(of("a\\b"), ofLikeExpression("a\\b%"));
+        assertArrayEquals(of("a\\%"), ofLikeExpression("a\\\\%"));
+    }
+
+    @Test
+    public void testMatchedTextsContainExpressionTrigrams() {
+        Random random = new Random();
+        for (int i = 0; i < 10000; ++i) {
+            String text = randomString(random, 12);
+            String expression = randomString(random, 6);
+
+            LikePredicate like = new LikePredicate("this", expression);
+            ILikePredicate ilike = new ILikePredicate("this", expression);
+            if (like.apply(entry(text)) || ilike.apply(entry(text))) {
+                assertContains(text, expression);
+            }
+            if (ilike.apply(entry(expression))) {
+                assertContains(expression, expression);
+            }
+        }
+    }
+
+    private static void assertContains(String text, String expression) {
+        long[] textTrigrams = of(text);
+        for (long trigram : ofLikeExpression(expression)) {
+            assertTrue("'" + text + "' ILIKE '" + expression + "'", Arrays.binarySearch(textTrigrams, trigram) >= 0);
+        }
+    }
+
+    private static String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; ++i) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+}
@@ -41,7 +41,10 @@ import java.util.Random;
 
 import static com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation.RAW;
 import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.between;
 import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.greaterThan;
+import static com.hazelcast.query.Predicates.lessThan;
 import static com.hazelcast.query.Predicates.not;
 import static com.hazelcast.query.Predicates.or;
 
@@ -51,11 +54,13 @@ public class BitmapIndexQueriesBenchmark {
     private static final int SIZE = 1000;
     private static final int HABITS = 5000;
     private static final int DOMAIN = 25000;
+    private static final int RANGE = 10;
 
     private final Random random = new Random(303);
     private HazelcastInstance instance;
     private IMap<Integer, Person> personsBitmap;
     private IMap<Integer, Person> personsHash;
+    private IMap<Integer, Person> personsSorted;
 
     @Setup
     public void setup() {
@@ -71,10 +76,15 @@ public class BitmapIndexQueriesBenchmark {
         personsHashConfig.setInMemoryFormat(InMemoryFormat.OBJECT);
         personsHashConfig.addIndexConfig(new IndexConfig(IndexType.HASH, "habits[any]"));
 
+        MapConfig personsSortedConfig = config.getMapConfig("personsSorted");
+        personsSortedConfig.setInMemoryFormat(InMemoryFormat.OBJECT);
+        personsSortedConfig.addIndexConfig(new IndexConfig(IndexType.SORTED, "habits[any]"));
+
         instance = Hazelcast.newHazelcastInstance(config);
 
         personsBitmap = instance.getMap("personsBitmap");
         personsHash = instance.getMap("personsHash");
+        personsSorted = instance.getMap("personsSorted");
 
         for (int i = 0; i < SIZE; ++i) {
             int[] habits = new int[HABITS];
@@ -84,6 +94,7 @@ public class BitmapIndexQueriesBenchmark {
             Person person = new Person(habits);
             personsBitmap.put(i, person);
             personsHash.put(i, person);
+            personsSorted.put(i, person);
         }
     }
 
@@ -132,6 +143,54 @@ public class BitmapIndexQueriesBenchmark {
         personsHash.entrySet(not(equal("habits[any]", random.nextInt(DOMAIN))));
     }
 
+    @Benchmark
+    public void bitmapQueriesBetween() {
+        int from = random.nextInt(DOMAIN);
+        personsBitmap.entrySet(between("habits[any]", from, from + RANGE));
+    }
+
+    @Benchmark
+    public void hashQueriesBetween() {
+        int from = random.nextInt(DOMAIN);
+        personsHash.entrySet(between("habits[any]", from, from + RANGE));
+    }
+
+    @Benchmark
+    public void sortedQueriesBetween() {
+        int from = random.nextInt(DOMAIN);
+        personsSorted.entrySet(between("habits[any]", from, from + RANGE));
+    }
+
+    @Benchmark
+    public void bitmapQueriesGreaterLess() {
+        int from = random.nextInt(DOMAIN);
+        personsBitmap.entrySet(and(greaterThan("habits[any]", from), lessThan("habits[any]", from + RANGE)));
+    }
+
+    @Benchmark
+    public void hashQueriesGreaterLess() {
+        int from = random.nextInt(DOMAIN);
+        personsHash.entrySet(and(greaterThan("habits[any]", from), lessThan("habits[any]", from + RANGE)));
+    }
+
+    @Benchmark
+    public void sortedQueriesGreaterLess() {
+        int from = random.nextInt(DOMAIN);
+        personsSorted.entrySet(and(greaterThan("habits[any]", from), lessThan("habits[any]", from + RANGE)));
+    }
+
+    @Benchmark
+    public void bitmapQueriesNotBetween() {
+        int from = random.nextInt(DOMAIN);
+        personsBitmap.entrySet(not(between("habits[any]", from, from + RANGE)));
+    }
+
+    @Benchmark
+    public void hashQueriesNotBetween() {
+        int from = random.nextInt(DOMAIN);
+        personsHash.entrySet(not(between("habits[any]", from, from + RANGE)));
+    }
+
     public static void main(String[] args) throws RunnerException {
         // @formatter:off
         Options opt = new OptionsBuilder()
@@ -18,6 +18,7 @@ package com.hazelcast.query.impl.bitmap;
 
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.predicates.BoundedRangePredicate;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
@@ -32,12 +33,17 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 
 import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.between;
 import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.greaterThan;
 import static com.hazelcast.query.Predicates.in;
+import static com.hazelcast.query.Predicates.lessEqual;
 import static com.hazelcast.query.Predicates.not;
 import static com.hazelcast.query.Predicates.notEqual;
 import static com.hazelcast.query.Predicates.or;
+import static com.hazelcast.query.impl.TypeConverters.IDENTITY_CONVERTER;
 import static com.hazelcast.query.impl.TypeConverters.INTEGER_CONVERTER;
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
@@ -50,7 +56,7 @@ public class BitmapTest {
     private static final Predicate[] actualQueries;
 
     static {
-        actualQueries = new Predicate[10];
+        actualQueries = new Predicate[16];
         actualQueries[0] = notEqual("a", "0");
         actualQueries[1] = equal("a", 1L);
         actualQueries[2] = equal("a", 2);
@@ -67,12 +73,20 @@ public class BitmapTest {
         // single-predicate and/or
         actualQueries[8] = or(equal("a", 1.0D));
         actualQueries[9] = and(equal("a", 1.0F));
+
+        // ranges
+        actualQueries[10] = greaterThan("a", 3);
+        actualQueries[11] = lessEqual("a", 2L);
+        actualQueries[12] = between("a", "1", 2);
+        actualQueries[13] = new BoundedRangePredicate("a", 1, false, 4, false);
+        actualQueries[14] = between("a", 5, 1);
+        actualQueries[15] = and(not(between("a", 1, 62)), notEqual("a", 0));
     }
 
     private final ExpectedQuery[] expectedQueries;
 
     {
-        expectedQueries = new ExpectedQuery[10];
+        expectedQueries = new ExpectedQuery[16];
         expectedQueries[0] = new ExpectedQuery(value -> !bit(0, value));
         expectedQueries[1] = new ExpectedQuery(value -> bit(1, value));
         expectedQueries[2] = new ExpectedQuery(value -> bit(2, value));
@@ -85,6 +99,12 @@ public class BitmapTest {
                 value -> !(!bit(0, value) && (bit(1, value) || bit(2, value)) && !(bit(3, value) || bit(4, value))));
         expectedQueries[8] = new ExpectedQuery(value -> bit(1, value));
         expectedQueries[9] = new ExpectedQuery(value -> bit(1, value));
+        expectedQueries[10] = new ExpectedQuery(value -> value >>> 4 != 0);
+        expectedQueries[11] = new ExpectedQuery(value -> bit(0, value) || bit(1, value) || bit(2, value));
+        expectedQueries[12] = new ExpectedQuery(value -> bit(1, value) || bit(2, value));
+        expectedQueries[13] = new ExpectedQuery(value -> bit(2, value) || bit(3, value));
+        expectedQueries[14] = new ExpectedQuery(value -> false);
+        expectedQueries[15] = new ExpectedQuery(value -> (value & 0x7FFFFFFFFFFFFFFEL) == 0 && !bit(0, value));
     }
 
     private final Bitmap<String> bitmap = new Bitmap<>();
@@ -141,6 +161,38 @@ public class BitmapTest {
         clear();
     }
 
+    @Test
+    public void testIntersect() {
+        ExpectedQuery single = new ExpectedQuery(value -> bit(3, value));
+        ExpectedQuery multiple = new ExpectedQuery(value -> bit(1, value) && bit(3, value) && bit(5, value));
+        ExpectedQuery missing = new ExpectedQuery(value -> false);
+        for (long i = 0; i < COUNT; ++i) {
+            bitmap.insert(values(i), i, Long.toString(i));
+            single.insert(i, i);
+            multiple.insert(i, i);
+        }
+
+        single.verify(bitmap.intersect(asList(3).iterator()));
+        multiple.verify(bitmap.intersect(asList(1, 3, 5).iterator()));
+        missing.verify(bitmap.intersect(asList(3, Long.SIZE).iterator()));
+    }
+
+    @Test
+    public void testRangeOnIncomparableValues() {
+        Bitmap<String> bitmap = new Bitmap<>();
+        bitmap.insert(asList(1, "b").iterator(), 0, "0");
+        bitmap.insert(asList(3).iterator(), 1, "1");
+        bitmap.insert(asList("c").iterator(), 2, "2");
+
+        Iterator<String> result = bitmap.evaluate(greaterThan("a", 2), IDENTITY_CONVERTER);
+        assertEquals("1", result.next());
+        assertFalse(result.hasNext());
+
+        result = bitmap.evaluate(lessEqual("a", "b"), IDENTITY_CONVERTER);
+        assertEquals("0", result.next());
+        assertFalse(result.hasNext());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testUnexpectedPredicate() {
         bitmap.evaluate(Predicates.like("a", "b"), INTEGER_CONVERTER);
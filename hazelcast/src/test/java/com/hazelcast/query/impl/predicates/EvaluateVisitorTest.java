@@ -38,8 +38,12 @@ import java.util.Set;
 
 import static com.hazelcast.query.Predicates.alwaysFalse;
 import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.between;
 import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.greaterThan;
+import static com.hazelcast.query.Predicates.ilike;
 import static com.hazelcast.query.Predicates.in;
+import static com.hazelcast.query.Predicates.lessEqual;
 import static com.hazelcast.query.Predicates.like;
 import static com.hazelcast.query.Predicates.not;
 import static com.hazelcast.query.Predicates.notEqual;
@@ -67,6 +71,17 @@ public class EvaluateVisitorTest {
         EVALUABLE_PREDICATES.add(EqualPredicate.class);
         EVALUABLE_PREDICATES.add(NotEqualPredicate.class);
         EVALUABLE_PREDICATES.add(InPredicate.class);
+
+        EVALUABLE_PREDICATES.add(GreaterLessPredicate.class);
+        EVALUABLE_PREDICATES.add(BetweenPredicate.class);
+        EVALUABLE_PREDICATES.add(BoundedRangePredicate.class);
+    }
+
+    private static final Set<Class<? extends Predicate>> TEXT_PREDICATES = new HashSet<>();
+
+    static {
+        TEXT_PREDICATES.add(LikePredicate.class);
+        TEXT_PREDICATES.add(ILikePredicate.class);
     }
 
     private EvaluateVisitor visitor = new EvaluateVisitor();
@@ -129,6 +144,28 @@ public class EvaluateVisitorTest {
                     }
                 });
 
+        InternalIndex textT = mock(InternalIndex.class);
+        when(textT.getName()).thenReturn("t");
+        when(textT.getConverter()).thenReturn(TypeConverters.STRING_CONVERTER);
+        when(indexes.matchIndex(eq("t"), any(), eq(IndexMatchHint.EXACT_NAME), eq(SKIP_PARTITIONS_COUNT_CHECK)))
+                .then((Answer<InternalIndex>) invocation ->
+                        TEXT_PREDICATES.contains(invocation.getArgument(1)) ? textT : null);
+        when(indexes.matchIndex(eq("t"), any(), eq(IndexMatchHint.PREFER_UNORDERED), eq(SKIP_PARTITIONS_COUNT_CHECK)))
+                .then((Answer<InternalIndex>) invocation ->
+                        TEXT_PREDICATES.contains(invocation.getArgument(1)) ? textT : null);
+
+        InternalIndex bitmapO = mock(InternalIndex.class);
+        when(bitmapO.getName()).thenReturn("o");
+        when(bitmapO.getConverter()).thenReturn(TypeConverters.INTEGER_CONVERTER);
+        when(indexes.matchIndex(eq("o"), any(), eq(IndexMatchHint.PREFER_UNORDERED), eq(SKIP_PARTITIONS_COUNT_CHECK)))
+                .then((Answer<InternalIndex>) invocation ->
+                        EVALUABLE_PREDICATES.contains(invocation.getArgument(1)) ? bitmapO : null);
+        InternalIndex sortedO = mock(InternalIndex.class);
+        when(sortedO.getName()).thenReturn("sortedO");
+        when(sortedO.isOrdered()).thenReturn(true);
+        when(indexes.matchIndex(eq("o"), eq(IndexMatchHint.PREFER_ORDERED), eq(SKIP_PARTITIONS_COUNT_CHECK)))
+                .thenReturn(sortedO);
+
         visitor = new EvaluateVisitor();
     }
 
@@ -194,6 +231,45 @@ public class EvaluateVisitorTest {
                 and(or(eval(equal("a", 1), "a"), eval(equal("b", 2), "b")), eval(and(equal("a", 3), equal("a", 4)), "a")));
     }
 
+    @Test
+    public void testTextPredicates() {
+        assertNoOptimization(like("t", "%ab%"));
+        assertNoOptimization(like("t", "a_b%c"));
+        assertNoOptimization(like("a", "%abc%"));
+        assertNoOptimization(ilike("r", "%abc%"));
+
+        assertOptimization(like("t", "%abc%"), eval(like("t", "%abc%"), "t"));
+        assertOptimization(ilike("t", "abc%"), eval(ilike("t", "abc%"), "t"));
+        assertOptimization(and(like("t", "%abc%"), equal("a", 1)), and(eval(like("t", "%abc%"), "t"), eval(equal("a", 1), "a")));
+        assertOptimization(and(like("t", "%abc%"), like("t", "%def%")),
+                and(eval(like("t", "%abc%"), "t"), eval(like("t", "%def%"), "t")));
+    }
+
+    @Test
+    public void testRangePredicates() {
+        BoundedRangePredicate rangeA = new BoundedRangePredicate("a", 1, false, 5, true);
+        BoundedRangePredicate rangeO = new BoundedRangePredicate("o", 1, false, 5, true);
+
+        assertNoOptimization(greaterThan("r", 1));
+        assertNoOptimization(greaterThan("nc", 1));
+        assertNoOptimization(between("nc", 1, 2));
+        assertNoOptimization(new BoundedRangePredicate("nc", 1, false, 5, true));
+        // ordered indexes are preferred for ranges
+        assertNoOptimization(greaterThan("o", 1));
+        assertNoOptimization(between("o", 1, 2));
+        assertNoOptimization(rangeO);
+        assertNoOptimization(and(rangeO, equal("r", 1)));
+
+        assertOptimization(greaterThan("a", 1), eval(greaterThan("a", 1), "a"));
+        assertOptimization(between("a", 1, 2), eval(between("a", 1, 2), "a"));
+        assertOptimization(rangeA, eval(rangeA, "a"));
+        assertOptimization(not(lessEqual("a", 1)), eval(not(lessEqual("a", 1)), "a"));
+        assertOptimization(and(rangeA, equal("r", 1)), and(eval(rangeA, "a"), equal("r", 1)));
+        assertOptimization(and(rangeA, equal("b", 1)), and(eval(rangeA, "a"), eval(equal("b", 1), "b")));
+        assertOptimization(and(rangeA, notEqual("a", 3)), eval(and(rangeA, notEqual("a", 3)), "a"));
+        assertOptimization(or(greaterThan("a", 5), equal("a", 1)), eval(or(greaterThan("a", 5), equal("a", 1)), "a"));
+    }
+
     private void assertNoOptimization(Predicate original) {
         Predicate actual = optimize(original);
         assertSame(original, actual);
@@ -373,6 +449,8 @@ public class EvaluateVisitorTest {
     private Predicate optimize(Predicate input) {
         if (input instanceof VisitablePredicate) {
             return ((VisitablePredicate) input).accept(visitor, indexes);
+        } else if (input instanceof BoundedRangePredicate) {
+            return visitor.visit((BoundedRangePredicate) input, indexes);
         } else {
             return input;
         }
@@ -146,6 +146,7 @@ public class SqlTestSupport extends HazelcastTestSupport {
     public static Plan opaquePlan() {
         return new Plan(
             Collections.emptyMap(),
+            null,
             Collections.emptyList(),
             Collections.emptyList(),
             Collections.emptyMap(),
@@ -36,7 +36,11 @@ import com.hazelcast.sql.impl.exec.io.flowcontrol.simple.SimpleFlowControlFactor
 import com.hazelcast.sql.impl.exec.root.RootExec;
 import com.hazelcast.sql.impl.exec.root.RootResultConsumer;
 import com.hazelcast.sql.impl.exec.scan.MapScanExec;
+import com.hazelcast.sql.impl.expression.CompiledExpression;
 import com.hazelcast.sql.impl.expression.ConstantPredicateExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionCompiler;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
 import com.hazelcast.sql.impl.expression.ColumnExpression;
 import com.hazelcast.sql.impl.operation.QueryExecuteOperation;
@@ -326,6 +330,38 @@ public class CreateExecPlanNodeVisitorTest extends SqlTestSupport {
         assertEquals(upstreamNode.getId(), upstreamExec.getId());
     }
 
+    @Test
+    public void testFilterCompiled() {
+        UpstreamNode upstreamNode = new UpstreamNode(nextNodeId());
+
+        FilterPlanNode filterNode = new FilterPlanNode(
+            nextNodeId(),
+            upstreamNode,
+            new ConstantPredicateExpression(true)
+        );
+
+        QueryExecuteOperationFragment rootFragment = new QueryExecuteOperationFragment(
+            filterNode,
+            EXPLICIT,
+            Collections.singletonList(memberId1)
+        );
+
+        QueryExecuteOperation operation = createOperation(
+            Collections.singletonList(rootFragment),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap()
+        );
+
+        CreateExecPlanNodeVisitor visitor = visit(operation, rootFragment, new TestExpressionCompiler());
+
+        FilterExec filterExec = (FilterExec) visitor.pop();
+        assertEquals(filterNode.getId(), filterExec.getId());
+
+        TestCompiledExpression<?> compiledFilter = (TestCompiledExpression<?>) filterExec.getFilter();
+        assertEquals(filterNode.getFilter(), compiledFilter.getSource());
+    }
+
     @Test
     public void testMapScan() {
         // Map with data.
@@ -397,6 +433,14 @@ public class CreateExecPlanNodeVisitorTest extends SqlTestSupport {
     }
 
     private static CreateExecPlanNodeVisitor visit(QueryExecuteOperation operation, QueryExecuteOperationFragment fragment) {
+        return visit(operation, fragment, null);
+    }
+
+    private static CreateExecPlanNodeVisitor visit(
+        QueryExecuteOperation operation,
+        QueryExecuteOperationFragment fragment,
+        ExpressionCompiler expressionCompiler
+    ) {
         CreateExecPlanNodeVisitor res = new CreateExecPlanNodeVisitor(
             new LoggingQueryOperationHandler(),
             nodeServiceProvider,
@@ -406,7 +450,8 @@ public class CreateExecPlanNodeVisitorTest extends SqlTestSupport {
             SimpleFlowControlFactory.INSTANCE,
             operation.getPartitionMap().get(memberId1),
             OUTBOX_BATCH_SIZE,
-            null
+            null,
+            expressionCompiler
         );
 
         fragment.getNode().visit(res);
@@ -599,4 +644,22 @@ public class CreateExecPlanNodeVisitorTest extends SqlTestSupport {
             // No-op.
         }
     }
+
+    private static class TestExpressionCompiler implements ExpressionCompiler {
+        @Override
+        public <T> Expression<T> compile(Expression<T> expression) {
+            return new TestCompiledExpression<>(expression);
+        }
+    }
+
+    private static class TestCompiledExpression<T> extends CompiledExpression<T> {
+        private TestCompiledExpression(Expression<T> source) {
+            super(source);
+        }
+
+        @Override
+        public T eval(Row row, ExpressionEvalContext context) {
+            return source.eval(row, context);
+        }
+    }
 }
@@ -18,10 +18,18 @@ package com.hazelcast.sql.impl.exec;
 
 import com.hazelcast.sql.impl.SqlTestSupport;
 import com.hazelcast.sql.impl.UpstreamExec;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.FunctionalPredicateExpression;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.ColumnarRowBatch;
 import com.hazelcast.sql.impl.row.EmptyRowBatch;
 import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
@@ -31,6 +39,7 @@ import org.junit.runner.RunWith;
 
 import static com.hazelcast.sql.impl.exec.AbstractFilterExec.BATCH_SIZE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -82,6 +91,57 @@ public class FilterExecTest extends SqlTestSupport {
         checkBatch(exec.currentBatch(), 4 * BATCH_SIZE, BATCH_SIZE / 2);
     }
 
+    @Test
+    public void testFilterColumnar() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        // col0 >= 10 AND col0 < 20
+        ColumnExpression<?> column = ColumnExpression.create(0, QueryDataType.INT);
+
+        Expression<Boolean> filter = AndPredicate.create(
+            ComparisonPredicate.create(column, ConstantExpression.create(10, QueryDataType.INT), ComparisonMode.GREATER_THAN_OR_EQUAL),
+            ComparisonPredicate.create(column, ConstantExpression.create(20, QueryDataType.INT), ComparisonMode.LESS_THAN)
+        );
+
+        FilterExec exec = new FilterExec(2, upstream, filter);
+        exec.setup(emptyFragmentContext());
+
+        // Batch without matching rows is skipped.
+        upstream.addResult(IterationResult.FETCHED, createColumnarBatch(0, 10));
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        // Batch with matching rows is returned without waiting for more rows, nulls are filtered out.
+        upstream.addResult(IterationResult.FETCHED, createColumnarBatch(5, 10));
+        assertEquals(IterationResult.FETCHED, exec.advance());
+
+        RowBatch batch = exec.currentBatch();
+        assertTrue(batch instanceof ColumnarRowBatch);
+        assertEquals(2, batch.getRowCount());
+        assertEquals(11, (int) batch.getRow(0).get(0));
+        assertEquals(13, (int) batch.getRow(1).get(0));
+
+        // Last batch.
+        upstream.addResult(IterationResult.FETCHED_DONE, createColumnarBatch(20, 10));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(0, exec.currentBatch().getRowCount());
+    }
+
+    /**
+     * Create a columnar batch with a single INT column with the given number of monotonically increasing values.
+     * Even values are replaced with nulls.
+     */
+    private static ColumnarRowBatch createColumnarBatch(int startValue, int size) {
+        ColumnVector column = ColumnVector.create(QueryDataType.INT, size);
+
+        for (int i = 0; i < size; i++) {
+            int value = startValue + i;
+
+            column.set(i, value % 2 == 0 ? null : value);
+        }
+
+        return new ColumnarRowBatch(new ColumnVector[] { column }, size);
+    }
+
     private static void checkBatch(RowBatch batch, int startValue, int size) {
         assertEquals(size, batch.getRowCount());
 
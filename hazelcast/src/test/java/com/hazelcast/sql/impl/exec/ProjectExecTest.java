@@ -19,8 +19,13 @@ package com.hazelcast.sql.impl.exec;
 import com.hazelcast.sql.impl.SqlTestSupport;
 import com.hazelcast.sql.impl.UpstreamExec;
 import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
 import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.row.ColumnVector;
+import com.hazelcast.sql.impl.row.ColumnarRowBatch;
 import com.hazelcast.sql.impl.row.EmptyRowBatch;
+import com.hazelcast.sql.impl.row.LongColumnVector;
 import com.hazelcast.sql.impl.row.RowBatch;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.test.HazelcastParallelClassRunner;
@@ -34,6 +39,9 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -72,6 +80,39 @@ public class ProjectExecTest extends SqlTestSupport {
         assertEquals(0, exec.currentBatch().getRowCount());
     }
 
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void testProjectColumnar() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        // col0, col0 + 1
+        ColumnExpression<?> column = ColumnExpression.create(0, QueryDataType.BIGINT);
+        Expression<?> plus = PlusFunction.create(column, ConstantExpression.create(1L, QueryDataType.BIGINT), QueryDataType.BIGINT);
+        List<Expression> projects = Arrays.asList(column, plus);
+
+        ProjectExec exec = new ProjectExec(2, upstream, projects);
+        exec.setup(emptyFragmentContext());
+
+        LongColumnVector upstreamColumn = new LongColumnVector(QueryDataType.BIGINT, 3);
+        upstreamColumn.setLong(0, 1);
+        upstreamColumn.setNull(1);
+        upstreamColumn.setLong(2, 3);
+
+        upstream.addResult(IterationResult.FETCHED_DONE, new ColumnarRowBatch(new ColumnVector[] { upstreamColumn }, 3));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+
+        assertTrue(exec.currentBatch() instanceof ColumnarRowBatch);
+        ColumnarRowBatch batch = (ColumnarRowBatch) exec.currentBatch();
+
+        assertEquals(3, batch.getRowCount());
+        assertSame(upstreamColumn, batch.getColumn(0));
+        assertTrue(batch.getColumn(1) instanceof LongColumnVector);
+
+        assertEquals(2L, (long) batch.getRow(0).get(1));
+        assertNull(batch.getRow(1).get(1));
+        assertEquals(4L, (long) batch.getRow(2).get(1));
+    }
+
     @SuppressWarnings("rawtypes")
     private static ProjectExec createExec(UpstreamExec upstream) {
         ColumnExpression<?> expression = ColumnExpression.create(0, QueryDataType.INT);
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.agg;
+
+import com.hazelcast.sql.SqlErrorCode;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.UpstreamExec;
+import com.hazelcast.sql.impl.exec.IterationResult;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.row.EmptyRowBatch;
+import com.hazelcast.sql.impl.row.ListRowBatch;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AggregateExecTest extends SqlTestSupport {
+    @Test
+    public void testGroupBy() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        AggregateExec exec = createExec(
+            upstream,
+            Collections.singletonList(0),
+            new CountAggregateFunction(null),
+            new SumAggregateFunction(ColumnExpression.create(1, QueryDataType.INT), QueryDataType.BIGINT, false),
+            new MinAggregateFunction(ColumnExpression.create(1, QueryDataType.INT), QueryDataType.INT),
+            new MaxAggregateFunction(ColumnExpression.create(1, QueryDataType.INT), QueryDataType.INT)
+        );
+
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        upstream.addResult(IterationResult.FETCHED, batch(row(0, 1), row(1, 2), row(0, 3)));
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        upstream.addResult(IterationResult.FETCHED_DONE, batch(row(1, 4), row(2, null), row(0, 5)));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+
+        Map<Integer, List<Object>> res = toMap(exec.currentBatch());
+
+        assertEquals(3, res.size());
+        assertEquals(Arrays.asList(3L, 9L, 1, 5), res.get(0));
+        assertEquals(Arrays.asList(2L, 6L, 2, 4), res.get(1));
+        assertEquals(Arrays.asList(1L, null, null, null), res.get(2));
+    }
+
+    @Test
+    public void testCountSkipsNulls() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        AggregateExec exec = createExec(
+            upstream,
+            Collections.emptyList(),
+            new CountAggregateFunction(null),
+            new CountAggregateFunction(ColumnExpression.create(1, QueryDataType.INT))
+        );
+
+        upstream.addResult(IterationResult.FETCHED_DONE, batch(row(0, 1), row(0, null), row(0, 2)));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+
+        RowBatch batch = exec.currentBatch();
+
+        assertEquals(1, batch.getRowCount());
+        assertEquals(3L, (long) batch.getRow(0).get(0));
+        assertEquals(2L, (long) batch.getRow(0).get(1));
+    }
+
+    @Test
+    public void testEmptyInputWithoutGroupKey() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        AggregateExec exec = createExec(
+            upstream,
+            Collections.emptyList(),
+            new CountAggregateFunction(null),
+            new SumAggregateFunction(ColumnExpression.create(1, QueryDataType.INT), QueryDataType.BIGINT, false),
+            new SumAggregateFunction(ColumnExpression.create(1, QueryDataType.INT), QueryDataType.BIGINT, true)
+        );
+
+        upstream.addResult(IterationResult.FETCHED_DONE, EmptyRowBatch.INSTANCE);
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+
+        RowBatch batch = exec.currentBatch();
+
+        assertEquals(1, batch.getRowCount());
+        assertEquals(0L, (long) batch.getRow(0).get(0));
+        assertNull(batch.getRow(0).get(1));
+        assertEquals(0L, (long) batch.getRow(0).get(2));
+    }
+
+    @Test
+    public void testEmptyInputWithGroupKey() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        AggregateExec exec = createExec(upstream, Collections.singletonList(0), new CountAggregateFunction(null));
+
+        upstream.addResult(IterationResult.FETCHED_DONE, EmptyRowBatch.INSTANCE);
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(0, exec.currentBatch().getRowCount());
+    }
+
+    @Test
+    public void testMultipleOutputBatches() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        AggregateExec exec = createExec(upstream, Collections.singletonList(0), new CountAggregateFunction(null));
+
+        int groupCount = AggregateExec.BATCH_SIZE + 10;
+
+        upstream.addResult(IterationResult.FETCHED_DONE, createMonotonicBatch(0, groupCount));
+
+        assertEquals(IterationResult.FETCHED, exec.advance());
+        assertEquals(AggregateExec.BATCH_SIZE, exec.currentBatch().getRowCount());
+
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(10, exec.currentBatch().getRowCount());
+    }
+
+    @Test
+    public void testSumTypes() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        AggregateExec exec = createExec(
+            upstream,
+            Collections.emptyList(),
+            new SumAggregateFunction(ColumnExpression.create(0, QueryDataType.DECIMAL), QueryDataType.DECIMAL, false),
+            new SumAggregateFunction(ColumnExpression.create(1, QueryDataType.DOUBLE), QueryDataType.DOUBLE, false)
+        );
+
+        upstream.addResult(
+            IterationResult.FETCHED_DONE,
+            batch(row(new BigDecimal("1.5"), 1.5d), row(new BigDecimal("2.25"), 2.25d))
+        );
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+
+        Row row = exec.currentBatch().getRow(0);
+
+        assertEquals(new BigDecimal("3.75"), row.get(0));
+        assertEquals(3.75d, row.<Double>get(1), 0.0d);
+    }
+
+    @Test
+    public void testSumOverflow() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        AggregateExec exec = createExec(
+            upstream,
+            Collections.emptyList(),
+            new SumAggregateFunction(ColumnExpression.create(0, QueryDataType.BIGINT), QueryDataType.BIGINT, false)
+        );
+
+        upstream.addResult(IterationResult.FETCHED_DONE, batch(row(Long.MAX_VALUE), row(1L)));
+
+        try {
+            exec.advance();
+
+            fail("Must fail");
+        } catch (QueryException e) {
+            assertEquals(SqlErrorCode.DATA_EXCEPTION, e.getCode());
+        }
+    }
+
+    private static AggregateExec createExec(UpstreamExec upstream, List<Integer> groupKey, AggregateFunction... functions) {
+        AggregateExec exec = new AggregateExec(2, upstream, groupKey, Arrays.asList(functions));
+        exec.setup(emptyFragmentContext());
+
+        return exec;
+    }
+
+    private static ListRowBatch batch(Row... rows) {
+        return new ListRowBatch(Arrays.asList(rows));
+    }
+
+    private static Map<Integer, List<Object>> toMap(RowBatch batch) {
+        Map<Integer, List<Object>> res = new HashMap<>();
+
+        for (int i = 0; i < batch.getRowCount(); i++) {
+            Row row = batch.getRow(i);
+
+            List<Object> values = new ArrayList<>();
+
+            for (int j = 1; j < row.getColumnCount(); j++) {
+                values.add(row.get(j));
+            }
+
+            res.put(row.get(0), values);
+        }
+
+        return res;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.io;
+
+import com.hazelcast.internal.util.HashUtil;
+import com.hazelcast.sql.impl.LoggingQueryOperationHandler;
+import com.hazelcast.sql.impl.QueryId;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.UpstreamExec;
+import com.hazelcast.sql.impl.exec.IterationResult;
+import com.hazelcast.sql.impl.operation.QueryBatchExchangeOperation;
+import com.hazelcast.sql.impl.row.ListRowBatch;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MultiOutboxSendExecTest extends SqlTestSupport {
+
+    private static final QueryId QUERY_ID = QueryId.create(UUID.randomUUID());
+    private static final int EDGE_ID = 1;
+    private static final UUID LOCAL_MEMBER_ID = UUID.randomUUID();
+    private static final int OUTBOX_COUNT = 3;
+
+    private static final int ROW_WIDTH = 100;
+    private static final int ROWS_IN_BATCH = 4;
+    private static final int ROWS_IN_REMAINING_MEMORY = 1000;
+
+    @Test
+    public void testBroadcast() {
+        UpstreamExec upstream = new UpstreamExec(1);
+        LoggingQueryOperationHandler operationHandler = new LoggingQueryOperationHandler();
+        Outbox[] outboxes = createOutboxes(operationHandler);
+
+        BroadcastSendExec exec = new BroadcastSendExec(2, upstream, outboxes);
+        exec.setup(emptyFragmentContext());
+
+        upstream.addResult(IterationResult.FETCHED_DONE, createMonotonicBatch(0, 10));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+
+        Map<UUID, List<Row>> rows = collectRows(operationHandler);
+
+        assertEquals(OUTBOX_COUNT, rows.size());
+
+        for (List<Row> memberRows : rows.values()) {
+            checkMonotonicBatch(new ListRowBatch(memberRows), 0, 10);
+        }
+    }
+
+    @Test
+    public void testUnicast() {
+        UpstreamExec upstream = new UpstreamExec(1);
+        LoggingQueryOperationHandler operationHandler = new LoggingQueryOperationHandler();
+        Outbox[] outboxes = createOutboxes(operationHandler);
+
+        UnicastSendExec exec = new UnicastSendExec(2, upstream, outboxes, Collections.singletonList(0));
+        exec.setup(emptyFragmentContext());
+
+        List<Row> inputRows = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            inputRows.add(row(i % 10, i));
+        }
+
+        upstream.addResult(IterationResult.FETCHED, new ListRowBatch(inputRows.subList(0, 50)));
+        upstream.addResult(IterationResult.FETCHED_DONE, new ListRowBatch(inputRows.subList(50, 100)));
+
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+
+        Map<UUID, List<Row>> rows = collectRows(operationHandler);
+
+        // Every row is sent exactly once, and rows with the same key are sent to the same member.
+        Map<Object, UUID> keyToMember = new HashMap<>();
+        int rowCount = 0;
+
+        for (Map.Entry<UUID, List<Row>> entry : rows.entrySet()) {
+            for (Row row : entry.getValue()) {
+                UUID oldMemberId = keyToMember.put(row.get(0), entry.getKey());
+
+                assertTrue(oldMemberId == null || oldMemberId.equals(entry.getKey()));
+
+                int outboxIndex = HashUtil.hashToIndex(UnicastSendExec.hash(row, Collections.singletonList(0)), OUTBOX_COUNT);
+
+                assertEquals(outboxes[outboxIndex].getTargetMemberId(), entry.getKey());
+
+                rowCount++;
+            }
+        }
+
+        assertEquals(inputRows.size(), rowCount);
+        assertEquals(10, keyToMember.size());
+    }
+
+    private static Outbox[] createOutboxes(LoggingQueryOperationHandler operationHandler) {
+        Outbox[] outboxes = new Outbox[OUTBOX_COUNT];
+
+        for (int i = 0; i < OUTBOX_COUNT; i++) {
+            outboxes[i] = new Outbox(
+                operationHandler,
+                QUERY_ID,
+                EDGE_ID,
+                ROW_WIDTH,
+                LOCAL_MEMBER_ID,
+                UUID.randomUUID(),
+                ROW_WIDTH * ROWS_IN_BATCH,
+                ROW_WIDTH * ROWS_IN_REMAINING_MEMORY
+            );
+        }
+
+        return outboxes;
+    }
+
+    private static Map<UUID, List<Row>> collectRows(LoggingQueryOperationHandler operationHandler) {
+        Map<UUID, List<Row>> res = new HashMap<>();
+
+        while (true) {
+            LoggingQueryOperationHandler.SubmitInfo submitInfo = operationHandler.tryPollSubmitInfo();
+
+            if (submitInfo == null) {
+                break;
+            }
+
+            QueryBatchExchangeOperation operation = submitInfo.getOperation();
+
+            RowBatch batch = operation.getBatch();
+
+            List<Row> memberRows = res.computeIfAbsent(submitInfo.getMemberId(), k -> new ArrayList<>());
+
+            for (int i = 0; i < batch.getRowCount(); i++) {
+                memberRows.add(batch.getRow(i));
+            }
+        }
+
+        return res;
+    }
+}
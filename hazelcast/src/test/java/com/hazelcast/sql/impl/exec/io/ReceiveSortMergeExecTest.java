@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.io;
+
+import com.hazelcast.sql.impl.LoggingFlowControl;
+import com.hazelcast.sql.impl.LoggingQueryOperationHandler;
+import com.hazelcast.sql.impl.QueryId;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.exec.IterationResult;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.row.ListRowBatch;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReceiveSortMergeExecTest extends SqlTestSupport {
+
+    private static final UUID SENDER_1 = UUID.randomUUID();
+    private static final UUID SENDER_2 = UUID.randomUUID();
+
+    @Test
+    public void testMerge() {
+        StripedInbox inbox = createInbox();
+        ReceiveSortMergeExec exec = createExec(inbox, null, null);
+
+        // Advance on empty.
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        // Cannot produce rows until every sender has a buffered row.
+        inbox.onBatch(new InboundBatch(batch(1, 4, 6), false, SENDER_1), 100L);
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        // Rows are produced until the first sender is exhausted.
+        inbox.onBatch(new InboundBatch(batch(2, 3, 7), false, SENDER_2), 100L);
+        assertEquals(IterationResult.FETCHED, exec.advance());
+        assertEquals(Arrays.asList(1, 2, 3, 4, 6), values(exec.currentBatch()));
+
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        // The first sender is done, so the rest of the second sender could be merged.
+        inbox.onBatch(new InboundBatch(batch(8), true, SENDER_1), 100L);
+        assertEquals(IterationResult.FETCHED, exec.advance());
+        assertEquals(Collections.singletonList(7), values(exec.currentBatch()));
+
+        inbox.onBatch(new InboundBatch(batch(9, 10), true, SENDER_2), 100L);
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(Arrays.asList(8, 9, 10), values(exec.currentBatch()));
+
+        assertTrue(inbox.closed());
+    }
+
+    @Test
+    public void testFetchAndOffset() {
+        StripedInbox inbox = createInbox();
+        ReceiveSortMergeExec exec = createExec(
+            inbox,
+            ConstantExpression.create(3, QueryDataType.INT),
+            ConstantExpression.create(2, QueryDataType.INT)
+        );
+
+        inbox.onBatch(new InboundBatch(batch(1, 3, 5, 7, 9), false, SENDER_1), 100L);
+        inbox.onBatch(new InboundBatch(batch(2, 4, 6, 8, 10), false, SENDER_2), 100L);
+
+        // The fetch is reached before the senders are done.
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(Arrays.asList(3, 4, 5), values(exec.currentBatch()));
+    }
+
+    @Test
+    public void testEmptySender() {
+        StripedInbox inbox = createInbox();
+        ReceiveSortMergeExec exec = createExec(inbox, null, null);
+
+        inbox.onBatch(new InboundBatch(batch(), true, SENDER_1), 100L);
+        inbox.onBatch(new InboundBatch(batch(1, 2), true, SENDER_2), 100L);
+
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(Arrays.asList(1, 2), values(exec.currentBatch()));
+    }
+
+    private static StripedInbox createInbox() {
+        UUID localMemberId = UUID.randomUUID();
+        QueryId queryId = QueryId.create(UUID.randomUUID());
+        int edgeId = 1;
+        LoggingQueryOperationHandler operationHandler = new LoggingQueryOperationHandler();
+        LoggingFlowControl flowControl = new LoggingFlowControl(queryId, edgeId, localMemberId, operationHandler);
+
+        return new StripedInbox(
+            operationHandler,
+            queryId,
+            edgeId,
+            100,
+            localMemberId,
+            Arrays.asList(SENDER_1, SENDER_2),
+            flowControl
+        );
+    }
+
+    private static ReceiveSortMergeExec createExec(StripedInbox inbox, Expression<?> fetch, Expression<?> offset) {
+        ReceiveSortMergeExec exec = new ReceiveSortMergeExec(
+            1,
+            inbox,
+            Collections.singletonList(0),
+            Collections.singletonList(true),
+            fetch,
+            offset
+        );
+
+        exec.setup(emptyFragmentContext());
+
+        return exec;
+    }
+
+    private static ListRowBatch batch(int... values) {
+        List<Row> rows = new ArrayList<>(values.length);
+
+        for (int value : values) {
+            rows.add(row(value));
+        }
+
+        return new ListRowBatch(rows);
+    }
+
+    private static List<Integer> values(RowBatch batch) {
+        List<Integer> res = new ArrayList<>(batch.getRowCount());
+
+        for (int i = 0; i < batch.getRowCount(); i++) {
+            res.add(batch.getRow(i).get(0));
+        }
+
+        return res;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.join;
+
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.UpstreamExec;
+import com.hazelcast.sql.impl.exec.IterationResult;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.row.EmptyRowBatch;
+import com.hazelcast.sql.impl.row.ListRowBatch;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class HashJoinExecTest extends SqlTestSupport {
+    @Test
+    public void testInnerJoin() {
+        UpstreamExec left = new UpstreamExec(1);
+        UpstreamExec right = new UpstreamExec(2);
+
+        HashJoinExec exec = createExec(left, right, Collections.singletonList(0), Collections.singletonList(0), null, false);
+
+        // Build side is consumed first.
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        right.addResult(IterationResult.FETCHED, batch(row(1, "a"), row(2, "b")));
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        right.addResult(IterationResult.FETCHED_DONE, batch(row(2, "c"), row(null, "d")));
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        // Rows are accumulated until the batch is full or the probe side is exhausted.
+        left.addResult(IterationResult.FETCHED, batch(row(1, 10), row(3, 30)));
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        left.addResult(IterationResult.FETCHED_DONE, batch(row(2, 20), row(null, 40)));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(
+            new HashSet<>(Arrays.asList(
+                Arrays.asList(1, 10, 1, "a"),
+                Arrays.asList(2, 20, 2, "b"),
+                Arrays.asList(2, 20, 2, "c")
+            )),
+            new HashSet<>(toList(exec.currentBatch()))
+        );
+    }
+
+    @Test
+    public void testOuterJoin() {
+        UpstreamExec left = new UpstreamExec(1);
+        UpstreamExec right = new UpstreamExec(2);
+
+        HashJoinExec exec = createExec(left, right, Collections.singletonList(0), Collections.singletonList(0), null, true);
+
+        right.addResult(IterationResult.FETCHED_DONE, batch(row(1, "a")));
+        left.addResult(IterationResult.FETCHED_DONE, batch(row(1, 10), row(2, 20), row(null, 30)));
+
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(
+            Arrays.asList(
+                Arrays.asList(1, 10, 1, "a"),
+                Arrays.asList(2, 20, null, null),
+                Arrays.asList(null, 30, null, null)
+            ),
+            toList(exec.currentBatch())
+        );
+    }
+
+    @Test
+    public void testOuterJoinEmptyRight() {
+        UpstreamExec left = new UpstreamExec(1);
+        UpstreamExec right = new UpstreamExec(2);
+
+        HashJoinExec exec = createExec(left, right, Collections.singletonList(0), Collections.singletonList(0), null, true);
+
+        right.addResult(IterationResult.FETCHED_DONE, EmptyRowBatch.INSTANCE);
+        left.addResult(IterationResult.FETCHED_DONE, batch(row(1, 10)));
+
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(Collections.singletonList(Arrays.asList(1, 10, null, null)), toList(exec.currentBatch()));
+    }
+
+    @Test
+    public void testInnerJoinEmptyRight() {
+        UpstreamExec left = new UpstreamExec(1);
+        UpstreamExec right = new UpstreamExec(2);
+
+        HashJoinExec exec = createExec(left, right, Collections.singletonList(0), Collections.singletonList(0), null, false);
+
+        // Left upstream is never consumed.
+        right.addResult(IterationResult.FETCHED_DONE, EmptyRowBatch.INSTANCE);
+
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(0, exec.currentBatch().getRowCount());
+    }
+
+    @Test
+    public void testNoHashKeysWithFilter() {
+        UpstreamExec left = new UpstreamExec(1);
+        UpstreamExec right = new UpstreamExec(2);
+
+        Expression<Boolean> filter = ComparisonPredicate.create(
+            ColumnExpression.create(1, QueryDataType.INT),
+            ColumnExpression.create(2, QueryDataType.INT),
+            ComparisonMode.LESS_THAN
+        );
+
+        HashJoinExec exec = createExec(left, right, Collections.emptyList(), Collections.emptyList(), filter, false);
+
+        right.addResult(IterationResult.FETCHED_DONE, batch(row(5, "a"), row(15, "b"), row(null, "c")));
+        left.addResult(IterationResult.FETCHED_DONE, batch(row("x", 10), row("y", 20), row("z", 0)));
+
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(
+            new HashSet<>(Arrays.asList(
+                Arrays.asList("x", 10, 15, "b"),
+                Arrays.asList("z", 0, 5, "a"),
+                Arrays.asList("z", 0, 15, "b")
+            )),
+            new HashSet<>(toList(exec.currentBatch()))
+        );
+    }
+
+    @Test
+    public void testMultipleOutputBatches() {
+        UpstreamExec left = new UpstreamExec(1);
+        UpstreamExec right = new UpstreamExec(1);
+
+        HashJoinExec exec = createExec(left, right, Collections.emptyList(), Collections.emptyList(), null, false);
+
+        int rowCount = HashJoinExec.BATCH_SIZE + 10;
+
+        right.addResult(IterationResult.FETCHED_DONE, batch(row(-1)));
+        left.addResult(IterationResult.FETCHED_DONE, createMonotonicBatch(0, rowCount));
+
+        assertEquals(IterationResult.FETCHED, exec.advance());
+        assertEquals(HashJoinExec.BATCH_SIZE, exec.currentBatch().getRowCount());
+
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(10, exec.currentBatch().getRowCount());
+    }
+
+    private static HashJoinExec createExec(
+        UpstreamExec left,
+        UpstreamExec right,
+        List<Integer> leftHashKeys,
+        List<Integer> rightHashKeys,
+        Expression<Boolean> filter,
+        boolean outer
+    ) {
+        HashJoinExec exec = new HashJoinExec(3, left, right, leftHashKeys, rightHashKeys, filter, outer, 2);
+        exec.setup(emptyFragmentContext());
+
+        return exec;
+    }
+
+    private static ListRowBatch batch(Row... rows) {
+        return new ListRowBatch(Arrays.asList(rows));
+    }
+
+    private static List<List<Object>> toList(RowBatch batch) {
+        List<List<Object>> res = new ArrayList<>();
+
+        for (int i = 0; i < batch.getRowCount(); i++) {
+            Row row = batch.getRow(i);
+
+            List<Object> values = new ArrayList<>();
+
+            for (int j = 0; j < row.getColumnCount(); j++) {
+                values.add(row.get(j));
+            }
+
+            res.add(values);
+        }
+
+        return res;
+    }
+}
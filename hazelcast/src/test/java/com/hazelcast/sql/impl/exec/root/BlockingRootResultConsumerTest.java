@@ -58,6 +58,57 @@ public class BlockingRootResultConsumerTest extends HazelcastTestSupport {
         assertFalse(consumer.consume(batch, false));
     }
 
+    @Test
+    public void testWindow() {
+        BlockingRootResultConsumer consumer = new BlockingRootResultConsumer(2);
+        AtomicInteger scheduleInvocationCount = new AtomicInteger();
+
+        consumer.setup(new QueryFragmentContext(Collections.emptyList(), (force) -> {
+            assertTrue(force);
+
+            scheduleInvocationCount.incrementAndGet();
+
+            return true;
+        }, null));
+
+        // The producer is allowed to push two batches ahead.
+        assertTrue(consumer.consume(Collections.singletonList(HeapRow.of(1)), false));
+        assertTrue(consumer.consume(Collections.singletonList(HeapRow.of(2)), false));
+        assertFalse(consumer.consume(Collections.singletonList(HeapRow.of(3)), false));
+
+        // Taking a batch frees a slot and requests the producer to continue.
+        Iterator<Row> iterator = consumer.iterator();
+
+        assertEquals(1, (int) iterator.next().get(0));
+        assertEquals(1, scheduleInvocationCount.get());
+
+        assertTrue(consumer.consume(Collections.singletonList(HeapRow.of(3)), false));
+
+        assertEquals(2, (int) iterator.next().get(0));
+        assertEquals(2, scheduleInvocationCount.get());
+
+        // No more batches are requested after the last one has been produced.
+        assertTrue(consumer.consume(Collections.emptyList(), true));
+
+        assertEquals(3, (int) iterator.next().get(0));
+        assertEquals(2, scheduleInvocationCount.get());
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testErrorBeforeLastBatchConsumed() {
+        BlockingRootResultConsumer consumer = new BlockingRootResultConsumer(2);
+        QueryException error = QueryException.cancelledByUser();
+
+        assertTrue(consumer.consume(Collections.singletonList(HeapRow.of(1)), true));
+
+        // The error is reported, because the results are not delivered yet.
+        consumer.onError(error);
+
+        assertSame(error, assertThrows(QueryException.class, () -> consumer.iterator().hasNext()));
+    }
+
     @Test
     public void testIterator() {
         BlockingRootResultConsumer consumer = new BlockingRootResultConsumer();
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.sort;
+
+import com.hazelcast.sql.SqlErrorCode;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.UpstreamExec;
+import com.hazelcast.sql.impl.exec.IterationResult;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.row.EmptyRowBatch;
+import com.hazelcast.sql.impl.row.ListRowBatch;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.row.RowBatch;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SortExecTest extends SqlTestSupport {
+    @Test
+    public void testSort() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        SortExec exec = createExec(upstream, Arrays.asList(0, 1), Arrays.asList(true, false), null, null);
+
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        upstream.addResult(IterationResult.FETCHED, batch(row(2, 1), row(1, 1), row(null, 1)));
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        upstream.addResult(IterationResult.FETCHED_DONE, batch(row(1, 2), row(2, null), row(0, 0)));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+
+        assertEquals(
+            Arrays.asList(
+                Arrays.asList(0, 0),
+                Arrays.asList(1, 2),
+                Arrays.asList(1, 1),
+                Arrays.asList(2, null),
+                Arrays.asList(2, 1),
+                Arrays.asList(null, 1)
+            ),
+            toList(exec.currentBatch())
+        );
+    }
+
+    @Test
+    public void testTopN() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        SortExec exec = createExec(
+            upstream,
+            Collections.singletonList(0),
+            Collections.singletonList(false),
+            ConstantExpression.create(3, QueryDataType.INT),
+            null
+        );
+
+        upstream.addResult(IterationResult.FETCHED, batch(row(5), row(1), row(7), row(3)));
+        assertEquals(IterationResult.WAIT, exec.advance());
+
+        upstream.addResult(IterationResult.FETCHED_DONE, batch(row(6), row(2), row(4)));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+
+        assertEquals(
+            Arrays.asList(Collections.singletonList(7), Collections.singletonList(6), Collections.singletonList(5)),
+            toList(exec.currentBatch())
+        );
+    }
+
+    @Test
+    public void testTopNWithOffset() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        SortExec exec = createExec(
+            upstream,
+            Collections.singletonList(0),
+            Collections.singletonList(true),
+            ConstantExpression.create(2, QueryDataType.INT),
+            ParameterExpression.create(0, QueryDataType.INT),
+            Collections.singletonList(3)
+        );
+
+        upstream.addResult(IterationResult.FETCHED_DONE, batch(row(5), row(1), row(7), row(3), row(6), row(2), row(4)));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+
+        assertEquals(
+            Arrays.asList(Collections.singletonList(4), Collections.singletonList(5)),
+            toList(exec.currentBatch())
+        );
+    }
+
+    @Test
+    public void testOffsetOutOfRange() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        SortExec exec = createExec(
+            upstream,
+            Collections.singletonList(0),
+            Collections.singletonList(true),
+            null,
+            ConstantExpression.create(10, QueryDataType.INT)
+        );
+
+        upstream.addResult(IterationResult.FETCHED_DONE, batch(row(1), row(2)));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(0, exec.currentBatch().getRowCount());
+    }
+
+    @Test
+    public void testZeroFetch() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        SortExec exec = createExec(
+            upstream,
+            Collections.singletonList(0),
+            Collections.singletonList(true),
+            ConstantExpression.create(0, QueryDataType.INT),
+            null
+        );
+
+        upstream.addResult(IterationResult.FETCHED_DONE, batch(row(1), row(2)));
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(0, exec.currentBatch().getRowCount());
+    }
+
+    @Test
+    public void testEmptyInput() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        SortExec exec = createExec(upstream, Collections.singletonList(0), Collections.singletonList(true), null, null);
+
+        upstream.addResult(IterationResult.FETCHED_DONE, EmptyRowBatch.INSTANCE);
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        assertEquals(0, exec.currentBatch().getRowCount());
+    }
+
+    @Test
+    public void testMultipleOutputBatches() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        SortExec exec = createExec(upstream, Collections.singletonList(0), Collections.singletonList(true), null, null);
+
+        int rowCount = SortExec.BATCH_SIZE + 10;
+
+        upstream.addResult(IterationResult.FETCHED_DONE, createMonotonicBatch(0, rowCount));
+
+        assertEquals(IterationResult.FETCHED, exec.advance());
+        checkMonotonicBatch(exec.currentBatch(), 0, SortExec.BATCH_SIZE);
+
+        assertEquals(IterationResult.FETCHED_DONE, exec.advance());
+        checkMonotonicBatch(exec.currentBatch(), SortExec.BATCH_SIZE, 10);
+    }
+
+    @Test
+    public void testNegativeFetch() {
+        UpstreamExec upstream = new UpstreamExec(1);
+
+        SortExec exec = new SortExec(
+            2,
+            upstream,
+            Collections.singletonList(0),
+            Collections.singletonList(true),
+            ConstantExpression.create(-1, QueryDataType.INT),
+            null
+        );
+
+        try {
+            exec.setup(emptyFragmentContext());
+
+            fail("Must fail");
+        } catch (QueryException e) {
+            assertEquals(SqlErrorCode.DATA_EXCEPTION, e.getCode());
+        }
+    }
+
+    private static SortExec createExec(
+        UpstreamExec upstream,
+        List<Integer> columns,
+        List<Boolean> ascending,
+        Expression<?> fetch,
+        Expression<?> offset
+    ) {
+        return createExec(upstream, columns, ascending, fetch, offset, Collections.emptyList());
+    }
+
+    private static SortExec createExec(
+        UpstreamExec upstream,
+        List<Integer> columns,
+        List<Boolean> ascending,
+        Expression<?> fetch,
+        Expression<?> offset,
+        List<Object> args
+    ) {
+        SortExec exec = new SortExec(2, upstream, columns, ascending, fetch, offset);
+        exec.setup(emptyFragmentContext(args));
+
+        return exec;
+    }
+
+    private static ListRowBatch batch(Row... rows) {
+        return new ListRowBatch(Arrays.asList(rows));
+    }
+
+    private static List<List<Object>> toList(RowBatch batch) {
+        List<List<Object>> res = new ArrayList<>();
+
+        for (int i = 0; i < batch.getRowCount(); i++) {
+            Row row = batch.getRow(i);
+
+            List<Object> values = new ArrayList<>();
+
+            for (int j = 0; j < row.getColumnCount(); j++) {
+                values.add(row.get(j));
+            }
+
+            res.add(values);
+        }
+
+        return res;
+    }
+}
@@ -16,12 +16,17 @@
 
 package com.hazelcast.sql.impl.extract;
 
+import com.hazelcast.core.HazelcastJsonValue;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.JsonMetadataInitializer;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.nio.serialization.Portable;
+import com.hazelcast.nio.serialization.PortableReader;
+import com.hazelcast.nio.serialization.PortableWriter;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.sql.SqlErrorCode;
 import com.hazelcast.sql.impl.QueryException;
@@ -36,8 +41,12 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -63,7 +72,7 @@ public class GenericQueryTargetTest extends SqlTestSupport {
 
     private void checkTarget(GenericQueryTarget target, TestObject originalObject, Object object) {
         // Set target.
-        target.setTarget(object);
+        target.setTarget(object, null);
 
         // Good top-level extractor.
         QueryExtractor targetExtractor = target.createExtractor(null, QueryDataType.OBJECT);
@@ -94,6 +103,84 @@ public class GenericQueryTargetTest extends SqlTestSupport {
         assertTrue(error.getMessage().startsWith("Failed to extract map entry " + (target.isKey() ? "key" : "value") + " field"));
     }
 
+    @Test
+    public void testPortable() throws IOException {
+        InternalSerializationService ss = new DefaultSerializationServiceBuilder()
+            .addPortableFactory(TestPortable.FACTORY_ID, classId -> new TestPortable())
+            .build();
+
+        checkPortable(ss, true);
+        checkPortable(ss, false);
+    }
+
+    private void checkPortable(InternalSerializationService ss, boolean key) throws IOException {
+        GenericQueryTarget target = new GenericQueryTarget(ss, Extractors.newBuilder(ss).build(), key);
+
+        QueryExtractor intExtractor = target.createExtractor("intField", QueryDataType.INT);
+        QueryExtractor stringExtractor = target.createExtractor("stringField", QueryDataType.VARCHAR);
+        QueryExtractor missingExtractor = target.createExtractor("missingField", QueryDataType.INT);
+
+        // Data.
+        target.setTarget(ss.toData(new TestPortable(1, "a")), null);
+        assertEquals(1, (int) intExtractor.get());
+        assertEquals("a", stringExtractor.get());
+        assertNull(missingExtractor.get());
+
+        // The reader is shared between fields of the same record.
+        assertNotNull(target.getPortableReader());
+        assertSame(target.getPortableReader(), target.getPortableReader());
+
+        // Object is converted to Data, the reader is re-created.
+        target.setTarget(new TestPortable(2, "b"), null);
+        assertEquals(2, (int) intExtractor.get());
+        assertEquals("b", stringExtractor.get());
+        assertNull(missingExtractor.get());
+
+        // Non-Portable target doesn't have a reader.
+        target.setTarget(new TestObject(3), null);
+        assertNull(target.getPortableReader());
+        assertNull(target.getPortableClassDefinition());
+    }
+
+    @Test
+    public void testJson() throws IOException {
+        InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+
+        checkJson(ss, true);
+        checkJson(ss, false);
+    }
+
+    private void checkJson(InternalSerializationService ss, boolean key) throws IOException {
+        GenericQueryTarget target = new GenericQueryTarget(ss, Extractors.newBuilder(ss).build(), key);
+
+        QueryExtractor targetExtractor = target.createExtractor(null, QueryDataType.OBJECT);
+        QueryExtractor bigintExtractor = target.createExtractor("bigintField", QueryDataType.BIGINT);
+        QueryExtractor stringExtractor = target.createExtractor("stringField", QueryDataType.VARCHAR);
+        QueryExtractor missingExtractor = target.createExtractor("missingField", QueryDataType.INT);
+
+        HazelcastJsonValue json = new HazelcastJsonValue("{\"bigintField\": 1, \"stringField\": \"a\"}");
+        Data jsonData = ss.toData(json);
+
+        // JSON Data is not deserialized for field access.
+        for (Object metadata : Arrays.asList(null, JsonMetadataInitializer.INSTANCE.createFromData(jsonData))) {
+            target.setTarget(jsonData, metadata);
+
+            assertEquals(1L, (long) bigintExtractor.get());
+            assertEquals("a", stringExtractor.get());
+            assertNull(missingExtractor.get());
+            assertSame(jsonData, target.getTargetForFieldAccess());
+            assertEquals(json, targetExtractor.get());
+        }
+
+        // JSON object.
+        target.setTarget(json, JsonMetadataInitializer.INSTANCE.createFromObject(json));
+
+        assertEquals(1L, (long) bigintExtractor.get());
+        assertEquals("a", stringExtractor.get());
+        assertNull(missingExtractor.get());
+        assertEquals(json, targetExtractor.get());
+    }
+
     private static Data toData(TestObject object) {
         return new DefaultSerializationServiceBuilder().build().toData(object);
     }
@@ -138,4 +225,44 @@ public class GenericQueryTargetTest extends SqlTestSupport {
             field = in.readInt();
         }
     }
+
+    private static class TestPortable implements Portable {
+
+        private static final int FACTORY_ID = 1;
+        private static final int CLASS_ID = 1;
+
+        private int intField;
+        private String stringField;
+
+        private TestPortable() {
+            // No-op.
+        }
+
+        private TestPortable(int intField, String stringField) {
+            this.intField = intField;
+            this.stringField = stringField;
+        }
+
+        @Override
+        public int getFactoryId() {
+            return FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return CLASS_ID;
+        }
+
+        @Override
+        public void writePortable(PortableWriter writer) throws IOException {
+            writer.writeInt("intField", intField);
+            writer.writeUTF("stringField", stringField);
+        }
+
+        @Override
+        public void readPortable(PortableReader reader) throws IOException {
+            intField = reader.readInt("intField");
+            stringField = reader.readUTF("stringField");
+        }
+    }
 }
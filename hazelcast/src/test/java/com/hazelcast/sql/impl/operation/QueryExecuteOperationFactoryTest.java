@@ -69,6 +69,7 @@ public class QueryExecuteOperationFactoryTest {
 
         Plan plan = new Plan(
             partitionMap,
+            null,
             fragments,
             fragmentMappings,
             outboundEdgeMap,
@@ -84,7 +85,7 @@ public class QueryExecuteOperationFactoryTest {
         List<Object> args = Collections.singletonList(1);
         Map<Integer, Long> edgeInitialMemoryMap = Collections.singletonMap(1, 1000L);
 
-        QueryExecuteOperationFactory factory = new QueryExecuteOperationFactory(plan, args, edgeInitialMemoryMap);
+        QueryExecuteOperationFactory factory = new QueryExecuteOperationFactory(plan, partitionMap, args, edgeInitialMemoryMap);
 
         QueryExecuteOperation operation1 = factory.create(queryId, member1);
         QueryExecuteOperation operation2 = factory.create(queryId, member2);
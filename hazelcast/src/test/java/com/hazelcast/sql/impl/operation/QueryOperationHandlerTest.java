@@ -498,6 +498,7 @@ public class QueryOperationHandlerTest extends SqlTestSupport {
     private State startQueryOnInitiator(long timeout) {
         Plan plan = new Plan(
             partitionMap,
+            null,
             Collections.emptyList(),
             Collections.emptyList(),
             Collections.emptyMap(),
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.sql.impl.NodeServiceProvider;
+import com.hazelcast.sql.impl.NodeServiceProviderImpl;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PlanPartitionPruningTest extends SqlTestSupport {
+
+    private static final String MAP_NAME = "map";
+    private static final int PARTITION_COUNT = 11;
+
+    private static final TestHazelcastInstanceFactory FACTORY = new TestHazelcastInstanceFactory(1);
+
+    private static HazelcastInstance member;
+    private static NodeServiceProvider nodeServiceProvider;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Config config = new Config().setProperty(ClusterProperty.PARTITION_COUNT.getName(), Integer.toString(PARTITION_COUNT));
+
+        member = FACTORY.newHazelcastInstance(config);
+
+        member.getMap(MAP_NAME).put(1, 1);
+
+        nodeServiceProvider = new NodeServiceProviderImpl(nodeEngine(member));
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        FACTORY.shutdownAll();
+    }
+
+    @Test
+    public void testPrune() {
+        UUID localMemberId = UUID.randomUUID();
+        UUID ownerMemberId = UUID.randomUUID();
+        UUID otherMemberId = UUID.randomUUID();
+
+        int partition = partition(5);
+
+        Map<UUID, PartitionIdSet> partMap = partitionMap(localMemberId, ownerMemberId, otherMemberId, partition);
+
+        PlanPartitionPruning pruning = pruning(
+            ConstantExpression.create(5, QueryDataType.INT),
+            ConstantExpression.create(null, QueryDataType.INT)
+        );
+
+        Map<UUID, PartitionIdSet> prunedPartMap = pruning.prune(
+            partMap,
+            localMemberId,
+            Collections.emptyList(),
+            nodeServiceProvider
+        );
+
+        assertEquals(2, prunedPartMap.size());
+        assertEquals(0, prunedPartMap.get(localMemberId).size());
+        assertEquals(Collections.singleton(partition), prunedPartMap.get(ownerMemberId));
+    }
+
+    @Test
+    public void testPruneParameters() {
+        UUID localMemberId = UUID.randomUUID();
+        UUID otherMemberId = UUID.randomUUID();
+
+        int partition = partition(7);
+
+        Map<UUID, PartitionIdSet> partMap = partitionMap(localMemberId, localMemberId, otherMemberId, partition);
+
+        PlanPartitionPruning pruning = pruning(ParameterExpression.create(0, QueryDataType.INT));
+
+        Map<UUID, PartitionIdSet> prunedPartMap = pruning.prune(
+            partMap,
+            localMemberId,
+            Collections.singletonList(7),
+            nodeServiceProvider
+        );
+
+        assertEquals(1, prunedPartMap.size());
+        assertEquals(Collections.singleton(partition), prunedPartMap.get(localMemberId));
+    }
+
+    @Test
+    public void testUnknownMap() {
+        UUID localMemberId = UUID.randomUUID();
+
+        Map<UUID, PartitionIdSet> partMap = partitionMap(localMemberId, UUID.randomUUID(), UUID.randomUUID(), 0);
+
+        PlanPartitionPruning pruning = new PlanPartitionPruning(
+            Collections.singletonMap("unknown", Collections.singletonList(ConstantExpression.create(1, QueryDataType.INT)))
+        );
+
+        assertSame(partMap, pruning.prune(partMap, localMemberId, Collections.emptyList(), nodeServiceProvider));
+    }
+
+    private static PlanPartitionPruning pruning(Expression<?>... keys) {
+        List<Expression<?>> keys0 = Arrays.asList(keys);
+
+        return new PlanPartitionPruning(Collections.singletonMap(MAP_NAME, keys0));
+    }
+
+    private static int partition(int key) {
+        return member.getPartitionService().getPartition(key).getPartitionId();
+    }
+
+    /**
+     * Create partition mapping where the owner member owns the given partition, and the other partitions are split
+     * between the local and other members.
+     */
+    private static Map<UUID, PartitionIdSet> partitionMap(UUID localMemberId, UUID ownerMemberId, UUID otherMemberId, int partition) {
+        Map<UUID, PartitionIdSet> res = new HashMap<>();
+
+        res.put(localMemberId, new PartitionIdSet(PARTITION_COUNT));
+        res.put(ownerMemberId, new PartitionIdSet(PARTITION_COUNT));
+        res.put(otherMemberId, new PartitionIdSet(PARTITION_COUNT));
+
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            UUID memberId = i == partition ? ownerMemberId : (i % 2 == 0 ? localMemberId : otherMemberId);
+
+            res.get(memberId).add(i);
+        }
+
+        return res;
+    }
+}
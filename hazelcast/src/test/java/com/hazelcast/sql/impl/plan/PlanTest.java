@@ -50,6 +50,7 @@ public class PlanTest extends SqlTestSupport {
 
         Plan plan = new Plan(
             partitionMap,
+            null,
             fragments,
             fragmentMappings,
             outboundEdgeMap,
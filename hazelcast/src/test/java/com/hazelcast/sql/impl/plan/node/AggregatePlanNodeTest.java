@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.node;
+
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.exec.agg.AggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.CountAggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.MaxAggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.MinAggregateFunction;
+import com.hazelcast.sql.impl.exec.agg.SumAggregateFunction;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AggregatePlanNodeTest extends SqlTestSupport {
+    @Test
+    public void testState() {
+        MockPlanNode upstream = MockPlanNode.create(1, QueryDataType.INT, QueryDataType.BIGINT, QueryDataType.DOUBLE);
+        List<Integer> groupKey = Collections.singletonList(2);
+        List<AggregateFunction> functions = Arrays.asList(
+            new CountAggregateFunction(null),
+            new SumAggregateFunction(ColumnExpression.create(0, QueryDataType.INT), QueryDataType.BIGINT, false)
+        );
+
+        AggregatePlanNode node = new AggregatePlanNode(2, upstream, groupKey, functions);
+
+        PlanNodeSchema expectedSchema = new PlanNodeSchema(
+            Arrays.asList(QueryDataType.DOUBLE, QueryDataType.BIGINT, QueryDataType.BIGINT)
+        );
+
+        assertEquals(2, node.getId());
+        assertEquals(upstream, node.getUpstream());
+        assertEquals(groupKey, node.getGroupKey());
+        assertEquals(functions, node.getFunctions());
+        assertEquals(expectedSchema, node.getSchema());
+    }
+
+    @Test
+    public void testEquality() {
+        int id1 = 1;
+        int id2 = 2;
+
+        MockPlanNode upstream1 = MockPlanNode.create(3, QueryDataType.INT, QueryDataType.BIGINT);
+        MockPlanNode upstream2 = MockPlanNode.create(3, QueryDataType.INT, QueryDataType.DOUBLE);
+
+        List<Integer> groupKey1 = Collections.singletonList(0);
+        List<Integer> groupKey2 = Collections.emptyList();
+
+        List<AggregateFunction> functions1 = Collections.singletonList(new CountAggregateFunction(null));
+        List<AggregateFunction> functions2 = Collections.singletonList(
+            new MinAggregateFunction(ColumnExpression.create(0, QueryDataType.INT), QueryDataType.INT)
+        );
+
+        checkEquals(node(id1, upstream1, groupKey1, functions1), node(id1, upstream1, groupKey1, functions1), true);
+        checkEquals(node(id1, upstream1, groupKey1, functions1), node(id2, upstream1, groupKey1, functions1), false);
+        checkEquals(node(id1, upstream1, groupKey1, functions1), node(id1, upstream2, groupKey1, functions1), false);
+        checkEquals(node(id1, upstream1, groupKey1, functions1), node(id1, upstream1, groupKey2, functions1), false);
+        checkEquals(node(id1, upstream1, groupKey1, functions1), node(id1, upstream1, groupKey1, functions2), false);
+    }
+
+    @Test
+    public void testSerialization() {
+        MockPlanNode upstream = MockPlanNode.create(1, QueryDataType.INT);
+        List<AggregateFunction> functions = Arrays.asList(
+            new CountAggregateFunction(null),
+            new SumAggregateFunction(ColumnExpression.create(0, QueryDataType.INT), QueryDataType.BIGINT, true),
+            new MinAggregateFunction(ColumnExpression.create(0, QueryDataType.INT), QueryDataType.INT),
+            new MaxAggregateFunction(ColumnExpression.create(0, QueryDataType.INT), QueryDataType.INT)
+        );
+
+        AggregatePlanNode original = new AggregatePlanNode(2, upstream, Collections.singletonList(0), functions);
+        AggregatePlanNode restored = serializeAndCheck(original, SqlDataSerializerHook.NODE_AGGREGATE);
+
+        checkEquals(original, restored, true);
+    }
+
+    private static AggregatePlanNode node(
+        int id,
+        PlanNode upstream,
+        List<Integer> groupKey,
+        List<AggregateFunction> functions
+    ) {
+        return new AggregatePlanNode(id, upstream, groupKey, functions);
+    }
+}
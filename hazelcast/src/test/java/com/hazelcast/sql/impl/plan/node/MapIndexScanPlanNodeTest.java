@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.node;
+
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.exec.scan.index.IndexEqualsFilter;
+import com.hazelcast.sql.impl.exec.scan.index.IndexFilter;
+import com.hazelcast.sql.impl.exec.scan.index.IndexInFilter;
+import com.hazelcast.sql.impl.exec.scan.index.IndexRangeFilter;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.ConstantPredicateExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapIndexScanPlanNodeTest extends SqlTestSupport {
+    @Test
+    public void testState() {
+        int id = 1;
+        String mapName = "map";
+        List<QueryPath> fieldPaths = Collections.singletonList(valuePath("field"));
+        List<QueryDataType> fieldTypes = Collections.singletonList(QueryDataType.INT);
+        List<Integer> projects = Collections.singletonList(0);
+        String indexName = "index";
+        IndexFilter indexFilter = new IndexEqualsFilter(constant(1));
+        Expression<Boolean> filter = new ConstantPredicateExpression(true);
+
+        MapIndexScanPlanNode node = new MapIndexScanPlanNode(
+            id,
+            mapName,
+            GenericQueryTargetDescriptor.DEFAULT,
+            GenericQueryTargetDescriptor.DEFAULT,
+            fieldPaths,
+            fieldTypes,
+            projects,
+            indexName,
+            indexFilter,
+            filter
+        );
+
+        assertEquals(id, node.getId());
+        assertEquals(mapName, node.getMapName());
+        assertEquals(GenericQueryTargetDescriptor.DEFAULT, node.getKeyDescriptor());
+        assertEquals(GenericQueryTargetDescriptor.DEFAULT, node.getValueDescriptor());
+        assertEquals(fieldPaths, node.getFieldPaths());
+        assertEquals(fieldTypes, node.getFieldTypes());
+        assertEquals(projects, node.getProjects());
+        assertEquals(indexName, node.getIndexName());
+        assertEquals(indexFilter, node.getIndexFilter());
+        assertEquals(filter, node.getFilter());
+    }
+
+    @Test
+    public void testEquality() {
+        MapIndexScanPlanNode node = node("index1", new IndexEqualsFilter(constant(1)));
+
+        checkEquals(node, node("index1", new IndexEqualsFilter(constant(1))), true);
+        checkEquals(node, node("index2", new IndexEqualsFilter(constant(1))), false);
+        checkEquals(node, node("index1", new IndexEqualsFilter(constant(2))), false);
+        checkEquals(node, node("index1", new IndexRangeFilter(constant(1), true, constant(1), true)), false);
+    }
+
+    @Test
+    public void testSerialization() {
+        MapIndexScanPlanNode original = node("index", new IndexEqualsFilter(constant(1)));
+        MapIndexScanPlanNode restored = serializeAndCheck(original, SqlDataSerializerHook.NODE_MAP_INDEX_SCAN);
+
+        checkEquals(original, restored, true);
+    }
+
+    @Test
+    public void testFilterSerialization() {
+        IndexEqualsFilter equalsFilter = new IndexEqualsFilter(constant(1));
+        checkEquals(equalsFilter, serializeAndCheck(equalsFilter, SqlDataSerializerHook.INDEX_FILTER_EQUALS), true);
+
+        IndexInFilter inFilter = new IndexInFilter(Arrays.asList(constant(1), constant(2)));
+        checkEquals(inFilter, serializeAndCheck(inFilter, SqlDataSerializerHook.INDEX_FILTER_IN), true);
+
+        IndexRangeFilter rangeFilter = new IndexRangeFilter(constant(1), true, null, false);
+        checkEquals(rangeFilter, serializeAndCheck(rangeFilter, SqlDataSerializerHook.INDEX_FILTER_RANGE), true);
+    }
+
+    private static MapIndexScanPlanNode node(String indexName, IndexFilter indexFilter) {
+        return new MapIndexScanPlanNode(
+            1,
+            "map",
+            GenericQueryTargetDescriptor.DEFAULT,
+            GenericQueryTargetDescriptor.DEFAULT,
+            Collections.singletonList(valuePath("field")),
+            Collections.singletonList(QueryDataType.INT),
+            Collections.singletonList(0),
+            indexName,
+            indexFilter,
+            new ConstantPredicateExpression(true)
+        );
+    }
+
+    private static Expression<?> constant(int value) {
+        return ConstantExpression.create(value, QueryDataType.INT);
+    }
+}
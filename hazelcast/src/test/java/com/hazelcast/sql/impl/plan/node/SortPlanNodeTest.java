@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.node;
+
+import com.hazelcast.sql.impl.SqlDataSerializerHook;
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SortPlanNodeTest extends SqlTestSupport {
+    @Test
+    public void testState() {
+        MockPlanNode upstream = MockPlanNode.create(1, QueryDataType.INT, QueryDataType.BIGINT);
+        List<Integer> columns = Arrays.asList(1, 0);
+        List<Boolean> ascending = Arrays.asList(false, true);
+        Expression<?> fetch = ConstantExpression.create(10, QueryDataType.INT);
+        Expression<?> offset = ParameterExpression.create(0, QueryDataType.INT);
+
+        SortPlanNode node = new SortPlanNode(2, upstream, columns, ascending, fetch, offset);
+
+        assertEquals(2, node.getId());
+        assertEquals(upstream, node.getUpstream());
+        assertEquals(columns, node.getColumns());
+        assertEquals(ascending, node.getAscending());
+        assertEquals(fetch, node.getFetch());
+        assertEquals(offset, node.getOffset());
+        assertEquals(upstream.getSchema(), node.getSchema());
+    }
+
+    @Test
+    public void testEquality() {
+        int id1 = 1;
+        int id2 = 2;
+
+        MockPlanNode upstream1 = MockPlanNode.create(3, QueryDataType.INT, QueryDataType.BIGINT);
+        MockPlanNode upstream2 = MockPlanNode.create(3, QueryDataType.INT, QueryDataType.DOUBLE);
+
+        List<Integer> columns1 = Collections.singletonList(0);
+        List<Integer> columns2 = Collections.singletonList(1);
+
+        List<Boolean> ascending1 = Collections.singletonList(true);
+        List<Boolean> ascending2 = Collections.singletonList(false);
+
+        Expression<?> limit1 = ConstantExpression.create(10, QueryDataType.INT);
+        Expression<?> limit2 = ConstantExpression.create(20, QueryDataType.INT);
+
+        checkEquals(
+            node(id1, upstream1, columns1, ascending1, limit1, null),
+            node(id1, upstream1, columns1, ascending1, limit1, null),
+            true
+        );
+
+        checkEquals(
+            node(id1, upstream1, columns1, ascending1, limit1, null),
+            node(id2, upstream1, columns1, ascending1, limit1, null),
+            false
+        );
+
+        checkEquals(
+            node(id1, upstream1, columns1, ascending1, limit1, null),
+            node(id1, upstream2, columns1, ascending1, limit1, null),
+            false
+        );
+
+        checkEquals(
+            node(id1, upstream1, columns1, ascending1, limit1, null),
+            node(id1, upstream1, columns2, ascending1, limit1, null),
+            false
+        );
+
+        checkEquals(
+            node(id1, upstream1, columns1, ascending1, limit1, null),
+            node(id1, upstream1, columns1, ascending2, limit1, null),
+            false
+        );
+
+        checkEquals(
+            node(id1, upstream1, columns1, ascending1, limit1, null),
+            node(id1, upstream1, columns1, ascending1, limit2, null),
+            false
+        );
+
+        checkEquals(
+            node(id1, upstream1, columns1, ascending1, limit1, null),
+            node(id1, upstream1, columns1, ascending1, limit1, limit2),
+            false
+        );
+    }
+
+    @Test
+    public void testSerialization() {
+        SortPlanNode original = new SortPlanNode(
+            2,
+            MockPlanNode.create(1, QueryDataType.INT),
+            Collections.singletonList(0),
+            Collections.singletonList(false),
+            ConstantExpression.create(10, QueryDataType.INT),
+            ParameterExpression.create(0, QueryDataType.INT)
+        );
+
+        SortPlanNode restored = serializeAndCheck(original, SqlDataSerializerHook.NODE_SORT);
+
+        checkEquals(original, restored, true);
+    }
+
+    private static SortPlanNode node(
+        int id,
+        PlanNode upstream,
+        List<Integer> columns,
+        List<Boolean> ascending,
+        Expression<?> fetch,
+        Expression<?> offset
+    ) {
+        return new SortPlanNode(id, upstream, columns, ascending, fetch, offset);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.row;
+
+import com.hazelcast.sql.impl.SqlTestSupport;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ColumnarRowBatchTest extends SqlTestSupport {
+    @Test
+    public void testVectorTypes() {
+        assertTrue(ColumnVector.create(QueryDataType.TINYINT, 1) instanceof LongColumnVector);
+        assertTrue(ColumnVector.create(QueryDataType.SMALLINT, 1) instanceof LongColumnVector);
+        assertTrue(ColumnVector.create(QueryDataType.INT, 1) instanceof LongColumnVector);
+        assertTrue(ColumnVector.create(QueryDataType.BIGINT, 1) instanceof LongColumnVector);
+        assertTrue(ColumnVector.create(QueryDataType.REAL, 1) instanceof DoubleColumnVector);
+        assertTrue(ColumnVector.create(QueryDataType.DOUBLE, 1) instanceof DoubleColumnVector);
+        assertTrue(ColumnVector.create(QueryDataType.BOOLEAN, 1) instanceof BooleanColumnVector);
+        assertTrue(ColumnVector.create(QueryDataType.VARCHAR, 1) instanceof ObjectColumnVector);
+        assertTrue(ColumnVector.create(QueryDataType.DECIMAL, 1) instanceof ObjectColumnVector);
+    }
+
+    @Test
+    public void testVectorValues() {
+        checkValue(QueryDataType.TINYINT, (byte) 1);
+        checkValue(QueryDataType.SMALLINT, (short) 1);
+        checkValue(QueryDataType.INT, 1);
+        checkValue(QueryDataType.BIGINT, 1L);
+        checkValue(QueryDataType.REAL, 1.5f);
+        checkValue(QueryDataType.DOUBLE, 1.5d);
+        checkValue(QueryDataType.BOOLEAN, true);
+        checkValue(QueryDataType.VARCHAR, "1");
+    }
+
+    @Test
+    public void testNulls() {
+        // Cover several words of the null bitmap.
+        int size = 200;
+
+        ColumnVector vector = ColumnVector.create(QueryDataType.INT, size);
+
+        assertFalse(vector.hasNulls());
+
+        for (int i = 0; i < size; i++) {
+            vector.set(i, i % 3 == 0 ? null : i);
+        }
+
+        assertTrue(vector.hasNulls());
+
+        for (int i = 0; i < size; i++) {
+            if (i % 3 == 0) {
+                assertTrue(vector.isNull(i));
+                assertNull(vector.get(i));
+            } else {
+                assertFalse(vector.isNull(i));
+                assertEquals(i, vector.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testBatch() {
+        LongColumnVector column0 = new LongColumnVector(QueryDataType.INT, 3);
+        ObjectColumnVector column1 = new ObjectColumnVector(QueryDataType.VARCHAR, 3);
+
+        for (int i = 0; i < 3; i++) {
+            column0.setLong(i, i);
+            column1.set(i, Integer.toString(i));
+        }
+
+        column0.setNull(1);
+
+        ColumnarRowBatch batch = new ColumnarRowBatch(new ColumnVector[] { column0, column1 }, 3);
+
+        assertEquals(3, batch.getRowCount());
+        assertEquals(2, batch.getColumnCount());
+        assertSame(column0, batch.getColumn(0));
+        assertSame(column1, batch.getColumn(1));
+
+        assertEquals(HeapRow.of(0, "0"), batch.getRow(0));
+        assertEquals(HeapRow.of(null, "1"), batch.getRow(1));
+        assertEquals(HeapRow.of(2, "2"), batch.getRow(2));
+
+        // Identity selection.
+        assertSame(batch, batch.select(new int[] { 0, 1, 2 }, 3));
+
+        // Partial selection.
+        ColumnarRowBatch selected = batch.select(new int[] { 1, 2, 0 }, 2);
+
+        assertEquals(2, selected.getRowCount());
+        assertEquals(HeapRow.of(null, "1"), selected.getRow(0));
+        assertEquals(HeapRow.of(2, "2"), selected.getRow(1));
+
+        // Empty selection.
+        assertEquals(0, batch.select(new int[0], 0).getRowCount());
+    }
+
+    @Test
+    public void testEmptyRow() {
+        ColumnarRowBatch batch = new ColumnarRowBatch(new ColumnVector[0], 2);
+
+        assertEquals(2, batch.getRowCount());
+        assertSame(EmptyRow.INSTANCE, batch.getRow(0));
+        assertSame(EmptyRow.INSTANCE, batch.getRow(1));
+    }
+
+    private static void checkValue(QueryDataType type, Object value) {
+        ColumnVector vector = ColumnVector.create(type, 2);
+
+        vector.set(0, value);
+        vector.set(1, null);
+
+        assertEquals(value, vector.get(0));
+        assertNull(vector.get(1));
+
+        ColumnVector selected = vector.select(new int[] { 1, 0 }, 2);
+
+        assertNull(selected.get(0));
+        assertEquals(value, selected.get(1));
+    }
+}
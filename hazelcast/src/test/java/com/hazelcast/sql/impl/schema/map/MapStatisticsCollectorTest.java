@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2008-2020, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.schema.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.schema.Table;
+import com.hazelcast.sql.impl.schema.TableStatistics;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+
+import static com.hazelcast.sql.impl.extract.QueryPath.KEY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapStatisticsCollectorTest extends MapSchemaTestSupport {
+
+    private static final String MAP_INDEXED = "indexed";
+    private static final String MAP_NOT_INDEXED = "notIndexed";
+
+    private static final String INDEX_CATEGORY = "category";
+    private static final String INDEX_COMPOSITE = "composite";
+
+    private static final int ENTRY_COUNT = 1000;
+    private static final int CATEGORY_COUNT = 10;
+
+    private HazelcastInstance instance;
+
+    @Before
+    public void before() {
+        Config config = new Config().addMapConfig(new MapConfig(MAP_INDEXED)
+            .addIndexConfig(new IndexConfig(IndexType.HASH, "category").setName(INDEX_CATEGORY))
+            .addIndexConfig(new IndexConfig(IndexType.SORTED, "category", "id").setName(INDEX_COMPOSITE))
+        );
+
+        instance = createHazelcastInstance(config);
+
+        IMap<Integer, Value> indexedMap = instance.getMap(MAP_INDEXED);
+        IMap<Integer, Value> notIndexedMap = instance.getMap(MAP_NOT_INDEXED);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            indexedMap.put(i, new Value(i, i % CATEGORY_COUNT));
+            notIndexedMap.put(i, new Value(i, i % CATEGORY_COUNT));
+        }
+    }
+
+    @Test
+    public void testSample() {
+        MapStatisticsCollector collector = new MapStatisticsCollector(nodeEngine(instance));
+        collector.collect();
+
+        MapStatisticsCollector.Sample sample = collector.getSample(MAP_INDEXED);
+
+        assertNotNull(sample);
+        assertEquals(ENTRY_COUNT, sample.getSampledEntryCount());
+
+        assertEquals(CATEGORY_COUNT, (long) sample.getDistinctValueCounts().get(new QueryPath("category", false)));
+        assertEquals(ENTRY_COUNT, sample.getDistinctValueCounts().get(new QueryPath("id", false)), ENTRY_COUNT * 0.02d);
+
+        assertEquals(CATEGORY_COUNT, (long) sample.getIndexDistinctCounts().get(INDEX_CATEGORY));
+        assertEquals(ENTRY_COUNT, sample.getIndexDistinctCounts().get(INDEX_COMPOSITE), ENTRY_COUNT * 0.02d);
+
+        // Maps without indexes are not sampled.
+        assertNull(collector.getSample(MAP_NOT_INDEXED));
+
+        // Destroyed maps are forgotten.
+        instance.getMap(MAP_INDEXED).destroy();
+        collector.collect();
+
+        assertNull(collector.getSample(MAP_INDEXED));
+    }
+
+    @Test
+    public void testSampleSize() {
+        MapStatisticsCollector collector = new MapStatisticsCollector(nodeEngine(instance), 100);
+        collector.collect();
+
+        MapStatisticsCollector.Sample sample = collector.getSample(MAP_INDEXED);
+
+        assertNotNull(sample);
+        assertEquals(100, sample.getSampledEntryCount());
+
+        // Unique values are extrapolated to the whole map, repeating values are not.
+        long idDistinctCount = sample.getDistinctValueCounts().get(new QueryPath("id", false));
+        long categoryDistinctCount = sample.getDistinctValueCounts().get(new QueryPath("category", false));
+
+        assertEquals(ENTRY_COUNT, sample.estimateDistinctValueCount(idDistinctCount, ENTRY_COUNT), ENTRY_COUNT * 0.05d);
+        assertEquals(CATEGORY_COUNT, sample.estimateDistinctValueCount(categoryDistinctCount, ENTRY_COUNT));
+    }
+
+    @Test
+    public void testTableStatistics() {
+        MapStatisticsCollector collector = new MapStatisticsCollector(nodeEngine(instance));
+
+        // No statistics before the first collection, except for the key.
+        TableStatistics statistics = resolveTable(collector, MAP_INDEXED).getStatistics();
+
+        assertEquals(ENTRY_COUNT, statistics.getRowCount());
+        assertEquals(ENTRY_COUNT, statistics.getDistinctValueCount(fieldOrdinal(MAP_INDEXED, collector, KEY)));
+        assertEquals(TableStatistics.UNKNOWN, statistics.getDistinctValueCount(fieldOrdinal(MAP_INDEXED, collector, "category")));
+        assertEquals(TableStatistics.UNKNOWN, statistics.getIndexCardinality(INDEX_CATEGORY));
+
+        collector.collect();
+
+        statistics = resolveTable(collector, MAP_INDEXED).getStatistics();
+
+        assertEquals(CATEGORY_COUNT, statistics.getDistinctValueCount(fieldOrdinal(MAP_INDEXED, collector, "category")));
+        assertEquals(ENTRY_COUNT, statistics.getDistinctValueCount(fieldOrdinal(MAP_INDEXED, collector, "id")),
+            ENTRY_COUNT * 0.02d);
+        assertEquals(CATEGORY_COUNT, statistics.getIndexCardinality(INDEX_CATEGORY));
+        assertEquals(ENTRY_COUNT, statistics.getIndexCardinality(INDEX_COMPOSITE), ENTRY_COUNT * 0.02d);
+    }
+
+    private Table resolveTable(MapStatisticsCollector collector, String mapName) {
+        for (Table table : new PartitionedMapTableResolver(nodeEngine(instance), collector).getTables()) {
+            if (table.getName().equals(mapName)) {
+                return table;
+            }
+        }
+
+        throw new RuntimeException("Table not found: " + mapName);
+    }
+
+    private int fieldOrdinal(String mapName, MapStatisticsCollector collector, String fieldName) {
+        Table table = resolveTable(collector, mapName);
+
+        for (int i = 0; i < table.getFieldCount(); i++) {
+            if (table.getField(i).getName().equals(fieldName)) {
+                return i;
+            }
+        }
+
+        throw new RuntimeException("Field not found: " + fieldName);
+    }
+
+    @SuppressWarnings("unused")
+    public static class Value implements Serializable {
+        public int id;
+        public int category;
+
+        public Value(int id, int category) {
+            this.id = id;
+            this.category = category;
+        }
+    }
+}
@@ -22,8 +22,6 @@ import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuil
 import com.hazelcast.nio.serialization.Portable;
 import com.hazelcast.nio.serialization.PortableReader;
 import com.hazelcast.nio.serialization.PortableWriter;
-import com.hazelcast.sql.SqlErrorCode;
-import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
 import com.hazelcast.sql.impl.schema.TableField;
 import com.hazelcast.sql.impl.schema.map.MapSchemaTestSupport;
@@ -56,7 +54,6 @@ import java.util.TreeMap;
 import static com.hazelcast.sql.impl.extract.QueryPath.KEY;
 import static com.hazelcast.sql.impl.extract.QueryPath.VALUE;
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
 
 /**
  * Tests for sample resolution for serialized portables.
@@ -373,12 +370,38 @@ public class MapSampleMetadataResolverTest extends MapSchemaTestSupport {
     public void testJson() {
         InternalSerializationService ss = getSerializationService();
 
-        try {
-            MapSampleMetadataResolver.resolve(ss, ss.toData(new HazelcastJsonValue("{ \"test\": 10 }")), true);
-        } catch (QueryException e) {
-            assertEquals(SqlErrorCode.GENERIC, e.getCode());
-            assertTrue(e.getMessage().contains("JSON objects are not supported"));
-        }
+        HazelcastJsonValue json = new HazelcastJsonValue(
+            "{ \"bigint\": 10, \"double\": 10.5, \"string\": \"s\", \"boolean\": true, \"object\": { \"a\": 1 } }"
+        );
+
+        MapSampleMetadata metadata = MapSampleMetadataResolver.resolve(ss, ss.toData(json), true);
+        checkJsonFields(metadata, true);
+
+        metadata = MapSampleMetadataResolver.resolve(ss, json, false);
+        checkJsonFields(metadata, false);
+    }
+
+    @Test
+    public void testJsonNotObject() {
+        InternalSerializationService ss = getSerializationService();
+
+        MapSampleMetadata metadata = MapSampleMetadataResolver.resolve(ss, new HazelcastJsonValue("[1, 2]"), true);
+
+        assertEquals(GenericQueryTargetDescriptor.DEFAULT, metadata.getDescriptor());
+        checkFields(metadata, field(KEY, QueryDataType.OBJECT, true));
+    }
+
+    private static void checkJsonFields(MapSampleMetadata metadata, boolean key) {
+        assertEquals(GenericQueryTargetDescriptor.DEFAULT, metadata.getDescriptor());
+        checkFields(
+            metadata,
+            field("bigint", QueryDataType.BIGINT, key),
+            field("boolean", QueryDataType.BOOLEAN, key),
+            field("double", QueryDataType.DOUBLE, key),
+            field("object", QueryDataType.OBJECT, key),
+            field("string", QueryDataType.VARCHAR, key),
+            hiddenField(key ? KEY : VALUE, QueryDataType.OBJECT, key)
+        );
     }
 
     private void checkPrimitive(Object value, QueryDataType expectedType) {